@@ -32,7 +32,9 @@ import io.pravega.cli.admin.bookkeeper.BookKeeperLogReconcileCommand;
 import io.pravega.cli.admin.bookkeeper.BookkeeperDeleteLedgersCommand;
 import io.pravega.cli.admin.bookkeeper.ContainerContinuousRecoveryCommand;
 import io.pravega.cli.admin.bookkeeper.ContainerRecoverCommand;
+import io.pravega.cli.admin.controller.ControllerCreateStreamsCommand;
 import io.pravega.cli.admin.controller.ControllerDeleteReaderGroupCommand;
+import io.pravega.cli.admin.controller.ControllerDeleteStreamsCommand;
 import io.pravega.cli.admin.controller.ControllerDescribeReaderGroupCommand;
 import io.pravega.cli.admin.controller.ControllerDescribeScopeCommand;
 import io.pravega.cli.admin.controller.ControllerDescribeStreamCommand;
@@ -385,6 +387,8 @@ public abstract class AdminCommand {
                         .put(ControllerDeleteReaderGroupCommand::descriptor, ControllerDeleteReaderGroupCommand::new)
                         .put(ControllerDescribeReaderGroupCommand::descriptor, ControllerDescribeReaderGroupCommand::new)
                         .put(ControllerDescribeStreamCommand::descriptor, ControllerDescribeStreamCommand::new)
+                        .put(ControllerCreateStreamsCommand::descriptor, ControllerCreateStreamsCommand::new)
+                        .put(ControllerDeleteStreamsCommand::descriptor, ControllerDeleteStreamsCommand::new)
                         .put(GetClusterNodesCommand::descriptor, GetClusterNodesCommand::new)
                         .put(ListContainersCommand::descriptor, ListContainersCommand::new)
                         .put(GetSegmentStoreByContainerCommand::descriptor, GetSegmentStoreByContainerCommand::new)
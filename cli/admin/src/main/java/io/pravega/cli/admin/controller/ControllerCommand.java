@@ -30,6 +30,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
@@ -126,6 +127,20 @@ public abstract class ControllerCommand extends AdminCommand {
         return response.readEntity(String.class);
     }
 
+    /**
+     * Generic method to execute a post request with a JSON body against the Controller and get the response.
+     *
+     * @param context Controller command context.
+     * @param requestURI URI to execute the request against.
+     * @param body Object to serialize as the JSON body of the request.
+     * @return Response for the REST call.
+     */
+    protected String executePostRESTCall(Context context, String requestURI, Object body) {
+        Response response = getInvocationBuilder(context, requestURI).post(Entity.json(body));
+        printResponseInfo(response);
+        return response.readEntity(String.class);
+    }
+
     /**
      * Method to get invocationBuilder to execute rest api.
      *
@@ -0,0 +1,65 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.cli.admin.controller;
+
+import io.pravega.cli.admin.CommandArgs;
+import io.pravega.controller.server.rest.generated.model.CreateStreamRequest;
+import io.pravega.controller.server.rest.generated.model.ScalingConfig;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Cleanup;
+import lombok.val;
+
+/**
+ * Creates a number of fixed-segment Streams in a Scope with a single request, naming them with a common prefix.
+ */
+public class ControllerCreateStreamsCommand extends ControllerCommand {
+    /**
+     * Creates a new instance of the Command class.
+     *
+     * @param args The arguments for the command.
+     */
+    public ControllerCreateStreamsCommand(CommandArgs args) {
+        super(args);
+    }
+
+    @Override
+    public void execute() throws Exception {
+        ensureArgCount(4);
+        String scope = getArg(0);
+        String prefix = getArg(1);
+        int count = getIntArg(2);
+        int segments = getIntArg(3);
+        List<CreateStreamRequest> streams = IntStream.range(0, count)
+                .mapToObj(i -> new CreateStreamRequest()
+                        .streamName(prefix + i)
+                        .scalingPolicy(new ScalingConfig().type(ScalingConfig.TypeEnum.FIXED_NUM_SEGMENTS).minSegments(segments)))
+                .collect(Collectors.toList());
+        @Cleanup
+        val context = createContext();
+        prettyJSONOutput(executePostRESTCall(context, "/v1/scopes/" + scope + "/bulk/create-streams", streams));
+    }
+
+    public static CommandDescriptor descriptor() {
+        return new CommandDescriptor(COMPONENT, "create-streams", "Create a number of Streams named <prefix><index> in a given Scope. "
+                + "Blocks until all of them are processed, then prints the status of each.",
+                new ArgDescriptor("scope-name", "Name of the Scope to create the Streams in."),
+                new ArgDescriptor("stream-prefix", "Prefix of the names of the Streams."),
+                new ArgDescriptor("count", "Number of Streams to create."),
+                new ArgDescriptor("segments", "Number of (fixed) Segments of each Stream."));
+    }
+}
@@ -185,5 +185,23 @@ public class SecureControllerCommandsTest {
         commandResult = TestUtils.executeCommand("controller list-readergroups testScope", cliConfig());
         Assert.assertFalse(commandResult.contains("testRG"));
     }
-}
 
+    @Test
+    @SneakyThrows
+    public void testCreateAndDeleteStreamsCommands() {
+        String commandResult = TestUtils.executeCommand("controller create-streams testScope bulkStream 3 1", cliConfig());
+        Assert.assertTrue(commandResult.contains("Successful REST request."));
+        Assert.assertTrue(commandResult.contains("bulkStream2"));
+        Assert.assertFalse(commandResult.contains("FAILURE"));
+        Assert.assertNotNull(ControllerCreateStreamsCommand.descriptor());
+        commandResult = TestUtils.executeCommand("controller list-streams testScope", cliConfig());
+        Assert.assertTrue(commandResult.contains("bulkStream1"));
+
+        commandResult = TestUtils.executeCommand("controller delete-streams testScope bulkStream 3", cliConfig());
+        Assert.assertTrue(commandResult.contains("Successful REST request."));
+        Assert.assertFalse(commandResult.contains("FAILURE"));
+        Assert.assertNotNull(ControllerDeleteStreamsCommand.descriptor());
+        commandResult = TestUtils.executeCommand("controller list-streams testScope", cliConfig());
+        Assert.assertFalse(commandResult.contains("bulkStream1"));
+    }
+}
@@ -17,6 +17,8 @@ package io.pravega.client;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.shared.security.auth.Credentials;
 import io.pravega.shared.metrics.MetricListener;
 import java.io.Serializable;
@@ -148,6 +150,85 @@ public class ClientConfig implements Serializable {
      */
     private final MetricListener metricListener;
 
+    /**
+     * Whether connections to the Segment Store should use a non-blocking, Netty-based transport instead of one blocking
+     * socket (and one reader thread) per connection. The non-blocking transport multiplexes all connections created by
+     * a client factory onto a small, fixed set of event loop threads, which reduces thread count and memory usage for
+     * clients that hold many connections (i.e., many writers or readers against many Segment Stores).
+     *
+     * @param nonBlockingTransport Whether to use the non-blocking transport.
+     * @return Whether to use the non-blocking transport.
+     */
+    @Beta
+    private final boolean nonBlockingTransport;
+
+    /**
+     * Whether the client should run its blocking background work (connection reads and event retransmission after a
+     * segment is sealed) on virtual threads instead of platform threads. This requires Java 21 or above; on older
+     * JVMs platform threads are used. Applications that block in {@code readNextEvent} or {@code flush} from their own
+     * virtual threads benefit from this as well, as the client does not pin carrier threads while waiting on the server.
+     *
+     * @param enableVirtualThreads Whether to use virtual threads.
+     * @return Whether to use virtual threads.
+     */
+    @Beta
+    private final boolean enableVirtualThreads;
+
+    /**
+     * The append latency (in milliseconds) that writers should aim for. When set, the size of each append block is
+     * derived from the observed Segment Store acknowledgement round-trip time so that the time an event spends being
+     * batched plus the round-trip time stays within this target. Smaller values favor latency (smaller batches), while
+     * larger values favor throughput (larger batches). If the Segment Store is observed to be throttling (its round-trip
+     * time is well above the best one observed), batches are made as large as possible regardless of this target.
+     * A value of 0 (default) disables this and uses the default batching heuristics.
+     *
+     * @param appendLatencyTargetMillis The append latency target, in milliseconds.
+     * @return The append latency target, in milliseconds.
+     */
+    @Beta
+    private final long appendLatencyTargetMillis;
+
+    /**
+     * The maximum amount of memory (in bytes) that the read buffers of all the event readers created by a client
+     * factory may use together. When set, each segment's read buffer starts small and is grown (up to 10MB) or shrunk
+     * based on the rate at which the application consumes data from it, as long as the total stays within this budget.
+     * Data is also fetched ahead of time while the application is processing previously read events.
+     * A value of 0 (default) disables this, in which case every segment uses a fixed-size buffer of
+     * {@link io.pravega.client.stream.ReaderConfig#getBufferSize()} bytes.
+     *
+     * @param readBufferBudgetBytes The read buffer budget, in bytes.
+     * @return The read buffer budget, in bytes.
+     */
+    @Beta
+    private final long readBufferBudgetBytes;
+
+    /**
+     * A directory in which Segment Stores running on the same host as this client create Unix domain sockets (see the
+     * Segment Store's {@code pravegaservice.service.listener.domainSocket.dir} setting). When set, connections to a
+     * Segment Store whose endpoint resolves to this host go through its domain socket instead of TCP loopback, if the
+     * socket exists. This requires Java 16 or newer and is not used if TLS to the Segment Store is enabled or with
+     * {@link #isNonBlockingTransport()}.
+     * If null (default), all connections use TCP.
+     *
+     * @param domainSocketDirectory The directory containing the Segment Stores' domain sockets.
+     * @return The directory containing the Segment Stores' domain sockets.
+     */
+    @Beta
+    private final String domainSocketDirectory;
+
+    /**
+     * Whether the client should keep a local copy of the assignment of Segment Containers to Segment Stores, which the
+     * Controller pushes to it whenever it changes. When enabled, the Segment Store endpoint for a segment is computed
+     * locally instead of requiring a Controller round trip for every lookup. The client falls back to querying the
+     * Controller whenever its copy is unavailable (e.g., while reconnecting or if the Controller does not support it).
+     * Defaults to false.
+     *
+     * @param cacheSegmentEndpoints Whether to cache segment endpoints locally.
+     * @return Whether to cache segment endpoints locally.
+     */
+    @Beta
+    private final boolean cacheSegmentEndpoints;
+
     /**
      * Returns whether TLS is enabled for client-to-server (Controller and Segment Store) communications.
      *
@@ -257,12 +338,18 @@ public class ClientConfig implements Serializable {
                 }
             }
             extractCredentials();
+            if (enableVirtualThreads && !ExecutorServiceHelpers.isVirtualThreadSupported()) {
+                log.warn("Virtual threads are not supported by this JVM; the client will use platform threads instead.");
+            }
+            Preconditions.checkArgument(appendLatencyTargetMillis >= 0, "appendLatencyTargetMillis must be a non-negative number.");
+            Preconditions.checkArgument(readBufferBudgetBytes >= 0, "readBufferBudgetBytes must be a non-negative number.");
             if (maxConnectionsPerSegmentStore <= 0) {
                 maxConnectionsPerSegmentStore = DEFAULT_MAX_CONNECTIONS_PER_SEGMENT_STORE;
             }
             return new ClientConfig(controllerURI, credentials, trustStore, validateHostName, maxConnectionsPerSegmentStore,
                     isDefaultMaxConnections, deriveTlsEnabledFromControllerURI, enableTlsToController,
-                    enableTlsToSegmentStore, metricListener);
+                    enableTlsToSegmentStore, metricListener, nonBlockingTransport, enableVirtualThreads,
+                    appendLatencyTargetMillis, readBufferBudgetBytes, domainSocketDirectory, cacheSegmentEndpoints);
         }
 
         private boolean isValidScheme(String scheme) {
@@ -39,7 +39,6 @@ import java.util.function.Supplier;
 public class AppendBatchSizeTrackerImpl implements AppendBatchSizeTracker {
     
     // This must be less than WireCommands.MAX_WIRECOMMAND_SIZE / 2;
-    @VisibleForTesting
     static final int MAX_BATCH_SIZE = EnvVars.readIntegerFromEnvVar("PRAVEGA_MAX_BATCH_SIZE",
                                                                  2 * TcpClientConnection.TCP_BUFFER_SIZE - 1024);
     @VisibleForTesting
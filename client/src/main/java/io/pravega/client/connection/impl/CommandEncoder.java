@@ -39,6 +39,7 @@ import java.io.OutputStream;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -55,6 +56,8 @@ import lombok.extern.slf4j.Slf4j;
 import static io.pravega.common.io.StreamHelpers.closeQuietly;
 import static io.pravega.shared.NameUtils.segmentTags;
 import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_APPEND_BLOCK_SIZE;
+import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_APPEND_ROUND_TRIP_TIME;
+import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_OUTSTANDING_APPEND_COUNT;
 import static io.pravega.shared.protocol.netty.WireCommands.TYPE_PLUS_LENGTH_SIZE;
 import static io.pravega.shared.protocol.netty.WireCommands.TYPE_SIZE;
 
@@ -85,6 +88,11 @@ public class CommandEncoder {
     private int bytesLeftInBlock;
     @GuardedBy("$lock")
     private final Map<UUID, Session> pendingWrites = new HashMap<>();
+    /**
+     * The last append of each session that has not been written out to the connection yet, along with its tracker.
+     */
+    @GuardedBy("$lock")
+    private final Map<Session, Map.Entry<AppendBatchSizeTracker, Long>> unsentAppends = new HashMap<>();
 
     private final OutputStream output;
     private final ByteBuf buffer = Unpooled.buffer(1024 * 1024);
@@ -233,6 +241,7 @@ public class CommandEncoder {
 
         if (blockSizeSupplier != null) {
             blockSizeSupplier.recordAppend(append.getEventNumber(), data.readableBytes());
+            unsentAppends.put(session, new SimpleImmutableEntry<>(blockSizeSupplier, append.getEventNumber()));
         }
         if (isChannelFree()) {
             if (session.isFree()) {
@@ -269,6 +278,26 @@ public class CommandEncoder {
     private void flushBuffer() throws IOException {
         buffer.getBytes(buffer.readerIndex(), output, buffer.readableBytes());
         buffer.clear();
+        recordSentAppends();
+    }
+
+    /**
+     * Notifies the trackers of all sessions whose appends have all been written out to the connection. Appends still
+     * queued up in a session (because another writer owns the channel) have not been sent yet.
+     */
+    @GuardedBy("$lock")
+    private void recordSentAppends() {
+        if (unsentAppends.isEmpty()) {
+            return;
+        }
+        Iterator<Map.Entry<Session, Map.Entry<AppendBatchSizeTracker, Long>>> iterator = unsentAppends.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Session, Map.Entry<AppendBatchSizeTracker, Long>> entry = iterator.next();
+            if (entry.getKey().isFree()) {
+                entry.getValue().getKey().recordSent(entry.getValue().getValue());
+                iterator.remove();
+            }
+        }
     }
     
     @VisibleForTesting
@@ -325,8 +354,13 @@ public class CommandEncoder {
         int blockSize = blockSizeSupplier.getAppendBlockSize();
         // Only publish client side metrics when there is some metrics notifier configured for efficiency.
         if (metricNotifier != null && !metricNotifier.equals(MetricNotifier.NO_OP_METRIC_NOTIFIER)) {
-            metricNotifier.updateSuccessMetric(CLIENT_APPEND_BLOCK_SIZE, segmentTags(append.getSegment(), append.getWriterId().toString()),
-                                               blockSize);
+            String[] tags = segmentTags(append.getSegment(), append.getWriterId().toString());
+            metricNotifier.updateSuccessMetric(CLIENT_APPEND_BLOCK_SIZE, tags, blockSize);
+            if (blockSizeSupplier instanceof LatencyTargetBatchSizeTracker) {
+                LatencyTargetBatchSizeTracker tracker = (LatencyTargetBatchSizeTracker) blockSizeSupplier;
+                metricNotifier.updateSuccessMetric(CLIENT_APPEND_ROUND_TRIP_TIME, tags, tracker.getRoundTripMillis());
+                metricNotifier.updateSuccessMetric(CLIENT_OUTSTANDING_APPEND_COUNT, tags, tracker.getOutstandingAppends());
+            }
         }
 
         segmentBeingAppendedTo = append.getSegment();
@@ -15,6 +15,7 @@
  */
 package io.pravega.client.connection.impl;
 
+import io.pravega.shared.metrics.MetricNotifier;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.ReplyProcessor;
 import java.util.concurrent.CompletableFuture;
@@ -64,5 +65,12 @@ public interface ConnectionPool extends AutoCloseable {
      * Returns the client internal thread pool executor.
      */
     ScheduledExecutorService getInternalExecutor();
+
+    /**
+     * Returns the {@link MetricNotifier} used to report client metrics to the user-configured metric listener.
+     */
+    default MetricNotifier getMetricNotifier() {
+        return MetricNotifier.NO_OP_METRIC_NOTIFIER;
+    }
 }
 
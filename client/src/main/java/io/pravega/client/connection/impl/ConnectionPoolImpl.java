@@ -90,7 +90,6 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }
 
     private final Object lock = new Object();
-    @VisibleForTesting
     @Getter
     private final ClientConfig clientConfig;
     private final MetricNotifier metricNotifier;
@@ -219,6 +218,11 @@ public class ConnectionPoolImpl implements ConnectionPool {
         }
     }
 
+    @Override
+    public MetricNotifier getMetricNotifier() {
+        return metricNotifier;
+    }
+
     @Override
     public ScheduledExecutorService getInternalExecutor() {
         return connectionFactory.getInternalExecutor();
@@ -0,0 +1,211 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.client.ClientConfig;
+import io.pravega.shared.protocol.netty.DomainSocketAddresses;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects to the Unix domain socket of a Segment Store running on the same host as the client (see
+ * {@link ClientConfig#getDomainSocketDirectory()}), which avoids the overhead of the TCP loopback stack.
+ * <p>
+ * Unix domain socket channels are only available on Java 16+, while the client targets older versions. They are
+ * looked up reflectively and this transport is simply not used if the running JVM does not support them.
+ */
+@Slf4j
+@UtilityClass
+class DomainSockets {
+    private static final ProtocolFamily UNIX;
+    private static final Method OPEN_CHANNEL;
+    private static final Method CREATE_ADDRESS;
+
+    static {
+        ProtocolFamily unix;
+        Method openChannel;
+        Method createAddress;
+        try {
+            unix = StandardProtocolFamily.valueOf("UNIX");
+            openChannel = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            createAddress = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class);
+        } catch (ReflectiveOperationException | IllegalArgumentException ex) {
+            unix = null;
+            openChannel = null;
+            createAddress = null;
+        }
+        UNIX = unix;
+        OPEN_CHANNEL = openChannel;
+        CREATE_ADDRESS = createAddress;
+    }
+
+    /**
+     * Whether the running JVM supports Unix domain socket channels.
+     *
+     * @return True if supported, false otherwise.
+     */
+    static boolean isSupported() {
+        return UNIX != null;
+    }
+
+    /**
+     * Gets the Unix domain socket to use to connect to the given Segment Store, if any. A socket is only used if the
+     * client is configured with a domain socket directory, TLS to the Segment Store is disabled, the Segment Store's
+     * endpoint resolves to an address of this host and the Segment Store has created its socket.
+     *
+     * @param location     The Segment Store to connect to.
+     * @param clientConfig The client configuration.
+     * @return The path to the socket, or null if the connection should use TCP.
+     */
+    static Path findLocalSocket(PravegaNodeUri location, ClientConfig clientConfig) {
+        if (clientConfig.getDomainSocketDirectory() == null || clientConfig.isEnableTlsToSegmentStore() || !isSupported()) {
+            return null;
+        }
+        Path path = DomainSocketAddresses.getSocketPath(clientConfig.getDomainSocketDirectory(), location.getPort());
+        if (!Files.exists(path) || !isLocalAddress(location.getEndpoint())) {
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * Whether the given host name or IP address refers to this host.
+     *
+     * @param host The host name or IP address.
+     * @return True if it resolves to a loopback address or to the address of one of this host's network interfaces.
+     */
+    @VisibleForTesting
+    static boolean isLocalAddress(String host) {
+        try {
+            InetAddress address = InetAddress.getByName(host);
+            return address.isLoopbackAddress() || address.isAnyLocalAddress() || NetworkInterface.getByInetAddress(address) != null;
+        } catch (IOException e) {
+            log.debug("Unable to determine whether {} is a local address.", host, e);
+            return false;
+        }
+    }
+
+    /**
+     * Opens a blocking channel connected to the given Unix domain socket.
+     *
+     * @param path The path of the socket.
+     * @return The connected channel.
+     * @throws IOException If the connect attempt fails.
+     */
+    static SocketChannel connect(Path path) throws IOException {
+        SocketChannel channel;
+        try {
+            channel = (SocketChannel) OPEN_CHANNEL.invoke(null, UNIX);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IOException("Unable to open domain socket channel.", e);
+        }
+        try {
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, TcpClientConnection.TCP_BUFFER_SIZE);
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, TcpClientConnection.TCP_BUFFER_SIZE);
+            channel.connect((SocketAddress) CREATE_ADDRESS.invoke(null, path));
+            return channel;
+        } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Unable to connect to " + path, e);
+        }
+    }
+
+    /**
+     * Creates an InputStream that reads from the given blocking channel. Unlike {@link java.nio.channels.Channels#newInputStream},
+     * reads do not block concurrent writes to the same channel. Closing the stream closes the channel.
+     *
+     * @param channel The channel.
+     * @return The InputStream.
+     */
+    static InputStream newInputStream(SocketChannel channel) {
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                int read = read(b, 0, 1);
+                return read <= 0 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (len == 0) {
+                    return 0;
+                }
+                try {
+                    return channel.read(ByteBuffer.wrap(b, off, len));
+                } catch (ClosedChannelException e) {
+                    // Report this the same way a closed TCP socket does, so the ConnectionReader treats it as a normal shutdown.
+                    throw new SocketException("Socket closed");
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    /**
+     * Creates an OutputStream that writes to the given blocking channel. Unlike {@link java.nio.channels.Channels#newOutputStream},
+     * writes do not block concurrent reads from the same channel. Closing the stream closes the channel.
+     *
+     * @param channel The channel.
+     * @return The OutputStream.
+     */
+    static OutputStream newOutputStream(SocketChannel channel) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+}
@@ -16,6 +16,7 @@
 package io.pravega.client.connection.impl;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.pravega.common.MathHelpers;
 import io.pravega.common.util.SimpleCache;
 import io.pravega.shared.protocol.netty.AppendBatchSizeTracker;
 import lombok.AccessLevel;
@@ -49,15 +50,26 @@ class FlowToBatchSizeTracker {
     @VisibleForTesting
     @Getter(value = AccessLevel.PACKAGE)
     private final SimpleCache<Integer, AppendBatchSizeTracker> flowToBatchSizeTrackerMap;
+    /**
+     * The append latency target for all flows (see {@link io.pravega.client.ClientConfig#getAppendLatencyTargetMillis()}). If 0, the
+     * default {@link AppendBatchSizeTrackerImpl} is used.
+     */
+    private final long appendLatencyTargetMillis;
 
     FlowToBatchSizeTracker() {
+        this(0);
+    }
+
+    FlowToBatchSizeTracker(long appendLatencyTargetMillis) {
         this.flowToBatchSizeTrackerMap = new SimpleCache<>(TRACKER_CACHE_MAX_SIZE, TRACKER_CACHE_EXPIRATION_TIME,
                 (flow, tracker) -> log.info("Evicting batch tracker for flow: {}", flow));
+        this.appendLatencyTargetMillis = appendLatencyTargetMillis;
     }
 
     @VisibleForTesting
     FlowToBatchSizeTracker(int flowCacheMaxSize, Duration flowCacheExpiration, BiConsumer<Integer, AppendBatchSizeTracker> callback) {
         this.flowToBatchSizeTrackerMap = new SimpleCache<>(flowCacheMaxSize, flowCacheExpiration, callback);
+        this.appendLatencyTargetMillis = 0;
     }
 
     /**
@@ -68,9 +80,30 @@ class FlowToBatchSizeTracker {
      * @return The {@link AppendBatchSizeTracker} instance associated to the flow id.
      */
     AppendBatchSizeTracker getAppendBatchSizeTrackerByFlowId(int flowId) {
-        if (flowToBatchSizeTrackerMap.putIfAbsent(flowId, new AppendBatchSizeTrackerImpl()) == null) {
+        if (flowToBatchSizeTrackerMap.putIfAbsent(flowId, createTracker()) == null) {
             log.debug("Instantiating new batch sze tracker for flow: {}", flowId);
         }
         return flowToBatchSizeTrackerMap.get(flowId);
     }
+
+    /**
+     * Gets the interval (in milliseconds) at which open append blocks should be checked for timeouts. If an append
+     * latency target is configured, open blocks need to be closed at a fraction of it, otherwise they may stay open for
+     * up to {@link AppendBatchSizeTracker#MAX_BATCH_TIME_MILLIS}.
+     *
+     * @return The batch timeout check interval.
+     */
+    int getBatchTimeoutMillis() {
+        if (appendLatencyTargetMillis <= 0) {
+            return AppendBatchSizeTracker.MAX_BATCH_TIME_MILLIS;
+        }
+        // A block is closed by the second check after it has been opened.
+        return (int) MathHelpers.minMax(appendLatencyTargetMillis / 4, 1, AppendBatchSizeTracker.MAX_BATCH_TIME_MILLIS);
+    }
+
+    private AppendBatchSizeTracker createTracker() {
+        return appendLatencyTargetMillis > 0
+                ? new LatencyTargetBatchSizeTracker(appendLatencyTargetMillis)
+                : new AppendBatchSizeTrackerImpl();
+    }
 }
@@ -0,0 +1,177 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.ExponentialMovingAverage;
+import io.pravega.common.MathHelpers;
+import io.pravega.shared.protocol.netty.AppendBatchSizeTracker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AppendBatchSizeTracker} that sizes append blocks to meet an append latency target (see
+ * {@link io.pravega.client.ClientConfig#getAppendLatencyTargetMillis()}).
+ *
+ * This implementation tracks:
+ * 1. The time between appends and the size of each append (same as {@link AppendBatchSizeTrackerImpl}).
+ * 2. The acknowledgement round trip time, by timing one append at a time from when it is written out to the connection
+ * until it is acked. Time spent in an open append block is not included, as that is caused by this tracker.
+ * 3. The smallest round trip time observed, which serves as a baseline for an unloaded Segment Store.
+ *
+ * The time an append block is kept open is whatever is left of the latency target after the round trip time, capped at
+ * {@link #MAX_BATCH_TIME_MILLIS}; the block size is the amount of data expected to be written in that time. If the round
+ * trip time exceeds {@link #THROTTLE_RTT_FACTOR} times the baseline, the Segment Store is assumed to be throttling or
+ * queuing appends. Since smaller blocks would only add to its load, blocks are then sized for {@link #MAX_BATCH_TIME_MILLIS}
+ * irrespective of the target. As with {@link AppendBatchSizeTrackerImpl}, batching is disabled if there is at most one
+ * unacked append.
+ */
+public class LatencyTargetBatchSizeTracker implements AppendBatchSizeTracker {
+    @VisibleForTesting
+    static final double THROTTLE_RTT_FACTOR = 3.0;
+    // Round trip times below this are never considered to be caused by throttling.
+    private static final double MIN_THROTTLE_RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long NO_SAMPLE = Long.MIN_VALUE;
+    private static final double NO_BASELINE = -1;
+    private static final double MAX_BATCH_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(MAX_BATCH_TIME_MILLIS);
+    // The weight given to new samples when the baseline round trip time drifts upwards.
+    private static final double BASELINE_DRIFT = 0.001;
+
+    private final long latencyTargetNanos;
+    private final Supplier<Long> clock;
+    private final AtomicLong lastAppendNumber = new AtomicLong(0);
+    private final AtomicLong lastAppendTime;
+    private final AtomicLong lastAckNumber = new AtomicLong(0);
+    private final AtomicLong sampleEventNumber = new AtomicLong(NO_SAMPLE);
+    private volatile long sampleStartTime;
+    private final ExponentialMovingAverage eventSize = new ExponentialMovingAverage(1024, 0.01, true);
+    private final ExponentialMovingAverage nanosBetweenAppends = new ExponentialMovingAverage(TimeUnit.MILLISECONDS.toNanos(10), 0.001, false);
+    private final ExponentialMovingAverage roundTripNanos;
+    private volatile double baselineRoundTripNanos;
+
+    /**
+     * Creates a new instance of the LatencyTargetBatchSizeTracker class.
+     *
+     * @param latencyTargetMillis The append latency target, in milliseconds.
+     */
+    public LatencyTargetBatchSizeTracker(long latencyTargetMillis) {
+        this(latencyTargetMillis, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    LatencyTargetBatchSizeTracker(long latencyTargetMillis, Supplier<Long> clock) {
+        Preconditions.checkArgument(latencyTargetMillis > 0, "latencyTargetMillis must be a positive number.");
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+        this.clock = clock;
+        this.lastAppendTime = new AtomicLong(clock.get());
+        // Until there are samples, assume half the target is spent on the round trip.
+        this.roundTripNanos = new ExponentialMovingAverage(this.latencyTargetNanos / 2.0, 0.1, false);
+        this.baselineRoundTripNanos = NO_BASELINE;
+    }
+
+    @Override
+    public void recordAppend(long eventNumber, int size) {
+        long now = Math.max(lastAppendTime.get(), clock.get());
+        long last = lastAppendTime.getAndSet(now);
+        lastAppendNumber.set(eventNumber);
+        nanosBetweenAppends.addNewSample(now - last);
+        eventSize.addNewSample(size);
+    }
+
+    @Override
+    public void recordSent(long eventNumber) {
+        if (sampleEventNumber.get() == NO_SAMPLE) {
+            // Time this append. Only the thread sending appends starts a sample, so the start time is published first.
+            sampleStartTime = clock.get();
+            sampleEventNumber.set(eventNumber);
+        }
+    }
+
+    @Override
+    public long recordAck(long eventNumber) {
+        lastAckNumber.getAndSet(eventNumber);
+        long sampled = sampleEventNumber.get();
+        if (sampled != NO_SAMPLE && eventNumber >= sampled && sampleEventNumber.compareAndSet(sampled, NO_SAMPLE)) {
+            long rtt = Math.max(0, clock.get() - sampleStartTime);
+            roundTripNanos.addNewSample(rtt);
+            double baseline = baselineRoundTripNanos;
+            baselineRoundTripNanos = baseline == NO_BASELINE || rtt < baseline ? rtt : baseline + (rtt - baseline) * BASELINE_DRIFT;
+        }
+        return lastAppendNumber.get() - eventNumber;
+    }
+
+    /**
+     * Returns a block size that is an estimate of how much data will be written in the time left of the latency target
+     * after the round trip time, or in {@link #MAX_BATCH_TIME_MILLIS} if the Segment Store is throttling.
+     */
+    @Override
+    public int getAppendBlockSize() {
+        long numInflight = lastAppendNumber.get() - lastAckNumber.get();
+        if (numInflight <= 1) {
+            return 0;
+        }
+        double batchNanos = getBatchTimeNanos();
+        if (batchNanos <= 0) {
+            return 0;
+        }
+        double appendsInBatch = Math.max(1.0, batchNanos / nanosBetweenAppends.getCurrentValue());
+        int size = (int) (appendsInBatch * eventSize.getCurrentValue());
+        return MathHelpers.minMax(size, 0, AppendBatchSizeTrackerImpl.MAX_BATCH_SIZE);
+    }
+
+    @Override
+    public int getBatchTimeout() {
+        return (int) MathHelpers.minMax(TimeUnit.NANOSECONDS.toMillis((long) getBatchTimeNanos()), 1, MAX_BATCH_TIME_MILLIS);
+    }
+
+    /**
+     * Gets the current (smoothed) acknowledgement round trip time, in milliseconds.
+     *
+     * @return The round trip time.
+     */
+    public long getRoundTripMillis() {
+        return TimeUnit.NANOSECONDS.toMillis((long) roundTripNanos.getCurrentValue());
+    }
+
+    /**
+     * Gets the number of appends that have been sent but not yet acknowledged.
+     *
+     * @return The number of outstanding appends.
+     */
+    public long getOutstandingAppends() {
+        return Math.max(0, lastAppendNumber.get() - lastAckNumber.get());
+    }
+
+    /**
+     * Gets a value indicating whether the round trip time indicates that the Segment Store is throttling appends.
+     *
+     * @return True if throttling, false otherwise.
+     */
+    public boolean isThrottled() {
+        double baseline = baselineRoundTripNanos;
+        double rtt = roundTripNanos.getCurrentValue();
+        return baseline != NO_BASELINE && rtt > MIN_THROTTLE_RTT_NANOS && rtt > THROTTLE_RTT_FACTOR * baseline;
+    }
+
+    private double getBatchTimeNanos() {
+        if (isThrottled()) {
+            return MAX_BATCH_TIME_NANOS;
+        }
+        return Math.min(MAX_BATCH_TIME_NANOS, latencyTargetNanos - roundTripNanos.getCurrentValue());
+    }
+}
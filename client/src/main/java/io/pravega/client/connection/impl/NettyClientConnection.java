@@ -0,0 +1,374 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.pravega.client.ClientConfig;
+import io.pravega.common.Exceptions;
+import io.pravega.common.util.ReusableLatch;
+import io.pravega.shared.protocol.netty.Append;
+import io.pravega.shared.protocol.netty.CommandDecoder;
+import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.Reply;
+import io.pravega.shared.protocol.netty.ReplyProcessor;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.pravega.client.connection.impl.TcpClientConnection.CONNECTION_TIMEOUT;
+import static io.pravega.client.connection.impl.TcpClientConnection.TCP_BUFFER_SIZE;
+import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE;
+
+/**
+ * A {@link ClientConnection} that uses a non-blocking Netty {@link Channel} instead of a blocking socket. Unlike
+ * {@link TcpClientConnection}, it does not require a dedicated reader thread: replies are decoded and dispatched to the
+ * {@link ReplyProcessor} on one of the threads of the (shared) {@link EventLoopGroup} the connection was created on.
+ *
+ * Outgoing commands are encoded by the same {@link CommandEncoder} used by {@link TcpClientConnection}, so batching
+ * behavior is identical between the two transports. Writers are blocked while the channel's outbound buffer exceeds
+ * {@link #WRITE_BUFFER_HIGH_WATER_MARK} (except when invoked from the event loop itself, which must never block).
+ */
+@Slf4j
+public class NettyClientConnection implements ClientConnection {
+
+    @VisibleForTesting
+    static final int WRITE_BUFFER_LOW_WATER_MARK = TCP_BUFFER_SIZE;
+    @VisibleForTesting
+    static final int WRITE_BUFFER_HIGH_WATER_MARK = 4 * TCP_BUFFER_SIZE;
+
+    private final Channel channel;
+    private final CommandEncoder encoder;
+    private final ReplyHandler replyHandler;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final PravegaNodeUri location;
+    private final Runnable onClose;
+    private final ScheduledFuture<?> timeoutFuture;
+
+    private NettyClientConnection(Channel channel, CommandEncoder encoder, ReplyHandler replyHandler, PravegaNodeUri location,
+                                  Runnable onClose, ScheduledExecutorService executor, int batchTimeoutMillis) {
+        this.channel = checkNotNull(channel);
+        this.encoder = checkNotNull(encoder);
+        this.replyHandler = checkNotNull(replyHandler);
+        this.location = checkNotNull(location);
+        this.onClose = onClose;
+        this.timeoutFuture = executor.scheduleWithFixedDelay(new TimeoutBatch(encoder),
+                                                             batchTimeoutMillis,
+                                                             batchTimeoutMillis,
+                                                             TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Decodes incoming frames and dispatches them to the {@link ReplyProcessor}. This is the non-blocking equivalent of
+     * {@link TcpClientConnection.ConnectionReader}.
+     */
+    @RequiredArgsConstructor
+    private static final class ReplyHandler extends ChannelInboundHandlerAdapter {
+        private final String name;
+        private final ReplyProcessor callback;
+        private final FlowToBatchSizeTracker flowToBatchSizeTracker;
+        private final ReusableLatch writable = new ReusableLatch(true);
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            WireCommand command = (WireCommand) msg;
+            if (command instanceof WireCommands.DataAppended) {
+                WireCommands.DataAppended dataAppended = (WireCommands.DataAppended) command;
+                flowToBatchSizeTracker.getAppendBatchSizeTrackerByFlowId(Flow.toFlowID(dataAppended.getRequestId())).recordAck(dataAppended.getEventNumber());
+            }
+            try {
+                callback.process((Reply) command);
+            } catch (Exception e) {
+                callback.processingFailure(e);
+            }
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+            if (ctx.channel().isWritable()) {
+                writable.release();
+            } else {
+                writable.reset();
+            }
+            super.channelWritabilityChanged(ctx);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            log.info("Connection to {} closed.", name);
+            // Unblock any writers; they will observe that the channel is no longer active.
+            writable.release();
+            callback.connectionDropped();
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            log.warn("Error processing data from server " + name, cause);
+            ctx.close();
+        }
+    }
+
+    /**
+     * Adapts a {@link Channel} to the {@link OutputStream} that {@link CommandEncoder} writes its batches to.
+     */
+    @RequiredArgsConstructor
+    private static final class ChannelOutputStream extends OutputStream {
+        private final Channel channel;
+        private final ReusableLatch writable;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            awaitWritable();
+            // CommandEncoder reuses its buffer as soon as this returns, so the data must be copied.
+            channel.writeAndFlush(Unpooled.copiedBuffer(b, off, len)).addListener((ChannelFutureListener) this::writeComplete);
+        }
+
+        private void awaitWritable() throws IOException {
+            if (!channel.isWritable() && !channel.eventLoop().inEventLoop()) {
+                Exceptions.handleInterrupted(writable::await);
+            }
+            if (!channel.isActive()) {
+                throw new IOException("Channel is closed.");
+            }
+        }
+
+        private void writeComplete(ChannelFuture future) {
+            if (!future.isSuccess()) {
+                log.warn("Error writing to channel {}: {}", channel, future.cause().toString());
+                channel.close();
+            }
+        }
+
+        @Override
+        public void close() {
+            channel.close();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class TimeoutBatch implements Runnable {
+        private final AtomicLong token = new AtomicLong(-1);
+        private final CommandEncoder encoder;
+        @Override
+        public void run() {
+            token.set(encoder.batchTimeout(token.get()));
+        }
+    }
+
+    /**
+     * Connects to the specified location.
+     *
+     * @param location Location to connect to.
+     * @param clientConfig Config for the connection.
+     * @param callback ReplyProcessor for replies from the server.
+     * @param group The EventLoopGroup to register the connection with.
+     * @param executor Thread pool to complete the returned future and to time out batches on.
+     * @param onClose A callback to be notified when this connection closes.
+     * @return A future for a new connection. If the connect attempt fails the future will be failed with a {@link ConnectionFailedException}
+     */
+    public static CompletableFuture<NettyClientConnection> connect(PravegaNodeUri location, ClientConfig clientConfig, ReplyProcessor callback,
+                                                                   EventLoopGroup group, ScheduledExecutorService executor, Runnable onClose) {
+        CompletableFuture<NettyClientConnection> result = new CompletableFuture<>();
+        final SslContext sslContext;
+        try {
+            sslContext = clientConfig.isEnableTlsToSegmentStore() ? createSslContext(clientConfig) : null;
+        } catch (Exception e) {
+            if (onClose != null) {
+                onClose.run();
+            }
+            result.completeExceptionally(new ConnectionFailedException(e));
+            return result;
+        }
+
+        FlowToBatchSizeTracker flowToBatchSizeTracker = new FlowToBatchSizeTracker(clientConfig.getAppendLatencyTargetMillis());
+        ReplyHandler replyHandler = new ReplyHandler(location.toString(), callback, flowToBatchSizeTracker);
+        Bootstrap bootstrap = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_SNDBUF, TCP_BUFFER_SIZE)
+                .option(ChannelOption.SO_RCVBUF, TCP_BUFFER_SIZE)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECTION_TIMEOUT)
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(WRITE_BUFFER_LOW_WATER_MARK, WRITE_BUFFER_HIGH_WATER_MARK))
+                // Replies may hold on to slices of the buffers they were decoded from, and not all ReplyProcessors
+                // release them. Unpooled heap buffers give the same (GC-managed) semantics as TcpClientConnection.
+                .option(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ChannelPipeline p = ch.pipeline();
+                        if (sslContext != null) {
+                            p.addLast(createSslHandler(sslContext, ch, location, clientConfig.isValidateHostName()));
+                        }
+                        p.addLast(new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4),
+                                  new CommandDecoder(),
+                                  replyHandler);
+                    }
+                });
+
+        bootstrap.connect(location.getEndpoint(), location.getPort()).addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                if (onClose != null) {
+                    onClose.run();
+                }
+                result.completeExceptionally(new ConnectionFailedException(future.cause()));
+                return;
+            }
+            Channel channel = future.channel();
+            // We use the flow id on both CommandEncoder and ReplyHandler to locate AppendBatchSizeTrackers.
+            CommandEncoder encoder = new CommandEncoder(requestId ->
+                    flowToBatchSizeTracker.getAppendBatchSizeTrackerByFlowId(Flow.toFlowID(requestId)),
+                    TcpClientConnection.getMetricNotifier(callback, clientConfig),
+                    new ChannelOutputStream(channel, replyHandler.writable), callback, location);
+            NettyClientConnection connection = new NettyClientConnection(channel, encoder, replyHandler, location, onClose, executor,
+                    flowToBatchSizeTracker.getBatchTimeoutMillis());
+            channel.closeFuture().addListener((ChannelFutureListener) f -> connection.close());
+            // Do not run the caller's continuations on the event loop.
+            executor.execute(() -> result.complete(connection));
+        });
+        return result;
+    }
+
+    private static SslContext createSslContext(ClientConfig clientConfig) throws Exception {
+        SslContextBuilder builder = SslContextBuilder.forClient();
+        TrustManagerFactory trustMgrFactory = TcpClientConnection.createFromCert(clientConfig.getTrustStore());
+        if (trustMgrFactory != null) {
+            builder.trustManager(trustMgrFactory);
+        }
+        return builder.build();
+    }
+
+    private static SslHandler createSslHandler(SslContext sslContext, SocketChannel ch, PravegaNodeUri location, boolean validateHostName) {
+        SslHandler handler = sslContext.newHandler(ch.alloc(), location.getEndpoint(), location.getPort());
+        if (validateHostName) {
+            // See TcpClientConnection for why `HTTPS` is used as the endpoint identification algorithm.
+            SSLEngine sslEngine = handler.engine();
+            SSLParameters tlsParams = sslEngine.getSSLParameters();
+            tlsParams.setEndpointIdentificationAlgorithm("HTTPS");
+            sslEngine.setSSLParameters(tlsParams);
+        }
+        return handler;
+    }
+
+    @Override
+    public void send(WireCommand cmd) throws ConnectionFailedException {
+        checkIfClosed();
+        try {
+            encoder.write(cmd);
+        } catch (IOException e) {
+            log.warn("Error writing to connection: {}", e.toString());
+            close();
+            throw new ConnectionFailedException(e);
+        }
+    }
+
+    @Override
+    public void send(Append append) throws ConnectionFailedException {
+        checkIfClosed();
+        try {
+            encoder.write(append);
+        } catch (IOException e) {
+            log.warn("Error writing to connection: {}", e.toString());
+            close();
+            throw new ConnectionFailedException(e);
+        }
+    }
+
+    private void checkIfClosed() throws ConnectionFailedException {
+        if (closed.get()) {
+            throw new ConnectionFailedException("Connection already closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            timeoutFuture.cancel(false);
+            channel.close();
+            if (onClose != null) {
+                onClose.run();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void sendAsync(List<Append> appends, CompletedCallback callback) {
+        try {
+            for (Append append : appends) {
+                encoder.write(append);
+            }
+            callback.complete(null);
+        } catch (IOException e) {
+            log.warn("Error writing to connection: {}", e.toString());
+            close();
+            callback.complete(new ConnectionFailedException(e));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NettyClientConnection [location=" + location + ", isClosed=" + closed.get() + "]";
+    }
+
+    @VisibleForTesting
+    FlowToBatchSizeTracker getFlowToBatchSizeTracker() {
+        return this.replyHandler.flowToBatchSizeTracker;
+    }
+}
@@ -17,14 +17,19 @@ package io.pravega.client.connection.impl;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
 import io.pravega.client.ClientConfig;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.ReplyProcessor;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SocketConnectionFactoryImpl implements ConnectionFactory {
 
     private static final AtomicInteger POOLCOUNT = new AtomicInteger();
+    private static final long EVENT_LOOP_SHUTDOWN_TIMEOUT_MILLIS = 1000;
     
     private final AtomicInteger openSocketCount = new AtomicInteger();
 
@@ -39,6 +45,12 @@ public class SocketConnectionFactoryImpl implements ConnectionFactory {
     @Getter
     private final ScheduledExecutorService internalExecutor;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    /**
+     * Event loop shared by all connections created by this factory when {@link ClientConfig#isNonBlockingTransport()}
+     * is set. Created on first use.
+     */
+    @GuardedBy("this")
+    private EventLoopGroup eventLoopGroup;
 
     public SocketConnectionFactoryImpl(ClientConfig clientConfig) {
         this(clientConfig, (Integer) null);
@@ -60,12 +72,35 @@ public class SocketConnectionFactoryImpl implements ConnectionFactory {
 
     @Override
     public CompletableFuture<ClientConnection> establishConnection(PravegaNodeUri endpoint, ReplyProcessor rp) {
+        if (clientConfig.isNonBlockingTransport()) {
+            final EventLoopGroup group;
+            try {
+                group = getEventLoopGroup();
+            } catch (Exception e) {
+                return Futures.failedFuture(e);
+            }
+            // Only count the socket once nothing can fail before the connection takes ownership of the close callback.
+            openSocketCount.incrementAndGet();
+            return NettyClientConnection
+                .connect(endpoint, clientConfig, rp, group, internalExecutor, openSocketCount::decrementAndGet)
+                .thenApply(c -> c);
+        }
         openSocketCount.incrementAndGet();
         return TcpClientConnection
             .connect(endpoint, clientConfig, rp, internalExecutor, openSocketCount::decrementAndGet)
             .thenApply(c -> c);
     }
 
+    private synchronized EventLoopGroup getEventLoopGroup() {
+        Preconditions.checkState(!closed.get(), "Connection factory is closed.");
+        if (eventLoopGroup == null) {
+            int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            eventLoopGroup = new NioEventLoopGroup(threadCount,
+                    ExecutorServiceHelpers.getThreadFactory("clientTransport"));
+        }
+        return eventLoopGroup;
+    }
+
     private int getThreadPoolSize(Integer threadCount) {
         if (threadCount != null) {
             return threadCount;
@@ -82,6 +117,11 @@ public class SocketConnectionFactoryImpl implements ConnectionFactory {
         log.info("Shutting down connection factory");
         if (closed.compareAndSet(false, true)) {
             ExecutorServiceHelpers.shutdown(internalExecutor);
+            synchronized (this) {
+                if (eventLoopGroup != null) {
+                    eventLoopGroup.shutdownGracefully(0, EVENT_LOOP_SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            }
         }
     }
 
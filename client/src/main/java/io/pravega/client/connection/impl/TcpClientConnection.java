@@ -23,6 +23,7 @@ import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.util.CertificateUtils;
 import io.pravega.common.util.ReusableLatch;
+import io.pravega.shared.metrics.MetricNotifier;
 import io.pravega.shared.protocol.netty.Append;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.EnhancedByteBufInputStream;
@@ -33,12 +34,17 @@ import io.pravega.shared.protocol.netty.ReplyProcessor;
 import io.pravega.shared.protocol.netty.WireCommand;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -60,7 +66,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.pravega.common.io.StreamHelpers.closeQuietly;
-import static io.pravega.shared.protocol.netty.AppendBatchSizeTracker.MAX_BATCH_TIME_MILLIS;
 
 @Slf4j
 public class TcpClientConnection implements ClientConnection {
@@ -69,7 +74,7 @@ public class TcpClientConnection implements ClientConnection {
     static final int TCP_BUFFER_SIZE = 256 * 1024;
     static final int SOCKET_TIMEOUT_MS = 3 * 60 * 1000;
     
-    private final Socket socket;
+    private final Closeable socket;
     private final CommandEncoder encoder;
     private final ConnectionReader reader;
     private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -77,22 +82,25 @@ public class TcpClientConnection implements ClientConnection {
     private final Runnable onClose;
     private final ScheduledFuture<?> timeoutFuture;
    
-    private TcpClientConnection(Socket socket, CommandEncoder encoder, ConnectionReader reader, PravegaNodeUri location,
-                                Runnable onClose, ScheduledExecutorService executor) {
+    private TcpClientConnection(Closeable socket, CommandEncoder encoder, ConnectionReader reader, PravegaNodeUri location,
+                                Runnable onClose, ScheduledExecutorService executor, int batchTimeoutMillis) {
         this.socket = checkNotNull(socket);
         this.encoder = checkNotNull(encoder);
         this.reader = checkNotNull(reader);
         this.location = checkNotNull(location);
         this.onClose = onClose;
         this.timeoutFuture = executor.scheduleWithFixedDelay(new TimeoutBatch(encoder),
-                                                             MAX_BATCH_TIME_MILLIS,
-                                                             MAX_BATCH_TIME_MILLIS,
+                                                             batchTimeoutMillis,
+                                                             batchTimeoutMillis,
                                                              TimeUnit.MILLISECONDS);
     }
 
     @VisibleForTesting
     static class ConnectionReader implements Runnable {
         static final ThreadFactory THREAD_FACTORY = ExecutorServiceHelpers.getThreadFactory("ClientSocketReaders", (Thread.NORM_PRIORITY + Thread.MAX_PRIORITY) / 2);
+        // Null if the JVM does not support virtual threads, in which case THREAD_FACTORY is used.
+        static final ThreadFactory VIRTUAL_THREAD_FACTORY = ExecutorServiceHelpers.isVirtualThreadSupported()
+                ? ExecutorServiceHelpers.getVirtualThreadFactory("ClientSocketReaders") : null;
         
         private final String name;
         private final InputStream in;
@@ -103,10 +111,15 @@ public class TcpClientConnection implements ClientConnection {
         private final ReusableLatch hasStopped = new ReusableLatch(false);
 
         public ConnectionReader(String name, InputStream in, ReplyProcessor callback, FlowToBatchSizeTracker flowToBatchSizeTracker) {
+            this(name, in, callback, flowToBatchSizeTracker, THREAD_FACTORY);
+        }
+
+        ConnectionReader(String name, InputStream in, ReplyProcessor callback, FlowToBatchSizeTracker flowToBatchSizeTracker,
+                         ThreadFactory threadFactory) {
             this.name = name;
             this.in = in;
             this.callback = callback;
-            this.thread = THREAD_FACTORY.newThread(this);
+            this.thread = threadFactory.newThread(this);
             this.flowToBatchSizeTracker = flowToBatchSizeTracker;
         }
         
@@ -198,7 +211,9 @@ public class TcpClientConnection implements ClientConnection {
     }
 
     /**
-     * Connects to the specified location.
+     * Connects to the specified location. If the location is a Segment Store running on this host which listens on a
+     * Unix domain socket (see {@link ClientConfig#getDomainSocketDirectory()}), the connection is made through that
+     * socket rather than TCP. If connecting to the domain socket fails (i.e., a stale socket file), TCP is used instead.
      * 
      * @param location Location to connect to.
      * @param clientConfig config for socket.
@@ -210,16 +225,35 @@ public class TcpClientConnection implements ClientConnection {
     public static CompletableFuture<TcpClientConnection> connect(PravegaNodeUri location, ClientConfig clientConfig, ReplyProcessor callback,
                                               ScheduledExecutorService executor, Runnable onClose) {
         return CompletableFuture.supplyAsync(() -> {
-            Socket socket = createClientSocket(location, clientConfig); 
+            Path domainSocket = DomainSockets.findLocalSocket(location, clientConfig);
+            Closeable socket = domainSocket != null ? connectToDomainSocket(domainSocket) : null;
+            if (socket == null) {
+                socket = createClientSocket(location, clientConfig);
+            }
             try {
-                InputStream inputStream = socket.getInputStream();
-                FlowToBatchSizeTracker flowToBatchSizeTracker = new FlowToBatchSizeTracker();
-                ConnectionReader reader = new ConnectionReader(location.toString(), inputStream, callback, flowToBatchSizeTracker);
+                InputStream inputStream;
+                OutputStream outputStream;
+                if (socket instanceof SocketChannel) {
+                    // Channel reads are not buffered, so buffer them here to let IoBuffer read more than a command at a time.
+                    inputStream = new BufferedInputStream(DomainSockets.newInputStream((SocketChannel) socket), TCP_BUFFER_SIZE);
+                    outputStream = DomainSockets.newOutputStream((SocketChannel) socket);
+                } else {
+                    inputStream = ((Socket) socket).getInputStream();
+                    outputStream = ((Socket) socket).getOutputStream();
+                }
+                FlowToBatchSizeTracker flowToBatchSizeTracker = new FlowToBatchSizeTracker(clientConfig.getAppendLatencyTargetMillis());
+                ThreadFactory readerThreadFactory = clientConfig.isEnableVirtualThreads() && ConnectionReader.VIRTUAL_THREAD_FACTORY != null
+                        ? ConnectionReader.VIRTUAL_THREAD_FACTORY : ConnectionReader.THREAD_FACTORY;
+                ConnectionReader reader = new ConnectionReader(location.toString(), inputStream, callback, flowToBatchSizeTracker,
+                        readerThreadFactory);
                 reader.start();
                 // We use the flow id on both CommandEncoder and ConnectionReader to locate AppendBatchSizeTrackers.
                 CommandEncoder encoder = new CommandEncoder(requestId ->
-                        flowToBatchSizeTracker.getAppendBatchSizeTrackerByFlowId(Flow.toFlowID(requestId)), null, socket.getOutputStream(), callback, location);
-                return new TcpClientConnection(socket, encoder, reader, location, onClose, executor);
+                        flowToBatchSizeTracker.getAppendBatchSizeTrackerByFlowId(Flow.toFlowID(requestId)),
+                        getMetricNotifier(callback, clientConfig),
+                        outputStream, callback, location);
+                return new TcpClientConnection(socket, encoder, reader, location, onClose, executor,
+                        flowToBatchSizeTracker.getBatchTimeoutMillis());
             } catch (Exception e) {
                 closeQuietly(socket, log, "Failed to close socket while failing.");
                 onClose.run();
@@ -228,7 +262,23 @@ public class TcpClientConnection implements ClientConnection {
         }, executor);
     }
 
-    private static TrustManagerFactory createFromCert(String trustStoreFilePath)
+    /**
+     * Gets the {@link MetricNotifier} to publish per-writer append metrics to. These are only published when latency-target
+     * batching is enabled (see {@link ClientConfig#getAppendLatencyTargetMillis()}), and only if the given
+     * {@link ReplyProcessor} has a MetricNotifier.
+     *
+     * @param callback     The ReplyProcessor for the connection.
+     * @param clientConfig The ClientConfig for the connection.
+     * @return The MetricNotifier, or null if none.
+     */
+    static MetricNotifier getMetricNotifier(ReplyProcessor callback, ClientConfig clientConfig) {
+        if (clientConfig.getAppendLatencyTargetMillis() <= 0) {
+            return null;
+        }
+        return callback instanceof FlowHandler ? ((FlowHandler) callback).getMetricNotifier() : null;
+    }
+
+    static TrustManagerFactory createFromCert(String trustStoreFilePath)
             throws CertificateException, IOException, NoSuchAlgorithmException, KeyStoreException {
         TrustManagerFactory factory = null;
         if (!Strings.isNullOrEmpty(trustStoreFilePath)) {
@@ -240,6 +290,21 @@ public class TcpClientConnection implements ClientConnection {
         return factory;
     }
 
+    /**
+     * Creates a channel connected to the provided Unix domain socket.
+     * @return The connected channel, or null if the connect attempt failed (in which case the caller should use TCP).
+     */
+    private static SocketChannel connectToDomainSocket(Path domainSocket) {
+        try {
+            SocketChannel result = DomainSockets.connect(domainSocket);
+            log.debug("Connected to domain socket {}.", domainSocket);
+            return result;
+        } catch (Exception e) {
+            log.warn("Unable to connect to domain socket {}; falling back to TCP.", domainSocket, e);
+            return null;
+        }
+    }
+
     /**
      * Creates a socket connected to the provided endpoint. 
      * Note that this is a sync call even though it is called in an async context. 
@@ -93,6 +93,7 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.ScaleResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ScaleStatusRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ScaleStatusResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ScopeInfo;
+import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentContainerMapRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentId;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentRange;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentRanges;
@@ -226,6 +227,9 @@ public class ControllerImpl implements Controller {
     private final Supplier<Long> requestIdGenerator = RandomFactory.create()::nextLong;
 
     private final long timeoutMillis;
+
+    // Local copy of the segment container map, or null if segment endpoints are not cached.
+    private final SegmentEndpointCache segmentEndpointCache;
     
     /**
      * Creates a new instance of the Controller client class.
@@ -284,6 +288,13 @@ public class ControllerImpl implements Controller {
         this.channel = channelBuilder.build();
         this.client = getClientWithCredentials(config);
         this.timeoutMillis = config.getTimeoutMillis();
+        if (config.getClientConfig().isCacheSegmentEndpoints()) {
+            this.segmentEndpointCache = new SegmentEndpointCache(observer -> this.client.watchSegmentContainerMap(
+                    SegmentContainerMapRequest.getDefaultInstance(), observer), executor);
+            this.segmentEndpointCache.start();
+        } else {
+            this.segmentEndpointCache = null;
+        }
     }
 
     private ControllerServiceStub getClientWithCredentials(ControllerImplConfig config) {
@@ -1282,6 +1293,12 @@ public class ControllerImpl implements Controller {
     public CompletableFuture<PravegaNodeUri> getEndpointForSegment(final String qualifiedSegmentName) {
         Exceptions.checkNotClosed(closed.get(), this);
         Exceptions.checkNotNullOrEmpty(qualifiedSegmentName, "qualifiedSegmentName");
+        if (segmentEndpointCache != null) {
+            PravegaNodeUri cached = segmentEndpointCache.getEndpointForSegment(Segment.fromScopedName(qualifiedSegmentName));
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
         final long requestId = requestIdGenerator.get();
         long traceId = LoggerHelpers.traceEnter(log, "getEndpointForSegment", qualifiedSegmentName, requestId);
 
@@ -1604,6 +1621,9 @@ public class ControllerImpl implements Controller {
     @Override
     public void close() {
         if (!closed.getAndSet(true)) {
+            if (segmentEndpointCache != null) {
+                segmentEndpointCache.close();
+            }
             Callbacks.invokeSafely(this::closeChannel, ex -> log.error("Error while closing ControllerImpl.", ex));
         }
     }
@@ -0,0 +1,157 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.control.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentContainerMap;
+import io.pravega.shared.NameUtils;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a local copy of the assignment of Segment Containers to Segment Stores so that the endpoint for a segment can
+ * be computed without a round trip to the Controller. The copy is kept up to date by a long-lived watch on the
+ * Controller, which pushes a new map every time the assignment changes.
+ * <p>
+ * While the watch is not connected no endpoints are returned, so that callers fall back to querying the Controller.
+ * If the Controller does not support the watch, the cache stays empty.
+ */
+@Slf4j
+class SegmentEndpointCache implements AutoCloseable {
+    @VisibleForTesting
+    static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final Consumer<StreamObserver<SegmentContainerMap>> watch;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<Routes> routes = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * Creates a new instance of the SegmentEndpointCache class.
+     *
+     * @param watch    A function that starts a new watch on the Controller, delivering Segment Container maps to the
+     *                 given observer.
+     * @param executor The executor to use for re-establishing the watch.
+     */
+    SegmentEndpointCache(Consumer<StreamObserver<SegmentContainerMap>> watch, ScheduledExecutorService executor) {
+        this.watch = watch;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts watching the Controller for Segment Container map updates.
+     */
+    void start() {
+        if (closed.get()) {
+            return;
+        }
+        log.debug("Watching the Segment Container map.");
+        watch.accept(new MapObserver());
+    }
+
+    @Override
+    public void close() {
+        closed.set(true);
+        routes.set(null);
+    }
+
+    /**
+     * Gets the endpoint of the Segment Store that owns the given segment, if known.
+     *
+     * @param segment The segment.
+     * @return The endpoint of the Segment Store that owns the segment, or null if it is not known.
+     */
+    PravegaNodeUri getEndpointForSegment(Segment segment) {
+        Routes current = routes.get();
+        if (current == null) {
+            return null;
+        }
+        int containerId = current.mapper.getContainerId(NameUtils.getQualifiedStreamSegmentName(segment.getScope(),
+                segment.getStreamName(), segment.getSegmentId()));
+        return current.endpoints.get(containerId);
+    }
+
+    @VisibleForTesting
+    void update(SegmentContainerMap map) {
+        if (map.getContainerCount() <= 0) {
+            // The Segment Container map has not been initialized yet.
+            routes.set(null);
+            return;
+        }
+        Map<Integer, PravegaNodeUri> endpoints = new HashMap<>();
+        map.getHostContainersList().forEach(host -> {
+            PravegaNodeUri uri = ModelHelper.encode(host.getNodeUri());
+            host.getContainerIdsList().forEach(containerId -> endpoints.put(containerId, uri));
+        });
+        log.debug("Received Segment Container map with {} containers on {} hosts.", map.getContainerCount(),
+                map.getHostContainersCount());
+        routes.set(new Routes(new SegmentToContainerMapper(map.getContainerCount(), true), endpoints));
+    }
+
+    private void reconnect() {
+        routes.set(null);
+        if (!closed.get()) {
+            executor.schedule(this::start, RECONNECT_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Routes {
+        private final SegmentToContainerMapper mapper;
+        private final Map<Integer, PravegaNodeUri> endpoints;
+    }
+
+    private class MapObserver implements StreamObserver<SegmentContainerMap> {
+        @Override
+        public void onNext(SegmentContainerMap map) {
+            if (!closed.get()) {
+                update(map);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (Status.fromThrowable(t).getCode() == Status.Code.UNIMPLEMENTED) {
+                log.info("Controller does not support watching the Segment Container map; segment endpoints will not be cached.");
+                routes.set(null);
+                return;
+            }
+            if (!closed.get()) {
+                log.warn("Segment Container map watch failed; retrying in {}.", RECONNECT_DELAY, t);
+            }
+            reconnect();
+        }
+
+        @Override
+        public void onCompleted() {
+            log.debug("Segment Container map watch completed.");
+            reconnect();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.segment.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.client.stream.EventCompression;
+import io.pravega.client.stream.Serializer;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses and decompresses the payload of {@link WireCommandType#COMPRESSED_EVENT}s.
+ * <p>
+ * A compressed event uses the same framing as a regular {@link WireCommandType#EVENT} (type and length, followed by the
+ * payload), but with a different type code so that readers that do not support compression fail fast instead of handing
+ * compressed bytes to a {@link Serializer}. The payload has the following format:
+ * - Format Version (1 byte). Readers reject versions they do not know about.
+ * - Compression Algorithm (1 byte). See {@link EventCompression#getCode()}.
+ * - Uncompressed Length (4 bytes).
+ * - Compressed data.
+ */
+public final class EventCompressionCodec {
+    /**
+     * Events smaller than this are never compressed, since the savings would not make up for the cost of compressing them.
+     */
+    @VisibleForTesting
+    static final int MIN_COMPRESSION_LENGTH = 64;
+    private static final byte FORMAT_VERSION = 0;
+    private static final int HEADER_LENGTH = Byte.BYTES + Byte.BYTES + Integer.BYTES;
+    // Deflaters and Inflaters hold native memory and are expensive to create, so we reuse them.
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private EventCompressionCodec() {
+    }
+
+    /**
+     * Compresses the given event payload.
+     *
+     * @param data        The (uncompressed) event payload. Its position will not be changed.
+     * @param compression The {@link EventCompression} to apply.
+     * @return The payload of a {@link WireCommandType#COMPRESSED_EVENT} (including the header described above), or null
+     * if compression is disabled, or if compressing would not reduce the size of the event.
+     */
+    public static ByteBuffer compress(ByteBuffer data, EventCompression compression) {
+        int length = data.remaining();
+        if (compression == EventCompression.NONE || length < MIN_COMPRESSION_LENGTH) {
+            return null;
+        }
+
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        if (data.hasArray()) {
+            deflater.setInput(data.array(), data.arrayOffset() + data.position(), length);
+        } else {
+            byte[] input = new byte[length];
+            data.duplicate().get(input);
+            deflater.setInput(input);
+        }
+        deflater.finish();
+
+        // Only keep the result if it is smaller than the original.
+        byte[] output = new byte[length];
+        int outputLength = HEADER_LENGTH;
+        while (!deflater.finished() && outputLength < output.length) {
+            outputLength += deflater.deflate(output, outputLength, output.length - outputLength);
+        }
+
+        if (!deflater.finished() || outputLength >= length) {
+            return null;
+        }
+
+        ByteBuffer result = ByteBuffer.wrap(output, 0, outputLength);
+        result.put(FORMAT_VERSION).put(compression.getCode()).putInt(length);
+        result.position(0);
+        return result;
+    }
+
+    /**
+     * Decompresses the payload of a {@link WireCommandType#COMPRESSED_EVENT}.
+     *
+     * @param payload   The payload, as generated by {@link #compress}.
+     * @param allocator A function to allocate the buffer to decompress into.
+     * @return A ByteBuffer containing the uncompressed event, delimited by its position and limit.
+     * @throws InvalidMessageException If the payload is malformed, or it uses an unknown format version or algorithm.
+     */
+    public static ByteBuffer decompress(ByteBuffer payload, IntFunction<ByteBuffer> allocator) {
+        if (payload.remaining() < HEADER_LENGTH) {
+            throw new InvalidMessageException("Compressed event too short: " + payload.remaining());
+        }
+
+        payload = payload.duplicate();
+        byte version = payload.get();
+        if (version != FORMAT_VERSION) {
+            throw new InvalidMessageException("Unsupported compressed event format version: " + version);
+        }
+
+        EventCompression compression = EventCompression.fromCode(payload.get());
+        if (compression != EventCompression.DEFLATE) {
+            throw new InvalidMessageException("Unsupported event compression: " + compression);
+        }
+
+        int length = payload.getInt();
+        if (length < 0 || length > Serializer.MAX_EVENT_SIZE) {
+            throw new InvalidMessageException("Compressed event of invalid length: " + length);
+        }
+
+        ByteBuffer result = allocator.apply(length);
+        int startPosition = result.position();
+        byte[] output = result.hasArray() ? result.array() : new byte[length];
+        int outputOffset = result.hasArray() ? result.arrayOffset() + startPosition : 0;
+
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        if (payload.hasArray()) {
+            inflater.setInput(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        } else {
+            byte[] input = new byte[payload.remaining()];
+            payload.get(input);
+            inflater.setInput(input);
+        }
+
+        int outputLength = 0;
+        try {
+            while (outputLength < length) {
+                int count = inflater.inflate(output, outputOffset + outputLength, length - outputLength);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                outputLength += count;
+            }
+        } catch (DataFormatException ex) {
+            throw new InvalidMessageException("Unable to decompress event: " + ex.getMessage());
+        }
+
+        if (outputLength != length) {
+            throw new InvalidMessageException(String.format("Compressed event length mismatch. Expected %s, actual %s.", length, outputLength));
+        }
+
+        if (!result.hasArray()) {
+            result.put(output, 0, length);
+        }
+        result.limit(startPosition + length).position(startPosition);
+        return result;
+    }
+}
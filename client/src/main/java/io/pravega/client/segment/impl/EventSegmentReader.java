@@ -18,6 +18,7 @@ package io.pravega.client.segment.impl;
 import io.pravega.client.stream.EventStreamWriter;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
 
 /**
  * Defines an event reader for a single segment.
@@ -85,6 +86,24 @@ public interface EventSegmentReader extends AutoCloseable {
      * @throws SegmentTruncatedException If the segment has been truncated beyond the current offset and the data cannot be read.
      */
     public abstract ByteBuffer read(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException;
+
+    /**
+     * Same as {@link #read(long)}, but the bytes of the event are read into a buffer obtained from the given allocator,
+     * which is invoked with the length of the event. The returned ByteBuffer's position and limit delimit the event,
+     * which need not begin at position 0.
+     *
+     * @param firstByteTimeoutMillis The maximum length of time to block to get the first byte of the event.
+     * @param allocator              A function that, given a length, returns a ByteBuffer with at least that many bytes
+     *                               remaining, beginning at its current position.
+     * @return A ByteBuffer containing the serialized data that was written via
+     *         {@link EventStreamWriter#writeEvent(String, Object)}
+     * @throws EndOfSegmentException If no event could be read because the end of the segment was reached.
+     * @throws SegmentTruncatedException If the segment has been truncated beyond the current offset and the data cannot be read.
+     */
+    public default ByteBuffer read(long firstByteTimeoutMillis, IntFunction<ByteBuffer> allocator)
+            throws EndOfSegmentException, SegmentTruncatedException {
+        return read(firstByteTimeoutMillis);
+    }
     
     /**
      * Issues a request to asynchronously fill up the buffer. The goal is to prevent future {@link #read()} calls from blocking.
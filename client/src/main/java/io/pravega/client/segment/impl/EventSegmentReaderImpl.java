@@ -24,10 +24,11 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
 import javax.annotation.concurrent.GuardedBy;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,7 +45,13 @@ class EventSegmentReaderImpl implements EventSegmentReader {
      */
     static final long PARTIAL_DATA_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
 
-    @GuardedBy("$lock")
+    /**
+     * Held while blocking on the {@link SegmentInputStream}. This is a {@link ReentrantLock} (as opposed to a monitor)
+     * so that readers running on virtual threads do not pin their carrier threads while waiting for data.
+     */
+    @ToString.Exclude
+    private final ReentrantLock lock = new ReentrantLock();
+    @GuardedBy("lock")
     private final ByteBuffer headerReadingBuffer = ByteBuffer.allocate(WireCommands.TYPE_PLUS_LENGTH_SIZE);
     @Getter(value = AccessLevel.MODULE)
     private final SegmentInputStream in;
@@ -55,46 +62,66 @@ class EventSegmentReaderImpl implements EventSegmentReader {
     }
 
     @Override
-    @Synchronized
     public void setOffset(long offset, boolean resendRequest) {
-        in.setOffset(offset, resendRequest);
+        lock.lock();
+        try {
+            in.setOffset(offset, resendRequest);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    @Synchronized
     public long getOffset() {
-        return in.getOffset();
+        lock.lock();
+        try {
+            return in.getOffset();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * @see EventSegmentReader#read()
      */
     @Override
-    @Synchronized
     public ByteBuffer read(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException {
-        long originalOffset = in.getOffset();
-        long traceId = LoggerHelpers.traceEnter(log, "read", in.getSegmentId(), originalOffset, firstByteTimeoutMillis);
-        boolean success = false;
-        boolean timeout = false;
+        return read(firstByteTimeoutMillis, ByteBuffer::allocate);
+    }
+
+    /**
+     * @see EventSegmentReader#read(long, IntFunction)
+     */
+    @Override
+    public ByteBuffer read(long firstByteTimeoutMillis, IntFunction<ByteBuffer> allocator) throws EndOfSegmentException, SegmentTruncatedException {
+        lock.lock();
         try {
-            ByteBuffer result = readEvent(firstByteTimeoutMillis);
-            success = true;
-            return result;
-        } catch (TimeoutException e) {
-            timeout = true;
-            log.warn("Timeout observed while trying to read data from Segment store, the read request will be retransmitted");
-            return null;
-        } finally {
-            LoggerHelpers.traceLeave(log, "read", traceId, in.getSegmentId(), originalOffset, firstByteTimeoutMillis, success);
-            if (!success) {
-                // Reading failed, reset the offset to the original offset.
-                // The read request is retransmitted only in the case of a timeout.
-                in.setOffset(originalOffset, timeout);
+            long originalOffset = in.getOffset();
+            long traceId = LoggerHelpers.traceEnter(log, "read", in.getSegmentId(), originalOffset, firstByteTimeoutMillis);
+            boolean success = false;
+            boolean timeout = false;
+            try {
+                ByteBuffer result = readEvent(firstByteTimeoutMillis, allocator);
+                success = true;
+                return result;
+            } catch (TimeoutException e) {
+                timeout = true;
+                log.warn("Timeout observed while trying to read data from Segment store, the read request will be retransmitted");
+                return null;
+            } finally {
+                LoggerHelpers.traceLeave(log, "read", traceId, in.getSegmentId(), originalOffset, firstByteTimeoutMillis, success);
+                if (!success) {
+                    // Reading failed, reset the offset to the original offset.
+                    // The read request is retransmitted only in the case of a timeout.
+                    in.setOffset(originalOffset, timeout);
+                }
             }
+        } finally {
+            lock.unlock();
         }
     }
         
-    private ByteBuffer readEvent(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
+    private ByteBuffer readEvent(long firstByteTimeoutMillis, IntFunction<ByteBuffer> allocator) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
         headerReadingBuffer.clear();
         int read = in.read(headerReadingBuffer, firstByteTimeoutMillis);
         if (read == 0) {
@@ -107,20 +134,23 @@ class EventSegmentReaderImpl implements EventSegmentReader {
         headerReadingBuffer.flip();
         int type = headerReadingBuffer.getInt();
         int length = headerReadingBuffer.getInt();
-        if (type != WireCommandType.EVENT.getCode()) {
+        boolean compressed = type == WireCommandType.COMPRESSED_EVENT.getCode();
+        if (type != WireCommandType.EVENT.getCode() && !compressed) {
             throw new InvalidMessageException("Event was of wrong type: " + type);
         }
         if (length < 0) {
             throw new InvalidMessageException("Event of invalid length: " + length);
         }
-        ByteBuffer result = ByteBuffer.allocate(length);
+        ByteBuffer result = compressed ? ByteBuffer.allocate(length) : allocator.apply(length);
+        int startPosition = result.position();
+        result.limit(startPosition + length);
 
         readEventDataFromSegmentInputStream(result);
         while (result.hasRemaining()) {
             readEventDataFromSegmentInputStream(result);
         }
-        result.flip();
-        return result;
+        result.limit(result.position()).position(startPosition);
+        return compressed ? EventCompressionCodec.decompress(result, allocator) : result;
     }
 
     private void readEventDataFromSegmentInputStream(ByteBuffer result) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
@@ -133,22 +163,34 @@ class EventSegmentReaderImpl implements EventSegmentReader {
     }
 
     @Override
-    @Synchronized
     public CompletableFuture<?> fillBuffer() {
-        return in.fillBuffer();
+        lock.lock();
+        try {
+            return in.fillBuffer();
+        } finally {
+            lock.unlock();
+        }
     }
     
     @Override
-    @Synchronized
     public void close() {
-        in.close();
+        lock.lock();
+        try {
+            in.close();
+        } finally {
+            lock.unlock();
+        }
     }    
 
     @Override
-    @Synchronized
     public boolean isSegmentReady() {
-        int bytesInBuffer = in.bytesInBuffer();
-        return bytesInBuffer >= WireCommands.TYPE_PLUS_LENGTH_SIZE || bytesInBuffer < 0;
+        lock.lock();
+        try {
+            int bytesInBuffer = in.bytesInBuffer();
+            return bytesInBuffer >= WireCommands.TYPE_PLUS_LENGTH_SIZE || bytesInBuffer < 0;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
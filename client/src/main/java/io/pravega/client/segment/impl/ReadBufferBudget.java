@@ -0,0 +1,94 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.segment.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * A memory budget shared by the read buffers of all the {@link SegmentInputStreamImpl}s created by the same client
+ * factory (see {@link io.pravega.client.ClientConfig#getReadBufferBudgetBytes()}).
+ * <p>
+ * Every buffer is always allowed its initial (minimum) size, even if that exceeds the budget, so that a reader can
+ * always make progress. Growing a buffer beyond that is only possible while there is room left in the budget.
+ */
+public class ReadBufferBudget {
+    /**
+     * The maximum number of bytes that may be held by all the read buffers sharing this budget.
+     */
+    @Getter
+    private final long maxBytes;
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    public ReadBufferBudget(long maxBytes) {
+        Preconditions.checkArgument(maxBytes > 0, "maxBytes must be a positive number.");
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the number of bytes currently held by all the read buffers sharing this budget.
+     *
+     * @return The number of bytes in use.
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * Reserves the given number of bytes, regardless of whether this exceeds the budget.
+     *
+     * @param bytes The number of bytes to reserve.
+     */
+    void acquire(int bytes) {
+        Preconditions.checkArgument(bytes >= 0, "bytes must be a non-negative number.");
+        usedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Attempts to reserve the given number of bytes.
+     *
+     * @param bytes The number of bytes to reserve.
+     * @return True if the bytes were reserved, false if doing so would exceed the budget (in which case nothing is
+     * reserved).
+     */
+    boolean tryAcquire(int bytes) {
+        Preconditions.checkArgument(bytes >= 0, "bytes must be a non-negative number.");
+        long current;
+        do {
+            current = usedBytes.get();
+            if (current + bytes > maxBytes) {
+                return false;
+            }
+        } while (!usedBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+
+    /**
+     * Returns the given number of bytes to the budget.
+     *
+     * @param bytes The number of bytes to release.
+     */
+    void release(int bytes) {
+        Preconditions.checkArgument(bytes >= 0, "bytes must be a non-negative number.");
+        usedBytes.addAndGet(-bytes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReadBufferBudget[used=%s, max=%s]", getUsedBytes(), maxBytes);
+    }
+}
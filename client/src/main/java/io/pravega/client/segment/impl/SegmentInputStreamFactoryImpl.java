@@ -23,14 +23,31 @@ import io.pravega.client.security.auth.DelegationTokenProviderFactory;
 import io.pravega.common.MathHelpers;
 import io.pravega.shared.security.auth.AccessOperation;
 import java.util.concurrent.Semaphore;
-import lombok.RequiredArgsConstructor;
 
 @VisibleForTesting
-@RequiredArgsConstructor
 public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory {
 
     private final Controller controller;
     private final ConnectionPool cp;
+    private final ReadBufferBudget readBufferBudget;
+
+    public SegmentInputStreamFactoryImpl(Controller controller, ConnectionPool cp) {
+        this(controller, cp, null);
+    }
+
+    /**
+     * Creates a new instance of the SegmentInputStreamFactoryImpl class.
+     *
+     * @param controller       The Controller.
+     * @param cp               The Connection Pool.
+     * @param readBufferBudget The budget shared by the read buffers of all the event readers created by this factory. If
+     *                         null, every event reader uses a fixed-size buffer.
+     */
+    public SegmentInputStreamFactoryImpl(Controller controller, ConnectionPool cp, ReadBufferBudget readBufferBudget) {
+        this.controller = controller;
+        this.cp = cp;
+        this.readBufferBudget = readBufferBudget;
+    }
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment) {
@@ -63,7 +80,13 @@ public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory
         AsyncSegmentInputStreamImpl async = new AsyncSegmentInputStreamImpl(controller, cp, segment, tokenProvider, hasData);
         async.getConnection();                      //Sanity enforcement
         bufferSize = MathHelpers.minMax(bufferSize, SegmentInputStreamImpl.MIN_BUFFER_SIZE, SegmentInputStreamImpl.MAX_BUFFER_SIZE);
-        return getEventSegmentReader(async, startOffset, endOffset, bufferSize);
+        return getEventSegmentReader(async, startOffset, endOffset, bufferSize, readBufferBudget);
+    }
+
+    @VisibleForTesting
+    static EventSegmentReaderImpl getEventSegmentReader(AsyncSegmentInputStream async, long startOffset,
+                                                        long endOffset, int bufferSize, ReadBufferBudget budget) {
+        return new EventSegmentReaderImpl(new SegmentInputStreamImpl(async, startOffset, endOffset, bufferSize, budget));
     }
 
     @VisibleForTesting
@@ -15,6 +15,7 @@
  */
 package io.pravega.client.segment.impl;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
@@ -23,8 +24,10 @@ import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import javax.annotation.concurrent.GuardedBy;
-import lombok.Synchronized;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,6 +36,12 @@ import static io.pravega.client.segment.impl.EndOfSegmentException.ErrorType.END
 
 /**
  * Manages buffering and provides a synchronous to {@link AsyncSegmentInputStream}
+ * <p>
+ * If a {@link ReadBufferBudget} is provided, the buffer starts small and is resized based on the rate at which it is
+ * being consumed: it is doubled (up to {@link #MAX_BUFFER_SIZE}, and as long as the budget allows it) if it holds less
+ * than half a second worth of data at that rate, and halved if it holds a lot more than that. In this mode,
+ * data that has already been received is also moved into the buffer (and the next read request issued) as soon as
+ * there is room for it, rather than waiting for the buffer to be drained.
  * 
  * @see SegmentInputStream
  */
@@ -42,29 +51,62 @@ class SegmentInputStreamImpl implements SegmentInputStream {
     static final int MIN_BUFFER_SIZE = 1024;
     static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
     static final int MAX_BUFFER_SIZE = 10 * 1024 * 1024;
+    static final int ADAPTIVE_INITIAL_BUFFER_SIZE = 128 * 1024;
+    static final int ADAPTIVE_MIN_BUFFER_SIZE = 64 * 1024;
+    static final long RESIZE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BUFFERED_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
     private static final int DEFAULT_READ_LENGTH = 256 * 1024;
     private static final long UNBOUNDED_END_OFFSET = Long.MAX_VALUE;
 
     private final AsyncSegmentInputStream asyncInput;
-    private final int minReadLength;
-    @GuardedBy("$lock")
-    private final CircularBuffer buffer;
-    @GuardedBy("$lock")
+    @ToString.Exclude
+    private final ReadBufferBudget budget;
+    @ToString.Exclude
+    private final Supplier<Long> getNanos;
+    private final int minBufferSize;
+    /**
+     * Held while waiting for data from the {@link AsyncSegmentInputStream}. This is a {@link ReentrantLock} (as opposed
+     * to a monitor) so that readers running on virtual threads do not pin their carrier threads while waiting.
+     */
+    @ToString.Exclude
+    private final ReentrantLock lock = new ReentrantLock();
+    @GuardedBy("lock")
+    private CircularBuffer buffer;
+    @GuardedBy("lock")
+    private int minReadLength;
+    @GuardedBy("lock")
     private long offset;
-    @GuardedBy("$lock")
+    @GuardedBy("lock")
     private final long endOffset;
-    @GuardedBy("$lock")
+    @GuardedBy("lock")
     private boolean receivedEndOfSegment = false;
-    @GuardedBy("$lock")
+    @GuardedBy("lock")
     private boolean receivedTruncated = false;
-    @GuardedBy("$lock")
+    @GuardedBy("lock")
     private CompletableFuture<SegmentRead> outstandingRequest = null;
+    @GuardedBy("lock")
+    private long rateWindowStartNanos;
+    @GuardedBy("lock")
+    private long rateWindowBytes;
+    @GuardedBy("lock")
+    private boolean budgetReleased = false;
 
     SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset) {
         this(asyncInput, startOffset, UNBOUNDED_END_OFFSET, DEFAULT_BUFFER_SIZE);
     }
 
     SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset, long endOffset, int bufferSize) {
+        this(asyncInput, startOffset, endOffset, bufferSize, null);
+    }
+
+    SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset, long endOffset, int bufferSize,
+                           ReadBufferBudget budget) {
+        this(asyncInput, startOffset, endOffset, bufferSize, budget, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset, long endOffset, int bufferSize,
+                           ReadBufferBudget budget, Supplier<Long> getNanos) {
         Preconditions.checkArgument(startOffset >= 0);
         Preconditions.checkNotNull(asyncInput);
         Preconditions.checkNotNull(endOffset, "endOffset");
@@ -72,69 +114,150 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         this.asyncInput = asyncInput;
         this.offset = startOffset;
         this.endOffset = endOffset;
+        this.budget = budget;
+        this.getNanos = getNanos;
+        if (budget == null) {
+            this.minBufferSize = bufferSize;
+        } else {
+            this.minBufferSize = Math.min(bufferSize, ADAPTIVE_MIN_BUFFER_SIZE);
+            bufferSize = Math.min(bufferSize, ADAPTIVE_INITIAL_BUFFER_SIZE);
+            budget.acquire(bufferSize);
+        }
         // Reads should not be so large they cannot fit into the buffer.
         this.minReadLength = Math.min(DEFAULT_READ_LENGTH, bufferSize);
         this.buffer = new CircularBuffer(bufferSize);
+        this.rateWindowStartNanos = getNanos.get();
         issueRequestIfNeeded();
     }
 
     @Override
-    @Synchronized
     public void setOffset(long offset, boolean resendRequest) {
-        log.trace("SetOffset {}", offset);
-        Preconditions.checkArgument(offset >= 0);
-        Exceptions.checkNotClosed(asyncInput.isClosed(), this);
-        if (offset > this.offset) {
-            receivedTruncated = false;
-        }
-        if (offset != this.offset || resendRequest) {
-            if (outstandingRequest != null) {
-                log.debug("Cancelling the read request for segment {} at offset {}. The new read offset is {}", asyncInput.getSegmentId(), this.offset, offset);
-                cancelOutstandingRequest();
+        lock.lock();
+        try {
+            log.trace("SetOffset {}", offset);
+            Preconditions.checkArgument(offset >= 0);
+            Exceptions.checkNotClosed(asyncInput.isClosed(), this);
+            if (offset > this.offset) {
+                receivedTruncated = false;
+            }
+            if (offset != this.offset || resendRequest) {
+                if (outstandingRequest != null) {
+                    log.debug("Cancelling the read request for segment {} at offset {}. The new read offset is {}", asyncInput.getSegmentId(), this.offset, offset);
+                    cancelOutstandingRequest();
+                }
+                this.offset = offset;
+                buffer.clear();
+                receivedEndOfSegment = false;
             }
-            this.offset = offset;
-            buffer.clear();
-            receivedEndOfSegment = false;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
-    @Synchronized
     public long getOffset() {
-        return offset;
+        lock.lock();
+        try {
+            return offset;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * @see SegmentInputStream#read(ByteBuffer, long)
      */
     @Override
-    @Synchronized
     public int read(ByteBuffer toFill, long timeout) throws EndOfSegmentException, SegmentTruncatedException {
-        Exceptions.checkNotClosed(asyncInput.isClosed(), this);
-        if (this.offset >= this.endOffset) {
-            log.debug("All events up to the configured end offset:{} have been read", endOffset);
-            throw new EndOfSegmentException(END_OFFSET_REACHED);
+        lock.lock();
+        try {
+            Exceptions.checkNotClosed(asyncInput.isClosed(), this);
+            if (this.offset >= this.endOffset) {
+                log.debug("All events up to the configured end offset:{} have been read", endOffset);
+                throw new EndOfSegmentException(END_OFFSET_REACHED);
+            }
+            if (outstandingRequest == null) {
+                fillBuffer();
+            }
+            if (receivedTruncated) {
+                throw new SegmentTruncatedException();
+            }
+            while (buffer.dataAvailable() == 0) {
+                if (receivedEndOfSegment) {
+                    throw new EndOfSegmentException();
+                }
+                Futures.await(outstandingRequest, timeout);
+                if (!outstandingRequest.isDone()) {
+                    return 0;
+                }
+                handleRequest();
+            }
+        
+            int read = buffer.read(toFill);
+            offset += read;
+            if (budget != null) {
+                rateWindowBytes += read;
+                resizeIfNeeded();
+                readAhead();
+            }
+            return read;
+        } finally {
+            lock.unlock();
         }
-        if (outstandingRequest == null) {
-            fillBuffer();
+    }
+
+    /**
+     * Moves any data that has already been received into the room that has just been freed up in the buffer, which in
+     * turn issues the next read request (if needed) while the caller is processing the data it has just read.
+     */
+    @GuardedBy("lock")
+    private void readAhead() throws SegmentTruncatedException {
+        while (dataWaitingToGoInBuffer()) {
+            handleRequest();
         }
-        if (receivedTruncated) {
-            throw new SegmentTruncatedException();
+        issueRequestIfNeeded();
+    }
+
+    /**
+     * Grows or shrinks the buffer based on the rate at which it has been consumed since the last time this was evaluated.
+     * This is evaluated at most once every {@link #RESIZE_INTERVAL_NANOS}.
+     */
+    @GuardedBy("lock")
+    private void resizeIfNeeded() {
+        long now = getNanos.get();
+        long elapsed = now - rateWindowStartNanos;
+        if (elapsed < RESIZE_INTERVAL_NANOS) {
+            return;
         }
-        while (buffer.dataAvailable() == 0) {
-            if (receivedEndOfSegment) {
-                throw new EndOfSegmentException();
+        long targetSize = (long) ((double) rateWindowBytes * BUFFERED_TIME_NANOS / elapsed);
+        rateWindowStartNanos = now;
+        rateWindowBytes = 0;
+        int capacity = buffer.getCapacity();
+        if (targetSize > capacity && capacity < MAX_BUFFER_SIZE) {
+            int newCapacity = Math.min(MAX_BUFFER_SIZE, capacity * 2);
+            if (budget.tryAcquire(newCapacity - capacity)) {
+                resize(newCapacity);
+            } else {
+                log.trace("Not growing read buffer for segment {} as {} is exhausted", getSegmentId(), budget);
             }
-            Futures.await(outstandingRequest, timeout);
-            if (!outstandingRequest.isDone()) {
-                return 0;
+        } else if (targetSize < capacity / 4 && capacity > minBufferSize) {
+            int newCapacity = Math.max(minBufferSize, capacity / 2);
+            if (buffer.dataAvailable() <= newCapacity) {
+                resize(newCapacity);
+                budget.release(capacity - newCapacity);
             }
-            handleRequest();
         }
-        
-        int read = buffer.read(toFill);
-        offset += read;
-        return read;
+    }
+
+    @GuardedBy("lock")
+    private void resize(int newCapacity) {
+        log.debug("Resizing read buffer for segment {} from {} to {} bytes", getSegmentId(), buffer.getCapacity(), newCapacity);
+        ByteBuffer data = ByteBuffer.allocate(buffer.dataAvailable());
+        buffer.read(data);
+        data.flip();
+        buffer = new CircularBuffer(newCapacity);
+        buffer.fill(data);
+        minReadLength = Math.min(DEFAULT_READ_LENGTH, newCapacity);
     }
 
     private boolean dataWaitingToGoInBuffer() {
@@ -206,7 +329,7 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         return Math.toIntExact(Math.min(currentReadLength, numberOfBytesRemaining));
     }
 
-    @GuardedBy("$lock")
+    @GuardedBy("lock")
     private void cancelOutstandingRequest() {
         // We need to make sure that we release the ByteBuf held on to by WireCommands.SegmentRead.
         // We first attempt to cancel the request. If it has not already completed (and will complete successfully at one point),
@@ -226,48 +349,67 @@ class SegmentInputStreamImpl implements SegmentInputStream {
     }
 
     @Override
-    @Synchronized
     public void close() {
-        log.trace("Closing {}", this);
-        if (outstandingRequest != null) {
-            log.debug("Cancel outstanding read request for segment {}", asyncInput.getSegmentId());
-            cancelOutstandingRequest();
+        lock.lock();
+        try {
+            log.trace("Closing {}", this);
+            if (outstandingRequest != null) {
+                log.debug("Cancel outstanding read request for segment {}", asyncInput.getSegmentId());
+                cancelOutstandingRequest();
+            }
+            if (budget != null && !budgetReleased) {
+                budget.release(buffer.getCapacity());
+                budgetReleased = true;
+            }
+            asyncInput.close();
+        } finally {
+            lock.unlock();
         }
-        asyncInput.close();
     }
 
     @Override
-    @Synchronized
     public CompletableFuture<?> fillBuffer() {
-        log.trace("Filling buffer {}", this);
-        Exceptions.checkNotClosed(asyncInput.isClosed(), this);
+        lock.lock();
         try {
-            issueRequestIfNeeded();
-            while (dataWaitingToGoInBuffer()) {
-                handleRequest();
+            log.trace("Filling buffer {}", this);
+            Exceptions.checkNotClosed(asyncInput.isClosed(), this);
+            try {
+                if (budget != null) {
+                    resizeIfNeeded();
+                }
+                issueRequestIfNeeded();
+                while (dataWaitingToGoInBuffer()) {
+                    handleRequest();
+                }
+            } catch (SegmentTruncatedException e) {
+                log.warn("Encountered exception filling buffer", e);
+                return CompletableFuture.completedFuture(null);
             }
-        } catch (SegmentTruncatedException e) {
-            log.warn("Encountered exception filling buffer", e);
-            return CompletableFuture.completedFuture(null);
+            return outstandingRequest == null ? CompletableFuture.completedFuture(null) : outstandingRequest;
+        } finally {
+            lock.unlock();
         }
-        return outstandingRequest == null ? CompletableFuture.completedFuture(null) : outstandingRequest;
     }
     
     @Override
-    @Synchronized
     public int bytesInBuffer() {
-        int result = buffer.dataAvailable();
-        boolean atEnd = receivedEndOfSegment || receivedTruncated || (outstandingRequest != null && outstandingRequest.isCompletedExceptionally());
-        if (outstandingRequest != null && Futures.isSuccessful(outstandingRequest)) {
-            SegmentRead request = outstandingRequest.join();
-            result += request.getData().readableBytes();
-            atEnd |= request.isEndOfSegment();
-        }
-        if (result <= 0 && atEnd) {
-           result = -1;
+        lock.lock();
+        try {
+            int result = buffer.dataAvailable();
+            boolean atEnd = receivedEndOfSegment || receivedTruncated || (outstandingRequest != null && outstandingRequest.isCompletedExceptionally());
+            if (outstandingRequest != null && Futures.isSuccessful(outstandingRequest)) {
+                SegmentRead request = outstandingRequest.join();
+                result += request.getData().readableBytes();
+                atEnd |= request.isEndOfSegment();
+            }
+            if (result <= 0 && atEnd) {
+               result = -1;
+            }
+            log.trace("bytesInBuffer {} on segment {} status is {}", result, getSegmentId(), this);        
+            return result;
+        } finally {
+            lock.unlock();
         }
-        log.trace("bytesInBuffer {} on segment {} status is {}", result, getSegmentId(), this);        
-        return result;
     }
 
     @Override
@@ -275,9 +417,13 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         return asyncInput.getSegmentId();
     }
     
-    @Synchronized
     int getBufferSize() {
-        return buffer.getCapacity();
+        lock.lock();
+        try {
+            return buffer.getCapacity();
+        } finally {
+            lock.unlock();
+        }
     }
 
 }
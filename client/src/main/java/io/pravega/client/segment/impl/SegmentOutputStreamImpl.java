@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -93,7 +94,7 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
     private final State state = new State();
     private final ResponseProcessor responseProcessor = new ResponseProcessor();
     private final RetryWithBackoff retrySchedule;
-    private final Object writeOrderLock = new Object();
+    private final ReentrantLock writeOrderLock = new ReentrantLock();
     private final DelegationTokenProvider tokenProvider;
     @VisibleForTesting
     @Getter
@@ -106,10 +107,12 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
      * Note: In a failure scenario SegmentOutputStreamImpl.State#failConnection can be invoked before
      * SegmentOutputStreamImpl.State#newConnection is invoked as we do not want connection setup and teardown to occur
      * within the scope of the lock.
+     * The lock is a {@link ReentrantLock} rather than a monitor so that virtual threads do not pin their carrier
+     * threads while contending for it.
      */
     @ToString(of = {"closed", "exception", "eventNumber"})
     private final class State {
-        private final Object lock = new Object();
+        private final ReentrantLock lock = new ReentrantLock();
         @GuardedBy("lock")
         private boolean closed = false;
         @GuardedBy("lock")
@@ -136,33 +139,48 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
         }
 
         private boolean isAlreadySealed() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return connection == null && exception != null && exception instanceof SegmentSealedException;
+            } finally {
+                lock.unlock();
             }
         }
 
         private int getNumInflight() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return inflight.size();
+            } finally {
+                lock.unlock();
             }
         }
 
         private long getLastSegmentLength() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return segmentLength;
+            } finally {
+                lock.unlock();
             }
         }
 
         private void noteSegmentLength(long newLength) {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 segmentLength = Math.max(segmentLength, newLength);
+            } finally {
+                lock.unlock();
             }
         }
 
         private void connectionSetupComplete(ClientConnection connection) {
             CompletableFuture<Void> toComplete;
-            synchronized (lock) {
+            lock.lock();
+            try {
                 toComplete = connectionSetupCompleted;
+            } finally {
+                lock.unlock();
             }
             if (toComplete != null) {
                 toComplete.complete(null);
@@ -174,8 +192,11 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
          * @return The current connection (May be null if not connected)
          */
         private ClientConnection getConnection() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return connection;
+            } finally {
+                lock.unlock();
             }
         }
 
@@ -185,10 +206,13 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
          */
         private CompletableFuture<Void> newConnection(ClientConnection newConnection) {
             CompletableFuture<Void> result = new CompletableFuture<Void>();
-            synchronized (lock) {
+            lock.lock();
+            try {
                 connectionSetupCompleted = result;
                 connection = newConnection;
                 exception = null;
+            } finally {
+                lock.unlock();
             }
             return result;
         }
@@ -200,7 +224,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
             ClientConnection oldConnection = null;
             CompletableFuture<Void> oldConnectionSetupCompleted = null;
             boolean failSetupConnection = false;
-            synchronized (lock) {
+            lock.lock();
+            try {
                 if (connection != null ) {
                     if (connectionSetupCompleted.isDone()) {
                         failSetupConnection = true;
@@ -223,6 +248,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                     String message = throwable.getMessage() == null ? throwable.getClass().toString() : throwable.getMessage();
                     log.warn("Connection for segment {} on writer {} failed due to: {}", segmentName, writerId, message);
                 }
+            } finally {
+                lock.unlock();
             }
             if (throwable instanceof SegmentSealedException || throwable instanceof NoSuchSegmentException
                     || throwable instanceof InvalidTokenException || throwable instanceof RetriesExhaustedException) {
@@ -243,7 +270,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
          * @return The EventNumber for the event.
          */
         private long addToInflight(PendingEvent event) {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 eventNumber += event.getEventCount();
                 log.trace("Adding event {} to inflight on writer {}", eventNumber, writerId);
                 inflight.addLast(new SimpleImmutableEntry<>(eventNumber, event));
@@ -251,6 +279,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                     waitingInflight.reset();
                 }
                 return eventNumber;
+            } finally {
+                lock.unlock();
             }
         }
 
@@ -258,7 +288,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
          * Remove all events with event numbers below the provided level from inflight and return them.
          */
         private List<PendingEvent> removeInflightBelow(long ackLevel) {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 List<PendingEvent> result = new ArrayList<>();
                 Entry<Long, PendingEvent> entry = inflight.peekFirst();
                 while (entry != null && entry.getKey() <= ackLevel) {
@@ -268,60 +299,86 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                 }
                 releaseIfEmptyInflight(); // release waitingInflight under the same re-entrant lock.
                 return result;
+            } finally {
+                lock.unlock();
             }
         }
 
         private Long getLowestInflight() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 Entry<Long, PendingEvent> entry = inflight.peekFirst();
                 return entry == null ? null : entry.getKey();
+            } finally {
+                lock.unlock();
             }
         }
 
         private void releaseIfEmptyInflight() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 if (inflight.isEmpty()) {
                     log.trace("Inflight empty for writer {}", writerId);
                     waitingInflight.release();
                 }
+            } finally {
+                lock.unlock();
             }
         }
 
         private List<Map.Entry<Long, PendingEvent>> getAllInflight() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return new ArrayList<>(inflight);
+            } finally {
+                lock.unlock();
             }
         }
 
         private List<PendingEvent> getAllInflightEvents() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return inflight.stream().map(entry -> entry.getValue()).collect(Collectors.toList());
+            } finally {
+                lock.unlock();
             }
         }
 
         private List<PendingEvent> getAllInflightEventsAndClear() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 List<PendingEvent> inflightEvents = getAllInflightEvents();
                 inflight.clear();
                 return inflightEvents;
+            } finally {
+                lock.unlock();
             }
         }
 
         private boolean isClosed() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return closed;
+            } finally {
+                lock.unlock();
             }
         }
 
         private void setClosed(boolean closed) {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 this.closed = closed;
+            } finally {
+                lock.unlock();
             }
         }
 
         private Throwable getException() {
-            synchronized (lock) {
+            lock.lock();
+            try {
                 return exception;
+            } finally {
+                lock.unlock();
             }
         }
     }
@@ -488,7 +545,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
     public void write(PendingEvent event) {
         //State is set to sealed during a Transaction abort and the segment writer should not throw an {@link IllegalStateException} in such a case.
         checkState(!state.isAlreadySealed() || NameUtils.isTransactionSegment(segmentName), "Segment: %s is already sealed", segmentName);
-        synchronized (writeOrderLock) {
+        writeOrderLock.lock();
+        try {
             ClientConnection connection;
             try {
                 // if connection is null getConnection() establishes a connection and retransmits all events in inflight
@@ -512,6 +570,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                 log.warn("Failed writing event through writer " + writerId + " due to: ", e);
                 reconnect(); // As the message is inflight, this will perform the retransmission.
             }
+        } finally {
+            writeOrderLock.unlock();
         }
     }
 
@@ -703,9 +763,12 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
         // close connection and update the exception to SegmentSealed, this ensures future writes receive a
         // SegmentSealedException.
         log.debug("GetUnackedEventsOnSeal called on {}", writerId);
-        synchronized (writeOrderLock) {   
+        writeOrderLock.lock();
+        try {
             state.failConnection(new SegmentSealedException(this.segmentName));
             return Collections.unmodifiableList(state.getAllInflightEvents());
+        } finally {
+            writeOrderLock.unlock();
         }
     }
 
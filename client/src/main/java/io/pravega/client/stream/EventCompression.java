@@ -0,0 +1,58 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream;
+
+import com.google.common.annotations.Beta;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Compression algorithms that an {@link EventStreamWriter} may apply to events (see {@link EventWriterConfig#getCompression()}).
+ * Readers detect and decompress compressed events transparently, regardless of their own configuration.
+ */
+@Beta
+@RequiredArgsConstructor
+public enum EventCompression {
+    /**
+     * Events are not compressed.
+     */
+    NONE((byte) 0),
+    /**
+     * Events are compressed using the DEFLATE algorithm (as implemented by {@link java.util.zip.Deflater}), tuned for speed.
+     */
+    DEFLATE((byte) 1);
+
+    /**
+     * The code used to identify this algorithm in the header of a compressed event.
+     */
+    @Getter
+    private final byte code;
+
+    /**
+     * Gets the {@link EventCompression} with the given code.
+     *
+     * @param code The code.
+     * @return The {@link EventCompression} with the given code, or null if no such {@link EventCompression} exists.
+     */
+    public static EventCompression fromCode(byte code) {
+        for (EventCompression c : values()) {
+            if (c.code == code) {
+                return c;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+
+/**
+ * A batch of events read by {@link EventStreamReader#readNextEvents(int, long)}.
+ * <p>
+ * The serialized form of the events in a batch may be held in buffers that are pooled by the reader. If the
+ * {@link Serializer} used by the reader returns objects that reference the buffer passed to
+ * {@link Serializer#deserialize} (such as {@link io.pravega.client.stream.impl.ByteBufferSerializer} does), those
+ * objects are only valid until this batch is closed. Batches should be closed as soon as their events have been
+ * processed so that the buffers can be reused.
+ *
+ * @param <T> The type of the events.
+ */
+@Beta
+public interface EventReadBatch<T> extends AutoCloseable {
+    /**
+     * Gets the events in this batch, in the order in which they were read. The batch always contains at least one
+     * {@link EventRead}. If there are no events to return (for example because the timeout expired or a checkpoint
+     * has been reached), the batch contains exactly one {@link EventRead} with a null {@link EventRead#getEvent()}, with
+     * the same meaning as if it had been returned by {@link EventStreamReader#readNextEvent(long)}. A checkpoint or end
+     * of stream marker is always the only element of its batch.
+     *
+     * @return The events in this batch.
+     */
+    List<EventRead<T>> getEvents();
+
+    /**
+     * Releases any resources associated with this batch. None of the events in this batch (nor any buffers they may
+     * reference) may be used after this method has been invoked.
+     */
+    @Override
+    default void close() {
+        // Nothing to release by default.
+    }
+}
@@ -15,7 +15,9 @@
  */
 package io.pravega.client.stream;
 
+import com.google.common.annotations.Beta;
 import io.pravega.client.segment.impl.NoSuchEventException;
+import java.util.Collections;
 
 /**
  * A reader for a stream.
@@ -60,6 +62,31 @@ public interface EventStreamReader<T> extends AutoCloseable {
      */
     EventRead<T> readNextEvent(long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException;
 
+    /**
+     * Gets up to maxEvents next events in the stream. This behaves like {@link #readNextEvent(long)} for the first event
+     * (including blocking for up to timeoutMillis if no events are available), after which it returns as many of the
+     * events that are available without blocking, up to maxEvents.
+     * <p>
+     * This is meant for high-throughput readers: the cost of coordinating with the reader group and of allocating
+     * buffers is incurred once per batch rather than once per event. The returned {@link EventReadBatch} must be closed
+     * once its events have been processed. See {@link EventReadBatch} for details.
+     *
+     * @param maxEvents     The maximum number of events to return. Must be a positive number.
+     * @param timeoutMillis An upper bound on how long the call may block before returning an empty event.
+     * @return An {@link EventReadBatch} containing the next events in the stream.
+     * @throws ReinitializationRequiredException Is thrown in the event that
+     *             {@link ReaderGroup#resetReaderGroup(ReaderGroupConfig)} was called
+     *             which requires readers to be reinitialized.
+     * @throws TruncatedDataException if the data that would be read next has been truncated away
+     *             and can no longer be read. (If following this readNextEvents is called again it
+     *             will resume from the next available event.)
+     */
+    @Beta
+    default EventReadBatch<T> readNextEvents(int maxEvents, long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException {
+        final EventRead<T> event = readNextEvent(timeoutMillis);
+        return () -> Collections.singletonList(event);
+    }
+
     /**
      * Gets the configuration that this reader was created with.
      *
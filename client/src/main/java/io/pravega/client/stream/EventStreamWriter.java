@@ -15,10 +15,13 @@
  */
 package io.pravega.client.stream;
 
+import com.google.common.annotations.Beta;
 import io.pravega.client.stream.EventWriterConfig.EventWriterConfigBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * A writer can write events to a stream.
@@ -99,6 +102,34 @@ public interface EventStreamWriter<Type> extends AutoCloseable {
      */
     CompletableFuture<Void> writeEvents(String routingKey, List<Type> events);
 
+    /**
+     * Write a batch of events, each with its own routing key, to the stream. This is intended for applications that
+     * produce large volumes of small events (such as many devices each using their own routing key), where tracking
+     * a future per event is too costly.
+     *
+     * Unlike {@link #writeEvents(String, List)}, the batch as a whole is not written atomically: events are grouped
+     * by the segment their routing key maps to, and each group is written as a unit. Events written with the same
+     * routing key will still be read by readers in exactly the same order they appear in the list (and relative to
+     * events written by other calls on this writer). The maximum size of each serialized event is
+     * {@link Serializer#MAX_EVENT_SIZE}; large events are not supported by this method.
+     *
+     * The same retry semantics as {@link #writeEvent(String, Object)} apply.
+     *
+     * @param events             The batch of events to be written to the stream (Null is disallowed)
+     * @param routingKeyFunction A function that returns the (non-null) routing key for each event.
+     * @return A completableFuture that will complete when all the events have been durably stored on the configured
+     *         number of replicas, and are available for readers to see. This future may complete exceptionally
+     *         if this cannot happen, however these exceptions are not transient failures.
+     */
+    @Beta
+    default CompletableFuture<Void> writeEvents(List<Type> events, Function<? super Type, String> routingKeyFunction) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(events.size());
+        for (Type event : events) {
+            futures.add(writeEvent(routingKeyFunction.apply(event), event));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
     /**
      * Notes a time that can be seen by readers which read from this stream by
      * {@link EventStreamReader#getCurrentTimeWindow(Stream)}. The semantics or meaning of the timestamp
@@ -119,6 +119,17 @@ public class EventWriterConfig implements Serializable {
      */
     private final boolean enableLargeEvents;
 
+    /**
+     * The {@link EventCompression} to apply to events before writing them. Compression is applied to each event
+     * individually and only when it reduces the size of the event. Compressed events are transparently decompressed by
+     * {@link EventStreamReader}s; readers running versions that do not support compression will fail to read them.
+     * Compression does not apply to large events (see {@link #isEnableLargeEvents()}).
+     *
+     * @param compression The {@link EventCompression} to apply.
+     * @return The {@link EventCompression} to apply.
+     */
+    private final EventCompression compression;
+
     public static final class EventWriterConfigBuilder implements ObjectBuilder<EventWriterConfig> {
         private static final long MIN_TRANSACTION_TIMEOUT_TIME_MILLIS = 10000;
         private int initialBackoffMillis = 1;
@@ -130,6 +141,7 @@ public class EventWriterConfig implements Serializable {
         // connection pooling for event writers is disabled by default.
         private boolean enableConnectionPooling = false;
         private boolean enableLargeEvents = false;
+        private EventCompression compression = EventCompression.NONE;
 
         @Override
         public EventWriterConfig build() {
@@ -138,11 +150,13 @@ public class EventWriterConfig implements Serializable {
             Preconditions.checkArgument(backoffMultiple >= 0, "Backoff multiple must be positive numbers");
             Preconditions.checkArgument(maxBackoffMillis >= 0, "Backoff times must be positive numbers");
             Preconditions.checkArgument(retryAttempts >= 0, "Retry attempts must be a positive number");
+            Preconditions.checkNotNull(compression, "compression");
             return new EventWriterConfig(initialBackoffMillis, maxBackoffMillis, retryAttempts, backoffMultiple,
                                          enableConnectionPooling,
                                          transactionTimeoutTime,
                                          automaticallyNoteTime,
-                                         enableLargeEvents);
+                                         enableLargeEvents,
+                                         compression);
         }
     }
 
@@ -160,7 +174,8 @@ public class EventWriterConfig implements Serializable {
 
         @Override
         protected void declareVersions() {
-            version(0).revision(0, this::write00, this::read00);
+            version(0).revision(0, this::write00, this::read00)
+                      .revision(1, this::write01, this::read01);
         }
 
         private void read00(RevisionDataInput revisionDataInput, EventWriterConfigBuilder builder) throws IOException {
@@ -184,6 +199,19 @@ public class EventWriterConfig implements Serializable {
             revisionDataOutput.writeBoolean(object.automaticallyNoteTime);
             revisionDataOutput.writeBoolean(object.enableLargeEvents);
         }
+
+        private void read01(RevisionDataInput revisionDataInput, EventWriterConfigBuilder builder) throws IOException {
+            byte code = revisionDataInput.readByte();
+            EventCompression compression = EventCompression.fromCode(code);
+            if (compression == null) {
+                throw new IOException("Unknown EventCompression code: " + code);
+            }
+            builder.compression(compression);
+        }
+
+        private void write01(EventWriterConfig object, RevisionDataOutput revisionDataOutput) throws IOException {
+            revisionDataOutput.writeByte(object.getCompression().getCode());
+        }
     }
 
     @SneakyThrows(IOException.class)
@@ -15,6 +15,7 @@
  */
 package io.pravega.client.stream;
 
+import com.google.common.annotations.Beta;
 import java.io.Serializable;
 
 import lombok.Builder;
@@ -28,11 +29,38 @@ public class ReaderConfig implements Serializable {
     private final long initialAllocationDelay;
     private final boolean disableTimeWindows;
     private final int bufferSize;
+
+    /**
+     * The maximum number of events that the reader may read ahead of the application across all the segments it owns.
+     * When set, the reader continuously fetches and decodes events from all of its segments concurrently (each in order)
+     * in the background, which speeds up catching up on a backlog spread across many segments. A value of 0 (default)
+     * disables this, in which case segments are only read from when the application asks for the next event.
+     *
+     * @param prefetchQueueSize The maximum number of events to read ahead.
+     * @return The maximum number of events to read ahead.
+     */
+    @Beta
+    private final int prefetchQueueSize;
+
+    /**
+     * Whether the reader balances segments with the other readers in its group by the rate at which data is written to
+     * and read from them, rather than by the number of segments each reader owns. When enabled, the reader periodically
+     * reports the consumption rate and backlog of each of its segments into the reader group's state, and readers with
+     * more than their share of the group's load release segments to the others. This helps when the data rates of a
+     * stream's segments are skewed. Readers that do not enable this (default) still balance by segment count.
+     *
+     * @param balanceByDataRate Whether to balance segments by data rate.
+     * @return Whether to balance segments by data rate.
+     */
+    @Beta
+    private final boolean balanceByDataRate;
     
     public static class ReaderConfigBuilder {
         private long initialAllocationDelay = 0;
         private boolean disableTimeWindows = false;
         private int bufferSize = 1024 * 1024;
+        private int prefetchQueueSize = 0;
+        private boolean balanceByDataRate = false;
     }
     
 }
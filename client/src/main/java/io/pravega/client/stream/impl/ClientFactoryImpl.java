@@ -34,6 +34,7 @@ import io.pravega.client.segment.impl.ConditionalOutputStream;
 import io.pravega.client.segment.impl.ConditionalOutputStreamFactory;
 import io.pravega.client.segment.impl.ConditionalOutputStreamFactoryImpl;
 import io.pravega.client.segment.impl.EventSegmentReader;
+import io.pravega.client.segment.impl.ReadBufferBudget;
 import io.pravega.client.segment.impl.Segment;
 import io.pravega.client.segment.impl.SegmentInputStreamFactory;
 import io.pravega.client.segment.impl.SegmentInputStreamFactoryImpl;
@@ -81,8 +82,10 @@ public final class ClientFactoryImpl extends AbstractClientFactoryImpl implement
     private final SegmentOutputStreamFactory outFactory;
     private final ConditionalOutputStreamFactory condFactory;
     private final SegmentMetadataClientFactory metaFactory;
+    private final boolean virtualThreads;
 
     private final ScheduledExecutorService watermarkReaderThreads = newScheduledThreadPool(getThreadPoolSize(), "WatermarkReader");
+    private final ScheduledExecutorService prefetchThreads = newScheduledThreadPool(getThreadPoolSize(), "SegmentPrefetch");
 
     /**
      * Creates a new instance of ClientFactory class.
@@ -94,10 +97,11 @@ public final class ClientFactoryImpl extends AbstractClientFactoryImpl implement
      */
     public ClientFactoryImpl(String scope, Controller controller, ClientConfig config) {
         super(scope, controller, new ConnectionPoolImpl(config, new SocketConnectionFactoryImpl(config)));
-        this.inFactory = new SegmentInputStreamFactoryImpl(controller, connectionPool);
+        this.inFactory = new SegmentInputStreamFactoryImpl(controller, connectionPool, createReadBufferBudget(connectionPool));
         this.outFactory = new SegmentOutputStreamFactoryImpl(controller, connectionPool);
         this.condFactory = new ConditionalOutputStreamFactoryImpl(controller, connectionPool);
         this.metaFactory = new SegmentMetadataClientFactoryImpl(controller, connectionPool);
+        this.virtualThreads = useVirtualThreads(connectionPool);
     }
 
     /**
@@ -138,10 +142,11 @@ public final class ClientFactoryImpl extends AbstractClientFactoryImpl implement
     @VisibleForTesting
     public ClientFactoryImpl(String scope, Controller controller, ConnectionPool pool) {
         super(scope, controller, pool);
-        this.inFactory = new SegmentInputStreamFactoryImpl(controller, connectionPool);
+        this.inFactory = new SegmentInputStreamFactoryImpl(controller, connectionPool, createReadBufferBudget(connectionPool));
         this.outFactory = new SegmentOutputStreamFactoryImpl(controller, connectionPool);
         this.condFactory = new ConditionalOutputStreamFactoryImpl(controller, connectionPool);
         this.metaFactory = new SegmentMetadataClientFactoryImpl(controller, connectionPool);
+        this.virtualThreads = useVirtualThreads(connectionPool);
     }
 
     @VisibleForTesting
@@ -157,6 +162,7 @@ public final class ClientFactoryImpl extends AbstractClientFactoryImpl implement
         this.outFactory = outFactory;
         this.condFactory = condFactory;
         this.metaFactory = metaFactory;
+        this.virtualThreads = useVirtualThreads(connectionPool);
     }
 
     @Override
@@ -170,8 +176,9 @@ public final class ClientFactoryImpl extends AbstractClientFactoryImpl implement
         NameUtils.validateWriterId(writerId);
         log.info("Creating writer: {} for stream: {} with configuration: {}", writerId, streamName, config);
         Stream stream = new StreamImpl(scope, streamName);
-        ExecutorService retransmitPool = ExecutorServiceHelpers.getShrinkingExecutor(1, 100,
-                "ScalingRetransmission-" + stream.getScopedName());
+        ExecutorService retransmitPool = virtualThreads
+                ? ExecutorServiceHelpers.newVirtualThreadPerTaskExecutor("ScalingRetransmission-" + stream.getScopedName())
+                : ExecutorServiceHelpers.getShrinkingExecutor(1, 100, "ScalingRetransmission-" + stream.getScopedName());
         try {
             return new EventStreamWriterImpl<T>(stream, writerId, controller, outFactory, s, config, retransmitPool, connectionPool.getInternalExecutor(), connectionPool);
         } catch (Throwable ex) {
@@ -226,8 +233,9 @@ public final class ClientFactoryImpl extends AbstractClientFactoryImpl implement
                 watermarkReaders.put(stream, new WatermarkReaderImpl(stream, client, watermarkReaderThreads));
             }
         }
+        // Reading ahead never blocks, so all the readers created by this factory share the same threads.
         return new EventStreamReaderImpl<T>(inFactory, metaFactory, s, stateManager, new Orderer(),
-                milliTime, config, watermarkReaders.build(), controller);
+                milliTime, config, watermarkReaders.build(), controller, prefetchThreads);
     }
     
     @Override
@@ -272,10 +280,28 @@ public final class ClientFactoryImpl extends AbstractClientFactoryImpl implement
     public void close() {
         // wait for default timeout duration before forcibly terminating the watermarkReader threads.
         ExecutorServiceHelpers.shutdown(watermarkReaderThreads);
+        ExecutorServiceHelpers.shutdown(prefetchThreads);
         connectionPool.close();
         controller.close();
     }
 
+    private static boolean useVirtualThreads(ConnectionPool connectionPool) {
+        // If the JVM does not support virtual threads, every pool falls back to the platform thread executor it always used.
+        return ExecutorServiceHelpers.isVirtualThreadSupported()
+                && connectionPool instanceof ConnectionPoolImpl
+                && ((ConnectionPoolImpl) connectionPool).getClientConfig().isEnableVirtualThreads();
+    }
+
+    private static ReadBufferBudget createReadBufferBudget(ConnectionPool connectionPool) {
+        if (connectionPool instanceof ConnectionPoolImpl) {
+            long budget = ((ConnectionPoolImpl) connectionPool).getClientConfig().getReadBufferBudgetBytes();
+            if (budget > 0) {
+                return new ReadBufferBudget(budget);
+            }
+        }
+        return null;
+    }
+
     private int getThreadPoolSize() {
         String configuredThreads = System.getProperty("pravega.client.internal.threadpool.size", null);
         if (configuredThreads != null) {
@@ -0,0 +1,159 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * A pool of fixed-size heap buffers (chunks) that event payloads can be read into, so that reading a batch of events does
+ * not require a new allocation per event. Each event is handed out as a view over a region of a chunk.
+ * <p>
+ * Chunks are leased in {@link Allocation}s (one per batch) and returned to the pool when the {@link Allocation} is closed.
+ * Events that are larger than a chunk are allocated separately and are never pooled.
+ */
+@ThreadSafe
+class EventBufferPool {
+    //region Members
+
+    static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    static final int DEFAULT_MAX_POOLED_CHUNKS = 8;
+    @Getter
+    private final int chunkSize;
+    private final int maxPooledChunks;
+    private final ConcurrentLinkedQueue<ByteBuffer> available;
+    private final AtomicInteger availableCount;
+
+    //endregion
+
+    //region Constructor
+
+    EventBufferPool() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED_CHUNKS);
+    }
+
+    /**
+     * Creates a new instance of the {@link EventBufferPool} class.
+     *
+     * @param chunkSize       The size of each pooled chunk.
+     * @param maxPooledChunks The maximum number of unused chunks to retain. Any chunks released beyond this number are
+     *                        left to the garbage collector.
+     */
+    @VisibleForTesting
+    EventBufferPool(int chunkSize, int maxPooledChunks) {
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be a positive number.");
+        Preconditions.checkArgument(maxPooledChunks >= 0, "maxPooledChunks must be a non-negative number.");
+        this.chunkSize = chunkSize;
+        this.maxPooledChunks = maxPooledChunks;
+        this.available = new ConcurrentLinkedQueue<>();
+        this.availableCount = new AtomicInteger(0);
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Creates a new {@link Allocation} that leases chunks from this pool.
+     *
+     * @return A new {@link Allocation}. It must be closed once the buffers it handed out are no longer in use.
+     */
+    Allocation newAllocation() {
+        return new Allocation();
+    }
+
+    /**
+     * Gets the number of unused chunks currently retained by this pool.
+     *
+     * @return The number of unused chunks.
+     */
+    @VisibleForTesting
+    int getAvailableChunkCount() {
+        return this.availableCount.get();
+    }
+
+    private ByteBuffer take() {
+        ByteBuffer chunk = this.available.poll();
+        if (chunk == null) {
+            return ByteBuffer.allocate(this.chunkSize);
+        }
+
+        this.availableCount.decrementAndGet();
+        chunk.clear();
+        return chunk;
+    }
+
+    private void release(ByteBuffer chunk) {
+        if (this.availableCount.incrementAndGet() <= this.maxPooledChunks) {
+            this.available.add(chunk);
+        } else {
+            this.availableCount.decrementAndGet();
+        }
+    }
+
+    //endregion
+
+    //region Allocation
+
+    /**
+     * Hands out buffers for event payloads by carving them out of chunks leased from the {@link EventBufferPool}.
+     * The returned buffers share their backing array with the chunk they were carved out of (their position marks the
+     * beginning of the event), so they must not be used after this {@link Allocation} has been closed.
+     */
+    @NotThreadSafe
+    class Allocation implements IntFunction<ByteBuffer>, AutoCloseable {
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private ByteBuffer current;
+
+        @Override
+        public ByteBuffer apply(int length) {
+            if (length > chunkSize) {
+                // Too big to be pooled.
+                return ByteBuffer.allocate(length);
+            }
+
+            if (this.current == null || this.current.remaining() < length) {
+                this.current = take();
+                this.chunks.add(this.current);
+            }
+
+            ByteBuffer result = ByteBuffer.wrap(this.current.array(), this.current.position(), length);
+            this.current.position(this.current.position() + length);
+            return result;
+        }
+
+        /**
+         * Returns all leased chunks to the {@link EventBufferPool}.
+         */
+        @Override
+        public void close() {
+            this.chunks.forEach(EventBufferPool.this::release);
+            this.chunks.clear();
+            this.current = null;
+        }
+    }
+
+    //endregion
+}
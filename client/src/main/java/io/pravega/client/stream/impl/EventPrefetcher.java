@@ -0,0 +1,178 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.client.segment.impl.EventSegmentReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads events ahead of the application, concurrently, from all the segments owned by an {@link EventStreamReaderImpl}
+ * (see {@link io.pravega.client.stream.ReaderConfig#getPrefetchQueueSize()}).
+ * <p>
+ * Each segment is read in order by its own {@link PrefetchingEventSegmentReader}, which queues the events it reads until
+ * they are handed to the application. The total number of queued events across all segments is bounded: a segment
+ * that cannot reserve room for one more event stops reading ahead and is resumed once the application has consumed
+ * events (from any segment).
+ */
+@Slf4j
+class EventPrefetcher implements AutoCloseable {
+    private final ExecutorService executor;
+    private final Semaphore segmentsWithData;
+    private final ReentrantLock lock = new ReentrantLock();
+    @GuardedBy("lock")
+    private int availableEvents;
+    @GuardedBy("lock")
+    private final Set<PrefetchingEventSegmentReader> waiting = new LinkedHashSet<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * Creates a new instance of the EventPrefetcher class.
+     *
+     * @param queueSize        The maximum number of events that may be queued across all segments.
+     * @param segmentsWithData A Semaphore to release whenever a segment has an event (or its end) ready to be read.
+     * @param executor         The executor to read from the segments on. This may be shared with other instances and
+     *                         is not shut down when this instance is closed.
+     */
+    EventPrefetcher(int queueSize, Semaphore segmentsWithData, ExecutorService executor) {
+        Preconditions.checkArgument(queueSize > 0, "queueSize must be a positive number.");
+        this.availableEvents = queueSize;
+        this.segmentsWithData = Preconditions.checkNotNull(segmentsWithData, "segmentsWithData");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+    }
+
+    /**
+     * Wraps the given reader so that events are read ahead from it, and begins doing so.
+     *
+     * @param reader The reader to wrap. Its offset must already be set.
+     * @return A reader that returns the events read ahead from the given reader.
+     */
+    EventSegmentReader prefetch(EventSegmentReader reader) {
+        PrefetchingEventSegmentReader result = new PrefetchingEventSegmentReader(reader, this);
+        result.fillBuffer();
+        return result;
+    }
+
+    /**
+     * Reserves room for one more event to be queued by the given reader. If there is no room, the reader will be
+     * resumed (via {@link PrefetchingEventSegmentReader#fillBuffer()}) once there is.
+     *
+     * @param reader The reader that is about to read an event.
+     * @return True if room was reserved, false otherwise.
+     */
+    boolean tryReserve(PrefetchingEventSegmentReader reader) {
+        lock.lock();
+        try {
+            if (availableEvents > 0) {
+                availableEvents--;
+                return true;
+            }
+            waiting.add(reader);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns room for the given number of events, either because they have been handed to the application or because
+     * they were discarded. This resumes (at most) as many waiting readers as events, in the order in which they began
+     * waiting, so that no segment is starved.
+     *
+     * @param count The number of events.
+     */
+    void release(int count) {
+        if (count <= 0) {
+            return;
+        }
+        List<PrefetchingEventSegmentReader> toResume = new ArrayList<>();
+        lock.lock();
+        try {
+            availableEvents += count;
+            Iterator<PrefetchingEventSegmentReader> iterator = waiting.iterator();
+            while (iterator.hasNext() && toResume.size() < count) {
+                toResume.add(iterator.next());
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        toResume.forEach(PrefetchingEventSegmentReader::fillBuffer);
+    }
+
+    /**
+     * Stops waiting for room on behalf of the given reader, as it has been closed.
+     *
+     * @param reader The reader.
+     */
+    void cancel(PrefetchingEventSegmentReader reader) {
+        lock.lock();
+        try {
+            waiting.remove(reader);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indicates that a segment has an event (or its end) ready to be read.
+     */
+    void dataAvailable() {
+        segmentsWithData.release();
+    }
+
+    /**
+     * Runs the given task on the executor.
+     *
+     * @param task The task to run.
+     * @return True if the task was accepted, false if this instance has been closed.
+     */
+    boolean execute(Runnable task) {
+        if (closed.get()) {
+            log.debug("Not reading ahead as the prefetcher has been closed.");
+            return false;
+        }
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("Not reading ahead as the prefetcher has been closed.");
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed.set(true);
+        lock.lock();
+        try {
+            waiting.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
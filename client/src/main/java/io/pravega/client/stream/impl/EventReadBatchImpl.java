@@ -0,0 +1,39 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventReadBatch;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An {@link EventReadBatch} whose events were read into buffers leased from an {@link EventBufferPool}.
+ *
+ * @param <T> The type of the events.
+ */
+@RequiredArgsConstructor
+class EventReadBatchImpl<T> implements EventReadBatch<T> {
+    @Getter
+    private final List<EventRead<T>> events;
+    private final EventBufferPool.Allocation allocation;
+
+    @Override
+    public void close() {
+        this.allocation.close();
+    }
+}
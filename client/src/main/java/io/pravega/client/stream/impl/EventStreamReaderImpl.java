@@ -32,6 +32,7 @@ import io.pravega.client.segment.impl.SegmentMetadataClientFactory;
 import io.pravega.client.segment.impl.SegmentTruncatedException;
 import io.pravega.client.stream.EventPointer;
 import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventReadBatch;
 import io.pravega.client.stream.EventStreamReader;
 import io.pravega.client.stream.Position;
 import io.pravega.client.stream.ReaderConfig;
@@ -48,7 +49,6 @@ import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.shared.security.auth.AccessOperation;
 import io.pravega.common.util.CopyOnWriteHashMap;
-import io.pravega.shared.protocol.netty.WireCommands;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
@@ -58,8 +58,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import javax.annotation.concurrent.GuardedBy;
 import lombok.Cleanup;
@@ -85,32 +89,52 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
     private final ReaderConfig config;
    
     private final ImmutableMap<Stream, WatermarkReaderImpl> waterMarkReaders;
-    @GuardedBy("readers")
+    // Held while blocking for data; this is a ReentrantLock (as opposed to a monitor) so that readers running on virtual
+    // threads do not pin their carrier threads while waiting.
+    private final ReentrantLock readersLock = new ReentrantLock();
+    @GuardedBy("readersLock")
     private boolean closed;
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private final List<EventSegmentReader> readers = new ArrayList<>();
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private final Map<Segment, Long> sealedSegments = new HashMap<>();
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private Sequence lastRead;
     // Ranges, ownedSegments and segmentOffsetUpdates may be lazily accessed by PositionImpl objects to build their
     // state. The objective is to avoid creating per-event collections for performance reasons.
     private CopyOnWriteHashMap<Segment, Range> ranges = new CopyOnWriteHashMap<>();
     private Map<Segment, Long> ownedSegments = new HashMap<>();
     private List<Entry<Segment, Long>> segmentOffsetUpdates = newImmutableSegmentOffsetUpdatesList();
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private int segmentOffsetUpdatesIndex = 0;
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private String atCheckpoint;
     private final ReaderGroupStateManager groupState;
     private final Supplier<Long> clock;
     private final Controller controller;
     private final Semaphore segmentsWithData;
+    private final EventBufferPool bufferPool;
+    private final EventPrefetcher prefetcher;
+    private final SegmentLoadTracker loadTracker;
 
     EventStreamReaderImpl(SegmentInputStreamFactory inputStreamFactory,
             SegmentMetadataClientFactory metadataClientFactory, Serializer<Type> deserializer,
             ReaderGroupStateManager groupState, Orderer orderer, Supplier<Long> clock, ReaderConfig config, 
             ImmutableMap<Stream, WatermarkReaderImpl> waterMarkReaders, Controller controller) {
+        this(inputStreamFactory, metadataClientFactory, deserializer, groupState, orderer, clock, config, waterMarkReaders,
+                controller, null);
+    }
+
+    /**
+     * Creates a new instance of the EventStreamReaderImpl class.
+     *
+     * @param prefetchExecutor The executor to read ahead from segments on, if {@link ReaderConfig#getPrefetchQueueSize()}
+     *                         is set. This may be shared with other readers and is not shut down when this reader is closed.
+     */
+    EventStreamReaderImpl(SegmentInputStreamFactory inputStreamFactory,
+            SegmentMetadataClientFactory metadataClientFactory, Serializer<Type> deserializer,
+            ReaderGroupStateManager groupState, Orderer orderer, Supplier<Long> clock, ReaderConfig config,
+            ImmutableMap<Stream, WatermarkReaderImpl> waterMarkReaders, Controller controller, ExecutorService prefetchExecutor) {
         this.deserializer = deserializer;
         this.inputStreamFactory = inputStreamFactory;
         this.metadataClientFactory = metadataClientFactory;
@@ -122,26 +146,110 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
         this.closed = false;
         this.controller = controller;
         this.segmentsWithData = new Semaphore(0);
+        this.bufferPool = new EventBufferPool();
+        this.prefetcher = prefetchExecutor == null || config.getPrefetchQueueSize() <= 0
+                ? null
+                : new EventPrefetcher(config.getPrefetchQueueSize(), segmentsWithData, prefetchExecutor);
+        this.loadTracker = config.isBalanceByDataRate() ? new SegmentLoadTracker(this::fetchSegmentLength, clock) : null;
+        if (this.loadTracker != null) {
+            groupState.setSegmentLoadTracker(this.loadTracker);
+        }
     }
 
     @Override
     public EventRead<Type> readNextEvent(long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException {
-        synchronized (readers) {
+        readersLock.lock();
+        try {
             Preconditions.checkState(!closed, "Reader is closed");
             try {
-                return readNextEventInternal(timeoutMillis);
+                return readNextEventInternal(timeoutMillis, null);
             } catch (ReaderNotInReaderGroupException e) {
                 close();
                 throw new ReinitializationRequiredException(e);
             }
+        } finally {
+            readersLock.unlock();
         }
     }
-    
-    private EventRead<Type> readNextEventInternal(long timeoutMillis) throws ReaderNotInReaderGroupException, TruncatedDataException {
+
+    @Override
+    public EventReadBatch<Type> readNextEvents(int maxEvents, long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException {
+        Preconditions.checkArgument(maxEvents > 0, "maxEvents must be a positive number.");
+        EventBufferPool.Allocation allocation = bufferPool.newAllocation();
+        boolean success = false;
+        try {
+            readersLock.lock();
+            try {
+                Preconditions.checkState(!closed, "Reader is closed");
+                List<EventRead<Type>> events = new ArrayList<>(Math.min(maxEvents, MAX_BUFFERED_SEGMENT_OFFSET_UPDATES));
+                try {
+                    EventRead<Type> first = readNextEventInternal(timeoutMillis, allocation);
+                    events.add(first);
+                    if (first.getEventPointer() != null) {
+                        // The reader group state has just been updated, so we can read the remaining events directly
+                        // from the segments, as long as they are available without blocking.
+                        while (events.size() < maxEvents) {
+                            EventRead<Type> next = readNextAvailableEvent(allocation);
+                            if (next == null) {
+                                break;
+                            }
+                            events.add(next);
+                        }
+                    }
+                } catch (ReaderNotInReaderGroupException e) {
+                    close();
+                    throw new ReinitializationRequiredException(e);
+                }
+                // Fetch data for the next batch while the application is processing this one.
+                for (EventSegmentReader reader : readers) {
+                    reader.fillBuffer();
+                }
+                success = true;
+                return new EventReadBatchImpl<>(events, allocation);
+            } finally {
+                readersLock.unlock();
+            }
+        } finally {
+            if (!success) {
+                allocation.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the next event from a segment that has data readily available, without updating the reader group state.
+     *
+     * @param allocator A function to allocate the buffer for the event.
+     * @return The next event, or null if no event can be read without blocking or if any of the segments requires
+     * attention (i.e., has been sealed or truncated). In the latter case, the next invocation of
+     * {@link #readNextEventInternal} will handle it.
+     */
+    @GuardedBy("readersLock")
+    private EventRead<Type> readNextAvailableEvent(IntFunction<ByteBuffer> allocator) {
+        EventSegmentReader segmentReader = orderer.nextSegment(readers);
+        if (segmentReader == null) {
+            return null;
+        }
+
+        Segment segment = segmentReader.getSegmentId();
+        long offset = segmentReader.getOffset();
+        ByteBuffer buffer;
+        try {
+            buffer = segmentReader.read(0, allocator);
+        } catch (EndOfSegmentException | SegmentTruncatedException e) {
+            // The reader's offset is unchanged, so this will be encountered again (and handled) by the next read.
+            return null;
+        }
+        return buffer == null ? null : createEvent(segment, offset, segmentReader.getOffset(), buffer);
+    }
+
+    private EventRead<Type> readNextEventInternal(long timeoutMillis, IntFunction<ByteBuffer> allocator)
+            throws ReaderNotInReaderGroupException, TruncatedDataException {
         long firstByteTimeoutMillis = Math.min(timeoutMillis, BASE_READER_WAITING_TIME_MS);
         Timer timer = new Timer();
         Segment segment = null;
         long offset = -1;
+        long nextOffset = -1;
         ByteBuffer buffer = null;
         do {
             String checkpoint = updateGroupStateIfNeeded();
@@ -163,7 +271,10 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
                 segment = segmentReader.getSegmentId();
                 offset = segmentReader.getOffset();
                 try {
-                    buffer = segmentReader.read(firstByteTimeoutMillis);
+                    buffer = allocator == null
+                            ? segmentReader.read(firstByteTimeoutMillis)
+                            : segmentReader.read(firstByteTimeoutMillis, allocator);
+                    nextOffset = segmentReader.getOffset();
                 } catch (EndOfSegmentException e) {
                     boolean isSegmentSealed = e.getErrorType().equals(END_OF_SEGMENT_REACHED);
                     handleEndOfSegment(segmentReader, isSegmentSealed);
@@ -183,9 +294,18 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
             log.debug("Empty event returned for reader {} ", groupState.getReaderId());
             return createEmptyEvent(null);
         } 
+        return createEvent(segment, offset, nextOffset, buffer);
+    }
+
+    @GuardedBy("readersLock")
+    private EventRead<Type> createEvent(Segment segment, long offset, long nextOffset, ByteBuffer buffer) {
         lastRead = Sequence.create(segment.getSegmentId(), offset);
-        int length = buffer.remaining() + WireCommands.TYPE_PLUS_LENGTH_SIZE;
-        addSegmentOffsetUpdateIfNeeded(segment, offset + length);
+        // The event's length in the Segment need not match the length of its payload (i.e., if it was compressed).
+        int length = (int) (nextOffset - offset);
+        if (loadTracker != null) {
+            loadTracker.recordRead(segment, length);
+        }
+        addSegmentOffsetUpdateIfNeeded(segment, nextOffset);
         return new EventReadImpl<>(deserializer.deserialize(buffer), getCurrentPosition(), new EventPointerImpl(segment, offset, length), null);
     }
 
@@ -272,7 +392,7 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
      * another reader will not see events following the ones read by this reader until after they
      * have been persisted.
      */
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private String updateGroupStateIfNeeded() throws ReaderNotInReaderGroupException {
         groupState.updateConfigIfNeeded();
         PositionInternal position = null;
@@ -317,7 +437,7 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
     /**
      * Releases segments. This must not be invoked except immediately after a checkpoint.
      */
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private void releaseSegmentsIfNeeded(PositionInternal position) throws ReaderNotInReaderGroupException {
         releaseSealedSegments();
         Segment segment = groupState.findSegmentToReleaseIfRequired();
@@ -352,7 +472,7 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
         }
     }
 
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private boolean acquireSegmentsIfNeeded(PositionInternal position) throws ReaderNotInReaderGroupException {
         Map<SegmentWithRange, Long> newSegments = groupState.acquireNewSegmentsIfNeeded(getLag(), position);
         if (!newSegments.isEmpty()) {
@@ -367,6 +487,9 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
                     EventSegmentReader in = inputStreamFactory.createEventReaderForSegment(segment, config.getBufferSize(),
                                                                                            segmentsWithData, endOffset);
                     in.setOffset(newSegment.getValue());
+                    if (prefetcher != null) {
+                        in = prefetcher.prefetch(in);
+                    }
                     readers.add(in);
                     ranges.put(segment, newSegment.getKey().getRange());
                 }
@@ -385,7 +508,7 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
         return clock.get() - lastRead.getHighOrder();
     }
     
-    @GuardedBy("readers")
+    @GuardedBy("readersLock")
     private void handleEndOfSegment(EventSegmentReader oldSegment, boolean segmentSealed) {
             Segment segmentId = oldSegment.getSegmentId();
         log.info("{} encountered end of segment {} ", this, oldSegment.getSegmentId());
@@ -414,6 +537,17 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
         throw new TruncatedDataException();
     }
 
+    private CompletableFuture<Long> fetchSegmentLength(Segment segment) {
+        SegmentMetadataClient metadataClient;
+        try {
+            metadataClient = metadataClientFactory.createSegmentMetadataClient(segment,
+                    DelegationTokenProviderFactory.create(controller, segment, AccessOperation.READ));
+        } catch (Exception e) {
+            return Futures.failedFuture(e);
+        }
+        return metadataClient.fetchCurrentSegmentLength().whenComplete((length, e) -> metadataClient.close());
+    }
+
     @Override
     public ReaderConfig getConfig() {
         return config;
@@ -429,7 +563,8 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
 
     @Override
     public void closeAt(Position position) {
-        synchronized (readers) {
+        readersLock.lock();
+        try {
             if (!closed) {
                 log.info("Closing reader {} at position {}.", this, position);
                 closed = true;
@@ -438,12 +573,17 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
                     reader.close();
                 }
                 readers.clear();
+                if (prefetcher != null) {
+                    prefetcher.close();
+                }
                 ranges = new CopyOnWriteHashMap<>();
                 ownedSegments = new HashMap<>();
                 segmentOffsetUpdates = newImmutableSegmentOffsetUpdatesList();
                 segmentOffsetUpdatesIndex = 0;
                 groupState.close();
             }
+        } finally {
+            readersLock.unlock();
         }
     }
 
@@ -468,15 +608,21 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
 
     @VisibleForTesting
     List<EventSegmentReader> getReaders() {
-        synchronized (readers) {            
+        readersLock.lock();
+        try {
             return ImmutableList.copyOf(readers);
+        } finally {
+            readersLock.unlock();
         }
     }
 
     @VisibleForTesting
     Map<Segment, Range> getRanges() {
-        synchronized (readers) {
+        readersLock.lock();
+        try {
             return ImmutableMap.copyOf(ranges.getInnerMap());
+        } finally {
+            readersLock.unlock();
         }
     }
 
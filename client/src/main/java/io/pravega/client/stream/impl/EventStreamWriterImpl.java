@@ -16,6 +16,7 @@
 package io.pravega.client.stream.impl;
 
 import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
 import io.pravega.auth.AuthenticationException;
 import io.pravega.client.connection.impl.ConnectionPool;
 import io.pravega.client.control.impl.Controller;
@@ -32,6 +33,7 @@ import io.pravega.client.stream.Serializer;
 import io.pravega.client.stream.Stream;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.ByteBufferUtils;
 import io.pravega.common.util.RetriesExhaustedException;
 import io.pravega.common.util.Retry;
@@ -40,6 +42,7 @@ import io.pravega.shared.security.auth.AccessOperation;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -49,9 +52,12 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.concurrent.GuardedBy;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
@@ -76,9 +82,12 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
      * e. When a Flush is being invoked, write cannot be executed concurrently.
      * f. When a Close is being invoked, write cannot be executed concurrently.
      * g. When a Close is being invoked, Flush and segmentSealedCallback can be executed concurrently.
+     *
+     * These are explicit locks (rather than monitors) since they are held while blocking on the network; this way
+     * virtual threads waiting on them (or holding them) do not pin their carrier threads.
      */
-    private final Object writeFlushLock = new Object();
-    private final Object writeSealLock = new Object();
+    private final ReentrantLock writeFlushLock = new ReentrantLock();
+    private final ReentrantLock writeSealLock = new ReentrantLock();
 
     private final Stream stream;
     private final String writerId;
@@ -134,15 +143,24 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
         Exceptions.checkNotClosed(closed.get(), this);
         ByteBuffer data = serializer.serialize(event);
         CompletableFuture<Void> ackFuture = new CompletableFuture<Void>();
-        synchronized (writeFlushLock) {
-            if (config.isEnableLargeEvents() && data.remaining() > Serializer.MAX_EVENT_SIZE) {
+        boolean isLargeEvent = config.isEnableLargeEvents() && data.remaining() > Serializer.MAX_EVENT_SIZE;
+        // Build (and compress, if configured) the event outside of the locks.
+        PendingEvent pendingEvent = isLargeEvent ? null : PendingEvent.withHeader(routingKey, data, config.getCompression(), ackFuture);
+        writeFlushLock.lock();
+        try {
+            if (isLargeEvent) {
                 writeLargeEvent(routingKey, Collections.singletonList(data), ackFuture);
             } else {
-                synchronized (writeSealLock) {
+                writeSealLock.lock();
+                try {
                     SegmentOutputStream segmentWriter = getSegmentWriter(routingKey);
-                    segmentWriter.write(PendingEvent.withHeader(routingKey, data, ackFuture));
+                    segmentWriter.write(pendingEvent);
+                } finally {
+                    writeSealLock.unlock();
                 }
             }
+        } finally {
+            writeFlushLock.unlock();
         }
         return ackFuture;
     }
@@ -154,19 +172,104 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
         Exceptions.checkNotClosed(closed.get(), this);
         List<ByteBuffer> data = events.stream().map(serializer::serialize).collect(Collectors.toList());
         CompletableFuture<Void> ackFuture = new CompletableFuture<Void>();
-        synchronized (writeFlushLock) {
-            if (config.isEnableLargeEvents() && data.stream().mapToInt(m -> m.remaining()).sum() > Serializer.MAX_EVENT_SIZE) {
+        boolean isLargeEvent = config.isEnableLargeEvents() && data.stream().mapToInt(m -> m.remaining()).sum() > Serializer.MAX_EVENT_SIZE;
+        // Build (and compress, if configured) the events outside of the locks.
+        PendingEvent pendingEvent = isLargeEvent ? null : PendingEvent.withHeader(routingKey, data, config.getCompression(), ackFuture);
+        writeFlushLock.lock();
+        try {
+            if (isLargeEvent) {
                 writeLargeEvent(routingKey, data, ackFuture);
             } else {
-                synchronized (writeSealLock) {
+                writeSealLock.lock();
+                try {
                     SegmentOutputStream segmentWriter = getSegmentWriter(routingKey);
-                    segmentWriter.write(PendingEvent.withHeader(routingKey, data, ackFuture));
+                    segmentWriter.write(pendingEvent);
+                } finally {
+                    writeSealLock.unlock();
                 }
             }
+        } finally {
+            writeFlushLock.unlock();
         }
         return ackFuture;
     }
     
+    @Override
+    public CompletableFuture<Void> writeEvents(List<Type> events, Function<? super Type, String> routingKeyFunction) {
+        Preconditions.checkNotNull(events);
+        Preconditions.checkNotNull(routingKeyFunction);
+        Exceptions.checkNotClosed(closed.get(), this);
+        if (events.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // Serialize (and compress, if configured) the events outside of the locks.
+        List<String> routingKeys = new ArrayList<>(events.size());
+        List<ByteBuf> data = new ArrayList<>(events.size());
+        for (Type event : events) {
+            Preconditions.checkNotNull(event);
+            routingKeys.add(Preconditions.checkNotNull(routingKeyFunction.apply(event), "routingKey"));
+            data.add(PendingEvent.serialize(serializer.serialize(event), config.getCompression()));
+        }
+        List<CompletableFuture<Void>> ackFutures;
+        writeFlushLock.lock();
+        try {
+            writeSealLock.lock();
+            try {
+                ackFutures = writeBySegment(routingKeys, data);
+                while (ackFutures == null) {
+                    log.info("Don't have a writer for all the segments of a batch of {} events", data.size());
+                    handleMissingLog();
+                    ackFutures = writeBySegment(routingKeys, data);
+                }
+            } finally {
+                writeSealLock.unlock();
+            }
+        } finally {
+            writeFlushLock.unlock();
+        }
+        return ackFutures.size() == 1 ? ackFutures.get(0) : Futures.allOf(ackFutures);
+    }
+
+    /**
+     * Groups the given serialized events by the segment their routing keys map to and writes a single
+     * {@link PendingEvent} for each group (splitting groups that exceed {@link PendingEvent#MAX_WRITE_SIZE}). Events
+     * for the same segment are kept in the order they were given.
+     *
+     * @param routingKeys The routing key of each event.
+     * @param data        The serialized events.
+     * @return The ack futures of the written {@link PendingEvent}s, or null (having written nothing) if there is no
+     * writer for the segment of one of the routing keys.
+     */
+    @GuardedBy("writeSealLock")
+    private List<CompletableFuture<Void>> writeBySegment(List<String> routingKeys, List<ByteBuf> data) {
+        SegmentOutputStream[] segmentWriters = new SegmentOutputStream[routingKeys.size()];
+        for (int i = 0; i < segmentWriters.length; i++) {
+            segmentWriters[i] = selector.getSegmentOutputStreamForKey(routingKeys.get(i));
+            if (segmentWriters[i] == null) {
+                return null;
+            }
+        }
+
+        List<CompletableFuture<Void>> ackFutures = new ArrayList<>();
+        Map<SegmentOutputStream, SegmentBatch> batches = new IdentityHashMap<>();
+        for (int i = 0; i < segmentWriters.length; i++) {
+            SegmentBatch batch = batches.get(segmentWriters[i]);
+            if (batch == null) {
+                batch = new SegmentBatch(segmentWriters[i]);
+                batches.put(segmentWriters[i], batch);
+            }
+            ByteBuf event = data.get(i);
+            if (batch.size + event.readableBytes() > PendingEvent.MAX_WRITE_SIZE && !batch.events.isEmpty()) {
+                ackFutures.add(batch.write());
+            }
+            batch.add(routingKeys.get(i), event);
+        }
+        for (SegmentBatch batch : batches.values()) {
+            ackFutures.add(batch.write());
+        }
+        return ackFutures;
+    }
+
     @GuardedBy("writeFlushLock")
     private void writeLargeEvent(String routingKey, List<ByteBuffer> events, CompletableFuture<Void> ackFuture) {
         flush();
@@ -231,7 +334,8 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
                       * entries that will succeed in being written to a new segment are written and any
                       * segmentSealedCallbacks that will be called happen before the next write is invoked.
                       */
-                     synchronized (writeSealLock) {
+                     writeSealLock.lock();
+                     try {
                          Segment toSeal = sealedSegmentQueue.poll();
                          log.info("Sealing segment {} ", toSeal);
                          while (toSeal != null) {
@@ -260,6 +364,8 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
                              }
                          }
                          sealedSegmentQueueEmptyLatch.release();
+                     } finally {
+                         writeSealLock.unlock();
                      }
                      return null;
                  });
@@ -276,6 +382,19 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
                 if (sendFailed) {
                     unsent.add(event);
                 } else {
+                    if (event.getEventRoutingKeys() != null) {
+                        // The events of a multi-key batch may now map to different segments, so they are re-grouped.
+                        List<CompletableFuture<Void>> ackFutures = writeBySegment(event.getEventRoutingKeys(), event.getEventData());
+                        if (ackFutures == null) {
+                            log.info("No writer for segment during resend.");
+                            unsent.add(event);
+                            unsent.addAll(selector.refreshSegmentEventWriters(segmentSealedCallBack));
+                            sendFailed = true;
+                        } else {
+                            Futures.completeAfter(() -> Futures.allOf(ackFutures), event.getAckFuture());
+                        }
+                        continue;
+                    }
                     SegmentOutputStream segmentWriter = selector.getSegmentOutputStreamForKey(event.getRoutingKey());
                     if (segmentWriter == null) {
                         log.info("No writer for segment during resend.");
@@ -293,7 +412,8 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
     @Override
     public void flush() {
         Preconditions.checkState(!closed.get());
-        synchronized (writeFlushLock) {
+        writeFlushLock.lock();
+        try {
             boolean success = false;
             RuntimeException retriesExhaustedException = null;
             while (!success) {
@@ -322,6 +442,8 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
                           writerId, stream.getScopedName());
                 throw retriesExhaustedException;
             }
+        } finally {
+            writeFlushLock.unlock();
         }
     }
     
@@ -342,7 +464,8 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
             return;
         }
         pinger.close();
-        synchronized (writeFlushLock) {
+        writeFlushLock.lock();
+        try {
             boolean success = false;
             while (!success) {
                 success = true;
@@ -357,6 +480,8 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
                     }
                 }
             }
+        } finally {
+            writeFlushLock.unlock();
         }
         ExecutorServiceHelpers.shutdown(retransmitPool);
     }
@@ -381,4 +506,30 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
         WriterPosition position = new WriterPosition(offsets);
         controller.noteTimestampFromWriter(writerId, stream, timestamp, position);
     }
+
+    /**
+     * Accumulates the events of a multi-key batch that are routed to the same segment.
+     */
+    @RequiredArgsConstructor
+    private static final class SegmentBatch {
+        private final SegmentOutputStream segmentWriter;
+        private List<String> routingKeys = new ArrayList<>();
+        private List<ByteBuf> events = new ArrayList<>();
+        private int size;
+
+        void add(String routingKey, ByteBuf event) {
+            this.routingKeys.add(routingKey);
+            this.events.add(event);
+            this.size += event.readableBytes();
+        }
+
+        CompletableFuture<Void> write() {
+            CompletableFuture<Void> ackFuture = new CompletableFuture<>();
+            this.segmentWriter.write(PendingEvent.withHeaders(this.routingKeys, this.events, ackFuture));
+            this.routingKeys = new ArrayList<>();
+            this.events = new ArrayList<>();
+            this.size = 0;
+            return ackFuture;
+        }
+    }
 }
@@ -18,7 +18,11 @@ package io.pravega.client.stream.impl;
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.pravega.client.segment.impl.EventCompressionCodec;
+import io.pravega.client.stream.EventCompression;
 import io.pravega.client.stream.Serializer;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.Event;
 import java.nio.ByteBuffer;
 import java.util.List;
@@ -53,25 +57,53 @@ public class PendingEvent {
      * Callback to be invoked when the data is written.
      */
     private final CompletableFuture<Void> ackFuture;
-       
+    /**
+     * For a batch of events with different routing keys, the routing key of each event in the batch (in order).
+     * Null otherwise.
+     */
+    private final List<String> eventRoutingKeys;
+    /**
+     * For a batch of events with different routing keys, the serialized events that make up {@link #data} (in order).
+     * These are retained so the events can be re-routed individually if the segment they were written to is sealed.
+     * Null otherwise.
+     */
+    private final List<ByteBuf> eventData;
+
     private PendingEvent(String routingKey, ByteBuf data, int eventCount, CompletableFuture<Void> ackFuture) {
+        this(routingKey, data, eventCount, ackFuture, null, null);
+    }
+
+    private PendingEvent(String routingKey, ByteBuf data, int eventCount, CompletableFuture<Void> ackFuture,
+                         List<String> eventRoutingKeys, List<ByteBuf> eventData) {
         Preconditions.checkNotNull(data);
         this.routingKey = routingKey;
         this.data = data;
         this.ackFuture = ackFuture;
         this.eventCount = eventCount;
+        this.eventRoutingKeys = eventRoutingKeys;
+        this.eventData = eventData;
     }
     
     public static PendingEvent withHeader(String routingKey, ByteBuffer data, CompletableFuture<Void> ackFuture) {
-        ByteBuf eventBuf = getByteBuf(data);
+        return withHeader(routingKey, data, EventCompression.NONE, ackFuture);
+    }
+
+    public static PendingEvent withHeader(String routingKey, ByteBuffer data, @NonNull EventCompression compression,
+                                          CompletableFuture<Void> ackFuture) {
+        ByteBuf eventBuf = getByteBuf(data, compression);
         return new PendingEvent(routingKey, eventBuf, 1, ackFuture);
     }
-    
+
     public static PendingEvent withHeader(@NonNull String routingKey, @NonNull List<ByteBuffer> batch, @NonNull CompletableFuture<Void> ackFuture) {
+        return withHeader(routingKey, batch, EventCompression.NONE, ackFuture);
+    }
+
+    public static PendingEvent withHeader(@NonNull String routingKey, @NonNull List<ByteBuffer> batch, @NonNull EventCompression compression,
+                                          @NonNull CompletableFuture<Void> ackFuture) {
         Preconditions.checkArgument(!batch.isEmpty(), "Batch cannot be empty");
         ByteBuf[] buffers = new ByteBuf[batch.size()];
         for (int i = 0; i < batch.size(); i++) {
-            buffers[i] = getByteBuf(batch.get(i));
+            buffers[i] = getByteBuf(batch.get(i), compression);
         }
 
         ByteBuf batchBuff = Unpooled.wrappedUnmodifiableBuffer(buffers);
@@ -80,6 +112,25 @@ public class PendingEvent {
         return new PendingEvent(routingKey, batchBuff, batch.size(), ackFuture);
     }
 
+    /**
+     * Creates a PendingEvent for a batch of already serialized events (see {@link #serialize}) that were routed to the
+     * same segment but may have different routing keys. The batch must not exceed {@link #MAX_WRITE_SIZE} bytes, which
+     * is the same limit that {@link EventStreamWriterImpl} splits such batches at.
+     *
+     * @param routingKeys The routing key of each event.
+     * @param events      The serialized events.
+     * @param ackFuture   The future to complete once all the events have been written.
+     * @return A new PendingEvent.
+     */
+    static PendingEvent withHeaders(@NonNull List<String> routingKeys, @NonNull List<ByteBuf> events,
+                                    @NonNull CompletableFuture<Void> ackFuture) {
+        Preconditions.checkArgument(!events.isEmpty(), "Batch cannot be empty");
+        Preconditions.checkArgument(routingKeys.size() == events.size(), "Routing keys and events must have the same size");
+        ByteBuf batchBuff = events.size() == 1 ? events.get(0) : Unpooled.wrappedUnmodifiableBuffer(events.toArray(new ByteBuf[0]));
+        Preconditions.checkArgument(batchBuff.readableBytes() <= MAX_WRITE_SIZE, "Batch size too large: %s", batchBuff.readableBytes());
+        return new PendingEvent(routingKeys.get(0), batchBuff, events.size(), ackFuture, routingKeys, events);
+    }
+
     public static PendingEvent withoutHeader(String routingKey, ByteBuffer data, CompletableFuture<Void> ackFuture) {
         ByteBuf dataBuf = Unpooled.wrappedBuffer(data);
         Preconditions.checkArgument(dataBuf.readableBytes() <= MAX_WRITE_SIZE, "Write size too large: %s", dataBuf.readableBytes());
@@ -87,8 +138,28 @@ public class PendingEvent {
         return new PendingEvent(routingKey, dataBuf, 1, ackFuture);
     }
 
-    private static ByteBuf getByteBuf(ByteBuffer data) {
-        ByteBuf eventBuf = new Event(Unpooled.wrappedBuffer(data)).getAsByteBuf();
+    /**
+     * Serializes (and compresses, if configured) the given event data, including the wire command header.
+     *
+     * @param data        The event data.
+     * @param compression The compression to apply.
+     * @return A ByteBuf containing the serialized event.
+     */
+    static ByteBuf serialize(ByteBuffer data, @NonNull EventCompression compression) {
+        return getByteBuf(data, compression);
+    }
+
+    private static ByteBuf getByteBuf(ByteBuffer data, EventCompression compression) {
+        ByteBuffer compressed = EventCompressionCodec.compress(data, compression);
+        ByteBuf eventBuf;
+        if (compressed == null) {
+            eventBuf = new Event(Unpooled.wrappedBuffer(data)).getAsByteBuf();
+        } else {
+            ByteBuf header = Unpooled.buffer(WireCommands.TYPE_PLUS_LENGTH_SIZE, WireCommands.TYPE_PLUS_LENGTH_SIZE);
+            header.writeInt(WireCommandType.COMPRESSED_EVENT.getCode());
+            header.writeInt(compressed.remaining());
+            eventBuf = Unpooled.wrappedUnmodifiableBuffer(header, Unpooled.wrappedBuffer(compressed));
+        }
         Preconditions.checkArgument(eventBuf.readableBytes() <= MAX_WRITE_SIZE, "Write size too large: %s", eventBuf.readableBytes());
         return eventBuf;
     }
@@ -0,0 +1,318 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import io.pravega.client.segment.impl.EndOfSegmentException;
+import io.pravega.client.segment.impl.EventSegmentReader;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentTruncatedException;
+import io.pravega.common.Exceptions;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An {@link EventSegmentReader} that reads events ahead of time (in the background) from another one, and queues them
+ * until they are read. See {@link EventPrefetcher}.
+ * <p>
+ * The offset of this reader (see {@link #getOffset()}) is that of the next event to be returned by {@link #read}, so
+ * events that have been read ahead are not reflected in positions, checkpoints or segment releases until they have
+ * been returned. Changing the offset discards any queued events.
+ */
+@Slf4j
+@ToString(onlyExplicitlyIncluded = true)
+class PrefetchingEventSegmentReader implements EventSegmentReader {
+    private final EventSegmentReader reader;
+    private final EventPrefetcher prefetcher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition eventAvailable = lock.newCondition();
+    @GuardedBy("lock")
+    private final ArrayDeque<PrefetchedEvent> queue = new ArrayDeque<>();
+    @GuardedBy("lock")
+    @ToString.Include
+    private long offset;
+    /**
+     * The exception (i.e., {@link EndOfSegmentException} or {@link SegmentTruncatedException}) to throw once all the
+     * queued events have been read.
+     */
+    @GuardedBy("lock")
+    private Exception endException;
+    @GuardedBy("lock")
+    private RuntimeException failure;
+    @GuardedBy("lock")
+    private boolean fetching;
+    @GuardedBy("lock")
+    private boolean fetchRequested;
+    @GuardedBy("lock")
+    private boolean closed;
+
+    PrefetchingEventSegmentReader(EventSegmentReader reader, EventPrefetcher prefetcher) {
+        this.reader = reader;
+        this.prefetcher = prefetcher;
+        this.offset = reader.getOffset();
+    }
+
+    @Override
+    @ToString.Include
+    public Segment getSegmentId() {
+        return reader.getSegmentId();
+    }
+
+    @Override
+    public void setOffset(long offset, boolean resendRequest) {
+        int discarded;
+        lock.lock();
+        try {
+            Exceptions.checkNotClosed(closed, this);
+            if (offset == this.offset && !resendRequest && endException == null && failure == null) {
+                return;
+            }
+            discarded = queue.size();
+            queue.clear();
+            endException = null;
+            failure = null;
+            this.offset = offset;
+            reader.setOffset(offset, resendRequest);
+        } finally {
+            lock.unlock();
+        }
+        prefetcher.release(discarded);
+        fillBuffer();
+    }
+
+    @Override
+    public long getOffset() {
+        lock.lock();
+        try {
+            return offset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ByteBuffer read(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException {
+        PrefetchedEvent event;
+        lock.lock();
+        try {
+            Exceptions.checkNotClosed(closed, this);
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(firstByteTimeoutMillis);
+            while (queue.isEmpty()) {
+                throwIfEnded();
+                fillBuffer();
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                final long waitNanos = remainingNanos;
+                remainingNanos = Exceptions.handleInterruptedCall(() -> eventAvailable.awaitNanos(waitNanos));
+                Exceptions.checkNotClosed(closed, this);
+            }
+            event = queue.poll();
+            offset = event.nextOffset;
+        } finally {
+            lock.unlock();
+        }
+        prefetcher.release(1);
+        return event.data;
+    }
+
+    @GuardedBy("lock")
+    private void throwIfEnded() throws EndOfSegmentException, SegmentTruncatedException {
+        if (failure != null) {
+            throw failure;
+        } else if (endException instanceof EndOfSegmentException) {
+            throw (EndOfSegmentException) endException;
+        } else if (endException instanceof SegmentTruncatedException) {
+            throw (SegmentTruncatedException) endException;
+        }
+    }
+
+    /**
+     * Makes sure that events are being read ahead, unless the end of the segment has been reached.
+     *
+     * @return A completed future.
+     */
+    @Override
+    public CompletableFuture<?> fillBuffer() {
+        lock.lock();
+        try {
+            if (fetching) {
+                // Make sure the running fetch does not stop before seeing any changes that lead to this request.
+                fetchRequested = true;
+            } else if (!closed && endException == null && failure == null) {
+                fetching = true;
+                if (!prefetcher.execute(this::fetch)) {
+                    fetching = false;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Reads events from the underlying reader and queues them, for as long as they are available without waiting on
+     * the Segment Store and there is room for them. If the underlying reader has no data, this resumes once its next
+     * read request completes.
+     */
+    private void fetch() {
+        while (true) {
+            lock.lock();
+            try {
+                fetchRequested = false;
+                if (closed || endException != null || failure != null) {
+                    fetching = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (!prefetcher.tryReserve(this)) {
+                if (stopFetching()) {
+                    return;
+                }
+                continue;
+            }
+
+            boolean queued = false;
+            boolean ended = false;
+            boolean noData = false;
+            lock.lock();
+            try {
+                // The underlying reader is only read from and repositioned (see setOffset) while holding the lock, so
+                // the event read here is always the one at the current offset. The read does not wait for data.
+                if (!closed) {
+                    try {
+                        ByteBuffer data = reader.read(0);
+                        if (data != null) {
+                            queue.add(new PrefetchedEvent(data, reader.getOffset()));
+                            queued = true;
+                        } else {
+                            noData = true;
+                        }
+                    } catch (EndOfSegmentException | SegmentTruncatedException e) {
+                        endException = e;
+                        ended = true;
+                    } catch (RuntimeException e) {
+                        log.warn("Error reading ahead from segment {}.", getSegmentId(), e);
+                        failure = e;
+                        ended = true;
+                    }
+                    if (queued || ended) {
+                        eventAvailable.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!queued) {
+                prefetcher.release(1);
+            }
+            if (queued || ended) {
+                prefetcher.dataAvailable();
+            } else if (noData && awaitData()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the current fetch, unless another one has been requested in the meantime.
+     *
+     * @return True if the fetch was stopped, false if it should continue.
+     */
+    private boolean stopFetching() {
+        lock.lock();
+        try {
+            if (fetchRequested) {
+                return false;
+            }
+            fetching = false;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedules a new fetch once the underlying reader's outstanding read request completes.
+     *
+     * @return True if the current fetch should end, false if it should continue right away.
+     */
+    private boolean awaitData() {
+        CompletableFuture<?> dataReceived;
+        try {
+            dataReceived = reader.fillBuffer();
+        } catch (RuntimeException e) {
+            // The reader has been closed (or its offset is being changed).
+            return stopFetching();
+        }
+        if (dataReceived.isDone()) {
+            return false;
+        }
+        dataReceived.whenComplete((r, ex) -> {
+            if (!prefetcher.execute(this::fetch)) {
+                stopFetching();
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public void close() {
+        int discarded;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            discarded = queue.size();
+            queue.clear();
+            eventAvailable.signalAll();
+            reader.close();
+        } finally {
+            lock.unlock();
+        }
+        prefetcher.cancel(this);
+        prefetcher.release(discarded);
+    }
+
+    @Override
+    public boolean isSegmentReady() {
+        lock.lock();
+        try {
+            return !queue.isEmpty() || endException != null || failure != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class PrefetchedEvent {
+        private final ByteBuffer data;
+        private final long nextOffset;
+    }
+}
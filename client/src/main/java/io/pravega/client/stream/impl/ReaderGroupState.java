@@ -98,6 +98,8 @@ public class ReaderGroupState implements Revisioned {
     @GuardedBy("$lock")
     private final Map<SegmentWithRange, Long> lastReadPosition;
     private final Map<Segment, Long> endSegments;
+    @GuardedBy("$lock")
+    private final Map<Segment, Long> segmentLoads;
     @Getter
     @Setter(AccessLevel.PRIVATE)
     private boolean updatingConfig;
@@ -118,6 +120,7 @@ public class ReaderGroupState implements Revisioned {
         this.unassignedSegments = new LinkedHashMap<>(segmentsToOffsets);
         this.lastReadPosition = new HashMap<>(segmentsToOffsets);
         this.endSegments = ImmutableMap.copyOf(endSegments);
+        this.segmentLoads = new HashMap<>();
         this.updatingConfig = updatingConfig;
     }
 
@@ -171,6 +174,45 @@ public class ReaderGroupState implements Revisioned {
         return sorted.indexOf(reader);
     }
 
+    /**
+     * @return True if at least one reader has reported a non-zero load for one of its segments.
+     */
+    @Synchronized
+    boolean hasSegmentLoads() {
+        return segmentLoads.values().stream().anyMatch(load -> load > 0);
+    }
+
+    /**
+     * Returns the load of a segment in bytes per second, as last reported by the reader that owned it. Segments whose
+     * load has not been reported (such as successors that have never been read) are assumed to carry the average
+     * load of those that have.
+     */
+    @Synchronized
+    long getSegmentLoad(Segment segment) {
+        Long load = segmentLoads.get(segment);
+        if (load != null) {
+            return load;
+        }
+        return (long) segmentLoads.values().stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    /**
+     * @return A map from Reader to the sum of the loads (see {@link #getSegmentLoad(Segment)}) of the segments
+     *         assigned to it.
+     */
+    @Synchronized
+    Map<String, Long> getReaderLoads() {
+        Map<String, Long> result = new HashMap<>();
+        for (Entry<String, Map<SegmentWithRange, Long>> entry : assignedSegments.entrySet()) {
+            long load = 0;
+            for (SegmentWithRange segment : entry.getValue().keySet()) {
+                load += getSegmentLoad(segment.getSegment());
+            }
+            result.put(entry.getKey(), load);
+        }
+        return result;
+    }
+
     @Override
     @Synchronized
     public Revision getRevision() {
@@ -441,6 +483,7 @@ public class ReaderGroupState implements Revisioned {
         @NonNull
         private final Map<Segment, Long> endSegments;
         private final boolean updatingConfig;
+        private final Map<Segment, Long> segmentLoads;
         
         CompactReaderGroupState(ReaderGroupState state) {
             synchronized (state.$lock) {
@@ -459,13 +502,15 @@ public class ReaderGroupState implements Revisioned {
                 lastReadPosition = new HashMap<>(state.lastReadPosition);
                 endSegments = state.endSegments;
                 updatingConfig = state.updatingConfig;
+                segmentLoads = new HashMap<>(state.segmentLoads);
             }
         }
 
         @Override
         public ReaderGroupState create(String scopedStreamName, Revision revision) {
             return new ReaderGroupState(scopedStreamName, config, revision, checkpointState, distanceToTail,
-                                        futureSegments, assignedSegments, unassignedSegments, lastReadPosition, endSegments, updatingConfig);
+                                        futureSegments, assignedSegments, unassignedSegments, lastReadPosition, endSegments,
+                                        segmentLoads == null ? new HashMap<>() : segmentLoads, updatingConfig);
         }
 
         @VisibleForTesting
@@ -488,7 +533,8 @@ public class ReaderGroupState implements Revisioned {
             protected void declareVersions() {
                 version(0).revision(0, this::write00, this::read00)
                           .revision(1, this::write01, this::read01)
-                          .revision(2, this::write02, this::read02);
+                          .revision(2, this::write02, this::read02)
+                          .revision(3, this::write03, this::read03);
             }
 
             private void read00(RevisionDataInput revisionDataInput,
@@ -551,6 +597,12 @@ public class ReaderGroupState implements Revisioned {
                 builder.updatingConfig(revisionDataInput.readBoolean());
             }
 
+            private void read03(RevisionDataInput revisionDataInput,
+                                CompactReaderGroupStateBuilder builder) throws IOException {
+                Map<Segment, Long> loads = revisionDataInput.readMap(in -> Segment.fromScopedName(in.readUTF()), RevisionDataInput::readLong);
+                builder.segmentLoads(loads.isEmpty() ? null : loads);
+            }
+
             private void write00(CompactReaderGroupState object, RevisionDataOutput revisionDataOutput) throws IOException {
                 ElementSerializer<String> stringSerializer = RevisionDataOutput::writeUTF;
                 ElementSerializer<Long> longSerializer = RevisionDataOutput::writeLong;
@@ -594,6 +646,11 @@ public class ReaderGroupState implements Revisioned {
             private void write02(CompactReaderGroupState object, RevisionDataOutput revisionDataOutput) throws IOException {
                 revisionDataOutput.writeBoolean(object.updatingConfig);
             }
+
+            private void write03(CompactReaderGroupState object, RevisionDataOutput revisionDataOutput) throws IOException {
+                revisionDataOutput.writeMap(object.segmentLoads, (out, segment) -> out.writeUTF(segment.getScopedName()),
+                                            RevisionDataOutput::writeLong);
+            }
         }
     }
     
@@ -884,13 +941,23 @@ public class ReaderGroupState implements Revisioned {
      */
     @Builder
     @Data
+    @AllArgsConstructor
     @EqualsAndHashCode(callSuper = false)
     static class UpdateDistanceToTail extends ReaderGroupStateUpdate {
 
         private final String readerId;
         private final long distanceToTail;
         private final Map<SegmentWithRange, Long> lastReadPositions;
-        
+        /**
+         * The load (bytes per second consumed plus backlog to drain) of each of the reader's segments, or null if the
+         * reader does not report loads.
+         */
+        private final Map<Segment, Long> segmentLoads;
+
+        UpdateDistanceToTail(String readerId, long distanceToTail, Map<SegmentWithRange, Long> lastReadPositions) {
+            this(readerId, distanceToTail, lastReadPositions, null);
+        }
+
         /**
          * @see ReaderGroupState.ReaderGroupStateUpdate#update(ReaderGroupState)
          */
@@ -902,6 +969,15 @@ public class ReaderGroupState implements Revisioned {
                     state.lastReadPosition.replace(entry.getKey(), entry.getValue());
                 }
             }
+            Map<SegmentWithRange, Long> assigned = state.assignedSegments.get(readerId);
+            if (segmentLoads != null && assigned != null) { // Only accept loads for segments the reader still owns.
+                for (SegmentWithRange segment : assigned.keySet()) {
+                    Long load = segmentLoads.get(segment.getSegment());
+                    if (load != null) {
+                        state.segmentLoads.put(segment.getSegment(), load);
+                    }
+                }
+            }
         }
         
         @VisibleForTesting
@@ -925,7 +1001,8 @@ public class ReaderGroupState implements Revisioned {
             @Override
             protected void declareVersions() {
                 version(0).revision(0, this::write00, this::read00)
-                          .revision(1, this::write01, this::read01);
+                          .revision(1, this::write01, this::read01)
+                          .revision(2, this::write02, this::read02);
             }
 
             @VisibleForTesting
@@ -941,6 +1018,11 @@ public class ReaderGroupState implements Revisioned {
                 builder.lastReadPositions(positions);
             }
 
+            private void read02(RevisionDataInput revisionDataInput, UpdateDistanceToTailBuilder builder) throws IOException {
+                Map<Segment, Long> loads = revisionDataInput.readMap(in -> Segment.fromScopedName(in.readUTF()), RevisionDataInput::readLong);
+                builder.segmentLoads(loads.isEmpty() ? null : loads);
+            }
+
             @VisibleForTesting
             void write00(UpdateDistanceToTail object, RevisionDataOutput out) throws IOException {
                 out.writeUTF(object.readerId);
@@ -954,6 +1036,11 @@ public class ReaderGroupState implements Revisioned {
                 };
                 revisionDataOutput.writeMap(object.lastReadPositions, segmentWithRangeSerializer, RevisionDataOutput::writeLong);
             }
+
+            private void write02(UpdateDistanceToTail object, RevisionDataOutput revisionDataOutput) throws IOException {
+                revisionDataOutput.writeMap(object.segmentLoads, (out, segment) -> out.writeUTF(segment.getScopedName()),
+                                            RevisionDataOutput::writeLong);
+            }
         }
     }
     
@@ -981,6 +1068,7 @@ public class ReaderGroupState implements Revisioned {
                         readerId + " asked to complete a segment that was not assigned to it " + segmentCompleted);
             }
             state.lastReadPosition.remove(segmentCompleted);
+            state.segmentLoads.remove(segmentCompleted.getSegment());
             for (Entry<SegmentWithRange, List<Long>> entry : successorsMappedToTheirPredecessors.entrySet()) {
                 if (!state.futureSegments.containsKey(entry.getKey())) {
                     Set<Long> requiredToComplete = new HashSet<>(entry.getValue());
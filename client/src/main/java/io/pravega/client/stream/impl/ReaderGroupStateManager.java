@@ -37,16 +37,18 @@ import io.pravega.client.stream.impl.ReaderGroupState.UpdateDistanceToTail;
 import io.pravega.common.TimeoutTimer;
 import io.pravega.common.hash.HashHelper;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import io.pravega.shared.NameUtils;
 import lombok.Getter;
@@ -86,6 +88,11 @@ public class ReaderGroupStateManager {
     static final Duration UPDATE_CONFIG_WINDOW = Duration.ofMillis(10000);
     private static final double COMPACTION_PROBABILITY = 0.05;
     private static final int MIN_BYTES_BETWEEN_COMPACTIONS = 512 * 1024;
+    /**
+     * When balancing by load, a reader only releases a segment if its load exceeds that of the least loaded reader by
+     * more than this fraction of the average reader load.
+     */
+    private static final double LOAD_IMBALANCE_THRESHOLD = 0.2;
     private final Object decisionLock = new Object();
     private final HashHelper hashHelper;
     @Getter
@@ -102,6 +109,7 @@ public class ReaderGroupStateManager {
     private final TimeoutTimer checkpointTimer;
     private final TimeoutTimer lagUpdateTimer;
     private final TimeoutTimer updateConfigTimer;
+    private volatile SegmentLoadTracker loadTracker;
 
     ReaderGroupStateManager(String scope, String groupName, String readerId, StateSynchronizer<ReaderGroupState> sync, Controller controller, Supplier<Long> nanoClock) {
         Preconditions.checkNotNull(readerId);
@@ -124,6 +132,16 @@ public class ReaderGroupStateManager {
         updateConfigTimer = new TimeoutTimer(TIME_UNIT, nanoClock);
     }
 
+    /**
+     * Makes this reader report the load of its segments into the reader group and balance segments with other readers
+     * by load rather than by count (see {@link io.pravega.client.stream.ReaderConfig#isBalanceByDataRate()}).
+     *
+     * @param loadTracker The tracker measuring the load of the reader's segments.
+     */
+    void setSegmentLoadTracker(SegmentLoadTracker loadTracker) {
+        this.loadTracker = loadTracker;
+    }
+
     /**
      * Add this reader to the reader group so that it is able to acquire segments
      */
@@ -229,7 +247,7 @@ public class ReaderGroupStateManager {
         synchronized (decisionLock) {
             if (!releaseTimer.hasRemaining() && sync.getState().getCheckpointForReader(readerId) == null
                     && doesReaderOwnTooManySegments(sync.getState())) {
-                segment = findSegmentToRelease();
+                segment = findSegmentToRelease(sync.getState());
                 if (segment != null) {
                     releaseTimer.reset(UPDATE_WINDOW);
                     acquireTimer.reset(UPDATE_WINDOW);
@@ -244,6 +262,9 @@ public class ReaderGroupStateManager {
      * the reader with the least assigned to it.
      */
     private boolean doesReaderOwnTooManySegments(ReaderGroupState state) {
+        if (isBalancingByLoad(state)) {
+            return doesReaderCarryTooMuchLoad(state);
+        }
         Map<String, Double> sizesOfAssignemnts = state.getRelativeSizes();
         Set<Segment> assignedSegments = state.getSegments(readerId);
         if (sizesOfAssignemnts.isEmpty() || assignedSegments == null || assignedSegments.size() <= 1) {
@@ -254,16 +275,59 @@ public class ReaderGroupStateManager {
     }
 
     /**
-     * Given a set of segments returns one to release. The one returned is arbitrary.
+     * Returns true if this reader owns multiple segments, no segments are waiting to be acquired, and its load exceeds
+     * that of the least loaded reader by enough that releasing one of its segments would reduce the imbalance.
      */
-    private Segment findSegmentToRelease() {
-        Set<Segment> segments = sync.getState().getSegments(readerId);
+    private boolean doesReaderCarryTooMuchLoad(ReaderGroupState state) {
+        Set<Segment> assignedSegments = state.getSegments(readerId);
+        if (assignedSegments == null || assignedSegments.size() <= 1 || state.getNumberOfUnassignedSegments() > 0) {
+            return false;
+        }
+        Map<String, Long> readerLoads = state.getReaderLoads();
+        long min = Collections.min(readerLoads.values());
+        double average = readerLoads.values().stream().mapToLong(Long::longValue).average().getAsDouble();
+        long imbalance = readerLoads.get(readerId) - min;
+        return imbalance > average * LOAD_IMBALANCE_THRESHOLD && findSegmentToReleaseByLoad(state, imbalance) != null;
+    }
+
+    private boolean isBalancingByLoad(ReaderGroupState state) {
+        return loadTracker != null && state.hasSegmentLoads();
+    }
+
+    /**
+     * Given a set of segments returns one to release. When balancing by load, this is the one that best evens out the
+     * load between this reader and the least loaded one. Otherwise the one returned is arbitrary.
+     */
+    private Segment findSegmentToRelease(ReaderGroupState state) {
+        if (isBalancingByLoad(state)) {
+            Map<String, Long> readerLoads = state.getReaderLoads();
+            return findSegmentToReleaseByLoad(state, readerLoads.get(readerId) - Collections.min(readerLoads.values()));
+        }
+        Set<Segment> segments = state.getSegments(readerId);
         return segments.stream()
                        .max((s1, s2) -> Double.compare(hashHelper.hashToRange(s1.getScopedName()),
                                                        hashHelper.hashToRange(s2.getScopedName())))
                        .orElse(null);
     }
 
+    /**
+     * Moving a segment with load L from this reader to the least loaded one changes the difference between them from
+     * imbalance to |imbalance - 2L|, so any segment with 0 < L < imbalance helps, and one with L = imbalance / 2 is ideal.
+     */
+    private Segment findSegmentToReleaseByLoad(ReaderGroupState state, long imbalance) {
+        Segment result = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (Segment segment : state.getSegments(readerId)) {
+            long load = state.getSegmentLoad(segment);
+            long distance = Math.abs(imbalance - 2 * load);
+            if (load > 0 && load < imbalance && distance < bestDistance) {
+                result = segment;
+                bestDistance = distance;
+            }
+        }
+        return result;
+    }
+
     /**
      * Fetch the configured end offset for a configured segment. If end offset is not configured return Long.MAX_VALUE.
      *
@@ -290,12 +354,14 @@ public class ReaderGroupStateManager {
      * @throws ReaderNotInReaderGroupException If the reader has been declared offline.
      */
     boolean releaseSegment(Segment segment, long lastOffset, long timeLag, Position position) throws ReaderNotInReaderGroupException {
+        Map<Segment, Long> segmentLoads = getSegmentLoads(position);
         sync.updateState((state, updates) -> {
             Set<Segment> segments = state.getSegments(readerId);
             if (segments != null && segments.contains(segment) && state.getCheckpointForReader(readerId) == null
                     && doesReaderOwnTooManySegments(state)) {
                 updates.add(new ReleaseSegment(readerId, segment, lastOffset));
-                updates.add(new UpdateDistanceToTail(readerId, timeLag, position.asImpl().getOwnedSegmentRangesWithOffsets()));
+                updates.add(new UpdateDistanceToTail(readerId, timeLag, position.asImpl().getOwnedSegmentRangesWithOffsets(),
+                                                     segmentLoads));
             }
         });
         ReaderGroupState state = sync.getState();
@@ -336,7 +402,8 @@ public class ReaderGroupStateManager {
         if (!lagUpdateTimer.hasRemaining()) {
             log.debug("Update lag for reader {}", readerId);
             resetLagUpdateTimer();
-            sync.updateStateUnconditionally(new UpdateDistanceToTail(readerId, timeLag, position.asImpl().getOwnedSegmentRangesWithOffsets()));
+            sync.updateStateUnconditionally(new UpdateDistanceToTail(readerId, timeLag, position.asImpl().getOwnedSegmentRangesWithOffsets(),
+                                                                     getSegmentLoads(position)));
             resetFetchUpdateTimer();
             sync.fetchUpdates();
             return true;
@@ -344,6 +411,14 @@ public class ReaderGroupStateManager {
         return false;
     }
 
+    /**
+     * @return The load of the reader's segments, or null if this reader does not track them.
+     */
+    private Map<Segment, Long> getSegmentLoads(Position position) {
+        SegmentLoadTracker tracker = loadTracker;
+        return tracker == null ? null : tracker.getSegmentLoads(position.asImpl().getOwnedSegmentsWithOffsets());
+    }
+
     private void resetFetchUpdateTimer() {
         long groupRefreshTimeMillis = sync.getState().getConfig().getGroupRefreshTimeMillis();
         fetchStateTimer.reset(Duration.ofMillis(groupRefreshTimeMillis));
@@ -416,6 +491,7 @@ public class ReaderGroupStateManager {
 
     private Map<SegmentWithRange, Long> acquireSegment(long timeLag, Position position) throws ReaderNotInReaderGroupException {
         AtomicBoolean reinitRequired = new AtomicBoolean();
+        Map<Segment, Long> segmentLoads = getSegmentLoads(position);
         Map<SegmentWithRange, Long> result = sync.updateState((state, updates) -> {
             if (!state.isReaderOnline(readerId)) {
                 reinitRequired.set(true);
@@ -425,20 +501,26 @@ public class ReaderGroupStateManager {
             if (state.getCheckpointForReader(readerId) != null) {
                 return Collections.<SegmentWithRange, Long>emptyMap();
             }
-            int toAcquire = calculateNumSegmentsToAcquire(state);
-            if (toAcquire == 0) {
+            Map<SegmentWithRange, Long> unassignedSegments = state.getUnassignedSegments();
+            List<SegmentWithRange> toAcquire;
+            if (isBalancingByLoad(state)) {
+                toAcquire = selectSegmentsToAcquireByLoad(state, unassignedSegments.keySet());
+            } else {
+                toAcquire = unassignedSegments.keySet()
+                                              .stream()
+                                              .limit(calculateNumSegmentsToAcquire(state))
+                                              .collect(Collectors.toList());
+            }
+            if (toAcquire.isEmpty()) {
                 return Collections.<SegmentWithRange, Long>emptyMap();
             }
-            Map<SegmentWithRange, Long> unassignedSegments = state.getUnassignedSegments();
-            Map<SegmentWithRange, Long> acquired = new HashMap<>(toAcquire);
-            Iterator<Entry<SegmentWithRange, Long>> iter = unassignedSegments.entrySet().iterator();
-            for (int i = 0; i < toAcquire; i++) {
-                assert iter.hasNext();
-                Entry<SegmentWithRange, Long> segment = iter.next();
-                acquired.put(segment.getKey(), segment.getValue());
-                updates.add(new AcquireSegment(readerId, segment.getKey().getSegment()));
+            Map<SegmentWithRange, Long> acquired = new HashMap<>(toAcquire.size());
+            for (SegmentWithRange segment : toAcquire) {
+                acquired.put(segment, unassignedSegments.get(segment));
+                updates.add(new AcquireSegment(readerId, segment.getSegment()));
             }
-            updates.add(new UpdateDistanceToTail(readerId, timeLag, position.asImpl().getOwnedSegmentRangesWithOffsets()));
+            updates.add(new UpdateDistanceToTail(readerId, timeLag, position.asImpl().getOwnedSegmentRangesWithOffsets(),
+                                                 segmentLoads));
             return acquired;
         });
         if (reinitRequired.get()) {
@@ -463,6 +545,37 @@ public class ReaderGroupStateManager {
         return Math.max(Math.max(equallyDistributed, fairlyDistributed), 1);
     }
 
+    /**
+     * Selects the unassigned segments to acquire so that this reader's load comes as close as possible to an even share
+     * of the group's load, preferring the most loaded segments. If that selects nothing but this is the least loaded
+     * reader, the most loaded segment is selected so that unassigned segments are always eventually read.
+     */
+    private List<SegmentWithRange> selectSegmentsToAcquireByLoad(ReaderGroupState state, Set<SegmentWithRange> unassignedSegments) {
+        Map<String, Long> readerLoads = state.getReaderLoads();
+        List<SegmentWithRange> candidates = new ArrayList<>(unassignedSegments);
+        candidates.sort(Comparator.comparingLong((SegmentWithRange s) -> state.getSegmentLoad(s.getSegment())).reversed());
+        long totalLoad = readerLoads.values().stream().mapToLong(Long::longValue).sum()
+                + candidates.stream().mapToLong(s -> state.getSegmentLoad(s.getSegment())).sum();
+        long fairShare = totalLoad / readerLoads.size();
+        long ownLoad = readerLoads.get(readerId);
+        List<SegmentWithRange> result = new ArrayList<>();
+        Iterator<SegmentWithRange> iter = candidates.iterator();
+        while (iter.hasNext() && ownLoad < fairShare) {
+            SegmentWithRange segment = iter.next();
+            long load = state.getSegmentLoad(segment.getSegment());
+            // Take the segment unless it would overshoot the fair share by more than it would make up for.
+            if (ownLoad + load - fairShare < fairShare - ownLoad) {
+                result.add(segment);
+                ownLoad += load;
+                iter.remove();
+            }
+        }
+        if (result.isEmpty() && !candidates.isEmpty() && ownLoad <= Collections.min(readerLoads.values())) {
+            result.add(candidates.get(0));
+        }
+        return result;
+    }
+
     @VisibleForTesting
     static Duration calculateAcquireTime(String readerId, ReaderGroupState state) {
         int multiplier = state.getNumberOfReaders() - state.getRanking(readerId);
@@ -0,0 +1,143 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.client.segment.impl.Segment;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the load of each of the segments owned by a reader (see
+ * {@link io.pravega.client.stream.ReaderConfig#isBalanceByDataRate()}), so that the reader group can balance segments
+ * between readers by the amount of data they carry rather than by their number.
+ * <p>
+ * The load of a segment, in bytes per second, is the rate at which the reader has consumed it plus the rate needed to
+ * drain the segment's backlog (the distance between the reader's offset and the segment's length) within
+ * {@link #BACKLOG_DRAIN_TIME}. The latter accounts for segments that are produced to faster than the reader can
+ * consume them, whose consumption rate alone would underestimate their load.
+ */
+@Slf4j
+class SegmentLoadTracker {
+    /**
+     * The time within which a segment's backlog is expected to be drained.
+     */
+    static final Duration BACKLOG_DRAIN_TIME = Duration.ofSeconds(30);
+    /**
+     * The minimum time a segment must have been read from before its load is reported.
+     */
+    static final Duration MIN_MEASUREMENT_TIME = Duration.ofSeconds(5);
+    /**
+     * Consumption older than this is progressively discounted, so that the measured rate follows changes in load.
+     */
+    static final Duration RATE_WINDOW = Duration.ofSeconds(60);
+
+    private final Function<Segment, CompletableFuture<Long>> fetchSegmentLength;
+    private final Supplier<Long> clock;
+    @GuardedBy("this")
+    private final Map<Segment, SegmentStats> segments = new HashMap<>();
+
+    /**
+     * Creates a new instance of the SegmentLoadTracker class.
+     *
+     * @param fetchSegmentLength A function that fetches the current length of a segment.
+     * @param clock              A clock that returns the current time in milliseconds.
+     */
+    SegmentLoadTracker(Function<Segment, CompletableFuture<Long>> fetchSegmentLength, Supplier<Long> clock) {
+        this.fetchSegmentLength = Preconditions.checkNotNull(fetchSegmentLength, "fetchSegmentLength");
+        this.clock = Preconditions.checkNotNull(clock, "clock");
+    }
+
+    /**
+     * Records that the reader has consumed an event from a segment.
+     *
+     * @param segment The segment the event was read from.
+     * @param length  The number of bytes the event took up in the segment.
+     */
+    synchronized void recordRead(Segment segment, long length) {
+        segments.computeIfAbsent(segment, s -> new SegmentStats(clock.get())).bytesRead += length;
+    }
+
+    /**
+     * Gets the load of the given segments and stops tracking any segment that is no longer owned by the reader. Segments
+     * that have not been tracked for at least {@link #MIN_MEASUREMENT_TIME} are left out of the result.
+     * <p>
+     * This also triggers an asynchronous refresh of the length of each segment, which will be reflected in the backlog
+     * the next time this method is invoked.
+     *
+     * @param offsets The segments owned by the reader, mapped to the reader's offset within them.
+     * @return A map from segment to its load, in bytes per second.
+     */
+    synchronized Map<Segment, Long> getSegmentLoads(Map<Segment, Long> offsets) {
+        long now = clock.get();
+        segments.keySet().retainAll(offsets.keySet());
+        Map<Segment, Long> result = new HashMap<>();
+        for (Entry<Segment, Long> entry : offsets.entrySet()) {
+            if (entry.getValue() < 0) {
+                continue; // The segment has been completed.
+            }
+            SegmentStats stats = segments.computeIfAbsent(entry.getKey(), s -> new SegmentStats(now));
+            long elapsed = now - stats.startTime;
+            if (elapsed >= MIN_MEASUREMENT_TIME.toMillis()) {
+                long rate = stats.bytesRead * 1000 / elapsed;
+                long backlog = stats.length < 0 ? 0 : Math.max(0, stats.length - entry.getValue());
+                result.put(entry.getKey(), rate + backlog * 1000 / BACKLOG_DRAIN_TIME.toMillis());
+                if (elapsed > RATE_WINDOW.toMillis()) {
+                    stats.bytesRead /= 2;
+                    stats.startTime = now - elapsed / 2;
+                }
+            }
+            refreshLength(entry.getKey(), stats);
+        }
+        return result;
+    }
+
+    @GuardedBy("this")
+    private void refreshLength(Segment segment, SegmentStats stats) {
+        if (stats.fetchingLength) {
+            return;
+        }
+        stats.fetchingLength = true;
+        fetchSegmentLength.apply(segment).whenComplete((length, e) -> {
+            synchronized (this) {
+                stats.fetchingLength = false;
+                if (e != null) {
+                    log.debug("Unable to fetch the length of segment {}.", segment, e);
+                } else {
+                    stats.length = length;
+                }
+            }
+        });
+    }
+
+    private static class SegmentStats {
+        private long startTime;
+        private long bytesRead;
+        private long length = -1;
+        private boolean fetchingLength;
+
+        SegmentStats(long startTime) {
+            this.startTime = startTime;
+        }
+    }
+}
@@ -172,6 +172,25 @@ public interface KeyValueTable extends AutoCloseable {
      */
     CompletableFuture<List<Version>> update(@NonNull Iterable<TableModification> updates);
 
+    /**
+     * Performs a batch of {@link TableEntryUpdate}s to the {@link KeyValueTable} for {@link TableKey}s that may have
+     * different {@link TableKey#getPrimaryKey()}s.
+     * <p>
+     * The Table Partitions that the given {@link TableKey}s map to must be colocated (i.e., be served by the same Segment
+     * Container). Use {@link #update(Iterable)} instead if all the {@link TableKey}s share the same Primary Key.
+     * <p>
+     * This operation is atomic: either all the updates are applied (across all the Table Partitions) or none of them is.
+     * If any of the conditions (see {@link #update(TableModification)}) is not met, the returned future will be failed
+     * with a {@link ConditionalTableUpdateException} and no Table Partition will have been updated.
+     *
+     * @param updates An {@link Iterable} of {@link TableEntryUpdate}s to apply to the {@link KeyValueTable}.
+     * @return A CompletableFuture that, when completed, will contain a List of {@link Version} instances which
+     * represent the versions for the updated or inserted keys. The size of this list will be the same as the number of
+     * items in {@code updates} and the versions will be in the same order as the {@code updates}. If the Table Partitions
+     * are not colocated, this will be failed with an {@link IllegalArgumentException}.
+     */
+    CompletableFuture<List<Version>> updateAcrossPartitions(@NonNull Iterable<TableEntryUpdate> updates);
+
     /**
      * Determines if the given {@link TableKey} exists or not.
      *
@@ -33,19 +33,36 @@ public class KeyValueTableClientConfiguration implements Serializable {
     private final int maxBackoffMillis;
     private final int retryAttempts;
     private final int backoffMultiple;
+    /**
+     * The maximum number of {@link TableEntry} instances to cache locally for {@link KeyValueTable#get} and
+     * {@link KeyValueTable#getAll}. A value of 0 (default) disables the read cache.
+     */
+    private final int readCacheMaxEntries;
+    /**
+     * The maximum amount of time (in milliseconds) a cached {@link TableEntry} may be served from the read cache before
+     * it must be re-fetched from the server. This bounds how stale a cached value may be with respect to updates made by
+     * other clients. Updates made through the same {@link KeyValueTable} instance invalidate the cache immediately.
+     */
+    private final long readCacheExpiryMillis;
 
     public static final class KeyValueTableClientConfigurationBuilder {
         private int initialBackoffMillis = 10;
         private int maxBackoffMillis = 30000;
         private int retryAttempts = 10;
         private int backoffMultiple = 4;
+        private int readCacheMaxEntries = 0;
+        private long readCacheExpiryMillis = 1000;
 
         public KeyValueTableClientConfiguration build() {
             Preconditions.checkArgument(this.initialBackoffMillis >= 0, "Initial backoff must be non-negative number.");
             Preconditions.checkArgument(this.backoffMultiple >= 0, "Backoff multiple must be a non-negative number.");
             Preconditions.checkArgument(this.maxBackoffMillis >= 0, "Max backoff time must be non-negative number.");
             Preconditions.checkArgument(this.retryAttempts > 0, "Retry attempts must be a positive number.");
-            return new KeyValueTableClientConfiguration(this.initialBackoffMillis, this.maxBackoffMillis, this.retryAttempts, this.backoffMultiple);
+            Preconditions.checkArgument(this.readCacheMaxEntries >= 0, "Read cache max entries must be a non-negative number.");
+            Preconditions.checkArgument(this.readCacheMaxEntries == 0 || this.readCacheExpiryMillis > 0,
+                    "Read cache expiry must be a positive number if the read cache is enabled.");
+            return new KeyValueTableClientConfiguration(this.initialBackoffMillis, this.maxBackoffMillis, this.retryAttempts,
+                    this.backoffMultiple, this.readCacheMaxEntries, this.readCacheExpiryMillis);
         }
     }
 }
@@ -15,13 +15,18 @@
  */
 package io.pravega.client.tables.impl;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Iterators;
 import io.netty.buffer.ByteBuf;
 import io.pravega.client.admin.KeyValueTableInfo;
 import io.pravega.client.control.impl.Controller;
 import io.pravega.client.tables.ConditionalTableUpdateException;
 import io.pravega.client.tables.KeyValueTable;
+import io.pravega.client.tables.KeyValueTableClientConfiguration;
 import io.pravega.client.tables.KeyValueTableConfiguration;
 import io.pravega.client.tables.Remove;
 import io.pravega.client.tables.TableEntry;
@@ -31,18 +36,26 @@ import io.pravega.client.tables.TableModification;
 import io.pravega.client.tables.Version;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.shared.NameUtils;
+import io.pravega.shared.metrics.ClientMetricKeys;
+import io.pravega.shared.metrics.MetricNotifier;
 import java.nio.ByteBuffer;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Data;
@@ -57,12 +70,27 @@ import lombok.val;
 public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
     //region Members
 
+    private static final int READ_CACHE_GENERATION_STRIPES = 256;
+
     private final SegmentSelector selector;
     private final String logTraceId;
     private final AtomicBoolean closed;
     private final KeyValueTableConfiguration config;
     private final TableEntryHelper entryHelper;
     private final Executor executor;
+    /**
+     * Optional read cache (null if disabled). Entries are keyed by {@link TableKey} and expire after a configured amount
+     * of time, which bounds their staleness with respect to updates made by other clients.
+     */
+    private final Cache<TableKey, TableEntry> readCache;
+    /**
+     * Invalidation generations for the read cache, striped by {@link TableKey} hash. A stripe is incremented every time
+     * a Key mapping to it is invalidated, which allows a read to detect (and not cache) a value it fetched before an
+     * update to that Key (or any other Key in the same stripe) completed.
+     */
+    private final AtomicLongArray readCacheGenerations;
+    private final MetricNotifier metricNotifier;
+    private final String[] metricTags;
 
     //endregion
 
@@ -78,7 +106,41 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
      */
     KeyValueTableImpl(@NonNull KeyValueTableInfo kvt, @NonNull TableSegmentFactory tableSegmentFactory,
                       @NonNull Controller controller, @NonNull Executor executor) {
+        this(kvt, tableSegmentFactory, controller, KeyValueTableClientConfiguration.builder().build(), executor);
+    }
+
+    /**
+     * Creates a new instance of the {@link KeyValueTableImpl} class.
+     *
+     * @param kvt                 A {@link KeyValueTableInfo} containing information about the Key-Value Table.
+     * @param tableSegmentFactory Factory to create {@link TableSegment} instances.
+     * @param controller          Controller client.
+     * @param clientConfig        A {@link KeyValueTableClientConfiguration} to use.
+     * @param executor            An Executor for async operations.
+     */
+    KeyValueTableImpl(@NonNull KeyValueTableInfo kvt, @NonNull TableSegmentFactory tableSegmentFactory,
+                      @NonNull Controller controller, @NonNull KeyValueTableClientConfiguration clientConfig,
+                      @NonNull Executor executor) {
+        this(kvt, tableSegmentFactory, controller, clientConfig, MetricNotifier.NO_OP_METRIC_NOTIFIER, executor);
+    }
+
+    /**
+     * Creates a new instance of the {@link KeyValueTableImpl} class.
+     *
+     * @param kvt                 A {@link KeyValueTableInfo} containing information about the Key-Value Table.
+     * @param tableSegmentFactory Factory to create {@link TableSegment} instances.
+     * @param controller          Controller client.
+     * @param clientConfig        A {@link KeyValueTableClientConfiguration} to use.
+     * @param metricNotifier      A {@link MetricNotifier} to report read cache metrics to. May be null, in which case no
+     *                            metrics will be reported.
+     * @param executor            An Executor for async operations.
+     */
+    KeyValueTableImpl(@NonNull KeyValueTableInfo kvt, @NonNull TableSegmentFactory tableSegmentFactory,
+                      @NonNull Controller controller, @NonNull KeyValueTableClientConfiguration clientConfig,
+                      MetricNotifier metricNotifier, @NonNull Executor executor) {
         this.executor = executor;
+        this.metricNotifier = metricNotifier == null ? MetricNotifier.NO_OP_METRIC_NOTIFIER : metricNotifier;
+        this.metricTags = NameUtils.keyValueTableTags(kvt.getScope(), kvt.getKeyValueTableName());
         this.selector = new SegmentSelector(kvt, controller, tableSegmentFactory);
         this.config = getConfig(kvt, controller);
         this.entryHelper = new TableEntryHelper(this.selector, this.config);
@@ -86,9 +148,23 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
         this.closed = new AtomicBoolean(false);
         Preconditions.checkArgument(config.getPartitionCount() == this.selector.getSegmentCount(),
                 "Inconsistent Segment Count. Expected %s, actual %s.", config.getPartitionCount(), this.selector.getSegmentCount());
+        this.readCache = createReadCache(clientConfig);
+        this.readCacheGenerations = this.readCache == null ? null : new AtomicLongArray(READ_CACHE_GENERATION_STRIPES);
         log.info("{}: Initialized. Config: {}.", this.logTraceId, this.config);
     }
 
+    private Cache<TableKey, TableEntry> createReadCache(KeyValueTableClientConfiguration clientConfig) {
+        if (clientConfig.getReadCacheMaxEntries() <= 0) {
+            return null;
+        }
+
+        return CacheBuilder.newBuilder()
+                .maximumSize(clientConfig.getReadCacheMaxEntries())
+                .expireAfterWrite(clientConfig.getReadCacheExpiryMillis(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
     private KeyValueTableConfiguration getConfig(KeyValueTableInfo kvt, Controller controller) {
         return Futures.getAndHandleExceptions(
                 controller.getKeyValueTableConfiguration(kvt.getScope(), kvt.getKeyValueTableName()),
@@ -103,7 +179,12 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
     public void close() {
         if (this.closed.compareAndSet(false, true)) {
             this.selector.close();
-            log.info("{}: Closed.", this.logTraceId);
+            if (this.readCache != null) {
+                log.info("{}: Closed. Read cache stats: {}.", this.logTraceId, this.readCache.stats());
+                this.readCache.invalidateAll();
+            } else {
+                log.info("{}: Closed.", this.logTraceId);
+            }
         }
     }
 
@@ -117,11 +198,13 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
         if (update.isRemoval()) {
             val removeArgs = new UpdateArg<TableSegmentKey>(update.getKey().getPrimaryKey(), s,
                     Iterators.singletonIterator(this.entryHelper.toTableSegmentKey(s, (Remove) update)));
-            return removeFromSegment(removeArgs.getTableSegment(), removeArgs.getAllArgs()).thenApply(r -> null);
+            return invalidateOnCompletion(removeFromSegment(removeArgs.getTableSegment(), removeArgs.getAllArgs()), update)
+                    .thenApply(r -> null);
         } else {
             val updateArgs = new UpdateArg<>(update.getKey().getPrimaryKey(), s,
                     Iterators.singletonIterator(this.entryHelper.toTableSegmentEntry(s, (TableEntryUpdate) update)));
-            return updateToSegment(updateArgs.getTableSegment(), updateArgs.getAllArgs()).thenApply(r -> r.get(0));
+            return invalidateOnCompletion(updateToSegment(updateArgs.getTableSegment(), updateArgs.getAllArgs()), update)
+                    .thenApply(r -> r.get(0));
         }
     }
 
@@ -138,14 +221,47 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
         if (firstInput.isRemoval()) {
             val args = toArg(firstInput, inputIterator, ts,
                     u -> this.entryHelper.toTableSegmentKey(ts, (Remove) u));
-            return removeFromSegment(args.getTableSegment(), args.getAllArgs()).thenApply(r -> Collections.emptyList());
+            return invalidateOnCompletion(removeFromSegment(args.getTableSegment(), args.getAllArgs()), updates)
+                    .thenApply(r -> Collections.emptyList());
         } else {
             val args = toArg(firstInput, inputIterator, ts,
                     u -> this.entryHelper.toTableSegmentEntry(ts, (TableEntryUpdate) u));
-            return updateToSegment(args.getTableSegment(), args.getAllArgs());
+            return invalidateOnCompletion(updateToSegment(args.getTableSegment(), args.getAllArgs()), updates);
         }
     }
 
+    @Override
+    public CompletableFuture<List<Version>> updateAcrossPartitions(@NonNull Iterable<TableEntryUpdate> updates) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+
+        // Group the updates by Table Segment, but remember where each of them was so we can return the versions in order.
+        val bySegment = new LinkedHashMap<TableSegment, List<TableSegmentEntry>>();
+        val positions = new ArrayList<Map.Entry<TableSegment, Integer>>();
+        for (val u : updates) {
+            val ts = this.selector.getTableSegment(u.getKey().getPrimaryKey());
+            val segmentEntries = bySegment.computeIfAbsent(ts, s -> new ArrayList<>());
+            positions.add(new AbstractMap.SimpleImmutableEntry<>(ts, segmentEntries.size()));
+            segmentEntries.add(this.entryHelper.toTableSegmentEntry(ts, u));
+        }
+
+        if (bySegment.isEmpty()) {
+            // Empty input - nothing to do.
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        } else if (bySegment.size() == 1) {
+            // Everything maps to the same Table Segment; no need for a multi-segment update.
+            val e = bySegment.entrySet().iterator().next();
+            return invalidateOnCompletion(updateToSegment(e.getKey(), e.getValue().iterator()), updates);
+        }
+
+        val entries = new HashMap<TableSegment, Iterator<TableSegmentEntry>>();
+        bySegment.forEach((ts, segmentEntries) -> entries.put(ts, segmentEntries.iterator()));
+        val result = bySegment.keySet().iterator().next().put(entries)
+                .thenApply(versions -> positions.stream()
+                        .map(p -> (Version) new VersionImpl(p.getKey().getSegmentId(), versions.get(p.getKey()).get(p.getValue())))
+                        .collect(Collectors.toList()));
+        return invalidateOnCompletion(result, updates);
+    }
+
     @Override
     public CompletableFuture<Boolean> exists(@NonNull TableKey key) {
         // We attempt a removal conditioned on the key not existing (no-op if key actual exists). This is preferred to
@@ -173,7 +289,75 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
     @Override
     public CompletableFuture<List<TableEntry>> getAll(@NonNull Iterable<TableKey> keys) {
         Exceptions.checkNotClosed(this.closed.get(), this);
+        if (this.readCache == null) {
+            return fetch(keys);
+        }
+
+        // Serve whatever we can from the cache and only fetch the remaining keys from the server.
+        val result = new ArrayList<TableEntry>();
+        val missingKeys = new ArrayList<TableKey>();
+        val missingOrdinals = new ArrayList<Integer>();
+        val missingGenerations = new ArrayList<Long>();
+        for (val k : keys) {
+            val cached = this.readCache.getIfPresent(k);
+            if (cached == null) {
+                missingOrdinals.add(result.size());
+                missingKeys.add(k);
+                // Must be read before the fetch is issued; see fillReadCache.
+                missingGenerations.add(this.readCacheGenerations.get(getGenerationStripe(k)));
+            }
+            result.add(cached == null ? null : duplicate(cached));
+        }
+
+        reportReadCacheMetrics();
+        if (missingKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        return fetch(missingKeys)
+                .thenApply(fetched -> {
+                    for (int i = 0; i < fetched.size(); i++) {
+                        val e = fetched.get(i);
+                        if (e != null) {
+                            fillReadCache(missingKeys.get(i), e, missingGenerations.get(i));
+                        }
+                        result.set(missingOrdinals.get(i), e);
+                    }
+                    return result;
+                });
+    }
+
+    private void fillReadCache(TableKey key, TableEntry entry, long generationBeforeFetch) {
+        val stripe = getGenerationStripe(key);
+        if (this.readCacheGenerations.get(stripe) != generationBeforeFetch) {
+            // An update to this Key (or one sharing its stripe) completed while we were fetching it, so the fetched
+            // value may predate it.
+            return;
+        }
+
+        // Index by (a copy of) the requested key, which may differ in form (but not in content) from the one returned
+        // by the server (i.e., a missing vs. empty Secondary Key).
+        val cacheKey = copy(key);
+        this.readCache.put(cacheKey, duplicate(entry));
+        if (this.readCacheGenerations.get(stripe) != generationBeforeFetch) {
+            // An invalidation raced with our put (it may have executed before the put), so undo it.
+            this.readCache.invalidate(cacheKey);
+        }
+    }
 
+    private int getGenerationStripe(TableKey key) {
+        return Math.floorMod(key.hashCode(), READ_CACHE_GENERATION_STRIPES);
+    }
+
+    private void reportReadCacheMetrics() {
+        if (!this.metricNotifier.equals(MetricNotifier.NO_OP_METRIC_NOTIFIER)) {
+            // The notifier only publishes the latest value for each metric, so this is reported as a gauge.
+            val hitRate = Math.round(this.readCache.stats().hitRate() * 100);
+            this.metricNotifier.updateSuccessMetric(ClientMetricKeys.CLIENT_KVT_READ_CACHE_HIT_RATE, this.metricTags, hitRate);
+        }
+    }
+
+    private CompletableFuture<List<TableEntry>> fetch(Iterable<TableKey> keys) {
         val bySegment = new HashMap<TableSegment, KeyGroup>();
         val count = new AtomicInteger(0);
         keys.forEach(k -> {
@@ -211,6 +395,52 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
 
     //region Helpers
 
+    /**
+     * Returns the read cache statistics, or null if the read cache is disabled.
+     *
+     * @return A {@link CacheStats} instance, or null.
+     */
+    @VisibleForTesting
+    CacheStats getReadCacheStats() {
+        return this.readCache == null ? null : this.readCache.stats();
+    }
+
+    private <T> CompletableFuture<T> invalidateOnCompletion(CompletableFuture<T> future, TableModification update) {
+        return invalidateOnCompletion(future, Collections.singleton(update));
+    }
+
+    private <T, M extends TableModification> CompletableFuture<T> invalidateOnCompletion(CompletableFuture<T> future, Iterable<M> updates) {
+        if (this.readCache == null) {
+            return future;
+        }
+
+        // Invalidate regardless of outcome: a successful update makes the cached value obsolete, while a failed
+        // (conditional) update is a strong hint that our cached copy is already stale. The generation must be bumped
+        // before invalidating so that any in-flight read of the same Key does not put back what it fetched.
+        return future.whenComplete((r, ex) -> updates.forEach(u -> {
+            this.readCacheGenerations.incrementAndGet(getGenerationStripe(u.getKey()));
+            this.readCache.invalidate(u.getKey());
+        }));
+    }
+
+    private TableKey copy(TableKey k) {
+        return new TableKey(copy(k.getPrimaryKey()), k.getSecondaryKey() == null ? null : copy(k.getSecondaryKey()));
+    }
+
+    private ByteBuffer copy(ByteBuffer b) {
+        val result = ByteBuffer.allocate(b.remaining());
+        result.put(b.duplicate());
+        result.flip();
+        return result;
+    }
+
+    private TableEntry duplicate(TableEntry e) {
+        // Cached entries are shared, so we must never hand out ByteBuffers whose position/limit could be changed by callers.
+        val key = new TableKey(e.getKey().getPrimaryKey().duplicate(),
+                e.getKey().getSecondaryKey() == null ? null : e.getKey().getSecondaryKey().duplicate());
+        return new TableEntry(key, e.getVersion(), e.getValue() == null ? null : e.getValue().duplicate());
+    }
+
     private <T> UpdateArg<T> toArg(TableModification firstInput, Iterator<TableModification> inputIterator, TableSegment ts,
                                    Function<TableModification, T> convert) {
         val firstInputIterator = Iterators.singletonIterator(convert.apply(firstInput));
@@ -23,6 +23,7 @@ import io.pravega.common.util.AsyncIterator;
 import io.pravega.shared.protocol.netty.WireCommands;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -108,6 +109,26 @@ public interface TableSegment extends AutoCloseable {
      */
     CompletableFuture<List<TableSegmentKeyVersion>> put(Iterator<TableSegmentEntry> entries);
 
+    /**
+     * Inserts new or updates existing Table Entries into multiple Table Segments. All the Table Segments must belong to
+     * the same Segment Container (and therefore be served by the same Segment Store instance as this Table Segment). The
+     * request will be sent using this Table Segment's connection.
+     * <p>
+     * The update is atomic: either all the Table Segments are updated or none of them is.
+     *
+     * @param entries A Map of {@link TableSegment}s to Iterators containing the entries to insert or update in each.
+     *                See {@link #put(Iterator)} for details on each Iterator.
+     * @return A CompletableFuture that, when completed, will contain a Map of {@link TableSegment}s to Lists of
+     * {@link TableSegmentKeyVersion} instances which represent the versions for the inserted/updated keys in that
+     * Table Segment (in the same order as the entries provided). Notable exceptions:
+     * <ul>
+     * <li>{@link ConditionalTableUpdateException} If any of the conditions was not satisfied. None of the Table Segments
+     * will have been updated.
+     * <li>{@link IllegalArgumentException} If the Table Segments do not belong to the same Segment Container.
+     * </ul>
+     */
+    CompletableFuture<Map<TableSegment, List<TableSegmentKeyVersion>>> put(Map<TableSegment, Iterator<TableSegmentEntry>> entries);
+
     /**
      * Removes the given key from this Table Segment.
      *
@@ -198,6 +219,13 @@ public interface TableSegment extends AutoCloseable {
      */
     long getSegmentId();
 
+    /**
+     * Gets the fully qualified name of the Table Segment.
+     *
+     * @return The Table Segment name.
+     */
+    String getSegmentName();
+
     @Override
     void close();
 }
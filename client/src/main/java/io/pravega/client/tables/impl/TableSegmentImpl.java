@@ -43,6 +43,7 @@ import io.pravega.shared.protocol.netty.WireCommands;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +72,7 @@ class TableSegmentImpl implements TableSegment {
     private static final int MAX_GET_KEY_BATCH_SIZE = TableSegment.MAXIMUM_BATCH_LENGTH / (TableSegment.MAXIMUM_KEY_LENGTH + TableSegment.MAXIMUM_VALUE_LENGTH);
     private static final int MAX_GET_CONCURRENT_REQUESTS = 5;
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(TableSegmentImpl.class));
+    @Getter
     private final String segmentName;
     @Getter
     private final long segmentId;
@@ -139,6 +141,27 @@ class TableSegmentImpl implements TableSegment {
         });
     }
 
+    @Override
+    public CompletableFuture<Map<TableSegment, List<TableSegmentKeyVersion>>> put(@NonNull Map<TableSegment, Iterator<TableSegmentEntry>> tableEntries) {
+        val segments = new ArrayList<TableSegment>(tableEntries.keySet());
+        val segmentNames = segments.stream().map(TableSegment::getSegmentName).collect(Collectors.toList());
+        val wireEntries = segments.stream().map(s -> entriesToWireCommand(tableEntries.get(s))).collect(Collectors.toList());
+        return this.writeContext.execute((state, requestId) -> {
+            val request = new WireCommands.UpdateTableEntriesBatch(requestId, segmentNames, state.getToken(), wireEntries);
+
+            return sendRequest(request, state, WireCommands.TableEntriesBatchUpdated.class)
+                    .thenApply(reply -> {
+                        val result = new HashMap<TableSegment, List<TableSegmentKeyVersion>>();
+                        for (int i = 0; i < segments.size(); i++) {
+                            result.put(segments.get(i), reply.getUpdatedVersions().get(i).stream()
+                                    .map(TableSegmentKeyVersion::from)
+                                    .collect(Collectors.toList()));
+                        }
+                        return result;
+                    });
+        });
+    }
+
     @Override
     public CompletableFuture<Void> remove(@NonNull Iterator<TableSegmentKey> tableKeys) {
         val wireKeys = keysToWireCommand(tableKeys);
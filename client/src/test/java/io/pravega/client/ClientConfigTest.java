@@ -17,6 +17,7 @@ package io.pravega.client;
 
 import io.pravega.shared.security.auth.DefaultCredentials;
 import io.pravega.client.stream.impl.JavaSerializer;
+import io.pravega.test.common.AssertExtensions;
 import java.net.URI;
 
 import org.junit.Rule;
@@ -74,6 +75,20 @@ public class ClientConfigTest {
         assertEquals(ClientConfig.DEFAULT_MAX_CONNECTIONS_PER_SEGMENT_STORE, config1.getMaxConnectionsPerSegmentStore());
         ClientConfig config2 = ClientConfig.builder().maxConnectionsPerSegmentStore(1).build();
         assertEquals(1, config2.getMaxConnectionsPerSegmentStore());
+        assertFalse(defaultConfig.isNonBlockingTransport());
+        assertTrue(ClientConfig.builder().nonBlockingTransport(true).build().isNonBlockingTransport());
+        assertFalse(defaultConfig.isEnableVirtualThreads());
+        assertTrue(ClientConfig.builder().enableVirtualThreads(true).build().isEnableVirtualThreads());
+        assertEquals(0, defaultConfig.getAppendLatencyTargetMillis());
+        assertEquals(5, ClientConfig.builder().appendLatencyTargetMillis(5).build().getAppendLatencyTargetMillis());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ClientConfig.builder().appendLatencyTargetMillis(-1).build());
+        assertEquals(0, defaultConfig.getReadBufferBudgetBytes());
+        assertEquals(1024, ClientConfig.builder().readBufferBudgetBytes(1024).build().getReadBufferBudgetBytes());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ClientConfig.builder().readBufferBudgetBytes(-1).build());
+        assertNull(defaultConfig.getDomainSocketDirectory());
+        assertEquals("/tmp", ClientConfig.builder().domainSocketDirectory("/tmp").build().getDomainSocketDirectory());
+        assertFalse(defaultConfig.isCacheSegmentEndpoints());
+        assertTrue(ClientConfig.builder().cacheSegmentEndpoints(true).build().isCacheSegmentEndpoints());
     }
 
     @Test
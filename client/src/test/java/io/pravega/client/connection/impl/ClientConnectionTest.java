@@ -98,6 +98,25 @@ public class ClientConnectionTest {
         assertFalse(processor.failure.get());
     }
 
+    @Test(timeout = 10000)
+    public void testConnectionSetupWithVirtualThreads() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        ClientConnection clientConnection = TcpClientConnection
+            .connect(server.getUri(), ClientConfig.builder().enableVirtualThreads(true).build(), processor, executor, null)
+            .join();
+        clientConnection.send(new WireCommands.Hello(0, 1));
+        assertEquals(WireCommandType.HELLO, server.getReadCommands().take().getType());
+        server.sendReply(new WireCommands.Hello(0, 1));
+        AssertExtensions.assertEventuallyEquals(1, () -> processor.replies.size(), 5000);
+        assertFalse(processor.failure.get());
+    }
+
     @Test
     public void testAppendThrows() throws Exception {
         ReplyProcessor processor = new ReplyProcessor();
@@ -0,0 +1,167 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.pravega.client.ClientConfig;
+import io.pravega.common.Timer;
+import io.pravega.shared.protocol.netty.CommandDecoder;
+import io.pravega.shared.protocol.netty.CommandEncoder;
+import io.pravega.shared.protocol.netty.FailingReplyProcessor;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.TestUtils;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import static io.pravega.shared.metrics.MetricNotifier.NO_OP_METRIC_NOTIFIER;
+import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE;
+
+/**
+ * Benchmark for {@link TcpClientConnection} vs {@link NettyClientConnection} (see {@link ClientConfig#isNonBlockingTransport()}),
+ * measuring the number of threads and the amount of heap required to hold {@link #CONNECTION_COUNT} open connections,
+ * as well as the request/reply throughput across all of them. The server is a local echo server, so the results only
+ * reflect client-side overhead.
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class ClientTransportBenchmarkTest {
+    private static final int CONNECTION_COUNT = 1000;
+    private static final int REQUESTS_PER_CONNECTION = 100;
+    private static final int ITERATION_COUNT = 3;
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private int port;
+
+    @Before
+    public void setUp() {
+        port = TestUtils.getAvailableListenPort();
+        serverGroup = new NioEventLoopGroup();
+        ServerBootstrap b = new ServerBootstrap();
+        b.group(serverGroup)
+         .channel(NioServerSocketChannel.class)
+         .option(ChannelOption.SO_BACKLOG, CONNECTION_COUNT)
+         .childHandler(new ChannelInitializer<SocketChannel>() {
+             @Override
+             public void initChannel(SocketChannel ch) {
+                 ch.pipeline().addLast(new CommandEncoder(null, NO_OP_METRIC_NOTIFIER),
+                                       new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4),
+                                       new CommandDecoder(),
+                                       new ChannelInboundHandlerAdapter() {
+                                           @Override
+                                           public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                               ctx.writeAndFlush(msg);
+                                           }
+                                       });
+             }
+         });
+        serverChannel = b.bind("localhost", port).awaitUninterruptibly().channel();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        serverChannel.close().awaitUninterruptibly();
+        serverGroup.shutdownGracefully().await();
+    }
+
+    @Test
+    public void testBlockingTransport() throws Exception {
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            run("Blocking", i, ClientConfig.builder().build());
+        }
+    }
+
+    @Test
+    public void testNonBlockingTransport() throws Exception {
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            run("NonBlocking", i, ClientConfig.builder().nonBlockingTransport(true).build());
+        }
+    }
+
+    private void run(String name, int iteration, ClientConfig config) throws Exception {
+        val threads = ManagementFactory.getThreadMXBean();
+        val memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        int initialThreads = threads.getThreadCount();
+        long initialHeap = memory.getHeapMemoryUsage().getUsed();
+
+        Semaphore replies = new Semaphore(0);
+        FailingReplyProcessor rp = new FailingReplyProcessor() {
+            @Override
+            public void hello(WireCommands.Hello hello) {
+                replies.release();
+            }
+
+            @Override
+            public void connectionDropped() {
+            }
+
+            @Override
+            public void processingFailure(Exception error) {
+            }
+
+            @Override
+            public void authTokenCheckFailed(WireCommands.AuthTokenCheckFailed authTokenCheckFailed) {
+            }
+        };
+
+        @Cleanup
+        SocketConnectionFactoryImpl factory = new SocketConnectionFactoryImpl(config);
+        List<ClientConnection> connections = new ArrayList<>();
+        for (int i = 0; i < CONNECTION_COUNT; i++) {
+            connections.add(factory.establishConnection(new PravegaNodeUri("localhost", port), rp).join());
+        }
+        System.gc();
+        int connectedThreads = threads.getThreadCount() - initialThreads;
+        long connectedHeap = memory.getHeapMemoryUsage().getUsed() - initialHeap;
+
+        val timer = new Timer();
+        for (int i = 0; i < REQUESTS_PER_CONNECTION; i++) {
+            for (ClientConnection c : connections) {
+                c.send(new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION));
+            }
+        }
+        int requestCount = CONNECTION_COUNT * REQUESTS_PER_CONNECTION;
+        replies.acquire(requestCount);
+        double seconds = timer.getElapsedNanos() / 1_000_000_000.0;
+        connections.forEach(ClientConnection::close);
+
+        System.out.println(String.format("%s: Iteration %s: %d connections, %d threads, %.1f MB heap, %.0f requests/sec.",
+                name, iteration, CONNECTION_COUNT, connectedThreads, connectedHeap / 1024.0 / 1024, requestCount / seconds));
+    }
+}
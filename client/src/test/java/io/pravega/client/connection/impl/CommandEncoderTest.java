@@ -32,6 +32,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -50,12 +52,18 @@ public class CommandEncoderTest {
     @RequiredArgsConstructor
     private static class FixedBatchSizeTracker implements AppendBatchSizeTracker {
         private final int batchSize;
+        private final List<Long> sent = new ArrayList<>();
         
         @Override
         public void recordAppend(long eventNumber, int size) {
             //Do nothing.
         }
 
+        @Override
+        public void recordSent(long eventNumber) {
+            sent.add(eventNumber);
+        }
+
         @Override
         public long recordAck(long eventNumber) {
             return 0;
@@ -109,6 +117,35 @@ public class CommandEncoderTest {
         assertEquals(output.decoded.remove(0), command);        
     }
     
+    @Test
+    public void testAppendsAreRecordedAsSentWhenFlushed() throws IOException {
+        FixedBatchSizeTracker batchSizeTracker = new FixedBatchSizeTracker(100);
+        DecodingOutputStream output = new DecodingOutputStream();
+        PravegaNodeUri endpoint = new PravegaNodeUri("localhost", SERVICE_PORT);
+        CommandEncoder commandEncoder = new CommandEncoder(x -> batchSizeTracker, null, output, null, endpoint);
+        UUID writerId = UUID.randomUUID();
+        commandEncoder.write(new WireCommands.SetupAppend(0, writerId, "seg", ""));
+
+        // The append opens a block. It is not sent until the block is closed, so the round trip is not timed yet.
+        ByteBuf data = Unpooled.wrappedBuffer(new byte[40]);
+        WireCommands.Event event = new WireCommands.Event(data);
+        commandEncoder.write(new Append("seg", writerId, 1, event, 0));
+        commandEncoder.write(new Append("seg", writerId, 2, event, 0));
+        assertTrue(batchSizeTracker.sent.isEmpty());
+
+        // The batch times out and the block is written out.
+        commandEncoder.batchTimeout(commandEncoder.batchTimeout(-1));
+        assertEquals(Collections.singletonList(2L), batchSizeTracker.sent);
+
+        // Filling up a block writes it out immediately.
+        batchSizeTracker.sent.clear();
+        commandEncoder.write(new Append("seg", writerId, 3, event, 0));
+        commandEncoder.write(new Append("seg", writerId, 4, event, 0));
+        assertTrue(batchSizeTracker.sent.isEmpty());
+        commandEncoder.write(new Append("seg", writerId, 5, event, 0));
+        assertEquals(Collections.singletonList(5L), batchSizeTracker.sent);
+    }
+
     @Test
     public void testAppendsAreBatched() throws IOException {
         AppendBatchSizeTracker batchSizeTracker = new FixedBatchSizeTracker(100);
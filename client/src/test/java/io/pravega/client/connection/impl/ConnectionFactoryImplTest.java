@@ -37,6 +37,7 @@ import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.FailingReplyProcessor;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.SecurityConfigDefaults;
 import io.pravega.test.common.TestUtils;
 import java.io.File;
@@ -227,4 +228,35 @@ public class ConnectionFactoryImplTest {
         // wait until the channel is closed.
         assertEquals("Expected active channel count is 0", 0, factory.getOpenSocketCount());
     }
+
+    @Test
+    public void establishNonBlockingConnectionAfterClose() {
+        SocketConnectionFactoryImpl factory = new SocketConnectionFactoryImpl(ClientConfig.builder()
+                .controllerURI(URI.create((this.ssl ? "tls://" : "tcp://") + "localhost"))
+                .trustStore(SecurityConfigDefaults.TLS_CA_CERT_PATH)
+                .nonBlockingTransport(true)
+                .build());
+        factory.close();
+
+        // The event loop can no longer be obtained: this must fail the returned future and not leak an open socket count.
+        AssertExtensions.assertFutureThrows("Expected connection to fail on a closed factory.",
+                factory.establishConnection(new PravegaNodeUri("localhost", port), new FailingReplyProcessor() {
+                    @Override
+                    public void connectionDropped() {
+
+                    }
+
+                    @Override
+                    public void processingFailure(Exception error) {
+
+                    }
+
+                    @Override
+                    public void authTokenCheckFailed(WireCommands.AuthTokenCheckFailed authTokenCheckFailed) {
+
+                    }
+                }),
+                ex -> ex instanceof IllegalStateException);
+        assertEquals("Expected active channel count is 0", 0, factory.getOpenSocketCount());
+    }
 }
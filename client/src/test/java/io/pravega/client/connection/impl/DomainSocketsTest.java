@@ -0,0 +1,214 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.pravega.client.ClientConfig;
+import io.pravega.shared.protocol.netty.CommandDecoder;
+import io.pravega.shared.protocol.netty.CommandEncoder;
+import io.pravega.shared.protocol.netty.DomainSocketAddresses;
+import io.pravega.shared.protocol.netty.FailingReplyProcessor;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.InlineExecutor;
+import io.pravega.test.common.TestUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import static io.pravega.shared.metrics.MetricNotifier.NO_OP_METRIC_NOTIFIER;
+import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DomainSocketsTest {
+    private static final int PORT = 12345;
+
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(30);
+
+    @Test
+    public void testIsLocalAddress() {
+        assertTrue(DomainSockets.isLocalAddress("localhost"));
+        assertTrue(DomainSockets.isLocalAddress("127.0.0.1"));
+        // Documentation-only address (RFC 5737), which is never assigned to a local interface.
+        assertFalse(DomainSockets.isLocalAddress("192.0.2.1"));
+    }
+
+    @Test
+    public void testFindLocalSocket() throws Exception {
+        Path directory = Files.createTempDirectory("pravega-sockets");
+        Path socket = DomainSocketAddresses.getSocketPath(directory.toString(), PORT);
+        try {
+            PravegaNodeUri local = new PravegaNodeUri("localhost", PORT);
+            ClientConfig config = ClientConfig.builder().domainSocketDirectory(directory.toString()).build();
+
+            // Not configured.
+            assertNull(DomainSockets.findLocalSocket(local, ClientConfig.builder().build()));
+            // No Segment Store socket.
+            assertNull(DomainSockets.findLocalSocket(local, config));
+
+            Files.createFile(socket);
+            assertEquals(DomainSockets.isSupported() ? socket : null, DomainSockets.findLocalSocket(local, config));
+            // Remote Segment Store, or one on another port.
+            assertNull(DomainSockets.findLocalSocket(new PravegaNodeUri("192.0.2.1", PORT), config));
+            assertNull(DomainSockets.findLocalSocket(new PravegaNodeUri("localhost", PORT + 1), config));
+            // TLS is required.
+            assertNull(DomainSockets.findLocalSocket(local, ClientConfig.builder().domainSocketDirectory(directory.toString())
+                                                                         .enableTlsToSegmentStore(true).build()));
+        } finally {
+            Files.deleteIfExists(socket);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testConnect() throws Exception {
+        Assume.assumeTrue(DomainSockets.isSupported() && Epoll.isAvailable());
+        Path directory = Files.createTempDirectory("pravega-sockets");
+        Path socket = DomainSocketAddresses.getSocketPath(directory.toString(), PORT);
+        EventLoopGroup group = new EpollEventLoopGroup(1);
+        AtomicInteger connections = new AtomicInteger();
+        try {
+            Channel server = new ServerBootstrap()
+                    .group(group)
+                    .channel(EpollServerDomainSocketChannel.class)
+                    .childHandler(createEchoHandler(connections))
+                    .bind(new DomainSocketAddress(socket.toFile())).sync().channel();
+
+            CompletableFuture<WireCommands.Hello> reply = new CompletableFuture<>();
+            FailingReplyProcessor rp = createReplyProcessor(reply);
+
+            // Nothing listens on this TCP port, so the connection can only succeed through the domain socket.
+            ClientConfig config = ClientConfig.builder().domainSocketDirectory(directory.toString()).build();
+            @Cleanup
+            InlineExecutor executor = new InlineExecutor();
+            @Cleanup
+            TcpClientConnection connection = TcpClientConnection.connect(new PravegaNodeUri("localhost", PORT), config, rp,
+                    executor, () -> { }).get(10, TimeUnit.SECONDS);
+            WireCommands.Hello hello = new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION);
+            connection.send(hello);
+            assertEquals(hello, reply.get(10, TimeUnit.SECONDS));
+            assertEquals(1, connections.get());
+            connection.close();
+            assertTrue(connection.isClosed());
+            server.close().sync();
+        } finally {
+            group.shutdownGracefully();
+            Files.deleteIfExists(socket);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testFallbackToTcp() throws Exception {
+        Assume.assumeTrue(DomainSockets.isSupported());
+        int port = TestUtils.getAvailableListenPort();
+        Path directory = Files.createTempDirectory("pravega-sockets");
+        // A stale socket file that nothing listens on: connecting to it fails.
+        Path socket = DomainSocketAddresses.getSocketPath(directory.toString(), port);
+        Files.createFile(socket);
+        EventLoopGroup group = new NioEventLoopGroup(1);
+        AtomicInteger connections = new AtomicInteger();
+        try {
+            Channel server = new ServerBootstrap()
+                    .group(group)
+                    .channel(NioServerSocketChannel.class)
+                    .childHandler(createEchoHandler(connections))
+                    .bind(port).sync().channel();
+
+            CompletableFuture<WireCommands.Hello> reply = new CompletableFuture<>();
+            ClientConfig config = ClientConfig.builder().domainSocketDirectory(directory.toString()).build();
+            assertEquals(socket, DomainSockets.findLocalSocket(new PravegaNodeUri("localhost", port), config));
+            @Cleanup
+            InlineExecutor executor = new InlineExecutor();
+            @Cleanup
+            TcpClientConnection connection = TcpClientConnection.connect(new PravegaNodeUri("localhost", port), config,
+                    createReplyProcessor(reply), executor, () -> { }).get(10, TimeUnit.SECONDS);
+            WireCommands.Hello hello = new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION);
+            connection.send(hello);
+            assertEquals(hello, reply.get(10, TimeUnit.SECONDS));
+            assertEquals(1, connections.get());
+            connection.close();
+            server.close().sync();
+        } finally {
+            group.shutdownGracefully();
+            Files.deleteIfExists(socket);
+            Files.delete(directory);
+        }
+    }
+
+    private ChannelInitializer<Channel> createEchoHandler(AtomicInteger connections) {
+        return new ChannelInitializer<Channel>() {
+            @Override
+            public void initChannel(Channel ch) {
+                connections.incrementAndGet();
+                ch.pipeline().addLast(new CommandEncoder(null, NO_OP_METRIC_NOTIFIER),
+                                      new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4),
+                                      new CommandDecoder(),
+                                      new ChannelInboundHandlerAdapter() {
+                                          @Override
+                                          public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                              ctx.writeAndFlush(msg);
+                                          }
+                                      });
+            }
+        };
+    }
+
+    private FailingReplyProcessor createReplyProcessor(CompletableFuture<WireCommands.Hello> reply) {
+        return new FailingReplyProcessor() {
+            @Override
+            public void hello(WireCommands.Hello hello) {
+                reply.complete(hello);
+            }
+
+            @Override
+            public void connectionDropped() {
+            }
+
+            @Override
+            public void processingFailure(Exception error) {
+                reply.completeExceptionally(error);
+            }
+
+            @Override
+            public void authTokenCheckFailed(WireCommands.AuthTokenCheckFailed authTokenCheckFailed) {
+            }
+        };
+    }
+}
@@ -41,6 +41,19 @@ public class FlowToBatchSizeTrackerTest {
         Assert.assertEquals(tracker, flowToBatchSizeTracker.getAppendBatchSizeTrackerByFlowId(0));
     }
 
+    @Test(timeout = 10000L)
+    public void testAppendLatencyTarget() {
+        FlowToBatchSizeTracker defaultTracker = new FlowToBatchSizeTracker();
+        Assert.assertTrue(defaultTracker.getAppendBatchSizeTrackerByFlowId(0) instanceof AppendBatchSizeTrackerImpl);
+        Assert.assertEquals(AppendBatchSizeTracker.MAX_BATCH_TIME_MILLIS, defaultTracker.getBatchTimeoutMillis());
+
+        FlowToBatchSizeTracker latencyTracker = new FlowToBatchSizeTracker(8);
+        Assert.assertTrue(latencyTracker.getAppendBatchSizeTrackerByFlowId(0) instanceof LatencyTargetBatchSizeTracker);
+        Assert.assertEquals(2, latencyTracker.getBatchTimeoutMillis());
+        Assert.assertEquals(1, new FlowToBatchSizeTracker(1).getBatchTimeoutMillis());
+        Assert.assertEquals(AppendBatchSizeTracker.MAX_BATCH_TIME_MILLIS, new FlowToBatchSizeTracker(1000).getBatchTimeoutMillis());
+    }
+
     @Test(timeout = 10000L)
     public void testFlowToBatchSizeTrackerEviction() throws InterruptedException {
         Duration evictionTime = Duration.ofSeconds(1);
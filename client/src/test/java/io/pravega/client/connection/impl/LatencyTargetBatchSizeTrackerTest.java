@@ -0,0 +1,142 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyTargetBatchSizeTrackerTest {
+    private static final long APPEND_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final int APPEND_SIZE = 100;
+    private static final int APPEND_COUNT = 20000;
+
+    @Test
+    public void testInitialValue() {
+        LatencyTargetBatchSizeTracker tracker = new LatencyTargetBatchSizeTracker(10);
+        assertEquals(0, tracker.getAppendBlockSize());
+        assertFalse(tracker.isThrottled());
+    }
+
+    @Test
+    public void testLatencyAndThroughputProfiles() {
+        // A 2ms target with a 1ms round trip leaves about 1ms for batching (roughly 100 appends).
+        Simulation latency = new Simulation(new AtomicLong());
+        latency.run(2, TimeUnit.MILLISECONDS.toNanos(1));
+        int latencyBlockSize = latency.tracker.getAppendBlockSize();
+        assertTrue("Unexpected block size " + latencyBlockSize, latencyBlockSize > 50 * APPEND_SIZE && latencyBlockSize < 150 * APPEND_SIZE);
+        assertEquals(1, latency.tracker.getBatchTimeout());
+        assertEquals(1, latency.tracker.getRoundTripMillis());
+        assertFalse(latency.tracker.isThrottled());
+
+        // A 50ms target with the same round trip is capped by MAX_BATCH_TIME_MILLIS (roughly 2000 appends).
+        Simulation throughput = new Simulation(new AtomicLong());
+        throughput.run(50, TimeUnit.MILLISECONDS.toNanos(1));
+        int throughputBlockSize = throughput.tracker.getAppendBlockSize();
+        assertTrue("Unexpected block size " + throughputBlockSize, throughputBlockSize > 1500 * APPEND_SIZE);
+        assertTrue(throughputBlockSize <= AppendBatchSizeTrackerImpl.MAX_BATCH_SIZE);
+        assertEquals(LatencyTargetBatchSizeTracker.MAX_BATCH_TIME_MILLIS, throughput.tracker.getBatchTimeout());
+    }
+
+    @Test
+    public void testRoundTripAboveTarget() {
+        // If the round trip alone exceeds the target (and this is not due to throttling), batching is disabled.
+        Simulation simulation = new Simulation(new AtomicLong());
+        simulation.run(2, TimeUnit.MILLISECONDS.toNanos(5));
+        assertFalse(simulation.tracker.isThrottled());
+        assertEquals(0, simulation.tracker.getAppendBlockSize());
+    }
+
+    @Test
+    public void testThrottling() {
+        Simulation simulation = new Simulation(new AtomicLong());
+        simulation.run(2, TimeUnit.MICROSECONDS.toNanos(500));
+        assertFalse(simulation.tracker.isThrottled());
+        int unthrottledBlockSize = simulation.tracker.getAppendBlockSize();
+
+        // The Segment Store slows down well beyond the baseline: use the largest blocks possible.
+        simulation.run(2, TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(simulation.tracker.isThrottled());
+        assertTrue(simulation.tracker.getAppendBlockSize() > 10 * unthrottledBlockSize);
+        assertEquals(LatencyTargetBatchSizeTracker.MAX_BATCH_TIME_MILLIS, simulation.tracker.getBatchTimeout());
+
+        // And recovers.
+        simulation.run(2, TimeUnit.MICROSECONDS.toNanos(500));
+        assertFalse(simulation.tracker.isThrottled());
+    }
+
+    @Test
+    public void testBatchingIsNotThrottling() {
+        // The appends are held back in blocks for 5ms, which is more than 3 times the 500us round trip. Only the time
+        // from when a block is written out until it is acked counts towards the round trip.
+        long batchNanos = TimeUnit.MILLISECONDS.toNanos(5);
+        long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(500);
+        assertTrue(batchNanos > LatencyTargetBatchSizeTracker.THROTTLE_RTT_FACTOR * roundTripNanos);
+        Simulation simulation = new Simulation(new AtomicLong());
+        simulation.run(20, roundTripNanos, batchNanos);
+        assertFalse(simulation.tracker.isThrottled());
+        assertEquals(0, simulation.tracker.getRoundTripMillis());
+        // Blocks are kept open for whatever is left of the target after the round trip.
+        assertEquals(LatencyTargetBatchSizeTracker.MAX_BATCH_TIME_MILLIS - 1, simulation.tracker.getBatchTimeout());
+    }
+
+    /**
+     * Simulates a writer that appends every {@link #APPEND_INTERVAL_NANOS} against a Segment Store with a fixed round
+     * trip time. Appends are written out immediately or, if a batch time is given, in batches of that duration.
+     */
+    @RequiredArgsConstructor
+    private static class Simulation {
+        private final AtomicLong clock;
+        private final ArrayDeque<long[]> inflight = new ArrayDeque<>();
+        private LatencyTargetBatchSizeTracker tracker;
+        private long nextEventNumber = 1;
+
+        void run(long latencyTargetMillis, long roundTripNanos) {
+            run(latencyTargetMillis, roundTripNanos, 0);
+        }
+
+        void run(long latencyTargetMillis, long roundTripNanos, long batchNanos) {
+            if (tracker == null) {
+                tracker = new LatencyTargetBatchSizeTracker(latencyTargetMillis, clock::get);
+            }
+            long batchStart = clock.get();
+            for (int i = 0; i < APPEND_COUNT; i++) {
+                long now = clock.addAndGet(APPEND_INTERVAL_NANOS);
+                long acked = -1;
+                while (!inflight.isEmpty() && inflight.peekFirst()[1] + roundTripNanos <= now) {
+                    acked = inflight.removeFirst()[0];
+                }
+                if (acked >= 0) {
+                    tracker.recordAck(acked);
+                }
+                tracker.recordAppend(nextEventNumber, APPEND_SIZE);
+                if (now - batchStart >= batchNanos) {
+                    // the batch is written out: all appends in it are acked a round trip from now.
+                    tracker.recordSent(nextEventNumber);
+                    inflight.addLast(new long[]{nextEventNumber, now});
+                    batchStart = now;
+                }
+                nextEventNumber++;
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.pravega.client.ClientConfig;
+import io.pravega.common.Timer;
+import io.pravega.shared.protocol.netty.CommandDecoder;
+import io.pravega.shared.protocol.netty.CommandEncoder;
+import io.pravega.shared.protocol.netty.DomainSocketAddresses;
+import io.pravega.shared.protocol.netty.FailingReplyProcessor;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.TestUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import static io.pravega.shared.metrics.MetricNotifier.NO_OP_METRIC_NOTIFIER;
+import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE;
+
+/**
+ * Benchmark for {@link TcpClientConnection} over TCP loopback vs a Unix domain socket (see
+ * {@link ClientConfig#getDomainSocketDirectory()}), measuring the round-trip latency of small requests sent one at a
+ * time, as well as the throughput of {@link #READ_SIZE}-byte reads with {@link #READS_IN_FLIGHT} outstanding requests.
+ * The server is a local Netty (epoll) server listening on both transports, which answers {@link WireCommands.Hello}
+ * with itself and {@link WireCommands.ReadSegment} with a {@link WireCommands.SegmentRead} of the requested length.
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking), they take a long time to
+ * execute and they require Linux (native epoll) and Java 16+.
+ */
+@Ignore
+public class LocalTransportBenchmarkTest {
+    private static final int ROUND_TRIP_COUNT = 100000;
+    private static final int READ_COUNT = 50000;
+    private static final int READ_SIZE = 64 * 1024;
+    private static final int READS_IN_FLIGHT = 16;
+    private static final int ITERATION_COUNT = 3;
+    private EventLoopGroup serverGroup;
+    private Channel tcpChannel;
+    private Channel domainSocketChannel;
+    private Path socketDirectory;
+    private int port;
+
+    @Before
+    public void setUp() throws Exception {
+        port = TestUtils.getAvailableListenPort();
+        socketDirectory = Files.createTempDirectory("pravega-sockets");
+        serverGroup = new EpollEventLoopGroup();
+        byte[] payload = new byte[READ_SIZE];
+        ChannelInitializer<Channel> initializer = new ChannelInitializer<Channel>() {
+            @Override
+            public void initChannel(Channel ch) {
+                ch.pipeline().addLast(new CommandEncoder(null, NO_OP_METRIC_NOTIFIER),
+                                      new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4),
+                                      new CommandDecoder(),
+                                      new ChannelInboundHandlerAdapter() {
+                                          @Override
+                                          public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                              if (msg instanceof WireCommands.ReadSegment) {
+                                                  val read = (WireCommands.ReadSegment) msg;
+                                                  ctx.writeAndFlush(new WireCommands.SegmentRead(read.getSegment(), read.getOffset(), false, false,
+                                                          Unpooled.wrappedBuffer(payload, 0, read.getSuggestedLength()), read.getRequestId()));
+                                              } else {
+                                                  ctx.writeAndFlush(msg);
+                                              }
+                                          }
+                                      });
+            }
+        };
+        tcpChannel = new ServerBootstrap().group(serverGroup).channel(EpollServerSocketChannel.class).childHandler(initializer)
+                                          .bind("localhost", port).sync().channel();
+        Path socket = DomainSocketAddresses.getSocketPath(socketDirectory.toString(), port);
+        domainSocketChannel = new ServerBootstrap().group(serverGroup).channel(EpollServerDomainSocketChannel.class).childHandler(initializer)
+                                                   .bind(new DomainSocketAddress(socket.toFile())).sync().channel();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        tcpChannel.close().awaitUninterruptibly();
+        domainSocketChannel.close().awaitUninterruptibly();
+        serverGroup.shutdownGracefully().await();
+        Files.deleteIfExists(DomainSocketAddresses.getSocketPath(socketDirectory.toString(), port));
+        Files.delete(socketDirectory);
+    }
+
+    @Test
+    public void testTcpLoopback() throws Exception {
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            run("TcpLoopback", i, ClientConfig.builder().build());
+        }
+    }
+
+    @Test
+    public void testDomainSocket() throws Exception {
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            run("DomainSocket", i, ClientConfig.builder().domainSocketDirectory(socketDirectory.toString()).build());
+        }
+    }
+
+    private void run(String name, int iteration, ClientConfig config) throws Exception {
+        Semaphore replies = new Semaphore(0);
+        AtomicLong bytesRead = new AtomicLong();
+        FailingReplyProcessor rp = new FailingReplyProcessor() {
+            @Override
+            public void hello(WireCommands.Hello hello) {
+                replies.release();
+            }
+
+            @Override
+            public void segmentRead(WireCommands.SegmentRead data) {
+                bytesRead.addAndGet(data.getData().readableBytes());
+                data.release();
+                replies.release();
+            }
+
+            @Override
+            public void connectionDropped() {
+            }
+
+            @Override
+            public void processingFailure(Exception error) {
+            }
+
+            @Override
+            public void authTokenCheckFailed(WireCommands.AuthTokenCheckFailed authTokenCheckFailed) {
+            }
+        };
+
+        @Cleanup
+        SocketConnectionFactoryImpl factory = new SocketConnectionFactoryImpl(config);
+        @Cleanup
+        ClientConnection connection = factory.establishConnection(new PravegaNodeUri("localhost", port), rp).join();
+
+        // Latency: one request in flight at a time.
+        long[] latencies = new long[ROUND_TRIP_COUNT];
+        WireCommands.Hello hello = new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION);
+        for (int i = 0; i < ROUND_TRIP_COUNT; i++) {
+            val timer = new Timer();
+            connection.send(hello);
+            replies.acquire();
+            latencies[i] = timer.getElapsedNanos();
+        }
+        Arrays.sort(latencies);
+
+        // Throughput: a fixed number of reads in flight.
+        replies.release(READS_IN_FLIGHT);
+        val timer = new Timer();
+        for (int i = 0; i < READ_COUNT; i++) {
+            replies.acquire();
+            connection.send(new WireCommands.ReadSegment("segment", (long) i * READ_SIZE, READ_SIZE, "", i));
+        }
+        replies.acquire(READS_IN_FLIGHT);
+        double seconds = timer.getElapsedNanos() / 1_000_000_000.0;
+
+        System.out.println(String.format("%s: Iteration %s: Round trip p50 %.1f us, p99 %.1f us; reads %.0f MB/sec.",
+                name, iteration, latencies[ROUND_TRIP_COUNT / 2] / 1000.0, latencies[ROUND_TRIP_COUNT * 99 / 100] / 1000.0,
+                bytesRead.get() / seconds / 1024 / 1024));
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.pravega.client.ClientConfig;
+import io.pravega.shared.protocol.netty.Append;
+import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.FailingReplyProcessor;
+import io.pravega.shared.protocol.netty.Reply;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.shared.protocol.netty.WireCommands.Event;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.InlineExecutor;
+import java.util.List;
+import java.util.UUID;
+import java.util.Vector;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Cleanup;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NettyClientConnectionTest {
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(30);
+
+    private EventLoopGroup group;
+
+    private static class ReplyProcessor extends FailingReplyProcessor {
+        AtomicBoolean failure = new AtomicBoolean(false);
+        AtomicBoolean dropped = new AtomicBoolean(false);
+        List<Reply> replies = new Vector<>();
+
+        @Override
+        public void process(Reply reply) {
+            if (reply.isFailure()) {
+                failure.set(true);
+            }
+            replies.add(reply);
+        }
+
+        @Override
+        public void processingFailure(Exception error) {
+            failure.set(true);
+        }
+
+        @Override
+        public void connectionDropped() {
+            dropped.set(true);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        group = new NioEventLoopGroup(1);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        group.shutdownGracefully().await();
+    }
+
+    @Test
+    public void testConnectionSetup() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        ClientConnection clientConnection = NettyClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, group, executor, null)
+            .join();
+        clientConnection.send(new WireCommands.Hello(0, 1));
+        LinkedBlockingQueue<WireCommand> messages = server.getReadCommands();
+        WireCommand wireCommand = messages.take();
+        assertEquals(WireCommandType.HELLO, wireCommand.getType());
+        assertNull(messages.poll());
+        clientConnection.send(new WireCommands.SetupAppend(1, new UUID(1, 2), "segment", ""));
+        wireCommand = messages.take();
+        assertEquals(WireCommandType.SETUP_APPEND, wireCommand.getType());
+        assertNull(messages.poll());
+        clientConnection.send(new Append("segment", new UUID(1, 2), 1, new Event(Unpooled.EMPTY_BUFFER), 2));
+        wireCommand = messages.take();
+        assertEquals(WireCommandType.APPEND_BLOCK, wireCommand.getType());
+        assertFalse(processor.failure.get());
+    }
+
+    @Test
+    public void testAppend() throws Exception {
+        byte[] payload = new byte[100];
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        NettyClientConnection clientConnection = NettyClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, group, executor, null)
+            .join();
+        UUID writerId = new UUID(1, 2);
+        clientConnection.send(new WireCommands.SetupAppend(1, writerId, "segment", ""));
+        for (int i = 0; i < 100; i++) {
+            clientConnection.send(new Append("segment", writerId, i, new Event(Unpooled.wrappedBuffer(payload)), 1));
+            server.sendReply(new WireCommands.DataAppended(1, writerId, i, i - 1, i * 100));
+        }
+        AssertExtensions.assertEventuallyEquals(100, () -> processor.replies.size(), 5000);
+        assertFalse(processor.failure.get());
+        assertEquals(1, clientConnection.getFlowToBatchSizeTracker().getFlowToBatchSizeTrackerMap().size());
+    }
+
+    @Test
+    public void testServerClosesConnection() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        NettyClientConnection clientConnection = NettyClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, group, executor, null)
+            .join();
+        clientConnection.send(new WireCommands.KeepAlive());
+        server.getOutputStream().join().close();
+        AssertExtensions.assertEventuallyEquals(true, clientConnection::isClosed, 5000);
+        assertTrue(processor.dropped.get());
+        AssertExtensions.assertThrows(ConnectionFailedException.class, () -> clientConnection.send(new WireCommands.KeepAlive()));
+    }
+
+    @Test
+    public void testConnectionFactory() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        ClientConfig config = ClientConfig.builder().nonBlockingTransport(true).build();
+        @Cleanup
+        SocketConnectionFactoryImpl factory = new SocketConnectionFactoryImpl(config, 1);
+        ClientConnection clientConnection = factory.establishConnection(server.getUri(), processor).join();
+        assertTrue(clientConnection instanceof NettyClientConnection);
+        assertEquals(1, factory.getOpenSocketCount());
+        clientConnection.send(new WireCommands.Hello(0, 1));
+        assertEquals(WireCommandType.HELLO, server.getReadCommands().take().getType());
+        clientConnection.close();
+        assertEquals(0, factory.getOpenSocketCount());
+        AssertExtensions.assertEventuallyEquals(true, processor.dropped::get, 5000);
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.control.impl;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.controller.stream.api.grpc.v1.Controller.NodeUri;
+import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentContainerMap;
+import io.pravega.shared.NameUtils;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Cleanup;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SegmentEndpointCacheTest {
+    private static final int CONTAINER_COUNT = 4;
+
+    @Test
+    public void testEndpoints() {
+        List<StreamObserver<SegmentContainerMap>> watches = new ArrayList<>();
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        @Cleanup
+        SegmentEndpointCache cache = new SegmentEndpointCache(watches::add, executor);
+        cache.start();
+        assertEquals(1, watches.size());
+
+        Segment segment = new Segment("scope", "stream", 1);
+        assertNull(cache.getEndpointForSegment(segment));
+
+        // The map has not been initialized by the Controller yet.
+        watches.get(0).onNext(SegmentContainerMap.newBuilder().build());
+        assertNull(cache.getEndpointForSegment(segment));
+
+        watches.get(0).onNext(createMap());
+        int containerId = new SegmentToContainerMapper(CONTAINER_COUNT, true).getContainerId(
+                NameUtils.getQualifiedStreamSegmentName("scope", "stream", 1));
+        assertEquals(new PravegaNodeUri("host" + containerId % 2, 12345), cache.getEndpointForSegment(segment));
+        Segment txnSegment = Segment.fromScopedName(NameUtils.getTransactionNameFromId(segment.getScopedName(),
+                UUID.randomUUID()));
+        assertEquals(new PravegaNodeUri("host" + containerId % 2, 12345), cache.getEndpointForSegment(txnSegment));
+
+        // A container that is not assigned to any host.
+        watches.get(0).onNext(SegmentContainerMap.newBuilder().setContainerCount(CONTAINER_COUNT).build());
+        assertNull(cache.getEndpointForSegment(segment));
+    }
+
+    @Test
+    public void testReconnect() {
+        List<StreamObserver<SegmentContainerMap>> watches = new ArrayList<>();
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        SegmentEndpointCache cache = new SegmentEndpointCache(watches::add, executor);
+        cache.start();
+        Segment segment = new Segment("scope", "stream", 1);
+        watches.get(0).onNext(createMap());
+
+        // Endpoints are not served while disconnected.
+        watches.get(0).onError(Status.UNAVAILABLE.asRuntimeException());
+        assertNull(cache.getEndpointForSegment(segment));
+        ArgumentCaptor<Runnable> reconnect = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(reconnect.capture(), eq(SegmentEndpointCache.RECONNECT_DELAY.toMillis()),
+                eq(TimeUnit.MILLISECONDS));
+        reconnect.getValue().run();
+        assertEquals(2, watches.size());
+        watches.get(1).onNext(createMap());
+        assertEquals(12345, cache.getEndpointForSegment(segment).getPort());
+
+        watches.get(1).onCompleted();
+        assertNull(cache.getEndpointForSegment(segment));
+        verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        // No reconnects after closing.
+        cache.close();
+        reconnect.getValue().run();
+        assertEquals(2, watches.size());
+        watches.get(1).onError(Status.CANCELLED.asRuntimeException());
+        verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testUnsupported() {
+        List<StreamObserver<SegmentContainerMap>> watches = new ArrayList<>();
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        @Cleanup
+        SegmentEndpointCache cache = new SegmentEndpointCache(watches::add, executor);
+        cache.start();
+        watches.get(0).onError(Status.UNIMPLEMENTED.asRuntimeException());
+        assertNull(cache.getEndpointForSegment(new Segment("scope", "stream", 1)));
+        verify(executor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private SegmentContainerMap createMap() {
+        SegmentContainerMap.Builder builder = SegmentContainerMap.newBuilder().setContainerCount(CONTAINER_COUNT);
+        for (int host = 0; host < 2; host++) {
+            SegmentContainerMap.HostContainers.Builder hostContainers = SegmentContainerMap.HostContainers.newBuilder()
+                    .setNodeUri(NodeUri.newBuilder().setEndpoint("host" + host).setPort(12345));
+            for (int containerId = host; containerId < CONTAINER_COUNT; containerId += 2) {
+                hostContainers.addContainerIds(containerId);
+            }
+            builder.addHostContainers(hostContainers);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.segment.impl;
+
+import io.pravega.client.stream.EventCompression;
+import io.pravega.common.Timer;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark for {@link EventCompressionCodec}, using JSON payloads similar to the ones typically found in telemetry or
+ * change-data-capture streams. For each {@link EventCompression}, it reports the number of bytes that would be sent over
+ * the network (including the event framing) and the compression and decompression throughput.
+ *
+ * This does not involve a Segment Store, so end-to-end throughput gains depend on where the bottleneck is: workloads that
+ * are bound by network or Durable Log bandwidth will benefit proportionally to the reduction in bytes.
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class EventCompressionBenchmarkTest {
+    private static final int EVENT_COUNT = 100_000;
+    private static final int[] FIELD_COUNTS = new int[]{4, 16, 64};
+    private static final int ITERATION_COUNT = 5;
+    private static final String[] DEVICE_TYPES = new String[]{"thermostat", "camera", "doorbell", "lock", "sensor"};
+    private static final String[] STATUSES = new String[]{"ok", "degraded", "offline"};
+
+    @Test
+    public void testCompression() {
+        for (int fieldCount : FIELD_COUNTS) {
+            List<ByteBuffer> events = generateEvents(fieldCount);
+            for (EventCompression compression : EventCompression.values()) {
+                for (int i = 0; i < ITERATION_COUNT; i++) {
+                    runOnce(events, compression, fieldCount, i);
+                }
+            }
+        }
+    }
+
+    private void runOnce(List<ByteBuffer> events, EventCompression compression, int fieldCount, int iteration) {
+        long rawBytes = 0;
+        long wireBytes = 0;
+        List<ByteBuffer> compressed = new ArrayList<>(events.size());
+        Timer compressTimer = new Timer();
+        for (ByteBuffer e : events) {
+            ByteBuffer c = EventCompressionCodec.compress(e, compression);
+            compressed.add(c);
+            rawBytes += e.remaining();
+            wireBytes += WireCommands.TYPE_PLUS_LENGTH_SIZE + (c == null ? e.remaining() : c.remaining());
+        }
+        long compressNanos = compressTimer.getElapsedNanos();
+
+        Timer decompressTimer = new Timer();
+        for (ByteBuffer c : compressed) {
+            if (c != null) {
+                EventCompressionCodec.decompress(c, ByteBuffer::allocate);
+            }
+        }
+        long decompressNanos = decompressTimer.getElapsedNanos();
+
+        System.out.println(String.format("%s, %s fields, iteration %s: avg event %s bytes, wire bytes %.1f%% of raw, "
+                        + "compress %.1f MB/s, decompress %.1f MB/s.",
+                compression, fieldCount, iteration, rawBytes / events.size(), 100.0 * wireBytes / rawBytes,
+                toMBps(rawBytes, compressNanos), toMBps(rawBytes, decompressNanos)));
+    }
+
+    private double toMBps(long bytes, long nanos) {
+        return nanos == 0 ? 0 : bytes / 1024.0 / 1024 / (nanos / 1_000_000_000.0);
+    }
+
+    private List<ByteBuffer> generateEvents(int fieldCount) {
+        Random rnd = new Random(0);
+        List<ByteBuffer> result = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("{\"eventId\":\"").append(Long.toHexString(rnd.nextLong())).append('"')
+              .append(",\"timestamp\":").append(1600000000000L + i * 17L)
+              .append(",\"deviceType\":\"").append(DEVICE_TYPES[rnd.nextInt(DEVICE_TYPES.length)]).append('"')
+              .append(",\"status\":\"").append(STATUSES[rnd.nextInt(STATUSES.length)]).append('"')
+              .append(",\"metrics\":{");
+            for (int f = 0; f < fieldCount; f++) {
+                if (f > 0) {
+                    sb.append(',');
+                }
+                sb.append("\"metric").append(f).append("\":").append(String.format("%.3f", rnd.nextDouble() * 100));
+            }
+            sb.append("}}");
+            result.add(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.segment.impl;
+
+import io.pravega.client.stream.EventCompression;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+import static io.pravega.test.common.AssertExtensions.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EventCompressionCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        ByteBuffer original = createCompressibleData(10000);
+        ByteBuffer compressed = EventCompressionCodec.compress(original, EventCompression.DEFLATE);
+        assertNotNull(compressed);
+        assertTrue(compressed.remaining() < original.remaining());
+        assertEquals("Input position should not have changed.", 0, original.position());
+
+        ByteBuffer decompressed = EventCompressionCodec.decompress(compressed, ByteBuffer::allocate);
+        assertEquals(original, decompressed);
+
+        // Decompress into the middle of a larger buffer, and from a direct buffer.
+        ByteBuffer direct = ByteBuffer.allocateDirect(compressed.remaining());
+        direct.put(compressed.duplicate()).flip();
+        byte[] backingArray = new byte[original.remaining() + 100];
+        decompressed = EventCompressionCodec.decompress(direct, length -> ByteBuffer.wrap(backingArray, 50, length));
+        assertEquals(50, decompressed.position());
+        assertEquals(original, decompressed);
+    }
+
+    @Test
+    public void testNoCompression() {
+        // Disabled.
+        assertNull(EventCompressionCodec.compress(createCompressibleData(10000), EventCompression.NONE));
+
+        // Too small.
+        assertNull(EventCompressionCodec.compress(createCompressibleData(EventCompressionCodec.MIN_COMPRESSION_LENGTH - 1),
+                EventCompression.DEFLATE));
+
+        // Not compressible.
+        byte[] random = new byte[10000];
+        new Random(0).nextBytes(random);
+        assertNull(EventCompressionCodec.compress(ByteBuffer.wrap(random), EventCompression.DEFLATE));
+    }
+
+    @Test
+    public void testInvalidPayload() {
+        ByteBuffer compressed = EventCompressionCodec.compress(createCompressibleData(10000), EventCompression.DEFLATE);
+
+        // Unknown format version.
+        ByteBuffer badVersion = copy(compressed);
+        badVersion.put(0, (byte) 1);
+        assertThrows(InvalidMessageException.class, () -> EventCompressionCodec.decompress(badVersion, ByteBuffer::allocate));
+
+        // Unknown algorithm.
+        ByteBuffer badAlgorithm = copy(compressed);
+        badAlgorithm.put(1, (byte) 123);
+        assertThrows(InvalidMessageException.class, () -> EventCompressionCodec.decompress(badAlgorithm, ByteBuffer::allocate));
+
+        // Truncated.
+        ByteBuffer truncated = copy(compressed);
+        truncated.limit(truncated.limit() / 2);
+        assertThrows(InvalidMessageException.class, () -> EventCompressionCodec.decompress(truncated, ByteBuffer::allocate));
+        assertThrows(InvalidMessageException.class, () -> EventCompressionCodec.decompress(ByteBuffer.allocate(3), ByteBuffer::allocate));
+    }
+
+    private ByteBuffer createCompressibleData(int length) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < length) {
+            sb.append("{\"key\":\"").append(sb.length()).append("\",\"value\":\"some value\"}");
+        }
+        return ByteBuffer.wrap(sb.substring(0, length).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ByteBuffer copy(ByteBuffer b) {
+        ByteBuffer result = ByteBuffer.allocate(b.remaining());
+        result.put(b.duplicate()).flip();
+        return result;
+    }
+}
@@ -17,6 +17,7 @@
 package io.pravega.client.segment.impl;
 
 
+import io.pravega.client.stream.EventCompression;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
 import java.nio.ByteBuffer;
@@ -58,6 +59,62 @@ public class EventSegmentReaderImplTest {
         verify(segmentInputStream, times(1)).setOffset(0L, true);
     }
 
+    @Test
+    public void testReadWithAllocator() throws SegmentTruncatedException, EndOfSegmentException {
+        // Setup Mocks
+        SegmentInputStream segmentInputStream = mock(SegmentInputStream.class);
+        @Cleanup
+        EventSegmentReaderImpl segmentReader = new EventSegmentReaderImpl(segmentInputStream);
+        doAnswer(i -> {
+            ByteBuffer headerReadingBuffer = i.getArgument(0);
+            headerReadingBuffer.putInt(WireCommandType.EVENT.getCode());
+            headerReadingBuffer.putInt(4);
+            return WireCommands.TYPE_PLUS_LENGTH_SIZE;
+        }).when(segmentInputStream).read(any(ByteBuffer.class), eq(1000L));
+        doAnswer(i -> {
+            ByteBuffer dataBuffer = i.getArgument(0);
+            dataBuffer.putInt(1234);
+            return Integer.BYTES;
+        }).when(segmentInputStream).read(any(ByteBuffer.class), eq(EventSegmentReaderImpl.PARTIAL_DATA_TIMEOUT));
+        when(segmentInputStream.getSegmentId()).thenReturn(new Segment("scope", "stream", 0L));
+
+        // Read into the middle of a larger buffer; the result must be delimited by its position and limit.
+        byte[] backingArray = new byte[100];
+        ByteBuffer readData = segmentReader.read(1000, length -> ByteBuffer.wrap(backingArray, 10, length));
+        assertEquals(10, readData.position());
+        assertEquals(Integer.BYTES, readData.remaining());
+        assertEquals(1234, readData.getInt());
+    }
+
+    @Test
+    public void testReadCompressedEvent() throws SegmentTruncatedException, EndOfSegmentException {
+        ByteBuffer original = ByteBuffer.allocate(1000);
+        while (original.hasRemaining()) {
+            original.putInt(1234);
+        }
+        original.flip();
+        ByteBuffer compressed = EventCompressionCodec.compress(original, EventCompression.DEFLATE);
+
+        // Setup Mocks
+        SegmentInputStream segmentInputStream = mock(SegmentInputStream.class);
+        @Cleanup
+        EventSegmentReaderImpl segmentReader = new EventSegmentReaderImpl(segmentInputStream);
+        doAnswer(i -> {
+            ByteBuffer headerReadingBuffer = i.getArgument(0);
+            headerReadingBuffer.putInt(WireCommandType.COMPRESSED_EVENT.getCode());
+            headerReadingBuffer.putInt(compressed.remaining());
+            return WireCommands.TYPE_PLUS_LENGTH_SIZE;
+        }).when(segmentInputStream).read(any(ByteBuffer.class), eq(1000L));
+        doAnswer(i -> {
+            ByteBuffer dataBuffer = i.getArgument(0);
+            dataBuffer.put(compressed.duplicate());
+            return compressed.remaining();
+        }).when(segmentInputStream).read(any(ByteBuffer.class), eq(EventSegmentReaderImpl.PARTIAL_DATA_TIMEOUT));
+        when(segmentInputStream.getSegmentId()).thenReturn(new Segment("scope", "stream", 0L));
+
+        assertEquals(original, segmentReader.read(1000));
+    }
+
     @Test
     public void testEventDataTimeout() throws SegmentTruncatedException, EndOfSegmentException {
         // Setup Mocks
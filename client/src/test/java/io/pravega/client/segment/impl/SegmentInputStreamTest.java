@@ -34,6 +34,7 @@ import java.util.Vector;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Cleanup;
 import lombok.val;
 import org.junit.Test;
@@ -93,6 +94,39 @@ public class SegmentInputStreamTest extends LeakDetectorTestSuite {
         }
     }
 
+    /**
+     * Serves reads from a Segment with the given length. Reads beyond that never complete (as if waiting at the tail).
+     */
+    private static class FixedLengthAsyncSegmentInputStream extends AsyncSegmentInputStream {
+        private final long length;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        FixedLengthAsyncSegmentInputStream(Segment segment, long length) {
+            super(segment);
+            this.length = length;
+        }
+
+        @Override
+        public CompletableFuture<SegmentRead> read(long offset, int length) {
+            if (offset >= this.length) {
+                return new CompletableFuture<>();
+            }
+            int readLength = (int) Math.min(length, this.length - offset);
+            return completedFuture(new WireCommands.SegmentRead(getSegmentId().getScopedName(), offset, false, false,
+                    Unpooled.wrappedBuffer(new byte[readLength]), 1));
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed.get();
+        }
+    }
+
     private ByteBuf createEventFromData(byte[] data) {
         ByteBuffer wireData = ByteBuffer.allocate(data.length + WireCommands.TYPE_PLUS_LENGTH_SIZE);
         wireData.putInt(WireCommandType.EVENT.getCode());
@@ -121,6 +155,71 @@ public class SegmentInputStreamTest extends LeakDetectorTestSuite {
         assertEquals(SegmentInputStreamImpl.MAX_BUFFER_SIZE, bufferSize);
     }
 
+    @Test
+    public void testAdaptiveBufferSize() throws Exception {
+        int kb = 1024;
+        val budget = new ReadBufferBudget(1024 * kb);
+        val time = new AtomicLong(0);
+        @Cleanup
+        val stream = new SegmentInputStreamImpl(new FixedLengthAsyncSegmentInputStream(segment, 2048 * kb), 0, Long.MAX_VALUE,
+                SegmentInputStreamImpl.DEFAULT_BUFFER_SIZE, budget, time::get);
+        assertEquals(SegmentInputStreamImpl.ADAPTIVE_INITIAL_BUFFER_SIZE, stream.getBufferSize());
+        assertEquals(SegmentInputStreamImpl.ADAPTIVE_INITIAL_BUFFER_SIZE, budget.getUsedBytes());
+
+        // Consuming faster than the buffer can hold for half a second doubles it.
+        readAdaptive(stream, 128 * kb, time);
+        assertEquals(256 * kb, stream.getBufferSize());
+        readAdaptive(stream, 256 * kb, time);
+        assertEquals(512 * kb, stream.getBufferSize());
+        assertEquals(512 * kb, budget.getUsedBytes());
+
+        // The buffer is not grown beyond what the budget allows.
+        val otherStream = new SegmentInputStreamImpl(new FixedLengthAsyncSegmentInputStream(segment, 0), 0, Long.MAX_VALUE,
+                SegmentInputStreamImpl.DEFAULT_BUFFER_SIZE, budget, time::get);
+        assertEquals(640 * kb, budget.getUsedBytes());
+        readAdaptive(stream, 512 * kb, time);
+        assertEquals(512 * kb, stream.getBufferSize());
+        otherStream.close();
+        assertEquals(512 * kb, budget.getUsedBytes());
+        readAdaptive(stream, 512 * kb, time);
+        assertEquals(1024 * kb, stream.getBufferSize());
+        assertEquals(1024 * kb, budget.getUsedBytes());
+
+        // Drain the segment. Once idle, the buffer is halved until it reaches its minimum size.
+        ByteBuffer toFill = ByteBuffer.allocate(32 * kb);
+        while (stream.read(toFill, 0) > 0) {
+            toFill.clear();
+        }
+        time.addAndGet(SegmentInputStreamImpl.RESIZE_INTERVAL_NANOS);
+        stream.fillBuffer();
+        assertEquals(1024 * kb, stream.getBufferSize());
+        time.addAndGet(SegmentInputStreamImpl.RESIZE_INTERVAL_NANOS);
+        stream.fillBuffer();
+        assertEquals(512 * kb, stream.getBufferSize());
+        assertEquals(512 * kb, budget.getUsedBytes());
+        for (int i = 0; i < 10; i++) {
+            time.addAndGet(SegmentInputStreamImpl.RESIZE_INTERVAL_NANOS);
+            stream.fillBuffer();
+        }
+        assertEquals(SegmentInputStreamImpl.ADAPTIVE_MIN_BUFFER_SIZE, stream.getBufferSize());
+        assertEquals(SegmentInputStreamImpl.ADAPTIVE_MIN_BUFFER_SIZE, budget.getUsedBytes());
+
+        stream.close();
+        assertEquals(0, budget.getUsedBytes());
+    }
+
+    private void readAdaptive(SegmentInputStreamImpl stream, int length, AtomicLong time) throws Exception {
+        ByteBuffer toFill = ByteBuffer.allocate(32 * 1024);
+        for (int read = 0; read < length; read += toFill.capacity()) {
+            toFill.clear();
+            assertEquals(toFill.capacity(), stream.read(toFill, 0));
+        }
+        // The next read after the resize interval elapses evaluates the consumption rate.
+        time.addAndGet(SegmentInputStreamImpl.RESIZE_INTERVAL_NANOS);
+        toFill.clear();
+        assertEquals(toFill.capacity(), stream.read(toFill, 0));
+    }
+
     @Test
     public void testRead() {
         byte[] data = new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
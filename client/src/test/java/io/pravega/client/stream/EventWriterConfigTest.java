@@ -42,6 +42,7 @@ public class EventWriterConfigTest {
                 .maxBackoffMillis(1000)
                 .retryAttempts(3)
                 .transactionTimeoutTime(100000)
+                .compression(EventCompression.DEFLATE)
                 .build();
 
         EventWriterConfig.EventWriterConfigSerializer serializer = new EventWriterConfig.EventWriterConfigSerializer();
@@ -67,6 +68,7 @@ public class EventWriterConfigTest {
         assertEquals(1000, result1.getMaxBackoffMillis());
         assertEquals(3, result1.getRetryAttempts());
         assertEquals(100000, result1.getTransactionTimeoutTime());
+        assertEquals(EventCompression.DEFLATE, result1.getCompression());
 
         assertEquals(true, result2.isAutomaticallyNoteTime());
         assertEquals(2, result2.getBackoffMultiple());
@@ -75,6 +77,8 @@ public class EventWriterConfigTest {
         assertEquals(1000, result2.getMaxBackoffMillis());
         assertEquals(3, result2.getRetryAttempts());
         assertEquals(100000, result2.getTransactionTimeoutTime());
+        assertEquals(EventCompression.DEFLATE, result2.getCompression());
+        assertEquals(EventCompression.NONE, EventWriterConfig.builder().build().getCompression());
     }
 
     @Test
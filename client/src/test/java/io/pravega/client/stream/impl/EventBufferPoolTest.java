@@ -0,0 +1,77 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import java.nio.ByteBuffer;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class EventBufferPoolTest {
+
+    @Test
+    public void testAllocation() {
+        val pool = new EventBufferPool(10, 1);
+        @Cleanup
+        val allocation = pool.newAllocation();
+        ByteBuffer b1 = allocation.apply(4);
+        ByteBuffer b2 = allocation.apply(6);
+        ByteBuffer b3 = allocation.apply(1);
+        ByteBuffer large = allocation.apply(11);
+
+        // The first two fit in the same chunk, one after the other.
+        assertSame(b1.array(), b2.array());
+        assertEquals(0, b1.position());
+        assertEquals(4, b1.remaining());
+        assertEquals(4, b2.position());
+        assertEquals(6, b2.remaining());
+
+        // The third one needs a new chunk.
+        assertNotSame(b1.array(), b3.array());
+        assertEquals(0, b3.position());
+        assertEquals(1, b3.remaining());
+
+        // Too large for a chunk.
+        assertEquals(11, large.remaining());
+        assertEquals(11, large.capacity());
+    }
+
+    @Test
+    public void testRelease() {
+        val pool = new EventBufferPool(10, 1);
+        val a1 = pool.newAllocation();
+        byte[] chunk1 = a1.apply(10).array();
+        byte[] chunk2 = a1.apply(10).array();
+        assertEquals(0, pool.getAvailableChunkCount());
+
+        // Only one chunk is retained.
+        a1.close();
+        assertEquals(1, pool.getAvailableChunkCount());
+
+        // ... and it is reused by the next allocation.
+        val a2 = pool.newAllocation();
+        byte[] reused = a2.apply(5).array();
+        assertEquals(0, pool.getAvailableChunkCount());
+        assertSame(chunk1, reused);
+        assertNotSame(chunk2, reused);
+        a2.close();
+        assertEquals(1, pool.getAvailableChunkCount());
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.client.control.impl.Controller;
+import io.pravega.client.segment.impl.EventSegmentReader;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentInputStreamFactory;
+import io.pravega.client.segment.impl.SegmentMetadataClientFactory;
+import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventReadBatch;
+import io.pravega.client.stream.ReaderConfig;
+import io.pravega.client.stream.Stream;
+import io.pravega.common.Timer;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+import lombok.Cleanup;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Benchmark for {@link EventStreamReaderImpl#readNextEvent} vs {@link EventStreamReaderImpl#readNextEvents}, measuring
+ * events/sec for small events. Segments are served from memory (there is no network involved), so the results only
+ * reflect the per-event overhead of the reader itself (locking, position bookkeeping and buffer allocation).
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class EventReadBenchmarkTest {
+    private static final int EVENT_LENGTH = 100;
+    private static final int EVENT_COUNT = 10_000_000;
+    private static final int[] BATCH_SIZES = new int[]{10, 100, 1000};
+    private static final int ITERATION_COUNT = 5;
+    private static final Segment SEGMENT = Segment.fromScopedName("Foo/Bar/0");
+
+    @Test
+    public void testReadNextEvent() throws Exception {
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            @Cleanup
+            val reader = createReader();
+            val timer = new Timer();
+            long bytes = 0;
+            for (int j = 0; j < EVENT_COUNT; j++) {
+                EventRead<ByteBuffer> e = reader.readNextEvent(0);
+                bytes += e.getEvent().remaining();
+            }
+            report("readNextEvent", i, timer, bytes);
+        }
+    }
+
+    @Test
+    public void testReadNextEvents() throws Exception {
+        for (int batchSize : BATCH_SIZES) {
+            for (int i = 0; i < ITERATION_COUNT; i++) {
+                @Cleanup
+                val reader = createReader();
+                val timer = new Timer();
+                long bytes = 0;
+                int count = 0;
+                while (count < EVENT_COUNT) {
+                    try (EventReadBatch<ByteBuffer> batch = reader.readNextEvents(batchSize, 0)) {
+                        for (EventRead<ByteBuffer> e : batch.getEvents()) {
+                            bytes += e.getEvent().remaining();
+                        }
+                        count += batch.getEvents().size();
+                    }
+                }
+                report("readNextEvents(" + batchSize + ")", i, timer, bytes);
+            }
+        }
+    }
+
+    private void report(String name, int iteration, Timer timer, long bytes) {
+        double seconds = timer.getElapsedNanos() / 1_000_000_000.0;
+        System.out.println(String.format("%s: Iteration %s: %.0f events/sec, %.1f MB/sec.",
+                name, iteration, EVENT_COUNT / seconds, bytes / seconds / 1024 / 1024));
+    }
+
+    private EventStreamReaderImpl<ByteBuffer> createReader() throws Exception {
+        val segmentReader = new InMemoryEventSegmentReader(SEGMENT);
+        val inputStreamFactory = Mockito.mock(SegmentInputStreamFactory.class);
+        Mockito.when(inputStreamFactory.createEventReaderForSegment(any(Segment.class), anyInt(), any(Semaphore.class), anyLong()))
+               .thenReturn(segmentReader);
+        val groupState = Mockito.mock(ReaderGroupStateManager.class);
+        Mockito.when(groupState.acquireNewSegmentsIfNeeded(eq(0L), any()))
+               .thenReturn(ImmutableMap.of(new SegmentWithRange(SEGMENT, 0, 1), 0L))
+               .thenReturn(Collections.emptyMap());
+        Mockito.when(groupState.getEndOffsetForSegment(any(Segment.class))).thenReturn(Long.MAX_VALUE);
+        return new EventStreamReaderImpl<>(inputStreamFactory, Mockito.mock(SegmentMetadataClientFactory.class),
+                new ByteBufferSerializer(), groupState, new Orderer(), System::currentTimeMillis, ReaderConfig.builder().build(),
+                ImmutableMap.of(Stream.of("Foo/Bar"), Mockito.mock(WatermarkReaderImpl.class)), Mockito.mock(Controller.class));
+    }
+
+    /**
+     * An endless {@link EventSegmentReader} that serves identical events from memory. Just like the real implementation,
+     * it copies each event out of a larger buffer.
+     */
+    @RequiredArgsConstructor
+    private static class InMemoryEventSegmentReader implements EventSegmentReader {
+        private static final int EVENTS_PER_BUFFER = 1000;
+        @Getter
+        private final Segment segmentId;
+        private final ByteBuffer data = createData();
+        @Getter
+        private long offset;
+
+        private static ByteBuffer createData() {
+            val data = ByteBuffer.allocate((WireCommands.TYPE_PLUS_LENGTH_SIZE + EVENT_LENGTH) * EVENTS_PER_BUFFER);
+            while (data.hasRemaining()) {
+                data.putInt(WireCommandType.EVENT.getCode());
+                data.putInt(EVENT_LENGTH);
+                data.position(data.position() + EVENT_LENGTH);
+            }
+            data.flip();
+            return data;
+        }
+
+        @Override
+        public void setOffset(long offset, boolean resendRequest) {
+            this.offset = offset;
+        }
+
+        @Override
+        public ByteBuffer read(long firstByteTimeoutMillis) {
+            return read(firstByteTimeoutMillis, ByteBuffer::allocate);
+        }
+
+        @Override
+        public ByteBuffer read(long firstByteTimeoutMillis, IntFunction<ByteBuffer> allocator) {
+            if (!this.data.hasRemaining()) {
+                this.data.rewind();
+            }
+
+            this.data.getInt();
+            int length = this.data.getInt();
+            ByteBuffer result = allocator.apply(length);
+            int startPosition = result.position();
+            val source = this.data.duplicate();
+            source.limit(source.position() + length);
+            result.put(source);
+            result.limit(result.position()).position(startPosition);
+            this.data.position(this.data.position() + length);
+            this.offset += WireCommands.TYPE_PLUS_LENGTH_SIZE + length;
+            return result;
+        }
+
+        @Override
+        public CompletableFuture<?> fillBuffer() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public boolean isSegmentReady() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to do.
+        }
+    }
+}
@@ -39,6 +39,7 @@ import io.pravega.client.state.RevisionedStreamClient;
 import io.pravega.client.state.StateSynchronizer;
 import io.pravega.client.state.SynchronizerConfig;
 import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventReadBatch;
 import io.pravega.client.stream.EventWriterConfig;
 import io.pravega.client.stream.ReaderConfig;
 import io.pravega.client.stream.ReaderGroupConfig;
@@ -284,6 +285,58 @@ public class EventStreamReaderTest {
         reader.close();
     }
 
+    @Test(timeout = 10000)
+    public void testReadNextEvents() throws SegmentSealedException, ReaderNotInReaderGroupException {
+        AtomicLong clock = new AtomicLong();
+        MockSegmentStreamFactory segmentStreamFactory = new MockSegmentStreamFactory();
+        Orderer orderer = new Orderer();
+        ReaderGroupStateManager groupState = Mockito.mock(ReaderGroupStateManager.class);
+        @Cleanup
+        EventStreamReaderImpl<byte[]> reader = new EventStreamReaderImpl<>(segmentStreamFactory, segmentStreamFactory,
+                                                                           new ByteArraySerializer(), groupState,
+                                                                           orderer, clock::get,
+                                                                           ReaderConfig.builder().build(),
+                                                                           createWatermarkReaders(),
+                                                                           Mockito.mock(Controller.class));
+        SegmentWithRange segment = new SegmentWithRange(Segment.fromScopedName("Foo/Bar/0"), 0, 1);
+        Mockito.when(groupState.acquireNewSegmentsIfNeeded(eq(0L), any())).thenReturn(ImmutableMap.of(segment, 0L)).thenReturn(Collections.emptyMap());
+        Mockito.when(groupState.getEndOffsetForSegment(any(Segment.class))).thenReturn(Long.MAX_VALUE);
+        @Cleanup
+        SegmentOutputStream stream = segmentStreamFactory.createOutputStreamForSegment(segment.getSegment(), segmentSealedCallback, writerConfig,
+                DelegationTokenProviderFactory.createWithEmptyToken());
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            buffers.add(writeInt(stream, i));
+        }
+
+        // First batch is limited by maxEvents.
+        @Cleanup
+        EventReadBatch<byte[]> batch1 = reader.readNextEvents(3, 0);
+        assertEquals(3, batch1.getEvents().size());
+
+        // Second batch is limited by how many events are available.
+        @Cleanup
+        EventReadBatch<byte[]> batch2 = reader.readNextEvents(10, 0);
+        assertEquals(2, batch2.getEvents().size());
+
+        List<EventRead<byte[]>> events = new ArrayList<>(batch1.getEvents());
+        events.addAll(batch2.getEvents());
+        for (int i = 0; i < events.size(); i++) {
+            EventRead<byte[]> e = events.get(i);
+            assertEquals(buffers.get(i), ByteBuffer.wrap(e.getEvent()));
+            assertEquals(Long.valueOf((i + 1) * (WireCommands.TYPE_PLUS_LENGTH_SIZE + Integer.BYTES)),
+                    e.getPosition().asImpl().getOffsetForOwnedSegment(segment.getSegment()));
+        }
+
+        // Nothing else to read.
+        @Cleanup
+        EventReadBatch<byte[]> batch3 = reader.readNextEvents(10, 0);
+        assertEquals(1, batch3.getEvents().size());
+        assertNull(batch3.getEvents().get(0).getEvent());
+        assertThrows(IllegalArgumentException.class, () -> reader.readNextEvents(0, 0));
+        reader.close();
+    }
+
     @Test(timeout = 10000)
     public void testReleaseSegment() throws SegmentSealedException, ReaderNotInReaderGroupException {
         AtomicLong clock = new AtomicLong();
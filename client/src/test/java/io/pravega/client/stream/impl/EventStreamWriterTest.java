@@ -17,6 +17,7 @@ package io.pravega.client.stream.impl;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import io.netty.buffer.ByteBuf;
 import io.pravega.client.control.impl.Controller;
 import io.pravega.client.segment.impl.EndOfSegmentException;
 import io.pravega.client.segment.impl.Segment;
@@ -24,6 +25,7 @@ import io.pravega.client.segment.impl.SegmentOutputStream;
 import io.pravega.client.segment.impl.SegmentOutputStreamFactory;
 import io.pravega.client.segment.impl.SegmentSealedException;
 import io.pravega.client.segment.impl.SegmentTruncatedException;
+import io.pravega.client.stream.EventCompression;
 import io.pravega.client.stream.EventStreamWriter;
 import io.pravega.client.stream.EventWriterConfig;
 import io.pravega.client.stream.mock.MockSegmentIoStreams;
@@ -38,6 +40,7 @@ import io.pravega.test.common.CollectingExecutor;
 import io.pravega.test.common.LeakDetectorTestSuite;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +59,7 @@ import org.mockito.Mockito;
 import static io.pravega.test.common.AssertExtensions.assertBlocks;
 import static io.pravega.test.common.AssertExtensions.assertThrows;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -106,6 +110,157 @@ public class EventStreamWriterTest extends LeakDetectorTestSuite {
         writer.close();
     }
 
+    @Test
+    public void testWriteEventsWithRoutingKeys() {
+        String scope = "scope";
+        String streamName = "stream";
+        StreamImpl stream = new StreamImpl(scope, streamName);
+        Segment segment1 = new Segment(scope, streamName, 0);
+        Segment segment2 = new Segment(scope, streamName, 1);
+        EventWriterConfig config = EventWriterConfig.builder().build();
+        SegmentOutputStreamFactory streamFactory = Mockito.mock(SegmentOutputStreamFactory.class);
+        Controller controller = Mockito.mock(Controller.class);
+        NavigableMap<Double, SegmentWithRange> segments = new TreeMap<>();
+        segments.put(0.5, new SegmentWithRange(segment1, 0.0, 0.5));
+        segments.put(1.0, new SegmentWithRange(segment2, 0.5, 1.0));
+        StreamSegments streamSegments = new StreamSegments(segments);
+        Mockito.when(controller.getCurrentSegments(scope, streamName)).thenReturn(CompletableFuture.completedFuture(streamSegments));
+        FakeSegmentOutputStream outputStream1 = new FakeSegmentOutputStream(segment1);
+        FakeSegmentOutputStream outputStream2 = new FakeSegmentOutputStream(segment2);
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment1), any(), any(), any())).thenReturn(outputStream1);
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment2), any(), any(), any())).thenReturn(outputStream2);
+        @Cleanup
+        EventStreamWriter<String> writer = new EventStreamWriterImpl<>(stream, "id", controller, streamFactory,
+                new JavaSerializer<>(), config, executorService(), executorService(), null);
+
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add("Event" + i);
+        }
+        CompletableFuture<Void> ack = writer.writeEvents(events, event -> event);
+
+        // One PendingEvent per segment, containing all the events routed to it.
+        assertEquals(1, outputStream1.unacked.size());
+        assertEquals(1, outputStream2.unacked.size());
+        PendingEvent pending1 = outputStream1.unacked.get(0);
+        PendingEvent pending2 = outputStream2.unacked.get(0);
+        assertEquals(events.size(), pending1.getEventCount() + pending2.getEventCount());
+        for (String key : pending1.getEventRoutingKeys()) {
+            assertEquals(segment1, streamSegments.getSegmentForKey(key));
+        }
+        assertEquals(events.size() - pending1.getEventCount(), pending2.getEventRoutingKeys().size());
+
+        pending1.getAckFuture().complete(null);
+        assertFalse(ack.isDone());
+        pending2.getAckFuture().complete(null);
+        assertTrue(Futures.isSuccessful(ack));
+        assertThrows(NullPointerException.class, () -> writer.writeEvents(events, event -> null));
+        assertTrue(writer.writeEvents(Collections.emptyList(), event -> event).isDone());
+    }
+
+    @Test
+    public void testWriteEventsWithRoutingKeysSealed() {
+        String scope = "scope";
+        String streamName = "stream";
+        StreamImpl stream = new StreamImpl(scope, streamName);
+        Segment segment1 = new Segment(scope, streamName, 0);
+        Segment segment2 = new Segment(scope, streamName, 1);
+        Segment segment3 = new Segment(scope, streamName, 2);
+        EventWriterConfig config = EventWriterConfig.builder().build();
+        SegmentOutputStreamFactory streamFactory = Mockito.mock(SegmentOutputStreamFactory.class);
+        Controller controller = Mockito.mock(Controller.class);
+        FakeSegmentOutputStream outputStream1 = new FakeSegmentOutputStream(segment1);
+        FakeSegmentOutputStream outputStream2 = new FakeSegmentOutputStream(segment2);
+        FakeSegmentOutputStream outputStream3 = new FakeSegmentOutputStream(segment3);
+        Mockito.when(controller.getCurrentSegments(scope, streamName)).thenReturn(getSegmentsFuture(segment1));
+        // Segment1 is split into segment2 and segment3.
+        Map<SegmentWithRange, List<Long>> successors = new HashMap<>();
+        successors.put(new SegmentWithRange(segment2, 0, 0.5), Collections.singletonList(segment1.getSegmentId()));
+        successors.put(new SegmentWithRange(segment3, 0.5, 1), Collections.singletonList(segment1.getSegmentId()));
+        Mockito.when(controller.getSuccessors(segment1))
+               .thenReturn(CompletableFuture.completedFuture(new StreamSegmentsWithPredecessors(successors, "")));
+        NavigableMap<Double, SegmentWithRange> successorRanges = new TreeMap<>();
+        successorRanges.put(0.5, new SegmentWithRange(segment2, 0.0, 0.5));
+        successorRanges.put(1.0, new SegmentWithRange(segment3, 0.5, 1.0));
+        StreamSegments successorSegments = new StreamSegments(successorRanges);
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment1), any(), any(), any())).thenAnswer(i -> {
+            outputStream1.callBackForSealed = i.getArgument(1);
+            return outputStream1;
+        });
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment2), any(), any(), any())).thenReturn(outputStream2);
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment3), any(), any(), any())).thenReturn(outputStream3);
+        JavaSerializer<String> serializer = new JavaSerializer<>();
+        @Cleanup
+        EventStreamWriter<String> writer = new EventStreamWriterImpl<>(stream, "id", controller, streamFactory, serializer,
+                config, executorService(), executorService(), null);
+
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add("Event" + i);
+        }
+        CompletableFuture<Void> ack = writer.writeEvents(events, event -> event);
+        assertEquals(1, outputStream1.unacked.size());
+        assertEquals(events.size(), outputStream1.unacked.get(0).getEventCount());
+
+        // The batch must be split between the successors according to the routing key of each event.
+        outputStream1.invokeSealedCallBack();
+        List<PendingEvent> resent = new ArrayList<>();
+        for (FakeSegmentOutputStream outputStream : Lists.newArrayList(outputStream2, outputStream3)) {
+            for (PendingEvent event : outputStream.acked) {
+                if (event.getEventRoutingKeys() != null) {
+                    resent.add(event);
+                    Segment expected = outputStream == outputStream2 ? segment2 : segment3;
+                    for (String key : event.getEventRoutingKeys()) {
+                        assertEquals(expected, successorSegments.getSegmentForKey(key));
+                    }
+                }
+            }
+        }
+        assertEquals(2, resent.size());
+        assertEquals(events.size(), resent.stream().mapToInt(PendingEvent::getEventCount).sum());
+
+        assertFalse(ack.isDone());
+        resent.forEach(event -> event.getAckFuture().complete(null));
+        assertTrue(Futures.isSuccessful(ack));
+    }
+
+    @Test
+    public void testWriteEventsWithRoutingKeysSizeBoundary() {
+        String scope = "scope";
+        String streamName = "stream";
+        StreamImpl stream = new StreamImpl(scope, streamName);
+        Segment segment = new Segment(scope, streamName, 0);
+        EventWriterConfig config = EventWriterConfig.builder().build();
+        SegmentOutputStreamFactory streamFactory = Mockito.mock(SegmentOutputStreamFactory.class);
+        Controller controller = Mockito.mock(Controller.class);
+        Mockito.when(controller.getCurrentSegments(scope, streamName)).thenReturn(getSegmentsFuture(segment));
+        FakeSegmentOutputStream outputStream = new FakeSegmentOutputStream(segment);
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment), any(), any(), any())).thenReturn(outputStream);
+        @Cleanup
+        EventStreamWriter<ByteBuffer> writer = new EventStreamWriterImpl<>(stream, "id", controller, streamFactory,
+                new ByteBufferSerializer(), config, executorService(), executorService(), null);
+
+        // Two events whose serialized size adds up to exactly MAX_WRITE_SIZE fit in a single PendingEvent.
+        int payloadSize = PendingEvent.MAX_WRITE_SIZE / 2 - WireCommands.TYPE_PLUS_LENGTH_SIZE;
+        writer.writeEvents(Arrays.asList(ByteBuffer.allocate(payloadSize), ByteBuffer.allocate(payloadSize)), event -> "key");
+        assertEquals(1, outputStream.unacked.size());
+        assertEquals(2, outputStream.unacked.get(0).getEventCount());
+        assertEquals(PendingEvent.MAX_WRITE_SIZE, outputStream.unacked.get(0).getData().readableBytes());
+
+        // One more byte and they must be split into two PendingEvents.
+        outputStream.unacked.clear();
+        writer.writeEvents(Arrays.asList(ByteBuffer.allocate(payloadSize), ByteBuffer.allocate(payloadSize + 1)), event -> "key");
+        assertEquals(2, outputStream.unacked.size());
+        assertEquals(1, outputStream.unacked.get(0).getEventCount());
+        assertEquals(1, outputStream.unacked.get(1).getEventCount());
+
+        // PendingEvent enforces the same limit.
+        ByteBuf event = PendingEvent.serialize(ByteBuffer.allocate(payloadSize), EventCompression.NONE);
+        ByteBuf largerEvent = PendingEvent.serialize(ByteBuffer.allocate(payloadSize + 1), EventCompression.NONE);
+        assertThrows(IllegalArgumentException.class,
+                () -> PendingEvent.withHeaders(Arrays.asList("key", "key"), Arrays.asList(event, largerEvent), new CompletableFuture<>()));
+    }
+
     private StreamSegments getSegments(Segment segment) {
         NavigableMap<Double, SegmentWithRange> segments = new TreeMap<>();
         segments.put(1.0, new SegmentWithRange(segment, 0.0, 1.0));
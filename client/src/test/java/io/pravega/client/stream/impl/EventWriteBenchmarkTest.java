@@ -0,0 +1,180 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import io.pravega.client.control.impl.Controller;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentOutputStream;
+import io.pravega.client.segment.impl.SegmentOutputStreamFactory;
+import io.pravega.client.stream.EventWriterConfig;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Cleanup;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Benchmark for {@link EventStreamWriterImpl#writeEvent(String, Object)} vs
+ * {@link EventStreamWriterImpl#writeEvents(List, java.util.function.Function)}, measuring events/sec and the number of
+ * bytes allocated per event for small events with many distinct routing keys. Events are acknowledged as soon as they
+ * are handed to the segment writers (there is no network involved), so the results only reflect the per-event overhead
+ * of the writer itself (futures, {@link PendingEvent}s and routing).
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class EventWriteBenchmarkTest {
+    private static final int EVENT_COUNT = 5_000_000;
+    private static final int ROUTING_KEY_COUNT = 100_000;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int[] BATCH_SIZES = new int[]{10, 100, 1000};
+    private static final int ITERATION_COUNT = 5;
+    private static final String SCOPE = "Foo";
+    private static final String STREAM = "Bar";
+
+    @Test
+    public void testWriteEvent() {
+        val events = createEvents(EVENT_COUNT);
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            @Cleanup("shutdown")
+            ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "benchmark");
+            @Cleanup
+            val writer = createWriter(executor);
+            val timer = new Timer();
+            long allocated = getAllocatedBytes();
+            for (String event : events) {
+                writer.writeEvent(event, event);
+            }
+            writer.flush();
+            report("writeEvent", i, timer, getAllocatedBytes() - allocated);
+        }
+    }
+
+    @Test
+    public void testWriteEvents() {
+        val events = createEvents(EVENT_COUNT);
+        for (int batchSize : BATCH_SIZES) {
+            for (int i = 0; i < ITERATION_COUNT; i++) {
+                @Cleanup("shutdown")
+                ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "benchmark");
+                @Cleanup
+                val writer = createWriter(executor);
+                val timer = new Timer();
+                long allocated = getAllocatedBytes();
+                for (int j = 0; j < events.size(); j += batchSize) {
+                    writer.writeEvents(events.subList(j, Math.min(events.size(), j + batchSize)), event -> event);
+                }
+                writer.flush();
+                report("writeEvents(" + batchSize + ")", i, timer, getAllocatedBytes() - allocated);
+            }
+        }
+    }
+
+    private List<String> createEvents(int count) {
+        // Each event is its own routing key (i.e., a device id).
+        val result = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(String.format("device-%08d", i % ROUTING_KEY_COUNT));
+        }
+        return result;
+    }
+
+    private long getAllocatedBytes() {
+        val threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private void report(String name, int iteration, Timer timer, long allocatedBytes) {
+        double seconds = timer.getElapsedNanos() / 1_000_000_000.0;
+        System.out.println(String.format("%s: Iteration %s: %.0f events/sec, %.1f bytes allocated/event.",
+                name, iteration, EVENT_COUNT / seconds, (double) allocatedBytes / EVENT_COUNT));
+    }
+
+    private EventStreamWriterImpl<String> createWriter(ScheduledExecutorService executor) {
+        NavigableMap<Double, SegmentWithRange> segments = new TreeMap<>();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            double high = (double) (i + 1) / SEGMENT_COUNT;
+            segments.put(high, new SegmentWithRange(new Segment(SCOPE, STREAM, i), (double) i / SEGMENT_COUNT, high));
+        }
+        val controller = Mockito.mock(Controller.class);
+        Mockito.when(controller.getCurrentSegments(SCOPE, STREAM))
+               .thenReturn(CompletableFuture.completedFuture(new StreamSegments(segments)));
+        val streamFactory = Mockito.mock(SegmentOutputStreamFactory.class);
+        Mockito.when(streamFactory.createOutputStreamForSegment(any(), any(), any(), any()))
+               .thenAnswer(invocation -> new AckingSegmentOutputStream(((Segment) invocation.getArgument(0)).getScopedName()));
+        return new EventStreamWriterImpl<>(new StreamImpl(SCOPE, STREAM), "writer", controller, streamFactory,
+                new UTF8StringSerializer(), EventWriterConfig.builder().build(), executor, executor, null);
+    }
+
+    /**
+     * A {@link SegmentOutputStream} that acknowledges every {@link PendingEvent} as soon as it is written.
+     */
+    @RequiredArgsConstructor
+    private static class AckingSegmentOutputStream implements SegmentOutputStream {
+        @Getter
+        private final String segmentName;
+        @Getter
+        private long lastObservedWriteOffset;
+
+        @Override
+        public void write(PendingEvent event) {
+            this.lastObservedWriteOffset += event.getData().readableBytes();
+            if (event.getAckFuture() != null) {
+                event.getAckFuture().complete(null);
+            }
+        }
+
+        @Override
+        public void close() {
+            // Nothing to do.
+        }
+
+        @Override
+        public void flush() {
+            // Nothing to do.
+        }
+
+        @Override
+        public void flushAsync() {
+            // Nothing to do.
+        }
+
+        @Override
+        public List<PendingEvent> getUnackedEventsOnSeal() {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import io.pravega.client.segment.impl.EndOfSegmentException;
+import io.pravega.client.segment.impl.EventSegmentReader;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.test.common.InlineExecutor;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import lombok.Cleanup;
+import org.junit.Test;
+
+import static io.pravega.test.common.AssertExtensions.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PrefetchingEventSegmentReaderTest {
+    private static final int EVENT_LENGTH = Integer.BYTES;
+
+    /**
+     * A segment with fixed-length events, each containing its index.
+     */
+    private static class FakeSegmentReader implements EventSegmentReader {
+        private final Segment segment;
+        private final List<ByteBuffer> events = new ArrayList<>();
+        private int next = 0;
+        private int reads = 0;
+        private boolean sealed = false;
+        private CompletableFuture<Void> dataAvailable = new CompletableFuture<>();
+
+        FakeSegmentReader(int segmentNumber, int eventCount) {
+            this.segment = new Segment("scope", "stream", segmentNumber);
+            add(eventCount);
+        }
+
+        void add(int count) {
+            CompletableFuture<Void> toComplete;
+            synchronized (this) {
+                for (int i = 0; i < count; i++) {
+                    ByteBuffer event = ByteBuffer.allocate(EVENT_LENGTH);
+                    event.putInt(0, events.size());
+                    events.add(event);
+                }
+                toComplete = dataAvailable;
+                dataAvailable = new CompletableFuture<>();
+            }
+            toComplete.complete(null);
+        }
+
+        synchronized void seal() {
+            sealed = true;
+            dataAvailable.complete(null);
+        }
+
+        synchronized int getReads() {
+            return reads;
+        }
+
+        @Override
+        public Segment getSegmentId() {
+            return segment;
+        }
+
+        @Override
+        public synchronized void setOffset(long offset, boolean resendRequest) {
+            next = (int) (offset / EVENT_LENGTH);
+            // Like SegmentInputStreamImpl, this cancels any outstanding read request.
+            CompletableFuture<Void> toComplete = dataAvailable;
+            dataAvailable = new CompletableFuture<>();
+            toComplete.complete(null);
+        }
+
+        @Override
+        public synchronized long getOffset() {
+            return (long) next * EVENT_LENGTH;
+        }
+
+        @Override
+        public synchronized ByteBuffer read(long firstByteTimeoutMillis) throws EndOfSegmentException {
+            reads++;
+            if (next < events.size()) {
+                return events.get(next++).duplicate();
+            }
+            if (sealed) {
+                throw new EndOfSegmentException();
+            }
+            return null;
+        }
+
+        @Override
+        public synchronized CompletableFuture<?> fillBuffer() {
+            return next < events.size() || sealed ? CompletableFuture.completedFuture(null) : dataAvailable;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public synchronized boolean isSegmentReady() {
+            return next < events.size() || sealed;
+        }
+    }
+
+    @Test
+    public void testReadAhead() throws Exception {
+        Semaphore hasData = new Semaphore(0);
+        @Cleanup
+        EventPrefetcher prefetcher = new EventPrefetcher(3, hasData, new InlineExecutor());
+        FakeSegmentReader fake = new FakeSegmentReader(0, 10);
+        @Cleanup
+        EventSegmentReader reader = prefetcher.prefetch(fake);
+
+        // Only as many events as allowed are read ahead, and the offset does not reflect them until they are returned.
+        assertEquals(3, fake.getReads());
+        assertEquals(0, reader.getOffset());
+        assertTrue(reader.isSegmentReady());
+        assertEquals(3, hasData.availablePermits());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, reader.read().getInt());
+            assertEquals((i + 1) * EVENT_LENGTH, reader.getOffset());
+        }
+
+        // Once caught up, the reader resumes reading ahead when new data arrives.
+        assertFalse(reader.isSegmentReady());
+        assertNull(reader.read(0));
+        fake.add(1);
+        assertTrue(reader.isSegmentReady());
+        assertEquals(10, reader.read(0).getInt());
+
+        // The end of the segment is reported once all the events before it have been returned.
+        fake.add(1);
+        fake.seal();
+        assertTrue(reader.isSegmentReady());
+        assertEquals(11, reader.read(0).getInt());
+        assertThrows(EndOfSegmentException.class, () -> reader.read(0));
+    }
+
+    @Test
+    public void testSharedQueueSize() throws Exception {
+        @Cleanup
+        EventPrefetcher prefetcher = new EventPrefetcher(4, new Semaphore(0), new InlineExecutor());
+        FakeSegmentReader fake1 = new FakeSegmentReader(1, 10);
+        FakeSegmentReader fake2 = new FakeSegmentReader(2, 10);
+        @Cleanup
+        EventSegmentReader reader1 = prefetcher.prefetch(fake1);
+        @Cleanup
+        EventSegmentReader reader2 = prefetcher.prefetch(fake2);
+        assertEquals(4, fake1.getReads());
+        assertFalse(reader2.isSegmentReady());
+
+        // Consuming events from one segment allows the others to read ahead.
+        assertEquals(0, reader1.read().getInt());
+        assertEquals(1, reader1.read().getInt());
+        assertTrue(reader2.isSegmentReady());
+        assertEquals(0, reader2.read().getInt());
+
+        // Closing a reader returns the room taken by its queued events.
+        reader1.close();
+        for (int i = 1; i < 10; i++) {
+            assertEquals(i, reader2.read(0).getInt());
+        }
+    }
+
+    @Test
+    public void testSetOffset() throws Exception {
+        @Cleanup
+        EventPrefetcher prefetcher = new EventPrefetcher(5, new Semaphore(0), new InlineExecutor());
+        FakeSegmentReader fake = new FakeSegmentReader(0, 10);
+        @Cleanup
+        EventSegmentReader reader = prefetcher.prefetch(fake);
+        assertEquals(0, reader.read().getInt());
+
+        // Queued events are discarded and reading ahead restarts from the new offset.
+        reader.setOffset(7 * EVENT_LENGTH);
+        assertEquals(7 * EVENT_LENGTH, reader.getOffset());
+        assertEquals(7, reader.read().getInt());
+        reader.setOffset(2 * EVENT_LENGTH);
+        assertEquals(2, reader.read().getInt());
+        assertEquals(3, reader.read().getInt());
+        assertEquals(4 * EVENT_LENGTH, reader.getOffset());
+    }
+
+    @Test(timeout = 30000)
+    public void testSetOffsetRacesWithReadAhead() throws Exception {
+        final int eventCount = 100;
+        @Cleanup("shutdownNow")
+        ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "test-prefetch");
+        @Cleanup
+        EventPrefetcher prefetcher = new EventPrefetcher(eventCount, new Semaphore(0), executor);
+        FakeSegmentReader fake = new FakeSegmentReader(0, eventCount);
+        @Cleanup
+        EventSegmentReader reader = prefetcher.prefetch(fake);
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            // Reading ahead is in progress in the background while the offset is changed. No matter how the two
+            // interleave, the next event must be the one at the new offset and the offset must follow it.
+            int index = random.nextInt(eventCount);
+            reader.setOffset((long) index * EVENT_LENGTH);
+            ByteBuffer event = reader.read(10000);
+            assertNotNull("Event lost at iteration " + i, event);
+            assertEquals(index, event.getInt());
+            assertEquals((long) (index + 1) * EVENT_LENGTH, reader.getOffset());
+            if (index + 1 < eventCount) {
+                assertEquals(index + 1, reader.read(10000).getInt());
+                assertEquals((long) (index + 2) * EVENT_LENGTH, reader.getOffset());
+            }
+        }
+    }
+}
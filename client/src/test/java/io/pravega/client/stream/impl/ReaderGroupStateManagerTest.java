@@ -39,13 +39,21 @@ import io.pravega.shared.NameUtils;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.test.common.AssertExtensions;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import lombok.Cleanup;
 import lombok.val;
 import org.junit.Test;
@@ -67,6 +75,8 @@ import static org.mockito.Mockito.verify;
 @RunWith(BlockJUnit4ClassRunner.class)
 public class ReaderGroupStateManagerTest {
     private static final int SERVICE_PORT = 12345;
+    private static final long READER_CAPACITY = 400;
+    private static final long[] SEGMENT_RATES = {380, 300, 80, 80, 80, 80};
     private final StreamConfiguration config = StreamConfiguration.builder()
                                                                   .scalingPolicy(ScalingPolicy.fixed(1))
                                                                   .build();
@@ -764,6 +774,111 @@ public class ReaderGroupStateManagerTest {
                      stateSynchronizer.getState().getLastReadPositions(Stream.of(scope, stream)));
     }
 
+    /**
+     * Simulates three readers, each able to consume {@link #READER_CAPACITY} bytes per second, reading from segments
+     * whose data rates are skewed. Balancing by segment count gives each reader two segments, so whichever reader owns
+     * the hottest segment cannot keep up. Balancing by data rate lets every reader keep up.
+     */
+    @Test(timeout = 60000)
+    public void testBalanceByDataRate() throws ReaderNotInReaderGroupException {
+        long totalRate = Arrays.stream(SEGMENT_RATES).sum();
+        long countBasedThroughput = simulateSkewedReaders(false);
+        long rateBasedThroughput = simulateSkewedReaders(true);
+        assertTrue("Count based: " + countBasedThroughput, countBasedThroughput < totalRate);
+        assertTrue("Rate based: " + rateBasedThroughput, rateBasedThroughput >= totalRate * 0.98);
+        assertTrue(rateBasedThroughput > countBasedThroughput);
+    }
+
+    /**
+     * Runs the simulation for 10 minutes and returns the average number of bytes per second consumed by all readers
+     * during the second half of it.
+     */
+    private long simulateSkewedReaders(boolean balanceByDataRate) throws ReaderNotInReaderGroupException {
+        String scope = "scope";
+        String stream = "stream";
+        PravegaNodeUri endpoint = new PravegaNodeUri("localhost", SERVICE_PORT);
+        MockConnectionFactoryImpl connectionFactory = new MockConnectionFactoryImpl();
+        MockController controller = new MockController(endpoint.getEndpoint(), endpoint.getPort(), connectionFactory, false);
+        createScopeAndStream(scope, stream, controller);
+        MockSegmentStreamFactory streamFactory = new MockSegmentStreamFactory();
+        @Cleanup
+        SynchronizerClientFactory clientFactory = new ClientFactoryImpl(scope, controller, connectionFactory, streamFactory,
+                                                                        streamFactory, streamFactory, streamFactory);
+        @Cleanup
+        StateSynchronizer<ReaderGroupState> stateSynchronizer = createState(stream, clientFactory, SynchronizerConfig.builder().build());
+        AtomicLong clock = new AtomicLong();
+        Map<Segment, SegmentWithRange> ranges = new HashMap<>();
+        Map<Segment, Long> written = new ConcurrentHashMap<>();
+        Map<Segment, Long> read = new HashMap<>();
+        for (int i = 0; i < SEGMENT_RATES.length; i++) {
+            Segment segment = new Segment(scope, stream, i);
+            ranges.put(segment, new SegmentWithRange(segment, i / (double) SEGMENT_RATES.length,
+                                                     (i + 1) / (double) SEGMENT_RATES.length));
+            written.put(segment, 0L);
+            read.put(segment, 0L);
+        }
+        stateSynchronizer.initialize(new ReaderGroupState.ReaderGroupStateInit(ReaderGroupConfig.builder().stream(Stream.of(scope, stream)).build(),
+                                                                               ranges.values().stream().collect(Collectors.toMap(s -> s, s -> 0L)),
+                                                                               Collections.emptyMap(), false));
+        Map<ReaderGroupStateManager, SegmentLoadTracker> readers = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            ReaderGroupStateManager reader = new ReaderGroupStateManager(scope, stream, "reader" + i, stateSynchronizer, controller,
+                                                                         clock::get);
+            SegmentLoadTracker tracker = null;
+            if (balanceByDataRate) {
+                tracker = new SegmentLoadTracker(s -> completedFuture(written.get(s)), () -> clock.get() / 1000000);
+                reader.setSegmentLoadTracker(tracker);
+            }
+            reader.initializeReader(0);
+            readers.put(reader, tracker);
+        }
+
+        int seconds = 600;
+        long consumed = 0;
+        for (int second = 0; second < seconds; second++) {
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            for (int i = 0; i < SEGMENT_RATES.length; i++) {
+                written.merge(new Segment(scope, stream, i), SEGMENT_RATES[i], Long::sum);
+            }
+            for (Entry<ReaderGroupStateManager, SegmentLoadTracker> entry : readers.entrySet()) {
+                ReaderGroupStateManager reader = entry.getKey();
+                Set<Segment> owned = stateSynchronizer.getState().getSegments(reader.getReaderId());
+                long bytes = consume(owned, written, read, entry.getValue());
+                if (second >= seconds / 2) {
+                    consumed += bytes;
+                }
+                PositionImpl position = new PositionImpl(owned.stream().collect(Collectors.toMap(ranges::get, read::get)));
+                reader.acquireNewSegmentsIfNeeded(0, position).forEach((segment, offset) -> read.put(segment.getSegment(), offset));
+                reader.updateLagIfNeeded(0, position);
+                Segment toRelease = reader.findSegmentToReleaseIfRequired();
+                if (toRelease != null) {
+                    reader.releaseSegment(toRelease, read.get(toRelease), 0, position);
+                }
+            }
+        }
+        return consumed / (seconds - seconds / 2);
+    }
+
+    /**
+     * Consumes up to {@link #READER_CAPACITY} bytes from the given segments, sharing it evenly between those that have
+     * data available.
+     */
+    private long consume(Set<Segment> owned, Map<Segment, Long> written, Map<Segment, Long> read, SegmentLoadTracker tracker) {
+        List<Segment> segments = new ArrayList<>(owned);
+        segments.sort(Comparator.comparingLong(s -> written.get(s) - read.get(s)));
+        long available = READER_CAPACITY;
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            long bytes = Math.min(written.get(segment) - read.get(segment), available / (segments.size() - i));
+            read.merge(segment, bytes, Long::sum);
+            available -= bytes;
+            if (tracker != null) {
+                tracker.recordRead(segment, bytes);
+            }
+        }
+        return READER_CAPACITY - available;
+    }
+
     @Test(timeout = 10000)
     public void testCheckpoint() throws ReaderNotInReaderGroupException {
         String scope = "scope";
@@ -99,6 +99,39 @@ public class ReaderGroupStateTest {
         assertEquals(123L, readerState.getLastReadPositions(getStream("S2")).get(s2r).longValue());
     }
     
+    @Test
+    public void testSegmentLoads() {
+        new ReaderGroupState.AddReader("r1").applyTo(readerState, revision);
+        new ReaderGroupState.AddReader("r2").applyTo(readerState, revision);
+        new ReaderGroupState.AcquireSegment("r1", getSegment("S1")).applyTo(readerState, revision);
+        new ReaderGroupState.AcquireSegment("r2", getSegment("S2")).applyTo(readerState, revision);
+        assertFalse(readerState.hasSegmentLoads());
+        assertEquals(0, readerState.getSegmentLoad(getSegment("S1")));
+
+        // Loads reported for segments the reader does not own are ignored.
+        new ReaderGroupState.UpdateDistanceToTail("r1", 1, ImmutableMap.of(), ImmutableMap.of(getSegment("S1"), 100L,
+                                                                                            getSegment("S2"), 900L))
+                .applyTo(readerState, revision);
+        assertTrue(readerState.hasSegmentLoads());
+        assertEquals(100, readerState.getSegmentLoad(getSegment("S1")));
+        // Segments with no reported load are assumed to carry the average load.
+        assertEquals(100, readerState.getSegmentLoad(getSegment("S2")));
+
+        new ReaderGroupState.UpdateDistanceToTail("r2", 1, ImmutableMap.of(), ImmutableMap.of(getSegment("S2"), 300L))
+                .applyTo(readerState, revision);
+        assertEquals(300, readerState.getSegmentLoad(getSegment("S2")));
+        assertEquals(ImmutableMap.of("r1", 100L, "r2", 300L), readerState.getReaderLoads());
+
+        // Updates without loads, as sent by readers that do not track them, leave the loads unchanged.
+        new ReaderGroupState.UpdateDistanceToTail("r2", 1, ImmutableMap.of()).applyTo(readerState, revision);
+        assertEquals(ImmutableMap.of("r1", 100L, "r2", 300L), readerState.getReaderLoads());
+
+        // A released segment keeps its load, so that whichever reader acquires it can take it into account.
+        new ReaderGroupState.ReleaseSegment("r2", getSegment("S2"), 1).applyTo(readerState, revision);
+        assertEquals(300, readerState.getSegmentLoad(getSegment("S2")));
+        assertEquals(ImmutableMap.of("r1", 100L, "r2", 0L), readerState.getReaderLoads());
+    }
+
     @Test
     public void testLastReadPositions() {
         Map<SegmentWithRange, Long> p1 = readerState.getLastReadPositions(Stream.of(SCOPE, "S1"));
@@ -0,0 +1,84 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.client.segment.impl.Segment;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SegmentLoadTrackerTest {
+
+    private final Segment s1 = new Segment("scope", "stream", 1);
+    private final Segment s2 = new Segment("scope", "stream", 2);
+
+    @Test
+    public void testConsumptionRate() {
+        AtomicLong clock = new AtomicLong();
+        SegmentLoadTracker tracker = new SegmentLoadTracker(s -> CompletableFuture.completedFuture(0L), clock::get);
+        assertTrue(tracker.getSegmentLoads(ImmutableMap.of(s1, 0L, s2, 0L)).isEmpty());
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(1000);
+            tracker.recordRead(s1, 1000);
+            tracker.recordRead(s2, 100);
+        }
+        assertEquals(ImmutableMap.of(s1, 1000L, s2, 100L), tracker.getSegmentLoads(ImmutableMap.of(s1, 10000L, s2, 1000L)));
+    }
+
+    @Test
+    public void testBacklog() {
+        AtomicLong clock = new AtomicLong();
+        Map<Segment, Long> lengths = new HashMap<>();
+        SegmentLoadTracker tracker = new SegmentLoadTracker(s -> CompletableFuture.completedFuture(lengths.getOrDefault(s, 0L)),
+                                                            clock::get);
+        tracker.getSegmentLoads(ImmutableMap.of(s1, 0L));
+        clock.addAndGet(SegmentLoadTracker.MIN_MEASUREMENT_TIME.toMillis());
+        // The length is fetched asynchronously, so the backlog is only reflected once it has been fetched.
+        long backlog = SegmentLoadTracker.BACKLOG_DRAIN_TIME.getSeconds() * 500;
+        lengths.put(s1, backlog);
+        assertEquals(ImmutableMap.of(s1, 0L), tracker.getSegmentLoads(ImmutableMap.of(s1, 0L)));
+        assertEquals(ImmutableMap.of(s1, 500L), tracker.getSegmentLoads(ImmutableMap.of(s1, 0L)));
+        assertEquals(ImmutableMap.of(s1, 0L), tracker.getSegmentLoads(ImmutableMap.of(s1, backlog)));
+    }
+
+    @Test
+    public void testSegmentsNoLongerOwned() {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger fetches = new AtomicInteger();
+        CompletableFuture<Long> length = new CompletableFuture<>();
+        SegmentLoadTracker tracker = new SegmentLoadTracker(s -> {
+            fetches.incrementAndGet();
+            return length;
+        }, clock::get);
+        tracker.recordRead(s1, 1000);
+        tracker.recordRead(s2, 1000);
+        clock.addAndGet(SegmentLoadTracker.MIN_MEASUREMENT_TIME.toMillis());
+        assertEquals(ImmutableMap.of(s1, 200L), tracker.getSegmentLoads(ImmutableMap.of(s1, 0L)));
+        // Only one length fetch is outstanding per segment.
+        tracker.getSegmentLoads(ImmutableMap.of(s1, 0L));
+        assertEquals(1, fetches.get());
+        // Once reacquired, a segment is measured from scratch and completed segments are not reported.
+        assertTrue(tracker.getSegmentLoads(ImmutableMap.of(s1, -1L, s2, 0L)).isEmpty());
+        length.complete(0L);
+    }
+}
@@ -271,6 +271,8 @@ public class SerializationTest {
         builder.futureSegments(createMap(this::createSegmentWithRange, () -> new HashSet<>(createLongList())));
         builder.lastReadPosition(createSegmentRangeMap());
         verify(initSerializer, builder.build());
+        builder.segmentLoads(ImmutableMap.of(createSegment(), r.nextLong()));
+        verify(initSerializer, builder.build());
 
         ReaderGroupStateInitSerializer newSerializer = new ReaderGroupStateInit.ReaderGroupStateInitSerializer(); 
         ReaderGroupStateInitSerializer oldSerializer = new ReaderGroupStateInit.ReaderGroupStateInitSerializer() {
@@ -297,6 +299,8 @@ public class SerializationTest {
         verify(serializer, new ReleaseSegment(createString(), createSegment(), r.nextLong()));
         verify(serializer, new AcquireSegment(createString(), createSegment()));
         verify(serializer, new UpdateDistanceToTail(createString(), r.nextLong(), createSegmentRangeMap()));
+        verify(serializer, new UpdateDistanceToTail(createString(), r.nextLong(), createSegmentRangeMap(),
+                                                    ImmutableMap.of(createSegment(), r.nextLong())));
         verify(serializer, new SegmentCompleted(createString(), createSegmentWithRange(),
                                                 createMap(this::createSegmentWithRange, this::createLongList)));
         verify(serializer, new CheckpointReader(createString(), createString(), createSegmentToLongMap()));
@@ -18,12 +18,38 @@ package io.pravega.client.tables.impl;
 import io.pravega.client.admin.KeyValueTableInfo;
 import io.pravega.client.stream.mock.MockConnectionFactoryImpl;
 import io.pravega.client.stream.mock.MockController;
+import io.pravega.client.tables.BadKeyVersionException;
+import io.pravega.client.tables.Insert;
 import io.pravega.client.tables.KeyValueTable;
+import io.pravega.client.tables.KeyValueTableClientConfiguration;
 import io.pravega.client.tables.KeyValueTableConfiguration;
+import io.pravega.client.tables.Put;
+import io.pravega.client.tables.Remove;
+import io.pravega.client.tables.TableEntryUpdate;
+import io.pravega.client.tables.TableKey;
+import io.pravega.client.tables.Version;
+import io.pravega.shared.NameUtils;
+import io.pravega.shared.metrics.ClientMetricKeys;
+import io.pravega.shared.metrics.MetricNotifier;
+import io.pravega.test.common.AssertExtensions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Cleanup;
 import lombok.val;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Test;
+import org.mockito.AdditionalAnswers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 
 /**
  * Unit tests for the {@link KeyValueTableImpl} class. This uses mocked {@link TableSegment}s so it does not actually
@@ -74,4 +100,191 @@ public class KeyValueTableImplTests extends KeyValueTableTestBase {
         this.controller.close();
         this.connectionFactory.close();
     }
+
+    /**
+     * Tests the read cache (enabled via {@link KeyValueTableClientConfiguration#getReadCacheMaxEntries()}).
+     */
+    @Test
+    public void testReadCache() {
+        this.controller.createKeyValueTable(KVT.getScope(), KVT.getKeyValueTableName(), this.defaultConfig);
+        val segmentFactory = new MockTableSegmentFactory(getSegmentCount(), this.defaultConfig.getTotalKeyLength(), executorService());
+        val clientConfig = KeyValueTableClientConfiguration.builder().readCacheMaxEntries(100).readCacheExpiryMillis(60000).build();
+        @Cleanup
+        val kvt = new KeyValueTableImpl(KVT, segmentFactory, this.controller, clientConfig, executorService());
+
+        val k1 = new TableKey(ByteBuffer.allocate(getPrimaryKeyLength()).putLong(0, 1L), ByteBuffer.allocate(getSecondaryKeyLength()));
+        val k2 = new TableKey(ByteBuffer.allocate(getPrimaryKeyLength()).putLong(0, 2L), ByteBuffer.allocate(getSecondaryKeyLength()));
+        val v1 = kvt.update(new Put(k1, ByteBuffer.wrap(new byte[]{1}))).join();
+
+        // First read is a miss, second one is a hit. Non-existent keys are never cached.
+        Assert.assertEquals(v1, kvt.get(k1).join().getVersion());
+        Assert.assertEquals(v1, kvt.get(k1).join().getVersion());
+        Assert.assertNull(kvt.get(k2).join());
+        Assert.assertEquals(1, kvt.getReadCacheStats().hitCount());
+        Assert.assertEquals(2, kvt.getReadCacheStats().missCount());
+
+        // Consuming the returned value must not affect the cached copy.
+        Assert.assertEquals(1, kvt.get(k1).join().getValue().get());
+        Assert.assertEquals(1, kvt.get(k1).join().getValue().get());
+
+        // Local updates invalidate the cache.
+        val v2 = kvt.update(new Put(k1, ByteBuffer.wrap(new byte[]{2}))).join();
+        val e1 = kvt.get(k1).join();
+        Assert.assertEquals(v2, e1.getVersion());
+        Assert.assertEquals(2, e1.getValue().get());
+
+        // Mixed hits and misses in getAll().
+        kvt.update(new Put(k2, ByteBuffer.wrap(new byte[]{3}))).join();
+        val all = kvt.getAll(Arrays.asList(k2, k1)).join();
+        Assert.assertEquals(3, all.get(0).getValue().get());
+        Assert.assertEquals(v2, all.get(1).getVersion());
+
+        // Local removals invalidate the cache too.
+        kvt.update(new Remove(k1)).join();
+        Assert.assertNull(kvt.get(k1).join());
+        Assert.assertEquals(4, kvt.getReadCacheStats().hitCount());
+    }
+
+    /**
+     * Tests that a read that was in flight while an update to the same key completed does not put a stale value back
+     * into the read cache.
+     */
+    @Test
+    public void testReadCacheConcurrentUpdate() {
+        this.controller.createKeyValueTable(KVT.getScope(), KVT.getKeyValueTableName(), this.defaultConfig);
+        val mockFactory = new MockTableSegmentFactory(getSegmentCount(), this.defaultConfig.getTotalKeyLength(), executorService());
+        val releaseGet = new AtomicReference<CompletableFuture<Void>>();
+        TableSegmentFactory segmentFactory = segment -> {
+            val ts = mockFactory.forSegment(segment);
+            val spy = mock(TableSegment.class, AdditionalAnswers.delegatesTo(ts));
+            doAnswer(invocation -> {
+                val result = ts.get(invocation.getArgument(0));
+                val gate = releaseGet.get();
+                return gate == null ? result : result.thenCombine(gate, (r, v) -> r);
+            }).when(spy).get(any());
+            return spy;
+        };
+        val clientConfig = KeyValueTableClientConfiguration.builder().readCacheMaxEntries(100).readCacheExpiryMillis(60000).build();
+        @Cleanup
+        val kvt = new KeyValueTableImpl(KVT, segmentFactory, this.controller, clientConfig, executorService());
+
+        val k1 = new TableKey(ByteBuffer.allocate(getPrimaryKeyLength()).putLong(0, 1L), ByteBuffer.allocate(getSecondaryKeyLength()));
+        kvt.update(new Put(k1, ByteBuffer.wrap(new byte[]{1}))).join();
+
+        // Begin a read, which will fetch the current value but not complete until we say so.
+        val gate = new CompletableFuture<Void>();
+        releaseGet.set(gate);
+        val staleRead = kvt.get(k1);
+        releaseGet.set(null);
+
+        // Update the key while the read is in flight, then let the read complete.
+        val v2 = kvt.update(new Put(k1, ByteBuffer.wrap(new byte[]{2}))).join();
+        gate.complete(null);
+        Assert.assertEquals(1, staleRead.join().getValue().get());
+
+        // The stale value must not have been cached.
+        val e1 = kvt.get(k1).join();
+        Assert.assertEquals(v2, e1.getVersion());
+        Assert.assertEquals(2, e1.getValue().get());
+    }
+
+    /**
+     * Tests that the read cache hit rate is published via the {@link MetricNotifier}.
+     */
+    @Test
+    public void testReadCacheMetrics() {
+        this.controller.createKeyValueTable(KVT.getScope(), KVT.getKeyValueTableName(), this.defaultConfig);
+        val segmentFactory = new MockTableSegmentFactory(getSegmentCount(), this.defaultConfig.getTotalKeyLength(), executorService());
+        val clientConfig = KeyValueTableClientConfiguration.builder().readCacheMaxEntries(100).readCacheExpiryMillis(60000).build();
+        val metrics = new ConcurrentHashMap<String, Long>();
+        val notifier = new MetricNotifier() {
+            @Override
+            public void updateSuccessMetric(ClientMetricKeys metricKey, String[] metricTags, long value) {
+                metrics.put(metricKey.metric(metricTags), value);
+            }
+
+            @Override
+            public void updateFailureMetric(ClientMetricKeys metricKey, String[] metricTags, long value) {
+                Assert.fail("Unexpected failure metric " + metricKey);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        @Cleanup
+        val kvt = new KeyValueTableImpl(KVT, segmentFactory, this.controller, clientConfig, notifier, executorService());
+
+        val k1 = new TableKey(ByteBuffer.allocate(getPrimaryKeyLength()).putLong(0, 1L), ByteBuffer.allocate(getSecondaryKeyLength()));
+        kvt.update(new Put(k1, ByteBuffer.wrap(new byte[]{1}))).join();
+        val tags = NameUtils.keyValueTableTags(KVT.getScope(), KVT.getKeyValueTableName());
+        val hitRateMetric = ClientMetricKeys.CLIENT_KVT_READ_CACHE_HIT_RATE.metric(tags);
+        kvt.get(k1).join();
+        Assert.assertEquals("Expected a miss.", 0L, (long) metrics.get(hitRateMetric));
+        kvt.get(k1).join();
+        Assert.assertEquals("Expected one miss and one hit.", 50L, (long) metrics.get(hitRateMetric));
+        kvt.get(k1).join();
+        kvt.get(k1).join();
+        Assert.assertEquals("Expected one miss and three hits.", 75L, (long) metrics.get(hitRateMetric));
+    }
+
+    /**
+     * Tests {@link KeyValueTableImpl#updateAcrossPartitions}: keys from multiple partitions are updated together, the
+     * versions are returned in the order of the updates, and a single failed condition prevents all the updates.
+     */
+    @Test
+    public void testUpdateAcrossPartitions() {
+        @Cleanup
+        val kvt = createKeyValueTable();
+        val keyCount = 16;
+        val keys = new ArrayList<TableKey>();
+        val inserts = new ArrayList<TableEntryUpdate>();
+        for (int i = 0; i < keyCount; i++) {
+            val key = new TableKey(ByteBuffer.allocate(getPrimaryKeyLength()).putLong(0, i), ByteBuffer.allocate(getSecondaryKeyLength()));
+            keys.add(key);
+            inserts.add(new Insert(key, ByteBuffer.wrap(new byte[]{(byte) i})));
+        }
+
+        // Conditional insert across partitions.
+        val versions = kvt.updateAcrossPartitions(inserts).join();
+        Assert.assertEquals(keyCount, versions.size());
+        AssertExtensions.assertGreaterThan("Expected keys to span multiple partitions.", 1,
+                versions.stream().map(v -> v.asImpl().getSegmentId()).distinct().count());
+        checkValues(kvt, keys, versions, 0);
+
+        // Re-inserting must fail without modifying anything.
+        AssertExtensions.assertSuppliedFutureThrows(
+                "updateAcrossPartitions accepted already existing keys.",
+                () -> kvt.updateAcrossPartitions(inserts),
+                ex -> ex instanceof BadKeyVersionException);
+        checkValues(kvt, keys, versions, 0);
+
+        // One stale condition: nothing must be updated.
+        val staleUpdates = new ArrayList<TableEntryUpdate>();
+        for (int i = 0; i < keyCount; i++) {
+            val version = i == keyCount - 1 ? Version.NOT_EXISTS : versions.get(i);
+            staleUpdates.add(new Put(keys.get(i), ByteBuffer.wrap(new byte[]{(byte) (i + 1)}), version));
+        }
+        AssertExtensions.assertSuppliedFutureThrows(
+                "updateAcrossPartitions accepted a stale condition.",
+                () -> kvt.updateAcrossPartitions(staleUpdates),
+                ex -> ex instanceof BadKeyVersionException);
+        checkValues(kvt, keys, versions, 0);
+
+        // Correct conditions: everything must be updated.
+        val updates = new ArrayList<TableEntryUpdate>();
+        for (int i = 0; i < keyCount; i++) {
+            updates.add(new Put(keys.get(i), ByteBuffer.wrap(new byte[]{(byte) (i + 1)}), versions.get(i)));
+        }
+        val newVersions = kvt.updateAcrossPartitions(updates).join();
+        checkValues(kvt, keys, newVersions, 1);
+    }
+
+    private void checkValues(KeyValueTable kvt, List<TableKey> keys, List<Version> expectedVersions, int valueDelta) {
+        val entries = kvt.getAll(keys).join();
+        for (int i = 0; i < keys.size(); i++) {
+            Assert.assertEquals("Unexpected version for key " + i, expectedVersions.get(i), entries.get(i).getVersion());
+            Assert.assertEquals("Unexpected value for key " + i, i + valueDelta, entries.get(i).getValue().get(0));
+        }
+    }
 }
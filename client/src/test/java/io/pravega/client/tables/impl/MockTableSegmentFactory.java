@@ -26,9 +26,11 @@ import io.pravega.common.Exceptions;
 import io.pravega.common.util.AsyncIterator;
 import io.pravega.test.common.AssertExtensions;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
@@ -94,6 +96,11 @@ class MockTableSegmentFactory implements TableSegmentFactory {
             return this.segment.getSegmentId();
         }
 
+        @Override
+        public String getSegmentName() {
+            return this.segment.getKVTScopedName();
+        }
+
         @Override
         public void close() {
             Consumer<Segment> callback = null;
@@ -114,29 +121,80 @@ class MockTableSegmentFactory implements TableSegmentFactory {
             }
         }
 
+        @Override
+        public CompletableFuture<Map<TableSegment, List<TableSegmentKeyVersion>>> put(Map<TableSegment, Iterator<TableSegmentEntry>> entries) {
+            return CompletableFuture.supplyAsync(() -> {
+                // Lock the Table Segments in a consistent order so that concurrent multi-segment updates do not deadlock.
+                val segments = entries.keySet().stream()
+                        .map(ts -> (MockTableSegment) ts)
+                        .sorted(Comparator.comparingLong(MockTableSegment::getSegmentId))
+                        .collect(Collectors.toList());
+                val toPut = new HashMap<MockTableSegment, List<TableSegmentEntry>>();
+                entries.forEach((ts, i) -> toPut.put((MockTableSegment) ts, toList(i)));
+                return put(segments, 0, toPut);
+            }, this.executorService);
+        }
+
+        /**
+         * Locks all the given Table Segments, validates all the updates and only then applies them, which makes the
+         * multi-segment update atomic.
+         */
+        private static Map<TableSegment, List<TableSegmentKeyVersion>> put(List<MockTableSegment> segments, int lockIndex,
+                                                                           Map<MockTableSegment, List<TableSegmentEntry>> entries) {
+            if (lockIndex < segments.size()) {
+                synchronized (segments.get(lockIndex).data) {
+                    return put(segments, lockIndex + 1, entries);
+                }
+            }
+
+            segments.forEach(ts -> ts.validateUpdate(entries.get(ts)));
+            val result = new HashMap<TableSegment, List<TableSegmentKeyVersion>>();
+            segments.forEach(ts -> result.put(ts, ts.applyUpdate(entries.get(ts))));
+            return result;
+        }
+
         @Override
         public CompletableFuture<List<TableSegmentKeyVersion>> put(Iterator<TableSegmentEntry> entries) {
             return CompletableFuture.supplyAsync(() -> {
+                val toPut = toList(entries);
                 synchronized (this.data) {
-                    Exceptions.checkNotClosed(this.closed, this);
-                    val result = new ArrayList<TableSegmentKeyVersion>();
-                    val toUpdate = new HashMap<ByteBuf, EntryValue>();
-                    AtomicInteger serializationLength = new AtomicInteger();
-                    entries.forEachRemaining(e -> {
-                        checkVersion(e.getKey());
-                        checkLengths(e);
-                        serializationLength.addAndGet(e.getKey().getKey().readableBytes() + e.getValue().readableBytes());
-                        long version = this.nextVersion.getAndIncrement();
-                        toUpdate.put(e.getKey().getKey().copy(), new EntryValue(e.getValue().copy(), version));
-                        result.add(TableSegmentKeyVersion.from(version));
-                    });
-                    checkBatchSize(result.size(), serializationLength.get());
-                    this.data.putAll(toUpdate);
-                    return result;
+                    validateUpdate(toPut);
+                    return applyUpdate(toPut);
                 }
             }, this.executorService);
         }
 
+        @GuardedBy("data")
+        private void validateUpdate(List<TableSegmentEntry> entries) {
+            Exceptions.checkNotClosed(this.closed, this);
+            int serializationLength = 0;
+            for (val e : entries) {
+                checkVersion(e.getKey());
+                checkLengths(e);
+                serializationLength += e.getKey().getKey().readableBytes() + e.getValue().readableBytes();
+            }
+            checkBatchSize(entries.size(), serializationLength);
+        }
+
+        @GuardedBy("data")
+        private List<TableSegmentKeyVersion> applyUpdate(List<TableSegmentEntry> entries) {
+            val result = new ArrayList<TableSegmentKeyVersion>();
+            val toUpdate = new HashMap<ByteBuf, EntryValue>();
+            for (val e : entries) {
+                long version = this.nextVersion.getAndIncrement();
+                toUpdate.put(e.getKey().getKey().copy(), new EntryValue(e.getValue().copy(), version));
+                result.add(TableSegmentKeyVersion.from(version));
+            }
+            this.data.putAll(toUpdate);
+            return result;
+        }
+
+        private static <T> List<T> toList(Iterator<T> iterator) {
+            val result = new ArrayList<T>();
+            iterator.forEachRemaining(result::add);
+            return result;
+        }
+
         @Override
         public CompletableFuture<Void> remove(Iterator<TableSegmentKey> keys) {
             return CompletableFuture.runAsync(() -> {
@@ -16,11 +16,13 @@
 package io.pravega.common.concurrent;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.Method;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -38,12 +40,40 @@ final class ExecutorServiceFactory {
 
     @VisibleForTesting
     static final String DETECTION_LEVEL_PROPERTY_NAME = "ThreadLeakDetectionLevel";
+    /**
+     * Virtual threads are only available on Java 21+, while this code base targets older versions. These are looked up
+     * reflectively (Thread.ofVirtual() and the relevant Thread.Builder methods) and are null if not supported.
+     */
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_UNCAUGHT_EXCEPTION_HANDLER;
+    private static final Method BUILDER_FACTORY;
     @VisibleForTesting
     private final ThreadLeakDetectionLevel detectionLevel;
     private final CreateScheduledExecutor createScheduledExecutor;
     private final CreateShrinkingExecutor createShrinkingExecutor;
     private final Runnable onLeakDetected;
 
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method uncaughtExceptionHandler = null;
+        Method factory = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderClass.getMethod("name", String.class, long.class);
+            uncaughtExceptionHandler = builderClass.getMethod("uncaughtExceptionHandler", Thread.UncaughtExceptionHandler.class);
+            factory = builderClass.getMethod("factory");
+        } catch (ReflectiveOperationException ex) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = name;
+        BUILDER_UNCAUGHT_EXCEPTION_HANDLER = uncaughtExceptionHandler;
+        BUILDER_FACTORY = factory;
+    }
+
     //endregion
 
     //region Constructor
@@ -143,6 +173,65 @@ final class ExecutorServiceFactory {
         };
     }
 
+    /**
+     * Gets a value indicating whether the running JVM supports virtual threads.
+     *
+     * @return True if virtual threads are supported, false otherwise.
+     */
+    static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates and returns a thread factory that will create virtual threads with the given name prefix. Callers must
+     * check {@link #isVirtualThreadSupported()} first and fall back to their own platform thread executor otherwise.
+     *
+     * @param groupName the name of the threads
+     * @return a thread factory
+     * @throws UnsupportedOperationException If the running JVM does not support virtual threads.
+     */
+    ThreadFactory getVirtualThreadFactory(String groupName) {
+        if (!isVirtualThreadSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM.");
+        }
+
+        final ThreadFactory virtualThreadFactory;
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, groupName + "-", 1L);
+            builder = BUILDER_UNCAUGHT_EXCEPTION_HANDLER.invoke(builder, new LogUncaughtExceptions());
+            virtualThreadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException ex) {
+            throw new UnsupportedOperationException("Unable to create virtual thread factory for '" + groupName + "'.", ex);
+        }
+
+        return new ThreadFactory() {
+            @Override
+            public String toString() {
+                return groupName;
+            }
+
+            @Override
+            public Thread newThread(Runnable r) {
+                return virtualThreadFactory.newThread(r);
+            }
+        };
+    }
+
+    /**
+     * Creates a new ExecutorService that runs each task on a new virtual thread. See {@link #getVirtualThreadFactory}.
+     *
+     * @param poolName The name of the pool (this will be printed in logs)
+     * @return A new executor service.
+     * @throws UnsupportedOperationException If the running JVM does not support virtual threads.
+     */
+    ThreadPoolExecutor newVirtualThreadPerTaskExecutor(String poolName) {
+        ThreadFactory factory = getVirtualThreadFactory(poolName);
+        // Virtual threads are cheap to create, so there is no point in keeping idle ones around.
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), factory,
+                new CallerRuns(poolName));
+    }
+
     /**
      * Creates a new ScheduledExecutorService that will use daemon threads with specified priority and names.
      *
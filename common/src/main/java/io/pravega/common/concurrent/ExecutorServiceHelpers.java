@@ -63,6 +63,39 @@ public final class ExecutorServiceHelpers {
         return FACTORY.getThreadFactory(groupName, priority);
     }
 
+    /**
+     * Gets a value indicating whether the running JVM supports virtual threads (Java 21+).
+     *
+     * @return True if virtual threads are supported, false otherwise.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return ExecutorServiceFactory.isVirtualThreadSupported();
+    }
+
+    /**
+     * Creates and returns a thread factory that will create virtual threads with the given name prefix. Callers must
+     * check {@link #isVirtualThreadSupported()} first and fall back to their own platform thread executor otherwise.
+     *
+     * @param groupName the name of the threads
+     * @return a thread factory
+     * @throws UnsupportedOperationException If the running JVM does not support virtual threads.
+     */
+    public static ThreadFactory getVirtualThreadFactory(String groupName) {
+        return FACTORY.getVirtualThreadFactory(groupName);
+    }
+
+    /**
+     * Creates a new ExecutorService that runs every task on a new virtual thread. Callers must check
+     * {@link #isVirtualThreadSupported()} first and fall back to their own platform thread executor otherwise.
+     *
+     * @param poolName The name of the pool (this will be printed in logs)
+     * @return A new executor service.
+     * @throws UnsupportedOperationException If the running JVM does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String poolName) {
+        return FACTORY.newVirtualThreadPerTaskExecutor(poolName);
+    }
+
     /**
      * Creates a new ScheduledExecutorService that will use daemon threads with appropriate names the threads.
      * @param size The number of threads in the threadpool
@@ -15,8 +15,12 @@
  */
 package io.pravega.common.concurrent;
 
+import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.IntentionalException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import lombok.Cleanup;
@@ -72,6 +76,51 @@ public class ExecutorServiceFactoryTests {
         testLeaks(factory -> factory.newShrinkingExecutor(1, 1, "test"));
     }
 
+    /**
+     * Tests {@link ExecutorServiceFactory#getVirtualThreadFactory} and {@link ExecutorServiceFactory#newVirtualThreadPerTaskExecutor}.
+     * On a JVM that does not support virtual threads, these must refuse to create anything rather than silently fall back.
+     */
+    @Test
+    public void testVirtualThreads() throws Exception {
+        val factory = new ExecutorServiceFactory(ExecutorServiceFactory.ThreadLeakDetectionLevel.None, () -> { });
+        if (!ExecutorServiceFactory.isVirtualThreadSupported()) {
+            AssertExtensions.assertThrows("", () -> factory.getVirtualThreadFactory("test"),
+                    ex -> ex instanceof UnsupportedOperationException);
+            AssertExtensions.assertThrows("", () -> factory.newVirtualThreadPerTaskExecutor("test"),
+                    ex -> ex instanceof UnsupportedOperationException);
+            return;
+        }
+
+        val threadFactory = factory.getVirtualThreadFactory("test");
+        Assert.assertEquals("test", threadFactory.toString());
+        val ran = new CompletableFuture<Thread>();
+        val thread = threadFactory.newThread(() -> ran.complete(Thread.currentThread()));
+        Assert.assertTrue(thread.getName().startsWith("test-"));
+        thread.start();
+        Assert.assertSame(thread, ran.get(10, TimeUnit.SECONDS));
+        Assert.assertEquals(true, Thread.class.getMethod("isVirtual").invoke(thread));
+
+        // Every task gets its own thread, so they can all block at the same time.
+        final int taskCount = 100;
+        @Cleanup("shutdownNow")
+        val executor = factory.newVirtualThreadPerTaskExecutor("test");
+        val allRunning = new CountDownLatch(taskCount);
+        val release = new CountDownLatch(1);
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(() -> {
+                allRunning.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Assert.assertTrue("Not all tasks are running concurrently.", allRunning.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        ExecutorServiceHelpers.shutdown(executor);
+    }
+
     private void testLeaks(Function<ExecutorServiceFactory, ExecutorService> newExecutor) {
         for (val level : ExecutorServiceFactory.ThreadLeakDetectionLevel.values()) {
             val invoked = new AtomicBoolean(false);
@@ -34,15 +34,22 @@ public class EventProcessorConfig<T extends ControllerEvent> {
     private final Serializer<T> serializer;
     private final Supplier<EventProcessor<T>> supplier;
     private final long rebalancePeriodMillis;
+    /**
+     * Maximum number of events an event processor cell reads from its reader before handing them to the event
+     * processor and checkpointing, if needed, the position of the last one.
+     */
+    private final int readBatchSize;
 
     private EventProcessorConfig(final EventProcessorGroupConfig config,
                                  final ExceptionHandler exceptionHandler,
                                  final Serializer<T> serializer,
                                  final Supplier<EventProcessor<T>> supplier, 
-                                 final long rebalancePeriodMillis) {
+                                 final long rebalancePeriodMillis,
+                                 final int readBatchSize) {
         Preconditions.checkNotNull(config);
         Preconditions.checkNotNull(serializer);
         Preconditions.checkNotNull(supplier);
+        Preconditions.checkArgument(readBatchSize > 0, "readBatchSize should be a positive integer");
         this.config = config;
         if (exceptionHandler == null) {
             this.exceptionHandler = ExceptionHandler.DEFAULT_EXCEPTION_HANDLER;
@@ -52,6 +59,7 @@ public class EventProcessorConfig<T extends ControllerEvent> {
         this.serializer = serializer;
         this.supplier = supplier;
         this.rebalancePeriodMillis = rebalancePeriodMillis;
+        this.readBatchSize = readBatchSize;
     }
 
     public static <T extends ControllerEvent> EventProcessorConfigBuilder<T> builder() {
@@ -68,6 +76,7 @@ public class EventProcessorConfig<T extends ControllerEvent> {
         private Serializer<T> serializer;
         private Supplier<EventProcessor<T>> supplier;
         private long rebalancePeriodMillis = Long.MIN_VALUE; // default is rebalancing disabled
+        private int readBatchSize = 1;
 
         EventProcessorConfigBuilder() {
         }
@@ -97,14 +106,21 @@ public class EventProcessorConfig<T extends ControllerEvent> {
             return this;
         }
 
+        public EventProcessorConfigBuilder<T> readBatchSize(int readBatchSize) {
+            this.readBatchSize = readBatchSize;
+            return this;
+        }
+
         public EventProcessorConfig<T> build() {
-            return new EventProcessorConfig<>(this.config, this.exceptionHandler, this.serializer, this.supplier, this.rebalancePeriodMillis);
+            return new EventProcessorConfig<>(this.config, this.exceptionHandler, this.serializer, this.supplier,
+                    this.rebalancePeriodMillis, this.readBatchSize);
         }
 
         @Override
         public String toString() {
             return "Props.PropsBuilder(config=" + this.config + ", exceptionHandler=" + this.exceptionHandler + ", serializer=" +
-                    this.serializer + ", supplier=" + this.supplier + ", rebalancePeriodMillis=" + this.rebalancePeriodMillis + ")";
+                    this.serializer + ", supplier=" + this.supplier + ", rebalancePeriodMillis=" + this.rebalancePeriodMillis +
+                    ", readBatchSize=" + this.readBatchSize + ")";
         }
     }
 }
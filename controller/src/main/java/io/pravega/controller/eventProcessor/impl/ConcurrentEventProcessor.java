@@ -78,7 +78,13 @@ public class ConcurrentEventProcessor<R extends ControllerEvent, H extends Reque
 
     public ConcurrentEventProcessor(final H requestHandler,
                                     final ScheduledExecutorService executor) {
-        this(requestHandler, MAX_CONCURRENT, executor, null, null, 1, TimeUnit.MINUTES);
+        this(requestHandler, MAX_CONCURRENT, executor);
+    }
+
+    public ConcurrentEventProcessor(final H requestHandler,
+                                    final int maxConcurrent,
+                                    final ScheduledExecutorService executor) {
+        this(requestHandler, maxConcurrent, executor, null, null, 1, TimeUnit.MINUTES);
     }
 
     @VisibleForTesting
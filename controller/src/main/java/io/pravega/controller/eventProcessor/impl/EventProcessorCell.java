@@ -27,6 +27,7 @@ import io.pravega.controller.eventProcessor.EventProcessorReinitException;
 import io.pravega.controller.eventProcessor.EventProcessorConfig;
 import io.pravega.shared.controller.event.ControllerEvent;
 import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventReadBatch;
 import io.pravega.client.stream.EventStreamReader;
 import io.pravega.client.stream.EventStreamWriter;
 import io.pravega.client.stream.Position;
@@ -38,7 +39,10 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 
 /**
  * This is an internal class that embeds the following.
@@ -66,6 +70,7 @@ class EventProcessorCell<T extends ControllerEvent> {
     private final String readerId;
     private final String objectId;
     private final AtomicReference<Position> lastCheckpoint;
+    private final LongConsumer eventsProcessedCallback;
 
     @VisibleForTesting
     @Getter(value = AccessLevel.PACKAGE)
@@ -84,6 +89,7 @@ class EventProcessorCell<T extends ControllerEvent> {
         private final EventProcessorConfig<T> eventProcessorConfig;
         private EventRead<T> event;
         private final CheckpointState state;
+        private final List<EventRead<T>> batch = new ArrayList<>();
 
         Delegate(final EventProcessorConfig<T> eventProcessorConfig) {
             this.eventProcessorConfig = eventProcessorConfig;
@@ -106,19 +112,64 @@ class EventProcessorCell<T extends ControllerEvent> {
             log.debug("Event processor RUN {}, state={}", objectId, state());
 
             while (isRunning()) {
-                try {
-                    event = reader.readNextEvent(defaultTimeout);
-                    if (event != null && event.getEvent() != null) {
-                        // invoke the user specified event processing method
-                        actor.process(event.getEvent(), event.getPosition());
+                // The batch is only released once all of its events have been handed to the event processor.
+                try (EventReadBatch<T> readBatch = readBatch()) {
+                    processBatch();
+                }
+            }
+        }
 
-                        // possibly persist event position
-                        state.store(event.getPosition());
+        /**
+         * Reads up to {@link EventProcessorConfig#getReadBatchSize()} events with a single call to
+         * {@link EventStreamReader#readNextEvents}, which waits for at most {@link #defaultTimeout} for events to become
+         * available.
+         *
+         * @return The {@link EventReadBatch} that was read, or null if the read failed.
+         */
+        private EventReadBatch<T> readBatch() {
+            batch.clear();
+            try {
+                EventReadBatch<T> readBatch = reader.readNextEvents(eventProcessorConfig.getReadBatchSize(), defaultTimeout);
+                for (EventRead<T> next : readBatch.getEvents()) {
+                    if (next != null && next.getEvent() != null) {
+                        batch.add(next);
                     }
+                }
+                return readBatch;
+            } catch (Exception e) {
+                handleException(e);
+                return null;
+            }
+        }
+
+        /**
+         * Hands all events of the current batch to the event processor, and then (possibly) persists the position of
+         * the last processed event once for the entire batch.
+         */
+        private void processBatch() {
+            Position lastProcessed = null;
+            int processed = 0;
+            for (EventRead<T> read : batch) {
+                if (!isRunning()) {
+                    break;
+                }
+
+                event = read;
+                try {
+                    // invoke the user specified event processing method
+                    actor.process(event.getEvent(), event.getPosition());
+                    lastProcessed = event.getPosition();
+                    processed++;
                 } catch (Exception e) {
                     handleException(e);
                 }
             }
+
+            if (processed > 0) {
+                // possibly persist event position
+                state.store(lastProcessed, processed);
+                eventsProcessedCallback.accept(processed);
+            }
         }
 
         @Override
@@ -206,11 +257,11 @@ class EventProcessorCell<T extends ControllerEvent> {
             previousCheckpointTimestamp = System.currentTimeMillis();
         }
 
-        void store(Position position) {
+        void store(Position position, int events) {
             if (!enableCheckpoint) {
                 return;
             }
-            count++;
+            count += events;
             final long timestamp = System.currentTimeMillis();
             final int countInterval = count - previousCheckpointIndex;
             final long timeInterval = timestamp - previousCheckpointTimestamp;
@@ -241,6 +292,17 @@ class EventProcessorCell<T extends ControllerEvent> {
                        final String readerId,
                        final int index,
                        final CheckpointStore checkpointStore) {
+        this(eventProcessorConfig, reader, selfWriter, process, readerId, index, checkpointStore, count -> { });
+    }
+
+    EventProcessorCell(final EventProcessorConfig<T> eventProcessorConfig,
+                       final EventStreamReader<T> reader,
+                       final EventStreamWriter<T> selfWriter,
+                       final String process,
+                       final String readerId,
+                       final int index,
+                       final CheckpointStore checkpointStore,
+                       final LongConsumer eventsProcessedCallback) {
         Preconditions.checkNotNull(eventProcessorConfig);
         Preconditions.checkArgument(!Strings.isNullOrEmpty(process));
         Preconditions.checkArgument(!Strings.isNullOrEmpty(readerId));
@@ -254,6 +316,7 @@ class EventProcessorCell<T extends ControllerEvent> {
         this.actor = createEventProcessor(eventProcessorConfig);
         this.delegate = new Delegate(eventProcessorConfig);
         this.lastCheckpoint = new AtomicReference<>();
+        this.eventsProcessedCallback = Preconditions.checkNotNull(eventsProcessedCallback);
     }
 
     final void startAsync() {
@@ -21,6 +21,7 @@ import io.pravega.client.stream.ReaderSegmentDistribution;
 import io.pravega.client.stream.Stream;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
+import io.pravega.controller.metrics.EventProcessorMetrics;
 import io.pravega.controller.store.checkpoint.CheckpointStore;
 import io.pravega.controller.store.checkpoint.CheckpointStoreException;
 import io.pravega.controller.eventProcessor.EventProcessorGroup;
@@ -51,10 +52,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 public final class EventProcessorGroupImpl<T extends ControllerEvent> extends AbstractIdleService
         implements EventProcessorGroup<T> {
+    private static final long METRICS_REPORT_PERIOD_MILLIS = 10000L;
 
     private final String objectId;
 
@@ -77,6 +80,20 @@ public final class EventProcessorGroupImpl<T extends ControllerEvent> extends Ab
     private ScheduledFuture<?> rebalanceFuture;
     
     private final long rebalancePeriodMillis;
+
+    private ScheduledFuture<?> metricsFuture;
+
+    private final EventProcessorMetrics metrics = new EventProcessorMetrics();
+
+    /**
+     * Total number of events processed by all event processor cells of this group (including replaced ones).
+     */
+    private final AtomicLong processedEvents = new AtomicLong();
+
+    private long lastReportedEvents;
+
+    private long lastReportTimeMillis = System.currentTimeMillis();
+
     /**
      * We use this lock for mutual exclusion between shutDown and changeEventProcessorCount methods.
      */
@@ -149,7 +166,7 @@ public final class EventProcessorGroupImpl<T extends ControllerEvent> extends Ab
 
             // Create event processor, and add it to the actors list.
             EventProcessorCell<T> actorCell = new EventProcessorCell<>(eventProcessorConfig, reader, writer,
-                    actorSystem.getProcess(), readerId, i, checkpointStore);
+                    actorSystem.getProcess(), readerId, i, checkpointStore, processedEvents::addAndGet);
             log.info("Created event processor {}, id={}", i, actorCell.toString());
 
             // Add new event processors to the map
@@ -188,6 +205,13 @@ public final class EventProcessorGroupImpl<T extends ControllerEvent> extends Ab
             } else {
                 rebalanceFuture = null;
             }
+
+            if (rebalanceExecutor != null) {
+                metricsFuture = rebalanceExecutor.scheduleWithFixedDelay(this::reportMetrics,
+                        METRICS_REPORT_PERIOD_MILLIS, METRICS_REPORT_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+            } else {
+                metricsFuture = null;
+            }
         } finally {
             LoggerHelpers.traceLeave(log, this.objectId, "startUp", traceId);
         }
@@ -237,6 +261,10 @@ public final class EventProcessorGroupImpl<T extends ControllerEvent> extends Ab
                 if (rebalanceFuture != null) {
                     rebalanceFuture.cancel(true);
                 }
+                if (metricsFuture != null) {
+                    metricsFuture.cancel(true);
+                    metrics.closeGroupMetrics(actorSystem.getScope(), eventProcessorConfig.getConfig().getReaderGroupName());
+                }
                 this.writer.close();
             } finally {
                 LoggerHelpers.traceLeave(log, this.objectId, "shutDown", traceId);
@@ -351,6 +379,27 @@ public final class EventProcessorGroupImpl<T extends ControllerEvent> extends Ab
         }
     }
 
+    /**
+     * Reports the number of events processed by this group (and the resulting rate) since the last report, along with
+     * the number of bytes in the stream that are yet to be read by its reader group.
+     */
+    @VisibleForTesting
+    void reportMetrics() {
+        try {
+            long backlogBytes = readerGroup.getMetrics().unreadBytes();
+            long now = System.currentTimeMillis();
+            long total = processedEvents.get();
+            long delta = total - lastReportedEvents;
+            long eventsPerSecond = delta * 1000 / Math.max(1, now - lastReportTimeMillis);
+            lastReportedEvents = total;
+            lastReportTimeMillis = now;
+            metrics.reportGroupMetrics(actorSystem.getScope(), eventProcessorConfig.getConfig().getReaderGroupName(),
+                    delta, eventsPerSecond, backlogBytes);
+        } catch (Exception e) {
+            log.debug("Unable to report metrics for {}: {}", this.objectId, e.getMessage());
+        }
+    }
+
     private boolean isRebalanceCandidate(int assigned, int readerCount, int segmentCount) {
         double fair = (double) segmentCount / (double) readerCount;
         return assigned >= fair + 1.0;
@@ -15,6 +15,7 @@
  */
 package io.pravega.controller.fault;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 
@@ -34,4 +35,14 @@ public interface ContainerBalancer {
      */
     Map<Host, Set<Integer>> rebalance(Map<Host, Set<Integer>> previousMapping, Set<Host> currentHosts);
 
+    /**
+     * The interval at which a rebalance should be attempted even if the set of hosts in the cluster has not changed.
+     * This is needed by balancers whose decisions depend on signals other than the host set.
+     *
+     * @return The periodic rebalance interval. {@link Duration#ZERO} (the default) disables periodic rebalancing.
+     */
+    default Duration getPeriodicRebalanceInterval() {
+        return Duration.ZERO;
+    }
+
 }
@@ -0,0 +1,33 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.fault;
+
+import lombok.Data;
+
+/**
+ * The load observed on a single Segment Container, as reported by the Segment Store that hosts it.
+ */
+@Data
+public class ContainerLoad {
+    /**
+     * The number of bytes per second written to the Segment Container.
+     */
+    private final long throughputBytesPerSecond;
+    /**
+     * The average Durable Log write latency of the Segment Container, in milliseconds.
+     */
+    private final long durableLogLatencyMillis;
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.fault;
+
+import java.util.Map;
+
+/**
+ * Supplies the most recently observed load of each Segment Container to a {@link LoadAwareContainerBalancer}.
+ */
+@FunctionalInterface
+public interface ContainerLoadProvider {
+    /**
+     * Gets the most recently observed load of the Segment Containers.
+     *
+     * @return A map of Segment Container Ids to their loads. Containers for which no load has been observed yet may be
+     * absent from the map.
+     */
+    Map<Integer, ContainerLoad> getContainerLoads();
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.fault;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.cluster.Host;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * This implements the ContainerBalancer by placing Segment Containers based on their observed load, so that the most
+ * loaded host in the cluster is as lightly loaded as possible.
+ *
+ * The load of each container is a weighted combination of its throughput and Durable Log latency, each normalized by
+ * its average across all containers. Containers without an observed load are assumed to carry an average load.
+ *
+ * The algorithm works as follows:
+ * - If hosts joined or left the cluster, their containers are reassigned using {@link UniformContainerBalancer} and no
+ *   container is moved for load reasons in that round: the observed loads describe the previous placement.
+ * - Otherwise, repeat the following, for at most the configured number of moves per round:
+ *     -- Find the hosts with the highest and the lowest load.
+ *     -- Stop if the difference between them is not significant.
+ *     -- Move the container from the most loaded host which brings both hosts closest to their average load. Only
+ *        containers that are lighter than the difference are considered, so that every move reduces the peak load.
+ *        Containers that were moved recently are not considered either (see {@link #COOLDOWN_ROUNDS}), since their
+ *        observed load does not reflect their new placement yet.
+ */
+@Slf4j
+public class LoadAwareContainerBalancer implements ContainerBalancer {
+    private static final double THROUGHPUT_WEIGHT = 0.75;
+    private static final double LATENCY_WEIGHT = 0.25;
+    /**
+     * The minimum load difference between the most and least loaded hosts (as a fraction of the average host load)
+     * that justifies moving containers. This prevents containers from moving back and forth due to load fluctuations.
+     */
+    private static final double MIN_IMBALANCE = 0.1;
+    /**
+     * The number of periodic rebalance intervals during which a container that was moved for load reasons is not moved
+     * again. This prevents a container from bouncing between hosts while the load it causes settles at its new host.
+     */
+    @VisibleForTesting
+    static final int COOLDOWN_ROUNDS = 3;
+
+    private final ContainerLoadProvider loadProvider;
+    private final int maxMovesPerRound;
+    @Getter
+    private final Duration periodicRebalanceInterval;
+    private final UniformContainerBalancer uniformBalancer = new UniformContainerBalancer();
+    private final LongSupplier currentTimeMillis;
+    @GuardedBy("this")
+    private final Map<Integer, Long> lastMoveTimes = new HashMap<>();
+
+    /**
+     * Creates a new instance of the LoadAwareContainerBalancer class.
+     *
+     * @param loadProvider              Supplies the observed load of each container.
+     * @param maxMovesPerRound          The maximum number of containers to move for load reasons in a single rebalance.
+     * @param periodicRebalanceInterval The interval at which rebalances based on load should be attempted.
+     */
+    public LoadAwareContainerBalancer(ContainerLoadProvider loadProvider, int maxMovesPerRound, Duration periodicRebalanceInterval) {
+        this(loadProvider, maxMovesPerRound, periodicRebalanceInterval, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    LoadAwareContainerBalancer(ContainerLoadProvider loadProvider, int maxMovesPerRound, Duration periodicRebalanceInterval,
+                               LongSupplier currentTimeMillis) {
+        Preconditions.checkNotNull(loadProvider, "loadProvider");
+        Preconditions.checkArgument(maxMovesPerRound >= 0, "maxMovesPerRound should not be negative");
+        Preconditions.checkNotNull(periodicRebalanceInterval, "periodicRebalanceInterval");
+        this.loadProvider = loadProvider;
+        this.maxMovesPerRound = maxMovesPerRound;
+        this.periodicRebalanceInterval = periodicRebalanceInterval;
+        this.currentTimeMillis = Preconditions.checkNotNull(currentTimeMillis, "currentTimeMillis");
+    }
+
+    @Override
+    public synchronized Map<Host, Set<Integer>> rebalance(Map<Host, Set<Integer>> prevSegContainerMap, Set<Host> currentHosts) {
+        Preconditions.checkNotNull(prevSegContainerMap, "prevSegContainerMap");
+        Preconditions.checkNotNull(currentHosts, "currentHosts");
+
+        // Deal with hosts joining or leaving the cluster first. The uniform balancer returns the previous mapping as is
+        // if the host set has not changed.
+        Map<Host, Set<Integer>> newMap = new HashMap<>();
+        uniformBalancer.rebalance(prevSegContainerMap, currentHosts)
+                       .forEach((host, containers) -> newMap.put(host, new HashSet<>(containers)));
+        if (newMap.size() < 2) {
+            return newMap;
+        }
+        if (!newMap.keySet().equals(prevSegContainerMap.keySet())) {
+            log.info("Segment Store membership changed, skipping load based rebalancing in this round");
+            return newMap;
+        }
+
+        Map<Integer, ContainerLoad> observedLoads = loadProvider.getContainerLoads();
+        if (observedLoads == null || observedLoads.isEmpty()) {
+            log.debug("No container loads observed, skipping load based rebalancing");
+            return newMap;
+        }
+
+        Map<Integer, Double> containerLoads = computeContainerLoads(newMap, observedLoads);
+        Map<Host, Double> hostLoads = new HashMap<>();
+        newMap.forEach((host, containers) -> hostLoads.put(host, containers.stream().mapToDouble(containerLoads::get).sum()));
+        double averageHostLoad = hostLoads.values().stream().mapToDouble(Double::doubleValue).sum() / hostLoads.size();
+
+        long now = this.currentTimeMillis.getAsLong();
+        long cooldownMillis = COOLDOWN_ROUNDS * this.periodicRebalanceInterval.toMillis();
+        this.lastMoveTimes.values().removeIf(time -> now - time >= cooldownMillis);
+
+        int moves = 0;
+        while (moves < maxMovesPerRound) {
+            Host busiest = hostLoads.entrySet().stream().max(Map.Entry.comparingByValue()).get().getKey();
+            Host idlest = hostLoads.entrySet().stream().min(Map.Entry.comparingByValue()).get().getKey();
+            double difference = hostLoads.get(busiest) - hostLoads.get(idlest);
+            if (difference <= MIN_IMBALANCE * averageHostLoad) {
+                break;
+            }
+
+            // The ideal container to move carries half of the difference, which would leave both hosts equally loaded.
+            Integer candidate = newMap.get(busiest).stream()
+                                      .filter(c -> containerLoads.get(c) > 0 && containerLoads.get(c) < difference)
+                                      .filter(c -> !this.lastMoveTimes.containsKey(c))
+                                      .min(Comparator.comparingDouble(c -> Math.abs(containerLoads.get(c) - difference / 2)))
+                                      .orElse(null);
+            if (candidate == null) {
+                break;
+            }
+
+            newMap.get(busiest).remove(candidate);
+            newMap.get(idlest).add(candidate);
+            hostLoads.put(busiest, hostLoads.get(busiest) - containerLoads.get(candidate));
+            hostLoads.put(idlest, hostLoads.get(idlest) + containerLoads.get(candidate));
+            this.lastMoveTimes.put(candidate, now);
+            log.info("Moving container {} from host {} to host {} to balance load", candidate, busiest, idlest);
+            moves++;
+        }
+
+        log.info("Completed load based segment container rebalancing with {} container moves", moves);
+        return newMap;
+    }
+
+    /**
+     * Combines the observed metrics of each container into a single load value, where 1 represents a container whose
+     * metrics are all average.
+     */
+    @VisibleForTesting
+    static Map<Integer, Double> computeContainerLoads(Map<Host, Set<Integer>> mapping, Map<Integer, ContainerLoad> observedLoads) {
+        double averageThroughput = observedLoads.values().stream().mapToLong(ContainerLoad::getThroughputBytesPerSecond).average().orElse(0);
+        double averageLatency = observedLoads.values().stream().mapToLong(ContainerLoad::getDurableLogLatencyMillis).average().orElse(0);
+
+        Map<Integer, Double> result = new HashMap<>();
+        mapping.values().forEach(containers -> containers.forEach(container -> {
+            ContainerLoad load = observedLoads.get(container);
+            result.put(container, normalize(load == null ? averageThroughput : load.getThroughputBytesPerSecond(),
+                    averageThroughput, THROUGHPUT_WEIGHT)
+                    + normalize(load == null ? averageLatency : load.getDurableLogLatencyMillis(), averageLatency, LATENCY_WEIGHT));
+        }));
+        return result;
+    }
+
+    private static double normalize(double value, double average, double weight) {
+        return average > 0 ? weight * value / average : 0;
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.fault;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import io.pravega.common.Exceptions;
+import io.pravega.common.cluster.Host;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.CertificateUtils;
+import io.pravega.shared.MetricsNames;
+import lombok.Data;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link ContainerLoadProvider} that derives the load of each Segment Container from the metrics that Segment Stores
+ * already publish on the Prometheus endpoint of their REST server. This requires the Segment Stores to run with both
+ * their REST server and Prometheus reporting enabled; Segment Stores that cannot be scraped are skipped, and their
+ * containers are then assumed to carry an average load.
+ *
+ * The load components are obtained as follows:
+ * - Throughput: the rate of bytes written to the Durable Log of each container ({@link MetricsNames#BK_WRITE_BYTES}).
+ * - Durable Log latency: the average write latency of each container ({@link MetricsNames#BK_WRITE_LATENCY}).
+ *
+ * The Segment Stores are scraped in the background, once every scrape interval, and {@link #getContainerLoads()}
+ * returns the loads computed by the latest scrape. Since throughput and latency are published as cumulative values,
+ * they are computed over the interval between two consecutive scrapes. Containers are therefore only included from the
+ * second scrape on.
+ */
+@Slf4j
+public class PrometheusContainerLoadProvider implements ContainerLoadProvider, AutoCloseable {
+    private static final Duration SCRAPE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Pattern CONTAINER_LABEL = Pattern.compile("[{,]container=\"(\\d+)\"");
+    private static final String WRITE_BYTES = toPrometheusName(MetricsNames.BK_WRITE_BYTES) + "_total";
+    private static final String WRITE_LATENCY_SUM = toPrometheusName(MetricsNames.BK_WRITE_LATENCY) + "_seconds_sum";
+    private static final String WRITE_LATENCY_COUNT = toPrometheusName(MetricsNames.BK_WRITE_LATENCY) + "_seconds_count";
+
+    private final Supplier<Set<Host>> hosts;
+    private final Function<Host, CompletableFuture<String>> scraper;
+    private final LongSupplier currentTimeMillis;
+    @GuardedBy("this")
+    private final Map<Integer, ContainerSample> previousSamples = new HashMap<>();
+    private volatile Map<Integer, ContainerLoad> latestLoads = Collections.emptyMap();
+    private final AtomicBoolean scraping = new AtomicBoolean();
+    @GuardedBy("this")
+    private ScheduledFuture<?> scrapeTask;
+
+    /**
+     * Creates a new instance of the PrometheusContainerLoadProvider class.
+     *
+     * @param hosts      Supplies the Segment Stores to scrape.
+     * @param restPort   The port on which the REST server of the Segment Stores listens.
+     * @param tlsEnabled Whether the REST server of the Segment Stores uses TLS.
+     * @param trustStore Path to the trust store (a PEM certificate file) used to verify the Segment Stores when TLS is
+     *                   enabled. If empty, the default trust store of the JVM is used.
+     */
+    public PrometheusContainerLoadProvider(Supplier<Set<Host>> hosts, int restPort, boolean tlsEnabled, String trustStore) {
+        this(hosts, new HttpScraper(restPort, tlsEnabled, trustStore), System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    PrometheusContainerLoadProvider(Supplier<Set<Host>> hosts, Function<Host, CompletableFuture<String>> scraper,
+                                    LongSupplier currentTimeMillis) {
+        this.hosts = Preconditions.checkNotNull(hosts, "hosts");
+        this.scraper = Preconditions.checkNotNull(scraper, "scraper");
+        this.currentTimeMillis = Preconditions.checkNotNull(currentTimeMillis, "currentTimeMillis");
+    }
+
+    /**
+     * Starts scraping the Segment Stores in the background.
+     *
+     * @param executor       The executor to schedule the scrapes on. Scrapes do not block it.
+     * @param scrapeInterval The interval between two consecutive scrapes.
+     */
+    public synchronized void start(ScheduledExecutorService executor, Duration scrapeInterval) {
+        Preconditions.checkState(this.scrapeTask == null, "Already started.");
+        Preconditions.checkArgument(!scrapeInterval.isNegative() && !scrapeInterval.isZero(), "scrapeInterval should be positive");
+        this.scrapeTask = executor.scheduleWithFixedDelay(() -> {
+            // A scrape that takes longer than the interval is not overlapped with the next one.
+            if (this.scraping.compareAndSet(false, true)) {
+                refresh().whenComplete((r, e) -> this.scraping.set(false));
+            }
+        }, 0, scrapeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.scrapeTask != null) {
+            this.scrapeTask.cancel(false);
+        }
+    }
+
+    @Override
+    public Map<Integer, ContainerLoad> getContainerLoads() {
+        return this.latestLoads;
+    }
+
+    /**
+     * Scrapes all the Segment Stores and, once they have all responded (or failed), updates the loads returned by
+     * {@link #getContainerLoads()}.
+     *
+     * @return A CompletableFuture that will be completed when the loads have been updated.
+     */
+    @VisibleForTesting
+    CompletableFuture<Void> refresh() {
+        Map<Host, CompletableFuture<String>> scrapes = new HashMap<>();
+        for (Host host : this.hosts.get()) {
+            CompletableFuture<String> scrape;
+            try {
+                scrape = this.scraper.apply(host);
+            } catch (Exception e) {
+                scrape = Futures.failedFuture(e);
+            }
+            scrapes.put(host, scrape.exceptionally(e -> {
+                log.warn("Unable to fetch the metrics of Segment Store {}: {}", host, Exceptions.unwrap(e).toString());
+                return null;
+            }));
+        }
+
+        return Futures.allOf(new ArrayList<>(scrapes.values())).thenRun(() -> {
+            List<String> metrics = new ArrayList<>();
+            scrapes.values().forEach(scrape -> {
+                String result = scrape.join();
+                if (result != null) {
+                    metrics.add(result);
+                }
+            });
+            if (metrics.isEmpty() && !scrapes.isEmpty()) {
+                log.warn("Unable to fetch the metrics of any Segment Store; load based container rebalancing is paused.");
+            }
+            update(metrics);
+        });
+    }
+
+    private synchronized void update(List<String> scrapedMetrics) {
+        long now = this.currentTimeMillis.getAsLong();
+        Map<Integer, ContainerLoad> result = new HashMap<>();
+        for (String metrics : scrapedMetrics) {
+            Map<Integer, ContainerSample> samples = new HashMap<>();
+            parse(metrics, samples, now);
+            samples.forEach((containerId, sample) -> {
+                ContainerSample previous = this.previousSamples.put(containerId, sample);
+                if (previous != null && sample.getTimeMillis() > previous.getTimeMillis()) {
+                    result.put(containerId, sample.loadSince(previous));
+                }
+            });
+        }
+
+        log.debug("Observed the load of {} Segment Containers", result.size());
+        this.latestLoads = Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Extracts the per-container samples from a Prometheus text exposition into the given map.
+     */
+    @VisibleForTesting
+    static void parse(String metrics, Map<Integer, ContainerSample> samples, long timeMillis) {
+        metrics.lines().filter(line -> !line.isEmpty() && !line.startsWith("#")).forEach(line -> {
+            int nameEnd = 0;
+            while (nameEnd < line.length() && line.charAt(nameEnd) != '{' && line.charAt(nameEnd) != ' ') {
+                nameEnd++;
+            }
+            if (nameEnd == line.length()) {
+                return;
+            }
+
+            String name = line.substring(0, nameEnd);
+            if (!name.equals(WRITE_BYTES) && !name.equals(WRITE_LATENCY_SUM) && !name.equals(WRITE_LATENCY_COUNT)) {
+                return;
+            }
+
+            int valueStart = line.charAt(nameEnd) == '{' ? line.indexOf("} ", nameEnd) + 2 : nameEnd + 1;
+            double value;
+            try {
+                value = Double.parseDouble(line.substring(valueStart).trim().split(" ")[0]);
+            } catch (RuntimeException e) {
+                return;
+            }
+
+            Matcher matcher = CONTAINER_LABEL.matcher(line.substring(nameEnd, valueStart));
+            if (!matcher.find()) {
+                return;
+            }
+
+            ContainerSample sample = samples.computeIfAbsent(Integer.parseInt(matcher.group(1)), id -> new ContainerSample(timeMillis));
+            if (name.equals(WRITE_BYTES)) {
+                sample.writeBytes += value;
+            } else if (name.equals(WRITE_LATENCY_SUM)) {
+                sample.writeLatencySumSeconds += value;
+            } else {
+                sample.writeCount += value;
+            }
+        });
+    }
+
+    private static String toPrometheusName(String metricName) {
+        return metricName.replace('.', '_');
+    }
+
+    /**
+     * The cumulative Durable Log metrics of a single container, as observed at a point in time.
+     */
+    @Data
+    @VisibleForTesting
+    static class ContainerSample {
+        private final long timeMillis;
+        private double writeBytes;
+        private double writeLatencySumSeconds;
+        private double writeCount;
+
+        ContainerLoad loadSince(ContainerSample previous) {
+            double elapsedSeconds = (this.timeMillis - previous.timeMillis) / 1000.0;
+            // Counters restart from zero if the container is recovered elsewhere, in which case only the new values count.
+            double bytes = this.writeBytes >= previous.writeBytes ? this.writeBytes - previous.writeBytes : this.writeBytes;
+            double count = this.writeCount >= previous.writeCount ? this.writeCount - previous.writeCount : this.writeCount;
+            double latencySum = this.writeCount >= previous.writeCount
+                    ? this.writeLatencySumSeconds - previous.writeLatencySumSeconds : this.writeLatencySumSeconds;
+            long latencyMillis = count > 0 ? Math.round(1000 * latencySum / count) : 0;
+            return new ContainerLoad(Math.round(bytes / elapsedSeconds), latencyMillis);
+        }
+    }
+
+    /**
+     * Fetches the Prometheus metrics of a Segment Store from its REST server.
+     */
+    private static class HttpScraper implements Function<Host, CompletableFuture<String>> {
+        private final int restPort;
+        private final String scheme;
+        private final HttpClient client;
+
+        HttpScraper(int restPort, boolean tlsEnabled, String trustStore) {
+            Preconditions.checkArgument(restPort > 0, "restPort should be a positive integer");
+            this.restPort = restPort;
+            this.scheme = tlsEnabled ? "https" : "http";
+            HttpClient.Builder builder = HttpClient.newBuilder().connectTimeout(SCRAPE_TIMEOUT);
+            if (tlsEnabled && !Strings.isNullOrEmpty(trustStore)) {
+                builder.sslContext(createSslContext(trustStore));
+            }
+            this.client = builder.build();
+        }
+
+        @SneakyThrows(Exception.class)
+        private static SSLContext createSslContext(String trustStore) {
+            TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            factory.init(CertificateUtils.createTrustStore(trustStore));
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, factory.getTrustManagers(), null);
+            return context;
+        }
+
+        @Override
+        public CompletableFuture<String> apply(Host host) {
+            HttpRequest request = HttpRequest.newBuilder()
+                                             .uri(URI.create(String.format("%s://%s:%d/prometheus", this.scheme, host.getIpAddr(), this.restPort)))
+                                             .timeout(SCRAPE_TIMEOUT)
+                                             .build();
+            return this.client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Unexpected response status " + response.statusCode());
+                }
+                return response.body();
+            });
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -149,8 +150,17 @@ class SegmentMonitorLeader implements LeaderSelectorListener {
                     log.info("Resuming monitor");
                 }
 
-                hostsChange.acquire();
-                log.info("Received rebalance event");
+                boolean periodic = false;
+                Duration periodicRebalanceInterval = segBalancer.getPeriodicRebalanceInterval();
+                if (periodicRebalanceInterval.isZero() || periodicRebalanceInterval.isNegative()) {
+                    hostsChange.acquire();
+                    log.info("Received rebalance event");
+                } else if (hostsChange.tryAcquire(periodicRebalanceInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.info("Received rebalance event");
+                } else {
+                    log.info("Triggering periodic rebalance");
+                    periodic = true;
+                }
 
                 // Wait here until rebalance can be performed.
                 waitForRebalance();
@@ -158,7 +168,7 @@ class SegmentMonitorLeader implements LeaderSelectorListener {
                 // Clear all events that has been received until this point since this will be included in the current
                 // rebalance operation.
                 hostsChange.drainPermits();
-                triggerRebalance();
+                triggerRebalance(periodic);
             } catch (InterruptedException e) {
                 log.warn("Leadership interrupted, releasing monitor thread");
 
@@ -189,12 +199,16 @@ class SegmentMonitorLeader implements LeaderSelectorListener {
         Thread.sleep(minRebalanceInterval.toMillis());
     }
 
-    private void triggerRebalance() throws IOException {
+    private void triggerRebalance(boolean periodic) throws IOException {
         //Read the current mapping from the host store and write back the update after rebalancing.
         try {
             Map<Host, Set<Integer>> newMapping = segBalancer.rebalance(hostStore.getHostContainersMap(),
                     pravegaServiceCluster.getClusterMembers());
             Map<Host, Set<Integer>> oldMapping = hostStore.getHostContainersMap();
+            if (periodic && newMapping.equals(oldMapping)) {
+                log.info("Periodic rebalance did not change the host to container mapping");
+                return;
+            }
             hostStore.updateHostContainersMap(newMapping);
             hostContainerMetrics.updateHostContainerMetrics(oldMapping, newMapping);
         } catch (ClusterException e) {
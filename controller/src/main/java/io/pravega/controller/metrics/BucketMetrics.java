@@ -0,0 +1,53 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.metrics;
+
+import static io.pravega.shared.MetricsNames.BUCKET_SERVICE_LAG;
+import static io.pravega.shared.MetricsNames.BUCKET_SERVICE_STREAM_COUNT;
+import static io.pravega.shared.MetricsTags.bucketTags;
+
+/**
+ * Class to encapsulate the logic to report Controller metrics for the background bucket services (i.e., retention and
+ * watermarking).
+ */
+public final class BucketMetrics extends AbstractControllerMetrics {
+
+    /**
+     * This method reports how far behind schedule a bucket is, measured as the time elapsed since the most overdue
+     * stream in the bucket should have been processed, as well as the number of streams in the bucket. A bucket whose
+     * lag keeps growing cannot keep up with its streams, which indicates that the bucket count needs to be increased.
+     *
+     * @param serviceType   Name of the background service that owns the bucket.
+     * @param bucketId      Bucket id.
+     * @param lagMillis     Time (in milliseconds) elapsed since the most overdue stream should have been processed.
+     * @param streamCount   Number of streams in the bucket.
+     */
+    public void reportBucketLag(String serviceType, int bucketId, long lagMillis, int streamCount) {
+        DYNAMIC_LOGGER.reportGaugeValue(BUCKET_SERVICE_LAG, lagMillis, bucketTags(serviceType, bucketId));
+        DYNAMIC_LOGGER.reportGaugeValue(BUCKET_SERVICE_STREAM_COUNT, streamCount, bucketTags(serviceType, bucketId));
+    }
+
+    /**
+     * This method stops reporting metrics for a bucket that is no longer owned by this Controller instance.
+     *
+     * @param serviceType   Name of the background service that owns the bucket.
+     * @param bucketId      Bucket id.
+     */
+    public void closeBucket(String serviceType, int bucketId) {
+        DYNAMIC_LOGGER.freezeGaugeValue(BUCKET_SERVICE_LAG, bucketTags(serviceType, bucketId));
+        DYNAMIC_LOGGER.freezeGaugeValue(BUCKET_SERVICE_STREAM_COUNT, bucketTags(serviceType, bucketId));
+    }
+}
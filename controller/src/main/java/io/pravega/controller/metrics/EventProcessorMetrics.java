@@ -0,0 +1,56 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.metrics;
+
+import static io.pravega.shared.MetricsNames.CONTROLLER_EVENT_PROCESSOR_BACKLOG_BYTES;
+import static io.pravega.shared.MetricsNames.CONTROLLER_EVENT_PROCESSOR_EVENTS_PER_SECOND;
+import static io.pravega.shared.MetricsNames.CONTROLLER_EVENT_PROCESSOR_EVENTS_PROCESSED;
+import static io.pravega.shared.MetricsTags.readerGroupTags;
+
+/**
+ * Class to encapsulate the logic to report Controller metrics for event processor groups.
+ */
+public final class EventProcessorMetrics extends AbstractControllerMetrics {
+
+    /**
+     * This method reports the throughput and the backlog of an event processor group. A backlog that keeps growing
+     * indicates that the event processors of the group cannot keep up with the rate at which requests are posted.
+     *
+     * @param scope             Scope of the stream the event processor group reads from.
+     * @param readerGroupName   Name of the reader group of the event processor group.
+     * @param eventsProcessed   Number of events processed since the last report.
+     * @param eventsPerSecond   Number of events processed per second since the last report.
+     * @param backlogBytes      Number of bytes in the stream that have not yet been read by the reader group.
+     */
+    public void reportGroupMetrics(String scope, String readerGroupName, long eventsProcessed, long eventsPerSecond,
+                                   long backlogBytes) {
+        DYNAMIC_LOGGER.incCounterValue(CONTROLLER_EVENT_PROCESSOR_EVENTS_PROCESSED, eventsProcessed, readerGroupTags(scope, readerGroupName));
+        DYNAMIC_LOGGER.reportGaugeValue(CONTROLLER_EVENT_PROCESSOR_EVENTS_PER_SECOND, eventsPerSecond, readerGroupTags(scope, readerGroupName));
+        DYNAMIC_LOGGER.reportGaugeValue(CONTROLLER_EVENT_PROCESSOR_BACKLOG_BYTES, backlogBytes, readerGroupTags(scope, readerGroupName));
+    }
+
+    /**
+     * This method stops reporting metrics for an event processor group that has been shut down.
+     *
+     * @param scope             Scope of the stream the event processor group reads from.
+     * @param readerGroupName   Name of the reader group of the event processor group.
+     */
+    public void closeGroupMetrics(String scope, String readerGroupName) {
+        DYNAMIC_LOGGER.freezeCounter(CONTROLLER_EVENT_PROCESSOR_EVENTS_PROCESSED, readerGroupTags(scope, readerGroupName));
+        DYNAMIC_LOGGER.freezeGaugeValue(CONTROLLER_EVENT_PROCESSOR_EVENTS_PER_SECOND, readerGroupTags(scope, readerGroupName));
+        DYNAMIC_LOGGER.freezeGaugeValue(CONTROLLER_EVENT_PROCESSOR_BACKLOG_BYTES, readerGroupTags(scope, readerGroupName));
+    }
+}
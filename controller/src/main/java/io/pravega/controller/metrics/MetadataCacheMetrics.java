@@ -0,0 +1,39 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.metrics;
+
+import static io.pravega.shared.MetricsNames.METADATA_CACHE_HITS;
+import static io.pravega.shared.MetricsNames.METADATA_CACHE_MISSES;
+
+/**
+ * Class to encapsulate the logic to report Controller metrics for the cache of stream metadata records.
+ */
+public final class MetadataCacheMetrics extends AbstractControllerMetrics {
+
+    /**
+     * This method increments the number of metadata reads that were served from the cache.
+     */
+    public void cacheHit() {
+        DYNAMIC_LOGGER.incCounterValue(METADATA_CACHE_HITS, 1);
+    }
+
+    /**
+     * This method increments the number of metadata reads that could not be served from the cache.
+     */
+    public void cacheMiss() {
+        DYNAMIC_LOGGER.incCounterValue(METADATA_CACHE_MISSES, 1);
+    }
+}
@@ -29,6 +29,7 @@ import static io.pravega.shared.MetricsNames.ABORT_TRANSACTION_SEGMENTS_LATENCY;
 import static io.pravega.shared.MetricsNames.COMMITTING_TRANSACTION_LATENCY;
 import static io.pravega.shared.MetricsNames.COMMIT_TRANSACTION;
 import static io.pravega.shared.MetricsNames.COMMIT_TRANSACTION_FAILED;
+import static io.pravega.shared.MetricsNames.COMMIT_TRANSACTION_LAG;
 import static io.pravega.shared.MetricsNames.COMMIT_TRANSACTION_LATENCY;
 import static io.pravega.shared.MetricsNames.COMMIT_TRANSACTION_SEGMENTS_LATENCY;
 import static io.pravega.shared.MetricsNames.CONTROLLER_EVENT_PROCESSOR_COMMIT_TRANSACTION_LATENCY;
@@ -165,6 +166,28 @@ public final class TransactionMetrics extends AbstractControllerMetrics {
         DYNAMIC_LOGGER.incCounterValue(COMMIT_TRANSACTION_FAILED, 1, streamTags(scope, streamName));
     }
 
+    /**
+     * This method reports the commit lag of a Stream, i.e., how long the Transactions waiting to be committed on the
+     * Stream have been waiting since the Controller first attempted to commit them (0 once none are waiting).
+     *
+     * @param scope      Scope.
+     * @param streamName Name of the Stream.
+     * @param lagMillis  Commit lag in milliseconds.
+     */
+    public void reportCommitLag(String scope, String streamName, long lagMillis) {
+        DYNAMIC_LOGGER.reportGaugeValue(COMMIT_TRANSACTION_LAG, lagMillis, streamTags(scope, streamName));
+    }
+
+    /**
+     * This method stops reporting the commit lag of a Stream that has been sealed or deleted.
+     *
+     * @param scope      Scope.
+     * @param streamName Name of the Stream.
+     */
+    public void clearCommitLag(String scope, String streamName) {
+        DYNAMIC_LOGGER.freezeGaugeValue(COMMIT_TRANSACTION_LAG, streamTags(scope, streamName));
+    }
+
     /**
      * This method accounts for the time taken for a client to set a Transaction to ABORTING state.
      *
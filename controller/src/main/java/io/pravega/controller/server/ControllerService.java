@@ -37,7 +37,6 @@ import io.pravega.controller.store.kvtable.KVTableMetadataStore;
 import io.pravega.controller.store.stream.BucketStore;
 import io.pravega.controller.store.stream.OperationContext;
 import io.pravega.controller.store.stream.ScaleMetadata;
-import io.pravega.controller.store.stream.State;
 import io.pravega.controller.store.stream.StoreException;
 import io.pravega.controller.store.stream.StreamMetadataStore;
 import io.pravega.controller.store.stream.VersionedTransactionData;
@@ -85,6 +84,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -390,26 +390,41 @@ public class ControllerService {
     private CompletableFuture<CreateStreamStatus> callCreateStream(final String scope, final String stream,
                                                                    final StreamConfiguration streamConfig,
                                                                    final long createTimestamp, long requestId) {
-        Timer timer = new Timer();
-        return Futures.exceptionallyExpecting(streamStore.getState(scope, stream, true, null, executor),
-                        e -> Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException, State.UNKNOWN)
-                .thenCompose(state -> {
-                    if (state.equals(State.UNKNOWN) || state.equals(State.CREATING)) {
-                        return streamMetadataTasks.createStreamRetryOnLockFailure(scope,
-                                stream,
-                                streamConfig,
-                                createTimestamp, 10,
-                                requestId).thenApplyAsync(status -> {
-                            reportCreateStreamMetrics(scope, stream, streamConfig.getScalingPolicy().getMinNumSegments(),
-                                    status, timer.getElapsed());
-                            return CreateStreamStatus.newBuilder().setStatus(status).build();
-                        }, executor);
-                    } else {
-                        log.info(requestId, "Stream {} already exists ", NameUtils.getScopedStreamName(scope, stream));
-                        return CompletableFuture.completedFuture(
-                                CreateStreamStatus.newBuilder().setStatus(CreateStreamStatus.Status.STREAM_EXISTS).build());
-                    }
-                });
+        return streamMetadataTasks.createStreamIfAbsent(scope, stream, streamConfig, createTimestamp, requestId)
+                .thenApply(status -> CreateStreamStatus.newBuilder().setStatus(status).build());
+    }
+
+    /**
+     * Creates several streams in the same scope in a single request.
+     *
+     * @param scope           scope.
+     * @param streams         map of stream name to the configuration to create it with.
+     * @param createTimestamp creation timestamp.
+     * @param requestId       requestId.
+     * @return CompletableFuture which when completed will have the creation status of each stream.
+     */
+    public CompletableFuture<Map<String, CreateStreamStatus.Status>> createStreams(final String scope,
+                                                                                   final Map<String, StreamConfiguration> streams,
+                                                                                   final long createTimestamp, long requestId) {
+        Exceptions.checkNotNullOrEmpty(scope, "scope");
+        Preconditions.checkNotNull(streams, "streams");
+        streams.values().forEach(config -> validate(config, createTimestamp));
+        return streamMetadataTasks.createStreams(scope, streams, createTimestamp, requestId);
+    }
+
+    /**
+     * Seals and deletes several streams in the same scope in a single request.
+     *
+     * @param scope     scope.
+     * @param streams   names of the streams to delete.
+     * @param requestId requestId.
+     * @return CompletableFuture which when completed will have the deletion status of each stream.
+     */
+    public CompletableFuture<Map<String, DeleteStreamStatus.Status>> deleteStreams(final String scope, final List<String> streams,
+                                                                                   long requestId) {
+        Exceptions.checkNotNullOrEmpty(scope, "scope");
+        Preconditions.checkNotNull(streams, "streams");
+        return streamMetadataTasks.deleteStreams(scope, streams, requestId);
     }
 
     private void validate(final StreamConfiguration streamConfig, final long createTimestamp) {
@@ -460,7 +475,7 @@ public class ControllerService {
     }
 
     public CompletableFuture<StreamConfiguration> getStream(final String scopeName, final String streamName, long requestId) {
-        OperationContext context = streamStore.createStreamContext(scopeName, streamName, requestId);
+        OperationContext context = streamStore.createReadOnlyStreamContext(scopeName, streamName, requestId);
         return streamStore.getConfiguration(scopeName, streamName, context, executor);
     }
 
@@ -491,7 +506,7 @@ public class ControllerService {
         Exceptions.checkNotNullOrEmpty(stream, "stream");
 
         // Fetch active segments from segment store.
-        OperationContext context = streamStore.createStreamContext(scope, stream, requestId);
+        OperationContext context = streamStore.createReadOnlyStreamContext(scope, stream, requestId);
 
         return streamStore.getActiveSegments(scope, stream, context, executor)
                 .thenApplyAsync(activeSegments -> getSegmentRanges(activeSegments, scope, stream), executor);
@@ -501,7 +516,7 @@ public class ControllerService {
         Exceptions.checkNotNullOrEmpty(scope, "scope");
         Exceptions.checkNotNullOrEmpty(stream, "stream");
         Exceptions.checkArgument(epoch >= 0, "epoch", "Epoch cannot be less than 0");
-        OperationContext context = streamStore.createStreamContext(scope, stream, requestId);
+        OperationContext context = streamStore.createReadOnlyStreamContext(scope, stream, requestId);
 
         return streamStore.getEpoch(scope, stream, epoch, context, executor)
                           .thenApplyAsync(epochRecord -> getSegmentRanges(epochRecord.getSegments(), scope, stream), executor);
@@ -513,7 +528,7 @@ public class ControllerService {
 
         // First fetch segments active at specified timestamp from the specified stream.
         // Divide current segments in segmentFutures into at most count positions.
-        OperationContext context = streamStore.createStreamContext(scope, stream, requestId);
+        OperationContext context = streamStore.createReadOnlyStreamContext(scope, stream, requestId);
 
         return streamStore.getSegmentsAtHead(scope, stream, context, executor).thenApply(segments -> {
             return segments.entrySet().stream()
@@ -526,7 +541,7 @@ public class ControllerService {
         Preconditions.checkNotNull(segment, "segment");
         String scope = segment.getStreamInfo().getScope();
         String stream = segment.getStreamInfo().getStream();
-        OperationContext context = streamStore.createStreamContext(scope, stream, requestId);
+        OperationContext context = streamStore.createReadOnlyStreamContext(scope, stream, requestId);
         return streamStore.getSuccessors(scope,
                 stream,
                 segment.getSegmentId(),
@@ -606,6 +621,21 @@ public class ControllerService {
                         segment.getSegmentId()));
     }
 
+    /**
+     * Watches the assignment of Segment Containers to Segment Stores. The current map is delivered to the given consumer
+     * immediately, and a new map is delivered every time the assignment changes.
+     *
+     * @param consumer The consumer to deliver Segment Container maps to.
+     * @return A Runnable that, when invoked, stops delivering updates to the consumer.
+     */
+    public Runnable watchSegmentContainerMap(final Consumer<Controller.SegmentContainerMap> consumer) {
+        Preconditions.checkNotNull(consumer, "consumer");
+        final Runnable listener = () -> consumer.accept(segmentHelper.getSegmentContainerMap());
+        segmentHelper.addSegmentContainerMapListener(listener);
+        listener.run();
+        return () -> segmentHelper.removeSegmentContainerMapListener(listener);
+    }
+
     private SegmentRange convert(final String scope,
                                  final String stream,
                                  final SegmentRecord segment) {
@@ -992,15 +1022,6 @@ public class ControllerService {
         }
     }
 
-    private void reportCreateStreamMetrics(String scope, String streamName, int initialSegments, CreateStreamStatus.Status status,
-                                           Duration latency) {
-        if (status.equals(CreateStreamStatus.Status.SUCCESS)) {
-            StreamMetrics.getInstance().createStream(scope, streamName, initialSegments, latency);
-        } else if (status.equals(CreateStreamStatus.Status.FAILURE)) {
-            StreamMetrics.getInstance().createStreamFailed(scope, streamName);
-        }
-    }
-
     private CreateScopeStatus reportCreateScopeMetrics(String scope, CreateScopeStatus status, Duration latency) {
         if (status.getStatus().equals(CreateScopeStatus.Status.SUCCESS)) {
             StreamMetrics.getInstance().createScope(latency);
@@ -31,8 +31,11 @@ import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.function.Callbacks;
 import io.pravega.common.tracing.RequestTracker;
 import io.pravega.common.util.BooleanUtils;
+import io.pravega.controller.fault.ContainerBalancer;
 import io.pravega.controller.fault.ControllerClusterListener;
 import io.pravega.controller.fault.FailoverSweeper;
+import io.pravega.controller.fault.LoadAwareContainerBalancer;
+import io.pravega.controller.fault.PrometheusContainerLoadProvider;
 import io.pravega.controller.fault.SegmentContainerMonitor;
 import io.pravega.controller.fault.UniformContainerBalancer;
 import io.pravega.controller.metrics.StreamMetrics;
@@ -122,6 +125,7 @@ public class ControllerServiceStarter extends AbstractIdleService implements Aut
     private BucketManager watermarkingService;
     private PeriodicWatermarking watermarkingWork;
     private SegmentContainerMonitor monitor;
+    private PrometheusContainerLoadProvider loadProvider;
     private ControllerClusterListener controllerClusterListener;
     private SegmentHelper segmentHelper;
     private HealthServiceManager healthServiceManager;
@@ -233,7 +237,7 @@ public class ControllerServiceStarter extends AbstractIdleService implements Aut
             if (serviceConfig.getHostMonitorConfig().isHostMonitorEnabled()) {
                 //Start the Segment Container Monitor.
                 monitor = new SegmentContainerMonitor(hostStore, (CuratorFramework) storeClient.getClient(),
-                        new UniformContainerBalancer(),
+                        createContainerBalancer(hostStore),
                         serviceConfig.getHostMonitorConfig().getHostMonitorMinRebalanceInterval());
                 monitor.startAsync();
                 log.info("Started Segment Container Monitor service.");
@@ -478,6 +482,9 @@ public class ControllerServiceStarter extends AbstractIdleService implements Aut
                 monitor.awaitTerminated();
                 log.info("Segment Container Monitor shutdown.");
             }
+            if (loadProvider != null) {
+                loadProvider.close();
+            }
 
             if (controllerClusterListener != null) {
                 controllerClusterListener.awaitTerminated();
@@ -582,6 +589,20 @@ public class ControllerServiceStarter extends AbstractIdleService implements Aut
         return hostName;
     }
 
+    private ContainerBalancer createContainerBalancer(HostControllerStore hostStore) {
+        if (!Config.LOAD_AWARE_CONTAINER_BALANCER_ENABLED) {
+            return new UniformContainerBalancer();
+        }
+
+        log.info("Using load aware segment container balancer.");
+        loadProvider = new PrometheusContainerLoadProvider(() -> hostStore.getHostContainersMap().keySet(),
+                Config.LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_PORT,
+                Config.LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_TLS_ENABLED, Config.TLS_TRUST_STORE);
+        loadProvider.start(controllerExecutor, Duration.ofSeconds(Config.LOAD_AWARE_CONTAINER_BALANCER_SCRAPE_INTERVAL_SECONDS));
+        return new LoadAwareContainerBalancer(loadProvider, Config.LOAD_AWARE_CONTAINER_BALANCER_MAX_MOVES,
+                Duration.ofSeconds(Config.LOAD_AWARE_CONTAINER_BALANCER_INTERVAL_SECONDS));
+    }
+
     private int getPort() {
         int port = 0;
         if (serviceConfig.getGRPCServerConfig().isPresent()) {
@@ -43,6 +43,8 @@ import io.pravega.controller.util.Config;
 
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -156,6 +158,39 @@ public class SegmentHelper implements AutoCloseable {
         return Controller.NodeUri.newBuilder().setEndpoint(host.getIpAddr()).setPort(host.getPort()).build();
     }
 
+    /**
+     * Gets the current assignment of Segment Containers to Segment Stores.
+     *
+     * @return The current Segment Container map.
+     */
+    public Controller.SegmentContainerMap getSegmentContainerMap() {
+        Controller.SegmentContainerMap.Builder builder = Controller.SegmentContainerMap.newBuilder()
+                .setContainerCount(hostStore.getContainerCount());
+        hostStore.getHostContainersMap().forEach((host, containers) -> builder.addHostContainers(
+                Controller.SegmentContainerMap.HostContainers.newBuilder()
+                        .setNodeUri(Controller.NodeUri.newBuilder().setEndpoint(host.getIpAddr()).setPort(host.getPort()))
+                        .addAllContainerIds(containers)));
+        return builder.build();
+    }
+
+    /**
+     * Registers a listener to be invoked every time the Segment Container map changes.
+     *
+     * @param listener The listener to invoke.
+     */
+    public void addSegmentContainerMapListener(Runnable listener) {
+        hostStore.addHostContainersMapListener(listener);
+    }
+
+    /**
+     * Unregisters a listener previously registered with {@link #addSegmentContainerMapListener}.
+     *
+     * @param listener The listener to unregister.
+     */
+    public void removeSegmentContainerMapListener(Runnable listener) {
+        hostStore.removeHostContainersMapListener(listener);
+    }
+
     public CompletableFuture<Void> createSegment(final String scope,
                                                  final String stream,
                                                  final long segmentId,
@@ -294,6 +329,52 @@ public class SegmentHelper implements AutoCloseable {
                 });
     }
 
+    /**
+     * Merges the given transactions into each of the given segments of a stream. Merges into segments that are owned by
+     * the same segment store are pipelined over a single connection to it, rather than one connection per segment.
+     *
+     * @param scope           Stream scope.
+     * @param stream          Stream name.
+     * @param segmentIds      Ids of the segments to merge the transactions into.
+     * @param txId            Ids of the transactions to merge, in commit order.
+     * @param delegationToken The token to be presented to the segment store.
+     * @param clientRequestId Request id.
+     * @return A map of segment id to a CompletableFuture which, when completed, will contain the write offsets of that
+     * segment after each transaction was merged into it.
+     */
+    public Map<Long, CompletableFuture<List<Long>>> mergeTxnSegments(final String scope,
+                                                                     final String stream,
+                                                                     final List<Long> segmentIds,
+                                                                     final List<UUID> txId,
+                                                                     final String delegationToken,
+                                                                     final long clientRequestId) {
+        final WireCommandType type = WireCommandType.MERGE_SEGMENTS_BATCH;
+        final Map<Controller.NodeUri, List<Long>> segmentsByHost = segmentIds.stream().collect(
+                Collectors.groupingBy(segmentId -> getSegmentUri(scope, stream, segmentId)));
+        final Map<Long, CompletableFuture<List<Long>>> result = new HashMap<>();
+        segmentsByHost.forEach((uri, segments) -> {
+            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
+            List<CompletableFuture<List<Long>>> futures = new ArrayList<>(segments.size());
+            for (long segmentId : segments) {
+                final String qualifiedNameTarget = getQualifiedStreamSegmentName(scope, stream, segmentId);
+                final List<String> transactionNames = txId.stream().map(x -> getTransactionName(scope, stream, segmentId, x))
+                                                          .collect(Collectors.toList());
+                WireCommands.MergeSegmentsBatch request = new WireCommands.MergeSegmentsBatch(
+                        connection.getFlow().getNextSequenceNumber(), qualifiedNameTarget, transactionNames, delegationToken);
+                CompletableFuture<List<Long>> future = sendRequest(connection, clientRequestId, request)
+                        .thenApply(r -> {
+                            // The connection is shared with the other merges on this host, so it is closed below instead.
+                            handleReply(clientRequestId, r, null, qualifiedNameTarget, WireCommands.MergeSegmentsBatch.class, type);
+                            return ((WireCommands.SegmentsBatchMerged) r).getNewTargetWriteOffset();
+                        });
+                futures.add(future);
+                result.put(segmentId, future);
+            }
+            Futures.allOf(futures).whenComplete((r, e) -> connection.close());
+        });
+        return result;
+    }
+
     public CompletableFuture<TxnStatus> abortTransaction(final String scope,
                                                          final String stream,
                                                          final long segmentId,
@@ -22,6 +22,7 @@ import io.pravega.client.stream.impl.StreamImpl;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.common.util.BlockingDrainingQueue;
+import io.pravega.controller.metrics.BucketMetrics;
 import io.pravega.controller.store.stream.BucketStore;
 import lombok.AccessLevel;
 import lombok.Data;
@@ -30,10 +31,12 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.GuardedBy;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -64,17 +67,22 @@ import java.util.concurrent.atomic.AtomicReference;
  * it is taken from the queue else, the loop sleeps till it can dequeue a work. 
  * 
  * Worker loop runs as an infinite loop and, at the most, dequeues `availableSlots` number of work items from the priority queue. 
- * During each loop iteration it first checks if there are slots available to pick a work. If not, it postpones itself with a delay. 
+ * During each loop iteration it dequeues all work items that are due, as long as there are slots available to pick them. If it
+ * could not pick any work, it postpones itself with a delay. 
  * Available slots is managed via a thread safe counter. Whenever a new work is picked from the queue, the counter is decremented 
  * and work is started asynchronously. 
  * Whenever the work completes, we add the entry back into the work queue with next schedule for the stream after `execution duration` 
  * and increment the available slots counter so that more outstanding work from the queue can be picked up. 
  * This ensures that we only have a limited number of outstanding work items irrespective of number of streams under the bucket. 
  * With exactly one entry per stream in the priority queue, we also ensure fairness. 
+ * 
+ * The worker loop also periodically reports how far behind schedule the bucket is (the time elapsed since the most overdue
+ * work item should have been executed), which indicates whether the number of buckets needs to be increased.
  */
 abstract class BucketService extends AbstractService {
     private static final int MAX_NOTIFICATIONS_TO_TAKE = 100;
     private static final long DELAY_IN_MILLIS = 100L;
+    private static final long METRICS_REPORT_INTERVAL_MILLIS = 1000L;
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(BucketService.class));
 
     protected final ScheduledExecutorService executor;
@@ -96,6 +104,8 @@ abstract class BucketService extends AbstractService {
     private final AtomicReference<CompletableFuture<Void>> workerLoop;
     private final Duration executionPeriod;
     private final BucketWork bucketWork;
+    private final BucketMetrics metrics;
+    private volatile long lastMetricsReportTime;
     
     BucketService(BucketStore.ServiceType serviceType, int bucketId, ScheduledExecutorService executor,
                   int maxConcurrentExecutions, Duration executionPeriod, BucketWork bucketWork) {
@@ -111,6 +121,7 @@ abstract class BucketService extends AbstractService {
         this.workQueue = new PriorityQueue<>(Comparator.comparingLong(x -> x.nextExecutionTimeInMillis));
         this.executionPeriod = executionPeriod;
         this.bucketWork = bucketWork;
+        this.metrics = new BucketMetrics();
     }
 
     @Override
@@ -185,59 +196,62 @@ abstract class BucketService extends AbstractService {
     /**
      * This method indicates Each workloop iteration.
      * In each iteration, it checks the count for all submitted ongoing `bucketWork` for streams (via availableSlots).
-     * If there are available slots, it checks the work queue to see if the first element can be taken from the queue yet. 
-     * If not, it returns a delayed future with fixed delay for the next iteration to be tried. 
-     * If the queue is empty, it completes this iteration with a delayed future with a fixed constant delay to poll the queue later. 
-     * If the queue has an element which can be taken for processing, then the element is removed from the queue and one of available 
-     * slots is aquired. the "bucketWork" corresponding to queue element is submitted with a callback registered on completion 
-     * to release the available slot. It returns a future with 0 delay so that next iteration can be scheduled immediately.  
+     * While there are available slots, it takes from the work queue all the elements that are due for processing. 
+     * If it could not take any element (no available slots, empty queue or the first element is not due yet), it completes
+     * this iteration with a delayed future with a fixed constant delay to poll the queue later. 
+     * For each element taken from the queue one of available slots is acquired, and the "bucketWork" corresponding to the
+     * element is submitted with a callback registered on completion to release the available slot. It returns a future 
+     * with 0 delay so that next iteration can be scheduled immediately.  
      * @return CompletableFuture which when completed indicates that the current iteration is complete and next iteration 
      * can be initiated.
      */
     private CompletableFuture<Void> work() {
         long time = System.currentTimeMillis();
-        QueueElement element;
-        long delayInMillis = 0L;
+        List<Stream> toProcess = new ArrayList<>();
+        long lagInMillis;
+        int streamCount;
         synchronized (lock) {
-            element = workQueue.peek();
-            if (availableSlots > 0 && element != null && element.nextExecutionTimeInMillis <= time) {
-                element = workQueue.poll();
-
-                if (!knownStreams.contains(element.getStream())) {
-                    // the stream is removed from the known set. Ignore any queue entry for this stream. 
-                    // let next cycle of process work happen immediately
-                    element = null;
-                } else {
+            QueueElement element = workQueue.peek();
+            while (availableSlots > 0 && element != null && element.nextExecutionTimeInMillis <= time) {
+                workQueue.poll();
+                // the stream may have been removed from the known set. Ignore any queue entry for such streams. 
+                if (knownStreams.contains(element.getStream())) {
                     availableSlots--;
+                    toProcess.add(element.getStream());
                 }
-            } else {
-                // cant do any work. set element to null and add fixed delay.
-                delayInMillis = DELAY_IN_MILLIS;
-                element = null;
+                element = workQueue.peek();
             }
+            
+            lagInMillis = element == null ? 0L : Math.max(0L, time - element.nextExecutionTimeInMillis);
+            streamCount = knownStreams.size();
         }
 
-        if (element != null) {
-            Stream stream = element.getStream();
-            
-            bucketWork.doWork(stream).handle((r, e) -> {
-                long nextRun = System.currentTimeMillis() + executionPeriod.toMillis();
-                synchronized (lock) {
-                    // if known stream contains this stream, add the work back into the queue with next run time 
-                    if (knownStreams.contains(stream)) {
-                        workQueue.add(new QueueElement(stream, nextRun));
-                    }
-                    // add the slot back
-                    availableSlots++;
-                    return null;
+        reportMetrics(time, lagInMillis, streamCount);
+        toProcess.forEach(stream -> bucketWork.doWork(stream).handle((r, e) -> {
+            long nextRun = System.currentTimeMillis() + executionPeriod.toMillis();
+            synchronized (lock) {
+                // if known stream contains this stream, add the work back into the queue with next run time 
+                if (knownStreams.contains(stream)) {
+                    workQueue.add(new QueueElement(stream, nextRun));
                 }
-            });
-        } 
+                // add the slot back
+                availableSlots++;
+                return null;
+            }
+        }));
         
         // return a delayed future after which this loop is executed again. 
-        // delay is typically `0` if we have found a slot to process and a non empty queue. 
+        // delay is `0` if we have found work to process, in which case more work may be due already. 
+        long delayInMillis = toProcess.isEmpty() ? DELAY_IN_MILLIS : 0L;
         return Futures.delayedFuture(Duration.ofMillis(delayInMillis), executor);
     }
+
+    private void reportMetrics(long time, long lagInMillis, int streamCount) {
+        if (time - lastMetricsReportTime >= METRICS_REPORT_INTERVAL_MILLIS) {
+            lastMetricsReportTime = time;
+            metrics.reportBucketLag(serviceType.name(), bucketId, lagInMillis, streamCount);
+        }
+    }
     
     @Override
     protected void doStop() {
@@ -249,6 +263,7 @@ abstract class BucketService extends AbstractService {
 
             CompletableFuture.allOf(notificationLoop.get(), workerLoop.get()).whenComplete((r, e) -> {
                 log.info("{}: Cancellation for all background work for bucket {} issued", serviceType, bucketId);
+                metrics.closeBucket(serviceType.name(), bucketId);
                 notifyStopped();
             });
         });
@@ -43,6 +43,7 @@ import io.pravega.controller.store.stream.StreamMetadataStore;
 import io.pravega.controller.store.stream.records.EpochRecord;
 import io.pravega.controller.store.stream.records.StreamSegmentRecord;
 import io.pravega.controller.store.stream.records.WriterMark;
+import io.pravega.controller.util.Config;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.watermarks.SegmentWithRange;
 import io.pravega.shared.watermarks.Watermark;
@@ -74,7 +75,7 @@ import org.slf4j.LoggerFactory;
 
 public class PeriodicWatermarking implements AutoCloseable {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(PeriodicWatermarking.class));
-    private static final int MAX_CACHE_SIZE = 500;
+    private static final int DEFAULT_CACHE_SIZE = 500;
     private final StreamMetadataStore streamMetadataStore;
     private final BucketStore bucketStore;
     private final ScheduledExecutorService executor;
@@ -85,18 +86,42 @@ public class PeriodicWatermarking implements AutoCloseable {
 
     public PeriodicWatermarking(StreamMetadataStore streamMetadataStore, BucketStore bucketStore,
                                 ClientConfig clientConfig, ScheduledExecutorService executor, RequestTracker requestTracker) {
-        this(streamMetadataStore, bucketStore, s -> SynchronizerClientFactory.withScope(s, clientConfig), executor, requestTracker);
+        this(streamMetadataStore, bucketStore, s -> SynchronizerClientFactory.withScope(s, clientConfig), executor, requestTracker,
+                Config.WATERMARKING_CLIENT_CACHE_SIZE);
     }
 
     @VisibleForTesting
     PeriodicWatermarking(StreamMetadataStore streamMetadataStore, BucketStore bucketStore,
                                  Function<String, SynchronizerClientFactory> synchronizerClientFactoryFactory,
                                  ScheduledExecutorService executor, RequestTracker requestTracker) {
+        this(streamMetadataStore, bucketStore, synchronizerClientFactoryFactory, executor, requestTracker, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new instance of the PeriodicWatermarking class.
+     *
+     * @param streamMetadataStore              The stream metadata store.
+     * @param bucketStore                      The bucket store.
+     * @param synchronizerClientFactoryFactory Function that creates a SynchronizerClientFactory for a given scope.
+     * @param executor                         The executor to use.
+     * @param requestTracker                   The request tracker.
+     * @param maxCacheSize                     The maximum number of watermark clients (and of per-scope client factories)
+     *                                         to cache. Every stream that is processed while its client is not cached
+     *                                         requires a new client to be created and initialized, so this should not be
+     *                                         lower than the number of streams with watermarking that a single controller
+     *                                         instance processes.
+     */
+    @VisibleForTesting
+    PeriodicWatermarking(StreamMetadataStore streamMetadataStore, BucketStore bucketStore,
+                         Function<String, SynchronizerClientFactory> synchronizerClientFactoryFactory,
+                         ScheduledExecutorService executor, RequestTracker requestTracker, int maxCacheSize) {
         this.streamMetadataStore = streamMetadataStore;
         this.bucketStore = bucketStore;
         this.executor = executor;
+        // Sized like the watermark client cache: evicting a scope's client factory closes it, which would break the
+        // cached watermark clients of that scope's streams.
         this.syncFactoryCache = CacheBuilder.newBuilder()
-                                                .maximumSize(MAX_CACHE_SIZE)
+                                                .maximumSize(maxCacheSize)
                                                 .expireAfterAccess(10, TimeUnit.MINUTES)
                                                 .removalListener((RemovalListener<String, SynchronizerClientFactory>) notification -> {
                                                     notification.getValue().close();
@@ -109,7 +134,7 @@ public class PeriodicWatermarking implements AutoCloseable {
                                                     }
                                                 });
         this.watermarkClientCache = CacheBuilder.newBuilder()
-                                                .maximumSize(MAX_CACHE_SIZE)
+                                                .maximumSize(maxCacheSize)
                                                 .expireAfterAccess(10, TimeUnit.MINUTES)
                                                 .removalListener((RemovalListener<Stream, WatermarkClient>) notification -> {
                                                     notification.getValue().close();
@@ -135,6 +160,7 @@ public class PeriodicWatermarking implements AutoCloseable {
      * It collects all the known writers for the given stream and includes only writers that are active (have reported
      * their marks recently). If all active writers have reported marks greater than the previously emitted watermark,
      * then new watermark is computed and emitted. If not, the window for considering writers as active is progressed.
+     * The writer marks, the stream configuration and the previous watermark are all fetched concurrently.
      * @param stream stream for which watermark should be computed.
      * @return Returns a completableFuture which when completed will have completed another iteration of periodic watermark
      * computation.
@@ -158,12 +184,12 @@ public class PeriodicWatermarking implements AutoCloseable {
         CompletableFuture<Map<String, WriterMark>> allWriterMarks = Futures.exceptionallyExpecting(
                 streamMetadataStore.getAllWriterMarks(scope, streamName, context, executor),
                 e -> Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException, Collections.emptyMap());
-        
-        return allWriterMarks.thenCompose(writers -> {
-            WatermarkClient watermarkClient = watermarkClientCache.getUnchecked(stream);
-
+        CompletableFuture<StreamConfiguration> configuration = streamMetadataStore.getConfiguration(scope, streamName, context, executor);
+        // Reinitializing the client reads from the mark stream, which is a blocking call.
+        CompletableFuture<WatermarkClient> watermarkClient = CompletableFuture.supplyAsync(() -> {
+            WatermarkClient client = watermarkClientCache.getUnchecked(stream);
             try {
-                watermarkClient.reinitialize();
+                client.reinitialize();
             } catch (Exception e) {
                 log.warn(requestId, "Watermarking client for stream {} threw exception {} during reinitialize.",
                         stream, Exceptions.unwrap(e).getClass());
@@ -173,9 +199,13 @@ public class PeriodicWatermarking implements AutoCloseable {
                 }
                 throw e;
             }
-            return streamMetadataStore.getConfiguration(scope, streamName, context, executor)
-                .thenCompose(config -> filterWritersAndComputeWatermark(scope, streamName, context, watermarkClient, writers, config));
-        }).exceptionally(e -> {
+            return client;
+        }, executor);
+
+        return CompletableFuture.allOf(allWriterMarks, configuration, watermarkClient).thenCompose(v -> 
+                filterWritersAndComputeWatermark(scope, streamName, context, watermarkClient.join(), allWriterMarks.join(), 
+                        configuration.join())
+        ).exceptionally(e -> {
             log.warn(requestId, "Exception thrown while trying to perform periodic watermark computation. Logging and ignoring.", e);
             return null;
         });
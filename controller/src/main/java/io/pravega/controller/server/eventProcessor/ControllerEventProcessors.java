@@ -502,8 +502,10 @@ public class ControllerEventProcessors extends AbstractIdleService implements Fa
                         .config(commitReadersConfig)
                         .decider(ExceptionHandler.DEFAULT_EXCEPTION_HANDLER)
                         .serializer(COMMIT_EVENT_SERIALIZER)
-                        .supplier(() -> new ConcurrentEventProcessor<>(commitRequestHandler, executor))
+                        .supplier(() -> new ConcurrentEventProcessor<>(commitRequestHandler,
+                                Config.COMMIT_EVENT_PROCESSOR_MAX_CONCURRENT, executor))
                         .minRebalanceIntervalMillis(rebalanceIntervalMillis)
+                        .readBatchSize(Config.EVENT_PROCESSOR_READ_BATCH_SIZE)
                         .build();
 
         log.debug("Creating commit event processors");
@@ -531,8 +533,10 @@ public class ControllerEventProcessors extends AbstractIdleService implements Fa
                         .config(abortReadersConfig)
                         .decider(ExceptionHandler.DEFAULT_EXCEPTION_HANDLER)
                         .serializer(ABORT_EVENT_SERIALIZER)
-                        .supplier(() -> new ConcurrentEventProcessor<>(abortRequestHandler, executor))
+                        .supplier(() -> new ConcurrentEventProcessor<>(abortRequestHandler,
+                                Config.ABORT_EVENT_PROCESSOR_MAX_CONCURRENT, executor))
                         .minRebalanceIntervalMillis(rebalanceIntervalMillis)
+                        .readBatchSize(Config.EVENT_PROCESSOR_READ_BATCH_SIZE)
                         .build();
 
         log.debug("Creating abort event processors");
@@ -559,8 +563,10 @@ public class ControllerEventProcessors extends AbstractIdleService implements Fa
                         .config(requestReadersConfig)
                         .decider(ExceptionHandler.DEFAULT_EXCEPTION_HANDLER)
                         .serializer(CONTROLLER_EVENT_SERIALIZER)
-                        .supplier(() -> new ConcurrentEventProcessor<>(streamRequestHandler, executor))
+                        .supplier(() -> new ConcurrentEventProcessor<>(streamRequestHandler,
+                                Config.REQUEST_EVENT_PROCESSOR_MAX_CONCURRENT, executor))
                         .minRebalanceIntervalMillis(rebalanceIntervalMillis)
+                        .readBatchSize(Config.EVENT_PROCESSOR_READ_BATCH_SIZE)
                         .build();
 
         log.debug("Creating stream request event processors");
@@ -587,8 +593,10 @@ public class ControllerEventProcessors extends AbstractIdleService implements Fa
                         .config(kvtReadersConfig)
                         .decider(ExceptionHandler.DEFAULT_EXCEPTION_HANDLER)
                         .serializer(CONTROLLER_EVENT_SERIALIZER)
-                        .supplier(() -> new ConcurrentEventProcessor<>(kvtRequestHandler, executor))
+                        .supplier(() -> new ConcurrentEventProcessor<>(kvtRequestHandler,
+                                Config.KVT_EVENT_PROCESSOR_MAX_CONCURRENT, executor))
                         .minRebalanceIntervalMillis(rebalanceIntervalMillis)
+                        .readBatchSize(Config.EVENT_PROCESSOR_READ_BATCH_SIZE)
                         .build();
 
         log.debug("Creating kvt request event processors");
@@ -35,6 +35,7 @@ import io.pravega.controller.store.stream.records.CommittingTransactionsRecord;
 import io.pravega.controller.store.stream.records.EpochRecord;
 import io.pravega.controller.task.Stream.StreamMetadataTasks;
 import io.pravega.controller.task.Stream.StreamTransactionMetadataTasks;
+import io.pravega.shared.NameUtils;
 import io.pravega.shared.controller.event.CommitEvent;
 import lombok.AllArgsConstructor;
 import lombok.val;
@@ -50,6 +51,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -67,6 +69,8 @@ public class CommitRequestHandler extends AbstractRequestProcessor<CommitEvent>
     private final BucketStore bucketStore;
     private final ScheduledExecutorService executor;
     private final BlockingQueue<CommitEvent> processedEvents;
+    // Time at which a commit attempt for a stream was first postponed or failed, for streams whose commits are pending.
+    private final Map<String, Long> pendingCommitsSince = new ConcurrentHashMap<>();
 
     /**
      *  A helper class that holds variables related to Transaction commit processing.
@@ -124,14 +128,16 @@ public class CommitRequestHandler extends AbstractRequestProcessor<CommitEvent>
         long requestId = streamMetadataTasks.getRequestId(null);
 
         OperationContext context = streamMetadataStore.createStreamContext(scope, stream, requestId);
+        String scopedStreamName = NameUtils.getScopedStreamName(scope, stream);
         log.debug(requestId, "Attempting to commit available transactions on stream {}/{}", event.getScope(), 
                 event.getStream());
 
         CompletableFuture<Void> future = new CompletableFuture<>();
+        AtomicReference<State> streamState = new AtomicReference<>();
 
         // Note: we will ignore the epoch in the event. It has been deprecated. 
         // The logic now finds the smallest epoch with transactions and commits them.
-        tryCommitTransactions(scope, stream, context)
+        tryCommitTransactions(scope, stream, streamState, context)
                 .whenComplete((r, e) -> {
                     if (e != null) {
                         Throwable cause = Exceptions.unwrap(e);
@@ -144,8 +150,26 @@ public class CommitRequestHandler extends AbstractRequestProcessor<CommitEvent>
                                     scope, stream, e);
                             TransactionMetrics.getInstance().commitTransactionFailed(scope, stream);
                         }
+                        if (cause instanceof StoreException.DataNotFoundException) {
+                            // The stream has been deleted, so there is nothing left to commit on it.
+                            clearCommitLag(scope, stream);
+                        } else {
+                            long pendingSince = pendingCommitsSince.computeIfAbsent(scopedStreamName,
+                                    x -> System.currentTimeMillis() - timer.getElapsedMillis());
+                            TransactionMetrics.getInstance().reportCommitLag(scope, stream,
+                                    System.currentTimeMillis() - pendingSince);
+                        }
                         future.completeExceptionally(cause);
                     } else {
+                        if (State.SEALED.equals(streamState.get())) {
+                            // No transactions can be committed on a sealed stream anymore.
+                            clearCommitLag(scope, stream);
+                        } else {
+                            // Nothing is pending anymore, so the gauge goes back to 0. Transactions marked for commit
+                            // since then have their own commit events, which report the lag again should they be postponed.
+                            pendingCommitsSince.remove(scopedStreamName);
+                            TransactionMetrics.getInstance().reportCommitLag(scope, stream, 0L);
+                        }
                         if (r >= 0) {
                             log.info(requestId, "Successfully committed transactions on epoch {} on stream {}/{}", r, 
                                     scope, stream);
@@ -178,6 +202,7 @@ public class CommitRequestHandler extends AbstractRequestProcessor<CommitEvent>
      */
     private CompletableFuture<Integer> tryCommitTransactions(final String scope,
                                                           final String stream,
+                                                          final AtomicReference<State> streamState,
                                                           final OperationContext context) {
         Timer timer = new Timer();
         Map<String, TxnWriterMark> writerMarks = new HashMap<>();
@@ -185,6 +210,7 @@ public class CommitRequestHandler extends AbstractRequestProcessor<CommitEvent>
 
         return streamMetadataStore.getVersionedState(scope, stream, context, executor)
                 .thenComposeAsync(state -> {
+                    streamState.set(state.getObject());
                     final AtomicReference<VersionedMetadata<State>> stateRecord = new AtomicReference<>(state);
                     CompletableFuture<VersionedMetadata<CommittingTransactionsRecord>> commitFuture =
                             streamMetadataStore.startCommitTransactions(scope, stream, MAX_TRANSACTION_COMMIT_BATCH_SIZE, 
@@ -408,6 +434,19 @@ public class CommitRequestHandler extends AbstractRequestProcessor<CommitEvent>
         }
     }
 
+    /**
+     * Stops tracking and reporting the commit lag of a stream that has been sealed or deleted.
+     */
+    private void clearCommitLag(String scope, String stream) {
+        pendingCommitsSince.remove(NameUtils.getScopedStreamName(scope, stream));
+        TransactionMetrics.getInstance().clearCommitLag(scope, stream);
+    }
+
+    @VisibleForTesting
+    public boolean isCommitPending(String scope, String stream) {
+        return pendingCommitsSince.containsKey(NameUtils.getScopedStreamName(scope, stream));
+    }
+
     @Override
     public CompletableFuture<Boolean> hasTaskStarted(CommitEvent event) {
         return streamMetadataStore.getState(event.getScope(), event.getStream(), true, null, executor)
@@ -21,6 +21,7 @@ import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.controller.metrics.StreamMetrics;
+import io.pravega.controller.metrics.TransactionMetrics;
 import io.pravega.controller.store.stream.BucketStore;
 import io.pravega.controller.store.stream.OperationContext;
 import io.pravega.controller.store.stream.State;
@@ -85,7 +86,10 @@ public class DeleteStreamTask implements StreamTask<DeleteStreamEvent> {
                     return deleteAssociatedStreams(scope, stream, requestId)
                             .thenCompose(v -> removeTagsFromIndex(context, scope, stream, requestId))
                             .thenCompose(v -> notifyAndDelete(context, scope, stream, requestId))
-                            .thenAccept(v -> StreamMetrics.getInstance().controllerEventProcessorDeleteStreamEvent(timer.getElapsed()));
+                            .thenAccept(v -> {
+                                TransactionMetrics.getInstance().clearCommitLag(scope, stream);
+                                StreamMetrics.getInstance().controllerEventProcessorDeleteStreamEvent(timer.getElapsed());
+                            });
                 }, executor)
                 .exceptionally(e -> {
                     if (Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException) {
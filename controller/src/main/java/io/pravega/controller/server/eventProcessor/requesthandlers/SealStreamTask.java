@@ -21,6 +21,7 @@ import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.controller.metrics.StreamMetrics;
+import io.pravega.controller.metrics.TransactionMetrics;
 import io.pravega.controller.store.stream.OperationContext;
 import io.pravega.controller.store.stream.StoreException;
 import io.pravega.controller.store.stream.StreamMetadataStore;
@@ -104,7 +105,11 @@ public class SealStreamTask implements StreamTask<SealStreamEvent> {
                     } else {
                         return notifySealed(scope, stream, context, activeSegments, requestId);
                     }
-                }).thenAccept(v -> StreamMetrics.getInstance().controllerEventProcessorSealStreamEvent(timer.getElapsed()));
+                }).thenAccept(v -> {
+                    // A sealed stream has no transactions left to commit.
+                    TransactionMetrics.getInstance().clearCommitLag(scope, stream);
+                    StreamMetrics.getInstance().controllerEventProcessorSealStreamEvent(timer.getElapsed());
+                });
     }
 
     /**
@@ -16,6 +16,7 @@ import io.pravega.controller.server.rest.generated.model.ScopeProperty;
 import io.pravega.controller.server.rest.generated.model.ScopesList;
 import io.pravega.controller.server.rest.generated.model.StreamProperty;
 import io.pravega.controller.server.rest.generated.model.StreamState;
+import io.pravega.controller.server.rest.generated.model.StreamStatusMap;
 import io.pravega.controller.server.rest.generated.model.StreamsList;
 import io.pravega.controller.server.rest.generated.model.UpdateStreamRequest;
 
@@ -98,6 +99,23 @@ public class ScopesApi  {
     throws NotFoundException {
         return delegate.createStream(scopeName,createStreamRequest,securityContext);
     }
+    @POST
+    @Path("/{scopeName}/bulk/create-streams")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "", notes = "Create several streams in the given scope", response = StreamStatusMap.class, tags={ "Streams", })
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "The creation status of each stream, keyed by stream name", response = StreamStatusMap.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 404, message = "Scope not found", response = StreamStatusMap.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while creating the streams", response = StreamStatusMap.class) })
+    public Response createStreams(@ApiParam(value = "Scope name",required=true) @PathParam("scopeName") String scopeName
+,@ApiParam(value = "The configurations of the streams to create" ,required=true) List<CreateStreamRequest> createStreamRequests
+,@Context SecurityContext securityContext)
+    throws NotFoundException {
+        return delegate.createStreams(scopeName,createStreamRequests,securityContext);
+    }
     @DELETE
     @Path("/{scopeName}/readergroups/{readerGroupName}")
     
@@ -152,6 +170,23 @@ public class ScopesApi  {
     throws NotFoundException {
         return delegate.deleteStream(scopeName,streamName,securityContext);
     }
+    @POST
+    @Path("/{scopeName}/bulk/delete-streams")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "", notes = "Seal and delete several streams in the given scope", response = StreamStatusMap.class, tags={ "Streams", })
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "The deletion status of each stream, keyed by stream name. Streams the caller is not authorized to delete are reported as UNAUTHORIZED", response = StreamStatusMap.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 404, message = "Scope not found", response = StreamStatusMap.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while deleting the streams", response = StreamStatusMap.class) })
+    public Response deleteStreams(@ApiParam(value = "Scope name",required=true) @PathParam("scopeName") String scopeName
+,@ApiParam(value = "The names of the streams to delete" ,required=true) List<String> streamNames
+,@Context SecurityContext securityContext)
+    throws NotFoundException {
+        return delegate.deleteStreams(scopeName,streamNames,securityContext);
+    }
     @GET
     @Path("/{scopeName}/readergroups/{readerGroupName}")
     
@@ -14,6 +14,7 @@ import io.pravega.controller.server.rest.generated.model.ScopeProperty;
 import io.pravega.controller.server.rest.generated.model.ScopesList;
 import io.pravega.controller.server.rest.generated.model.StreamProperty;
 import io.pravega.controller.server.rest.generated.model.StreamState;
+import io.pravega.controller.server.rest.generated.model.StreamStatusMap;
 import io.pravega.controller.server.rest.generated.model.StreamsList;
 import io.pravega.controller.server.rest.generated.model.UpdateStreamRequest;
 
@@ -29,9 +30,11 @@ import javax.validation.constraints.*;
 public abstract class ScopesApiService {
     public abstract Response createScope(CreateScopeRequest createScopeRequest,SecurityContext securityContext) throws NotFoundException;
     public abstract Response createStream(String scopeName,CreateStreamRequest createStreamRequest,SecurityContext securityContext) throws NotFoundException;
+    public abstract Response createStreams(String scopeName,List<CreateStreamRequest> createStreamRequests,SecurityContext securityContext) throws NotFoundException;
     public abstract Response deleteReaderGroup(String scopeName,String readerGroupName,SecurityContext securityContext) throws NotFoundException;
     public abstract Response deleteScope(String scopeName,SecurityContext securityContext) throws NotFoundException;
     public abstract Response deleteStream(String scopeName,String streamName,SecurityContext securityContext) throws NotFoundException;
+    public abstract Response deleteStreams(String scopeName,List<String> streamNames,SecurityContext securityContext) throws NotFoundException;
     public abstract Response getReaderGroup(String scopeName,String readerGroupName,SecurityContext securityContext) throws NotFoundException;
     public abstract Response getScalingEvents(String scopeName,String streamName, @NotNull Long from, @NotNull Long to,SecurityContext securityContext) throws NotFoundException;
     public abstract Response getScope(String scopeName,SecurityContext securityContext) throws NotFoundException;
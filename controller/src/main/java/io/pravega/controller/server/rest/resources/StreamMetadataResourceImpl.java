@@ -39,6 +39,7 @@ import io.pravega.controller.server.rest.generated.model.ReaderGroupsListReaderG
 import io.pravega.controller.server.rest.generated.model.ScopeProperty;
 import io.pravega.controller.server.rest.generated.model.ScopesList;
 import io.pravega.controller.server.rest.generated.model.StreamState;
+import io.pravega.controller.server.rest.generated.model.StreamStatusMap;
 import io.pravega.controller.server.rest.generated.model.StreamsList;
 import io.pravega.controller.server.rest.generated.model.UpdateStreamRequest;
 import io.pravega.controller.server.rest.v1.ApiV1;
@@ -56,8 +57,11 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.UpdateStreamStatus;
 import io.pravega.shared.NameUtils;
 import java.security.Principal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -81,6 +85,10 @@ import static io.pravega.shared.NameUtils.READER_GROUP_STREAM_PREFIX;
  */
 public class StreamMetadataResourceImpl implements ApiV1.ScopesApi {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(StreamMetadataResourceImpl.class));
+    /**
+     * The status reported by the bulk APIs for streams that the caller is not authorized to operate on.
+     */
+    private static final String UNAUTHORIZED_STATUS = "UNAUTHORIZED";
 
     @Context
     HttpHeaders headers;
@@ -229,6 +237,56 @@ public class StreamMetadataResourceImpl implements ApiV1.ScopesApi {
                 .thenAccept(x -> LoggerHelpers.traceLeave(log, "createStream", traceId));
     }
 
+    /**
+     * Implementation of createStreams REST API.
+     *
+     * @param scopeName            The scope name of the streams.
+     * @param createStreamRequests The objects conforming to createStream request json.
+     * @param securityContext      The security for API access.
+     * @param asyncResponse        AsyncResponse provides means for asynchronous server side response processing.
+     */
+    @Override
+    public void createStreams(final String scopeName, final List<CreateStreamRequest> createStreamRequests,
+                              final SecurityContext securityContext, final AsyncResponse asyncResponse) {
+        long traceId = LoggerHelpers.traceEnter(log, "createStreams");
+        long requestId = requestIdGenerator.nextLong();
+
+        try {
+            restAuthHelper.authenticateAuthorize(getAuthorizationHeader(),
+                    authorizationResource.ofStreamsInScope(scopeName), READ_UPDATE);
+        } catch (AuthException e) {
+            log.warn(requestId, "Create streams in scope {} failed due to authentication failure.", scopeName);
+            asyncResponse.resume(Response.status(Status.fromStatusCode(e.getResponseCode())).build());
+            LoggerHelpers.traceLeave(log, "createStreams", traceId);
+            return;
+        }
+
+        // Streams with invalid names are reported as such and are not submitted for creation.
+        StreamStatusMap invalid = new StreamStatusMap();
+        Map<String, StreamConfiguration> streams = new HashMap<>();
+        for (CreateStreamRequest request : createStreamRequests) {
+            try {
+                NameUtils.validateUserStreamName(request.getStreamName());
+                streams.put(request.getStreamName(), ModelHelper.getCreateStreamConfig(request));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                invalid.put(String.valueOf(request.getStreamName()), CreateStreamStatus.Status.INVALID_STREAM_NAME.name());
+            }
+        }
+
+        controllerService.createStreams(scopeName, streams, System.currentTimeMillis(), requestId)
+                .thenApply(statuses -> {
+                    StreamStatusMap result = new StreamStatusMap();
+                    result.putAll(invalid);
+                    statuses.forEach((stream, status) -> result.put(stream, status.name()));
+                    log.info(requestId, "createStreams in scope {} completed for {} streams.", scopeName, result.size());
+                    return Response.status(Status.OK).entity(result).build();
+                }).exceptionally(exception -> {
+                    log.warn(requestId, "createStreams in scope {} failed: ", scopeName, exception);
+                    return Response.status(Status.INTERNAL_SERVER_ERROR).build();
+                }).thenApply(asyncResponse::resume)
+                .thenAccept(x -> LoggerHelpers.traceLeave(log, "createStreams", traceId));
+    }
+
     /**
      * Implementation of deleteScope REST API.
      *
@@ -320,6 +378,70 @@ public class StreamMetadataResourceImpl implements ApiV1.ScopesApi {
         .thenAccept(x -> LoggerHelpers.traceLeave(log, "deleteStream", traceId));
     }
 
+    /**
+     * Implementation of deleteStreams REST API.
+     *
+     * @param scopeName       The scope name of the streams.
+     * @param streamNames     The names of the streams to seal and delete.
+     * @param securityContext The security for API access.
+     * @param asyncResponse   AsyncResponse provides means for asynchronous server side response processing.
+     */
+    @Override
+    public void deleteStreams(final String scopeName, final List<String> streamNames, final SecurityContext securityContext,
+                              final AsyncResponse asyncResponse) {
+        long traceId = LoggerHelpers.traceEnter(log, "deleteStreams");
+        long requestId = requestIdGenerator.nextLong();
+
+        final Principal principal;
+        final List<String> authHeader = getAuthorizationHeader();
+
+        try {
+            principal = restAuthHelper.authenticate(authHeader);
+        } catch (AuthException e) {
+            log.warn(requestId, "Delete streams in scope {} failed due to authentication failure.", scopeName);
+            asyncResponse.resume(Response.status(Status.fromStatusCode(e.getResponseCode())).build());
+            LoggerHelpers.traceLeave(log, "deleteStreams", traceId);
+            return;
+        }
+
+        // Each stream is authorized individually, as is the case for deleteStream. Streams that the caller is not
+        // authorized to delete are reported as such and are not submitted for deletion.
+        StreamStatusMap unauthorized = new StreamStatusMap();
+        List<String> streams = new ArrayList<>();
+        for (String streamName : streamNames) {
+            boolean isAuthorized = false;
+            try {
+                isAuthorized = restAuthHelper.isAuthorized(authHeader, authorizationResource.ofStreamInScope(scopeName, streamName),
+                        principal, READ_UPDATE);
+            } catch (AuthException e) {
+                log.warn(requestId, "Delete stream {}/{} failed due to authorization failure.", scopeName, streamName);
+                // Ignore. This exception occurs under abnormal circumstances and not to determine
+                // whether the user is authorized. In case it does occur, we assume that the user
+                // is unauthorized.
+            }
+            if (isAuthorized) {
+                streams.add(streamName);
+            } else {
+                unauthorized.put(streamName, UNAUTHORIZED_STATUS);
+            }
+        }
+
+        CompletableFuture<Map<String, DeleteStreamStatus.Status>> deleteFuture = streams.isEmpty()
+                ? CompletableFuture.completedFuture(Collections.emptyMap())
+                : controllerService.deleteStreams(scopeName, streams, requestId);
+        deleteFuture.thenApply(statuses -> {
+                    StreamStatusMap result = new StreamStatusMap();
+                    result.putAll(unauthorized);
+                    statuses.forEach((stream, status) -> result.put(stream, status.name()));
+                    log.info(requestId, "deleteStreams in scope {} completed for {} streams.", scopeName, result.size());
+                    return Response.status(Status.OK).entity(result).build();
+                }).exceptionally(exception -> {
+                    log.warn(requestId, "deleteStreams in scope {} failed: ", scopeName, exception);
+                    return Response.status(Status.INTERNAL_SERVER_ERROR).build();
+                }).thenApply(asyncResponse::resume)
+                .thenAccept(x -> LoggerHelpers.traceLeave(log, "deleteStreams", traceId));
+    }
+
     @Override
     public void deleteReaderGroup(final String scopeName, final String readerGroupName,
                                   final SecurityContext securityContext, final AsyncResponse asyncResponse) {
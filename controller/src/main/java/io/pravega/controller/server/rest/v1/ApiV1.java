@@ -24,12 +24,14 @@ import io.pravega.controller.server.rest.generated.model.ScopeProperty;
 import io.pravega.controller.server.rest.generated.model.ScopesList;
 import io.pravega.controller.server.rest.generated.model.StreamProperty;
 import io.pravega.controller.server.rest.generated.model.StreamState;
+import io.pravega.controller.server.rest.generated.model.StreamStatusMap;
 import io.pravega.controller.server.rest.generated.model.StreamsList;
 import io.pravega.controller.server.rest.generated.model.UpdateStreamRequest;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.util.List;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -110,6 +112,41 @@ public final class ApiV1 {
                 @ApiParam(value = "The stream configuration", required = true) CreateStreamRequest createStreamRequest,
                 @Context SecurityContext securityContext, @Suspended final AsyncResponse asyncResponse);
 
+        @POST
+        @Path("/{scopeName}/bulk/create-streams")
+        @Consumes({ "application/json" })
+        @Produces({ "application/json" })
+        @ApiOperation(
+                value = "", notes = "Creates several streams in the given scope", response = StreamStatusMap.class,
+                tags = {  })
+        @ApiResponses(value = {
+                @ApiResponse(
+                        code = 200, message = "The creation status of each stream", response = StreamStatusMap.class),
+
+                @ApiResponse(
+                        code = 500, message = "Server error", response = StreamStatusMap.class) })
+        void createStreams(@ApiParam(value = "Scope name", required = true) @PathParam("scopeName") String scopeName,
+                @ApiParam(value = "The stream configurations", required = true) List<CreateStreamRequest> createStreamRequests,
+                @Context SecurityContext securityContext, @Suspended final AsyncResponse asyncResponse);
+
+        @POST
+        @Path("/{scopeName}/bulk/delete-streams")
+        @Consumes({ "application/json" })
+        @Produces({ "application/json" })
+        @ApiOperation(
+                value = "", notes = "Seals and deletes several streams in the given scope", response = StreamStatusMap.class,
+                tags = {  })
+        @ApiResponses(value = {
+                @ApiResponse(
+                        code = 200, message = "The deletion status of each stream, UNAUTHORIZED for streams the caller may not delete",
+                        response = StreamStatusMap.class),
+
+                @ApiResponse(
+                        code = 500, message = "Server error", response = StreamStatusMap.class) })
+        void deleteStreams(@ApiParam(value = "Scope name", required = true) @PathParam("scopeName") String scopeName,
+                @ApiParam(value = "The stream names", required = true) List<String> streamNames,
+                @Context SecurityContext securityContext, @Suspended final AsyncResponse asyncResponse);
+
         @DELETE
         @Path("/{scopeName}")
         @ApiOperation(value = "", notes = "Delete a scope", response = void.class, tags = {  })
@@ -20,6 +20,7 @@ import com.google.common.base.Strings;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.pravega.auth.AuthHandler;
 import io.pravega.auth.AuthenticationException;
@@ -61,6 +62,8 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.ScaleResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ScaleStatusRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ScaleStatusResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ScopeInfo;
+import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentContainerMap;
+import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentContainerMapRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentId;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentRanges;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentValidityResponse;
@@ -98,6 +101,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -768,6 +772,39 @@ public class ControllerServiceImpl extends ControllerServiceGrpc.ControllerServi
                 responseObserver);
     }
 
+    @Override
+    public void watchSegmentContainerMap(SegmentContainerMapRequest request,
+                                         StreamObserver<SegmentContainerMap> responseObserver) {
+        log.info("watchSegmentContainerMap called.");
+        // Like getControllerServerList, the container map is not tied to any resource and needs no authorization.
+        final Object lock = new Object();
+        final AtomicBoolean cancelled = new AtomicBoolean(false);
+        try {
+            Runnable unregister = controllerService.watchSegmentContainerMap(map -> {
+                synchronized (lock) {
+                    if (!cancelled.get()) {
+                        responseObserver.onNext(map);
+                    }
+                }
+            });
+            if (responseObserver instanceof ServerCallStreamObserver) {
+                ServerCallStreamObserver<SegmentContainerMap> serverObserver =
+                        (ServerCallStreamObserver<SegmentContainerMap>) responseObserver;
+                serverObserver.setOnCancelHandler(() -> {
+                    log.info("watchSegmentContainerMap cancelled.");
+                    cancelled.set(true);
+                    unregister.run();
+                });
+                if (serverObserver.isCancelled()) {
+                    cancelled.set(true);
+                    unregister.run();
+                }
+            }
+        } catch (Exception e) {
+            handleException(e, responseObserver, null, Status.INTERNAL, "Internal exception occurred");
+        }
+    }
+
     @Override
     public void isSegmentValid(SegmentId request,
                                StreamObserver<SegmentValidityResponse> responseObserver) {
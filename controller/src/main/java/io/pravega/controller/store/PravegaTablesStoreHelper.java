@@ -88,12 +88,19 @@ public class PravegaTablesStoreHelper {
     public static final Function<byte[], UUID> BYTES_TO_UUID_FUNCTION = x -> BitConverter.readUUID(x, 0);
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(PravegaTablesStoreHelper.class));
     private static final int NUM_OF_RETRIES = 15; // approximately 1 minute worth of retries
+    // Keeps batched requests and responses within the maximum wire command size, even for the largest table entries.
+    private static final int MAX_BATCH_SIZE = 8;
+    // Lets the segment store work on some batches of a table while others are on the wire, so that batching does not cap
+    // the throughput of a busy table at one batch per round trip (see TableRequestBatcherBenchmarkTests).
+    private static final int MAX_IN_FLIGHT_BATCHES = 4;
     private final SegmentHelper segmentHelper;
     private final ScheduledExecutorService executor;
     private final Cache cache;
     private final AtomicReference<String> authToken;
     private final GrpcAuthHelper authHelper;
     private final int numOfRetries;
+    private final TableRequestBatcher<BatchedRequest, VersionedMetadata<byte[]>> readBatcher;
+    private final TableRequestBatcher<BatchedRequest, TableSegmentKeyVersion> updateBatcher;
 
     @lombok.Data
     private static class TableCacheKey implements Cache.CacheKey {
@@ -101,6 +108,13 @@ public class PravegaTablesStoreHelper {
         private final String key;
     }
 
+    @lombok.Data
+    private static class BatchedRequest {
+        private final String key;
+        private final TableSegmentEntry entry;
+        private final long requestId;
+    }
+
     public PravegaTablesStoreHelper(SegmentHelper segmentHelper, GrpcAuthHelper authHelper, ScheduledExecutorService executor) {
         this(segmentHelper, authHelper, executor, NUM_OF_RETRIES);
     }
@@ -114,17 +128,26 @@ public class PravegaTablesStoreHelper {
         this.authHelper = authHelper;
         this.authToken = new AtomicReference<>(authHelper.retrieveMasterToken());
         this.numOfRetries = numOfRetries;
+        this.readBatcher = new TableRequestBatcher<>(this::readBatch, e -> false, MAX_BATCH_SIZE, MAX_IN_FLIGHT_BATCHES, executor);
+        // A conditional update with a stale version fails the whole batch, so each update is retried on its own to 
+        // find out which one(s) caused it. Updates of the same key must never share a batch, or two updates with the
+        // same version would both succeed.
+        this.updateBatcher = new TableRequestBatcher<>(this::updateBatch, 
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException 
+                        || Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException,
+                BatchedRequest::getKey, MAX_BATCH_SIZE, MAX_IN_FLIGHT_BATCHES, executor);
     }
 
     /**
      * Api to load a new value into the cache for the specified key from the requested table.
      * @param table name of table
      * @param key key to cache
+     * @param size serialized size of the value
      * @param <T> Type of object to deserialize the response into.
      */
-    private  <T> void putInCache(String table, String key, VersionedMetadata<T> value, long time) {
+    private  <T> void putInCache(String table, String key, VersionedMetadata<T> value, long time, int size) {
         TableCacheKey cacheKey = new TableCacheKey(table, key);
-        cache.put(cacheKey, value, time);
+        cache.put(cacheKey, value, time, size);
     }
 
     /**
@@ -250,7 +273,7 @@ public class PravegaTablesStoreHelper {
                     log.debug(requestId, "entry for key {} added to table {} with version {}",
                             key, tableName, first.getSegmentVersion());
                     Version version = new Version.LongVersion(first.getSegmentVersion());
-                    putInCache(tableName, key, new VersionedMetadata<>(val, version), time);
+                    putInCache(tableName, key, new VersionedMetadata<>(val, version), time, value.length);
                     return version;
                 }, executor)
                 .whenComplete((r, ex) -> releaseEntries(entries));
@@ -362,6 +385,7 @@ public class PravegaTablesStoreHelper {
         List<TableSegmentEntry> entries = toAdd.stream().map(x ->
                 TableSegmentEntry.notExists(x.getKey().getBytes(Charsets.UTF_8), toBytes.apply(x.getValue())))
                                                .collect(Collectors.toList());
+        List<Integer> sizes = entries.stream().map(x -> x.getValue().readableBytes()).collect(Collectors.toList());
         Supplier<String> errorMessage = () -> String.format("addNewEntriesIfAbsent: table: %s", tableName);
         long time = System.currentTimeMillis();
         return expectingDataExists(withRetries(() -> segmentHelper.updateTableEntries(tableName, entries, authToken.get(),
@@ -383,7 +407,7 @@ public class PravegaTablesStoreHelper {
                         for (int i = 0; i < r.size(); i++) {
                             putInCache(tableName, toAdd.get(i).getKey(),
                                     new VersionedMetadata<>(toAdd.get(i).getValue(),
-                                            new Version.LongVersion(r.get(i).getSegmentVersion())), time);
+                                            new Version.LongVersion(r.get(i).getSegmentVersion())), time, sizes.get(i));
                         }
                         return null;
                     }
@@ -409,14 +433,13 @@ public class PravegaTablesStoreHelper {
         long time = System.currentTimeMillis();
         List<TableSegmentEntry> entries = Collections.singletonList(
                 TableSegmentEntry.versioned(key.getBytes(Charsets.UTF_8), value, version));
-        return withRetries(() -> segmentHelper.updateTableEntries(tableName, entries, authToken.get(), requestId),
-                () -> String.format("updateEntry: key: %s table: %s", key, tableName), true, requestId)
-                .thenApplyAsync(x -> {
-                    TableSegmentKeyVersion first = x.get(0);
+        // Concurrent updates to the same table are coalesced into a single updateTableEntries call.
+        return updateBatcher.add(tableName, new BatchedRequest(key, entries.get(0), requestId))
+                .thenApplyAsync(first -> {
                     log.debug(requestId, "entry for key {} updated to table {} with new version {}",
                             key, tableName, first.getSegmentVersion());
                     Version newVersion = new Version.LongVersion(first.getSegmentVersion());
-                    putInCache(tableName, key, new VersionedMetadata<>(val, newVersion), time);
+                    putInCache(tableName, key, new VersionedMetadata<>(val, newVersion), time, value.length);
                     return newVersion;
                 }, executor)
                 .exceptionally(e -> {
@@ -439,31 +462,28 @@ public class PravegaTablesStoreHelper {
     public <T> CompletableFuture<VersionedMetadata<T>> getEntry(String tableName, String key, Function<byte[], T> fromBytes,
                                                                 long requestId) {
         log.trace(requestId, "get entry called for : {} key : {}", tableName, key);
-        List<TableSegmentKey> keys = Collections.singletonList(TableSegmentKey.unversioned(key.getBytes(Charsets.UTF_8)));
-        CompletableFuture<VersionedMetadata<T>> result = new CompletableFuture<>();
+        return readEntry(tableName, key, requestId)
+                .thenApply(x -> new VersionedMetadata<>(fromBytes.apply(x.getObject()), x.getVersion()));
+    }
+
+    /**
+     * Reads the serialized value for the given key from a table. The returned future is completed on the executor.
+     */
+    private CompletableFuture<VersionedMetadata<byte[]>> readEntry(String tableName, String key, long requestId) {
+        CompletableFuture<VersionedMetadata<byte[]>> result = new CompletableFuture<>();
         String message = "get entry: key: %s table: %s";
-        withRetries(() -> segmentHelper.readTable(tableName, keys, authToken.get(), requestId),
-                () -> String.format(message, key, tableName), requestId)
+        // Concurrent reads from the same table are coalesced into a single readTable call.
+        readBatcher.add(tableName, new BatchedRequest(key, null, requestId))
                 .thenApplyAsync(x -> {
-                    try {
-                        TableSegmentEntry first = x.get(0);
-                        if (first.getKey().getVersion().equals(TableSegmentKeyVersion.NOT_EXISTS)) {
-                            throw StoreException.create(StoreException.Type.DATA_NOT_FOUND, String.format(message, key, tableName));
-                        } else {
-                            log.trace(requestId, "returning entry for : {} key : {} with version {}", tableName, key,
-                                    first.getKey().getVersion().getSegmentVersion());
-
-                            T deserialized = fromBytes.apply(getArray(first.getValue()));
-
-                            return new VersionedMetadata<>(deserialized,
-                                    new Version.LongVersion(first.getKey().getVersion().getSegmentVersion()));
-                        }
-                    } finally {
-                        releaseEntries(x);
+                    if (x == null) {
+                        throw StoreException.create(StoreException.Type.DATA_NOT_FOUND, String.format(message, key, tableName));
+                    } else {
+                        log.trace(requestId, "returning entry for : {} key : {} with version {}", tableName, key,
+                                x.getVersion().asLongVersion().getLongValue());
+                        return x;
                     }
                 }, executor)
                 .whenCompleteAsync((r, e) -> {
-                    releaseKeys(keys);
                     if (e != null) {
                         result.completeExceptionally(e);
                     } else {
@@ -495,9 +515,10 @@ public class PravegaTablesStoreHelper {
             return CompletableFuture.completedFuture(getVersionedMetadata(cached));
         } else {
             long time = System.currentTimeMillis();
-            return getEntry(tableName, key, fromBytes, requestId)
-                    .thenApply(r -> {
-                        putInCache(tableName, key, r, time);
+            return readEntry(tableName, key, requestId)
+                    .thenApply(x -> {
+                        VersionedMetadata<T> r = new VersionedMetadata<>(fromBytes.apply(x.getObject()), x.getVersion());
+                        putInCache(tableName, key, r, time, x.getObject().length);
                         return r;
                     });
         }
@@ -536,10 +557,10 @@ public class PravegaTablesStoreHelper {
                             if (entry.getKey().getVersion().equals(TableSegmentKeyVersion.NOT_EXISTS)) {
                                 list.add(nonExistent);
                             } else {
-                                VersionedMetadata<T> tVersionedMetadata = new VersionedMetadata<>(
-                                        fromBytes.apply(getArray(entry.getValue())),
+                                byte[] bytes = getArray(entry.getValue());
+                                VersionedMetadata<T> tVersionedMetadata = new VersionedMetadata<>(fromBytes.apply(bytes),
                                         new Version.LongVersion(entry.getKey().getVersion().getSegmentVersion()));
-                                putInCache(tableName, keys.get(i), tVersionedMetadata, time);
+                                putInCache(tableName, keys.get(i), tVersionedMetadata, time, bytes.length);
                                 list.add(tVersionedMetadata);
                             }
                         }
@@ -676,10 +697,10 @@ public class PravegaTablesStoreHelper {
                     try {
                         List<Map.Entry<String, VersionedMetadata<T>>> items = result.getItems().stream().map(x -> {
                             String key = new String(getArray(x.getKey().getKey()), Charsets.UTF_8);
-                            T deserialized = fromBytes.apply(getArray(x.getValue()));
-                            VersionedMetadata<T> value = new VersionedMetadata<>(deserialized, new Version.LongVersion(
-                                    x.getKey().getVersion().getSegmentVersion()));
-                            putInCache(tableName, key, value, time);
+                            byte[] bytes = getArray(x.getValue());
+                            VersionedMetadata<T> value = new VersionedMetadata<>(fromBytes.apply(bytes), 
+                                    new Version.LongVersion(x.getKey().getVersion().getSegmentVersion()));
+                            putInCache(tableName, key, value, time, bytes.length);
                             return new AbstractMap.SimpleEntry<>(key, value);
                         }).collect(Collectors.toList());
                         log.trace(requestId, "get keys paginated on table {} returned number of items {}", tableName, items.size());
@@ -834,6 +855,49 @@ public class PravegaTablesStoreHelper {
                 });
     }
 
+    /**
+     * Reads a batch of keys from a table. Non-existent keys are returned as null.
+     */
+    private CompletableFuture<List<VersionedMetadata<byte[]>>> readBatch(String tableName, List<BatchedRequest> requests) {
+        long requestId = requests.get(0).getRequestId();
+        List<TableSegmentKey> keys = requests.stream().map(r -> TableSegmentKey.unversioned(r.getKey().getBytes(Charsets.UTF_8)))
+                                             .collect(Collectors.toList());
+        return withRetries(() -> segmentHelper.readTable(tableName, keys, authToken.get(), requestId),
+                () -> String.format("get entry: key: %s table: %s", getKeys(requests), tableName), requestId)
+                .thenApply(entries -> {
+                    try {
+                        List<VersionedMetadata<byte[]>> result = new ArrayList<>(entries.size());
+                        for (TableSegmentEntry entry : entries) {
+                            if (entry.getKey().getVersion().equals(TableSegmentKeyVersion.NOT_EXISTS)) {
+                                result.add(null);
+                            } else {
+                                result.add(new VersionedMetadata<>(getArray(entry.getValue()),
+                                        new Version.LongVersion(entry.getKey().getVersion().getSegmentVersion())));
+                            }
+                        }
+                        return result;
+                    } finally {
+                        releaseEntries(entries);
+                    }
+                })
+                .whenComplete((r, e) -> releaseKeys(keys));
+    }
+
+    /**
+     * Conditionally updates a batch of entries in a table. The entries are released by the callers.
+     */
+    private CompletableFuture<List<TableSegmentKeyVersion>> updateBatch(String tableName, List<BatchedRequest> requests) {
+        long requestId = requests.get(0).getRequestId();
+        List<TableSegmentEntry> entries = requests.stream().map(BatchedRequest::getEntry).collect(Collectors.toList());
+        return withRetries(() -> segmentHelper.updateTableEntries(tableName, entries, authToken.get(), requestId),
+                () -> String.format("updateEntry: key: %s table: %s", getKeys(requests), tableName), true, requestId);
+    }
+
+    private Object getKeys(List<BatchedRequest> requests) {
+        return requests.size() == 1 ? requests.get(0).getKey() 
+                : requests.stream().map(BatchedRequest::getKey).collect(Collectors.toList());
+    }
+
     byte[] getArray(ByteBuf buf) {
         final byte[] bytes = new byte[buf.readableBytes()];
         final int readerIndex = buf.readerIndex();
@@ -0,0 +1,224 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.Futures;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Coalesces concurrent requests against the same table segment into batches, so that they are sent to the segment store
+ * with a single wire command.
+ * <p>
+ * At most a fixed number of batches per table are outstanding at any time. A request against a table with fewer
+ * outstanding batches than that is sent immediately (so there is no added latency when there is no contention), while
+ * requests that arrive while all of them are outstanding are queued and sent together as soon as one completes.
+ * <p>
+ * Each request gets its own result. If a batch fails with an error that may be caused by only some of its requests (e.g.,
+ * a conditional update with a stale version fails the whole batch), each request in it is retried on its own so that
+ * it gets its own outcome.
+ * <p>
+ * If a key extractor is provided, no two requests for the same key are ever put in the same batch: a batch is cut short
+ * at the first request whose key is already in it. Conditional updates in a single batch are all validated against the
+ * state that precedes the batch, so two updates of the same key with the same version would otherwise both succeed.
+ *
+ * @param <RequestT> Type of the requests.
+ * @param <ResultT>  Type of the result of each request.
+ */
+class TableRequestBatcher<RequestT, ResultT> {
+    private final BiFunction<String, List<RequestT>, CompletableFuture<List<ResultT>>> processor;
+    private final Predicate<Throwable> isPerRequestFailure;
+    private final Function<RequestT, ?> keyExtractor;
+    private final int maxBatchSize;
+    private final int maxInFlightBatches;
+    private final Executor executor;
+    @GuardedBy("tables")
+    private final Map<String, TableState> tables = new HashMap<>();
+
+    /**
+     * Creates a new instance of the TableRequestBatcher class.
+     *
+     * @param processor           Function that processes a batch of requests against a table. The returned list of results
+     *                            must be in the same order as the requests.
+     * @param isPerRequestFailure Predicate that indicates whether a batch failure may be caused by only some of the
+     *                            requests in it, in which case each request is processed on its own.
+     * @param maxBatchSize        The maximum number of requests in a single batch.
+     * @param maxInFlightBatches  The maximum number of outstanding batches per table.
+     * @param executor            Executor to send follow-up batches on.
+     */
+    TableRequestBatcher(BiFunction<String, List<RequestT>, CompletableFuture<List<ResultT>>> processor,
+                        Predicate<Throwable> isPerRequestFailure, int maxBatchSize, int maxInFlightBatches, Executor executor) {
+        this(processor, isPerRequestFailure, null, maxBatchSize, maxInFlightBatches, executor);
+    }
+
+    /**
+     * Creates a new instance of the TableRequestBatcher class.
+     *
+     * @param processor           Function that processes a batch of requests against a table. The returned list of results
+     *                            must be in the same order as the requests.
+     * @param isPerRequestFailure Predicate that indicates whether a batch failure may be caused by only some of the
+     *                            requests in it, in which case each request is processed on its own.
+     * @param keyExtractor        Function that returns the key a request refers to. No two requests with equal keys
+     *                            will be put in the same batch. If null, requests are batched regardless of their keys.
+     * @param maxBatchSize        The maximum number of requests in a single batch.
+     * @param maxInFlightBatches  The maximum number of outstanding batches per table.
+     * @param executor            Executor to send follow-up batches on.
+     */
+    TableRequestBatcher(BiFunction<String, List<RequestT>, CompletableFuture<List<ResultT>>> processor,
+                        Predicate<Throwable> isPerRequestFailure, Function<RequestT, ?> keyExtractor, int maxBatchSize,
+                        int maxInFlightBatches, Executor executor) {
+        Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be a positive number.");
+        Preconditions.checkArgument(maxInFlightBatches > 0, "maxInFlightBatches must be a positive number.");
+        this.processor = processor;
+        this.isPerRequestFailure = isPerRequestFailure;
+        this.keyExtractor = keyExtractor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.executor = executor;
+    }
+
+    /**
+     * Adds a request against the given table.
+     *
+     * @param tableName The name of the table.
+     * @param request   The request.
+     * @return A CompletableFuture that will be completed with the result of the request.
+     */
+    CompletableFuture<ResultT> add(String tableName, RequestT request) {
+        PendingRequest pending = new PendingRequest(request);
+        List<PendingRequest> batch = null;
+        synchronized (tables) {
+            TableState state = tables.computeIfAbsent(tableName, t -> new TableState());
+            if (state.inFlight < maxInFlightBatches) {
+                // Not all the batches for this table are outstanding (hence nothing is queued). Send this request right away.
+                state.inFlight++;
+                batch = Collections.singletonList(pending);
+            } else {
+                state.queue.add(pending);
+            }
+        }
+
+        if (batch != null) {
+            send(tableName, batch);
+        }
+        return pending.result;
+    }
+
+    private void send(String tableName, List<PendingRequest> batch) {
+        process(tableName, batch)
+                .whenComplete((r, e) -> {
+                    // Whatever the outcome, send the next batch for this table in place of this one, if any.
+                    List<PendingRequest> next = null;
+                    synchronized (tables) {
+                        TableState state = tables.get(tableName);
+                        if (!state.queue.isEmpty()) {
+                            next = pollBatch(state.queue);
+                        } else if (--state.inFlight == 0) {
+                            tables.remove(tableName);
+                        }
+                    }
+
+                    if (next != null) {
+                        List<PendingRequest> toSend = next;
+                        executor.execute(() -> send(tableName, toSend));
+                    }
+                });
+    }
+
+    @GuardedBy("tables")
+    private List<PendingRequest> pollBatch(Queue<PendingRequest> queue) {
+        List<PendingRequest> batch = new ArrayList<>(Math.min(queue.size(), maxBatchSize));
+        Set<Object> keys = keyExtractor == null ? null : new HashSet<>();
+        while (!queue.isEmpty() && batch.size() < maxBatchSize) {
+            // Stop at the first duplicate key; it (and everything after it) goes in the next batch.
+            if (keys != null && !keys.add(keyExtractor.apply(queue.peek().request))) {
+                break;
+            }
+            batch.add(queue.poll());
+        }
+        return batch;
+    }
+
+    private CompletableFuture<Void> process(String tableName, List<PendingRequest> batch) {
+        List<RequestT> requests = new ArrayList<>(batch.size());
+        batch.forEach(p -> requests.add(p.request));
+        return invoke(tableName, requests)
+                .handle((results, e) -> {
+                    if (e == null) {
+                        for (int i = 0; i < batch.size(); i++) {
+                            batch.get(i).result.complete(results.get(i));
+                        }
+                        return CompletableFuture.<Void>completedFuture(null);
+                    } else if (batch.size() > 1 && isPerRequestFailure.test(e)) {
+                        // Find out which of the requests caused the failure.
+                        return Futures.allOf(batch.stream()
+                                                  .map(p -> processSingle(tableName, p))
+                                                  .collect(Collectors.toList()));
+                    } else {
+                        batch.forEach(p -> p.result.completeExceptionally(e));
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                })
+                .thenCompose(f -> f);
+    }
+
+    private CompletableFuture<Void> processSingle(String tableName, PendingRequest pending) {
+        return invoke(tableName, Collections.singletonList(pending.request))
+                .handle((results, e) -> {
+                    if (e == null) {
+                        pending.result.complete(results.get(0));
+                    } else {
+                        pending.result.completeExceptionally(e);
+                    }
+                    return null;
+                });
+    }
+
+    private CompletableFuture<List<ResultT>> invoke(String tableName, List<RequestT> requests) {
+        try {
+            return processor.apply(tableName, requests);
+        } catch (Exception e) {
+            return Futures.failedFuture(e);
+        }
+    }
+
+    private class TableState {
+        private final Queue<PendingRequest> queue = new ArrayDeque<>();
+        private int inFlight;
+    }
+
+    @RequiredArgsConstructor
+    private class PendingRequest {
+        private final RequestT request;
+        private final CompletableFuture<ResultT> result = new CompletableFuture<>();
+    }
+}
@@ -39,6 +39,20 @@ public interface HostControllerStore {
      * @throws HostStoreException   On error while updating the Map.
      */
     void updateHostContainersMap(Map<Host, Set<Integer>> newMapping);
+
+    /**
+     * Registers a listener to be invoked every time the host to container map changes.
+     *
+     * @param listener The listener to invoke.
+     */
+    void addHostContainersMapListener(Runnable listener);
+
+    /**
+     * Unregisters a listener previously registered with {@link #addHostContainersMapListener}.
+     *
+     * @param listener The listener to unregister.
+     */
+    void removeHostContainersMapListener(Runnable listener);
     
     /**
      * Return the total number of segment containers present in the system.
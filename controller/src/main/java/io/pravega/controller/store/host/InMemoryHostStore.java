@@ -17,12 +17,15 @@ package io.pravega.controller.store.host;
 
 import com.google.common.base.Preconditions;
 import io.pravega.common.cluster.Host;
+import io.pravega.common.function.Callbacks;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.segment.SegmentToContainerMapper;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class InMemoryHostStore implements HostControllerStore {
     private Map<Host, Set<Integer>> hostContainerMap;
     private final SegmentToContainerMapper segmentMapper;
+    private final List<Runnable> mapListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates an in memory based host store. The data is not persisted across restarts. Useful for dev and single node
@@ -55,6 +59,19 @@ public class InMemoryHostStore implements HostControllerStore {
     public void updateHostContainersMap(Map<Host, Set<Integer>> newMapping) {
         Preconditions.checkNotNull(newMapping, "newMapping");
         hostContainerMap = new HashMap<>(newMapping);
+        mapListeners.forEach(listener -> Callbacks.invokeSafely(listener::run,
+                ex -> log.warn("Host container map listener failed.", ex)));
+    }
+
+    @Override
+    public void addHostContainersMapListener(Runnable listener) {
+        Preconditions.checkNotNull(listener, "listener");
+        mapListeners.add(listener);
+    }
+
+    @Override
+    public void removeHostContainersMapListener(Runnable listener) {
+        mapListeners.remove(listener);
     }
 
     private Host getHostForContainer(int containerId) {
@@ -19,12 +19,15 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.cluster.Host;
 import io.pravega.common.cluster.HostContainerMap;
+import io.pravega.common.function.Callbacks;
 import io.pravega.controller.util.ZKUtils;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.SneakyThrows;
 import lombok.Synchronized;
@@ -63,6 +66,8 @@ public class ZKHostStore implements HostControllerStore {
      * The tests can add listeners to get notification when the update has happened in the store.
      */
     private final AtomicReference<Listener> listenerRef;
+
+    private final List<Runnable> mapListeners = new CopyOnWriteArrayList<>();
     /**
      * Zookeeper based host store implementation.
      *
@@ -99,6 +104,8 @@ public class ZKHostStore implements HostControllerStore {
     @Synchronized
     private void updateMap() {
         hostContainerMap.set(HostContainerMap.fromBytes(hostContainerMapNode.getCurrentData().getData()));
+        mapListeners.forEach(listener -> Callbacks.invokeSafely(listener::run,
+                ex -> log.warn("Host container map listener failed.", ex)));
         // Following signal is meant only for testing
         Listener consumer = listenerRef.get();
         if (consumer != null) {
@@ -126,6 +133,18 @@ public class ZKHostStore implements HostControllerStore {
         }
     }
 
+    @Override
+    public void addHostContainersMapListener(Runnable listener) {
+        Preconditions.checkNotNull(listener, "listener");
+        tryInit();
+        mapListeners.add(listener);
+    }
+
+    @Override
+    public void removeHostContainersMapListener(Runnable listener) {
+        mapListeners.remove(listener);
+    }
+
     private Host getHostForContainer(int containerId) {
         tryInit();
 
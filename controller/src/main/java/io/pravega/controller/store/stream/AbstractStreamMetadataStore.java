@@ -52,6 +52,7 @@ import io.pravega.controller.store.stream.records.WriterMark;
 import io.pravega.controller.store.task.TxnResource;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateScopeStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.DeleteScopeStatus;
+import io.pravega.controller.util.Config;
 import io.pravega.shared.controller.event.ControllerEvent;
 import io.pravega.shared.controller.event.ControllerEventSerializer;
 import lombok.Getter;
@@ -92,6 +93,12 @@ public abstract class AbstractStreamMetadataStore implements StreamMetadataStore
     private final LoadingCache<String, Scope> scopeCache;
     private final LoadingCache<Pair<String, String>, Stream> cache;
     private final LoadingCache<Pair<String, String>, ReaderGroup> rgCache;
+    /**
+     * Epoch indexes are shared by all stream objects of a stream, including the ones that are created afresh for every
+     * operation context, so that immutable epochs read by one operation are served from memory for subsequent ones.
+     * Each index is tied to the creation time of the stream and resets itself if the stream is recreated.
+     */
+    private final LoadingCache<Pair<String, String>, EpochIndex> epochIndexCache;
     private final HostIndex hostTxnIndex;
     @Getter
     private final HostIndex hostTaskIndex;
@@ -132,6 +139,18 @@ public abstract class AbstractStreamMetadataStore implements StreamMetadataStore
                             }
                         });
 
+        epochIndexCache = CacheBuilder.newBuilder()
+                .maximumSize(1000)
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .build(
+                        new CacheLoader<Pair<String, String>, EpochIndex>() {
+                            @Override
+                            @ParametersAreNonnullByDefault
+                            public EpochIndex load(Pair<String, String> input) {
+                                return new EpochIndex();
+                            }
+                        });
+
         scopeCache = CacheBuilder.newBuilder()
                 .maximumSize(1000)
                 .refreshAfterWrite(10, TimeUnit.MINUTES)
@@ -174,6 +193,15 @@ public abstract class AbstractStreamMetadataStore implements StreamMetadataStore
         return new StreamOperationContext(scope, stream, requestId);
     }
 
+    @Override
+    public OperationContext createReadOnlyStreamContext(String scopeName, String streamName, long requestId) {
+        Scope scope = getScope(scopeName, null);
+        Stream stream = getStream(scopeName, streamName, null);
+        // Records cached within the staleness window before the operation started are treated as valid.
+        return new StreamOperationContext(scope, stream, requestId,
+                System.currentTimeMillis() - Config.METADATA_CACHE_STALENESS_MILLIS);
+    }
+
     @Override
     public CompletableFuture<CreateStreamResponse> createStream(final String scope,
                                                    final String name,
@@ -210,7 +238,10 @@ public abstract class AbstractStreamMetadataStore implements StreamMetadataStore
                 .thenCompose(lastActiveSegment -> recordLastStreamSegment(scope, name, lastActiveSegment, context, executor)),
                 DATA_NOT_FOUND_PREDICATE, null)
                 .thenCompose(v -> Futures.completeOn(s.delete(context), executor))
-                      .thenAccept(v -> cache.invalidate(new ImmutablePair<>(scope, name)));
+                      .thenAccept(v -> {
+                          cache.invalidate(new ImmutablePair<>(scope, name));
+                          epochIndexCache.invalidate(new ImmutablePair<>(scope, name));
+                      });
     }
 
     @Override
@@ -1126,6 +1157,17 @@ public abstract class AbstractStreamMetadataStore implements StreamMetadataStore
         }
     }
 
+    /**
+     * Returns the epoch index shared by all stream objects of the given stream.
+     *
+     * @param scope scope name.
+     * @param name  stream name.
+     * @return epoch index of the stream.
+     */
+    EpochIndex getEpochIndex(String scope, String name) {
+        return epochIndexCache.getUnchecked(new ImmutablePair<>(scope, name));
+    }
+
     @VisibleForTesting
     void setStream(Stream stream) {
         cache.put(new ImmutablePair<>(stream.getScope(), stream.getName()), stream);
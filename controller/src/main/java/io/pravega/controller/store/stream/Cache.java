@@ -15,9 +15,12 @@
  */
 package io.pravega.controller.store.stream;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
+import io.pravega.controller.metrics.MetadataCacheMetrics;
 import io.pravega.controller.store.VersionedMetadata;
+import io.pravega.controller.util.Config;
 import lombok.Data;
 
 import java.util.concurrent.TimeUnit;
@@ -28,9 +31,16 @@ import java.util.concurrent.TimeUnit;
  * This cache has a logic to update a value into the cache if the new value is newer (higher version number)
  * than the existing value. 
  * This is achieved by doing a conditional update of cached values. 
+ * The cache is bounded by the (approximate) serialized size of the records in it. Callers should write through the
+ * cache after every successful conditional update and invalidate the key whenever an update fails, so that a cached
+ * record is never older than what this process knows to be in the store.
  */
 public class Cache {
-    private static final int MAX_CACHE_SIZE = 10000;
+    /**
+     * Size charged for records whose serialized size is not known.
+     */
+    @VisibleForTesting
+    static final int DEFAULT_RECORD_SIZE = 1024;
     private static final int KEY_PARTITION_COUNT = 100;
 
     private final com.google.common.cache.Cache<CacheKey, CacheValue> cache;
@@ -45,9 +55,17 @@ public class Cache {
     // By partitioning the cache, we actually increase the concurrency by not relying on a single lock to protect this 
     // cache class. 
     private final Object[] locks = new Object[KEY_PARTITION_COUNT];
+    private final MetadataCacheMetrics metrics = new MetadataCacheMetrics();
+
     public Cache() {
+        this(Config.METADATA_CACHE_SIZE_BYTES);
+    }
+
+    @VisibleForTesting
+    public Cache(long maxSizeBytes) {
         cache = CacheBuilder.newBuilder()
-                            .maximumSize(MAX_CACHE_SIZE)
+                            .maximumWeight(maxSizeBytes)
+                            .weigher((CacheKey k, CacheValue v) -> v.getSize())
                             .expireAfterAccess(2, TimeUnit.MINUTES)
                             .build();
         for (int i = 0; i < KEY_PARTITION_COUNT; i++) {
@@ -58,8 +76,10 @@ public class Cache {
     public VersionedMetadata<?> getCachedData(CacheKey key) {
         Cache.CacheValue value = cache.getIfPresent(key);
         if (value != null) {
+            metrics.cacheHit();
             return value.getValue();
         } else {
+            metrics.cacheMiss();
             return null;
         }
     }
@@ -67,8 +87,10 @@ public class Cache {
     public VersionedMetadata<?> getCachedData(CacheKey key, long time) {
         Cache.CacheValue value = cache.getIfPresent(key);
         if (value != null && value.getTime() > time) {
+            metrics.cacheHit();
             return value.getValue();
         } else {
+            metrics.cacheMiss();
             return null;
         }
     }
@@ -80,6 +102,18 @@ public class Cache {
     }
     
     public void put(CacheKey cacheKey, VersionedMetadata<?> record, long time) {
+        put(cacheKey, record, time, DEFAULT_RECORD_SIZE);
+    }
+
+    /**
+     * Puts the record in the cache, unless the cache already holds a newer version of it.
+     *
+     * @param cacheKey  Cache key.
+     * @param record    Record to cache.
+     * @param time      Time at which the record was read from (or written to) the store.
+     * @param sizeBytes Serialized size of the record. Used to bound the memory used by the cache.
+     */
+    public void put(CacheKey cacheKey, VersionedMetadata<?> record, long time, int sizeBytes) {
         Preconditions.checkNotNull(record, "Null record cannot be put in cache");
         // acquire the lock for key partition. Then perform a conditional update - get, compare and swap.
         // condition for update => if either the entry doesnt exist in cache. OR the entry in cache is older (lower key version)
@@ -87,7 +121,7 @@ public class Cache {
         synchronized (getLockObject(cacheKey)) {
             Cache.CacheValue existing = cache.getIfPresent(cacheKey);
             if (existing == null || record.getVersion().compareTo(existing.getValue().getVersion()) > 0) {
-                cache.put(cacheKey, new CacheValue(record, time));
+                cache.put(cacheKey, new CacheValue(record, time, sizeBytes));
             }
         }
     }
@@ -107,5 +141,6 @@ public class Cache {
     static class CacheValue {
         private final VersionedMetadata<?> value;
         private final long time;
+        private final int size;
     }
 }
@@ -0,0 +1,282 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.stream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.pravega.controller.store.stream.records.EpochRecord;
+import io.pravega.controller.store.stream.records.StreamSegmentRecord;
+import io.pravega.shared.NameUtils;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * In memory index over a contiguous window of epochs of a stream.
+ * Only epochs up to the active epoch are added to the index. Such epochs are immutable, so once read from the history
+ * time series they can be served from memory for all subsequent stream cut range queries. The window is extended
+ * incrementally in either direction as queries need more epochs, so that a stream with a long history is only
+ * deserialized once for the epochs that are actually queried.
+ * Alongside the epochs, the index tracks, for each segment sealed within the window, the last epoch in which it was
+ * present. This gives the span of a segment in a stream cut without scanning through epochs. Sealed segment sizes are
+ * immutable too and are remembered once read from the sealed segments map shards.
+ * The window holds at most {@link #MAX_EPOCHS} epochs and at most {@link #MAX_SEALED_SIZES} sealed segment sizes are
+ * remembered. When the window grows beyond its limit, epochs are dropped from the end opposite to the one being
+ * extended; the oldest sealed sizes are dropped first.
+ * All state is tied to the creation time of the stream, and is discarded if a stream with the same name is recreated.
+ */
+class EpochIndex {
+    static final int MAX_EPOCHS = 1000;
+    static final int MAX_SEALED_SIZES = 10000;
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private long creationTime = Long.MIN_VALUE;
+    @GuardedBy("lock")
+    private int firstEpoch = 0;
+    @GuardedBy("lock")
+    private final ArrayList<EpochRecord> epochs = new ArrayList<>();
+    /**
+     * Segment id to the last epoch in the window that contains the segment, for segments sealed within the window.
+     */
+    @GuardedBy("lock")
+    private final Map<Long, Integer> lastEpochOfSegment = new HashMap<>();
+    @GuardedBy("lock")
+    private final Map<Long, Long> sealedSizes = new LinkedHashMap<Long, Long>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_SEALED_SIZES;
+        }
+    };
+
+    /**
+     * Returns the indexed epochs between fromEpoch and toEpoch, both inclusive.
+     *
+     * @param creationTime creation time of the stream.
+     * @param fromEpoch    first epoch.
+     * @param toEpoch      last epoch.
+     * @return list of epoch records or null if the range is not fully indexed.
+     */
+    List<EpochRecord> getEpochs(long creationTime, int fromEpoch, int toEpoch) {
+        synchronized (lock) {
+            checkCreationTime(creationTime);
+            if (epochs.isEmpty() || fromEpoch < firstEpoch || toEpoch > getLastEpoch()) {
+                return null;
+            }
+            return ImmutableList.copyOf(epochs.subList(fromEpoch - firstEpoch, toEpoch - firstEpoch + 1));
+        }
+    }
+
+    /**
+     * Returns the ranges of epochs between fromEpoch and toEpoch that need to be read in order to extend the index to
+     * cover the whole range. The returned ranges are inclusive of both ends and are always contiguous with the indexed
+     * window, unless the index is empty or the requested range is disjoint from it, in which case the whole range is
+     * returned.
+     *
+     * @param creationTime creation time of the stream.
+     * @param fromEpoch    first epoch.
+     * @param toEpoch      last epoch.
+     * @return list of missing epoch ranges.
+     */
+    List<Map.Entry<Integer, Integer>> getMissingRanges(long creationTime, int fromEpoch, int toEpoch) {
+        synchronized (lock) {
+            checkCreationTime(creationTime);
+            if (epochs.isEmpty() || fromEpoch > getLastEpoch() + 1 || toEpoch < firstEpoch - 1) {
+                return Collections.singletonList(new SimpleEntry<>(fromEpoch, toEpoch));
+            }
+            List<Map.Entry<Integer, Integer>> missing = new ArrayList<>(2);
+            if (fromEpoch < firstEpoch) {
+                missing.add(new SimpleEntry<>(fromEpoch, firstEpoch - 1));
+            }
+            if (toEpoch > getLastEpoch()) {
+                missing.add(new SimpleEntry<>(getLastEpoch() + 1, toEpoch));
+            }
+            return missing;
+        }
+    }
+
+    /**
+     * Adds a contiguous range of immutable epochs to the index. If the range is adjacent to or overlaps with the
+     * indexed window, the window is extended. Otherwise the window is replaced by the supplied epochs.
+     *
+     * @param creationTime creation time of the stream.
+     * @param records      epoch records sorted by epoch, without gaps.
+     */
+    void addEpochs(long creationTime, List<EpochRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        int from = records.get(0).getEpoch();
+        int to = from + records.size() - 1;
+        if (records.get(records.size() - 1).getEpoch() != to || records.size() > MAX_EPOCHS) {
+            // not a contiguous range of epochs or wider than the window.
+            return;
+        }
+
+        synchronized (lock) {
+            checkCreationTime(creationTime);
+            if (epochs.isEmpty() || from > getLastEpoch() + 1 || to < firstEpoch - 1) {
+                epochs.clear();
+                lastEpochOfSegment.clear();
+                epochs.addAll(records);
+                firstEpoch = from;
+                indexSealedSegments(0, epochs.size() - 1);
+                return;
+            }
+
+            if (from < firstEpoch) {
+                int prepended = firstEpoch - from;
+                epochs.addAll(0, records.subList(0, prepended));
+                firstEpoch = from;
+                indexSealedSegments(0, prepended);
+                // keep the newly added epochs and drop the most recent ones.
+                trimTail();
+            }
+
+            int last = getLastEpoch();
+            if (to > last) {
+                epochs.addAll(records.subList(last + 1 - from, records.size()));
+                indexSealedSegments(last - firstEpoch, epochs.size() - 1);
+                // keep the newly added epochs and drop the oldest ones.
+                trimHead();
+            }
+        }
+    }
+
+    /**
+     * Computes the span of a stream cut, i.e. the highest epoch at or below the epoch of the most recent segment in
+     * the stream cut in which each segment of the stream cut is present.
+     * The supplied epochs should be the ones returned by {@link #getEpochs} for the epoch range of the stream cut.
+     *
+     * @param streamCut stream cut.
+     * @param records   epoch records from the oldest to the most recent segment of the stream cut.
+     * @return span of the stream cut or null if the supplied epochs are not (or no longer) served by this index.
+     */
+    ImmutableMap<StreamSegmentRecord, Integer> computeSpan(Map<Long, Long> streamCut, List<EpochRecord> records) {
+        if (records.isEmpty()) {
+            return null;
+        }
+        int from = records.get(0).getEpoch();
+        int to = records.get(records.size() - 1).getEpoch();
+        synchronized (lock) {
+            if (epochs.isEmpty() || from < firstEpoch || to > getLastEpoch()
+                    || epochs.get(from - firstEpoch) != records.get(0) || epochs.get(to - firstEpoch) != records.get(records.size() - 1)) {
+                return null;
+            }
+            int lastEpoch = getLastEpoch();
+            ImmutableMap.Builder<StreamSegmentRecord, Integer> builder = ImmutableMap.builder();
+            for (Long segmentId : streamCut.keySet()) {
+                int creationEpoch = NameUtils.getEpoch(segmentId);
+                if (creationEpoch < from || creationEpoch > to) {
+                    return null;
+                }
+                StreamSegmentRecord segment = epochs.get(creationEpoch - firstEpoch).getSegment(segmentId);
+                if (segment != null) {
+                    builder.put(segment, Math.min(lastEpochOfSegment.getOrDefault(segmentId, lastEpoch), to));
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Returns the size of a sealed segment if it was previously read.
+     *
+     * @param creationTime creation time of the stream.
+     * @param segmentId    segment id.
+     * @return size of the segment or null if it is not known.
+     */
+    Long getSealedSize(long creationTime, long segmentId) {
+        synchronized (lock) {
+            checkCreationTime(creationTime);
+            return sealedSizes.get(segmentId);
+        }
+    }
+
+    /**
+     * Remembers the size of a sealed segment.
+     *
+     * @param creationTime creation time of the stream.
+     * @param segmentId    segment id.
+     * @param size         size of the sealed segment.
+     */
+    void putSealedSize(long creationTime, long segmentId, long size) {
+        synchronized (lock) {
+            checkCreationTime(creationTime);
+            sealedSizes.put(segmentId, size);
+        }
+    }
+
+    @GuardedBy("lock")
+    private int getLastEpoch() {
+        return firstEpoch + epochs.size() - 1;
+    }
+
+    @GuardedBy("lock")
+    private void checkCreationTime(long streamCreationTime) {
+        if (creationTime != streamCreationTime) {
+            // stream was recreated. everything indexed so far belongs to the previous incarnation.
+            creationTime = streamCreationTime;
+            firstEpoch = 0;
+            epochs.clear();
+            lastEpochOfSegment.clear();
+            sealedSizes.clear();
+        }
+    }
+
+    @GuardedBy("lock")
+    private void trimHead() {
+        int excess = epochs.size() - MAX_EPOCHS;
+        if (excess > 0) {
+            epochs.subList(0, excess).clear();
+            firstEpoch += excess;
+            // segments sealed before the new first epoch are no longer part of the window.
+            lastEpochOfSegment.values().removeIf(epoch -> epoch < firstEpoch);
+        }
+    }
+
+    @GuardedBy("lock")
+    private void trimTail() {
+        int excess = epochs.size() - MAX_EPOCHS;
+        if (excess > 0) {
+            epochs.subList(epochs.size() - excess, epochs.size()).clear();
+            // segments still present in the new last epoch are not known to be sealed within the window.
+            int lastEpoch = getLastEpoch();
+            lastEpochOfSegment.values().removeIf(epoch -> epoch >= lastEpoch);
+        }
+    }
+
+    /**
+     * Records the last epoch of every segment that is sealed between two consecutive epochs in the given range of
+     * positions in the window.
+     */
+    @GuardedBy("lock")
+    private void indexSealedSegments(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            EpochRecord previous = epochs.get(i);
+            EpochRecord next = epochs.get(i + 1);
+            for (Long segmentId : previous.getSegmentIds()) {
+                if (!next.containsSegment(segmentId)) {
+                    lastEpochOfSegment.put(segmentId, previous.getEpoch());
+                }
+            }
+        }
+    }
+}
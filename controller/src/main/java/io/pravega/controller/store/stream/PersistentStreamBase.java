@@ -90,12 +90,18 @@ public abstract class PersistentStreamBase implements Stream {
     private final String name;
     private final AtomicInteger historyChunkSize;
     private final AtomicInteger shardSize;
+    private final EpochIndex epochIndex;
 
     PersistentStreamBase(final String scope, final String name, int historyChunkSize, int shardSize) {
+        this(scope, name, historyChunkSize, shardSize, new EpochIndex());
+    }
+
+    PersistentStreamBase(final String scope, final String name, int historyChunkSize, int shardSize, EpochIndex epochIndex) {
         this.scope = scope;
         this.name = name;
         this.historyChunkSize = new AtomicInteger(historyChunkSize);
         this.shardSize = new AtomicInteger(shardSize);
+        this.epochIndex = Preconditions.checkNotNull(epochIndex, "epochIndex");
     }
 
     @Override
@@ -189,7 +195,7 @@ public abstract class PersistentStreamBase implements Stream {
                         .thenCompose(epochs -> {
                             boolean isValid = isStreamCutValidInternal(streamCut, epochLow, epochs);
                             Exceptions.checkArgument(isValid, "streamCut", "invalid stream cut");
-                            ImmutableMap<StreamSegmentRecord, Integer> span = computeStreamCutSpanInternal(streamCut,
+                            ImmutableMap<StreamSegmentRecord, Integer> span = computeStreamCutSpan(streamCut,
                                     epochLow, epochHigh, epochs);
                             StreamTruncationRecord previous = existing.getObject();
                             // check greater than
@@ -579,7 +585,7 @@ public abstract class PersistentStreamBase implements Stream {
         CompletableFuture<List<EpochRecord>> records =
                 CompletableFuture.allOf(fromEpoch, toEpoch)
                                  .thenCompose(x -> {
-                                     // fetch epochs will fetch it from history time series. 
+                                     // fetch epochs will fetch it from history time series.
                                      // this will be efficient if fromEpoch and toEpoch are near each other.
                                      return fetchEpochs(fromEpoch.join(), toEpoch.join(), false, context);
                                  });
@@ -710,7 +716,7 @@ public abstract class PersistentStreamBase implements Stream {
         Preconditions.checkNotNull(context, "Operation context cannot be null");
         // read current epoch record
         return verifyLegalState(context)
-                .thenCompose(v -> getActiveEpochRecord(true, context).thenApply(EpochRecord::getSegments));
+                .thenCompose(v -> getActiveEpochRecord(false, context).thenApply(EpochRecord::getSegments));
     }
 
     @Override
@@ -812,26 +818,43 @@ public abstract class PersistentStreamBase implements Stream {
     CompletableFuture<Long> sizeBetweenStreamCuts(Map<Long, Long> streamCutFrom, Map<Long, Long> streamCutTo,
                                                           Set<StreamSegmentRecord> segmentsInBetween, OperationContext context) {
         Preconditions.checkNotNull(context, "Operation context cannot be null");
-        Map<Integer, List<StreamSegmentRecord>> shards =
-                segmentsInBetween.stream().collect(Collectors.groupingBy(x -> getShardNumber(x.segmentId())));
-        return Futures.allOfWithResults(
-                shards.entrySet().stream()
-                      .map(entry -> getSealedSegmentSizeMapShard(entry.getKey(), context)
-                              .thenApply(shardMap -> {
-                                  return entry.getValue().stream()
-                                              .collect(Collectors.toMap(x -> x, x -> {
-                                                  if (shardMap.getSize(x.segmentId()) == null) {
-                                                      return Long.MIN_VALUE;
-                                                  } else {
-                                                      return shardMap.getSize(x.segmentId());
-                                                  }
-                                              } ));
-                              }))
-                      .collect(Collectors.toList()))
-                      .thenApply(listOfMap -> {
-                          return listOfMap.stream().flatMap(s -> s.entrySet().stream())
-                                          .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-                      })
+        return getCreationTime(context).thenCompose(creationTime -> {
+            // sizes of sealed segments never change. so they are read from the sealed segments map shards only once
+            // and served from the epoch index afterwards.
+            Map<StreamSegmentRecord, Long> knownSizes = new HashMap<>();
+            List<StreamSegmentRecord> unknownSizes = new ArrayList<>();
+            segmentsInBetween.forEach(x -> {
+                Long size = epochIndex.getSealedSize(creationTime, x.segmentId());
+                if (size == null) {
+                    unknownSizes.add(x);
+                } else {
+                    knownSizes.put(x, size);
+                }
+            });
+            Map<Integer, List<StreamSegmentRecord>> shards =
+                    unknownSizes.stream().collect(Collectors.groupingBy(x -> getShardNumber(x.segmentId())));
+            return Futures.allOfWithResults(
+                    shards.entrySet().stream()
+                          .map(entry -> getSealedSegmentSizeMapShard(entry.getKey(), context)
+                                  .thenApply(shardMap -> {
+                                      return entry.getValue().stream()
+                                                  .collect(Collectors.toMap(x -> x, x -> {
+                                                      Long size = shardMap.getSize(x.segmentId());
+                                                      if (size == null) {
+                                                          return Long.MIN_VALUE;
+                                                      } else {
+                                                          epochIndex.putSealedSize(creationTime, x.segmentId(), size);
+                                                          return size;
+                                                      }
+                                                  } ));
+                                  }))
+                          .collect(Collectors.toList()))
+                          .thenApply(listOfMap -> {
+                              Map<StreamSegmentRecord, Long> sizes = new HashMap<>(knownSizes);
+                              listOfMap.forEach(sizes::putAll);
+                              return sizes;
+                          });
+        })
                       .thenApply(sizes -> {
                           AtomicLong sizeTill = new AtomicLong(0L);
                           sizes.forEach((segment, value) -> {
@@ -868,10 +891,17 @@ public abstract class PersistentStreamBase implements Stream {
         int epochHigh = NameUtils.getEpoch(mostRecent);
 
         return fetchEpochs(epochLow, epochHigh, true, context).thenApply(epochs ->  {
-            return computeStreamCutSpanInternal(streamCut, epochLow, epochHigh, epochs);
+            return computeStreamCutSpan(streamCut, epochLow, epochHigh, epochs);
         });
     }
 
+    private ImmutableMap<StreamSegmentRecord, Integer> computeStreamCutSpan(Map<Long, Long> streamCut, int epochLow,
+                                                                            int epochHigh, List<EpochRecord> epochs) {
+        // epochs served from the epoch index can be looked up by segment without scanning through them.
+        ImmutableMap<StreamSegmentRecord, Integer> span = epochIndex.computeSpan(streamCut, epochs);
+        return span != null ? span : computeStreamCutSpanInternal(streamCut, epochLow, epochHigh, epochs);
+    }
+
     private Long getMostRecent(Map<Long, Long> streamCut) {
         return streamCut.keySet().stream().max(Comparator.naturalOrder()).get();
     }
@@ -2342,22 +2372,53 @@ public abstract class PersistentStreamBase implements Stream {
     CompletableFuture<List<EpochRecord>> fetchEpochs(int fromEpoch, int toEpoch, boolean ignoreCache, OperationContext context) {
         Preconditions.checkNotNull(context, "operation context cannot be null");
 
+        return getActiveEpochRecord(ignoreCache, context)
+                .thenCompose(activeEpoch -> {
+                    int latestChunkNumber = activeEpoch.getEpoch() / historyChunkSize.get();
+                    if (toEpoch > activeEpoch.getEpoch() || toEpoch - fromEpoch + 1 > EpochIndex.MAX_EPOCHS) {
+                        // epochs after the active epoch may still be in the process of being created, so they are
+                        // never indexed. ranges wider than the index window are read directly as well.
+                        return fetchEpochsFromHistory(fromEpoch, toEpoch, latestChunkNumber, context);
+                    }
+                    // all epochs till the active epoch are immutable. serve them from the epoch index and only read
+                    // the epochs that are missing from it from the history time series.
+                    return getCreationTime(context).thenCompose(creationTime -> {
+                        List<EpochRecord> indexed = epochIndex.getEpochs(creationTime, fromEpoch, toEpoch);
+                        if (indexed != null) {
+                            return CompletableFuture.completedFuture(indexed);
+                        }
+                        List<Map.Entry<Integer, Integer>> missing = epochIndex.getMissingRanges(creationTime, fromEpoch, toEpoch);
+                        return Futures.allOf(missing.stream().map(range ->
+                                fetchEpochsFromHistory(range.getKey(), range.getValue(), latestChunkNumber, context)
+                                        .thenAccept(records -> epochIndex.addEpochs(creationTime, records)))
+                                                    .collect(Collectors.toList()))
+                                      .thenCompose(v -> {
+                                          List<EpochRecord> epochs = epochIndex.getEpochs(creationTime, fromEpoch, toEpoch);
+                                          // the index could have been reset concurrently, in which case we read
+                                          // the epochs without it.
+                                          return epochs != null ? CompletableFuture.completedFuture(epochs)
+                                                  : fetchEpochsFromHistory(fromEpoch, toEpoch, latestChunkNumber, context);
+                                      });
+                    });
+                });
+    }
+
+    private CompletableFuture<List<EpochRecord>> fetchEpochsFromHistory(int fromEpoch, int toEpoch, int latestChunkNumber,
+                                                                        OperationContext context) {
         // fetch history time series chunk corresponding to from.
         // read entries till either last entry or till to
         // if to is not in this chunk fetch the next chunk and read till to
         // keep doing this until all records till to have been read.
         // keep computing history record from history time series by applying delta on previous.
-        return getActiveEpochRecord(ignoreCache, context)
-                .thenApply(currentEpoch -> currentEpoch.getEpoch() / historyChunkSize.get())
-                .thenCompose(latestChunkNumber -> Futures.allOfWithResults(
-                        IntStream.range(fromEpoch / historyChunkSize.get(), toEpoch / historyChunkSize.get() + 1)
-                                 .mapToObj(i -> {
-                                     int firstEpoch = Math.max(i * historyChunkSize.get(), fromEpoch);
-
-                                     boolean ignoreCached = i >= latestChunkNumber;
-                                     return getEpochsFromHistoryChunk(i, firstEpoch, toEpoch, ignoreCached, context);
-                                 }).collect(Collectors.toList())))
-                .thenApply(c -> c.stream().flatMap(Collection::stream).collect(Collectors.toList()));
+        return Futures.allOfWithResults(
+                IntStream.range(fromEpoch / historyChunkSize.get(), toEpoch / historyChunkSize.get() + 1)
+                         .mapToObj(i -> {
+                             int firstEpoch = Math.max(i * historyChunkSize.get(), fromEpoch);
+
+                             boolean ignoreCached = i >= latestChunkNumber;
+                             return getEpochsFromHistoryChunk(i, firstEpoch, toEpoch, ignoreCached, context);
+                         }).collect(Collectors.toList()))
+                      .thenApply(c -> c.stream().flatMap(Collection::stream).collect(Collectors.toList()));
     }
 
     private CompletableFuture<List<EpochRecord>> getEpochsFromHistoryChunk(int chunk, int firstEpoch, int toEpoch,
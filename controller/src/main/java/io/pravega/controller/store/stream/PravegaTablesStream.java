@@ -134,8 +134,17 @@ class PravegaTablesStream extends PersistentStreamBase {
                         Supplier<Integer> currentBatchSupplier, 
                         BiFunction<Boolean, OperationContext, CompletableFuture<String>> streamsInScopeTableNameSupplier,
                         ScheduledExecutorService executor) {
+        this(scopeName, streamName, storeHelper, txnCommitOrderer, currentBatchSupplier, streamsInScopeTableNameSupplier,
+                new EpochIndex(), executor);
+    }
+
+    PravegaTablesStream(final String scopeName, final String streamName, PravegaTablesStoreHelper storeHelper,
+                        ZkOrderedStore txnCommitOrderer,
+                        Supplier<Integer> currentBatchSupplier,
+                        BiFunction<Boolean, OperationContext, CompletableFuture<String>> streamsInScopeTableNameSupplier,
+                        EpochIndex epochIndex, ScheduledExecutorService executor) {
         this(scopeName, streamName, storeHelper, txnCommitOrderer, currentBatchSupplier, HistoryTimeSeries.HISTORY_CHUNK_SIZE,
-                SealedSegmentsMapShard.SHARD_SIZE, streamsInScopeTableNameSupplier, executor);
+                SealedSegmentsMapShard.SHARD_SIZE, streamsInScopeTableNameSupplier, epochIndex, executor);
     }
 
     @VisibleForTesting
@@ -144,7 +153,16 @@ class PravegaTablesStream extends PersistentStreamBase {
                         Supplier<Integer> currentBatchSupplier, int chunkSize, int shardSize,
                         BiFunction<Boolean, OperationContext, CompletableFuture<String>> streamsInScopeTableNameSupplier, 
                         ScheduledExecutorService executor) {
-        super(scopeName, streamName, chunkSize, shardSize);
+        this(scopeName, streamName, storeHelper, txnCommitOrderer, currentBatchSupplier, chunkSize, shardSize,
+                streamsInScopeTableNameSupplier, new EpochIndex(), executor);
+    }
+
+    private PravegaTablesStream(final String scopeName, final String streamName, PravegaTablesStoreHelper storeHelper,
+                                ZkOrderedStore txnCommitOrderer,
+                                Supplier<Integer> currentBatchSupplier, int chunkSize, int shardSize,
+                                BiFunction<Boolean, OperationContext, CompletableFuture<String>> streamsInScopeTableNameSupplier,
+                                EpochIndex epochIndex, ScheduledExecutorService executor) {
+        super(scopeName, streamName, chunkSize, shardSize, epochIndex);
         this.storeHelper = storeHelper;
         this.txnCommitOrderer = txnCommitOrderer;
         this.currentBatchSupplier = currentBatchSupplier;
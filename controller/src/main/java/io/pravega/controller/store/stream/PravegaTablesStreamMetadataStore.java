@@ -125,7 +125,8 @@ public class PravegaTablesStreamMetadataStore extends AbstractStreamMetadataStor
     public OperationContext createStreamContext(String scopeName, String streamName, long requestId) {
         PravegaTablesScope scope = newScope(scopeName);
         Stream stream = new PravegaTablesStream(scopeName, streamName, storeHelper, orderer,
-                completedTxnGCRef.get()::getLatestBatch, scope::getStreamsInScopeTableName, executor);
+                completedTxnGCRef.get()::getLatestBatch, scope::getStreamsInScopeTableName,
+                getEpochIndex(scopeName, streamName), executor);
 
         return new StreamOperationContext(scope, stream, requestId);
     }
@@ -204,7 +205,8 @@ public class PravegaTablesStreamMetadataStore extends AbstractStreamMetadataStor
     @Override
     PravegaTablesStream newStream(final String scope, final String name) {
         return new PravegaTablesStream(scope, name, storeHelper, orderer, completedTxnGCRef.get()::getLatestBatch,
-                (x, y) -> ((PravegaTablesScope) getScope(scope, y)).getStreamsInScopeTableName(x, y), executor);
+                (x, y) -> ((PravegaTablesScope) getScope(scope, y)).getStreamsInScopeTableName(x, y),
+                getEpochIndex(scope, name), executor);
     }
 
     @Override
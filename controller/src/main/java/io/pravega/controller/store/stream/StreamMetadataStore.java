@@ -81,6 +81,20 @@ public interface StreamMetadataStore extends AutoCloseable {
      */
     OperationContext createStreamContext(final String scope, final String name, long requestId);
 
+    /**
+     * Method to create an operation context for a read only operation on a specific stream. Unlike a context created with
+     * {@link #createStreamContext}, it allows store requests to be served with records that were cached (i.e., read from
+     * or written to the store by this controller instance) shortly before the operation started. 
+     *
+     * @param scope Stream scope.
+     * @param name  Stream name.
+     * @param requestId requestId.
+     * @return Return a streamContext
+     */
+    default OperationContext createReadOnlyStreamContext(final String scope, final String name, long requestId) {
+        return createStreamContext(scope, name, requestId);
+    }
+
     /**
      * Creates a new stream with the given name and configuration.
      *
@@ -28,5 +28,9 @@ class StreamOperationContext implements OperationContext {
     @Getter
     private final long requestId;
     @Getter
-    private final long operationStartTime = System.currentTimeMillis();
+    private final long operationStartTime;
+
+    StreamOperationContext(Scope scope, Stream stream, long requestId) {
+        this(scope, stream, requestId, System.currentTimeMillis());
+    }
 }
@@ -105,6 +105,7 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -116,10 +117,13 @@ import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -143,6 +147,7 @@ public class StreamMetadataTasks extends TaskBase {
     private static final int READER_GROUP_OPERATION_MAX_RETRIES = 10;
     private static final int SCOPE_DELETION_MAX_RETRIES = 10;
     private static final long READER_GROUP_SEGMENT_ROLLOVER_SIZE_BYTES = 4 * 1024 * 1024; // 4MB
+    private static final int BULK_OPERATION_PARALLELISM = 50;
     private final AtomicLong retentionFrequencyMillis;
 
     private final StreamMetadataStore streamMetadataStore;
@@ -1657,6 +1662,152 @@ public class StreamMetadataTasks extends TaskBase {
                 .thenApply(x -> !x);
     }
 
+    /**
+     * Creates the given stream unless it already exists (or is past the CREATING state), and reports the outcome to
+     * {@link StreamMetrics}.
+     *
+     * @param scope           scope.
+     * @param stream          stream name.
+     * @param config          stream configuration.
+     * @param createTimestamp creation timestamp.
+     * @param requestId       requestId.
+     * @return CompletableFuture which when completed will have the creation status of the stream.
+     */
+    public CompletableFuture<CreateStreamStatus.Status> createStreamIfAbsent(String scope, String stream, StreamConfiguration config,
+                                                                             long createTimestamp, long requestId) {
+        Timer timer = new Timer();
+        return Futures.exceptionallyExpecting(streamMetadataStore.getState(scope, stream, true, null, executor),
+                        e -> Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException, State.UNKNOWN)
+                .thenCompose(state -> {
+                    if (state.equals(State.UNKNOWN) || state.equals(State.CREATING)) {
+                        return createStreamRetryOnLockFailure(scope, stream, config, createTimestamp, 10, requestId)
+                                .thenApplyAsync(status -> {
+                                    if (status.equals(CreateStreamStatus.Status.SUCCESS)) {
+                                        StreamMetrics.getInstance().createStream(scope, stream,
+                                                config.getScalingPolicy().getMinNumSegments(), timer.getElapsed());
+                                    } else if (status.equals(CreateStreamStatus.Status.FAILURE)) {
+                                        StreamMetrics.getInstance().createStreamFailed(scope, stream);
+                                    }
+                                    return status;
+                                }, executor);
+                    } else {
+                        log.info(requestId, "Stream {} already exists ", NameUtils.getScopedStreamName(scope, stream));
+                        return CompletableFuture.completedFuture(CreateStreamStatus.Status.STREAM_EXISTS);
+                    }
+                });
+    }
+
+    /**
+     * Creates several streams in the same scope. Up to {@code BULK_OPERATION_PARALLELISM} streams are created
+     * concurrently, each through {@link #createStreamIfAbsent}. Segment creation is not batched across streams: every
+     * stream creates its own segments. The returned future only completes once every stream has been processed;
+     * progress is logged as streams complete.
+     *
+     * @param scope           scope.
+     * @param streams         map of stream name to the configuration to create it with.
+     * @param createTimestamp creation timestamp.
+     * @param requestId       requestId.
+     * @return CompletableFuture which when completed will have the creation status of each stream.
+     */
+    public CompletableFuture<Map<String, CreateStreamStatus.Status>> createStreams(String scope, Map<String, StreamConfiguration> streams,
+                                                                                   long createTimestamp, long requestId) {
+        return executeBulk("createStreams", scope, streams.keySet(), stream -> {
+            try {
+                NameUtils.validateStreamName(stream);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return CompletableFuture.completedFuture(CreateStreamStatus.Status.INVALID_STREAM_NAME);
+            }
+            return createStreamIfAbsent(scope, stream, streams.get(stream), createTimestamp, requestId);
+        }, CreateStreamStatus.Status.FAILURE, requestId);
+    }
+
+    /**
+     * Seals and deletes several streams in the same scope. Up to {@code BULK_OPERATION_PARALLELISM} streams are
+     * processed concurrently. The returned future only completes once every stream has been processed; progress is
+     * logged as streams complete.
+     *
+     * @param scope     scope.
+     * @param streams   names of the streams to delete.
+     * @param requestId requestId.
+     * @return CompletableFuture which when completed will have the deletion status of each stream.
+     */
+    public CompletableFuture<Map<String, DeleteStreamStatus.Status>> deleteStreams(String scope, Collection<String> streams,
+                                                                                   long requestId) {
+        return executeBulk("deleteStreams", scope, streams, stream -> {
+            Timer timer = new Timer();
+            return sealStream(scope, stream, requestId)
+                    .thenCompose(sealStatus -> {
+                        switch (sealStatus) {
+                            case SUCCESS:
+                            case STREAM_SEALED:
+                                return deleteStream(scope, stream, requestId);
+                            case STREAM_NOT_FOUND:
+                            case SCOPE_NOT_FOUND:
+                                return CompletableFuture.completedFuture(DeleteStreamStatus.Status.STREAM_NOT_FOUND);
+                            default:
+                                return CompletableFuture.completedFuture(DeleteStreamStatus.Status.FAILURE);
+                        }
+                    })
+                    .thenApply(status -> {
+                        if (status.equals(DeleteStreamStatus.Status.SUCCESS)) {
+                            StreamMetrics.getInstance().deleteStream(scope, stream, timer.getElapsed());
+                        } else if (status.equals(DeleteStreamStatus.Status.FAILURE)) {
+                            StreamMetrics.getInstance().deleteStreamFailed(scope, stream);
+                        }
+                        return status;
+                    });
+        }, DeleteStreamStatus.Status.FAILURE, requestId);
+    }
+
+    /**
+     * Applies the given operation to each of the given streams, running at most {@code BULK_OPERATION_PARALLELISM} of
+     * them at any given time.
+     *
+     * @param operation     name of the bulk operation, for logging.
+     * @param scope         scope.
+     * @param streams       names of the streams to apply the operation to.
+     * @param task          the operation to apply to each stream.
+     * @param failureStatus the status to record for a stream whose operation failed exceptionally.
+     * @param requestId     requestId.
+     * @param <T>           type of the per-stream status.
+     * @return CompletableFuture which when completed will have the status of each stream.
+     */
+    private <T> CompletableFuture<Map<String, T>> executeBulk(String operation, String scope, Collection<String> streams,
+                                                             Function<String, CompletableFuture<T>> task, T failureStatus,
+                                                             long requestId) {
+        final Map<String, T> result = new ConcurrentHashMap<>();
+        final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>(streams);
+        final int total = pending.size();
+        final int progressInterval = Math.max(1, total / 10);
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        log.info(requestId, "{}: starting on {} streams in scope {}.", operation, total, scope);
+        List<CompletableFuture<Void>> workers = IntStream.range(0, Math.min(total, BULK_OPERATION_PARALLELISM))
+                .mapToObj(i -> Futures.loop(() -> !pending.isEmpty(), () -> {
+                    String stream = pending.poll();
+                    if (stream == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return Futures.completeOn(CompletableFuture.completedFuture(stream).thenCompose(task), executor)
+                            .handle((status, e) -> {
+                                if (e != null) {
+                                    log.warn(requestId, "{}: failed for stream {}.", operation,
+                                            NameUtils.getScopedStreamName(scope, stream), e);
+                                    failed.incrementAndGet();
+                                }
+                                result.put(stream, e == null ? status : failureStatus);
+                                int done = completed.incrementAndGet();
+                                if (done % progressInterval == 0 || done == total) {
+                                    log.info(requestId, "{}: {}/{} streams in scope {} processed ({} failed).",
+                                            operation, done, total, scope, failed.get());
+                                }
+                                return null;
+                            });
+                }, executor))
+                .collect(Collectors.toList());
+        return Futures.allOf(workers).thenApply(v -> result);
+    }
+
 
     /**
      * Helper method to perform scale operation against an scale request.
@@ -2039,8 +2190,13 @@ public class StreamMetadataTasks extends TaskBase {
 
     public CompletableFuture<Map<Long, List<Long>>> mergeTxnSegmentsIntoStreamSegments(final String scope, final String stream,
                                                                                        final List<Long> segments, final List<UUID> txnIds, long requestId) {
+        // Merges are first attempted together, pipelined per segment store. Any segment whose merge fails is then
+        // retried on its own.
+        Map<Long, CompletableFuture<List<Long>>> merged = segmentHelper.mergeTxnSegments(scope, stream, segments, txnIds,
+                this.retrieveDelegationToken(), requestId);
         return Futures.allOfWithResults(segments.stream()
-                        .collect(Collectors.toMap(segId -> segId, segId -> mergeTxnSegments(scope, stream, segId, txnIds, requestId))));
+                        .collect(Collectors.toMap(segId -> segId, segId -> Futures.exceptionallyComposeExpecting(
+                                merged.get(segId), e -> true, () -> mergeTxnSegments(scope, stream, segId, txnIds, requestId)))));
     }
 
     private CompletableFuture<List<Long>> mergeTxnSegments(final String scope, final String stream,
@@ -66,6 +66,24 @@ public final class Config {
     public static final Property<Integer> PROPERTY_MIN_REBALANCE_INTERVAL_SECONDS = Property.named(
             "rebalance.interval.seconds.min", 10, "minRebalanceIntervalSeconds");
 
+    public static final Property<Boolean> PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_ENABLED = Property.named(
+            "containerBalancer.loadAware.enable", false);
+
+    public static final Property<Integer> PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_MAX_MOVES = Property.named(
+            "containerBalancer.loadAware.moves.max", 2);
+
+    public static final Property<Integer> PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_INTERVAL_SECONDS = Property.named(
+            "containerBalancer.loadAware.interval.seconds", 300);
+
+    public static final Property<Integer> PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_PORT = Property.named(
+            "containerBalancer.loadAware.segmentStore.rest.port", 6061);
+
+    public static final Property<Boolean> PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_TLS_ENABLED = Property.named(
+            "containerBalancer.loadAware.segmentStore.rest.tls.enable", false);
+
+    public static final Property<Integer> PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_SCRAPE_INTERVAL_SECONDS = Property.named(
+            "containerBalancer.loadAware.scrape.interval.seconds", 60);
+
     public static final Property<Boolean> PROPERTY_REPLY_WITH_STACK_TRACE_ON_ERROR = Property.named(
             "request.replyWithStackTraceOnError.enable", false, "replyWithStackTraceOnError");
 
@@ -198,6 +216,30 @@ public final class Config {
     public static final Property<Integer> PROPERTY_WATERMARKING_THREAD_COUNT = Property.named(
             "watermarking.thread.count", 10, "watermarking.threadCount");
 
+    public static final Property<Integer> PROPERTY_WATERMARKING_CLIENT_CACHE_SIZE = Property.named(
+            "watermarking.client.cache.size", 500);
+
+    public static final Property<Integer> PROPERTY_METADATA_CACHE_SIZE_BYTES = Property.named(
+            "metadata.cache.size.bytes", 64 * 1024 * 1024);
+
+    public static final Property<Integer> PROPERTY_METADATA_CACHE_STALENESS_MILLIS = Property.named(
+            "metadata.cache.staleness.millis", 1000);
+
+    public static final Property<Integer> PROPERTY_EVENT_PROCESSOR_READ_BATCH_SIZE = Property.named(
+            "eventProcessor.read.batch.size", 10);
+
+    public static final Property<Integer> PROPERTY_COMMIT_EVENT_PROCESSOR_MAX_CONCURRENT = Property.named(
+            "eventProcessor.commit.concurrent.requests.max", 1000);
+
+    public static final Property<Integer> PROPERTY_ABORT_EVENT_PROCESSOR_MAX_CONCURRENT = Property.named(
+            "eventProcessor.abort.concurrent.requests.max", 1000);
+
+    public static final Property<Integer> PROPERTY_REQUEST_EVENT_PROCESSOR_MAX_CONCURRENT = Property.named(
+            "eventProcessor.request.concurrent.requests.max", 1000);
+
+    public static final Property<Integer> PROPERTY_KVT_EVENT_PROCESSOR_MAX_CONCURRENT = Property.named(
+            "eventProcessor.kvt.concurrent.requests.max", 1000);
+
     public static final Property<String> PROPERTY_SCALE_STREAM_NAME = Property.named(
             "scale.request.stream.name", "_requeststream", "scale.streamName");
 
@@ -233,6 +275,12 @@ public final class Config {
     public static final boolean HOST_MONITOR_ENABLED;
     public static final String CLUSTER_NAME;
     public static final int CLUSTER_MIN_REBALANCE_INTERVAL;
+    public static final boolean LOAD_AWARE_CONTAINER_BALANCER_ENABLED;
+    public static final int LOAD_AWARE_CONTAINER_BALANCER_MAX_MOVES;
+    public static final int LOAD_AWARE_CONTAINER_BALANCER_INTERVAL_SECONDS;
+    public static final int LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_PORT;
+    public static final boolean LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_TLS_ENABLED;
+    public static final int LOAD_AWARE_CONTAINER_BALANCER_SCRAPE_INTERVAL_SECONDS;
 
     // Security configuration
     public static final boolean AUTHORIZATION_ENABLED;
@@ -284,6 +332,18 @@ public final class Config {
     public static final int MINIMUM_WATERMARKING_FREQUENCY_IN_SECONDS;
     public static final int WATERMARKING_BUCKET_COUNT;
     public static final int WATERMARKING_THREAD_POOL_SIZE;
+    public static final int WATERMARKING_CLIENT_CACHE_SIZE;
+
+    // Metadata Cache Configuration
+    public static final int METADATA_CACHE_SIZE_BYTES;
+    public static final int METADATA_CACHE_STALENESS_MILLIS;
+
+    // Event Processor Configuration
+    public static final int EVENT_PROCESSOR_READ_BATCH_SIZE;
+    public static final int COMMIT_EVENT_PROCESSOR_MAX_CONCURRENT;
+    public static final int ABORT_EVENT_PROCESSOR_MAX_CONCURRENT;
+    public static final int REQUEST_EVENT_PROCESSOR_MAX_CONCURRENT;
+    public static final int KVT_EVENT_PROCESSOR_MAX_CONCURRENT;
 
     // Request Stream Configuration
     public static final String SCALE_STREAM_NAME;
@@ -324,6 +384,13 @@ public final class Config {
         HOST_MONITOR_ENABLED = p.getBoolean(PROPERTY_HOST_MONITORING_ENABLED);
         CLUSTER_NAME = p.get(PROPERTY_CLUSTER_NAME);
         CLUSTER_MIN_REBALANCE_INTERVAL = p.getInt(PROPERTY_MIN_REBALANCE_INTERVAL_SECONDS);
+        LOAD_AWARE_CONTAINER_BALANCER_ENABLED = p.getBoolean(PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_ENABLED);
+        LOAD_AWARE_CONTAINER_BALANCER_MAX_MOVES = p.getInt(PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_MAX_MOVES);
+        LOAD_AWARE_CONTAINER_BALANCER_INTERVAL_SECONDS = p.getInt(PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_INTERVAL_SECONDS);
+        LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_PORT = p.getInt(PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_PORT);
+        LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_TLS_ENABLED =
+                p.getBoolean(PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_SEGMENT_STORE_REST_TLS_ENABLED);
+        LOAD_AWARE_CONTAINER_BALANCER_SCRAPE_INTERVAL_SECONDS = p.getInt(PROPERTY_LOAD_AWARE_CONTAINER_BALANCER_SCRAPE_INTERVAL_SECONDS);
 
         AUTHORIZATION_ENABLED = p.getBoolean(PROPERTY_AUTH_ENABLED);
         USER_PASSWORD_FILE = p.get(PROPERTY_PWD_AUTH_HANDLER_ACCOUNTS_STORE);
@@ -365,6 +432,14 @@ public final class Config {
         MINIMUM_WATERMARKING_FREQUENCY_IN_SECONDS = p.getInt(PROPERTY_WATERMARKING_FREQUENCY_SECONDS);
         WATERMARKING_BUCKET_COUNT = p.getInt(PROPERTY_WATERMARKING_BUCKET_COUNT);
         WATERMARKING_THREAD_POOL_SIZE = p.getInt(PROPERTY_WATERMARKING_THREAD_COUNT);
+        WATERMARKING_CLIENT_CACHE_SIZE = p.getInt(PROPERTY_WATERMARKING_CLIENT_CACHE_SIZE);
+        METADATA_CACHE_SIZE_BYTES = p.getInt(PROPERTY_METADATA_CACHE_SIZE_BYTES);
+        METADATA_CACHE_STALENESS_MILLIS = p.getInt(PROPERTY_METADATA_CACHE_STALENESS_MILLIS);
+        EVENT_PROCESSOR_READ_BATCH_SIZE = p.getInt(PROPERTY_EVENT_PROCESSOR_READ_BATCH_SIZE);
+        COMMIT_EVENT_PROCESSOR_MAX_CONCURRENT = p.getInt(PROPERTY_COMMIT_EVENT_PROCESSOR_MAX_CONCURRENT);
+        ABORT_EVENT_PROCESSOR_MAX_CONCURRENT = p.getInt(PROPERTY_ABORT_EVENT_PROCESSOR_MAX_CONCURRENT);
+        REQUEST_EVENT_PROCESSOR_MAX_CONCURRENT = p.getInt(PROPERTY_REQUEST_EVENT_PROCESSOR_MAX_CONCURRENT);
+        KVT_EVENT_PROCESSOR_MAX_CONCURRENT = p.getInt(PROPERTY_KVT_EVENT_PROCESSOR_MAX_CONCURRENT);
         SCALE_STREAM_NAME = p.get(PROPERTY_SCALE_STREAM_NAME);
         SCALE_READER_GROUP = p.get(PROPERTY_SCALE_READER_GROUP);
         DUMP_STACK_ON_SHUTDOWN = p.getBoolean(PROPERTY_DUMP_STACK_ON_SHUTDOWN);
@@ -21,16 +21,19 @@ import io.pravega.client.admin.ReaderGroupManager;
 import io.pravega.client.segment.impl.Segment;
 import io.pravega.client.stream.EventPointer;
 import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventReadBatch;
 import io.pravega.client.stream.EventStreamReader;
 import io.pravega.client.stream.EventStreamWriter;
 import io.pravega.client.stream.Position;
 import io.pravega.client.stream.ReaderGroup;
+import io.pravega.client.stream.ReaderGroupMetrics;
 import io.pravega.client.stream.ReaderSegmentDistribution;
 import io.pravega.client.stream.ReinitializationRequiredException;
 import io.pravega.client.stream.impl.EventReadImpl;
 import io.pravega.client.stream.impl.PositionImpl;
 import io.pravega.client.stream.impl.SegmentWithRange;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.controller.MetricsTestUtil;
 import io.pravega.controller.eventProcessor.CheckpointConfig;
 import io.pravega.controller.eventProcessor.EventProcessorConfig;
 import io.pravega.controller.eventProcessor.EventProcessorGroupConfig;
@@ -41,8 +44,12 @@ import io.pravega.controller.mocks.EventStreamWriterMock;
 import io.pravega.controller.store.checkpoint.CheckpointStore;
 import io.pravega.controller.store.checkpoint.CheckpointStoreException;
 import io.pravega.controller.store.checkpoint.CheckpointStoreFactory;
+import io.pravega.shared.MetricsNames;
+import io.pravega.shared.MetricsTags;
 import io.pravega.shared.controller.event.ControllerEvent;
 import io.pravega.shared.controller.event.RequestProcessor;
+import io.pravega.shared.metrics.MetricRegistryUtils;
+import io.pravega.shared.metrics.StatsProvider;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -53,6 +60,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Cleanup;
@@ -71,6 +79,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
@@ -193,6 +202,27 @@ public class EventProcessorTest {
         }
     }
 
+    private static class BatchSequenceAnswer<T> implements Answer<EventReadBatch<T>> {
+
+        private Iterator<? extends EventRead<T>> resultIterator;
+
+        // Each batch holds up to maxEvents results; batches are empty once the iterator is exhausted
+
+        public BatchSequenceAnswer(List<? extends EventRead<T>> results) {
+            this.resultIterator = results.iterator();
+        }
+
+        @Override
+        public EventReadBatch<T> answer(InvocationOnMock invocation) throws Throwable {
+            int maxEvents = invocation.getArgument(0);
+            List<EventRead<T>> events = new ArrayList<>(maxEvents);
+            while (events.size() < maxEvents && resultIterator.hasNext()) {
+                events.add(resultIterator.next());
+            }
+            return () -> events;
+        }
+    }
+
     private static class MockEventRead<T> implements EventRead<T> {
 
         final T value;
@@ -286,6 +316,7 @@ public class EventProcessorTest {
         Mockito.when(system.getProcess()).thenReturn(PROCESS);
 
         EventStreamReader<TestEvent> reader = Mockito.mock(EventStreamReader.class);
+        Mockito.when(reader.readNextEvents(anyInt(), anyLong())).thenCallRealMethod();
 
         checkpointStore.addReaderGroup(PROCESS, READER_GROUP);
 
@@ -369,6 +400,110 @@ public class EventProcessorTest {
         cell.awaitTerminated();
     }
 
+    @Test(timeout = 10000)
+    @SuppressWarnings("unchecked")
+    public void testBatchedEventProcessorCell() throws CheckpointStoreException, ReinitializationRequiredException {
+        CheckpointStore checkpointStore = spy(CheckpointStoreFactory.createInMemoryStore());
+        EventProcessorGroupConfig config =
+                EventProcessorGroupConfigImpl.builder()
+                        .eventProcessorCount(1)
+                        .readerGroupName(READER_GROUP)
+                        .streamName(STREAM_NAME)
+                        .checkpointConfig(CheckpointConfig.periodic(4, 1000))
+                        .build();
+
+        int[] input = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        int expectedSum = input.length * (input.length + 1) / 2;
+        List<MockEventRead<TestEvent>> inputEvents = new ArrayList<>(input.length);
+        for (int i = 0; i < input.length; i++) {
+            inputEvents.add(new MockEventRead<>(i, new TestEvent(input[i])));
+        }
+        inputEvents.add(new MockEventRead<>(input.length, new TestEvent(-1)));
+
+        EventStreamReader<TestEvent> reader = Mockito.mock(EventStreamReader.class);
+        Mockito.when(reader.readNextEvents(anyInt(), anyLong())).thenAnswer(new BatchSequenceAnswer<>(inputEvents));
+        EventProcessorConfig<TestEvent> eventProcessorConfig = EventProcessorConfig.<TestEvent>builder()
+                .supplier(() -> new TestEventProcessor(false))
+                .serializer(new EventSerializer<>())
+                .decider((Throwable e) -> ExceptionHandler.Directive.Stop)
+                .config(config)
+                .readBatchSize(4)
+                .build();
+
+        checkpointStore.addReaderGroup(PROCESS, READER_GROUP);
+        checkpointStore.addReader(PROCESS, READER_GROUP, READER_ID);
+        AtomicLong processed = new AtomicLong();
+        EventProcessorCell<TestEvent> cell = new EventProcessorCell<>(eventProcessorConfig, reader,
+                new EventStreamWriterMock<>(), PROCESS, READER_ID, 0, checkpointStore, processed::addAndGet);
+        cell.startAsync();
+        cell.awaitTerminated();
+
+        // Events are fetched in three batches (of 4, 4 and 3 events) rather than one at a time.
+        verify(reader, times(3)).readNextEvents(eq(4), anyLong());
+        verify(reader, times(0)).readNextEvent(anyLong());
+
+        // All events are processed, but positions are only persisted once per full batch (i.e., after events 4 and 8).
+        assertEquals(expectedSum, ((TestEventProcessor) cell.getActor()).sum);
+        assertEquals(input.length, processed.get());
+        verify(checkpointStore, times(2)).setPosition(eq(PROCESS), eq(READER_GROUP), eq(READER_ID), any());
+        assertEquals(inputEvents.get(7).getPosition(), cell.getCheckpoint());
+    }
+
+    @Test(timeout = 10000)
+    public void testReportMetrics() throws CheckpointStoreException, ReinitializationRequiredException {
+        @Cleanup
+        StatsProvider statsProvider = MetricsTestUtil.getInitializedStatsProvider();
+        String readerGroupName = "metricsReaderGroup";
+        int[] input = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        CheckpointStore checkpointStore = CheckpointStoreFactory.createInMemoryStore();
+        checkpointStore.addReaderGroup(PROCESS, readerGroupName);
+
+        EventStreamClientFactory clientFactory = Mockito.mock(EventStreamClientFactory.class);
+        Mockito.when(clientFactory.createReader(anyString(), anyString(), any(), any())).thenAnswer(createEventReaders(1, input));
+        Mockito.when(clientFactory.<TestEvent>createEventWriter(anyString(), any(), any())).thenReturn(new EventStreamWriterMock<>());
+
+        ReaderGroupMetrics readerGroupMetrics = Mockito.mock(ReaderGroupMetrics.class);
+        Mockito.when(readerGroupMetrics.unreadBytes()).thenReturn(100L);
+        ReaderGroup readerGroup = Mockito.mock(ReaderGroup.class);
+        Mockito.when(readerGroup.getGroupName()).thenReturn(readerGroupName);
+        Mockito.when(readerGroup.getMetrics()).thenReturn(readerGroupMetrics);
+        ReaderGroupManager readerGroupManager = Mockito.mock(ReaderGroupManager.class);
+        Mockito.when(readerGroupManager.getReaderGroup(anyString())).then(invocation -> readerGroup);
+
+        EventProcessorSystemImpl system = new EventProcessorSystemImpl("metrics", PROCESS, SCOPE, clientFactory, readerGroupManager);
+        EventProcessorConfig<TestEvent> eventProcessorConfig = EventProcessorConfig.<TestEvent>builder()
+                .supplier(() -> new TestEventProcessor(false))
+                .serializer(new EventSerializer<>())
+                .decider((Throwable e) -> ExceptionHandler.Directive.Stop)
+                .config(createEventProcessorGroupConfig(1))
+                .build();
+
+        @Cleanup
+        EventProcessorGroupImpl<TestEvent> group = (EventProcessorGroupImpl<TestEvent>) system.createEventProcessorGroup(eventProcessorConfig,
+                checkpointStore, executor);
+        group.awaitRunning();
+        for (EventProcessorCell<TestEvent> cell : group.getEventProcessorMap().values()) {
+            cell.awaitTerminated();
+        }
+
+        // The first report accounts for all events processed so far, along with the reader group's backlog.
+        String[] tags = MetricsTags.readerGroupTags(SCOPE, READER_GROUP);
+        group.reportMetrics();
+        assertEquals(input.length, (long) MetricRegistryUtils.getCounter(MetricsNames.CONTROLLER_EVENT_PROCESSOR_EVENTS_PROCESSED, tags).count());
+        assertEquals(100L, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTROLLER_EVENT_PROCESSOR_BACKLOG_BYTES, tags).value());
+
+        // Subsequent reports only account for the events processed since the previous one.
+        Mockito.when(readerGroupMetrics.unreadBytes()).thenReturn(0L);
+        group.reportMetrics();
+        assertEquals(input.length, (long) MetricRegistryUtils.getCounter(MetricsNames.CONTROLLER_EVENT_PROCESSOR_EVENTS_PROCESSED, tags).count());
+        assertEquals(0L, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTROLLER_EVENT_PROCESSOR_BACKLOG_BYTES, tags).value());
+        assertEquals(0L, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTROLLER_EVENT_PROCESSOR_EVENTS_PER_SECOND, tags).value());
+
+        group.stopAsync();
+        group.awaitTerminated();
+    }
+
     @Test(timeout = 10000)
     public void testEventProcessorWriter() throws ReinitializationRequiredException, CheckpointStoreException {
         int initialCount = 1;
@@ -556,6 +691,7 @@ public class EventProcessorTest {
 
         EventStreamReader<TestEvent> reader = Mockito.mock(EventStreamReader.class);
         Mockito.when(reader.readNextEvent(anyLong())).thenReturn(Mockito.mock(EventReadImpl.class));
+        Mockito.when(reader.readNextEvents(anyInt(), anyLong())).thenCallRealMethod();
 
         Mockito.when(clientFactory.createReader(anyString(), anyString(), any(), any()))
                .thenAnswer(x -> reader);
@@ -810,6 +946,7 @@ public class EventProcessorTest {
 
         EventStreamReader<TestEvent> reader = Mockito.mock(EventStreamReader.class);
         Mockito.when(reader.readNextEvent(anyLong())).thenAnswer(new SequenceAnswer<>(inputEvents));
+        Mockito.when(reader.readNextEvents(anyInt(), anyLong())).thenCallRealMethod();
         return reader;
     }
 
@@ -47,7 +47,10 @@ import org.junit.Test;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -103,6 +106,7 @@ public class EventProcessorGroupTest {
         this.writer = mock(EventStreamWriter.class);
         doReturn(writer).when(clientFactory).createEventWriter(anyString(), any(), any());
         this.reader = mock(EventStreamReader.class);
+        doCallRealMethod().when(reader).readNextEvents(anyInt(), anyLong());
         doReturn(reader).when(clientFactory).createReader(anyString(), anyString(), any(), any());
 
         doReturn(true).when(readerGroupMgr).createReaderGroup(anyString(), any());
@@ -0,0 +1,208 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.fault;
+
+import io.pravega.common.cluster.Host;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LoadAwareContainerBalancerTest {
+    private static final int HOST_COUNT = 4;
+    private static final int CONTAINER_COUNT = 32;
+    private static final int MAX_MOVES = 2;
+    private static final Duration INTERVAL = Duration.ofMinutes(1);
+
+    @Test(timeout = 5000)
+    public void testNoObservedLoad() {
+        LoadAwareContainerBalancer balancer = new LoadAwareContainerBalancer(Collections::emptyMap, MAX_MOVES, Duration.ofMinutes(1));
+        Map<Host, Set<Integer>> mapping = createMapping();
+
+        // Without observed loads, the mapping only changes when the host set does.
+        assertEquals(mapping, balancer.rebalance(mapping, mapping.keySet()));
+        Set<Host> hosts = new HashSet<>(mapping.keySet());
+        hosts.add(new Host("host" + HOST_COUNT, 123, null));
+        // Note that the balancers modify the sets of the mapping they are given, so each one gets its own copy.
+        assertEquals(new UniformContainerBalancer().rebalance(createMapping(), hosts), balancer.rebalance(createMapping(), hosts));
+        assertEquals(Duration.ofMinutes(1), balancer.getPeriodicRebalanceInterval());
+    }
+
+    @Test(timeout = 5000)
+    public void testContainerLoads() {
+        Map<Integer, ContainerLoad> observed = new HashMap<>();
+        observed.put(0, new ContainerLoad(300, 30));
+        observed.put(1, new ContainerLoad(100, 10));
+        Map<Host, Set<Integer>> mapping = Collections.singletonMap(new Host("host0", 123, null),
+                IntStream.range(0, 3).boxed().collect(Collectors.toSet()));
+
+        Map<Integer, Double> loads = LoadAwareContainerBalancer.computeContainerLoads(mapping, observed);
+        assertEquals(1.5, loads.get(0), 0.001);
+        assertEquals(0.5, loads.get(1), 0.001);
+        // Containers without observed load are assumed to be average.
+        assertEquals(1.0, loads.get(2), 0.001);
+    }
+
+    /**
+     * Simulates successive rebalance rounds on a cluster where a few containers carry most of the traffic and, to begin
+     * with, all the hot containers are placed on the same host.
+     */
+    @Test(timeout = 5000)
+    public void testSkewedLoadSimulation() {
+        Map<Integer, ContainerLoad> observed = new HashMap<>();
+        for (int container = 0; container < CONTAINER_COUNT; container++) {
+            // Zipf-like throughput. Hot containers also see higher Durable Log latencies.
+            long throughput = 10_000_000L / (container + 1);
+            observed.put(container, new ContainerLoad(throughput, 5 + throughput / 1_000_000));
+        }
+
+        AtomicLong time = new AtomicLong();
+        LoadAwareContainerBalancer balancer = new LoadAwareContainerBalancer(() -> observed, MAX_MOVES, INTERVAL, time::get);
+        Map<Host, Set<Integer>> mapping = createMapping();
+        Map<Integer, Double> containerLoads = LoadAwareContainerBalancer.computeContainerLoads(mapping, observed);
+        double initialPeak = peakLoad(mapping, containerLoads);
+
+        // Recently moved containers sit out a few rounds, so rebalancing is only over once no container has been moved for
+        // that long.
+        int rounds = 0;
+        int idleRounds = 0;
+        while (idleRounds < LoadAwareContainerBalancer.COOLDOWN_ROUNDS) {
+            Map<Host, Set<Integer>> next = balancer.rebalance(mapping, mapping.keySet());
+            time.addAndGet(INTERVAL.toMillis());
+            validateMapping(next);
+            int moves = countMoves(mapping, next);
+            assertTrue("Too many moves in a single round: " + moves, moves <= MAX_MOVES);
+            if (moves == 0) {
+                idleRounds++;
+                continue;
+            }
+            idleRounds = 0;
+            assertTrue("Rebalancing should never increase the peak load.",
+                    peakLoad(next, containerLoads) <= peakLoad(mapping, containerLoads));
+            mapping = next;
+            rounds++;
+            assertTrue("Rebalancing did not converge.", rounds < CONTAINER_COUNT);
+        }
+
+        double averageLoad = containerLoads.values().stream().mapToDouble(Double::doubleValue).sum() / HOST_COUNT;
+        double maxContainerLoad = containerLoads.values().stream().mapToDouble(Double::doubleValue).max().getAsDouble();
+        double finalPeak = peakLoad(mapping, containerLoads);
+        assertTrue(rounds > 0);
+        assertTrue(finalPeak < initialPeak);
+        assertTrue(String.format("Peak load %.2f is too high (average = %.2f).", finalPeak, averageLoad),
+                finalPeak <= Math.max(1.1 * averageLoad, averageLoad + maxContainerLoad));
+    }
+
+    @Test(timeout = 5000)
+    public void testMembershipChange() {
+        Map<Integer, ContainerLoad> observed = new HashMap<>();
+        for (int container = 0; container < CONTAINER_COUNT; container++) {
+            observed.put(container, new ContainerLoad(container < HOST_COUNT ? 1_000_000 : 1000, 10));
+        }
+        LoadAwareContainerBalancer balancer = new LoadAwareContainerBalancer(() -> observed, MAX_MOVES, INTERVAL, () -> 0);
+
+        // When a host joins, only the uniform reassignment is done even though the load is skewed.
+        Set<Host> hosts = new HashSet<>(createMapping().keySet());
+        hosts.add(new Host("host" + HOST_COUNT, 123, null));
+        assertEquals(new UniformContainerBalancer().rebalance(createMapping(), hosts), balancer.rebalance(createMapping(), hosts));
+
+        // The load is only considered in the next round.
+        Map<Host, Set<Integer>> mapping = createMapping();
+        assertTrue(countMoves(mapping, balancer.rebalance(createMapping(), mapping.keySet())) > 0);
+    }
+
+    @Test(timeout = 5000)
+    public void testCooldown() {
+        Host host0 = new Host("host0", 123, null);
+        Host host1 = new Host("host1", 123, null);
+        Map<Integer, ContainerLoad> observed = new HashMap<>();
+        observed.put(0, new ContainerLoad(2000, 10));
+        observed.put(1, new ContainerLoad(4000, 10));
+        observed.put(2, new ContainerLoad(3000, 10));
+        AtomicLong time = new AtomicLong();
+        LoadAwareContainerBalancer balancer = new LoadAwareContainerBalancer(() -> observed, MAX_MOVES, INTERVAL, time::get);
+
+        Map<Host, Set<Integer>> mapping = new HashMap<>();
+        mapping.put(host0, new HashSet<>(Set.of(0, 1)));
+        mapping.put(host1, new HashSet<>(Set.of(2)));
+        Map<Host, Set<Integer>> next = balancer.rebalance(mapping, mapping.keySet());
+        assertEquals(Set.of(1), next.get(host0));
+        assertEquals(Set.of(0, 2), next.get(host1));
+
+        // The observed loads change right after the move, so that moving container 0 back now looks best. It may not move
+        // until its cooldown expires.
+        observed.put(0, new ContainerLoad(1000, 10));
+        observed.put(1, new ContainerLoad(2000, 10));
+        observed.put(2, new ContainerLoad(6000, 10));
+        for (int round = 1; round < LoadAwareContainerBalancer.COOLDOWN_ROUNDS; round++) {
+            time.addAndGet(INTERVAL.toMillis());
+            assertEquals(next, balancer.rebalance(copy(next), next.keySet()));
+        }
+
+        time.addAndGet(INTERVAL.toMillis());
+        Map<Host, Set<Integer>> last = balancer.rebalance(copy(next), next.keySet());
+        assertEquals(Set.of(0, 1), last.get(host0));
+        assertEquals(Set.of(2), last.get(host1));
+    }
+
+    private Map<Host, Set<Integer>> copy(Map<Host, Set<Integer>> mapping) {
+        Map<Host, Set<Integer>> result = new HashMap<>();
+        mapping.forEach((host, containers) -> result.put(host, new HashSet<>(containers)));
+        return result;
+    }
+
+    /**
+     * Creates a mapping which assigns containers to hosts in a round robin manner, so that the hottest containers
+     * (those with the lowest ids in the simulation) all end up on the first host.
+     */
+    private Map<Host, Set<Integer>> createMapping() {
+        Map<Host, Set<Integer>> mapping = new HashMap<>();
+        for (int container = 0; container < CONTAINER_COUNT; container++) {
+            int hostId = container < HOST_COUNT ? 0 : container % HOST_COUNT;
+            mapping.computeIfAbsent(new Host("host" + hostId, 123, null), h -> new HashSet<>()).add(container);
+        }
+        return mapping;
+    }
+
+    private double peakLoad(Map<Host, Set<Integer>> mapping, Map<Integer, Double> containerLoads) {
+        return mapping.values().stream()
+                      .mapToDouble(containers -> containers.stream().mapToDouble(containerLoads::get).sum())
+                      .max().getAsDouble();
+    }
+
+    private int countMoves(Map<Host, Set<Integer>> previous, Map<Host, Set<Integer>> next) {
+        return next.entrySet().stream()
+                   .mapToInt(e -> (int) e.getValue().stream().filter(c -> !previous.get(e.getKey()).contains(c)).count())
+                   .sum();
+    }
+
+    private void validateMapping(Map<Host, Set<Integer>> mapping) {
+        assertEquals(HOST_COUNT, mapping.size());
+        Set<Integer> containers = new HashSet<>();
+        mapping.values().forEach(set -> set.forEach(c -> assertTrue("Container assigned twice: " + c, containers.add(c))));
+        assertEquals(CONTAINER_COUNT, containers.size());
+    }
+}
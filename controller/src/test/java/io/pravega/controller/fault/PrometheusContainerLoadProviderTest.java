@@ -0,0 +1,144 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.fault;
+
+import io.pravega.common.cluster.Host;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.test.common.AssertExtensions;
+import lombok.Cleanup;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PrometheusContainerLoadProviderTest {
+    private static final Host HOST_0 = new Host("host0", 123, null);
+    private static final Host HOST_1 = new Host("host1", 123, null);
+
+    @Test(timeout = 5000)
+    public void testContainerLoads() {
+        Map<Host, String> metrics = new HashMap<>();
+        AtomicLong time = new AtomicLong();
+        Set<Host> hosts = new HashSet<>();
+        hosts.add(HOST_0);
+        hosts.add(HOST_1);
+        PrometheusContainerLoadProvider provider = new PrometheusContainerLoadProvider(() -> hosts, host -> scrape(metrics, host),
+                time::get);
+
+        // Nothing can be computed from a single sample.
+        metrics.put(HOST_0, scrape(0, new long[]{1000, 0}, new long[]{10, 0}, new double[]{0.1, 0}));
+        provider.refresh().join();
+        assertTrue(provider.getContainerLoads().isEmpty());
+
+        // Host 1 becomes reachable, but it only has one sample so far.
+        time.addAndGet(10000);
+        metrics.put(HOST_0, scrape(0, new long[]{11000, 5000}, new long[]{30, 0}, new double[]{0.5, 0}));
+        metrics.put(HOST_1, scrape(2, new long[]{100}, new long[]{0}, new double[]{0}));
+        provider.refresh().join();
+        Map<Integer, ContainerLoad> loads = provider.getContainerLoads();
+        assertEquals(2, loads.size());
+        assertEquals(new ContainerLoad(1000, 20), loads.get(0));
+        assertEquals(new ContainerLoad(500, 0), loads.get(1));
+
+        // The loads only change when the Segment Stores are scraped again.
+        time.addAndGet(10000);
+        metrics.put(HOST_0, scrape(0, new long[]{21000, 100}, new long[]{30, 0}, new double[]{0.5, 0}));
+        metrics.remove(HOST_1);
+        assertEquals(loads, provider.getContainerLoads());
+
+        // Counters that went backwards (i.e., the container was recovered) are counted from zero.
+        provider.refresh().join();
+        loads = provider.getContainerLoads();
+        assertEquals(2, loads.size());
+        assertEquals(new ContainerLoad(1000, 0), loads.get(0));
+        assertEquals(new ContainerLoad(10, 0), loads.get(1));
+
+        // No Segment Store can be reached.
+        metrics.clear();
+        provider.refresh().join();
+        assertTrue(provider.getContainerLoads().isEmpty());
+    }
+
+    @Test(timeout = 10000)
+    public void testScheduledScrapes() throws Exception {
+        @Cleanup("shutdownNow")
+        ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "test");
+        Map<Host, String> metrics = new ConcurrentHashMap<>();
+        AtomicLong time = new AtomicLong();
+        @Cleanup
+        PrometheusContainerLoadProvider provider = new PrometheusContainerLoadProvider(() -> Set.of(HOST_0), host -> {
+            // Every scrape observes 1000 more bytes written, one second after the previous one.
+            long now = time.addAndGet(1000);
+            return CompletableFuture.completedFuture(scrape(0, new long[]{now}, new long[]{0}, new double[]{0}));
+        }, time::get);
+
+        provider.start(executor, Duration.ofMillis(10));
+        AssertExtensions.assertEventuallyEquals(new ContainerLoad(1000, 0), () -> provider.getContainerLoads().get(0), 5000);
+    }
+
+    @Test(timeout = 5000)
+    public void testParse() {
+        String metrics = "# HELP pravega_segmentstore_bookkeeper_write_bytes_total\n"
+                + "# TYPE pravega_segmentstore_bookkeeper_write_bytes_total counter\n"
+                + "pravega_segmentstore_bookkeeper_write_bytes_total{container=\"3\",} 42.0\n"
+                + "pravega_segmentstore_bookkeeper_write_bytes_total{container=\"4\",host=\"a\",} 1.0E3\n"
+                + "pravega_segmentstore_bookkeeper_write_latency_ms_seconds{container=\"3\",quantile=\"0.5\",} 7.0\n"
+                + "pravega_segmentstore_bookkeeper_write_latency_ms_fail_seconds_count{container=\"3\",} 9.0\n"
+                + "pravega_segmentstore_bookkeeper_write_latency_ms_seconds_count{container=\"3\",} 4.0\n"
+                + "pravega_segmentstore_bookkeeper_write_latency_ms_seconds_sum{container=\"3\",} 0.2\n"
+                + "pravega_segmentstore_bookkeeper_write_bytes_total{subcontainer=\"5\",} 1.0\n"
+                + "pravega_segmentstore_cache_used_size_bytes 25.0\n"
+                + "malformed\n";
+        Map<Integer, PrometheusContainerLoadProvider.ContainerSample> samples = new HashMap<>();
+        PrometheusContainerLoadProvider.parse(metrics, samples, 1);
+
+        assertEquals(2, samples.size());
+        assertEquals(42, samples.get(3).getWriteBytes(), 0);
+        assertEquals(4, samples.get(3).getWriteCount(), 0);
+        assertEquals(0.2, samples.get(3).getWriteLatencySumSeconds(), 0);
+        assertEquals(1000, samples.get(4).getWriteBytes(), 0);
+    }
+
+    private static CompletableFuture<String> scrape(Map<Host, String> metrics, Host host) {
+        String result = metrics.get(host);
+        return result == null ? Futures.failedFuture(new IllegalStateException("unreachable")) : CompletableFuture.completedFuture(result);
+    }
+
+    private static String scrape(int firstContainerId, long[] writeBytes, long[] writeCounts, double[] writeLatencySums) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < writeBytes.length; i++) {
+            int containerId = firstContainerId + i;
+            builder.append(String.format("pravega_segmentstore_bookkeeper_write_bytes_total{container=\"%d\",} %d.0%n",
+                    containerId, writeBytes[i]));
+            builder.append(String.format("pravega_segmentstore_bookkeeper_write_latency_ms_seconds_count{container=\"%d\",} %d.0%n",
+                    containerId, writeCounts[i]));
+            builder.append(String.format("pravega_segmentstore_bookkeeper_write_latency_ms_seconds_sum{container=\"%d\",} %s%n",
+                    containerId, writeLatencySums[i]));
+        }
+        return builder.toString();
+    }
+}
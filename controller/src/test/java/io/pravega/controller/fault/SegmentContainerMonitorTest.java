@@ -115,6 +115,16 @@ public class SegmentContainerMonitorTest {
                 sync.release();
             }
 
+            @Override
+            public void addHostContainersMapListener(Runnable listener) {
+                hostStore.addHostContainersMapListener(listener);
+            }
+
+            @Override
+            public void removeHostContainersMapListener(Runnable listener) {
+                hostStore.removeHostContainersMapListener(listener);
+            }
+
             @Override
             public int getContainerCount() {
                 return hostStore.getContainerCount();
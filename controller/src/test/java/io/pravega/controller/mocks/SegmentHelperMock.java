@@ -50,6 +50,7 @@ import java.util.stream.Collectors;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -90,6 +91,8 @@ public class SegmentHelperMock {
         }).when(helper).mergeTxnSegments(
                 anyString(), anyString(), anyLong(), anyLong(), any(), any(), anyLong());
 
+        mergeTxnSegmentsOneByOne(helper);
+
         doReturn(CompletableFuture.completedFuture(null)).when(helper).updatePolicy(
                 anyString(), anyString(), any(), anyLong(), any(), anyLong());
 
@@ -108,6 +111,20 @@ public class SegmentHelperMock {
         return helper;
     }
 
+    /**
+     * Stubs the multi-segment mergeTxnSegments so that it merges into each segment through the (stubbed) single segment
+     * mergeTxnSegments.
+     */
+    private static void mergeTxnSegmentsOneByOne(SegmentHelper helper) {
+        doAnswer(x -> {
+            List<Long> segments = x.getArgument(2);
+            Map<Long, CompletableFuture<List<Long>>> result = new HashMap<>();
+            segments.forEach(segment -> result.put(segment, helper.mergeTxnSegments(x.getArgument(0), x.getArgument(1),
+                    segment, segment, x.getArgument(3), x.getArgument(4), x.getArgument(5))));
+            return result;
+        }).when(helper).mergeTxnSegments(anyString(), anyString(), anyList(), any(), any(), anyLong());
+    }
+
     public static SegmentHelper getFailingSegmentHelperMock() {
         SegmentHelper helper = spy(new SegmentHelper(mock(ConnectionPool.class), mock(HostControllerStore.class), mock(ScheduledExecutorService.class)));
 
@@ -132,6 +149,8 @@ public class SegmentHelperMock {
         doReturn(Futures.failedFuture(new RuntimeException())).when(helper).mergeTxnSegments(
                 anyString(), anyString(), anyLong(), anyLong(), any(), anyString(), anyLong());
 
+        mergeTxnSegmentsOneByOne(helper);
+
         doReturn(Futures.failedFuture(new RuntimeException())).when(helper).updatePolicy(
                 anyString(), anyString(), any(), anyLong(), any(), anyLong());
 
@@ -35,6 +35,7 @@ import io.pravega.controller.server.rest.generated.model.RetentionConfig;
 import io.pravega.controller.server.rest.generated.model.ScalingConfig;
 import io.pravega.controller.server.rest.generated.model.ScopesList;
 import io.pravega.controller.server.rest.generated.model.StreamState;
+import io.pravega.controller.server.rest.generated.model.StreamStatusMap;
 import io.pravega.controller.server.rest.generated.model.StreamsList;
 import io.pravega.shared.rest.impl.RESTServerConfigImpl;
 import io.pravega.shared.rest.security.AuthHandlerManager;
@@ -423,6 +424,24 @@ public class StreamMetaDataAuthFocusedTests {
         response.close();
     }
 
+    @Test
+    public void testDeleteStreamsReportsStreamsTheUserIsNotAuthorizedToDelete() {
+        String resourceURI = getURI() + "v1/scopes/myscope/bulk/delete-streams";
+
+        // The user may update stream1 but not stream2, so only stream1 should be submitted for deletion.
+        when(mockControllerService.deleteStreams(eq("myscope"), eq(Arrays.asList("stream1")), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        ImmutableMap.of("stream1", Controller.DeleteStreamStatus.Status.SUCCESS)));
+        Response response = this.invocationBuilder(resourceURI, USER_ACCESS_TO_SCOPE_WRITE_SPECIFIC_STREAM, DEFAULT_PASSWORD)
+                .buildPost(Entity.json(Arrays.asList("stream1", "stream2"))).invoke();
+
+        assertEquals("Delete Streams response code", HTTP_STATUS_OK, response.getStatus());
+        StreamStatusMap statuses = response.readEntity(StreamStatusMap.class);
+        assertEquals("SUCCESS", statuses.get("stream1"));
+        assertEquals("UNAUTHORIZED", statuses.get("stream2"));
+        response.close();
+    }
+
     //endregion
 
     //region Streams listing tests
@@ -69,6 +69,7 @@ import static io.pravega.shared.NameUtils.getQualifiedStreamSegmentName;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class SegmentHelperTest extends ThreadPooledTestSuite {
@@ -310,6 +311,35 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
         testConnectionFailure(factory, futureSupplier);
     }
 
+    @Test
+    public void commitTransactionOnMultipleSegments() {
+        MockConnectionFactory factory = new MockConnectionFactory();
+        String scope = "testScope";
+        String stream = "testStream";
+        List<UUID> txnIdList = List.of(new UUID(0, 0L));
+
+        @Cleanup
+        SegmentHelper helper = new SegmentHelper(factory, new MockHostControllerStore(), executorService());
+
+        // both segments are on the same host, so both merges are sent over a single connection.
+        Map<Long, CompletableFuture<List<Long>>> result = helper.mergeTxnSegments(scope, stream, List.of(1L, 2L), 
+                txnIdList, "", System.nanoTime());
+        assertEquals(2, result.size());
+        MockConnection connection = (MockConnection) factory.connection;
+        long secondRequestId = connection.getRequestId();
+        factory.rp.process(new WireCommands.SegmentsBatchMerged(secondRequestId, 
+                getQualifiedStreamSegmentName(scope, stream, 2L), List.of(), List.of(20L)));
+        factory.rp.process(new WireCommands.NoSuchSegment(secondRequestId - 1, 
+                getQualifiedStreamSegmentName(scope, stream, 1L), "", 0L));
+        assertSame(connection, factory.connection);
+
+        assertEquals(List.of(20L), result.get(2L).join());
+        AssertExtensions.assertThrows("",
+                () -> result.get(1L).join(),
+                ex -> ex instanceof WireCommandFailedException
+                        && ((WireCommandFailedException) ex).getReason().equals(WireCommandFailedException.Reason.SegmentDoesNotExist));
+    }
+
     @Test
     public void abortTransaction() {
         MockConnectionFactory factory = new MockConnectionFactory();
@@ -997,6 +1027,16 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
 
         }
 
+        @Override
+        public void addHostContainersMapListener(Runnable listener) {
+
+        }
+
+        @Override
+        public void removeHostContainersMapListener(Runnable listener) {
+
+        }
+
         @Override
         public int getContainerCount() {
             return 0;
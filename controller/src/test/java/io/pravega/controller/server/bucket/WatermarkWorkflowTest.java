@@ -689,6 +689,56 @@ public class WatermarkWorkflowTest {
         streamMetadataStore.setState(scope, streamName, State.ACTIVE, null, executor).join();
     }
 
+    @Test(timeout = 60000L)
+    public void testWatermarkingAtScale() {
+        int streamCount = 500;
+        @Cleanup
+        StreamMetadataStore inMemoryStore = StreamStoreFactory.createInMemoryStore();
+        BucketStore inMemoryBucketStore = StreamStoreFactory.createInMemoryBucketStore();
+        SynchronizerClientFactory clientFactory = spy(SynchronizerClientFactory.class);
+        ConcurrentHashMap<String, MockRevisionedStreamClient> revisionedStreamClientMap = new ConcurrentHashMap<>();
+        doAnswer(x -> revisionedStreamClientMap.computeIfAbsent(x.getArgument(0), s -> new MockRevisionedStreamClient()))
+                .when(clientFactory).createRevisionedStreamClient(anyString(), any(), any());
+
+        @Cleanup
+        PeriodicWatermarking periodicWatermarking = new PeriodicWatermarking(inMemoryStore, inMemoryBucketStore, sp -> clientFactory,
+                executor, new RequestTracker(false), streamCount);
+
+        String scope = "scope";
+        inMemoryStore.createScope(scope, null, executor).join();
+        StreamConfiguration config = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(2))
+                                                        .timestampAggregationTimeout(10000L).build();
+        List<Stream> streams = new ArrayList<>();
+        for (int i = 0; i < streamCount; i++) {
+            String streamName = "stream" + i;
+            inMemoryStore.createStream(scope, streamName, config, System.currentTimeMillis(), null, executor).join();
+            inMemoryStore.setState(scope, streamName, State.ACTIVE, null, executor).join();
+            streams.add(new StreamImpl(scope, streamName));
+        }
+
+        // Run several watermarking rounds over all streams concurrently, with every writer advancing in each round.
+        for (long time = 100L; time <= 300L; time += 100L) {
+            final long t = time;
+            Futures.allOf(streams.stream().map(stream -> inMemoryStore.noteWriterMark(scope, stream.getStreamName(), "writer", t,
+                    ImmutableMap.of(0L, t, 1L, t), null, executor)).collect(Collectors.toList())).join();
+            Futures.allOf(streams.stream().map(periodicWatermarking::watermark).collect(Collectors.toList())).join();
+
+            for (Stream stream : streams) {
+                MockRevisionedStreamClient revisionedClient = revisionedStreamClientMap.get(
+                        NameUtils.getMarkStreamForStream(stream.getStreamName()));
+                assertEquals(t / 100L, revisionedClient.watermarks.size());
+                Watermark watermark = revisionedClient.watermarks.get(revisionedClient.watermarks.size() - 1).getValue();
+                assertEquals(t, watermark.getLowerTimeBound());
+                assertEquals(t, getSegmentOffset(watermark, 0L));
+                assertEquals(t, getSegmentOffset(watermark, 1L));
+            }
+        }
+
+        // The watermark client of every stream should have been created once and reused in every round.
+        verify(clientFactory, times(streamCount)).createRevisionedStreamClient(anyString(), any(), any());
+        streams.forEach(stream -> assertTrue(periodicWatermarking.checkExistsInCache(stream)));
+    }
+
     static class MockRevisionedStreamClient implements RevisionedStreamClient<Watermark> {
         private final long segment;
         private final Supplier<Long> segmentSupplier;
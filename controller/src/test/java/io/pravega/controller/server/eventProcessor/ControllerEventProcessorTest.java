@@ -81,6 +81,7 @@ import org.junit.Test;
 import org.junit.ClassRule;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -349,6 +350,32 @@ public abstract class ControllerEventProcessorTest {
         assertEquals(commitEventProcessor.getProcessorName(), streamStore.getWaitingRequestProcessor(SCOPE, STREAM, null, executor).join());
     }
 
+    @Test(timeout = 10000)
+    public void testCommitLagClearedOnStreamDeletion() {
+        String stream = "commitLag";
+        StreamConfiguration config = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build();
+        streamStore.createStream(SCOPE, stream, config, System.currentTimeMillis(), null, executor).join();
+        streamStore.setState(SCOPE, stream, State.ACTIVE, null, executor).join();
+        UUID txnId = streamStore.generateTransactionId(SCOPE, stream, null, executor).join();
+        VersionedTransactionData txnData = streamStore.createTransaction(SCOPE, stream, txnId, 10000, 10000,
+                null, executor).join();
+        streamStore.sealTransaction(SCOPE, stream, txnId, true, Optional.empty(), "", Long.MIN_VALUE, null, executor).join();
+        CommitRequestHandler commitEventProcessor = new CommitRequestHandler(streamStore, streamMetadataTasks, streamTransactionMetadataTasks, bucketStore, executor);
+        CommitEvent event = new CommitEvent(SCOPE, stream, txnData.getEpoch());
+
+        // the commit is postponed while the stream is scaling.
+        streamStore.setState(SCOPE, stream, State.SCALING, null, executor).join();
+        AssertExtensions.assertFutureThrows("Operation should be disallowed", commitEventProcessor.execute(event),
+                e -> Exceptions.unwrap(e) instanceof StoreException.OperationNotAllowedException);
+        assertTrue(commitEventProcessor.isCommitPending(SCOPE, stream));
+
+        // once the stream is deleted, its commits are no longer tracked.
+        streamStore.deleteStream(SCOPE, stream, null, executor).join();
+        AssertExtensions.assertFutureThrows("Stream should not exist", commitEventProcessor.execute(event),
+                e -> Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException);
+        assertFalse(commitEventProcessor.isCommitPending(SCOPE, stream));
+    }
+
     protected List<VersionedTransactionData> createAndCommitTransactions(int count) {
         List<VersionedTransactionData> retVal = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
@@ -191,6 +191,30 @@ public class PravegaTablesStoreHelperTest {
         assertEquals(keys.get(3), values.get(3).getObject());
     }
 
+    @Test
+    public void testWriteThroughCache() {
+        String table = "table";
+        String key = "key";
+        storeHelper.createTable(table, 0L).join();
+        long before = System.currentTimeMillis() - 1;
+        Version version = storeHelper.addNewEntry(table, key, "value", String::getBytes, 0L).join();
+        Version newVersion = storeHelper.updateEntry(table, key, "value2", String::getBytes, version, 0L).join();
+
+        // successful writes are cached.
+        VersionedMetadata<String> cached = storeHelper.getCachedOrLoad(table, key, String::new, before, 0L).join();
+        assertEquals("value2", cached.getObject());
+        assertEquals(newVersion, cached.getVersion());
+        verify(segmentHelper, times(0)).readTable(anyString(), any(), anyString(), anyLong());
+
+        // a failed conditional update invalidates the cached record.
+        AssertExtensions.assertFutureThrows("bad version", storeHelper.updateEntry(table, key, "value3",
+                String::getBytes, version, 0L),
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException);
+        cached = storeHelper.getCachedOrLoad(table, key, String::new, before, 0L).join();
+        assertEquals("value2", cached.getObject());
+        verify(segmentHelper, times(1)).readTable(anyString(), any(), anyString(), anyLong());
+    }
+
     @Test
     public void testRetriesExhausted() {
         SegmentHelper segmentHelper = spy(SegmentHelperMock.getSegmentHelperMockForTables(executor));
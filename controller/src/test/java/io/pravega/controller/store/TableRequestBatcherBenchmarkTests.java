@@ -0,0 +1,125 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark tests for {@link TableRequestBatcher}. This compares the throughput (in requests per second) of a simulated
+ * table segment when requests are sent to it one by one and when they go through a {@link TableRequestBatcher} with
+ * varying numbers of outstanding batches per table. As with any benchmark, outcomes are only comparable within the same
+ * environment.
+ *
+ * The simulated table segment processes one wire command at a time, which costs {@link #COMMAND_COST_NANOS} plus
+ * {@link #ENTRY_COST_NANOS} for every entry in it, and every wire command additionally incurs a network round trip of
+ * {@link #ROUND_TRIP_MILLIS} (which does not hold up the processing of other commands).
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class TableRequestBatcherBenchmarkTests {
+    private static final long COMMAND_COST_NANOS = 200_000;
+    private static final long ENTRY_COST_NANOS = 20_000;
+    private static final long ROUND_TRIP_MILLIS = 1;
+    private static final int MAX_BATCH_SIZE = 8;
+    private static final int[] MAX_IN_FLIGHT_BATCHES = new int[]{1, 2, 4, 8};
+    private static final int[] CLIENT_COUNTS = new int[]{1, 8, 64};
+    private static final long DURATION_MILLIS = 3000;
+
+    @Test
+    public void testThroughput() throws Exception {
+        for (int clients : CLIENT_COUNTS) {
+            System.out.println(String.format("Clients: %d, unbatched: %d ops/s", clients, measure(clients, 0)));
+            for (int maxInFlight : MAX_IN_FLIGHT_BATCHES) {
+                System.out.println(String.format("Clients: %d, batched (%d in flight): %d ops/s", clients, maxInFlight,
+                        measure(clients, maxInFlight)));
+            }
+        }
+    }
+
+    /**
+     * Runs the given number of clients, each of which sends its next request as soon as the previous one completes,
+     * and returns the number of requests completed per second.
+     */
+    private long measure(int clientCount, int maxInFlightBatches) throws Exception {
+        ScheduledExecutorService network = ExecutorServiceHelpers.newScheduledThreadPool(2, "network");
+        ScheduledExecutorService segment = ExecutorServiceHelpers.newScheduledThreadPool(1, "segment");
+        try {
+            BiFunction<String, List<Integer>, CompletableFuture<List<Integer>>> processor = (table, requests) -> {
+                CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+                segment.execute(() -> {
+                    spin(COMMAND_COST_NANOS + ENTRY_COST_NANOS * requests.size());
+                    network.schedule(() -> result.complete(requests), ROUND_TRIP_MILLIS, TimeUnit.MILLISECONDS);
+                });
+                return result;
+            };
+            BiFunction<String, Integer, CompletableFuture<Integer>> client;
+            if (maxInFlightBatches == 0) {
+                client = (table, request) -> processor.apply(table, List.of(request)).thenApply(r -> r.get(0));
+            } else {
+                TableRequestBatcher<Integer, Integer> batcher = new TableRequestBatcher<>(processor, e -> false, MAX_BATCH_SIZE,
+                        maxInFlightBatches, network);
+                client = batcher::add;
+            }
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicLong completed = new AtomicLong();
+            List<CompletableFuture<Void>> clients = new ArrayList<>();
+            for (int i = 0; i < clientCount; i++) {
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                sendNext(client, i, running, completed, done);
+                clients.add(done);
+            }
+
+            Thread.sleep(DURATION_MILLIS);
+            long result = completed.get() * 1000 / DURATION_MILLIS;
+            running.set(false);
+            CompletableFuture.allOf(clients.toArray(new CompletableFuture[0])).get(DURATION_MILLIS, TimeUnit.MILLISECONDS);
+            return result;
+        } finally {
+            ExecutorServiceHelpers.shutdown(network, segment);
+        }
+    }
+
+    private void sendNext(BiFunction<String, Integer, CompletableFuture<Integer>> client, int request, AtomicBoolean running,
+                          AtomicLong completed, CompletableFuture<Void> done) {
+        if (!running.get()) {
+            done.complete(null);
+            return;
+        }
+        client.apply("table", request).whenComplete((r, e) -> {
+            completed.incrementAndGet();
+            sendNext(client, request, running, completed, done);
+        });
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
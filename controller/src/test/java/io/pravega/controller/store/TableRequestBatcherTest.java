@@ -0,0 +1,211 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store;
+
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.store.stream.StoreException;
+import io.pravega.test.common.AssertExtensions;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TableRequestBatcherTest {
+    private ScheduledExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "test");
+    }
+
+    @After
+    public void tearDown() {
+        ExecutorServiceHelpers.shutdown(executor);
+    }
+
+    @Test(timeout = 10000)
+    public void testBatching() {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> firstBatchBlocker = new CompletableFuture<>();
+        TableRequestBatcher<Integer, Integer> batcher = new TableRequestBatcher<>((table, requests) -> {
+            batches.add(requests);
+            CompletableFuture<Void> blocker = batches.size() == 1 ? firstBatchBlocker : CompletableFuture.completedFuture(null);
+            return blocker.thenApply(v -> requests.stream().map(x -> x * 10).collect(Collectors.toList()));
+        }, e -> false, 3, 1, executor);
+
+        // first request is sent right away.
+        CompletableFuture<Integer> first = batcher.add("table", 0);
+        assertEquals(1, batches.size());
+
+        // requests for another table are not held up by the outstanding batch.
+        assertEquals(10, batcher.add("other", 1).join().intValue());
+        assertEquals(2, batches.size());
+
+        // requests that arrive while a batch is outstanding are queued.
+        List<CompletableFuture<Integer>> queued = IntStream.range(1, 6).mapToObj(i -> batcher.add("table", i))
+                                                           .collect(Collectors.toList());
+        assertEquals(2, batches.size());
+        assertFalse(first.isDone());
+
+        firstBatchBlocker.complete(null);
+        assertEquals(0, first.join().intValue());
+        for (int i = 0; i < queued.size(); i++) {
+            assertEquals((i + 1) * 10, queued.get(i).join().intValue());
+        }
+
+        // queued requests are sent in batches of at most 3.
+        assertEquals(4, batches.size());
+        assertEquals(3, batches.get(2).size());
+        assertEquals(2, batches.get(3).size());
+    }
+
+    @Test(timeout = 10000)
+    public void testMultipleBatchesInFlight() {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> blockers = Collections.synchronizedList(new ArrayList<>());
+        TableRequestBatcher<Integer, Integer> batcher = new TableRequestBatcher<>((table, requests) -> {
+            CompletableFuture<Void> blocker = new CompletableFuture<>();
+            blockers.add(blocker);
+            batches.add(requests);
+            return blocker.thenApply(v -> requests);
+        }, e -> false, 3, 2, executor);
+
+        // Up to two requests are sent right away, each in its own batch.
+        CompletableFuture<Integer> first = batcher.add("table", 0);
+        CompletableFuture<Integer> second = batcher.add("table", 1);
+        assertEquals(2, batches.size());
+
+        // Once both batches are outstanding, further requests are queued.
+        List<CompletableFuture<Integer>> queued = IntStream.range(2, 6).mapToObj(i -> batcher.add("table", i))
+                                                           .collect(Collectors.toList());
+        assertEquals(2, batches.size());
+
+        // Each completed batch is replaced by the next queued one, so there are never more than two outstanding.
+        blockers.get(0).complete(null);
+        assertEquals(0, first.join().intValue());
+        AssertExtensions.assertEventuallyEquals(3, batches::size, 5000);
+        assertEquals(List.of(2, 3, 4), batches.get(2));
+        assertFalse(second.isDone());
+
+        blockers.get(1).complete(null);
+        assertEquals(1, second.join().intValue());
+        AssertExtensions.assertEventuallyEquals(4, batches::size, 5000);
+        assertEquals(List.of(5), batches.get(3));
+        blockers.get(2).complete(null);
+        blockers.get(3).complete(null);
+        for (int i = 0; i < queued.size(); i++) {
+            assertEquals(i + 2, queued.get(i).join().intValue());
+        }
+        assertEquals(4, batches.size());
+    }
+
+    @Test(timeout = 10000)
+    public void testPerRequestFailures() {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> firstBatchBlocker = new CompletableFuture<>();
+        // Negative requests fail and cause the whole batch they are in to fail. 
+        TableRequestBatcher<Integer, Integer> batcher = new TableRequestBatcher<>((table, requests) -> {
+            batches.add(requests);
+            CompletableFuture<Void> blocker = batches.size() == 1 ? firstBatchBlocker : CompletableFuture.completedFuture(null);
+            return blocker.thenApply(v -> {
+                if (requests.stream().anyMatch(x -> x < 0)) {
+                    throw StoreException.create(StoreException.Type.WRITE_CONFLICT, "conflict");
+                }
+                return requests;
+            });
+        }, e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException, 10, 1, executor);
+
+        CompletableFuture<Integer> first = batcher.add("table", 0);
+        CompletableFuture<Integer> ok1 = batcher.add("table", 1);
+        CompletableFuture<Integer> conflict = batcher.add("table", -1);
+        CompletableFuture<Integer> ok2 = batcher.add("table", 2);
+        firstBatchBlocker.complete(null);
+
+        assertEquals(0, first.join().intValue());
+        assertEquals(1, ok1.join().intValue());
+        assertEquals(2, ok2.join().intValue());
+        AssertExtensions.assertFutureThrows("conflict", conflict,
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException);
+        // the failed batch of three was retried one request at a time.
+        assertEquals(5, batches.size());
+
+        // other failures fail the whole batch.
+        TableRequestBatcher<Integer, Integer> failing = new TableRequestBatcher<>((table, requests) ->
+                Futures.failedFuture(StoreException.create(StoreException.Type.CONNECTION_ERROR, "connection")),
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException, 10, 1, executor);
+        AssertExtensions.assertFutureThrows("connection", failing.add("table", 1),
+                e -> Exceptions.unwrap(e) instanceof StoreException.StoreConnectionException);
+        assertTrue(failing.add("table", 2).isCompletedExceptionally());
+    }
+
+    @Test(timeout = 10000)
+    public void testSameKeyUpdatesNotBatched() {
+        // Mimics conditional table updates: all the requests in a batch are validated against the versions that precede
+        // the batch, and only then applied. Requests are (key, expected version) pairs; results are the new versions.
+        Map<String, Integer> versions = new HashMap<>();
+        versions.put("a", 0);
+        versions.put("b", 0);
+        List<List<Map.Entry<String, Integer>>> batches = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> firstBatchBlocker = new CompletableFuture<>();
+        TableRequestBatcher<Map.Entry<String, Integer>, Integer> batcher = new TableRequestBatcher<>((table, requests) -> {
+            batches.add(requests);
+            CompletableFuture<Void> blocker = batches.size() == 1 ? firstBatchBlocker : CompletableFuture.completedFuture(null);
+            return blocker.thenApply(v -> {
+                synchronized (versions) {
+                    if (requests.stream().anyMatch(r -> !versions.get(r.getKey()).equals(r.getValue()))) {
+                        throw StoreException.create(StoreException.Type.WRITE_CONFLICT, "conflict");
+                    }
+                    return requests.stream().map(r -> versions.merge(r.getKey(), 1, Integer::sum)).collect(Collectors.toList());
+                }
+            });
+        }, e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException, Map.Entry::getKey, 10, 1, executor);
+
+        CompletableFuture<Integer> first = batcher.add("table", new AbstractMap.SimpleImmutableEntry<>("b", 0));
+        // Two updates of the same key with the same version, both in flight at the same time.
+        CompletableFuture<Integer> update1 = batcher.add("table", new AbstractMap.SimpleImmutableEntry<>("a", 0));
+        CompletableFuture<Integer> update2 = batcher.add("table", new AbstractMap.SimpleImmutableEntry<>("a", 0));
+        CompletableFuture<Integer> other = batcher.add("table", new AbstractMap.SimpleImmutableEntry<>("b", 1));
+        firstBatchBlocker.complete(null);
+
+        assertEquals(1, first.join().intValue());
+        assertEquals(1, update1.join().intValue());
+        AssertExtensions.assertFutureThrows("second update with the same version must fail", update2,
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException);
+        assertEquals(2, other.join().intValue());
+        assertEquals(1, versions.get("a").intValue());
+
+        // The queued requests were cut at the duplicate key into [a] and [a, b]; the latter failed because of its stale
+        // update of "a" and was then retried one request at a time.
+        assertEquals(5, batches.size());
+        assertEquals(1, batches.get(1).size());
+        assertEquals(2, batches.get(2).size());
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.stream;
+
+import io.pravega.controller.store.Version;
+import io.pravega.controller.store.VersionedMetadata;
+import lombok.Data;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CacheTest {
+    @Test(timeout = 10000)
+    public void testConditionalPut() {
+        Cache cache = new Cache(1024 * 1024);
+        TestKey key = new TestKey("key");
+        cache.put(key, new VersionedMetadata<>("v1", new Version.LongVersion(1L)), 10L);
+        assertEquals("v1", cache.getCachedData(key).getObject());
+
+        // newer versions replace the cached record, older ones are ignored.
+        cache.put(key, new VersionedMetadata<>("v2", new Version.LongVersion(2L)), 20L);
+        cache.put(key, new VersionedMetadata<>("v1", new Version.LongVersion(1L)), 30L);
+        assertEquals("v2", cache.getCachedData(key).getObject());
+
+        // records cached before the requested time are not returned.
+        assertEquals("v2", cache.getCachedData(key, 15L).getObject());
+        assertNull(cache.getCachedData(key, 20L));
+
+        cache.invalidateCache(key);
+        assertNull(cache.getCachedData(key));
+    }
+
+    @Test(timeout = 10000)
+    public void testBoundedBySize() {
+        int recordSize = 100;
+        Cache cache = new Cache(10 * recordSize);
+        for (int i = 0; i < 100; i++) {
+            cache.put(new TestKey("key" + i), new VersionedMetadata<>(i, new Version.LongVersion(0L)), 0L, recordSize);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.getCachedData(new TestKey("key" + i)) != null) {
+                cached++;
+            }
+        }
+        assertTrue(cached <= 10);
+    }
+
+    @Data
+    private static class TestKey implements Cache.CacheKey {
+        private final String key;
+    }
+}
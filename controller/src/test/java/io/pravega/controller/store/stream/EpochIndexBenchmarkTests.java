@@ -0,0 +1,155 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.stream;
+
+import io.pravega.client.stream.ScalingPolicy;
+import io.pravega.client.stream.StreamConfiguration;
+import io.pravega.common.Timer;
+import io.pravega.controller.mocks.SegmentHelperMock;
+import io.pravega.controller.server.SegmentHelper;
+import io.pravega.controller.server.security.auth.GrpcAuthHelper;
+import io.pravega.controller.store.PravegaTablesScope;
+import io.pravega.controller.store.PravegaTablesStoreHelper;
+import io.pravega.controller.store.TestOperationContext;
+import io.pravega.controller.store.stream.records.EpochRecord;
+import io.pravega.controller.store.stream.records.StreamSegmentRecord;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark for stream cut queries on a stream with a long scale history (see {@link EpochIndex}). The stream is scaled
+ * {@link #SCALE_COUNT} times, after which {@link PersistentStreamBase#getSegmentsBetweenStreamCuts} is invoked for pairs
+ * of stream cuts that are {@link #EPOCH_SPANS} epochs apart. Each query is executed in two ways:
+ * - Through a stream object that shares its {@link EpochIndex} across all queries (as the Stream Metadata Store does).
+ * - Through a new stream object with an empty {@link EpochIndex}, which reads every epoch in the range from the history
+ * time series on each call.
+ * Stream cuts are picked among the most recent {@link EpochIndex#MAX_EPOCHS} epochs, which all fit in the index window.
+ * Tables are served from memory by {@link SegmentHelperMock}, so the results do not include any network latency.
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class EpochIndexBenchmarkTests extends ThreadPooledTestSuite {
+    private static final String SCOPE = "scope";
+    private static final String STREAM = "stream";
+    private static final int SEGMENT_COUNT = 3;
+    private static final int SCALE_COUNT = 10_000;
+    private static final int[] EPOCH_SPANS = new int[]{10, 100, 900};
+    private static final int QUERY_COUNT = 200;
+    private static final int ITERATION_COUNT = 5;
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 5;
+    }
+
+    @Test
+    public void testSegmentsBetweenStreamCuts() {
+        SegmentHelper segmentHelper = SegmentHelperMock.getSegmentHelperMockForTables(executorService());
+        PravegaTablesStoreHelper storeHelper = new PravegaTablesStoreHelper(segmentHelper, GrpcAuthHelper.getDisabledAuthHelper(),
+                executorService());
+        PravegaTablesScope scope = new PravegaTablesScope(SCOPE, storeHelper);
+        scope.createScope(new TestOperationContext()).join();
+        scope.addStreamToScope(STREAM, new TestOperationContext()).join();
+        EpochIndex sharedIndex = new EpochIndex();
+        Supplier<PersistentStreamBase> indexedStream = () -> new PravegaTablesStream(SCOPE, STREAM, storeHelper, null, () -> 0,
+                scope::getStreamsInScopeTableName, sharedIndex, executorService());
+        Supplier<PersistentStreamBase> unindexedStream = () -> new PravegaTablesStream(SCOPE, STREAM, storeHelper, null, () -> 0,
+                scope::getStreamsInScopeTableName, new EpochIndex(), executorService());
+
+        val timer = new Timer();
+        PersistentStreamBase stream = indexedStream.get();
+        createAndScale(stream);
+        System.out.println(String.format("Created stream with %d epochs in %dms.", SCALE_COUNT + 1, timer.getElapsedMillis()));
+
+        for (int span : EPOCH_SPANS) {
+            val queries = generateQueries(stream, span);
+            for (int i = 0; i < ITERATION_COUNT; i++) {
+                long indexedNanos = runQueries(queries, indexedStream);
+                long unindexedNanos = runQueries(queries, unindexedStream);
+                System.out.println(String.format("Span = %d epochs, Iteration %d: Indexed = %.1f us/query, Unindexed = %.1f us/query.",
+                        span, i, indexedNanos / 1000.0 / QUERY_COUNT, unindexedNanos / 1000.0 / QUERY_COUNT));
+            }
+        }
+    }
+
+    private long runQueries(List<Map.Entry<Map<Long, Long>, Map<Long, Long>>> queries, Supplier<PersistentStreamBase> streamSupplier) {
+        val timer = new Timer();
+        for (val query : queries) {
+            streamSupplier.get().getSegmentsBetweenStreamCuts(query.getKey(), query.getValue(), new TestOperationContext()).join();
+        }
+        return timer.getElapsedNanos();
+    }
+
+    private List<Map.Entry<Map<Long, Long>, Map<Long, Long>>> generateQueries(PersistentStreamBase stream, int span) {
+        val random = new Random(span);
+        val result = new ArrayList<Map.Entry<Map<Long, Long>, Map<Long, Long>>>(QUERY_COUNT);
+        int firstEpoch = SCALE_COUNT - EpochIndex.MAX_EPOCHS + 1;
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            int from = firstEpoch + random.nextInt(EpochIndex.MAX_EPOCHS - span);
+            result.add(new AbstractMap.SimpleImmutableEntry<>(toStreamCut(stream.getEpochRecord(from, new TestOperationContext()).join()),
+                    toStreamCut(stream.getEpochRecord(from + span, new TestOperationContext()).join())));
+        }
+        return result;
+    }
+
+    private Map<Long, Long> toStreamCut(EpochRecord epoch) {
+        Map<Long, Long> streamCut = new HashMap<>();
+        epoch.getSegments().forEach(s -> streamCut.put(s.segmentId(), 0L));
+        return streamCut;
+    }
+
+    private void createAndScale(PersistentStreamBase stream) {
+        val context = new TestOperationContext();
+        StreamConfiguration config = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(SEGMENT_COUNT)).build();
+        stream.create(config, 0L, 0, context)
+              .thenCompose(x -> stream.updateState(State.ACTIVE, context)).join();
+        for (int i = 1; i <= SCALE_COUNT; i++) {
+            // Replace the oldest active segment with a segment covering the same range, so that every segment is sealed
+            // after SEGMENT_COUNT epochs and stream cuts only span a few epochs.
+            StreamSegmentRecord toSeal = stream.getActiveSegments(context).join().stream()
+                                               .min(Comparator.comparingLong(StreamSegmentRecord::segmentId)).get();
+            List<Long> sealed = Collections.singletonList(toSeal.segmentId());
+            List<Map.Entry<Double, Double>> newRanges = Collections.singletonList(
+                    new AbstractMap.SimpleEntry<>(toSeal.getKeyStart(), toSeal.getKeyEnd()));
+            long time = i;
+            stream.getEpochTransition(context)
+                  .thenCompose(etr -> stream.submitScale(sealed, newRanges, time, etr, context)
+                        .thenCompose(submittedEtr -> stream.getVersionedState(context)
+                           .thenCompose(state -> stream.updateVersionedState(state, State.SCALING, context))
+                           .thenCompose(updatedState -> stream.startScale(true, submittedEtr, updatedState, context))
+                           .thenCompose(startedEtr -> stream.scaleCreateNewEpoch(startedEtr, context)
+                                .thenCompose(x -> stream.scaleOldSegmentsSealed(Collections.singletonMap(toSeal.segmentId(), 100L),
+                                        startedEtr, context))
+                                .thenCompose(x -> stream.completeScale(startedEtr, context)))))
+                  .thenCompose(x -> stream.updateState(State.ACTIVE, context)).join();
+        }
+    }
+}
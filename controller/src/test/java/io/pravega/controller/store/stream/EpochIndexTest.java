@@ -0,0 +1,171 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.stream;
+
+import com.google.common.collect.ImmutableList;
+import io.pravega.controller.store.stream.records.EpochRecord;
+import io.pravega.controller.store.stream.records.StreamSegmentRecord;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class EpochIndexTest {
+    private static final long CREATION_TIME = 1L;
+
+    @Test(timeout = 10000)
+    public void testIncrementalWindow() {
+        List<EpochRecord> history = createHistory(20);
+        EpochIndex index = new EpochIndex();
+        assertNull(index.getEpochs(CREATION_TIME, 0, 5));
+        assertEquals(Collections.singletonList(new SimpleEntry<>(0, 5)), index.getMissingRanges(CREATION_TIME, 0, 5));
+
+        index.addEpochs(CREATION_TIME, history.subList(5, 10));
+        assertEquals(history.subList(5, 10), index.getEpochs(CREATION_TIME, 5, 9));
+        assertNull(index.getEpochs(CREATION_TIME, 4, 9));
+
+        // only the epochs on either side of the window are missing.
+        List<Map.Entry<Integer, Integer>> missing = index.getMissingRanges(CREATION_TIME, 2, 12);
+        assertEquals(Arrays.asList(new SimpleEntry<>(2, 4), new SimpleEntry<>(10, 12)), missing);
+        missing.forEach(range -> index.addEpochs(CREATION_TIME, history.subList(range.getKey(), range.getValue() + 1)));
+        assertEquals(history.subList(2, 13), index.getEpochs(CREATION_TIME, 2, 12));
+        assertEquals(Collections.emptyList(), index.getMissingRanges(CREATION_TIME, 3, 11));
+
+        // a range disjoint from the window replaces it.
+        index.addEpochs(CREATION_TIME, history.subList(15, 20));
+        assertNull(index.getEpochs(CREATION_TIME, 2, 3));
+        assertEquals(history.subList(15, 20), index.getEpochs(CREATION_TIME, 15, 19));
+    }
+
+    @Test(timeout = 10000)
+    public void testComputeSpan() {
+        List<EpochRecord> history = createHistory(20);
+        EpochIndex index = new EpochIndex();
+        // build the window out of order so that segments sealed at the junctions are indexed too.
+        index.addEpochs(CREATION_TIME, history.subList(8, 12));
+        index.addEpochs(CREATION_TIME, history.subList(0, 8));
+        index.addEpochs(CREATION_TIME, history.subList(12, 20));
+
+        List<StreamSegmentRecord> segments = history.stream().flatMap(x -> x.getSegments().stream()).distinct()
+                                                    .collect(Collectors.toList());
+        for (StreamSegmentRecord first : segments) {
+            for (StreamSegmentRecord second : segments) {
+                Map<Long, Long> streamCut = new HashMap<>();
+                streamCut.put(first.segmentId(), 0L);
+                streamCut.put(second.segmentId(), 0L);
+                int epochLow = Math.min(first.getCreationEpoch(), second.getCreationEpoch());
+                int epochHigh = Math.max(first.getCreationEpoch(), second.getCreationEpoch());
+                List<EpochRecord> epochs = index.getEpochs(CREATION_TIME, epochLow, epochHigh);
+
+                Map<Long, Integer> expected = new HashMap<>();
+                streamCut.keySet().forEach(segmentId -> {
+                    int epoch = epochHigh;
+                    while (!history.get(epoch).containsSegment(segmentId)) {
+                        epoch--;
+                    }
+                    expected.put(segmentId, epoch);
+                });
+                assertEquals(expected, index.computeSpan(streamCut, epochs).entrySet().stream()
+                                            .collect(Collectors.toMap(x -> x.getKey().segmentId(), Map.Entry::getValue)));
+            }
+        }
+
+        // epochs that are no longer served by the index cannot be used.
+        List<EpochRecord> epochs = index.getEpochs(CREATION_TIME, 0, 1);
+        Map<Long, Long> streamCut = history.get(1).getSegments().stream()
+                                           .collect(Collectors.toMap(StreamSegmentRecord::segmentId, x -> 0L));
+        index.addEpochs(CREATION_TIME + 1, history.subList(15, 20));
+        assertNull(index.computeSpan(streamCut, epochs));
+    }
+
+    @Test(timeout = 10000)
+    public void testRecreatedStream() {
+        List<EpochRecord> history = createHistory(5);
+        EpochIndex index = new EpochIndex();
+        index.addEpochs(CREATION_TIME, history);
+        index.putSealedSize(CREATION_TIME, history.get(0).getSegments().get(0).segmentId(), 100L);
+        assertEquals(history, index.getEpochs(CREATION_TIME, 0, 4));
+        assertEquals(100L, index.getSealedSize(CREATION_TIME, history.get(0).getSegments().get(0).segmentId()).longValue());
+
+        // a stream with a different creation time is a new stream and nothing indexed for the old one applies to it.
+        assertNull(index.getSealedSize(CREATION_TIME + 1, history.get(0).getSegments().get(0).segmentId()));
+        assertNull(index.getEpochs(CREATION_TIME + 1, 0, 4));
+        assertEquals(Collections.singletonList(new SimpleEntry<>(0, 4)), index.getMissingRanges(CREATION_TIME + 1, 0, 4));
+    }
+
+    @Test(timeout = 10000)
+    public void testLimits() {
+        List<EpochRecord> history = createHistory(EpochIndex.MAX_EPOCHS * 2);
+        EpochIndex index = new EpochIndex();
+
+        // ranges wider than the window are not indexed.
+        index.addEpochs(CREATION_TIME, history.subList(0, EpochIndex.MAX_EPOCHS + 1));
+        assertNull(index.getEpochs(CREATION_TIME, 0, 0));
+
+        // extending the window forward drops the oldest epochs.
+        index.addEpochs(CREATION_TIME, history.subList(0, EpochIndex.MAX_EPOCHS));
+        index.addEpochs(CREATION_TIME, history.subList(EpochIndex.MAX_EPOCHS, EpochIndex.MAX_EPOCHS + 10));
+        assertNull(index.getEpochs(CREATION_TIME, 9, 9));
+        assertEquals(history.subList(10, EpochIndex.MAX_EPOCHS + 10), index.getEpochs(CREATION_TIME, 10, EpochIndex.MAX_EPOCHS + 9));
+
+        // extending the window backward drops the most recent epochs.
+        index.addEpochs(CREATION_TIME, history.subList(5, 10));
+        assertNull(index.getEpochs(CREATION_TIME, EpochIndex.MAX_EPOCHS + 5, EpochIndex.MAX_EPOCHS + 5));
+        assertEquals(history.subList(5, EpochIndex.MAX_EPOCHS + 5), index.getEpochs(CREATION_TIME, 5, EpochIndex.MAX_EPOCHS + 4));
+
+        // spans are still computed correctly over the trimmed window.
+        EpochRecord last = history.get(EpochIndex.MAX_EPOCHS + 4);
+        Map<Long, Long> streamCut = last.getSegments().stream().collect(Collectors.toMap(StreamSegmentRecord::segmentId, x -> 0L));
+        int fromEpoch = last.getSegments().stream().mapToInt(StreamSegmentRecord::getCreationEpoch).min().getAsInt();
+        List<EpochRecord> epochs = index.getEpochs(CREATION_TIME, fromEpoch, last.getEpoch());
+        index.computeSpan(streamCut, epochs).values().forEach(epoch -> assertEquals(last.getEpoch(), (int) epoch));
+
+        // only the most recent sealed sizes are remembered.
+        for (long segmentId = 0; segmentId <= EpochIndex.MAX_SEALED_SIZES; segmentId++) {
+            index.putSealedSize(CREATION_TIME, segmentId, segmentId);
+        }
+        assertNull(index.getSealedSize(CREATION_TIME, 0L));
+        assertEquals(1L, index.getSealedSize(CREATION_TIME, 1L).longValue());
+    }
+
+    /**
+     * Creates a history where each epoch replaces one of the two segments of the previous epoch, alternating between the
+     * lower and the upper half of the key space.
+     */
+    private List<EpochRecord> createHistory(int numEpochs) {
+        List<EpochRecord> history = new ArrayList<>();
+        StreamSegmentRecord lower = StreamSegmentRecord.newSegmentRecord(0, 0, 0L, 0.0, 0.5);
+        StreamSegmentRecord upper = StreamSegmentRecord.newSegmentRecord(1, 0, 0L, 0.5, 1.0);
+        history.add(new EpochRecord(0, 0, ImmutableList.of(lower, upper), 0L, 0L, 0L));
+        for (int epoch = 1; epoch < numEpochs; epoch++) {
+            if (epoch % 2 == 1) {
+                lower = StreamSegmentRecord.newSegmentRecord(epoch + 1, epoch, epoch, 0.0, 0.5);
+            } else {
+                upper = StreamSegmentRecord.newSegmentRecord(epoch + 1, epoch, epoch, 0.5, 1.0);
+            }
+            history.add(new EpochRecord(epoch, epoch, ImmutableList.of(lower, upper), epoch, 0L, 0L));
+        }
+        return history;
+    }
+}
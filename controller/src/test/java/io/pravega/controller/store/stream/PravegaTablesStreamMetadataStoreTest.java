@@ -34,6 +34,7 @@ import io.pravega.controller.store.PravegaTablesStoreHelper;
 import io.pravega.controller.store.VersionedMetadata;
 import io.pravega.controller.store.stream.records.CommittingTransactionsRecord;
 import io.pravega.controller.store.stream.records.CompletedTxnRecord;
+import io.pravega.controller.store.stream.records.EpochRecord;
 import io.pravega.controller.store.stream.records.EpochTransitionRecord;
 import io.pravega.controller.store.stream.records.StreamConfigurationRecord;
 import io.pravega.controller.stream.api.grpc.v1.Controller;
@@ -68,6 +69,9 @@ import java.util.stream.Collectors;
 
 import static io.pravega.shared.NameUtils.COMPLETED_TRANSACTIONS_BATCHES_TABLE;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -185,6 +189,47 @@ public class PravegaTablesStreamMetadataStoreTest extends StreamMetadataStoreTes
         assertTrue(scaleIncidents.get(3).getSegments().size() == 2);
     }
 
+    @Test
+    public void testEpochIndexSharedAcrossContexts() {
+        String scope = "testScopeEpochIndex";
+        String stream = "testStreamEpochIndex";
+        StreamConfiguration configuration = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(2)).build();
+        List<Map.Entry<Double, Double>> newRanges = Arrays.asList(new SimpleEntry<>(0.0, 0.5), new SimpleEntry<>(0.5, 1.0));
+
+        store.createScope(scope, null, executor).join();
+        store.createStream(scope, stream, configuration, System.currentTimeMillis(), null, executor).join();
+        store.setState(scope, stream, State.ACTIVE, null, executor).join();
+        for (int i = 0; i < 2; i++) {
+            List<ScaleMetadata> scales = store.getScaleMetadata(scope, stream, 0, Long.MAX_VALUE, null, executor).join();
+            scale(scope, stream, scales.get(scales.size() - 1).getSegments(), newRanges);
+        }
+
+        // every operation context gets its own stream object.
+        PravegaTablesStreamMetadataStore store = (PravegaTablesStreamMetadataStore) this.store;
+        OperationContext first = store.createStreamContext(scope, stream, 0L);
+        OperationContext second = store.createStreamContext(scope, stream, 0L);
+        PersistentStreamBase firstStream = (PersistentStreamBase) ((StreamOperationContext) first).getStream();
+        PersistentStreamBase secondStream = (PersistentStreamBase) ((StreamOperationContext) second).getStream();
+        assertNotSame(firstStream, secondStream);
+
+        long creationTime = store.getCreationTime(scope, stream, null, executor).join();
+        assertNull(store.getEpochIndex(scope, stream).getEpochs(creationTime, 0, 2));
+        List<EpochRecord> firstEpochs = firstStream.fetchEpochs(0, 2, true, first).join();
+        assertEquals(firstEpochs, store.getEpochIndex(scope, stream).getEpochs(creationTime, 0, 2));
+
+        // the second query is served from the index populated by the first one instead of deserializing the history again.
+        List<EpochRecord> secondEpochs = secondStream.fetchEpochs(0, 2, true, second).join();
+        assertEquals(firstEpochs.size(), secondEpochs.size());
+        for (int i = 0; i < firstEpochs.size(); i++) {
+            assertSame(firstEpochs.get(i), secondEpochs.get(i));
+        }
+
+        // the index goes away with the stream.
+        store.setState(scope, stream, State.SEALED, null, executor).join();
+        store.deleteStream(scope, stream, null, executor).join();
+        assertNull(store.getEpochIndex(scope, stream).getEpochs(creationTime, 0, 2));
+    }
+
     @Test
     public void testSplitsMerges() throws Exception {
         String scope = "testScopeScale";
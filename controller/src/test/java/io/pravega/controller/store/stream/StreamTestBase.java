@@ -1308,6 +1308,71 @@ public abstract class StreamTestBase {
         long sizeBetween = stream.sizeBetweenStreamCuts(streamCut1, streamCut2, segmentsBetween, context).join();
         assertEquals(900L, sizeBetween);
     }
+
+    @Test(timeout = 30000L)
+    public void testStreamCutQueriesWithLongHistory() {
+        String scope = "longHistory";
+        String name = "longHistory";
+        int scales = 300;
+        AtomicLong time = new AtomicLong(100L);
+        OperationContext context = getContext();
+        PersistentStreamBase stream = createStream(scope, name, time.get(), 3, 0, 10, 10);
+        for (int i = 0; i < scales; i++) {
+            StreamSegmentRecord first = stream.getActiveSegments(context).join().get(0);
+            ArrayList<Long> sealedSegments = Lists.newArrayList(first.segmentId());
+            List<Map.Entry<Double, Double>> newRanges = new LinkedList<>();
+            newRanges.add(new AbstractMap.SimpleEntry<>(first.getKeyStart(), first.getKeyEnd()));
+            Map<Long, Long> sealedSizeMap = new HashMap<>();
+            sealedSizeMap.put(first.segmentId(), 100L);
+            scaleStream(stream, time.incrementAndGet(), sealedSegments, newRanges, sealedSizeMap);
+        }
+
+        // epoch records read individually do not go through the epoch index.
+        List<EpochRecord> expected = new ArrayList<>();
+        for (int i = 0; i <= scales; i++) {
+            expected.add(stream.getEpochRecord(i, context).join());
+        }
+
+        // build the index from the middle of the history and then extend it in both directions.
+        assertEquals(expected.subList(100, 201), stream.fetchEpochs(100, 200, true, context).join());
+        assertEquals(expected.subList(50, 251), stream.fetchEpochs(50, 250, true, context).join());
+        assertEquals(expected, stream.fetchEpochs(0, scales, true, context).join());
+        assertEquals(expected.subList(150, 151), stream.fetchEpochs(150, 150, false, context).join());
+
+        // stream cuts made of segments from two different epochs.
+        for (int i = 0; i < scales - 10; i += 7) {
+            Map<Long, Long> streamCut = new HashMap<>();
+            EpochRecord older = expected.get(i);
+            EpochRecord newer = expected.get(i + 10);
+            older.getSegments().forEach(x -> streamCut.put(x.segmentId(), 0L));
+            // replace the segments of the older epoch that the newer epoch has sealed successors for, by their successors.
+            newer.getSegments().stream().filter(x -> !older.containsSegment(x.segmentId())).forEach(x -> {
+                older.getSegments().stream().filter(y -> y.overlaps(x)).forEach(y -> streamCut.remove(y.segmentId()));
+                streamCut.put(x.segmentId(), 0L);
+            });
+            assertTrue(stream.isStreamCutValid(streamCut, context).join());
+
+            int epochHigh = streamCut.keySet().stream().mapToInt(NameUtils::getEpoch).max().getAsInt();
+            Map<Long, Integer> expectedSpan = new HashMap<>();
+            streamCut.keySet().forEach(segmentId -> {
+                int epoch = epochHigh;
+                while (!expected.get(epoch).containsSegment(segmentId)) {
+                    epoch--;
+                }
+                expectedSpan.put(segmentId, epoch);
+            });
+            assertEquals(expectedSpan, transform(stream.computeStreamCutSpan(streamCut, context).join()));
+        }
+
+        // sizes of sealed segments are served from the index once read.
+        Map<Long, Long> from = expected.get(10).getSegmentIds().stream().collect(Collectors.toMap(x -> x, x -> 0L));
+        Map<Long, Long> to = expected.get(250).getSegmentIds().stream().collect(Collectors.toMap(x -> x, x -> 0L));
+        Set<StreamSegmentRecord> segmentsBetween = stream.segmentsBetweenStreamCutSpans(
+                stream.computeStreamCutSpan(from, context).join(), stream.computeStreamCutSpan(to, context).join(), context).join();
+        long expectedSize = 100L * segmentsBetween.stream().filter(x -> !to.containsKey(x.segmentId())).count();
+        assertEquals(expectedSize, stream.sizeBetweenStreamCuts(from, to, segmentsBetween, context).join().longValue());
+        assertEquals(expectedSize, stream.sizeBetweenStreamCuts(from, to, segmentsBetween, context).join().longValue());
+    }
     // endregion
     
     /*
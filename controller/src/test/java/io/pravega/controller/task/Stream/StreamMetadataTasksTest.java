@@ -2654,6 +2654,39 @@ public abstract class StreamMetadataTasksTest {
         assertFalse(streamStorePartialMock.checkStreamExists(SCOPE, stream, null, executor).join());
     }
 
+    @Test(timeout = 30000)
+    public void bulkCreateAndDeleteStreamsTest() throws Exception {
+        WriterMock requestEventWriter = new WriterMock(streamMetadataTasks, executor);
+        streamMetadataTasks.setRequestEventWriter(requestEventWriter);
+        Map<String, StreamConfiguration> streams = new HashMap<>();
+        streams.put("bulk0", StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build());
+        streams.put("bulk1", StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(3)).build());
+        streams.put("bulk/2", StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build());
+
+        Map<String, Controller.CreateStreamStatus.Status> created = streamMetadataTasks.createStreams(SCOPE, streams,
+                System.currentTimeMillis(), 0L).join();
+        assertEquals(3, created.size());
+        assertEquals(Controller.CreateStreamStatus.Status.SUCCESS, created.get("bulk0"));
+        assertEquals(Controller.CreateStreamStatus.Status.SUCCESS, created.get("bulk1"));
+        assertEquals(Controller.CreateStreamStatus.Status.INVALID_STREAM_NAME, created.get("bulk/2"));
+        assertEquals(1, consumer.getCurrentSegments(SCOPE, "bulk0", 0L).get().size());
+        assertEquals(3, consumer.getCurrentSegments(SCOPE, "bulk1", 0L).get().size());
+
+        // Creating the same streams again reports them as already existing.
+        created = streamMetadataTasks.createStreams(SCOPE, streams, System.currentTimeMillis(), 0L).join();
+        assertEquals(Controller.CreateStreamStatus.Status.STREAM_EXISTS, created.get("bulk0"));
+        assertEquals(Controller.CreateStreamStatus.Status.STREAM_EXISTS, created.get("bulk1"));
+
+        // Deleting a stream seals it first (first event) and then deletes it (second event).
+        CompletableFuture<Map<String, Controller.DeleteStreamStatus.Status>> deleted = streamMetadataTasks.deleteStreams(SCOPE,
+                Collections.singletonList("bulk0"), 0L);
+        assertTrue(Futures.await(processEvent(requestEventWriter)));
+        assertTrue(Futures.await(processEvent(requestEventWriter)));
+        assertEquals(Controller.DeleteStreamStatus.Status.SUCCESS, deleted.join().get("bulk0"));
+        assertFalse(streamStorePartialMock.checkStreamExists(SCOPE, "bulk0", null, executor).join());
+        assertTrue(streamStorePartialMock.checkStreamExists(SCOPE, "bulk1", null, executor).join());
+    }
+
     @Test(timeout = 30000)
     public void deletePartiallyCreatedStreamTest() throws InterruptedException {
         WriterMock requestEventWriter = new WriterMock(streamMetadataTasks, executor);
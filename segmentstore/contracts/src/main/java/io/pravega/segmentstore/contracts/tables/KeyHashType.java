@@ -0,0 +1,60 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.contracts.tables;
+
+import io.pravega.common.util.EnumHelpers;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defines the hash function used to compute the Key Hashes of a Hash Table Segment. This cannot be changed once the
+ * Table Segment has been created (see {@link TableAttributes#KEY_HASH_TYPE}).
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum KeyHashType {
+    /**
+     * 128 bits out of a SHA-256 hash. This is the default for all Table Segments and the only option for Table Segments
+     * created before {@link TableAttributes#KEY_HASH_TYPE} was introduced.
+     */
+    Sha256((byte) 0),
+
+    /**
+     * 128-bit Murmur3 (x64 variant) hash. This is a non-cryptographic hash that is significantly faster to compute than
+     * {@link #Sha256}, especially for small keys. It should only be used for Table Segments whose keys are not chosen
+     * by untrusted parties, as it is easier to generate Key Hash collisions with it.
+     */
+    Murmur3((byte) 1);
+
+    private static final KeyHashType[] MAPPING = EnumHelpers.indexById(KeyHashType.class, KeyHashType::getTypeId);
+    @Getter
+    private final byte typeId;
+
+    /**
+     * Gets the KeyHashType that has the given type id.
+     *
+     * @param typeId The type id to search by.
+     * @return The mapped KeyHashType.
+     * @throws IllegalArgumentException If no KeyHashType is mapped to the given type id.
+     */
+    public static KeyHashType get(long typeId) {
+        if (typeId < 0 || typeId >= MAPPING.length || MAPPING[(int) typeId] == null) {
+            throw new IllegalArgumentException("Unsupported KeyHashType Id " + typeId);
+        }
+
+        return MAPPING[(int) typeId];
+    }
+}
@@ -63,6 +63,12 @@ public class TableAttributes extends Attributes {
      */
     public static final AttributeId RETIRED_1 = AttributeId.uuid(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 6);
 
+    /**
+     * Defines an attribute that is used to store the {@link KeyHashType#getTypeId()} of the hash function used to compute
+     * the Key Hashes of a (Hash) Table Segment. Table Segments without this attribute use {@link KeyHashType#Sha256}.
+     */
+    public static final AttributeId KEY_HASH_TYPE = AttributeId.uuid(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 7);
+
     /**
      * Defines a Map that contains all Table Attributes along with their default values.
      */
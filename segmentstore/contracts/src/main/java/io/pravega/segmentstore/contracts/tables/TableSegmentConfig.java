@@ -29,9 +29,11 @@ public class TableSegmentConfig {
     private final int keyLength = 0;
     @Builder.Default
     private final long rolloverSizeBytes = 0L;
+    @Builder.Default
+    private final KeyHashType keyHashType = KeyHashType.Sha256;
 
     @Override
     public String toString() {
-        return String.format("KeyLength = %s, RolloverSizeBytes = %s", this.keyLength, this.rolloverSizeBytes);
+        return String.format("KeyLength = %s, RolloverSizeBytes = %s, KeyHashType = %s", this.keyLength, this.rolloverSizeBytes, this.keyHashType);
     }
 }
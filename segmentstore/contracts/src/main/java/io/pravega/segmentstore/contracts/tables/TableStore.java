@@ -28,6 +28,7 @@ import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -180,6 +181,34 @@ public interface TableStore {
      */
     CompletableFuture<List<Long>> put(String segmentName, List<TableEntry> entries, long tableSegmentOffset, Duration timeout);
 
+    /**
+     * Inserts new or updates existing Table Entries into multiple Table Segments. All the Table Segments must belong to
+     * the same Segment Container and must all be of the same kind (either all Fixed-Key-Length Table Segments or none).
+     *
+     * This operation is atomic: the updates for all the Table Segments are recorded as a single entry in the Durable Log,
+     * so either all the Table Segments are updated or none of them is (including upon recovery). All the conditions (see
+     * {@link TableKey#hasVersion()}) across all the Table Segments are validated together with the update itself; if any
+     * of them is not met, none of the Table Segments will be updated.
+     *
+     * @param entries A Map of Table Segment Names to a List of {@link TableEntry} instances to insert or update in that
+     *                Table Segment. Each List follows the same rules as {@link #put(String, List, Duration)}.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain a Map of Table Segment Names to a List with the current
+     * version of each TableEntry Key provided for that Table Segment (in the same order as the TableEntry instances provided).
+     * If the operation failed, the future will be failed with the causing exception. Notable exceptions:
+     * <ul>
+     * <li>{@link StreamSegmentNotExistsException} If any of the Table Segments does not exist.</li>
+     * <li>{@link TableKeyTooLongException} If {@link TableEntry#getKey()} exceeds {@link #MAXIMUM_KEY_LENGTH}.</li>
+     * <li>{@link TableValueTooLongException} If {@link TableEntry#getValue()} exceeds {@link #MAXIMUM_VALUE_LENGTH}.</li>
+     * <li>{@link ConditionalTableUpdateException} If any of the conditions is not met. None of the Table Segments will
+     * be updated.</li>
+     * <li>{@link BadSegmentTypeException} If any of the Segments is not a Table Segment, or if Fixed-Key-Length Table
+     * Segments are mixed with other Table Segments.</li>
+     * <li>{@link IllegalArgumentException} If the Table Segments do not belong to the same Segment Container.</li>
+     * </ul>
+     */
+    CompletableFuture<Map<String, List<Long>>> put(Map<String, List<TableEntry>> entries, Duration timeout);
+
     /**
      * Removes one or more Table Keys from the given Table Segment.
      *
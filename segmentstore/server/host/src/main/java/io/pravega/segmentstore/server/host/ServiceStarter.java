@@ -17,6 +17,7 @@ package io.pravega.segmentstore.server.host;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.sun.management.HotSpotDiagnosticMXBean;
 import io.netty.util.internal.PlatformDependent;
 import io.pravega.common.Exceptions;
@@ -42,6 +43,7 @@ import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
 import io.pravega.segmentstore.server.host.health.SegmentContainerRegistryHealthContributor;
 import io.pravega.shared.health.HealthServiceManager;
 import io.pravega.shared.metrics.MetricsConfig;
+import io.pravega.shared.protocol.netty.DomainSocketAddresses;
 import io.pravega.shared.metrics.MetricsProvider;
 import io.pravega.shared.metrics.StatsProvider;
 import io.pravega.shared.rest.RESTServer;
@@ -157,7 +159,8 @@ public final class ServiceStarter {
                                                       autoScaleMonitor.getStatsRecorder(), autoScaleMonitor.getTableSegmentStatsRecorder(),
                                                       tokenVerifier, this.serviceConfig.getCertFile(), this.serviceConfig.getKeyFile(),
                                                       this.serviceConfig.isReplyWithStackTraceOnError(), serviceBuilder.getLowPriorityExecutor(),
-                                                      this.serviceConfig.getTlsProtocolVersion(), healthServiceManager);
+                                                      this.serviceConfig.getTlsProtocolVersion(), healthServiceManager,
+                                                      getDomainSocketPath(this.serviceConfig));
 
         this.listener.startListening();
         log.info("PravegaConnectionListener started successfully.");
@@ -263,6 +266,21 @@ public final class ServiceStarter {
         });
     }
 
+    /**
+     * Gets the path of the Unix domain socket to serve co-located clients on. The socket is named after the published
+     * port, as that is the port clients resolve this Segment Store to.
+     *
+     * @param config The ServiceConfig.
+     * @return The socket path, or null if no domain socket directory is configured.
+     */
+    @VisibleForTesting
+    static String getDomainSocketPath(ServiceConfig config) {
+        if (Strings.isNullOrEmpty(config.getDomainSocketDirectory())) {
+            return null;
+        }
+        return DomainSocketAddresses.getSocketPath(config.getDomainSocketDirectory(), config.getPublishedPort()).toString();
+    }
+
     @VisibleForTesting
     static void validateConfig(ServiceBuilderConfig config) {
         long xmx = Runtime.getRuntime().maxMemory();
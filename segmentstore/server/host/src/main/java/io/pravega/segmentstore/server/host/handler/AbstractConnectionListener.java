@@ -25,10 +25,11 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
@@ -52,6 +53,7 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -68,6 +70,13 @@ public abstract class AbstractConnectionListener implements AutoCloseable {
 
     private Channel serverChannel; // tracks the status of the connection
 
+    /**
+     * Path of the Unix domain socket to additionally listen on for co-located clients, or null if none.
+     */
+    @Getter
+    private final String domainSocketPath;
+    private Channel domainSocketChannel;
+
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
 
@@ -121,6 +130,27 @@ public abstract class AbstractConnectionListener implements AutoCloseable {
     public AbstractConnectionListener(boolean enableTls, boolean enableTlsReload, String host, int port,
                                       String certFile, String keyFile, String[] tlsProtocolVersion,
                                       HealthServiceManager healthServiceManager) {
+        this(enableTls, enableTlsReload, host, port, certFile, keyFile, tlsProtocolVersion, healthServiceManager, null);
+    }
+
+    /**
+     * Creates a new instance of the AdminConnectionListener class with HealthServiceManager that also listens on a
+     * Unix domain socket for clients running on the same host.
+     *
+     * @param enableTls          Whether to enable SSL/TLS.
+     * @param enableTlsReload    Whether to reload TLS when the X.509 certificate file is replaced.
+     * @param host               The name of the host to listen to.
+     * @param port               The port to listen on.
+     * @param certFile           Path to the certificate file to be used for TLS.
+     * @param keyFile            Path to be key file to be used for TLS.
+     * @param tlsProtocolVersion The version of the TLS protocol
+     * @param healthServiceManager The healthService to register new health contributors related to the listeners.
+     * @param domainSocketPath   (Optional) Path of the Unix domain socket to listen on. Ignored if TLS is enabled or
+     *                           native epoll transport is unavailable.
+     */
+    public AbstractConnectionListener(boolean enableTls, boolean enableTlsReload, String host, int port,
+                                      String certFile, String keyFile, String[] tlsProtocolVersion,
+                                      HealthServiceManager healthServiceManager, String domainSocketPath) {
         this.enableTls = enableTls;
         this.enableTlsReload = this.enableTls && enableTlsReload;
         this.host = Exceptions.checkNotNullOrEmpty(host, "host");
@@ -131,6 +161,7 @@ public abstract class AbstractConnectionListener implements AutoCloseable {
         InternalLoggerFactory.setDefaultFactory(Slf4JLoggerFactory.INSTANCE);
         this.connectionTracker = new ConnectionTracker();
         this.healthServiceManager = healthServiceManager;
+        this.domainSocketPath = domainSocketPath;
     }
 
     /**
@@ -173,25 +204,10 @@ public abstract class AbstractConnectionListener implements AutoCloseable {
                 .channel(nio ? NioServerSocketChannel.class : EpollServerSocketChannel.class)
                 .option(ChannelOption.SO_BACKLOG, 100)
                 .handler(new LoggingHandler(LogLevel.INFO))
-                .childHandler(new ChannelInitializer<SocketChannel>() {
+                .childHandler(new ChannelInitializer<Channel>() {
                     @Override
-                    public void initChannel(SocketChannel ch) {
-                        ChannelPipeline p = ch.pipeline();
-
-                        // Add SslHandler to the channel's pipeline, if TLS is enabled.
-                        if (enableTls) {
-                            SslHandler sslHandler = sslCtx.get().newHandler(ch.alloc());
-
-                            // We add a name to SSL/TLS handler, unlike the other handlers added later, to make it
-                            // easier to find and replace the handler.
-                            p.addLast(TLSHelper.TLS_HANDLER_NAME, sslHandler);
-                        }
-
-                        // Configure the class-specific encoder stack and request processors.
-                        ServerConnectionInboundHandler lsh = new ServerConnectionInboundHandler();
-                        createEncodingStack(ch.remoteAddress().toString()).forEach(p::addLast);
-                        lsh.setRequestProcessor(createRequestProcessor(new TrackedConnection(lsh, connectionTracker)));
-                        p.addLast(lsh);
+                    public void initChannel(Channel ch) {
+                        initConnection(ch, sslCtx);
                     }
                 });
 
@@ -201,12 +217,68 @@ public abstract class AbstractConnectionListener implements AutoCloseable {
 
         // Start the server.
         serverChannel = b.bind(host, port).awaitUninterruptibly().channel();
+        if (domainSocketPath != null) {
+            listenOnDomainSocket(nio);
+        }
 
         if (healthServiceManager != null) {
             healthServiceManager.register(new ConnectionListenerHealthContributor(this));
         }
     }
 
+    private void initConnection(Channel ch, AtomicReference<SslContext> sslCtx) {
+        ChannelPipeline p = ch.pipeline();
+
+        // Add SslHandler to the channel's pipeline, if TLS is enabled.
+        if (enableTls) {
+            SslHandler sslHandler = sslCtx.get().newHandler(ch.alloc());
+
+            // We add a name to SSL/TLS handler, unlike the other handlers added later, to make it
+            // easier to find and replace the handler.
+            p.addLast(TLSHelper.TLS_HANDLER_NAME, sslHandler);
+        }
+
+        // Configure the class-specific encoder stack and request processors.
+        ServerConnectionInboundHandler lsh = new ServerConnectionInboundHandler();
+        createEncodingStack(String.valueOf(ch.remoteAddress())).forEach(p::addLast);
+        lsh.setRequestProcessor(createRequestProcessor(new TrackedConnection(lsh, connectionTracker)));
+        p.addLast(lsh);
+    }
+
+    /**
+     * Listens on {@link #domainSocketPath}, serving connections with the same pipeline as TCP ones. Co-located clients
+     * connecting through it skip the loopback TCP stack. Since the socket is only reachable from this host (and guarded by
+     * file system permissions), it is not offered when TLS is required, as clients would otherwise bypass it.
+     *
+     * @param nio Whether the NIO transport is in use, in which case domain sockets are not available.
+     */
+    private void listenOnDomainSocket(boolean nio) {
+        if (enableTls || nio) {
+            log.warn("Not listening on domain socket {}: {}.", domainSocketPath,
+                    enableTls ? "TLS is enabled" : "native epoll transport is unavailable");
+            return;
+        }
+        try {
+            // A stale socket file left behind by a previous process would make bind fail.
+            Files.deleteIfExists(Paths.get(domainSocketPath));
+        } catch (IOException e) {
+            log.warn("Not listening on domain socket {}: unable to remove existing file.", domainSocketPath, e);
+            return;
+        }
+        ServerBootstrap b = new ServerBootstrap();
+        b.group(bossGroup, workerGroup)
+                .channel(EpollServerDomainSocketChannel.class)
+                .option(ChannelOption.SO_BACKLOG, 100)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    public void initChannel(Channel ch) {
+                        initConnection(ch, null);
+                    }
+                });
+        domainSocketChannel = b.bind(new DomainSocketAddress(domainSocketPath)).awaitUninterruptibly().channel();
+        log.info("Listening on domain socket {}.", domainSocketPath);
+    }
+
     @VisibleForTesting
     void enableTlsContextReload(AtomicReference<SslContext> sslCtx) {
         tlsCertFileModificationMonitor = prepareCertificateMonitor(this.pathToTlsCertFile, this.pathToTlsKeyFile, sslCtx);
@@ -256,6 +328,10 @@ public abstract class AbstractConnectionListener implements AutoCloseable {
                 serverChannel.close();
                 serverChannel.closeFuture().sync();
             }
+            if (domainSocketChannel != null) {
+                domainSocketChannel.close();
+                domainSocketChannel.closeFuture().sync();
+            }
         });
 
         // Shut down all event loops to terminate all threads.
@@ -269,6 +345,14 @@ public abstract class AbstractConnectionListener implements AutoCloseable {
         if (tlsCertFileModificationMonitor != null) {
             tlsCertFileModificationMonitor.stopMonitoring();
         }
+
+        if (domainSocketChannel != null) {
+            try {
+                Files.deleteIfExists(Paths.get(domainSocketPath));
+            } catch (IOException e) {
+                log.warn("Unable to remove domain socket {}.", domainSocketPath, e);
+            }
+        }
     }
 
     /**
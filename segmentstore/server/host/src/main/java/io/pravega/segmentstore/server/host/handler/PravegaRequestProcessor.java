@@ -42,6 +42,7 @@ import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
+import io.pravega.segmentstore.contracts.StreamSegmentException;
 import io.pravega.segmentstore.contracts.StreamSegmentExistsException;
 import io.pravega.segmentstore.contracts.StreamSegmentMergedException;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
@@ -103,6 +104,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
@@ -770,6 +772,56 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 });
     }
 
+    @Override
+    public void updateTableEntriesBatch(final WireCommands.UpdateTableEntriesBatch updateTableEntries) {
+        final List<String> segments = updateTableEntries.getSegments();
+        final String operation = "updateTableEntriesBatch";
+
+        for (String segment : segments) {
+            if (!verifyToken(segment, updateTableEntries.getRequestId(), updateTableEntries.getDelegationToken(), operation)) {
+                updateTableEntries.release();
+                return;
+            }
+        }
+
+        log.debug(updateTableEntries.getRequestId(), "Update Table Segment Entries Batch: Segments={}.", segments);
+        val entries = new LinkedHashMap<String, List<TableEntry>>();
+        val conditional = new AtomicBoolean(false);
+        val size = new AtomicInteger(0);
+        for (int i = 0; i < segments.size(); i++) {
+            val segmentEntries = new ArrayList<TableEntry>(updateTableEntries.getTableEntries().get(i).getEntries().size());
+            for (val e : updateTableEntries.getTableEntries().get(i).getEntries()) {
+                val v = TableEntry.versioned(new ByteBufWrapper(e.getKey().getData()), new ByteBufWrapper(e.getValue().getData()), e.getKey().getKeyVersion());
+                segmentEntries.add(v);
+                size.addAndGet(v.getKey().getKey().getLength() + v.getValue().getLength());
+                if (v.getKey().hasVersion()) {
+                    conditional.set(true);
+                }
+            }
+            entries.put(segments.get(i), segmentEntries);
+        }
+
+        val timer = new Timer();
+        this.connection.adjustOutstandingBytes(size.get());
+        tableStore.put(entries, TIMEOUT)
+                .thenAccept(versions -> {
+                    connection.send(new WireCommands.TableEntriesBatchUpdated(updateTableEntries.getRequestId(),
+                            segments.stream().map(versions::get).collect(Collectors.toList())));
+                    entries.forEach((segment, segmentEntries) ->
+                            this.tableStatsRecorder.updateEntries(segment, segmentEntries.size(), conditional.get(), timer.getElapsed()));
+                })
+                .exceptionally(e -> {
+                    // Report the failure against the Segment that caused it, if known.
+                    val ex = Exceptions.unwrap(e);
+                    val segment = ex instanceof StreamSegmentException ? ((StreamSegmentException) ex).getStreamSegmentName() : segments.get(0);
+                    return handleException(updateTableEntries.getRequestId(), segment, WireCommands.NULL_TABLE_SEGMENT_OFFSET, operation, e);
+                })
+                .whenComplete((r, ex) -> {
+                    this.connection.adjustOutstandingBytes(-size.get());
+                    updateTableEntries.release();
+                });
+    }
+
     @Override
     public void removeTableKeys(final WireCommands.RemoveTableKeys removeTableKeys) {
         String segment = removeTableKeys.getSegment();
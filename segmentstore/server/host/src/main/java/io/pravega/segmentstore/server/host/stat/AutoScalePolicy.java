@@ -0,0 +1,96 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Decides, based on the traffic rates reported for a Segment, whether that Segment needs to be scaled up or down.
+ * Implementations are invoked on the {@link AutoScaleProcessor#report} path and must not block.
+ */
+interface AutoScalePolicy {
+
+    /**
+     * Evaluates the latest traffic report for a Segment.
+     *
+     * @param streamSegmentName The fully qualified name of the Segment.
+     * @param targetRate        The target rate (per Segment) as configured in the Stream's Scaling Policy.
+     * @param ageMillis         The time elapsed since the Segment was created.
+     * @param twoMinuteRate     The two minute rate.
+     * @param fiveMinuteRate    The five minute rate.
+     * @param tenMinuteRate     The ten minute rate.
+     * @param twentyMinuteRate  The twenty minute rate.
+     * @param currentTimeMillis The current time, in milliseconds.
+     * @return A {@link Decision} describing what action (if any) should be taken.
+     */
+    Decision evaluate(String streamSegmentName, long targetRate, long ageMillis, double twoMinuteRate, double fiveMinuteRate,
+                      double tenMinuteRate, double twentyMinuteRate, long currentTimeMillis);
+
+    /**
+     * Discards any state this policy may hold for the given Segment (i.e., because it has been sealed).
+     *
+     * @param streamSegmentName The fully qualified name of the Segment.
+     */
+    void forget(String streamSegmentName);
+
+    /**
+     * Creates the {@link AutoScalePolicy} configured by the given {@link AutoScalerConfig}.
+     *
+     * @param configuration The {@link AutoScalerConfig} to use.
+     * @return A new {@link AutoScalePolicy} instance.
+     */
+    static AutoScalePolicy create(AutoScalerConfig configuration) {
+        switch (configuration.getPolicyType()) {
+            case PREDICTIVE:
+                return new PredictiveAutoScalePolicy(configuration.getForecastHorizon().toMillis(), configuration.getCacheExpiry());
+            case THRESHOLD:
+                return new ThresholdAutoScalePolicy();
+            default:
+                throw new IllegalArgumentException("Unsupported auto-scale policy type: " + configuration.getPolicyType());
+        }
+    }
+
+    /**
+     * The outcome of a call to {@link #evaluate}.
+     */
+    @Data
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    class Decision {
+        static final Decision NONE = new Decision(0, false);
+        /**
+         * The number of Segments to split into, if a scale up is required, or 0 otherwise.
+         */
+        private final int numOfSplits;
+        /**
+         * Whether a scale down (merge) is required.
+         */
+        private final boolean scaleDown;
+
+        static Decision scaleUp(int numOfSplits) {
+            return new Decision(numOfSplits, false);
+        }
+
+        static Decision scaleDown() {
+            return new Decision(0, true);
+        }
+
+        boolean isScaleUp() {
+            return this.numOfSplits > 0;
+        }
+    }
+}
@@ -34,7 +34,6 @@ import io.pravega.shared.controller.event.AutoScaleEvent;
 import io.pravega.shared.controller.event.ControllerEventSerializer;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -57,10 +56,6 @@ public class AutoScaleProcessor implements AutoCloseable {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(AutoScaleProcessor.class));
     private static final EventSerializer SERIALIZER = new EventSerializer();
 
-    private static final long TWO_MINUTES = Duration.ofMinutes(2).toMillis();
-    private static final long FIVE_MINUTES = Duration.ofMinutes(5).toMillis();
-    private static final long TEN_MINUTES = Duration.ofMinutes(10).toMillis();
-    private static final long TWENTY_MINUTES = Duration.ofMinutes(20).toMillis();
     private static final int MAX_CACHE_SIZE = 1000000;
 
     private final EventStreamClientFactory clientFactory;
@@ -68,6 +63,7 @@ public class AutoScaleProcessor implements AutoCloseable {
     private final CompletableFuture<EventStreamWriter<AutoScaleEvent>> writer;
     private final AtomicBoolean startInitWriter;
     private final AutoScalerConfig configuration;
+    private final AutoScalePolicy policy;
     private final Supplier<Long> requestIdGenerator = RandomFactory.create()::nextLong;
     private final ScheduledFuture<?> cacheCleanup;
 
@@ -116,9 +112,13 @@ public class AutoScaleProcessor implements AutoCloseable {
         this.writer = new CompletableFuture<>();
         this.clientFactory = clientFactory;
         this.startInitWriter = new AtomicBoolean(false);
-        
+        this.policy = AutoScalePolicy.create(configuration);
+
         if (simpleCache == null) {
-            this.cache = new SimpleCache<>(MAX_CACHE_SIZE, configuration.getCacheExpiry(), (k, v) -> triggerScaleDown(k, true));
+            this.cache = new SimpleCache<>(MAX_CACHE_SIZE, configuration.getCacheExpiry(), (k, v) -> {
+                this.policy.forget(k);
+                triggerScaleDown(k, true);
+            });
         } else {
             this.cache = simpleCache;
         }
@@ -279,24 +279,21 @@ public class AutoScaleProcessor implements AutoCloseable {
         // possible.
         // So we will decide whether to scale or not and then unblock by asynchronously calling 'writeEvent'
         long currentTime = getTimeMillis();
-        if (currentTime - startTime > configuration.getCooldownDuration().toMillis()) {
+        long age = currentTime - startTime;
+
+        // The policy is always consulted, even during the cool down period, so that stateful policies can keep learning
+        // the Segment's traffic pattern.
+        AutoScalePolicy.Decision decision = policy.evaluate(streamSegmentName, targetRate, age, twoMinuteRate, fiveMinuteRate,
+                tenMinuteRate, twentyMinuteRate, currentTime);
+        if (age > configuration.getCooldownDuration().toMillis()) {
             log.debug("cool down period elapsed for {}", streamSegmentName);
 
             // report to see if a scale operation needs to be performed.
-            if ((twoMinuteRate > 5.0 * targetRate && currentTime - startTime > TWO_MINUTES) ||
-                    (fiveMinuteRate > 2.0 * targetRate && currentTime - startTime > FIVE_MINUTES) ||
-                    (tenMinuteRate > targetRate && currentTime - startTime > TEN_MINUTES)) {
-                int numOfSplits = Math.max(2, (int) (Double.max(Double.max(twoMinuteRate, fiveMinuteRate), tenMinuteRate) / targetRate));
-                log.debug("triggering scale up for {} with number of splits {}", streamSegmentName, numOfSplits);
-
-                triggerScaleUp(streamSegmentName, numOfSplits);
-            }
+            if (decision.isScaleUp()) {
+                log.debug("triggering scale up for {} with number of splits {}", streamSegmentName, decision.getNumOfSplits());
 
-            if (twoMinuteRate < targetRate &&
-                    fiveMinuteRate < targetRate &&
-                    tenMinuteRate < targetRate &&
-                    twentyMinuteRate < targetRate / 2.0 &&
-                    currentTime - startTime > TWENTY_MINUTES) {
+                triggerScaleUp(streamSegmentName, decision.getNumOfSplits());
+            } else if (decision.isScaleDown()) {
                 log.debug("triggering scale down for {}", streamSegmentName);
 
                 triggerScaleDown(streamSegmentName, false);
@@ -311,6 +308,7 @@ public class AutoScaleProcessor implements AutoCloseable {
 
     void notifySealed(String segmentStreamName) {
         cache.remove(segmentStreamName);
+        policy.forget(segmentStreamName);
     }
 
     @VisibleForTesting
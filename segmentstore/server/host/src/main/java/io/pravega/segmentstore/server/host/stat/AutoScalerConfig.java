@@ -39,6 +39,8 @@ public class AutoScalerConfig {
     public static final Property<String> TOKEN_SIGNING_KEY = Property.named("security.auth.token.signingKey.basis", "secret", "tokenSigningKey");
     public static final Property<Boolean> VALIDATE_HOSTNAME = Property.named("controller.connect.security.tls.validateHostName.enable", true, "validateHostName");
     public static final Property<Integer> THREAD_POOL_SIZE = Property.named("threadPool.size", 10, "threadPoolSize");
+    public static final Property<PolicyType> POLICY_TYPE = Property.named("policy.type", PolicyType.THRESHOLD);
+    public static final Property<Integer> FORECAST_HORIZON_IN_SECONDS = Property.named("policy.forecast.horizon.seconds", 5 * 60);
 
     public static final String COMPONENT_CODE = "autoScale";
 
@@ -117,6 +119,18 @@ public class AutoScalerConfig {
     @Getter
     private final int threadPoolSize;
 
+    /**
+     * The policy used to decide when Segments need to be scaled.
+     */
+    @Getter
+    private final PolicyType policyType;
+
+    /**
+     * How far ahead the {@link PolicyType#PREDICTIVE} policy forecasts Segment traffic when making scaling decisions.
+     */
+    @Getter
+    private final Duration forecastHorizon;
+
     private AutoScalerConfig(TypedProperties properties) throws ConfigurationException {
         this.internalRequestStream = properties.get(REQUEST_STREAM);
         this.cooldownDuration = Duration.ofSeconds(properties.getInt(COOLDOWN_IN_SECONDS));
@@ -133,6 +147,8 @@ public class AutoScalerConfig {
         if (this.threadPoolSize <= 0) {
             throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", THREAD_POOL_SIZE));
         }
+        this.policyType = properties.getEnum(POLICY_TYPE, PolicyType.class);
+        this.forecastHorizon = Duration.ofSeconds(properties.getNonNegativeInt(FORECAST_HORIZON_IN_SECONDS));
     }
 
     public static ConfigBuilder<AutoScalerConfig> builder() {
@@ -158,8 +174,24 @@ public class AutoScalerConfig {
                 .append(String.format("tokenSigningKey is %s, ",
                         Strings.isNullOrEmpty(tokenSigningKey) ? "unspecified" : "specified"))
                 .append(String.format("validateHostName: %b, ", validateHostName))
-                .append(String.format("threadPoolSize: %d", threadPoolSize))
+                .append(String.format("threadPoolSize: %d, ", threadPoolSize))
+                .append(String.format("policyType: %s, ", policyType))
+                .append(String.format("forecastHorizon: %s", (forecastHorizon != null) ? forecastHorizon.toString() : "null"))
                 .append(")")
                 .toString();
     }
+
+    /**
+     * The available auto-scale policies.
+     */
+    public enum PolicyType {
+        /**
+         * Scales based on fixed multiples of the target rate applied to the two, five, ten and twenty minute rates.
+         */
+        THRESHOLD,
+        /**
+         * Scales based on a per-Segment traffic forecast, with hysteresis on scale downs.
+         */
+        PREDICTIVE
+    }
 }
@@ -0,0 +1,149 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * {@link AutoScalePolicy} that forecasts the traffic of each Segment using Holt's linear (double exponential) smoothing
+ * over the reported two minute rates, and makes decisions based on where the traffic is heading rather than where it was.
+ * <p>
+ * A Segment is scaled up when its forecast rate (at the configured horizon) exceeds the target rate while the current
+ * rate is already close to it, which allows splits to be requested ahead of a steady ramp-up. Scale downs are subject to
+ * hysteresis: they are only requested after {@link #SCALE_DOWN_CONFIRMATIONS} consecutive reports in which both the
+ * observed and the forecast rates are below half the target rate, so that short dips do not cause merge/split flapping.
+ * <p>
+ * Per-Segment state is evicted once a Segment has not been reported on for the configured expiry, so Segments that are
+ * never explicitly {@link #forget forgotten} (i.e., because they are not tracked by the {@link AutoScaleProcessor} cache)
+ * do not accumulate indefinitely.
+ */
+class PredictiveAutoScalePolicy implements AutoScalePolicy {
+    @VisibleForTesting
+    static final int SCALE_DOWN_CONFIRMATIONS = 3;
+    private static final double LEVEL_SMOOTHING = 0.5;
+    private static final double TREND_SMOOTHING = 0.3;
+    private static final double SCALE_UP_LEAD_FACTOR = 0.8;
+    private static final double SCALE_DOWN_FACTOR = 0.5;
+    private static final long MIN_AGE = Duration.ofMinutes(2).toMillis();
+    private static final long MIN_SCALE_DOWN_AGE = Duration.ofMinutes(10).toMillis();
+
+    private final long forecastHorizonMillis;
+    private final Cache<String, Model> models;
+
+    /**
+     * Creates a new instance of the {@link PredictiveAutoScalePolicy} class.
+     *
+     * @param forecastHorizonMillis How far ahead (in milliseconds) to forecast the traffic of each Segment.
+     * @param modelExpiry           How long to retain the state of a Segment that is no longer being reported on.
+     */
+    PredictiveAutoScalePolicy(long forecastHorizonMillis, Duration modelExpiry) {
+        this(forecastHorizonMillis, modelExpiry, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    PredictiveAutoScalePolicy(long forecastHorizonMillis, Duration modelExpiry, Ticker ticker) {
+        Preconditions.checkArgument(forecastHorizonMillis >= 0, "forecastHorizonMillis must be a non-negative number.");
+        Preconditions.checkArgument(!modelExpiry.isNegative() && !modelExpiry.isZero(), "modelExpiry must be a positive duration.");
+        this.forecastHorizonMillis = forecastHorizonMillis;
+        this.models = CacheBuilder.newBuilder()
+                                  .expireAfterAccess(modelExpiry.toMillis(), TimeUnit.MILLISECONDS)
+                                  .ticker(ticker)
+                                  .build();
+    }
+
+    @Override
+    public Decision evaluate(String streamSegmentName, long targetRate, long ageMillis, double twoMinuteRate, double fiveMinuteRate,
+                             double tenMinuteRate, double twentyMinuteRate, long currentTimeMillis) {
+        Model model = this.models.asMap().computeIfAbsent(streamSegmentName, s -> new Model());
+        synchronized (model) {
+            double forecast = model.update(twoMinuteRate, currentTimeMillis, this.forecastHorizonMillis);
+            if (ageMillis <= MIN_AGE) {
+                return Decision.NONE;
+            }
+
+            if (forecast > targetRate && twoMinuteRate > SCALE_UP_LEAD_FACTOR * targetRate) {
+                model.belowTargetCount = 0;
+                double peak = Double.max(forecast, Double.max(twoMinuteRate, fiveMinuteRate));
+                return Decision.scaleUp(Math.max(2, (int) Math.ceil(peak / targetRate)));
+            }
+
+            double lowWatermark = SCALE_DOWN_FACTOR * targetRate;
+            if (forecast < lowWatermark && twoMinuteRate < lowWatermark && tenMinuteRate < targetRate) {
+                model.belowTargetCount++;
+            } else {
+                model.belowTargetCount = 0;
+            }
+
+            if (model.belowTargetCount >= SCALE_DOWN_CONFIRMATIONS && ageMillis > MIN_SCALE_DOWN_AGE) {
+                model.belowTargetCount = 0;
+                return Decision.scaleDown();
+            }
+
+            return Decision.NONE;
+        }
+    }
+
+    @Override
+    public void forget(String streamSegmentName) {
+        this.models.invalidate(streamSegmentName);
+    }
+
+    @VisibleForTesting
+    int getTrackedSegmentCount() {
+        this.models.cleanUp();
+        return (int) this.models.size();
+    }
+
+    /**
+     * Holt's linear smoothing state for a single Segment. The trend is expressed as a rate change per millisecond so that
+     * irregular reporting intervals are accounted for.
+     */
+    private static class Model {
+        @GuardedBy("this")
+        private double level = Double.NaN;
+        @GuardedBy("this")
+        private double trend;
+        @GuardedBy("this")
+        private long lastUpdateMillis;
+        @GuardedBy("this")
+        private int belowTargetCount;
+
+        /**
+         * Incorporates the given observation and returns the forecast rate at the given horizon.
+         */
+        double update(double observedRate, long currentTimeMillis, long horizonMillis) {
+            if (Double.isNaN(this.level)) {
+                this.level = observedRate;
+                this.trend = 0;
+            } else {
+                long elapsed = Math.max(1, currentTimeMillis - this.lastUpdateMillis);
+                double previousLevel = this.level;
+                this.level = LEVEL_SMOOTHING * observedRate + (1 - LEVEL_SMOOTHING) * (previousLevel + this.trend * elapsed);
+                this.trend = TREND_SMOOTHING * (this.level - previousLevel) / elapsed + (1 - TREND_SMOOTHING) * this.trend;
+            }
+
+            this.lastUpdateMillis = currentTimeMillis;
+            return Math.max(0, this.level + this.trend * horizonMillis);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import java.time.Duration;
+
+/**
+ * {@link AutoScalePolicy} that compares the two, five, ten and twenty minute rates against fixed multiples of the
+ * target rate. A Segment is scaled up as soon as any of the short-term rates exceeds its threshold, and scaled down only
+ * when all of them are below the target rate.
+ */
+class ThresholdAutoScalePolicy implements AutoScalePolicy {
+    private static final long TWO_MINUTES = Duration.ofMinutes(2).toMillis();
+    private static final long FIVE_MINUTES = Duration.ofMinutes(5).toMillis();
+    private static final long TEN_MINUTES = Duration.ofMinutes(10).toMillis();
+    private static final long TWENTY_MINUTES = Duration.ofMinutes(20).toMillis();
+
+    @Override
+    public Decision evaluate(String streamSegmentName, long targetRate, long ageMillis, double twoMinuteRate, double fiveMinuteRate,
+                             double tenMinuteRate, double twentyMinuteRate, long currentTimeMillis) {
+        if ((twoMinuteRate > 5.0 * targetRate && ageMillis > TWO_MINUTES) ||
+                (fiveMinuteRate > 2.0 * targetRate && ageMillis > FIVE_MINUTES) ||
+                (tenMinuteRate > targetRate && ageMillis > TEN_MINUTES)) {
+            int numOfSplits = Math.max(2, (int) (Double.max(Double.max(twoMinuteRate, fiveMinuteRate), tenMinuteRate) / targetRate));
+            return Decision.scaleUp(numOfSplits);
+        }
+
+        if (twoMinuteRate < targetRate &&
+                fiveMinuteRate < targetRate &&
+                tenMinuteRate < targetRate &&
+                twentyMinuteRate < targetRate / 2.0 &&
+                ageMillis > TWENTY_MINUTES) {
+            return Decision.scaleDown();
+        }
+
+        return Decision.NONE;
+    }
+
+    @Override
+    public void forget(String streamSegmentName) {
+        // This policy is stateless.
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToDoubleFunction;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Replays rate traces through {@link AutoScalePolicy} implementations and compares how they react, in terms of how long
+ * Segments stay overloaded (scale latency) and how many scale operations are requested (churn).
+ */
+public class AutoScalePolicySimulationTest {
+    private static final long TARGET_RATE = 100;
+    private static final long TICK = Duration.ofSeconds(5).toMillis();
+    private static final long REPORT_INTERVAL = Duration.ofMinutes(2).toMillis();
+    private static final long COOLDOWN = Duration.ofMinutes(10).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long FORECAST_HORIZON = Duration.ofMinutes(5).toMillis();
+    private static final Duration MODEL_EXPIRY = Duration.ofMinutes(20);
+
+    /**
+     * Replays two days of diurnal traffic (with noise) and verifies that the predictive policy keeps Segments overloaded
+     * for at most half as long as the threshold policy, without requesting more scale operations.
+     */
+    @Test
+    public void testDiurnalTrace() {
+        LongToDoubleFunction trace = diurnal(50, 800, 0.1, 0);
+        SimulationResult threshold = new Simulator(new ThresholdAutoScalePolicy(), trace).run(2 * DAY);
+        SimulationResult predictive = new Simulator(new PredictiveAutoScalePolicy(FORECAST_HORIZON, MODEL_EXPIRY), trace).run(2 * DAY);
+
+        Assert.assertTrue("Expected both policies to scale up.", threshold.getScaleUps() > 0 && predictive.getScaleUps() > 0);
+        Assert.assertTrue("Expected both policies to scale down.", threshold.getScaleDowns() > 0 && predictive.getScaleDowns() > 0);
+        Assert.assertTrue(String.format("Predictive policy did not halve the overloaded time. Threshold = %s, Predictive = %s.",
+                threshold, predictive), 2 * predictive.getOverloadedMillis() <= threshold.getOverloadedMillis());
+        Assert.assertTrue(String.format("Predictive policy caused more churn than threshold policy. Threshold = %s, Predictive = %s.",
+                threshold, predictive), predictive.getScaleUps() + predictive.getScaleDowns() <= threshold.getScaleUps() + threshold.getScaleDowns());
+    }
+
+    /**
+     * Replays traffic that oscillates around the scale down boundary and verifies that the predictive policy's hysteresis
+     * prevents repeated merges.
+     */
+    @Test
+    public void testDipsDoNotCauseFlapping() {
+        // Four Segments that are mostly well below the target rate, but with a burst above it every 6 minutes.
+        LongToDoubleFunction trace = time -> 4 * TARGET_RATE * ((time / REPORT_INTERVAL) % 3 == 0 ? 1.5 : 0.3);
+        SimulationResult predictive = new Simulator(new PredictiveAutoScalePolicy(FORECAST_HORIZON, MODEL_EXPIRY), trace, 4).run(DAY / 4);
+        Assert.assertEquals("Unexpected scale downs: " + predictive, 0, predictive.getScaleDowns());
+    }
+
+    /**
+     * Verifies that {@link PredictiveAutoScalePolicy#forget} discards per-Segment state.
+     */
+    @Test
+    public void testForget() {
+        PredictiveAutoScalePolicy policy = new PredictiveAutoScalePolicy(FORECAST_HORIZON, MODEL_EXPIRY);
+        policy.evaluate("scope/stream/0", TARGET_RATE, 0, 1, 1, 1, 1, 0);
+        policy.evaluate("scope/stream/1", TARGET_RATE, 0, 1, 1, 1, 1, 0);
+        Assert.assertEquals(2, policy.getTrackedSegmentCount());
+        policy.forget("scope/stream/0");
+        Assert.assertEquals(1, policy.getTrackedSegmentCount());
+    }
+
+    /**
+     * Verifies that {@link PredictiveAutoScalePolicy} evicts the state of Segments that are no longer reported on, even if
+     * they are never explicitly forgotten.
+     */
+    @Test
+    public void testModelExpiry() {
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        PredictiveAutoScalePolicy policy = new PredictiveAutoScalePolicy(FORECAST_HORIZON, MODEL_EXPIRY, ticker);
+        policy.evaluate("scope/stream/0", TARGET_RATE, 0, 1, 1, 1, 1, 0);
+        policy.evaluate("scope/stream/1", TARGET_RATE, 0, 1, 1, 1, 1, 0);
+        Assert.assertEquals(2, policy.getTrackedSegmentCount());
+
+        // Keep reporting on the first Segment only; the second one must be evicted once the expiry elapses.
+        nanos.addAndGet(MODEL_EXPIRY.toNanos() / 2);
+        policy.evaluate("scope/stream/0", TARGET_RATE, 0, 1, 1, 1, 1, 0);
+        nanos.addAndGet(MODEL_EXPIRY.toNanos() / 2 + 1);
+        Assert.assertEquals(1, policy.getTrackedSegmentCount());
+
+        nanos.addAndGet(MODEL_EXPIRY.toNanos());
+        Assert.assertEquals(0, policy.getTrackedSegmentCount());
+    }
+
+    /**
+     * Creates a trace that follows a daily cycle between the given minimum and maximum rates, with multiplicative noise.
+     */
+    private static LongToDoubleFunction diurnal(double min, double max, double noise, long seed) {
+        Random random = new Random(seed);
+        double[] noiseSamples = new double[(int) (7 * DAY / TICK)];
+        for (int i = 0; i < noiseSamples.length; i++) {
+            noiseSamples[i] = 1 + noise * (2 * random.nextDouble() - 1);
+        }
+
+        return time -> {
+            double phase = (1 - Math.cos(2 * Math.PI * time / DAY)) / 2;
+            return (min + (max - min) * phase) * noiseSamples[(int) (time / TICK) % noiseSamples.length];
+        };
+    }
+
+    //region Simulator
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class SimulationResult {
+        private final int scaleUps;
+        private final int scaleDowns;
+        private final long overloadedMillis;
+
+        @Override
+        public String toString() {
+            return String.format("ScaleUps = %d, ScaleDowns = %d, Overloaded = %ss", this.scaleUps, this.scaleDowns,
+                    this.overloadedMillis / 1000);
+        }
+    }
+
+    /**
+     * Simulates a Stream whose total traffic is given by a trace and is evenly distributed across its Segments. Segment
+     * rates are aggregated in the same way as {@link SegmentAggregates} and reported to the policy every two minutes, as
+     * {@link SegmentStatsRecorderImpl} does. A scale up splits the Stream's load across more Segments, and a scale down
+     * merges two of them, after which the new Segments start with a fresh cool down period.
+     */
+    private static class Simulator {
+        private static final long[] WINDOWS = new long[]{2, 5, 10, 20};
+        private final AutoScalePolicy policy;
+        private final LongToDoubleFunction trace;
+        private final double[] rates = new double[WINDOWS.length];
+        private int segmentCount;
+        private int generation;
+        private long segmentStartTime;
+
+        Simulator(AutoScalePolicy policy, LongToDoubleFunction trace) {
+            this(policy, trace, 1);
+        }
+
+        Simulator(AutoScalePolicy policy, LongToDoubleFunction trace, int initialSegmentCount) {
+            this.policy = policy;
+            this.trace = trace;
+            this.segmentCount = initialSegmentCount;
+        }
+
+        SimulationResult run(long duration) {
+            int scaleUps = 0;
+            int scaleDowns = 0;
+            long overloaded = 0;
+            for (long time = TICK; time <= duration; time += TICK) {
+                double segmentRate = this.trace.applyAsDouble(time) / this.segmentCount;
+                for (int i = 0; i < WINDOWS.length; i++) {
+                    double alpha = 1 - Math.exp(-(double) TICK / Duration.ofMinutes(WINDOWS[i]).toMillis());
+                    this.rates[i] += alpha * (segmentRate - this.rates[i]);
+                }
+
+                if (segmentRate > TARGET_RATE) {
+                    overloaded += TICK;
+                }
+
+                if (time % REPORT_INTERVAL != 0) {
+                    continue;
+                }
+
+                long age = time - this.segmentStartTime;
+                String segmentName = "scope/stream/" + this.generation;
+                AutoScalePolicy.Decision decision = this.policy.evaluate(segmentName, TARGET_RATE, age,
+                        this.rates[0], this.rates[1], this.rates[2], this.rates[3], time);
+                if (age <= COOLDOWN) {
+                    continue;
+                }
+
+                if (decision.isScaleUp()) {
+                    scaleUps++;
+                    rescale(segmentName, this.segmentCount + decision.getNumOfSplits() - 1, time);
+                } else if (decision.isScaleDown() && this.segmentCount > 1) {
+                    scaleDowns++;
+                    rescale(segmentName, this.segmentCount - 1, time);
+                }
+            }
+
+            return new SimulationResult(scaleUps, scaleDowns, overloaded);
+        }
+
+        private void rescale(String segmentName, int newSegmentCount, long time) {
+            // The new Segments inherit a proportional share of the old Segment's traffic history.
+            for (int i = 0; i < this.rates.length; i++) {
+                this.rates[i] = this.rates[i] * this.segmentCount / newSegmentCount;
+            }
+
+            this.policy.forget(segmentName);
+            this.segmentCount = newSegmentCount;
+            this.generation++;
+            this.segmentStartTime = time;
+        }
+    }
+
+    //endregion
+}
@@ -17,6 +17,7 @@ package io.pravega.segmentstore.server.host.stat;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 public class AutoScalerConfigTest {
@@ -42,4 +43,19 @@ public class AutoScalerConfigTest {
     }
 
     // endregion
+
+    @Test
+    public void testPolicyType() {
+        AutoScalerConfig config = AutoScalerConfig.builder().build();
+        assertEquals(AutoScalerConfig.PolicyType.THRESHOLD, config.getPolicyType());
+        assertEquals(ThresholdAutoScalePolicy.class, AutoScalePolicy.create(config).getClass());
+
+        config = AutoScalerConfig.builder()
+                .with(AutoScalerConfig.POLICY_TYPE, AutoScalerConfig.PolicyType.PREDICTIVE)
+                .with(AutoScalerConfig.FORECAST_HORIZON_IN_SECONDS, 60)
+                .build();
+        assertEquals(AutoScalerConfig.PolicyType.PREDICTIVE, config.getPolicyType());
+        assertEquals(60, config.getForecastHorizon().getSeconds());
+        assertEquals(PredictiveAutoScalePolicy.class, AutoScalePolicy.create(config).getClass());
+    }
 }
@@ -17,14 +17,20 @@ package io.pravega.segmentstore.server;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
+import io.pravega.common.util.BufferView;
+import io.pravega.segmentstore.contracts.AttributeUpdate;
+import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
 import io.pravega.segmentstore.contracts.SegmentApi;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.server.logs.MetadataUpdateException;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nullable;
+import lombok.Data;
+import lombok.NonNull;
 
 /**
  * Defines a Container for StreamSegments.
@@ -105,6 +111,21 @@ public interface SegmentContainer extends SegmentApi, Container {
     CompletableFuture<DirectSegmentAccess> forSegment(String streamSegmentName, @Nullable OperationPriority desiredPriority,
                                                       Duration timeout);
 
+    /**
+     * Appends data to multiple Segments atomically: either all the given {@link SegmentAppend}s are applied or none of
+     * them is. If any of them is rejected (i.e., because one of its {@link AttributeUpdate}s has a condition that is not
+     * met or the Segment is sealed), then none of them will be applied. All the appends are recorded in the DurableLog
+     * as a single entry, so this also holds true upon recovery.
+     *
+     * @param appends The {@link SegmentAppend}s to apply. There may be at most one {@link SegmentAppend} for each Segment.
+     *                The Segments must have been loaded in the Container's metadata (see {@link #forSegment}).
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed normally, will contain the offsets at which each of the
+     * {@link SegmentAppend}s was written, in the same order as they were given. If the operation failed, the future
+     * will be failed with the causing exception and none of the {@link SegmentAppend}s will have been applied.
+     */
+    CompletableFuture<List<Long>> appendAtomically(List<SegmentAppend> appends, Duration timeout);
+
     /**
      * Gets a registered {@link SegmentContainerExtension} of the given type.
      *
@@ -139,4 +160,24 @@ public interface SegmentContainer extends SegmentApi, Container {
     @VisibleForTesting
     @Beta
     CompletableFuture<Void> flushToStorage(Duration timeout);
+
+    /**
+     * An Append to a single Segment, used with {@link #appendAtomically}.
+     */
+    @Data
+    class SegmentAppend {
+        /**
+         * The Id of the Segment to append to.
+         */
+        private final long segmentId;
+        /**
+         * The data to append.
+         */
+        @NonNull
+        private final BufferView data;
+        /**
+         * (Optional) The {@link AttributeUpdate}s to apply along with the append.
+         */
+        private final AttributeUpdateCollection attributeUpdates;
+    }
 }
@@ -542,5 +542,57 @@ public final class SegmentStoreMetrics {
         DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_SEGMENT_USED_CREDITS, credits, segmentTagDirect(segmentName));
     }
 
+    /**
+     * Reports the compaction debt (estimated number of obsolete bytes that can be reclaimed by compaction) for a given
+     * Table Segment. Similarly to {@link #tableSegmentUsedCredits}, we report the Segment name directly via the tag.
+     *
+     * @param segmentName    Name of the Table Segment that reports the compaction debt.
+     * @param compactionDebt Compaction debt for the Table Segment, in bytes.
+     */
+    public static void tableSegmentCompactionDebt(String segmentName, long compactionDebt) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_SEGMENT_COMPACTION_DEBT, compactionDebt, segmentTagDirect(segmentName));
+    }
+
+    /**
+     * Table Segment Compaction metrics.
+     */
+    public final static class TableCompaction implements AutoCloseable {
+        /**
+         * Number of bytes processed by Table Segment compactions.
+         */
+        private final Counter compactionBytes;
+        /**
+         * Number of Table Segment compaction rounds executed.
+         */
+        private final Counter compactionCount;
+        /**
+         * Amount of time Table Segment compactions were delayed due to rate limiting.
+         */
+        private final OpStatsLogger throttleDelay;
+
+        public TableCompaction(int containerId) {
+            String[] containerTag = containerTag(containerId);
+            this.compactionBytes = STATS_LOGGER.createCounter(MetricsNames.TABLE_SEGMENT_COMPACTION_BYTES, containerTag);
+            this.compactionCount = STATS_LOGGER.createCounter(MetricsNames.TABLE_SEGMENT_COMPACTION_COUNT, containerTag);
+            this.throttleDelay = STATS_LOGGER.createStats(MetricsNames.TABLE_SEGMENT_COMPACTION_THROTTLE_DELAY, containerTag);
+        }
+
+        public void compactionComplete(int processedBytes) {
+            this.compactionBytes.add(processedBytes);
+            this.compactionCount.inc();
+        }
+
+        public void throttled(Duration delay) {
+            this.throttleDelay.reportSuccessEvent(delay);
+        }
+
+        @Override
+        public void close() {
+            this.compactionBytes.close();
+            this.compactionCount.close();
+            this.throttleDelay.close();
+        }
+    }
+
     //endregion
 }
@@ -230,6 +230,11 @@ class ReadOnlySegmentContainer extends AbstractIdleService implements SegmentCon
         return unsupported("forSegment");
     }
 
+    @Override
+    public CompletableFuture<List<Long>> appendAtomically(List<SegmentAppend> appends, Duration timeout) {
+        return unsupported("appendAtomically");
+    }
+
     private <T> CompletableFuture<T> unsupported(String methodName) {
         return Futures.failedFuture(new UnsupportedOperationException(methodName + " is unsupported on " + getClass().getSimpleName()));
     }
@@ -68,6 +68,7 @@ import io.pravega.segmentstore.server.logs.PriorityCalculator;
 import io.pravega.segmentstore.server.logs.operations.AttributeUpdaterOperation;
 import io.pravega.segmentstore.server.logs.operations.DeleteSegmentOperation;
 import io.pravega.segmentstore.server.logs.operations.MergeSegmentOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
 import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
@@ -89,6 +90,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -669,6 +671,23 @@ class StreamSegmentContainer extends AbstractService implements SegmentContainer
                         segmentId -> CompletableFuture.completedFuture(new DirectSegmentWrapper(segmentId, priority)));
     }
 
+    @Override
+    public CompletableFuture<List<Long>> appendAtomically(List<SegmentAppend> appends, Duration timeout) {
+        ensureRunning();
+
+        TimeoutTimer timer = new TimeoutTimer(timeout);
+        logRequest("appendAtomically", appends.size());
+        appends.forEach(a -> this.metrics.append());
+        val operation = new MultiSegmentAppendOperation(appends.stream()
+                .map(a -> new StreamSegmentAppendOperation(a.getSegmentId(), a.getData(), a.getAttributeUpdates()))
+                .collect(Collectors.toList()));
+        CompletableFuture<Void> result = processMultiSegmentAppend(operation, timer);
+        Futures.exceptionListener(result, ex -> operation.close());
+        return result.thenApply(v -> operation.getAppends().stream()
+                .map(StreamSegmentAppendOperation::getStreamSegmentOffset)
+                .collect(Collectors.toList()));
+    }
+
     //endregion
     private CompletableFuture<SnapshotInfo> readStorageSnapshot(Duration timeout) {
         val segmentId =   this.metadata.getStreamSegmentId(NameUtils.getMetadataSegmentName(this.metadata.getContainerId()), false);
@@ -1016,6 +1035,54 @@ class StreamSegmentContainer extends AbstractService implements SegmentContainer
         return addOperation(new DeleteSegmentOperation(segmentId), timeout);
     }
 
+    /**
+     * Processes the given {@link MultiSegmentAppendOperation} with exactly one retry in case it was rejected because of
+     * an attribute update failure due to the attribute value missing from the in-memory cache. See
+     * {@link #processAttributeUpdaterOperation}.
+     *
+     * @param operation The Operation to process.
+     * @param timer     Timer for the operation.
+     * @return A CompletableFuture that, when completed normally, will indicate that the Operation has been successfully
+     * processed. If it failed, it will be completed with an appropriate exception.
+     */
+    private CompletableFuture<Void> processMultiSegmentAppend(MultiSegmentAppendOperation operation, TimeoutTimer timer) {
+        return Futures.exceptionallyCompose(
+                addOperation(operation, timer.getRemaining()),
+                ex -> {
+                    ex = Exceptions.unwrap(ex);
+                    if (ex instanceof BadAttributeUpdateException && ((BadAttributeUpdateException) ex).isPreviousValueMissing()) {
+                        // We do not know which of the Segments had the missing value, so load the extended attributes
+                        // for all of them, then retry the operation, exactly once.
+                        val loadAttributes = operation.getAppends().stream()
+                                .filter(a -> a.getAttributeUpdates() != null)
+                                .map(a -> {
+                                    Collection<AttributeId> attributeIds = a.getAttributeUpdates().stream()
+                                            .map(AttributeUpdate::getAttributeId)
+                                            .filter(id -> !Attributes.isCoreAttribute(id))
+                                            .collect(Collectors.toList());
+                                    return attributeIds.isEmpty()
+                                            ? CompletableFuture.<Map<AttributeId, Long>>completedFuture(null)
+                                            : getAndCacheAttributes(this.metadata.getStreamSegmentMetadata(a.getStreamSegmentId()), attributeIds, true, timer);
+                                })
+                                .collect(Collectors.toList());
+                        return Futures.allOf(loadAttributes)
+                                .thenComposeAsync(v -> addOperation(operation, timer.getRemaining()), this.executor);
+                    }
+
+                    // Anything else is non-retryable; rethrow.
+                    return Futures.failedFuture(ex);
+                });
+    }
+
+    private CompletableFuture<Void> addOperation(MultiSegmentAppendOperation operation, Duration timeout) {
+        // The whole operation is processed with the most important priority required by any of its Appends.
+        OperationPriority priority = operation.getAppends().stream()
+                .map(a -> calculatePriority(this.metadata.getStreamSegmentMetadata(a.getStreamSegmentId()).getType(), a))
+                .min(Comparator.comparingInt(OperationPriority::getValue))
+                .orElse(OperationPriority.Normal);
+        return this.durableLog.add(operation, priority, timeout);
+    }
+
     private <T extends Operation & SegmentOperation> CompletableFuture<Void> addOperation(T operation, Duration timeout) {
         SegmentMetadata sm = this.metadata.getStreamSegmentMetadata(operation.getStreamSegmentId());
         OperationPriority priority = calculatePriority(sm.getType(), operation);
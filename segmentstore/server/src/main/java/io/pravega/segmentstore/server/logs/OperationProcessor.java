@@ -31,6 +31,7 @@ import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.server.ServiceHaltException;
 import io.pravega.segmentstore.server.UpdateableContainerMetadata;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
@@ -50,6 +51,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.Getter;
@@ -415,19 +417,55 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
 
         Operation entry = operation.getOperation();
         synchronized (this.stateLock) {
-            // Update Metadata and Operations with any missing data (offsets, lengths, etc) - the Metadata Updater
-            // has all the knowledge for that task.
-            this.metadataUpdater.preProcessOperation(entry);
-
-            // Entry is ready to be serialized; assign a sequence number.
-            entry.setSequenceNumber(this.metadataUpdater.nextOperationSequenceNumber());
-            this.dataFrameBuilder.append(entry);
-            this.metadataUpdater.acceptOperation(entry);
+            if (entry instanceof MultiSegmentAppendOperation) {
+                processMultiSegmentAppend((MultiSegmentAppendOperation) entry);
+            } else {
+                // Update Metadata and Operations with any missing data (offsets, lengths, etc) - the Metadata Updater
+                // has all the knowledge for that task.
+                this.metadataUpdater.preProcessOperation(entry);
+
+                // Entry is ready to be serialized; assign a sequence number.
+                entry.setSequenceNumber(this.metadataUpdater.nextOperationSequenceNumber());
+                this.dataFrameBuilder.append(entry);
+                this.metadataUpdater.acceptOperation(entry);
+            }
         }
 
         log.trace("{}: DataFrameBuilder.Append {}.", this.traceObjectId, entry);
     }
 
+    /**
+     * Processes a {@link MultiSegmentAppendOperation}. All its Appends are pre-processed before any of them is accepted,
+     * so if any of them is rejected (i.e., due to a failed Attribute Update condition), none of them will be. Each Append
+     * is assigned its own Sequence Number, but they are all serialized to the DataFrameBuilder as a single record.
+     *
+     * @param operation The operation to process.
+     * @throws Exception If an exception occurred while processing this operation.
+     */
+    @GuardedBy("stateLock")
+    private void processMultiSegmentAppend(MultiSegmentAppendOperation operation) throws Exception {
+        try {
+            for (Operation append : operation.getAppends()) {
+                this.metadataUpdater.preProcessOperation(append);
+            }
+        } catch (Exception ex) {
+            // Undo whatever the successful pre-processing calls did to this operation, as the caller may retry it.
+            operation.resetPreProcessing();
+            throw ex;
+        }
+
+        for (Operation append : operation.getAppends()) {
+            append.setSequenceNumber(this.metadataUpdater.nextOperationSequenceNumber());
+        }
+
+        // The operation is recorded in the log under the Sequence Number of its last Append.
+        operation.setSequenceNumber(operation.getAppends().get(operation.getAppends().size() - 1).getSequenceNumber());
+        this.dataFrameBuilder.append(operation);
+        for (Operation append : operation.getAppends()) {
+            this.metadataUpdater.acceptOperation(append);
+        }
+    }
+
     /**
      * Closes the Operation Queue and fails all Operations in it with the given exception.
      *
@@ -479,7 +517,8 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         try {
             do {
                 Timer memoryCommitTimer = new Timer();
-                this.stateUpdater.process(items.stream().flatMap(List::stream).map(CompletableOperation::getOperation).iterator(),
+                this.stateUpdater.process(items.stream().flatMap(List::stream).map(CompletableOperation::getOperation)
+                                .flatMap(OperationProcessor::expand).iterator(),
                         this.state::notifyOperationCommitted);
                 this.metrics.memoryCommit(items.size(), memoryCommitTimer.getElapsed());
                 this.metrics.reportOperationLogSize(this.stateUpdater.getInMemoryOperationLogSize(), this.metadata.getContainerId());
@@ -497,6 +536,16 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         }
     }
 
+    /**
+     * Expands the given {@link Operation} into the Operations that need to be applied to the in-memory structures. This
+     * is the {@link Operation} itself, except for a {@link MultiSegmentAppendOperation}, which is made up of its Appends.
+     */
+    static Stream<Operation> expand(Operation operation) {
+        return operation instanceof MultiSegmentAppendOperation
+                ? ((MultiSegmentAppendOperation) operation).getAppends().stream().map(Operation.class::cast)
+                : Stream.of(operation);
+    }
+
     //endregion
 
     //region QueueProcessingState
@@ -26,6 +26,7 @@ import io.pravega.segmentstore.server.ServiceHaltException;
 import io.pravega.segmentstore.server.UpdateableContainerMetadata;
 import io.pravega.segmentstore.server.logs.operations.CheckpointOperationBase;
 import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
 import io.pravega.segmentstore.storage.DurableDataLog;
@@ -198,8 +199,19 @@ class RecoveryProcessor {
     }
 
     protected void recoverOperation(DataFrameRecord<Operation> dataFrameRecord, OperationMetadataUpdater metadataUpdater) throws ServiceHaltException {
-        // Update Metadata Sequence Number.
         Operation operation = dataFrameRecord.getItem();
+        if (operation instanceof MultiSegmentAppendOperation) {
+            // Each Append in the group has its own Sequence Number and is recovered as if it were written individually.
+            for (Operation append : ((MultiSegmentAppendOperation) operation).getAppends()) {
+                recoverOperation(append, metadataUpdater);
+            }
+        } else {
+            recoverOperation(operation, metadataUpdater);
+        }
+    }
+
+    private void recoverOperation(Operation operation, OperationMetadataUpdater metadataUpdater) throws ServiceHaltException {
+        // Update Metadata Sequence Number.
         metadataUpdater.setOperationSequenceNumber(operation.getSequenceNumber());
 
         // Update the metadata with the information from the Operation.
@@ -0,0 +1,170 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs.operations;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.io.serialization.RevisionDataInput;
+import io.pravega.common.io.serialization.RevisionDataOutput;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.AttributeUpdate;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Log Operation that represents Appends to multiple Segments which must be applied atomically: either all of them are
+ * accepted or none of them is. The whole operation is serialized as a single record in the DurableDataLog, so upon
+ * recovery either all of its Appends are recovered or none of them is.
+ *
+ * This operation is never added to the In-Memory Transaction Log; once committed, each of its Appends is processed as if
+ * it were a standalone {@link StreamSegmentAppendOperation}.
+ */
+public class MultiSegmentAppendOperation extends Operation implements AutoCloseable {
+    //region Members
+
+    private static final StreamSegmentAppendOperation.Serializer APPEND_SERIALIZER = new StreamSegmentAppendOperation.Serializer();
+    /**
+     * The Appends that make up this operation, in the order in which they are to be processed.
+     */
+    @Getter
+    private List<StreamSegmentAppendOperation> appends;
+    private final List<Long> initialOffsets;
+    private final Map<AttributeUpdate, Long> initialAttributeValues;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the MultiSegmentAppendOperation class.
+     *
+     * @param appends The Appends to apply atomically. There may be at most one Append for each Segment.
+     */
+    public MultiSegmentAppendOperation(@NonNull List<StreamSegmentAppendOperation> appends) {
+        Preconditions.checkArgument(!appends.isEmpty(), "At least one Append must be provided.");
+        Preconditions.checkArgument(appends.stream().map(StreamSegmentAppendOperation::getStreamSegmentId).distinct().count() == appends.size(),
+                "Each Segment may only be appended to once in a MultiSegmentAppendOperation.");
+        this.appends = Collections.unmodifiableList(new ArrayList<>(appends));
+
+        // Pre-processing an Append updates its offset and the values of some of its Attribute Updates. Remember their
+        // original values so that we can revert them should this operation be rejected.
+        this.initialOffsets = new ArrayList<>(appends.size());
+        this.initialAttributeValues = new IdentityHashMap<>();
+        for (StreamSegmentAppendOperation a : this.appends) {
+            this.initialOffsets.add(a.getStreamSegmentOffset());
+            if (a.getAttributeUpdates() != null) {
+                a.getAttributeUpdates().forEach(au -> this.initialAttributeValues.put(au, au.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Deserialization constructor.
+     */
+    private MultiSegmentAppendOperation() {
+        this.initialOffsets = Collections.emptyList();
+        this.initialAttributeValues = Collections.emptyMap();
+    }
+
+    @Override
+    public void close() {
+        this.appends.forEach(StreamSegmentAppendOperation::close);
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Reverts the changes made to the Appends while pre-processing them (offsets and Attribute Update values). This must
+     * be invoked if any of the Appends has been rejected, so that this operation may be safely retried.
+     */
+    public void resetPreProcessing() {
+        for (int i = 0; i < this.initialOffsets.size(); i++) {
+            this.appends.get(i).setStreamSegmentOffset(this.initialOffsets.get(i));
+        }
+
+        this.initialAttributeValues.forEach(AttributeUpdate::setValue);
+    }
+
+    @Override
+    public long getCacheLength() {
+        return this.appends.stream().mapToLong(StreamSegmentAppendOperation::getCacheLength).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, Appends = %d", super.toString(), this.appends.size());
+    }
+
+    //endregion
+
+    //region Serializer
+
+    static class Serializer extends OperationSerializer<MultiSegmentAppendOperation> {
+        @Override
+        protected OperationBuilder<MultiSegmentAppendOperation> newBuilder() {
+            return new OperationBuilder<>(new MultiSegmentAppendOperation());
+        }
+
+        @Override
+        protected byte getWriteVersion() {
+            return 0;
+        }
+
+        @Override
+        protected void declareVersions() {
+            version(0).revision(0, this::write00, this::read00);
+        }
+
+        @Override
+        protected void beforeSerialization(MultiSegmentAppendOperation o) {
+            super.beforeSerialization(o);
+            long previousSequenceNumber = Operation.NO_SEQUENCE_NUMBER;
+            for (StreamSegmentAppendOperation a : o.appends) {
+                Preconditions.checkState(a.getSequenceNumber() > previousSequenceNumber && a.getSequenceNumber() <= o.getSequenceNumber(),
+                        "Append Sequence Numbers must be increasing and may not exceed the Sequence Number of the operation.");
+                Preconditions.checkState(a.getStreamSegmentOffset() >= 0, "Append Segment Offset has not been assigned.");
+                previousSequenceNumber = a.getSequenceNumber();
+            }
+        }
+
+        private void write00(MultiSegmentAppendOperation o, RevisionDataOutput target) throws IOException {
+            val serializedAppends = new ArrayList<ByteArraySegment>(o.appends.size());
+            for (StreamSegmentAppendOperation a : o.appends) {
+                serializedAppends.add(APPEND_SERIALIZER.serialize(a));
+            }
+
+            target.length(Long.BYTES + target.getCollectionLength(serializedAppends, a -> target.getCompactIntLength(a.getLength()) + a.getLength()));
+            target.writeLong(o.getSequenceNumber());
+            target.writeCollection(serializedAppends, RevisionDataOutput::writeBuffer);
+        }
+
+        private void read00(RevisionDataInput source, OperationBuilder<MultiSegmentAppendOperation> b) throws IOException {
+            b.instance.setSequenceNumber(source.readLong());
+            b.instance.appends = Collections.unmodifiableList(
+                    source.readCollection(s -> APPEND_SERIALIZER.deserialize(s.readArray()), ArrayList::new));
+        }
+    }
+
+    //endregion
+}
@@ -22,8 +22,11 @@ import io.pravega.segmentstore.contracts.ContainerNotFoundException;
 import io.pravega.segmentstore.server.SegmentContainer;
 import io.pravega.segmentstore.server.SegmentContainerRegistry;
 import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.util.Collection;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -70,6 +73,32 @@ public abstract class SegmentContainerCollection {
         return invoke(containerId, toInvoke, methodName, logArgs);
     }
 
+    /**
+     * Executes the given Function on the SegmentContainer that all the given Segments map to.
+     *
+     * @param streamSegmentNames The names of the StreamSegments to fetch the Container for. All of them must map to the
+     *                           same Container.
+     * @param toInvoke           A Function that will be invoked on the Container.
+     * @param methodName         The name of the calling method (for logging purposes).
+     * @param logArgs            (Optional) A vararg array of items to be logged.
+     * @param <T>                Resulting type.
+     * @return Either the result of toInvoke or a CompletableFuture completed exceptionally with a ContainerNotFoundException
+     * in case the SegmentContainer that the Segments map to does not exist in this StreamSegmentService, or with an
+     * IllegalArgumentException if the Segments do not all map to the same SegmentContainer.
+     */
+    protected <T> CompletableFuture<T> invoke(Collection<String> streamSegmentNames, Function<SegmentContainer, CompletableFuture<T>> toInvoke,
+                                              String methodName, Object... logArgs) {
+        Set<Integer> containerIds = streamSegmentNames.stream()
+                .map(this.segmentToContainerMapper::getContainerId)
+                .collect(Collectors.toSet());
+        if (containerIds.size() != 1) {
+            return Futures.failedFuture(new IllegalArgumentException(
+                    String.format("Segments %s must map to exactly one Segment Container; found %s.", streamSegmentNames, containerIds)));
+        }
+
+        return invoke(containerIds.iterator().next(), toInvoke, methodName, logArgs);
+    }
+
     /**
      * Executes the given Function on the StreamSegmentContainer that the given Id maps to.
      *
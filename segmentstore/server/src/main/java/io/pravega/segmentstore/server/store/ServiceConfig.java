@@ -48,6 +48,7 @@ public class ServiceConfig {
     public static final Property<Integer> PUBLISHED_PORT = Property.named("service.published.port", null, "publishedPort");
     public static final Property<String> LISTENING_IP_ADDRESS = Property.named("service.listener.host.nameOrIp", "", "listeningIPAddress");
     public static final Property<String> PUBLISHED_IP_ADDRESS = Property.named("service.published.host.nameOrIp", "", "publishedIPAddress");
+    public static final Property<String> DOMAIN_SOCKET_DIRECTORY = Property.named("service.listener.domainSocket.dir", "");
     public static final Property<String> ZK_URL = Property.named("zk.connect.uri", "localhost:2181", "zkURL");
     public static final Property<Integer> ZK_RETRY_SLEEP_MS = Property.named("zk.connect.retries.interval.milliseconds", 5000, "zkRetrySleepMs");
     public static final Property<Integer> ZK_RETRY_COUNT = Property.named("zk.connect.retries.count.max", 5, "zkRetryCount");
@@ -191,6 +192,13 @@ public class ServiceConfig {
     @Getter
     private final String publishedIPAddress;
 
+    /**
+     * The directory in which to create a Unix domain socket for co-located clients, or empty to not listen on one.
+     * The socket is named after the published port (see {@link io.pravega.shared.protocol.netty.DomainSocketAddresses}).
+     */
+    @Getter
+    private final String domainSocketDirectory;
+
     /**
      * Number of segment containers that a Segment Store will start (and recover) in parallel.
      */
@@ -384,6 +392,7 @@ public class ServiceConfig {
         } else {
             this.publishedIPAddress = publishedIPAddress;
         }
+        this.domainSocketDirectory = properties.get(DOMAIN_SOCKET_DIRECTORY);
         this.parallelContainerStarts = properties.getInt(PARALLEL_CONTAINER_STARTS);
         this.zkURL = properties.get(ZK_URL);
         this.zkRetrySleepMs = properties.getInt(ZK_RETRY_SLEEP_MS);
@@ -452,6 +461,7 @@ public class ServiceConfig {
                 .append(String.format("listeningIPAddress: %s, ", listeningIPAddress))
                 .append(String.format("publishedPort: %d, ", publishedPort))
                 .append(String.format("publishedIPAddress: %s, ", publishedIPAddress))
+                .append(String.format("domainSocketDirectory: %s, ", domainSocketDirectory))
                 .append(String.format("parallelContainerStarts: %d, ", parallelContainerStarts))
                 .append(String.format("zkURL: %s, ", zkURL))
                 .append(String.format("zkRetrySleepMs: %d, ", zkRetrySleepMs))
@@ -0,0 +1,176 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.Getter;
+
+/**
+ * Container-wide rate limiter for Table Segment compactions. Ensures that the total number of bytes processed by all
+ * {@link TableCompactor}s in a Segment Container does not exceed a configured rate, so that compactions do not starve
+ * foreground appends of Durable Log bandwidth.
+ * <p>
+ * Permits are handed out in a first-come, first-served manner: each call to {@link #acquire} reserves the requested
+ * number of bytes from the next available time slot and completes when that slot begins. Callers bound how long they
+ * are willing to wait; if the next slot begins later than that, nothing is reserved and the caller is expected to try
+ * again later (for example, on the next flush) instead of holding up whatever else it is doing.
+ */
+class CompactionRateLimiter implements AutoCloseable {
+    //region Members
+
+    /**
+     * A {@link CompactionRateLimiter} that does not throttle nor record any metrics.
+     */
+    static final CompactionRateLimiter NONE = new CompactionRateLimiter(0, null, null, System::nanoTime);
+    private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+    /**
+     * The maximum number of bytes per second that compactions may process. A non-positive value disables throttling.
+     */
+    @Getter
+    private final long maxBytesPerSecond;
+    private final ScheduledExecutorService executor;
+    private final SegmentStoreMetrics.TableCompaction metrics;
+    private final Supplier<Long> getNanos;
+    @GuardedBy("this")
+    private long nextAvailableNanos;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link CompactionRateLimiter} class.
+     *
+     * @param containerId       The Id of the Segment Container this instance belongs to.
+     * @param maxBytesPerSecond The maximum number of bytes per second to allow. If non-positive, no throttling will be
+     *                          performed.
+     * @param executor          An Executor for async operations.
+     */
+    CompactionRateLimiter(int containerId, long maxBytesPerSecond, ScheduledExecutorService executor) {
+        this(maxBytesPerSecond, Preconditions.checkNotNull(executor, "executor"),
+                new SegmentStoreMetrics.TableCompaction(containerId), System::nanoTime);
+    }
+
+    @VisibleForTesting
+    CompactionRateLimiter(long maxBytesPerSecond, ScheduledExecutorService executor, SegmentStoreMetrics.TableCompaction metrics,
+                          Supplier<Long> getNanos) {
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.getNanos = getNanos;
+        this.nextAvailableNanos = getNanos.get();
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (this.metrics != null) {
+            this.metrics.close();
+        }
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Reserves the given number of bytes for a compaction round, if that can be done within the given delay.
+     *
+     * @param length   The number of bytes the compaction round is about to process.
+     * @param maxDelay The maximum amount of time the caller is willing to wait for the compaction round to proceed.
+     * @return A CompletableFuture that will be completed with true when the compaction round may proceed, or completed
+     * immediately with false if it could not proceed within maxDelay (in which case nothing is reserved).
+     */
+    CompletableFuture<Boolean> acquire(int length, Duration maxDelay) {
+        Duration delay = reserve(length, maxDelay);
+        if (delay == null) {
+            return CompletableFuture.completedFuture(false);
+        } else if (delay.isZero()) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        if (this.metrics != null) {
+            this.metrics.throttled(delay);
+        }
+
+        return Futures.delayedFuture(delay, this.executor).thenApply(v -> true);
+    }
+
+    /**
+     * Reserves the given number of bytes and calculates how long the caller must wait before it is allowed to proceed.
+     *
+     * @param length   The number of bytes to reserve.
+     * @param maxDelay The maximum amount of time the caller is willing to wait.
+     * @return The amount of time to wait. {@link Duration#ZERO} means no waiting is necessary. Null means the caller would
+     * have to wait longer than maxDelay, in which case nothing was reserved.
+     */
+    @VisibleForTesting
+    Duration reserve(int length, Duration maxDelay) {
+        if (this.maxBytesPerSecond <= 0 || length <= 0) {
+            return Duration.ZERO;
+        }
+
+        final long now = this.getNanos.get();
+        final long start;
+        synchronized (this) {
+            start = Math.max(now, this.nextAvailableNanos);
+            if (start - now > maxDelay.toNanos()) {
+                return null;
+            }
+
+            this.nextAvailableNanos = start + length * NANOS_PER_SECOND / this.maxBytesPerSecond;
+        }
+
+        return Duration.ofNanos(start - now);
+    }
+
+    /**
+     * Records the completion of a compaction round.
+     *
+     * @param length The number of bytes processed by the compaction round.
+     */
+    void compactionComplete(int length) {
+        if (this.metrics != null) {
+            this.metrics.compactionComplete(length);
+        }
+    }
+
+    /**
+     * Records the current compaction debt for a Table Segment.
+     *
+     * @param segmentName    The name of the Table Segment.
+     * @param compactionDebt The compaction debt (see {@link TableCompactor#getCompactionDebt()}).
+     */
+    void reportCompactionDebt(String segmentName, long compactionDebt) {
+        if (this.metrics != null) {
+            SegmentStoreMetrics.tableSegmentCompactionDebt(segmentName, compactionDebt);
+        }
+    }
+
+    //endregion
+}
@@ -16,6 +16,7 @@
 package io.pravega.segmentstore.server.tables;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
@@ -25,8 +26,11 @@ import io.pravega.common.concurrent.AsyncSemaphore;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.concurrent.MultiKeySequentialProcessor;
 import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
+import io.pravega.segmentstore.contracts.StreamSegmentSealedException;
 import io.pravega.segmentstore.contracts.StreamSegmentTruncatedException;
 import io.pravega.segmentstore.contracts.tables.BadKeyVersionException;
 import io.pravega.segmentstore.contracts.tables.ConditionalTableUpdateException;
@@ -44,6 +48,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -413,6 +418,84 @@ class ContainerKeyIndex implements AutoCloseable {
         return this.segmentTracker.throttleIfNeeded(segment, update, batch.getLength());
     }
 
+    /**
+     * Performs a Batch Update or Removal across multiple Segments. All the conditions in all the {@link TableKeyBatch}es
+     * are validated together and, if any of them is not met, none of the batches will be persisted. Otherwise all the
+     * batches are persisted using the given persist function (which must apply all of them atomically) and then applied
+     * to the in-memory Index.
+     * <p>
+     * All the Keys (conditional or not) touched by the update are locked for the duration of the operation, so no other
+     * conditional update on any of them may execute between validation and the moment all batches are persisted.
+     *
+     * @param updates A List of {@link SegmentBatch} instances, one for each Segment to update.
+     * @param persist A Supplier that, when invoked, will atomically persist the contents of all the batches to their
+     *                Segments and return a CompletableFuture containing the offsets (one for each {@link SegmentBatch},
+     *                in the same order) at which the batches have been written.
+     * @param timer   Timer for the operation.
+     * @return A CompletableFuture that, when completed, will contain a list of results (one for each {@link SegmentBatch},
+     * in the same order), where each result is a list of offsets (within the Segment) where each of the items in that
+     * batch has been persisted. If the update failed, it will be failed with the appropriate exception. Notable exceptions:
+     * <ul>
+     * <li>{@link KeyNotExistsException} If a Key in any of the TableKeyBatches does not exist and was conditioned as having to exist.
+     * <li>{@link BadKeyVersionException} If a Key does exist but had a version mismatch.
+     * <li>{@link StreamSegmentSealedException} If any of the Segments is sealed.
+     * <li>{@link StreamSegmentNotExistsException} If any of the Segments is deleted.
+     * </ul>
+     */
+    CompletableFuture<List<List<Long>>> update(List<SegmentBatch> updates, Supplier<CompletableFuture<List<Long>>> persist,
+                                               TimeoutTimer timer) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(updates.stream().map(u -> u.getSegment().getSegmentId()).distinct().count() == updates.size(),
+                "Each Segment may only be updated once in a multi-segment update.");
+
+        val keys = updates.stream()
+                .flatMap(u -> u.getBatch().getItems().stream().map(item -> Maps.immutableEntry(u.getSegment().getSegmentId(), item.getHash())))
+                .collect(Collectors.toList());
+        Supplier<CompletableFuture<List<List<Long>>>> update = () -> this.conditionalUpdateProcessor.add(
+                keys,
+                () -> validateMultiSegmentUpdate(updates, timer)
+                        .thenComposeAsync(v -> persist.get(), this.executor)
+                        .thenApplyAsync(batchOffsets -> {
+                            val result = new ArrayList<List<Long>>(updates.size());
+                            for (int i = 0; i < updates.size(); i++) {
+                                val u = updates.get(i);
+                                result.add(updateCache(u.getSegment(), u.getBatch(), batchOffsets.get(i)));
+                            }
+                            return result;
+                        }, this.executor));
+
+        // Throttle any requests, if needed. Always acquire credits in the same order (by Segment Id) so that two concurrent
+        // multi-segment updates do not end up waiting on each other.
+        val sorted = updates.stream()
+                .sorted(Comparator.comparingLong(u -> u.getSegment().getSegmentId()))
+                .collect(Collectors.toList());
+        for (int i = sorted.size() - 1; i >= 0; i--) {
+            val u = sorted.get(i);
+            val next = update;
+            update = () -> this.segmentTracker.throttleIfNeeded(u.getSegment(), next, u.getBatch().getLength());
+        }
+
+        return update.get();
+    }
+
+    private CompletableFuture<Void> validateMultiSegmentUpdate(List<SegmentBatch> updates, TimeoutTimer timer) {
+        // Check the Segment state before anything else. This weeds out the most likely reasons for which a subset of
+        // the batches could fail to persist.
+        for (val u : updates) {
+            val si = u.getSegment().getInfo();
+            if (si.isDeleted()) {
+                return Futures.failedFuture(new StreamSegmentNotExistsException(si.getName()));
+            } else if (si.isSealed()) {
+                return Futures.failedFuture(new StreamSegmentSealedException(si.getName()));
+            }
+        }
+
+        return Futures.allOf(updates.stream()
+                .filter(u -> u.getBatch().isConditional())
+                .map(u -> validateConditionalUpdate(u.getSegment(), u.getBatch(), timer))
+                .collect(Collectors.toList()));
+    }
+
     private List<Long> updateCache(DirectSegmentAccess segment, TableKeyBatch batch, long batchOffset) {
         // Ensure the cache knows about the Last Indexed Offset segment for this Segment. If it doesn't we need to fetch it.
         // This is necessary so we can properly record new backpointers into the cache which occur beyond the Last Indexed Offset
@@ -553,7 +636,7 @@ class ContainerKeyIndex implements AutoCloseable {
                         // because the cache points to a truncated offset or because we are unable to determine
                         // if the TableBucket has been rearranged due to a compaction. The rearrangement is a rare
                         // occurrence and can only happen if more than one Key is mapped to a bucket (collision).
-                        return getBucketOffsetDirect(segment, this.keyHasher.hash(key), timer)
+                        return getBucketOffsetDirect(segment, this.keyHasher.forSegment(segment.getInfo()).hash(key), timer)
                                 .thenComposeAsync(newOffset -> bucketReader.find(key, newOffset, timer), this.executor);
                     }
                 }, this.executor);
@@ -608,17 +691,23 @@ class ContainerKeyIndex implements AutoCloseable {
     }
 
     /**
-     * Reads the tail section of the given segment (from either start offset or {@link TableAttributes#COMPACTION_OFFSET},
-     * whatever is highest) and only caches the latest values beyond last indexed offset (i.e., {@link TableAttributes#INDEX_OFFSET})
-     * in the tail index. Note that the reason for starting the scan before last index offset is to cover a case in which
-     * there could be just a compacted entry for k1 beyond last index offset, while a newer value for it has been already
-     * indexed. If at this point a recovery is executed and the tail-caching accepts the compacted entry, there is a window
-     * of time (until the {@link IndexWriter} processes that compacted entry and evicts it from tail-cache) until when it
-     * could be serving a stale (compacted) version of k1 (see https://github.com/pravega/pravega/issues/6539).
+     * Caches the latest values of the Table Entries beyond the last indexed offset (i.e., {@link TableAttributes#INDEX_OFFSET})
+     * in the tail index.
+     *
+     * The durable index (which is persisted in the Segment's Attributes) acts as a snapshot of all the Keys up to the last
+     * indexed offset, so only the non-indexed section of the Segment (the "delta") needs to be scanned. The only case in
+     * which the delta is not enough is when it contains a compacted copy of a Key (whose version is lower than its offset)
+     * and a newer value of that Key has been already indexed. If the tail-caching accepted such compacted entry, there would
+     * be a window of time (until the {@link IndexWriter} processes that compacted entry and evicts it from tail-cache) when
+     * it could be serving a stale (compacted) version of that Key (see https://github.com/pravega/pravega/issues/6539).
+     * To prevent this, every such compacted entry is validated against the durable index and, only for those that cannot
+     * be resolved this way (i.e., deleted Keys), the section of the Segment between either the start offset or the
+     * {@link TableAttributes#COMPACTION_OFFSET} (whatever is highest) and the last indexed offset is scanned as well.
      *
      * The operation will not execute if any of the following is true:
      * - The tail section has a length of 0.
-     * - The tail section has a length exceeding {@link TableExtensionConfig#getMaxTailCachePreIndexLength()}.
+     * - The tail section (or the indexed section, if it needs to be scanned) has a length exceeding
+     * {@link TableExtensionConfig#getMaxTailCachePreIndexLength()}.
      *
      * This method triggers this operation asynchronously and does not wait for it to complete. Its completion status and
      * any errors will be logged.
@@ -627,11 +716,14 @@ class ContainerKeyIndex implements AutoCloseable {
      * The {@link WriterTableProcessor} must be used to update the index.
      *
      * @param segment A {@link DirectSegmentAccess} representing the Segment for which to cache the tail index.
-     * @param tailCachingStartOffset Offset from where the tail-caching process will start scanning. Note that there
-     *                               can be a part of the segment (from either start or last compaction offset, whatever is
-     *                               max) that is just scanned, but no entries are added to tail cache.
+     * @param task    The {@link SegmentTracker.RecoveryTask} to complete once the tail-caching is done.
      */
-    private void triggerCacheTailIndex(DirectSegmentAccess segment, long tailCachingStartOffset, SegmentTracker.RecoveryTask task) {
+    private void triggerCacheTailIndex(DirectSegmentAccess segment, SegmentTracker.RecoveryTask task) {
+        SegmentProperties sp = segment.getInfo();
+        final long lastSafeIndexedOffset = Math.max(sp.getStartOffset(), IndexReader.getCompactionOffset(sp));
+        final long lastIndexedOffset = IndexReader.getLastIndexedOffset(sp);
+        final long tailCachingStartOffset = Math.max(lastSafeIndexedOffset, lastIndexedOffset);
+        assert lastSafeIndexedOffset >= 0;
         long tailIndexLength = task.triggerIndexOffset - tailCachingStartOffset;
         if (tailCachingStartOffset >= task.triggerIndexOffset) {
             // Fully caught up. Nothing else to do.
@@ -645,37 +737,139 @@ class ContainerKeyIndex implements AutoCloseable {
 
         // Read the tail section of the segment and process its updates. All of this should already be in the cache so
         // we are not going to do any Storage reads.
-        final long lastIndexedOffset = IndexReader.getLastIndexedOffset(segment.getInfo());
-        log.info("{}: Tail-caching started for Table Segment {}. TailCachingStartOffset={}, LastIndexedOffset={}, SegmentLength={}.",
-                this.traceObjectId, segment.getSegmentId(), tailCachingStartOffset, lastIndexedOffset, task.triggerIndexOffset);
-        val preIndexOffset = new AtomicLong(tailCachingStartOffset);
-
-        // Begin a loop which will end when either we've reached the target offset (defined in the RecoveryTask) or when
-        // the recovery task itself has been cancelled (i.e., segment evicted, shutting down, etc.).
-        Map<UUID, Long> tailCachePreIndexVersionTracker = new ConcurrentHashMap<>();
+        log.info("{}: Tail-caching started for Table Segment {}. LastSafeIndexedOffset={}, LastIndexedOffset={}, SegmentLength={}.",
+                this.traceObjectId, segment.getSegmentId(), lastSafeIndexedOffset, lastIndexedOffset, task.triggerIndexOffset);
         TailUpdates updates = new TailUpdates();
-        Futures.loop(
-                () -> !task.task.isDone() && preIndexOffset.get() < task.triggerIndexOffset,
-                () -> {
-                    int maxLength = (int) Math.min(this.config.getMaxTailCachePreIndexBatchLength(), task.triggerIndexOffset - preIndexOffset.get());
-                    return preIndexBatch(segment, preIndexOffset.get(), maxLength, tailCachePreIndexVersionTracker, lastIndexedOffset, updates)
-                            .thenAccept(preIndexOffset::set);
-                },
-                this.executor)
-                .thenAcceptAsync(v -> {
+        preIndex(segment, tailCachingStartOffset, task.triggerIndexOffset, new HashMap<>(), lastIndexedOffset, updates, task)
+                .thenComposeAsync(v -> excludeStaleCopies(segment, lastSafeIndexedOffset, lastIndexedOffset, updates, task), this.executor)
+                .thenAcceptAsync(canInclude -> {
+                    if (!canInclude) {
+                        log.info("{}: Table Segment {} cannot perform tail-caching because indexed section too long ({}).",
+                                this.traceObjectId, segment.getSegmentId(), lastIndexedOffset - lastSafeIndexedOffset);
+                        return;
+                    }
+
                     // Atomically update all the entries in cache after performing tail-caching process.
                     this.cache.includeTailCache(segment.getSegmentId(), updates.byBucket);
                     // Notify the Segment Tracker that this segment has been recovered so queued tasks can be released.
                     this.segmentTracker.updateSegmentIndexOffset(segment.getSegmentId(), updates.getMaxOffset(), 0, updates.byBucket.size() > 0);
-                    log.info("{}: Tail-caching recovery successfully completed for Table Segment {}.", this.traceObjectId, segment.getSegmentId());
+                    log.info("{}: Tail-caching recovery successfully completed for Table Segment {}. Updated Keys Count={}, Elapsed={}ms.",
+                            this.traceObjectId, segment.getSegmentId(), updates.byBucket.size(), task.timer.getElapsedMillis());
                 }, this.executor)
                 .exceptionally(ex -> {
-                    log.warn("{}: Tail-caching failed for Table Segment {}; TailCachingStartOffset={}, LastIndexedOffset={}, CurrentOffset={}, SegmentLength={}.",
-                            this.traceObjectId, segment.getSegmentId(), tailCachingStartOffset, lastIndexedOffset, preIndexOffset, task.triggerIndexOffset, Exceptions.unwrap(ex));
+                    log.warn("{}: Tail-caching failed for Table Segment {}; LastSafeIndexedOffset={}, LastIndexedOffset={}, CurrentOffset={}, SegmentLength={}.",
+                            this.traceObjectId, segment.getSegmentId(), lastSafeIndexedOffset, lastIndexedOffset, updates.getMaxOffset(),
+                            task.triggerIndexOffset, Exceptions.unwrap(ex));
                     return null;
                 });
     }
 
+    /**
+     * Processes all the entries in the given range of the Table Segment, in batches.
+     *
+     * @param segment                         Table Segment to pre-index.
+     * @param startOffset                     Offset to start pre-indexing from.
+     * @param endOffset                       Offset to stop pre-indexing at.
+     * @param tailCachePreIndexVersionTracker Helps to track versions of entries to select the highest ones.
+     * @param lastIndexedOffset               Only entries at or beyond this offset will be included in the result.
+     * @param updates                         Table Entries processed with max version.
+     * @param task                            The {@link SegmentTracker.RecoveryTask} this operation is executed for.
+     * @return A CompletableFuture that will be completed when either endOffset has been reached or when the task has
+     * been completed (i.e., segment evicted, shutting down, etc.).
+     */
+    private CompletableFuture<Void> preIndex(DirectSegmentAccess segment, long startOffset, long endOffset,
+                                             Map<UUID, Long> tailCachePreIndexVersionTracker, long lastIndexedOffset,
+                                             TailUpdates updates, SegmentTracker.RecoveryTask task) {
+        val preIndexOffset = new AtomicLong(startOffset);
+        return Futures.loop(
+                () -> !task.task.isDone() && preIndexOffset.get() < endOffset,
+                () -> {
+                    int maxLength = (int) Math.min(this.config.getMaxTailCachePreIndexBatchLength(), endOffset - preIndexOffset.get());
+                    return preIndexBatch(segment, preIndexOffset.get(), maxLength, tailCachePreIndexVersionTracker, lastIndexedOffset, updates)
+                            .thenAccept(preIndexOffset::set);
+                },
+                this.executor);
+    }
+
+    /**
+     * Validates all the compacted entries (whose versions are lower than their offsets) collected during the tail-caching
+     * against the durable index and excludes those that have been superseded by an already indexed value. Compacted
+     * entries for Keys that cannot be located in the index (i.e., deleted) are validated by scanning the indexed section
+     * of the Segment (from the last safe offset up to the last indexed offset).
+     *
+     * @param segment               Table Segment to validate.
+     * @param lastSafeIndexedOffset The Segment's start offset or {@link TableAttributes#COMPACTION_OFFSET}, whatever is highest.
+     * @param lastIndexedOffset     The Segment's {@link TableAttributes#INDEX_OFFSET}.
+     * @param updates               The {@link TailUpdates} to validate.
+     * @param task                  The {@link SegmentTracker.RecoveryTask} this operation is executed for.
+     * @return A CompletableFuture that, when completed, will indicate whether the {@link TailUpdates} have been fully
+     * validated and can be included in the tail cache.
+     */
+    private CompletableFuture<Boolean> excludeStaleCopies(DirectSegmentAccess segment, long lastSafeIndexedOffset, long lastIndexedOffset,
+                                                          TailUpdates updates, SegmentTracker.RecoveryTask task) {
+        if (updates.copies.isEmpty()) {
+            // Nothing to validate. This is the most common case.
+            return CompletableFuture.completedFuture(true);
+        }
+
+        val timer = new TimeoutTimer(this.config.getRecoveryTimeout());
+        val bucketReader = TableBucketReader.key(segment, this.indexReader::getBackpointerOffset, this.executor);
+        val stale = ConcurrentHashMap.<UUID>newKeySet();
+        val unresolved = new ConcurrentHashMap<UUID, Long>();
+        return this.indexReader
+                .locateBuckets(segment, updates.copies.keySet(), timer)
+                .thenComposeAsync(buckets -> {
+                    val searches = new ArrayList<CompletableFuture<Void>>();
+                    for (val e : updates.copies.entrySet()) {
+                        UUID keyHash = e.getKey();
+                        long copyVersion = e.getValue().getVersion();
+                        TableBucket bucket = buckets.get(keyHash);
+                        if (bucket == null || !bucket.exists()) {
+                            unresolved.put(keyHash, copyVersion);
+                            continue;
+                        }
+
+                        searches.add(Futures.exceptionallyExpecting(bucketReader.find(e.getValue().getKey(), bucket.getSegmentOffset(), timer),
+                                ex -> ex instanceof StreamSegmentTruncatedException, null)
+                                .thenAccept(indexedKey -> {
+                                    if (indexedKey == null || indexedKey.getVersion() < 0) {
+                                        unresolved.put(keyHash, copyVersion);
+                                    } else if (indexedKey.getVersion() >= copyVersion) {
+                                        // The index already contains this or a newer value for this key.
+                                        stale.add(keyHash);
+                                    }
+                                }));
+                    }
+
+                    return Futures.allOf(searches);
+                }, this.executor)
+                .thenComposeAsync(v -> {
+                    // Exclude all the copies that are stale for sure.
+                    stale.forEach(updates::exclude);
+
+                    if (unresolved.isEmpty() || lastSafeIndexedOffset >= lastIndexedOffset) {
+                        // Either all copies were resolved or there is nothing indexed that could supersede them.
+                        return CompletableFuture.completedFuture(true);
+                    } else if (lastIndexedOffset - lastSafeIndexedOffset > this.config.getMaxTailCachePreIndexLength()) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+
+                    log.debug("{}: Tail-caching scanning indexed section of Table Segment {} to validate {} compacted key(s).",
+                            this.traceObjectId, segment.getSegmentId(), unresolved.size());
+                    Map<UUID, Long> indexedVersionTracker = new HashMap<>();
+                    return preIndex(segment, lastSafeIndexedOffset, lastIndexedOffset, indexedVersionTracker, Long.MAX_VALUE, new TailUpdates(), task)
+                            .thenApply(v2 -> {
+                                for (val e : unresolved.entrySet()) {
+                                    Long indexedVersion = indexedVersionTracker.get(e.getKey());
+                                    if (indexedVersion != null && indexedVersion >= e.getValue()) {
+                                        updates.exclude(e.getKey());
+                                    }
+                                }
+                                return true;
+                            });
+                }, this.executor);
+    }
+
     /**
      * Includes a batch of entries in the tail cache of the Table Segment. It also takes into account selecting the entries
      * with higher version for the same key (which may not be always the ones with the highest offsets due to Table Compaction).
@@ -692,12 +886,13 @@ class ContainerKeyIndex implements AutoCloseable {
         log.debug("{}: Tail-caching batch started for Table Segment {}. StartOffset={}, MaxLength={}.",
                 this.traceObjectId, segment.getSegmentId(), startOffset, maxLength);
         val timer = new Timer();
+        val hasher = this.keyHasher.forSegment(segment.getInfo());
         ReadResult rr = segment.read(startOffset, maxLength, this.config.getRecoveryTimeout());
         return AsyncReadResultProcessor
                 .processAll(rr, this.executor, this.config.getRecoveryTimeout())
                 .thenApplyAsync(inputData -> {
                     // Parse out all Table Keys and collect their latest offsets, as well as whether they were deleted.
-                    collectEntriesWithHighestVersion(inputData, startOffset, maxLength, updates, tailCachePreIndexVersionTracker, lastIndexedOffset);
+                    collectEntriesWithHighestVersion(inputData, startOffset, maxLength, updates, tailCachePreIndexVersionTracker, lastIndexedOffset, hasher);
 
                     log.debug("{}: Tail-caching batch complete for Table Segment {}. StartOffset={}, EndOffset={}, Updated Keys Count={}, Key Updates Count={}, Elapsed={}ms.",
                             this.traceObjectId, segment.getSegmentId(), startOffset, updates.getMaxOffset(), updates.byBucket.size(), updates.getKeyUpdateCount(), timer.getElapsedMillis());
@@ -715,10 +910,12 @@ class ContainerKeyIndex implements AutoCloseable {
      * @param maxLength Max amount of data to process in this batch.
      * @param result Table Entries processed with max version.
      * @param tailCachePreIndexVersionTracker Helps to track versions of entries to select the highest ones.
+     * @param hasher The {@link KeyHasher} to use for the Segment.
      */
     @SneakyThrows(IOException.class)
     private void collectEntriesWithHighestVersion(BufferView input, long startOffset, int maxLength, TailUpdates result,
-                                                  Map<UUID, Long> tailCachePreIndexVersionTracker, long lastIndexedOffset) {
+                                                  Map<UUID, Long> tailCachePreIndexVersionTracker, long lastIndexedOffset,
+                                                  KeyHasher hasher) {
         EntrySerializer serializer = new EntrySerializer();
         long nextOffset = startOffset;
         final long maxOffset = startOffset + maxLength;
@@ -726,13 +923,13 @@ class ContainerKeyIndex implements AutoCloseable {
         try {
             while (nextOffset < maxOffset) {
                 val e = AsyncTableEntryReader.readEntryComponents(inputReader, nextOffset, serializer);
-                val hash = this.keyHasher.hash(e.getKey());
+                val hash = hasher.hash(e.getKey());
                 // Consider for the tail cache the new entries or the entries whose version is higher than the observed one.
                 if (!tailCachePreIndexVersionTracker.containsKey(hash) || tailCachePreIndexVersionTracker.get(hash) < e.getVersion()) {
                     tailCachePreIndexVersionTracker.put(hash, e.getVersion());
                     // Only add to tail cache the entries beyond the lastIndexedOffset (previous ones are index already).
                     if (nextOffset >= lastIndexedOffset) {
-                        result.add(hash, nextOffset, e.getHeader().getTotalLength(), e.getHeader().isDeletion());
+                        result.add(hash, e, nextOffset);
                     }
                 } else {
                     log.info("{}: Not tail-caching key {} as it has a lower version {} than the existing cached entry ({}).", this.traceObjectId,
@@ -756,6 +953,28 @@ class ContainerKeyIndex implements AutoCloseable {
 
     //endregion
 
+    //region SegmentBatch
+
+    /**
+     * A {@link TableKeyBatch} to apply to a Segment as part of a multi-segment update.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    static class SegmentBatch {
+        /**
+         * The Segment to apply the batch to.
+         */
+        @NonNull
+        private final DirectSegmentAccess segment;
+        /**
+         * The {@link TableKeyBatch} to apply.
+         */
+        @NonNull
+        private final TableKeyBatch batch;
+    }
+
+    //endregion
+
     //region TailUpdates
 
     /**
@@ -764,16 +983,32 @@ class ContainerKeyIndex implements AutoCloseable {
     @RequiredArgsConstructor
     private static class TailUpdates {
         final Map<UUID, CacheBucketOffset> byBucket = new HashMap<>();
+        /**
+         * Compacted entries (whose versions are lower than their offsets) included in {@link #byBucket}. These need to be
+         * validated against the index before being included in the tail cache.
+         */
+        final Map<UUID, TableKey> copies = new HashMap<>();
         @Getter
         private int keyUpdateCount = 0;
         @Getter
         private long maxOffset = -1;
 
-        void add(UUID keyHash, long offset, int serializationLength, boolean isDeletion) {
-            CacheBucketOffset cbo = new CacheBucketOffset(offset, isDeletion);
-            this.byBucket.put(keyHash, cbo);
+        void add(UUID keyHash, AsyncTableEntryReader.DeserializedEntry entry, long offset) {
+            boolean isDeletion = entry.getHeader().isDeletion();
+            this.byBucket.put(keyHash, new CacheBucketOffset(offset, isDeletion));
+            if (!isDeletion && entry.getVersion() < offset) {
+                this.copies.put(keyHash, TableKey.versioned(new ByteArraySegment(entry.getKey().getCopy()), entry.getVersion()));
+            } else {
+                this.copies.remove(keyHash);
+            }
+
             this.keyUpdateCount++;
-            setMaxOffset(offset, serializationLength);
+            setMaxOffset(offset, entry.getHeader().getTotalLength());
+        }
+
+        void exclude(UUID keyHash) {
+            this.byBucket.remove(keyHash);
+            this.copies.remove(keyHash);
         }
 
         void setMaxOffset(long offset, int serializationLength) {
@@ -981,14 +1216,7 @@ class ContainerKeyIndex implements AutoCloseable {
                 log.debug("{}: TableSegment {} is not fully recovered. Queuing 1 task.", traceObjectId, segment.getSegmentId());
                 if (firstTask) {
                     setupRecoveryTask(task);
-                    // Starting at last indexed offset may leave behind the last value of an indexed key that is succeeded
-                    // by an (older) compacted entry of the same key. In that case, there is a risk that the tail cache
-                    // just contains the old version of the key to serve gets. Starting from the last compaction offset
-                    // (or start of the Segment, whatever is max) can remove this risk at the cost of processing more data.
-                    SegmentProperties sp = segment.getInfo();
-                    long lastSafeIndexedOffset = Math.max(sp.getStartOffset(), IndexReader.getCompactionOffset(sp));
-                    assert lastSafeIndexedOffset >= 0;
-                    triggerCacheTailIndex(segment, lastSafeIndexedOffset, task);
+                    triggerCacheTailIndex(segment, task);
                 }
 
                 // A recovery task is registered. Queue behind it.
@@ -16,8 +16,10 @@
 package io.pravega.segmentstore.server.tables;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.TimeoutTimer;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.contracts.AttributeUpdate;
@@ -37,10 +39,12 @@ import io.pravega.segmentstore.server.SegmentMetadata;
 import io.pravega.segmentstore.server.UpdateableSegmentMetadata;
 import io.pravega.segmentstore.server.WriterSegmentProcessor;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -61,6 +65,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
     private final ScheduledExecutorService executor;
     private final FixedKeyLengthTableSegmentLayout fixedKeyLayout;
     private final HashTableSegmentLayout hashTableLayout;
+    private final CompactionRateLimiter compactionRateLimiter;
     private final AtomicBoolean closed;
     private final String traceObjectId;
     @Getter
@@ -97,9 +102,11 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         this.config = config;
         this.segmentContainer = segmentContainer;
         this.executor = executor;
-        val connector = new TableSegmentLayout.Connector(this.segmentContainer.getId(), this.segmentContainer::forSegment, this.segmentContainer::deleteStreamSegment);
-        this.hashTableLayout = new HashTableSegmentLayout(connector, cacheManager, hasher, this.config, this.executor);
-        this.fixedKeyLayout = new FixedKeyLengthTableSegmentLayout(connector, this.config, this.executor);
+        val connector = new TableSegmentLayout.Connector(this.segmentContainer.getId(), this.segmentContainer::forSegment,
+                this.segmentContainer::deleteStreamSegment, this.segmentContainer::appendAtomically);
+        this.compactionRateLimiter = new CompactionRateLimiter(this.segmentContainer.getId(), this.config.getCompactionRateLimit(), this.executor);
+        this.hashTableLayout = new HashTableSegmentLayout(connector, cacheManager, hasher, this.config, this.compactionRateLimiter, this.executor);
+        this.fixedKeyLayout = new FixedKeyLengthTableSegmentLayout(connector, this.config, this.compactionRateLimiter, this.executor);
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("TableExtension[%d]", this.segmentContainer.getId());
     }
@@ -113,6 +120,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         if (!this.closed.getAndSet(true)) {
             this.hashTableLayout.close();
             this.fixedKeyLayout.close();
+            this.compactionRateLimiter.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -193,6 +201,40 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                 .thenComposeAsync(segment -> selectLayout(segment.getInfo()).put(segment, entries, tableSegmentOffset, timer), this.executor);
     }
 
+    @Override
+    public CompletableFuture<Map<String, List<Long>>> put(@NonNull Map<String, List<TableEntry>> entries, Duration timeout) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(!entries.isEmpty(), "At least one Table Segment must be provided.");
+        TimeoutTimer timer = new TimeoutTimer(timeout);
+        val segmentNames = new ArrayList<String>(entries.keySet());
+        val segments = segmentNames.stream()
+                .map(segmentName -> this.segmentContainer.forSegment(segmentName, timer.getRemaining()))
+                .collect(Collectors.toList());
+        return Futures.allOfWithResults(segments)
+                .thenComposeAsync(directSegments -> {
+                    // All Table Segments must share the same layout, as each layout has its own conditional update mechanism.
+                    val layout = selectLayout(directSegments.get(0).getInfo());
+                    for (val segment : directSegments) {
+                        val info = segment.getInfo();
+                        if (selectLayout(info) != layout) {
+                            throw new BadSegmentTypeException(info.getName(), directSegments.get(0).getInfo().getType(), info.getType());
+                        }
+                    }
+
+                    val segmentEntries = segmentNames.stream().map(entries::get).collect(Collectors.toList());
+                    return layout == this.fixedKeyLayout
+                            ? this.fixedKeyLayout.put(directSegments, segmentEntries, timer)
+                            : this.hashTableLayout.put(directSegments, segmentEntries, timer);
+                }, this.executor)
+                .thenApply(versions -> {
+                    val result = new HashMap<String, List<Long>>();
+                    for (int i = 0; i < segmentNames.size(); i++) {
+                        result.put(segmentNames.get(i), versions.get(i));
+                    }
+                    return result;
+                });
+    }
+
     @Override
     public CompletableFuture<Void> remove(@NonNull String segmentName, @NonNull Collection<TableKey> keys, Duration timeout) {
         return remove(segmentName, keys, TableSegmentLayout.NO_OFFSET, timeout);
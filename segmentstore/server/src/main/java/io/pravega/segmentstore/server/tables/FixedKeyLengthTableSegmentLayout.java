@@ -52,6 +52,7 @@ import io.pravega.segmentstore.contracts.tables.TableSegmentConfig;
 import io.pravega.segmentstore.contracts.tables.TableSegmentInfo;
 import io.pravega.segmentstore.server.AttributeIterator;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.server.SegmentContainer;
 import io.pravega.segmentstore.server.UpdateableSegmentMetadata;
 import io.pravega.segmentstore.server.WriterSegmentProcessor;
 import io.pravega.segmentstore.server.reading.AsyncReadResultProcessor;
@@ -93,11 +94,12 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
 
     //region Constructor
 
-    FixedKeyLengthTableSegmentLayout(Connector connector, TableExtensionConfig config, ScheduledExecutorService executor) {
-        super(connector, config, executor);
+    FixedKeyLengthTableSegmentLayout(Connector connector, TableExtensionConfig config, CompactionRateLimiter compactionRateLimiter,
+                                     ScheduledExecutorService executor) {
+        super(connector, config, compactionRateLimiter, executor);
         this.compactionService = new DelayedProcessor<>(this::compactIfNeeded, config.getCompactionFrequency(), executor,
                 String.format("TableCompactor[%s]", connector.getContainerId()));
-        this.tableCompactorConfig = new TableCompactor.Config(config.getMaxCompactionSize());
+        this.tableCompactorConfig = new TableCompactor.Config(config.getMaxCompactionSize(), config.getMaxCompactionRounds());
     }
 
     //endregion
@@ -144,43 +146,43 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
 
     @Override
     CompletableFuture<List<Long>> put(@NonNull DirectSegmentAccess segment, @NonNull List<TableEntry> entries, long tableSegmentOffset, TimeoutTimer timer) {
-        val segmentInfo = segment.getInfo();
-        ensureSegmentType(segmentInfo.getName(), segmentInfo.getType());
-        val segmentKeyLength = getSegmentKeyLength(segmentInfo);
-        ensureValidKeyLength(segmentInfo.getName(), segmentKeyLength);
-
-        val attributeUpdates = new AttributeUpdateCollection();
-        int batchOffset = 0;
-        val batchOffsets = new ArrayList<Integer>();
-        boolean isConditional = false;
-        for (val e : entries) {
-            val key = e.getKey();
-            Preconditions.checkArgument(key.getKey().getLength() == segmentKeyLength,
-                    "Entry Key Length for key `%s` incompatible with segment '%s' which requires key lengths of %s.",
-                    key, segmentInfo.getName(), segmentKeyLength);
-
-            attributeUpdates.add(createIndexUpdate(key, batchOffset));
-            isConditional |= key.hasVersion();
-            batchOffsets.add(batchOffset);
-            batchOffset += this.serializer.getUpdateLength(e);
-        }
+        return persist(prepareUpdate(segment, entries, tableSegmentOffset), tableSegmentOffset, timer);
+    }
 
-        logRequest("put", segmentInfo.getName(), isConditional, tableSegmentOffset, entries.size(), batchOffset);
-        if (batchOffset > this.config.getMaxBatchSize()) {
-            throw new UpdateBatchTooLargeException(batchOffset, this.config.getMaxBatchSize());
+    /**
+     * Inserts or updates Table Entries in multiple Fixed-Key-Length Table Segments atomically.
+     * <p>
+     * The updates to all the Table Segments (including the conditions of all the given Table Entries, which are encoded
+     * as conditional Attribute Updates) are appended as a single operation (see {@link SegmentContainer#appendAtomically}),
+     * so either all the Table Segments are updated or none of them is.
+     *
+     * @param segments The Table Segments to update.
+     * @param entries  A List (one for each item in segments, in the same order) of Lists of {@link TableEntry} instances
+     *                 to insert or update.
+     * @param timer    Timer for the operation.
+     * @return A CompletableFuture that, when completed, will contain a List (one for each item in segments, in the same
+     * order) of Lists of versions of the given Table Entries' Keys.
+     */
+    CompletableFuture<List<List<Long>>> put(@NonNull List<DirectSegmentAccess> segments, @NonNull List<List<TableEntry>> entries, TimeoutTimer timer) {
+        Preconditions.checkArgument(segments.size() == entries.size(), "Expected as many Entry Lists as Segments.");
+        val updates = new ArrayList<SegmentUpdate>(segments.size());
+        val appends = new ArrayList<SegmentContainer.SegmentAppend>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            val u = prepareUpdate(segments.get(i), entries.get(i), NO_OFFSET);
+            updates.add(u);
+            appends.add(new SegmentContainer.SegmentAppend(u.getSegment().getSegmentId(), u.getSerializedEntries(), u.getAttributeUpdates()));
         }
 
-        // Update total number of entries in Table (this includes updates to the same key).
-        attributeUpdates.add(new AttributeUpdate(TableAttributes.TOTAL_ENTRY_COUNT, AttributeUpdateType.Accumulate, entries.size()));
-
-        val serializedEntries = this.serializer.serializeUpdate(entries);
-        val append = tableSegmentOffset == TableSegmentLayout.NO_OFFSET
-                ? segment.append(serializedEntries, attributeUpdates, timer.getRemaining())
-                : segment.append(serializedEntries, attributeUpdates, tableSegmentOffset, timer.getRemaining());
-        return handleConditionalUpdateException(append, segmentInfo)
-                .thenApply(segmentOffset -> {
-                    this.compactionService.process(new CompactionCandidate(segment));
-                    return batchOffsets.stream().map(offset -> offset + segmentOffset).collect(Collectors.toList());
+        val append = this.connector.appendAtomically(appends, timer.getRemaining());
+        return handleConditionalUpdateException(append)
+                .thenApply(segmentOffsets -> {
+                    val result = new ArrayList<List<Long>>(updates.size());
+                    for (int i = 0; i < updates.size(); i++) {
+                        val u = updates.get(i);
+                        this.compactionService.process(new CompactionCandidate(u.getSegment()));
+                        result.add(toKeyVersions(u, segmentOffsets.get(i)));
+                    }
+                    return result;
                 });
     }
 
@@ -205,7 +207,7 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
         val result = tableSegmentOffset == NO_OFFSET
                 ? segment.updateAttributes(attributeUpdates, timer.getRemaining())
                 : segment.append(BufferView.empty(), attributeUpdates, tableSegmentOffset, timer.getRemaining());
-        return handleConditionalUpdateException(result, segmentInfo)
+        return handleConditionalUpdateException(result)
                 .thenRun(() -> this.compactionService.process(new CompactionCandidate(segment)));
     }
 
@@ -294,6 +296,55 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
 
     //region Helpers
 
+    private SegmentUpdate prepareUpdate(DirectSegmentAccess segment, List<TableEntry> entries, long tableSegmentOffset) {
+        val segmentInfo = segment.getInfo();
+        ensureSegmentType(segmentInfo.getName(), segmentInfo.getType());
+        val segmentKeyLength = getSegmentKeyLength(segmentInfo);
+        ensureValidKeyLength(segmentInfo.getName(), segmentKeyLength);
+
+        val attributeUpdates = new AttributeUpdateCollection();
+        boolean isConditional = false;
+        int batchOffset = 0;
+        val batchOffsets = new ArrayList<Integer>();
+        for (val e : entries) {
+            val key = e.getKey();
+            Preconditions.checkArgument(key.getKey().getLength() == segmentKeyLength,
+                    "Entry Key Length for key `%s` incompatible with segment '%s' which requires key lengths of %s.",
+                    key, segmentInfo.getName(), segmentKeyLength);
+
+            val indexUpdate = createIndexUpdate(key, batchOffset);
+            attributeUpdates.add(indexUpdate);
+            isConditional |= key.hasVersion();
+            batchOffsets.add(batchOffset);
+            batchOffset += this.serializer.getUpdateLength(e);
+        }
+
+        logRequest("put", segmentInfo.getName(), isConditional, tableSegmentOffset, entries.size(), batchOffset);
+        if (batchOffset > this.config.getMaxBatchSize()) {
+            throw new UpdateBatchTooLargeException(batchOffset, this.config.getMaxBatchSize());
+        }
+
+        // Update total number of entries in Table (this includes updates to the same key).
+        attributeUpdates.add(new AttributeUpdate(TableAttributes.TOTAL_ENTRY_COUNT, AttributeUpdateType.Accumulate, entries.size()));
+        return new SegmentUpdate(segment, this.serializer.serializeUpdate(entries), attributeUpdates, batchOffsets);
+    }
+
+    private CompletableFuture<List<Long>> persist(SegmentUpdate update, long tableSegmentOffset, TimeoutTimer timer) {
+        val segment = update.getSegment();
+        val append = tableSegmentOffset == TableSegmentLayout.NO_OFFSET
+                ? segment.append(update.getSerializedEntries(), update.getAttributeUpdates(), timer.getRemaining())
+                : segment.append(update.getSerializedEntries(), update.getAttributeUpdates(), tableSegmentOffset, timer.getRemaining());
+        return handleConditionalUpdateException(append)
+                .thenApply(segmentOffset -> {
+                    this.compactionService.process(new CompactionCandidate(segment));
+                    return toKeyVersions(update, segmentOffset);
+                });
+    }
+
+    private List<Long> toKeyVersions(SegmentUpdate update, long segmentOffset) {
+        return update.getBatchOffsets().stream().map(offset -> offset + segmentOffset).collect(Collectors.toList());
+    }
+
     private AttributeUpdate createIndexUpdate(TableKey key, int batchOffset) {
         val attributeId = AttributeId.from(key.getKey().getCopy());
         val ref = DynamicAttributeValue.segmentLength(batchOffset);
@@ -309,14 +360,15 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
                 : new AttributeUpdate(attributeId, AttributeUpdateType.Replace, Attributes.NULL_ATTRIBUTE_VALUE);
     }
 
-    private <T> CompletableFuture<T> handleConditionalUpdateException(CompletableFuture<T> update, SegmentProperties segmentInfo) {
+    private <T> CompletableFuture<T> handleConditionalUpdateException(CompletableFuture<T> update) {
         return update.exceptionally(ex -> {
             ex = Exceptions.unwrap(ex);
             if (ex instanceof BadAttributeUpdateException) {
+                // The exception identifies the Segment the failed condition belongs to (even for multi-segment updates).
                 val bau = (BadAttributeUpdateException) ex;
                 ex = bau.isPreviousValueMissing()
-                        ? new KeyNotExistsException(segmentInfo.getName(), bau.getAttributeId().toBuffer())
-                        : new BadKeyVersionException(segmentInfo.getName(), Collections.emptyMap());
+                        ? new KeyNotExistsException(bau.getStreamSegmentName(), bau.getAttributeId().toBuffer())
+                        : new BadKeyVersionException(bau.getStreamSegmentName(), Collections.emptyMap());
             }
 
             throw new CompletionException(ex);
@@ -326,10 +378,11 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
     private CompletableFuture<Void> compactIfNeeded(CompactionCandidate candidate) {
         val compactor = new FixedKeyLengthTableCompactor(candidate.getSegment(), this.tableCompactorConfig, this.executor);
         val timer = new TimeoutTimer(this.config.getRecoveryTimeout());
-        return compactor.isCompactionRequired()
-                .thenComposeAsync(isRequired -> {
-                    if (isRequired) {
-                        return compact(candidate.getSegment(), compactor, timer);
+        // This runs in the background, off the update path, so it may wait for the rate limiter for as long as the timer allows.
+        return compactor.compactIfNeeded(this.compactionRateLimiter, timer.getRemaining(), timer)
+                .thenComposeAsync(rounds -> {
+                    if (rounds > 0) {
+                        return truncateIfPossible(candidate.getSegment(), compactor, timer);
                     } else {
                         log.debug("{}: No compaction required at this time.", this.traceObjectId);
                         return CompletableFuture.completedFuture(null);
@@ -337,19 +390,16 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
                 }, this.executor);
     }
 
-    private CompletableFuture<Void> compact(DirectSegmentAccess segment, FixedKeyLengthTableCompactor compactor, TimeoutTimer timer) {
-        return compactor.compact(timer)
-                .thenComposeAsync(v -> {
-                    val metadata = segment.getInfo();
-                    val truncateOffset = compactor.calculateTruncationOffset(-1L);
-                    if (truncateOffset > metadata.getStartOffset()) {
-                        log.debug("{}: Truncating segment at offset {}.", this.traceObjectId, truncateOffset);
-                        return segment.truncate(truncateOffset, timer.getRemaining());
-                    } else {
-                        log.debug("{}: No segment truncation possible now.", this.traceObjectId);
-                        return CompletableFuture.completedFuture(null);
-                    }
-                }, this.executor);
+    private CompletableFuture<Void> truncateIfPossible(DirectSegmentAccess segment, FixedKeyLengthTableCompactor compactor, TimeoutTimer timer) {
+        val metadata = segment.getInfo();
+        val truncateOffset = compactor.calculateTruncationOffset(-1L);
+        if (truncateOffset > metadata.getStartOffset()) {
+            log.debug("{}: Truncating segment at offset {}.", this.traceObjectId, truncateOffset);
+            return segment.truncate(truncateOffset, timer.getRemaining());
+        } else {
+            log.debug("{}: No segment truncation possible now.", this.traceObjectId);
+            return CompletableFuture.completedFuture(null);
+        }
     }
 
     private <T> CompletableFuture<AsyncIterator<IteratorItem<T>>> newIterator(@NonNull DirectSegmentAccess segment,
@@ -456,6 +506,18 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
         }
     }
 
+    /**
+     * An update to a single Fixed-Key-Length Table Segment, ready to be persisted.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    private static class SegmentUpdate {
+        private final DirectSegmentAccess segment;
+        private final BufferView serializedEntries;
+        private final AttributeUpdateCollection attributeUpdates;
+        private final List<Integer> batchOffsets;
+    }
+
     @FunctionalInterface
     private interface GetIteratorItem<T> {
         CompletableFuture<List<T>> apply(DirectSegmentAccess segment, List<Map.Entry<AttributeId, Long>> keys, TimeoutTimer timer);
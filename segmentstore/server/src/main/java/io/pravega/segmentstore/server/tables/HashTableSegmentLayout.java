@@ -33,6 +33,7 @@ import io.pravega.segmentstore.contracts.SegmentType;
 import io.pravega.segmentstore.contracts.tables.IteratorArgs;
 import io.pravega.segmentstore.contracts.tables.IteratorItem;
 import io.pravega.segmentstore.contracts.tables.IteratorState;
+import io.pravega.segmentstore.contracts.tables.KeyHashType;
 import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
@@ -40,6 +41,7 @@ import io.pravega.segmentstore.contracts.tables.TableSegmentConfig;
 import io.pravega.segmentstore.contracts.tables.TableSegmentInfo;
 import io.pravega.segmentstore.server.CacheManager;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.server.SegmentContainer;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import io.pravega.segmentstore.server.UpdateableSegmentMetadata;
 import io.pravega.segmentstore.server.WriterSegmentProcessor;
@@ -81,9 +83,9 @@ class HashTableSegmentLayout extends TableSegmentLayout {
 
     //region Constructor
 
-    HashTableSegmentLayout(Connector connector, @NonNull CacheManager cacheManager, KeyHasher hasher,
-                           TableExtensionConfig config, ScheduledExecutorService executorService) {
-        super(connector, config, executorService);
+    HashTableSegmentLayout(Connector connector, @NonNull CacheManager cacheManager, KeyHasher hasher, TableExtensionConfig config,
+                           CompactionRateLimiter compactionRateLimiter, ScheduledExecutorService executorService) {
+        super(connector, config, compactionRateLimiter, executorService);
         this.hasher = hasher;
         this.keyIndex = new ContainerKeyIndex(connector.getContainerId(), config, cacheManager, this.hasher, this.executor);
     }
@@ -111,6 +113,9 @@ class HashTableSegmentLayout extends TableSegmentLayout {
         if (config.getRolloverSizeBytes() > 0) {
             result.put(Attributes.ROLLOVER_SIZE, config.getRolloverSizeBytes());
         }
+        if (config.getKeyHashType() != KeyHashType.Sha256) {
+            result.put(TableAttributes.KEY_HASH_TYPE, (long) config.getKeyHashType().getTypeId());
+        }
         return result;
     }
 
@@ -134,17 +139,51 @@ class HashTableSegmentLayout extends TableSegmentLayout {
 
         // Generate an Update Batch for all the entries (since we need to know their Key Hashes and relative
         // offsets in the batch itself).
-        val updateBatch = batch(entries, TableEntry::getKey, this.serializer::getUpdateLength, TableKeyBatch.update());
+        val updateBatch = batch(entries, TableEntry::getKey, this.serializer::getUpdateLength, TableKeyBatch.update(), this.hasher.forSegment(segmentInfo));
         logRequest("put", segmentInfo.getName(), updateBatch.isConditional(), tableSegmentOffset, entries.size(), updateBatch.getLength());
         return this.keyIndex.update(segment, updateBatch,
                 () -> commit(entries, this.serializer::serializeUpdate, segment, tableSegmentOffset, timer.getRemaining()), timer);
     }
 
+    /**
+     * Inserts or updates Table Entries in multiple Table Segments atomically. All the conditions are validated while
+     * holding locks on all the affected Keys (see {@link ContainerKeyIndex#update(List, java.util.function.Supplier, TimeoutTimer)}), after
+     * which all the updates are appended to their Segments as a single operation (see {@link SegmentContainer#appendAtomically}).
+     *
+     * @param segments The Table Segments to update.
+     * @param entries  A List (one for each item in segments, in the same order) of Lists of {@link TableEntry} instances
+     *                 to insert or update.
+     * @param timer    Timer for the operation.
+     * @return A CompletableFuture that, when completed, will contain a List (one for each item in segments, in the same
+     * order) of Lists of versions of the given Table Entries' Keys.
+     */
+    CompletableFuture<List<List<Long>>> put(@NonNull List<DirectSegmentAccess> segments, @NonNull List<List<TableEntry>> entries, TimeoutTimer timer) {
+        Preconditions.checkArgument(segments.size() == entries.size(), "Expected as many Entry Lists as Segments.");
+        val updates = new ArrayList<ContainerKeyIndex.SegmentBatch>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            val segment = segments.get(i);
+            val segmentEntries = entries.get(i);
+            val segmentInfo = segment.getInfo();
+            ensureSegmentType(segmentInfo.getName(), segmentInfo.getType());
+            val updateBatch = batch(segmentEntries, TableEntry::getKey, this.serializer::getUpdateLength, TableKeyBatch.update(), this.hasher.forSegment(segmentInfo));
+            logRequest("put", segmentInfo.getName(), updateBatch.isConditional(), NO_OFFSET, segmentEntries.size(), updateBatch.getLength());
+            updates.add(new ContainerKeyIndex.SegmentBatch(segment, updateBatch));
+        }
+
+        return this.keyIndex.update(updates, () -> {
+            val appends = new ArrayList<SegmentContainer.SegmentAppend>(segments.size());
+            for (int i = 0; i < segments.size(); i++) {
+                appends.add(new SegmentContainer.SegmentAppend(segments.get(i).getSegmentId(), this.serializer.serializeUpdate(entries.get(i)), null));
+            }
+            return this.connector.appendAtomically(appends, timer.getRemaining());
+        }, timer);
+    }
+
     @Override
     CompletableFuture<Void> remove(@NonNull DirectSegmentAccess segment, @NonNull Collection<TableKey> keys, long tableSegmentOffset, TimeoutTimer timer) {
         val segmentInfo = segment.getInfo();
         ensureSegmentType(segmentInfo.getName(), segmentInfo.getType());
-        val removeBatch = batch(keys, key -> key, this.serializer::getRemovalLength, TableKeyBatch.removal());
+        val removeBatch = batch(keys, key -> key, this.serializer::getRemovalLength, TableKeyBatch.removal(), this.hasher.forSegment(segmentInfo));
         logRequest("remove", segmentInfo.getName(), removeBatch.isConditional(), removeBatch.isRemoval(),
                 keys.size(), removeBatch.getLength());
         return this.keyIndex.update(segment, removeBatch,
@@ -157,7 +196,7 @@ class HashTableSegmentLayout extends TableSegmentLayout {
         val segmentInfo = segment.getInfo();
         ensureSegmentType(segmentInfo.getName(), segmentInfo.getType());
         logRequest("get", segmentInfo.getName(), keys.size());
-        val resultBuilder = new GetResultBuilder(keys, this.hasher);
+        val resultBuilder = new GetResultBuilder(keys, this.hasher.forSegment(segmentInfo));
         return this.keyIndex.getBucketOffsets(segment, resultBuilder.getHashes(), timer)
                 .thenComposeAsync(offsets -> get(segment, resultBuilder, offsets, timer), this.executor);
     }
@@ -279,11 +318,12 @@ class HashTableSegmentLayout extends TableSegmentLayout {
                         .build(), this.executor);
     }
 
-    private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength, TableKeyBatch batch) {
+    private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength,
+                                    TableKeyBatch batch, KeyHasher hasher) {
         for (T item : toBatch) {
             val length = getLength.apply(item);
             val key = getKey.apply(item);
-            batch.add(key, this.hasher.hash(key.getKey()), length);
+            batch.add(key, hasher.hash(key.getKey()), length);
         }
 
         if (batch.getLength() > this.config.getMaxBatchSize()) {
@@ -323,7 +363,7 @@ class HashTableSegmentLayout extends TableSegmentLayout {
 
         @Override
         public KeyHasher getKeyHasher() {
-            return HashTableSegmentLayout.this.hasher;
+            return HashTableSegmentLayout.this.hasher.forSegment(this.metadata);
         }
 
         @Override
@@ -341,6 +381,16 @@ class HashTableSegmentLayout extends TableSegmentLayout {
             return HashTableSegmentLayout.this.config.getMaxCompactionSize();
         }
 
+        @Override
+        public int getMaxCompactionRounds() {
+            return HashTableSegmentLayout.this.config.getMaxCompactionRounds();
+        }
+
+        @Override
+        public CompactionRateLimiter getCompactionRateLimiter() {
+            return HashTableSegmentLayout.this.compactionRateLimiter;
+        }
+
         @Override
         public void close() {
             // Tell the KeyIndex that it's ok to clear any tail-end cache.
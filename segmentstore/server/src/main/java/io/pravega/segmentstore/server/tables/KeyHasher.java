@@ -22,6 +22,9 @@ import com.google.common.hash.Hashing;
 import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.contracts.tables.KeyHashType;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import java.util.UUID;
 import java.util.function.Function;
 import lombok.NonNull;
@@ -47,6 +50,8 @@ abstract class KeyHasher {
      */
     static final UUID MAX_HASH = new UUID(TableBucket.BACKPOINTER_PREFIX - 1, Long.MAX_VALUE);
 
+    private static final KeyHasher MURMUR3 = new Murmur3Hasher();
+
     /**
      * Generates a new Key Hash for the given Key.
      *
@@ -115,6 +120,18 @@ abstract class KeyHasher {
         return MIN_HASH.compareTo(keyHash) <= 0 && MAX_HASH.compareTo(keyHash) >= 0;
     }
 
+    /**
+     * Gets the {@link KeyHasher} to use for the given Table Segment, based on its {@link TableAttributes#KEY_HASH_TYPE}.
+     *
+     * @param segmentInfo A {@link SegmentProperties} describing the Table Segment.
+     * @return This instance, if the Table Segment uses {@link KeyHashType#Sha256} (the default), or a {@link KeyHasher}
+     * that uses the Table Segment's {@link KeyHashType} otherwise.
+     */
+    KeyHasher forSegment(SegmentProperties segmentInfo) {
+        long keyHashType = segmentInfo.getAttributes().getOrDefault(TableAttributes.KEY_HASH_TYPE, (long) KeyHashType.Sha256.getTypeId());
+        return KeyHashType.get(keyHashType) == KeyHashType.Murmur3 ? MURMUR3 : this;
+    }
+
     /**
      * Creates a new instance of the KeyHasher class that generates hashes using the SHA-256 algorithm.
      *
@@ -124,6 +141,15 @@ abstract class KeyHasher {
         return new Sha256Hasher();
     }
 
+    /**
+     * Gets an instance of the KeyHasher class that generates hashes using the 128-bit Murmur3 algorithm.
+     *
+     * @return A KeyHasher.
+     */
+    static KeyHasher murmur3() {
+        return MURMUR3;
+    }
+
     /**
      * Creates a new instance of the KeyHasher class that generates custom hashes, based on the given Function.
      *
@@ -153,6 +179,23 @@ abstract class KeyHasher {
 
     //endregion
 
+    //region Murmur3Hasher
+
+    private static class Murmur3Hasher extends KeyHasher {
+        private static final HashFunction HASH = Hashing.murmur3_128();
+
+        @Override
+        public UUID hash(@NonNull BufferView key) {
+            val h = HASH.newHasher();
+            key.collect(h::putBytes);
+            byte[] rawHash = h.hash().asBytes();
+            assert rawHash.length == HASH_SIZE_BYTES;
+            return toUUID(rawHash);
+        }
+    }
+
+    //endregion
+
     //region CustomHasher
 
     @RequiredArgsConstructor
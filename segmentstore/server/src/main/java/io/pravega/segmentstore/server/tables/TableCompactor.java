@@ -33,6 +33,7 @@ import io.pravega.segmentstore.server.DataCorruptionException;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import io.pravega.segmentstore.server.reading.AsyncReadResultProcessor;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -40,7 +41,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NonNull;
@@ -66,6 +69,12 @@ import lombok.val;
  * of this operation (namely {@link TableAttributes#COMPACTION_OFFSET} and {@link TableAttributes#TOTAL_ENTRY_COUNT}).
  * - These copied entries are not indexed as part of compaction. Similarly to normal updates, the {@link WriterTableProcessor}
  * will pick them up and index them.
+ * <p>
+ * Compaction is incremental: {@link #compactIfNeeded} executes a number of compaction rounds (each processing at most
+ * {@link Config#getMaxCompactionSize()} bytes) that is proportional to the Table Segment's compaction debt (the estimated
+ * number of obsolete bytes in its uncompacted portion), up to {@link Config#getMaxCompactionRounds()}. Heavily updated,
+ * poorly utilized Table Segments will thus catch up faster than lightly updated ones, while every round is subject to
+ * a {@link CompactionRateLimiter} so that compactions do not starve foreground appends.
  */
 @Slf4j
 abstract class TableCompactor {
@@ -137,13 +146,91 @@ abstract class TableCompactor {
             return CompletableFuture.completedFuture(false);
         }
 
-        final long totalEntryCount = IndexReader.getTotalEntryCount(this.metadata);
         final long utilizationThreshold = (int) MathHelpers.minMax(IndexReader.getCompactionUtilizationThreshold(this.metadata), 0, 100);
-        return getUniqueEntryCount()
-                .thenApply(entryCount -> {
-                    final long utilization = totalEntryCount == 0 ? 100 : MathHelpers.minMax(Math.round(100.0 * entryCount / totalEntryCount), 0, 100);
-                    return utilization < utilizationThreshold;
-                });
+        return getUtilization().thenApply(utilization -> utilization < utilizationThreshold);
+    }
+
+    /**
+     * Estimates the compaction debt of the Table Segment. This is the number of bytes between the compaction offset and
+     * the last indexed offset that are expected to be obsolete (based on the Table Segment's current utilization) and
+     * which can be reclaimed by compacting it.
+     *
+     * @return A CompletableFuture that, when completed, will contain the estimated compaction debt, in bytes.
+     */
+    CompletableFuture<Long> getCompactionDebt() {
+        final long uncompactedLength = Math.max(0, getLastIndexedOffset() - getCompactionStartOffset());
+        if (uncompactedLength == 0) {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        return getUtilization().thenApply(utilization -> uncompactedLength * (100 - utilization) / 100);
+    }
+
+    /**
+     * Calculates the number of compaction rounds to execute for a Table Segment with the given compaction debt. This is
+     * the number of {@link Config#getMaxCompactionSize()}-sized rounds required to reclaim the debt, bounded by the
+     * interval [1, {@link Config#getMaxCompactionRounds()}].
+     *
+     * @param compactionDebt The compaction debt, as returned by {@link #getCompactionDebt()}.
+     * @return The number of compaction rounds.
+     */
+    int getCompactionRounds(long compactionDebt) {
+        final long rounds = (compactionDebt + this.config.getMaxCompactionSize() - 1) / this.config.getMaxCompactionSize();
+        return (int) MathHelpers.minMax(rounds, 1, Math.max(1, this.config.getMaxCompactionRounds()));
+    }
+
+    /**
+     * Executes compaction rounds on the Table Segment for as long as {@link #isCompactionRequired()} indicates it is
+     * necessary, but no more than {@link #getCompactionRounds} (based on the current compaction debt). Every round is
+     * throttled using the given {@link CompactionRateLimiter}. If a round cannot proceed within maxThrottleDelay (or
+     * before the timer expires), no further rounds are executed; the remaining debt is left for the next invocation.
+     *
+     * @param rateLimiter      The {@link CompactionRateLimiter} to throttle and record compactions with.
+     * @param maxThrottleDelay The maximum amount of time to wait for the {@link CompactionRateLimiter} before each round.
+     * @param timer            Timer for the operation.
+     * @return A CompletableFuture that, when completed, will contain the number of compaction rounds executed. If a round
+     * failed, the future will be failed with the same exception as {@link #compact}.
+     */
+    CompletableFuture<Integer> compactIfNeeded(@NonNull CompactionRateLimiter rateLimiter, Duration maxThrottleDelay, TimeoutTimer timer) {
+        return getCompactionDebt()
+                .thenComposeAsync(debt -> {
+                    rateLimiter.reportCompactionDebt(this.metadata.getName(), debt);
+                    final int maxRounds = getCompactionRounds(debt);
+                    val rounds = new AtomicInteger(0);
+                    val canContinue = new AtomicBoolean(true);
+                    return Futures.loop(
+                            () -> canContinue.get() && rounds.get() < maxRounds,
+                            () -> isCompactionRequired()
+                                    .thenComposeAsync(isRequired -> {
+                                        if (!isRequired) {
+                                            canContinue.set(false);
+                                            return CompletableFuture.completedFuture(null);
+                                        }
+
+                                        final int length = getCompactionLength();
+                                        val maxDelay = maxThrottleDelay.compareTo(timer.getRemaining()) < 0 ? maxThrottleDelay : timer.getRemaining();
+                                        return rateLimiter.acquire(length, maxDelay)
+                                                .thenComposeAsync(acquired -> {
+                                                    if (!acquired) {
+                                                        log.debug("{}: Compaction throttled; deferring remaining rounds.", this.traceLogId);
+                                                        canContinue.set(false);
+                                                        return CompletableFuture.completedFuture(null);
+                                                    }
+
+                                                    return compact(timer).thenRun(() -> {
+                                                        rounds.incrementAndGet();
+                                                        rateLimiter.compactionComplete(length);
+                                                    });
+                                                }, this.executor);
+                                    }, this.executor),
+                            this.executor)
+                            .thenApply(v -> {
+                                if (rounds.get() > 0) {
+                                    log.debug("{}: Executed {} compaction round(s); CompactionDebt={}.", this.traceLogId, rounds, debt);
+                                }
+                                return rounds.get();
+                            });
+                }, this.executor);
     }
 
     /**
@@ -201,7 +288,7 @@ abstract class TableCompactor {
      */
     CompletableFuture<Void> compact(TimeoutTimer timer) {
         long startOffset = getCompactionStartOffset();
-        int maxLength = (int) Math.min(this.config.getMaxCompactionSize(), getLastIndexedOffset() - startOffset);
+        int maxLength = getCompactionLength();
         if (startOffset < 0 || maxLength < 0) {
             // The Segment's Compaction offset must be a value between 0 and the current LastIndexedOffset.
             return Futures.failedFuture(new DataCorruptionException(String.format(
@@ -368,6 +455,28 @@ abstract class TableCompactor {
         return Math.max(IndexReader.getCompactionOffset(this.metadata), this.metadata.getStartOffset());
     }
 
+    /**
+     * Calculates the number of bytes that the next compaction round would process. This is the smaller of
+     * {@link Config#getMaxCompactionSize()} and the number of indexed bytes beyond {@link #getCompactionStartOffset()}.
+     *
+     * @return The compaction length. A negative value indicates the Segment's Compaction Offset is beyond its last
+     * indexed offset.
+     */
+    private int getCompactionLength() {
+        return (int) Math.min(this.config.getMaxCompactionSize(), getLastIndexedOffset() - getCompactionStartOffset());
+    }
+
+    /**
+     * Calculates the Table Segment's utilization: the ratio (as a percentage) of unique keys to total entries.
+     *
+     * @return A CompletableFuture that, when completed, will contain the utilization, as a value in the interval [0, 100].
+     */
+    private CompletableFuture<Long> getUtilization() {
+        final long totalEntryCount = IndexReader.getTotalEntryCount(this.metadata);
+        return getUniqueEntryCount()
+                .thenApply(entryCount -> totalEntryCount == 0 ? 100 : MathHelpers.minMax(Math.round(100.0 * entryCount / totalEntryCount), 0, 100));
+    }
+
     //region Helper Classes
 
     protected static class CompactionArgs {
@@ -484,8 +593,20 @@ abstract class TableCompactor {
     }
 
     @Data
+    @AllArgsConstructor
     static class Config {
+        /**
+         * The maximum number of bytes to process in a single compaction round.
+         */
         private final int maxCompactionSize;
+        /**
+         * The maximum number of consecutive compaction rounds to execute in {@link #compactIfNeeded}.
+         */
+        private final int maxCompactionRounds;
+
+        Config(int maxCompactionSize) {
+            this(maxCompactionSize, 1);
+        }
     }
 
     //endregion
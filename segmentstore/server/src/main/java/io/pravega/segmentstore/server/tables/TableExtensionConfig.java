@@ -46,6 +46,8 @@ public class TableExtensionConfig {
     public static final Property<Integer> SYSTEM_CRITICAL_MAX_UNINDEXED_LENGTH = Property.named("systemcritical.unindexed.bytes.max", EntrySerializer.MAX_BATCH_SIZE * 8);
     public static final Property<Integer> MAX_COMPACTION_SIZE = Property.named("compaction.bytes.max", EntrySerializer.MAX_SERIALIZATION_LENGTH * 4);
     public static final Property<Integer> COMPACTION_FREQUENCY = Property.named("compaction.frequency.millis", 30000);
+    public static final Property<Integer> MAX_COMPACTION_ROUNDS = Property.named("compaction.rounds.max", 4);
+    public static final Property<Long> COMPACTION_RATE_LIMIT = Property.named("compaction.rate.bytes.per.second.max", 0L);
     public static final Property<Integer> DEFAULT_MIN_UTILIZATION = Property.named("utilization.min", 75);
     public static final Property<Long> DEFAULT_ROLLOVER_SIZE = Property.named("rollover.size.bytes", (long) EntrySerializer.MAX_SERIALIZATION_LENGTH * 4 * 4);
     public static final Property<Integer> MAX_BATCH_SIZE = Property.named("batch.size.bytes", EntrySerializer.MAX_BATCH_SIZE);
@@ -92,6 +94,19 @@ public class TableExtensionConfig {
      */
     private final Duration compactionFrequency;
 
+    /**
+     * The maximum number of consecutive compaction rounds (each processing up to {@link #getMaxCompactionSize()} bytes)
+     * to execute on a Table Segment at once. The actual number of rounds is proportional to the Table Segment's
+     * compaction debt, so that heavily updated Table Segments do not fall behind.
+     */
+    private final int maxCompactionRounds;
+
+    /**
+     * The maximum number of bytes per second that all Table Segment compactions in a Segment Container may process.
+     * A value of 0 disables compaction rate limiting.
+     */
+    private final long compactionRateLimit;
+
     /**
      * Default value to set for the {@link TableAttributes#MIN_UTILIZATION} for every new Table Segment.
      */
@@ -122,6 +137,11 @@ public class TableExtensionConfig {
         this.systemCriticalMaxUnindexedLength = properties.getPositiveInt(SYSTEM_CRITICAL_MAX_UNINDEXED_LENGTH);
         this.maxCompactionSize = properties.getPositiveInt(MAX_COMPACTION_SIZE);
         this.compactionFrequency = properties.getDuration(COMPACTION_FREQUENCY, ChronoUnit.MILLIS);
+        this.maxCompactionRounds = properties.getPositiveInt(MAX_COMPACTION_ROUNDS);
+        this.compactionRateLimit = properties.getLong(COMPACTION_RATE_LIMIT);
+        if (this.compactionRateLimit < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", COMPACTION_RATE_LIMIT));
+        }
         this.defaultMinUtilization = properties.getNonNegativeInt(DEFAULT_MIN_UTILIZATION);
         if (this.defaultMinUtilization > 100) {
             throw new ConfigurationException(String.format("Property '%s' must be a value within [0, 100].", DEFAULT_MIN_UTILIZATION));
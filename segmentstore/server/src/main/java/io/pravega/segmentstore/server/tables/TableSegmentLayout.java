@@ -27,6 +27,7 @@ import io.pravega.segmentstore.contracts.tables.TableSegmentConfig;
 import io.pravega.segmentstore.contracts.tables.TableSegmentInfo;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.server.SegmentContainer;
 import io.pravega.segmentstore.server.UpdateableSegmentMetadata;
 import io.pravega.segmentstore.server.WriterSegmentProcessor;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
@@ -58,6 +59,7 @@ abstract class TableSegmentLayout implements AutoCloseable {
     protected final ScheduledExecutorService executor;
     protected final EntrySerializer serializer;
     protected final TableExtensionConfig config;
+    protected final CompactionRateLimiter compactionRateLimiter;
     protected final String traceObjectId;
 
     //endregion
@@ -67,13 +69,16 @@ abstract class TableSegmentLayout implements AutoCloseable {
     /**
      * Creates a new instance of the {@link TableSegmentLayout} class.
      *
-     * @param connector A {@link Connector} that will be used to access the underlying Segments.
-     * @param config    The {@link TableExtensionConfig} to use.
-     * @param executor  A {@link ScheduledExecutorService} for async operations.
+     * @param connector             A {@link Connector} that will be used to access the underlying Segments.
+     * @param config                The {@link TableExtensionConfig} to use.
+     * @param compactionRateLimiter The {@link CompactionRateLimiter} to throttle Table Segment compactions with.
+     * @param executor              A {@link ScheduledExecutorService} for async operations.
      */
-    protected TableSegmentLayout(@NonNull Connector connector, @NonNull TableExtensionConfig config, @NonNull ScheduledExecutorService executor) {
+    protected TableSegmentLayout(@NonNull Connector connector, @NonNull TableExtensionConfig config,
+                                 @NonNull CompactionRateLimiter compactionRateLimiter, @NonNull ScheduledExecutorService executor) {
         this.connector = connector;
         this.config = config;
+        this.compactionRateLimiter = compactionRateLimiter;
         this.executor = executor;
         this.serializer = new EntrySerializer();
         this.traceObjectId = String.format("TableExtension[%s]", connector.getContainerId());
@@ -232,6 +237,11 @@ abstract class TableSegmentLayout implements AutoCloseable {
          */
         @NonNull
         private final BiFunction<String, Duration, CompletableFuture<Void>> deleteSegment;
+        /**
+         * A {@link BiFunction} that will append to multiple Segments atomically. See {@link SegmentContainer#appendAtomically}.
+         */
+        @NonNull
+        private final BiFunction<List<SegmentContainer.SegmentAppend>, Duration, CompletableFuture<List<Long>>> appendAtomically;
 
         protected CompletableFuture<DirectSegmentAccess> getSegment(String name, Duration timeout) {
             return getSegment(name, OperationPriority.Normal, timeout);
@@ -245,6 +255,10 @@ abstract class TableSegmentLayout implements AutoCloseable {
             return this.deleteSegment.apply(name, timeout);
         }
 
+        protected CompletableFuture<List<Long>> appendAtomically(List<SegmentContainer.SegmentAppend> appends, Duration timeout) {
+            return this.appendAtomically.apply(appends, timeout);
+        }
+
         @FunctionalInterface
         public interface GetSegment {
             CompletableFuture<DirectSegmentAccess> apply(String segmentName, OperationPriority priority, Duration timeout);
@@ -32,6 +32,7 @@ import io.pravega.shared.segment.SegmentToContainerMapper;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -84,6 +85,13 @@ public class TableService extends SegmentContainerCollection implements TableSto
                 "put", segmentName, entries.size());
     }
 
+    @Override
+    public CompletableFuture<Map<String, List<Long>>> put(Map<String, List<TableEntry>> entries, Duration timeout) {
+        return invokeExtension(entries.keySet(),
+                e -> e.put(entries, timeout),
+                "put", entries.keySet(), entries.values().stream().mapToInt(List::size).sum());
+    }
+
     @Override
     public CompletableFuture<Void> remove(String segmentName, Collection<TableKey> keys, Duration timeout) {
         return invokeExtension(segmentName,
@@ -144,5 +152,12 @@ public class TableService extends SegmentContainerCollection implements TableSto
                 methodName, logArgs);
     }
 
+    private <T> CompletableFuture<T> invokeExtension(Collection<String> streamSegmentNames, Function<ContainerTableExtension, CompletableFuture<T>> toInvoke,
+                                                     String methodName, Object... logArgs) {
+        return super.invoke(streamSegmentNames,
+                segmentContainer -> toInvoke.apply(segmentContainer.getExtension(ContainerTableExtension.class)),
+                methodName, logArgs);
+    }
+
     //endregion
 }
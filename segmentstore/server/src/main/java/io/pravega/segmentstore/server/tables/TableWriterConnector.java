@@ -72,6 +72,24 @@ interface TableWriterConnector extends AutoCloseable {
      */
     int getMaxCompactionSize();
 
+    /**
+     * Gets a value representing the maximum number of consecutive compaction rounds that can be executed at once.
+     *
+     * @return The maximum number of compaction rounds.
+     */
+    default int getMaxCompactionRounds() {
+        return 1;
+    }
+
+    /**
+     * Gets the {@link CompactionRateLimiter} to throttle Table Segment compactions with.
+     *
+     * @return The {@link CompactionRateLimiter}.
+     */
+    default CompactionRateLimiter getCompactionRateLimiter() {
+        return CompactionRateLimiter.NONE;
+    }
+
     /**
      * Gets a value representing the maximum number of bytes to attempt to index (flush) at once.
      * @return The maximum flush size.
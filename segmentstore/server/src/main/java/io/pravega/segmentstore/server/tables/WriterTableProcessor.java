@@ -81,7 +81,7 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
         this.lastAddedOffset = new AtomicLong(-1);
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("TableProcessor[%d-%d]", this.connector.getMetadata().getContainerId(), this.connector.getMetadata().getId());
-        this.tableCompactorConfig = new TableCompactor.Config(this.connector.getMaxCompactionSize());
+        this.tableCompactorConfig = new TableCompactor.Config(this.connector.getMaxCompactionSize(), this.connector.getMaxCompactionRounds());
     }
 
     //endregion
@@ -208,19 +208,17 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
         // turn require a long-lived reference to DirectSegmentAccess.
         val compactor = new HashTableCompactor(segment, this.tableCompactorConfig, this.indexWriter, this.connector.getKeyHasher(), this.executor);
 
-        // Compaction may not be needed any time. Only perform it if necessary.
-        return compactor.isCompactionRequired()
-                .thenComposeAsync(isRequired -> {
-                    if (isRequired) {
-                        return compactor.compact(timer);
-                    } else {
+        // Compaction may not be needed any time. Only perform it if necessary, and only as much as the Segment's
+        // compaction debt requires. This runs as part of the flush, so we never wait for the rate limiter as that would
+        // hold up indexing; if compactions are throttled, the remaining debt will be picked up on a subsequent flush.
+        return compactor.compactIfNeeded(this.connector.getCompactionRateLimiter(), Duration.ZERO, timer)
+                .thenComposeAsync(rounds -> {
+                    if (rounds == 0) {
                         // Note: we should not bail out early; even if no compaction occurred, as a result of our indexing
                         // it may be that we can truncate the segment, so we have to execute the subsequent callbacks.
                         log.debug("{}: No compaction required at this time.", this.traceObjectId);
-                        return CompletableFuture.completedFuture(null);
                     }
-                }, this.executor)
-                .thenComposeAsync(v -> {
+
                     // Calculate the safe truncation offset.
                     long truncateOffset = compactor.calculateTruncationOffset(highestCopiedOffset);
 
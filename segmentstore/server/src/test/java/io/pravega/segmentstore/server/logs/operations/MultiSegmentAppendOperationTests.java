@@ -0,0 +1,108 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs.operations;
+
+import io.pravega.common.MathHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.AttributeId;
+import io.pravega.segmentstore.contracts.AttributeUpdate;
+import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
+import io.pravega.segmentstore.contracts.AttributeUpdateType;
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for MultiSegmentAppendOperation class.
+ */
+public class MultiSegmentAppendOperationTests extends OperationTestsBase<MultiSegmentAppendOperation> {
+    private static final int MAX_APPEND_COUNT = 5;
+    private static final int MAX_LENGTH = 1024;
+
+    @Override
+    protected MultiSegmentAppendOperation createOperation(Random random) {
+        int count = random.nextInt(MAX_APPEND_COUNT - 1) + 2;
+        val appends = new ArrayList<StreamSegmentAppendOperation>();
+        for (int i = 0; i < count; i++) {
+            byte[] data = new byte[random.nextInt(MAX_LENGTH) + 1];
+            random.nextBytes(data);
+            appends.add(new StreamSegmentAppendOperation(i, new ByteArraySegment(data), StreamSegmentAppendOperationTests.createAttributes()));
+        }
+
+        return new MultiSegmentAppendOperation(appends);
+    }
+
+    @Override
+    protected boolean isPreSerializationConfigRequired(MultiSegmentAppendOperation operation) {
+        return operation.getAppends().stream().anyMatch(a -> a.getSequenceNumber() < 0 || a.getStreamSegmentOffset() < 0);
+    }
+
+    @Override
+    protected void configurePreSerialization(MultiSegmentAppendOperation operation, Random random) {
+        val appends = operation.getAppends();
+        if (appends.stream().anyMatch(a -> a.getSequenceNumber() < 0)) {
+            // The operation has the Sequence Number of its last Append.
+            for (int i = 0; i < appends.size(); i++) {
+                appends.get(i).setSequenceNumber(operation.getSequenceNumber() - appends.size() + i + 1);
+            }
+        } else if (appends.stream().anyMatch(a -> a.getStreamSegmentOffset() < 0)) {
+            appends.forEach(a -> a.setStreamSegmentOffset(MathHelpers.abs(random.nextLong())));
+        } else if (isPreSerializationConfigRequired(operation)) {
+            Assert.fail("isPreSerializationConfigRequired returned true but there is nothing to be done.");
+        }
+    }
+
+    @Test
+    public void testConstructor() {
+        val data = new ByteArraySegment(new byte[1]);
+        AssertExtensions.assertThrows(
+                "Constructor accepted an empty list.",
+                () -> new MultiSegmentAppendOperation(new ArrayList<>()),
+                ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows(
+                "Constructor accepted multiple appends to the same Segment.",
+                () -> new MultiSegmentAppendOperation(Arrays.asList(
+                        new StreamSegmentAppendOperation(1, data, null),
+                        new StreamSegmentAppendOperation(1, data, null))),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests {@link MultiSegmentAppendOperation#resetPreProcessing()}.
+     */
+    @Test
+    public void testResetPreProcessing() {
+        val data = new ByteArraySegment(new byte[1]);
+        val attributeUpdate = new AttributeUpdate(AttributeId.randomUUID(), AttributeUpdateType.Accumulate, 1);
+        val append1 = new StreamSegmentAppendOperation(1, data, AttributeUpdateCollection.from(attributeUpdate));
+        val append2 = new StreamSegmentAppendOperation(2, 10, data, null);
+        val operation = new MultiSegmentAppendOperation(Arrays.asList(append1, append2));
+
+        // Simulate what pre-processing does.
+        append1.setStreamSegmentOffset(100);
+        append2.setStreamSegmentOffset(200);
+        attributeUpdate.setValue(5);
+
+        operation.resetPreProcessing();
+        Assert.assertEquals("Expected offset to be reset.", -1L, append1.getStreamSegmentOffset());
+        Assert.assertEquals("Expected explicit offset to be restored.", 10, append2.getStreamSegmentOffset());
+        Assert.assertEquals("Expected attribute value to be restored.", 1, attributeUpdate.getValue());
+    }
+}
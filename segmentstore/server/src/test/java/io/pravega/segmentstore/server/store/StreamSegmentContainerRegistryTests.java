@@ -463,6 +463,11 @@ public class StreamSegmentContainerRegistryTests extends ThreadPooledTestSuite {
             return null;
         }
 
+        @Override
+        public CompletableFuture<List<Long>> appendAtomically(List<SegmentAppend> appends, Duration timeout) {
+            return null;
+        }
+
         @Override
         public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
             return null;
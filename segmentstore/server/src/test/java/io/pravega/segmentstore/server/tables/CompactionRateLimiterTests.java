@@ -0,0 +1,118 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.Timer;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link CompactionRateLimiter} class.
+ */
+public class CompactionRateLimiterTests extends ThreadPooledTestSuite {
+    private static final long BYTES_PER_SECOND = 1000;
+    private static final Duration NO_MAX_DELAY = Duration.ofSeconds(30);
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 1;
+    }
+
+    /**
+     * Tests the {@link CompactionRateLimiter#reserve} method.
+     */
+    @Test
+    public void testReserve() {
+        val time = new AtomicLong(0);
+        @Cleanup
+        val limiter = new CompactionRateLimiter(BYTES_PER_SECOND, executorService(), null, time::get);
+
+        // First request goes through immediately, but reserves 1 second worth of bytes.
+        Assert.assertEquals(Duration.ZERO, limiter.reserve((int) BYTES_PER_SECOND, NO_MAX_DELAY));
+
+        // Second request must wait for the first one's reservation to expire.
+        Assert.assertEquals(Duration.ofSeconds(1), limiter.reserve((int) BYTES_PER_SECOND / 2, NO_MAX_DELAY));
+
+        // A request that is not willing to wait that long is refused and does not reserve anything.
+        Assert.assertNull(limiter.reserve(1, Duration.ofMillis(1499)));
+        Assert.assertNull(limiter.reserve(1, Duration.ZERO));
+
+        // Third request must wait for both previous ones.
+        Assert.assertEquals(Duration.ofMillis(1500), limiter.reserve(1, Duration.ofMillis(1500)));
+
+        // Time passes and all the reservations have expired.
+        time.set(Duration.ofSeconds(10).toNanos());
+        Assert.assertEquals(Duration.ZERO, limiter.reserve((int) BYTES_PER_SECOND, Duration.ZERO));
+        time.addAndGet(Duration.ofMillis(250).toNanos());
+        Assert.assertEquals(Duration.ofMillis(750), limiter.reserve((int) BYTES_PER_SECOND, NO_MAX_DELAY));
+
+        // Empty requests are never throttled.
+        Assert.assertEquals(Duration.ZERO, limiter.reserve(0, Duration.ZERO));
+    }
+
+    /**
+     * Tests the {@link CompactionRateLimiter#acquire} method using real time. Verifies that consecutive acquisitions are
+     * delayed such that the throughput does not exceed the configured rate, and that acquisitions which are not willing
+     * to wait are refused immediately.
+     */
+    @Test
+    public void testAcquire() {
+        final int count = 5;
+        final int length = (int) BYTES_PER_SECOND / 10;
+        @Cleanup
+        val limiter = new CompactionRateLimiter(0, BYTES_PER_SECOND, executorService());
+
+        // Each acquisition reserves 100ms worth of bytes. The first one goes through immediately and each subsequent one
+        // must wait for the previous one's reservation to expire.
+        val timer = new Timer();
+        for (int i = 0; i < count; i++) {
+            Assert.assertTrue("Expected acquisition to succeed.", limiter.acquire(length, NO_MAX_DELAY).join());
+        }
+
+        val elapsed = timer.getElapsed();
+        val minExpected = Duration.ofMillis((count - 1) * 1000L * length / BYTES_PER_SECOND);
+        AssertExtensions.assertGreaterThanOrEqual("Acquisitions were not delayed enough.", minExpected.toMillis(), elapsed.toMillis());
+        val throughput = (double) (count - 1) * length / (elapsed.toNanos() / 1E9);
+        Assert.assertTrue("Throughput exceeded the configured rate: " + throughput, throughput <= BYTES_PER_SECOND);
+
+        // The last acquisition reserved the next 100ms. A caller that cannot wait is refused right away.
+        val refused = limiter.acquire(length, Duration.ZERO);
+        Assert.assertTrue("Expected refusal to complete immediately.", refused.isDone());
+        Assert.assertFalse("Expected acquisition to be refused.", refused.join());
+        Assert.assertTrue("Expected acquisition to succeed when willing to wait.", limiter.acquire(length, NO_MAX_DELAY).join());
+    }
+
+    /**
+     * Tests the {@link CompactionRateLimiter#NONE} instance.
+     */
+    @Test
+    public void testNoLimit() {
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Duration.ZERO, CompactionRateLimiter.NONE.reserve(Integer.MAX_VALUE, Duration.ZERO));
+            Assert.assertTrue(CompactionRateLimiter.NONE.acquire(Integer.MAX_VALUE, Duration.ZERO).join());
+        }
+
+        // These should not do anything.
+        CompactionRateLimiter.NONE.compactionComplete(1);
+        CompactionRateLimiter.NONE.reportCompactionDebt("Segment", 1);
+    }
+}
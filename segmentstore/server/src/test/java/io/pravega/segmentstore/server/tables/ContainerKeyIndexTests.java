@@ -32,6 +32,7 @@ import io.pravega.segmentstore.server.CachePolicy;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import io.pravega.segmentstore.server.SegmentMock;
+import io.pravega.segmentstore.server.containers.StreamSegmentMetadata;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
 import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
 import io.pravega.test.common.AssertExtensions;
@@ -59,6 +60,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -232,6 +234,74 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
                 ex -> ex instanceof BadKeyVersionException && keyMatches(((BadKeyVersionException) ex).getExpectedVersions(), keyData));
     }
 
+    /**
+     * Tests the ability of the {@link ContainerKeyIndex} to perform conditional updates across multiple Segments atomically:
+     * if a condition fails on any of the Segments, nothing is persisted in any of them.
+     */
+    @Test
+    public void testMultiSegmentConditionalUpdate() throws Exception {
+        @Cleanup
+        val context = new TestContext();
+        val segment2 = new SegmentMock(new StreamSegmentMetadata("Mock2", 1, CONTAINER_ID), executorService());
+        segment2.getMetadata().setLength(0);
+        segment2.getMetadata().setStorageLength(0);
+        segment2.updateAttributes(TableAttributes.DEFAULT_VALUES);
+        val segments = Arrays.<DirectSegmentAccess>asList(context.segment, segment2);
+
+        // Insert one key into each Segment.
+        val s = new EntrySerializer();
+        val keys = generateUnversionedKeys(segments.size(), context);
+        val versions = new ArrayList<Long>();
+        for (int i = 0; i < segments.size(); i++) {
+            val segment = segments.get(i);
+            val toUpdate = TableEntry.notExists(keys.get(i).getKey(), new ByteArraySegment(new byte[100]));
+            val toWrite = s.serializeUpdate(Collections.singleton(toUpdate));
+            val result = context.index.update(segment, toUpdateBatch(toUpdate.getKey()),
+                    () -> segment.append(toWrite, null, TIMEOUT), context.timer).get(SHORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            versions.add(result.get(0));
+        }
+
+        // One condition fails: nothing should be persisted.
+        Supplier<CompletableFuture<List<Long>>> noPersist = () -> Futures.failedFuture(new AssertionError("Not expecting persist to be invoked."));
+        AssertExtensions.assertSuppliedFutureThrows(
+                "update() allowed a multi-segment update with one failed condition.",
+                () -> context.index.update(Arrays.asList(
+                        new ContainerKeyIndex.SegmentBatch(segments.get(0), toUpdateBatch(TableKey.versioned(keys.get(0).getKey(), versions.get(0)))),
+                        new ContainerKeyIndex.SegmentBatch(segments.get(1), toUpdateBatch(TableKey.versioned(keys.get(1).getKey(), versions.get(1) + 1)))),
+                        noPersist, context.timer),
+                ex -> ex instanceof BadKeyVersionException && keyMatches(((BadKeyVersionException) ex).getExpectedVersions(), keys.get(1).getKey()));
+
+        // All conditions match: everything should be persisted (in one invocation) and the index updated.
+        val persistCount = new AtomicInteger();
+        val updates = new ArrayList<ContainerKeyIndex.SegmentBatch>();
+        val toWrite = new ArrayList<BufferView>();
+        for (int i = 0; i < segments.size(); i++) {
+            val toUpdate = TableEntry.versioned(keys.get(i).getKey(), new ByteArraySegment(new byte[100]), versions.get(i));
+            toWrite.add(s.serializeUpdate(Collections.singleton(toUpdate)));
+            updates.add(new ContainerKeyIndex.SegmentBatch(segments.get(i), toUpdateBatch(toUpdate.getKey())));
+        }
+
+        Supplier<CompletableFuture<List<Long>>> persist = () -> {
+            persistCount.incrementAndGet();
+            val appends = new ArrayList<CompletableFuture<Long>>();
+            for (int i = 0; i < segments.size(); i++) {
+                appends.add(segments.get(i).append(toWrite.get(i), null, TIMEOUT));
+            }
+            return Futures.allOfWithResults(appends);
+        };
+        val result = context.index.update(updates, persist, context.timer).get(SHORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("Expected all batches to be persisted at once.", 1, persistCount.get());
+        Assert.assertEquals("Unexpected number of results.", segments.size(), result.size());
+        for (int i = 0; i < segments.size(); i++) {
+            val newVersion = result.get(i).get(0);
+            Assert.assertTrue("Expected a new version for Segment " + i, newVersion > versions.get(i));
+            val hash = HASHER.hash(keys.get(i).getKey());
+            val bucketOffsets = context.index.getBucketOffsets(segments.get(i), Collections.singleton(hash), context.timer)
+                    .get(SHORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            Assert.assertEquals("Unexpected bucket offset for Segment " + i, newVersion, (long) bucketOffsets.get(hash));
+        }
+    }
+
     /**
      * Tests the ability of the {@link ContainerKeyIndex} to reconcile conditional updates if the condition does not match
      * the given Key's Bucket offset, but it matches the Key's offset (this is a corner scenario in a situation with multiple
@@ -656,6 +726,73 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         Assert.assertEquals(Long.valueOf(5L * 22L), getBucketOffsets.get(key1hash.get(0))); // (key1, 4) is the 6th element in entries.
     }
 
+    /**
+     * Tests a recovery of a Table Segment whose indexed section exceeds {@link TableExtensionConfig#getMaxTailCachePreIndexLength()}
+     * but whose unindexed section does not. Verifies that only the unindexed section is scanned (the durable index is used
+     * for everything else), that compacted entries superseded by the index are not tail-cached and that requests are
+     * auto-unblocked without having to wait for the {@link IndexWriter}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRecoveryWithLargeIndexedSection() throws Exception {
+        val s = new EntrySerializer();
+        @Cleanup
+        val context = new TestContext(TableExtensionConfig.builder()
+                .with(TableExtensionConfig.MAX_TAIL_CACHE_PREINDEX_LENGTH, (long) TEST_MAX_TAIL_CACHE_PRE_INDEX_LENGTH)
+                .with(TableExtensionConfig.MAX_TAIL_CACHE_PREINDEX_BATCH_SIZE, 1024)
+                .with(TableExtensionConfig.RECOVERY_TIMEOUT, (int) ContainerKeyIndexTests.SHORT_TIMEOUT_MILLIS)
+                .build());
+        val iw = new IndexWriter(HASHER, executorService());
+
+        // 1. Write and index an initial set of keys, followed by enough data to make the indexed section too long to scan.
+        val keys1 = generateUnversionedKeys(BATCH_SIZE, context);
+        val entries1 = new ArrayList<TableEntry>();
+        val keysWithOffsets = new HashMap<UUID, KeyWithOffset>();
+        val offset = new AtomicLong();
+        for (val k : keys1) {
+            val entry = TableEntry.unversioned(k.getKey(), new ByteArraySegment(new byte[1]));
+            keysWithOffsets.put(HASHER.hash(k.getKey()), new KeyWithOffset(k.getKey(), offset.getAndAdd(s.getUpdateLength(entry))));
+            entries1.add(entry);
+        }
+        context.segment.append(s.serializeUpdate(entries1), null, TIMEOUT).join();
+        context.segment.append(new ByteArraySegment(new byte[TEST_MAX_TAIL_CACHE_PRE_INDEX_LENGTH + 1]), null, TIMEOUT).join();
+
+        val buckets = iw.locateBuckets(context.segment, keysWithOffsets.keySet(), context.timer).join();
+        Collection<BucketUpdate> bucketUpdates = buckets.entrySet().stream()
+                .map(e -> {
+                    val builder = BucketUpdate.forBucket(e.getValue());
+                    val ko = keysWithOffsets.get(e.getKey());
+                    builder.withKeyUpdate(new BucketUpdate.KeyUpdate(ko.key, ko.offset, ko.offset, false));
+                    return builder.build();
+                })
+                .collect(Collectors.toList());
+        long indexedLength = context.segment.getInfo().getLength();
+        iw.updateBuckets(context.segment, bucketUpdates, 0L, indexedLength, keysWithOffsets.size(), TIMEOUT).join();
+
+        // 2. Write (but do not index) a few new keys and a compacted (stale) copy of the first indexed key.
+        offset.set(indexedLength);
+        val expectedOffsets = new HashMap<UUID, KeyWithOffset>(keysWithOffsets);
+        val entries2 = new ArrayList<TableEntry>();
+        for (val k : generateUnversionedKeys(10, context)) {
+            val entry = TableEntry.unversioned(k.getKey(), new ByteArraySegment(new byte[1]));
+            expectedOffsets.put(HASHER.hash(k.getKey()), new KeyWithOffset(k.getKey(), offset.getAndAdd(s.getUpdateLength(entry))));
+            entries2.add(entry);
+        }
+        context.segment.append(s.serializeUpdate(entries2), null, TIMEOUT).join();
+        val compactedKey = keys1.get(0).getKey();
+        val compactedEntry = TableEntry.versioned(compactedKey, new ByteArraySegment(new byte[1]), keysWithOffsets.get(HASHER.hash(compactedKey)).offset);
+        context.segment.append(s.serializeUpdateWithExplicitVersion(List.of(compactedEntry)), null, TIMEOUT).join();
+
+        // 3. Initiate a recovery and verify pre-caching is triggered and requests are auto-unblocked.
+        context.index.notifyIndexOffsetChanged(context.segment.getSegmentId(), -1, 0); // Force-evict it so we start clean.
+        val hashes = new ArrayList<UUID>(expectedOffsets.keySet());
+        val result = context.index.getBucketOffsets(context.segment, hashes, context.timer).get(SHORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        checkKeyOffsets(hashes, expectedOffsets, result);
+        Assert.assertEquals("Unexpected unindexed key count.", entries2.size(),
+                context.index.getUnindexedKeyHashes(context.segment).get(SHORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).size());
+    }
+
     @Test
     public void testRecoveryOneBatchWithVersion() throws Exception {
         testRecoveryWithVersions(TableExtensionConfig.builder()
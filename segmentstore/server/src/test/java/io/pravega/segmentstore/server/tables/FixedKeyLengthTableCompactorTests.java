@@ -28,11 +28,18 @@ import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.test.common.AssertExtensions;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.Cleanup;
@@ -50,6 +57,92 @@ public class FixedKeyLengthTableCompactorTests extends TableCompactorTestBase {
         return new FixedKeyLengthTestContext(maxCompactionLength);
     }
 
+    /**
+     * Tests the {@link TableCompactor#getCompactionRounds} method when multiple rounds are allowed.
+     */
+    @Test
+    public void testGetCompactionRounds() {
+        final int maxCompactionLength = 100;
+        @Cleanup
+        val context = createContext(maxCompactionLength);
+        val compactor = new FixedKeyLengthTableCompactor(context.segment, new TableCompactor.Config(maxCompactionLength, 4), executorService());
+        Assert.assertEquals("Expected at least one round.", 1, compactor.getCompactionRounds(0));
+        Assert.assertEquals(1, compactor.getCompactionRounds(maxCompactionLength));
+        Assert.assertEquals(2, compactor.getCompactionRounds(maxCompactionLength + 1));
+        Assert.assertEquals(3, compactor.getCompactionRounds(3 * maxCompactionLength));
+        Assert.assertEquals("Expected rounds to be capped.", 4, compactor.getCompactionRounds(100 * maxCompactionLength));
+    }
+
+    /**
+     * Tests the {@link TableCompactor#compactIfNeeded} method. Verifies that it executes as many rounds as the compaction
+     * debt requires (up to the configured maximum), that it stops as soon as compaction is no longer required and that
+     * every round waits for the {@link CompactionRateLimiter} before executing (and that no further rounds are executed
+     * once the {@link CompactionRateLimiter} refuses one).
+     */
+    @Test
+    public void testCompactIfNeededMultipleRounds() throws Exception {
+        final int maxCompactionLength = 100;
+        final int maxRounds = 4;
+        @Cleanup
+        val context = createContext(maxCompactionLength);
+        val compactions = new AtomicInteger();
+        val requiredRounds = new AtomicInteger();
+        val config = new TableCompactor.Config(maxCompactionLength, maxRounds);
+        val compactor = new FixedKeyLengthTableCompactor(context.segment, config, executorService()) {
+            @Override
+            CompletableFuture<Long> getCompactionDebt() {
+                return CompletableFuture.completedFuture(100L * maxCompactionLength);
+            }
+
+            @Override
+            CompletableFuture<Boolean> isCompactionRequired() {
+                return CompletableFuture.completedFuture(compactions.get() < requiredRounds.get());
+            }
+
+            @Override
+            CompletableFuture<Void> compact(TimeoutTimer timer) {
+                compactions.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        val rateLimiter = new ManualRateLimiter();
+
+        // The debt requires more rounds than allowed. Rounds are capped and each one waits for the rate limiter.
+        requiredRounds.set(Integer.MAX_VALUE);
+        val result = compactor.compactIfNeeded(rateLimiter, TIMEOUT, context.timer);
+        for (int i = 0; i < maxRounds; i++) {
+            val permit = rateLimiter.permits.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            Assert.assertNotNull("Expected round to acquire from the rate limiter.", permit);
+            Assert.assertEquals("Not expecting round to execute before being allowed by the rate limiter.", i, compactions.get());
+            permit.complete(true);
+        }
+        Assert.assertEquals("Unexpected number of rounds when capped.", maxRounds, (int) result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        Assert.assertEquals(maxRounds, compactions.get());
+        Assert.assertTrue("Not expecting more rounds than the maximum.", rateLimiter.permits.isEmpty());
+
+        // Compaction is no longer required after 2 rounds. No further rounds should be executed or throttled.
+        compactions.set(0);
+        requiredRounds.set(2);
+        val result2 = compactor.compactIfNeeded(rateLimiter, TIMEOUT, context.timer);
+        for (int i = 0; i < requiredRounds.get(); i++) {
+            rateLimiter.permits.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).complete(true);
+        }
+        Assert.assertEquals("Unexpected number of rounds when debt was paid.", 2, (int) result2.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        Assert.assertEquals(2, compactions.get());
+        Assert.assertTrue("Not expecting more rounds once compaction is no longer required.", rateLimiter.permits.isEmpty());
+
+        // The rate limiter refuses the second round. The remaining rounds should be deferred.
+        compactions.set(0);
+        requiredRounds.set(Integer.MAX_VALUE);
+        val result3 = compactor.compactIfNeeded(rateLimiter, Duration.ZERO, context.timer);
+        rateLimiter.permits.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).complete(true);
+        rateLimiter.permits.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).complete(false);
+        Assert.assertEquals("Unexpected number of rounds when throttled.", 1, (int) result3.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, compactions.get());
+        Assert.assertTrue("Not expecting more rounds once throttled.", rateLimiter.permits.isEmpty());
+        Assert.assertEquals("Expected the max delay to be passed to the rate limiter.", Duration.ZERO, rateLimiter.lastMaxDelay.get());
+    }
+
     /**
      * Tests the case when a compaction executes concurrently with one of compact-copied keys being updated. This is a
      * scenario specific to the Fixed-Key-Length Table Segment as the indexing is done at the time of the update
@@ -214,4 +307,24 @@ public class FixedKeyLengthTableCompactorTests extends TableCompactorTestBase {
             super.close();
         }
     }
+
+    /**
+     * {@link CompactionRateLimiter} that lets compaction rounds through only when the test completes their permits.
+     */
+    private class ManualRateLimiter extends CompactionRateLimiter {
+        private final BlockingQueue<CompletableFuture<Boolean>> permits = new LinkedBlockingQueue<>();
+        private final AtomicReference<Duration> lastMaxDelay = new AtomicReference<>();
+
+        ManualRateLimiter() {
+            super(1, executorService(), null, System::nanoTime);
+        }
+
+        @Override
+        CompletableFuture<Boolean> acquire(int length, Duration maxDelay) {
+            this.lastMaxDelay.set(maxDelay);
+            val permit = new CompletableFuture<Boolean>();
+            this.permits.add(permit);
+            return permit;
+        }
+    }
 }
@@ -18,10 +18,13 @@ package io.pravega.segmentstore.server.tables;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.AttributeId;
+import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.SegmentType;
 import io.pravega.segmentstore.contracts.tables.IteratorArgs;
+import io.pravega.segmentstore.contracts.tables.KeyHashType;
 import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
+import io.pravega.segmentstore.contracts.tables.TableSegmentConfig;
 import io.pravega.segmentstore.server.DataCorruptionException;
 import io.pravega.segmentstore.server.logs.operations.CachedStreamSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
@@ -175,6 +178,49 @@ public class HashTableSegmentLayoutTests extends TableSegmentLayoutTestBase {
                 (expectedEntries, removedKeys, ext) -> checkIterators(expectedEntries, ext));
     }
 
+    /**
+     * Tests the ability to update and access entries in a Table Segment that uses {@link KeyHashType#Murmur3}, and
+     * verifies that the index is built using the correct Key Hashes.
+     */
+    @Test
+    public void testMurmur3KeyHash() throws Exception {
+        @Cleanup
+        val context = new TableContext(executorService());
+        val segmentConfig = TableSegmentConfig.builder().keyHashType(KeyHashType.Murmur3).build();
+        context.ext.createSegment(SEGMENT_NAME, SegmentType.TABLE_SEGMENT_HASH, segmentConfig, TIMEOUT).join();
+        Assert.assertEquals("Unexpected KEY_HASH_TYPE.", KeyHashType.Murmur3.getTypeId(),
+                (long) context.segment().getInfo().getAttributes().get(TableAttributes.KEY_HASH_TYPE));
+        @Cleanup
+        val processor = createWriterTableProcessor(context);
+
+        // Update the Table Segment and verify the entries can be read back from the tail cache.
+        val expectedEntries = new HashMap<BufferView, BufferView>();
+        val toUpdate = new ArrayList<TableEntry>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            val entry = TableEntry.unversioned(createRandomKey(context), createRandomData(MAX_VALUE_LENGTH, context));
+            if (expectedEntries.put(entry.getKey().getKey(), entry.getValue()) == null) {
+                toUpdate.add(entry);
+            }
+        }
+        context.ext.put(SEGMENT_NAME, toUpdate, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        check(expectedEntries, Collections.emptyList(), context.ext);
+
+        // Index the updates and verify that the index contains the Murmur3 Key Hashes.
+        processor.flush(TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        val bucketIds = expectedEntries.keySet().stream()
+                .map(k -> AttributeId.fromUUID(KeyHasher.murmur3().hash(k)))
+                .collect(Collectors.toList());
+        val buckets = context.segment().getAttributes(bucketIds, false, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        for (val bucketId : bucketIds) {
+            Assert.assertNotEquals("Expected a Table Bucket for " + bucketId, Attributes.NULL_ATTRIBUTE_VALUE, (long) buckets.get(bucketId));
+        }
+
+        // Verify the entries can be read back (from the index) after a recovery.
+        @Cleanup
+        val ext2 = context.createExtension();
+        check(expectedEntries, Collections.emptyList(), ext2);
+    }
+
     /**
      * Tests the ability to resume operations after a recovery event. Scenarios include:
      * - Index is up-to-date ({@link TableAttributes#INDEX_OFFSET} equals Segment.Length.
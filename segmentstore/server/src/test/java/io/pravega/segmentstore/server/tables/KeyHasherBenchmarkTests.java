@@ -0,0 +1,95 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.Timer;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import java.time.Duration;
+import java.util.Random;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark tests for {@link KeyHasher} implementations. This should be used to compare the runtime performance of the
+ * available Key Hashers across various key sizes. Since the results may vary significantly based on the hardware used,
+ * outcomes are not comparable across environments.
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class KeyHasherBenchmarkTests {
+    private static final int[] KEY_SIZES = new int[]{8, 32, 128, 512, 2048, 8192};
+    private static final int KEY_COUNT = 1000;
+    private static final long TOTAL_BYTES_PER_TEST = 1024 * 1024 * 1024L;
+    private static final int ITERATION_COUNT = 5;
+    private final Random random = new Random(0);
+
+    /**
+     * Tests {@link KeyHasher#sha256()}.
+     */
+    @Test
+    public void testSha256() {
+        test(KeyHasher.sha256());
+    }
+
+    /**
+     * Tests {@link KeyHasher#murmur3()}.
+     */
+    @Test
+    public void testMurmur3() {
+        test(KeyHasher.murmur3());
+    }
+
+    private void test(KeyHasher hasher) {
+        for (int keySize : KEY_SIZES) {
+            val keys = new BufferView[KEY_COUNT];
+            for (int i = 0; i < keys.length; i++) {
+                byte[] key = new byte[keySize];
+                this.random.nextBytes(key);
+                keys[i] = new ByteArraySegment(key);
+            }
+
+            long hashCount = Math.max(KEY_COUNT, TOTAL_BYTES_PER_TEST / keySize);
+            for (int i = 0; i < ITERATION_COUNT; i++) {
+                val elapsed = measure(hasher, keys, hashCount);
+                System.out.println(String.format("KeySize = %d, #%d: Hashes = %d, Elapsed = %dms, Throughput = %.1f MB/s, Latency = %dns/hash",
+                        keySize, i + 1, hashCount, elapsed.toMillis(), (double) hashCount * keySize / 1024 / 1024 / (elapsed.toNanos() / 1e9),
+                        elapsed.toNanos() / hashCount));
+            }
+        }
+    }
+
+    private Duration measure(KeyHasher hasher, BufferView[] keys, long hashCount) {
+        System.gc();
+        long checksum = 0;
+        val timer = new Timer();
+        for (long i = 0; i < hashCount; i++) {
+            checksum ^= hasher.hash(keys[(int) (i % keys.length)]).getLeastSignificantBits();
+        }
+
+        val elapsed = timer.getElapsed();
+        if (checksum == 0) {
+            // Prevent the JIT from eliminating the hash computations.
+            System.out.println("Checksum is 0.");
+        }
+        return elapsed;
+    }
+}
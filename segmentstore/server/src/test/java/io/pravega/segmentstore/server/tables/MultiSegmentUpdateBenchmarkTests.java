@@ -0,0 +1,259 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.Exceptions;
+import io.pravega.common.TimeoutTimer;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.tables.ConditionalTableUpdateException;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.contracts.tables.TableEntry;
+import io.pravega.segmentstore.contracts.tables.TableKey;
+import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.segmentstore.server.CachePolicy;
+import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.server.SegmentMock;
+import io.pravega.segmentstore.server.containers.StreamSegmentMetadata;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark tests for multi-segment conditional updates (see {@link ContainerKeyIndex#update(List, Supplier, TimeoutTimer)}).
+ * Compares the throughput of updating one Key in each of several Table Segments atomically against the alternative of
+ * conditionally updating each Table Segment in turn and starting over (from reading the current versions) whenever a
+ * condition fails. Multiple concurrent workers contend on a small set of Keys.
+ *
+ * This only exercises the {@link ContainerKeyIndex} (Segments are mocked and there is no Durable Log or network involved),
+ * so the results only reflect the cost of validation and the number of retries caused by contention.
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class MultiSegmentUpdateBenchmarkTests extends ThreadPooledTestSuite {
+    private static final int CONTAINER_ID = 0;
+    private static final int SEGMENT_COUNT = 3;
+    private static final int KEY_COUNT = 16;
+    private static final int WORKER_COUNT = 16;
+    private static final int TRANSACTIONS_PER_WORKER = 1000;
+    private static final int VALUE_LENGTH = 128;
+    private static final int ITERATION_COUNT = 5;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private final EntrySerializer serializer = new EntrySerializer();
+    private final KeyHasher hasher = KeyHasher.sha256();
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 8;
+    }
+
+    /**
+     * Tests conditionally updating each Table Segment in turn, retrying everything upon a condition failure.
+     */
+    @Test
+    public void testRetryLoop() {
+        test("RetryLoop", this::retryLoopTransaction);
+    }
+
+    /**
+     * Tests updating all Table Segments using a single multi-segment conditional update.
+     */
+    @Test
+    public void testMultiSegmentUpdate() {
+        test("MultiSegment", this::multiSegmentTransaction);
+    }
+
+    private void test(String name, Transaction transaction) {
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            try (val context = new TestContext()) {
+                val retries = new AtomicLong();
+                val timer = new Timer();
+                val workers = new ArrayList<CompletableFuture<Void>>();
+                for (int w = 0; w < WORKER_COUNT; w++) {
+                    val random = new Random(w);
+                    val count = new AtomicInteger();
+                    workers.add(Futures.loop(
+                            () -> count.getAndIncrement() < TRANSACTIONS_PER_WORKER,
+                            () -> transaction.execute(context, context.keys.get(random.nextInt(KEY_COUNT)), retries),
+                            executorService()));
+                }
+
+                Futures.allOf(workers).join();
+                val elapsed = timer.getElapsed();
+                long txnCount = (long) WORKER_COUNT * TRANSACTIONS_PER_WORKER;
+                System.out.println(String.format("%s #%d: Transactions = %d, Retries = %d, Elapsed = %dms, Throughput = %.1f txn/s",
+                        name, i + 1, txnCount, retries.get(), elapsed.toMillis(), txnCount / (elapsed.toNanos() / 1e9)));
+            }
+        }
+    }
+
+    private CompletableFuture<Void> retryLoopTransaction(TestContext context, BufferView key, AtomicLong retries) {
+        val done = new AtomicBoolean(false);
+        return Futures.loop(
+                () -> !done.get(),
+                () -> getVersions(context, key)
+                        .thenCompose(versions -> {
+                            val index = new AtomicInteger();
+                            return Futures.loop(
+                                    () -> index.get() < SEGMENT_COUNT,
+                                    () -> {
+                                        val segment = context.segments.get(index.get());
+                                        val entry = toEntry(context, key, versions.get(index.get()));
+                                        return context.index.update(segment, toBatch(entry), () -> persist(segment, entry), new TimeoutTimer(TIMEOUT))
+                                                .thenRun(index::incrementAndGet);
+                                    },
+                                    executorService());
+                        })
+                        .handle((r, ex) -> handleConflict(ex, done, retries)),
+                executorService());
+    }
+
+    private CompletableFuture<Void> multiSegmentTransaction(TestContext context, BufferView key, AtomicLong retries) {
+        val done = new AtomicBoolean(false);
+        return Futures.loop(
+                () -> !done.get(),
+                () -> getVersions(context, key)
+                        .thenCompose(versions -> {
+                            val batches = new ArrayList<ContainerKeyIndex.SegmentBatch>(SEGMENT_COUNT);
+                            val entries = new ArrayList<TableEntry>(SEGMENT_COUNT);
+                            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                                val entry = toEntry(context, key, versions.get(i));
+                                entries.add(entry);
+                                batches.add(new ContainerKeyIndex.SegmentBatch(context.segments.get(i), toBatch(entry)));
+                            }
+                            Supplier<CompletableFuture<List<Long>>> persist = () -> {
+                                val appends = new ArrayList<CompletableFuture<Long>>(SEGMENT_COUNT);
+                                for (int i = 0; i < SEGMENT_COUNT; i++) {
+                                    appends.add(persist(context.segments.get(i), entries.get(i)));
+                                }
+                                return Futures.allOfWithResults(appends);
+                            };
+                            return context.index.update(batches, persist, new TimeoutTimer(TIMEOUT));
+                        })
+                        .handle((r, ex) -> handleConflict(ex, done, retries)),
+                executorService());
+    }
+
+    private Void handleConflict(Throwable ex, AtomicBoolean done, AtomicLong retries) {
+        if (ex == null) {
+            done.set(true);
+        } else if (Exceptions.unwrap(ex) instanceof ConditionalTableUpdateException) {
+            retries.incrementAndGet();
+        } else {
+            throw new CompletionException(ex);
+        }
+        return null;
+    }
+
+    private CompletableFuture<List<Long>> getVersions(TestContext context, BufferView key) {
+        val hash = this.hasher.hash(key);
+        return Futures.allOfWithResults(context.segments.stream()
+                .map(s -> context.index.getBucketOffsets(s, Collections.singleton(hash), new TimeoutTimer(TIMEOUT)).thenApply(r -> r.get(hash)))
+                .collect(Collectors.toList()));
+    }
+
+    private TableEntry toEntry(TestContext context, BufferView key, long version) {
+        return version == TableKey.NO_VERSION
+                ? TableEntry.unversioned(key, context.value)
+                : TableEntry.versioned(key, context.value, version);
+    }
+
+    private TableKeyBatch toBatch(TableEntry entry) {
+        val batch = TableKeyBatch.update();
+        batch.add(entry.getKey(), this.hasher.hash(entry.getKey().getKey()), this.serializer.getUpdateLength(entry));
+        return batch;
+    }
+
+    private CompletableFuture<Long> persist(DirectSegmentAccess segment, TableEntry entry) {
+        return segment.append(this.serializer.serializeUpdate(Collections.singleton(entry)), null, TIMEOUT);
+    }
+
+    @FunctionalInterface
+    private interface Transaction {
+        CompletableFuture<Void> execute(TestContext context, BufferView key, AtomicLong retries);
+    }
+
+    private class TestContext implements AutoCloseable {
+        final CacheStorage cacheStorage;
+        final CacheManager cacheManager;
+        final ContainerKeyIndex index;
+        final List<DirectSegmentAccess> segments;
+        final List<BufferView> keys;
+        final BufferView value;
+
+        TestContext() {
+            this.cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
+            this.cacheManager = new CacheManager(CachePolicy.INFINITE, this.cacheStorage, executorService());
+            val config = TableExtensionConfig.builder()
+                    .with(TableExtensionConfig.MAX_UNINDEXED_LENGTH, Integer.MAX_VALUE)
+                    .build();
+            this.index = new ContainerKeyIndex(CONTAINER_ID, config, this.cacheManager, hasher, executorService());
+            this.segments = new ArrayList<>();
+            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                val segment = new SegmentMock(new StreamSegmentMetadata("Segment" + i, i, CONTAINER_ID), executorService());
+                segment.getMetadata().setLength(0);
+                segment.getMetadata().setStorageLength(0);
+                segment.updateAttributes(TableAttributes.DEFAULT_VALUES);
+                this.segments.add(segment);
+            }
+
+            val random = new Random(0);
+            this.keys = new ArrayList<>();
+            for (int i = 0; i < KEY_COUNT; i++) {
+                byte[] key = new byte[32];
+                random.nextBytes(key);
+                this.keys.add(new ByteArraySegment(key));
+            }
+            this.value = new ByteArraySegment(new byte[VALUE_LENGTH]);
+
+            // Insert all the keys in all the segments, so that every subsequent update can be conditioned on a version.
+            for (val segment : this.segments) {
+                for (val key : this.keys) {
+                    val entry = toEntry(this, key, TableKey.NO_VERSION);
+                    this.index.update(segment, toBatch(entry), () -> persist(segment, entry), new TimeoutTimer(TIMEOUT)).join();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            this.index.close();
+            this.cacheManager.close();
+            this.cacheStorage.close();
+        }
+    }
+}
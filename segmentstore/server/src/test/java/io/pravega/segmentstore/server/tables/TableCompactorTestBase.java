@@ -108,6 +108,37 @@ abstract class TableCompactorTestBase extends ThreadPooledTestSuite {
         Assert.assertTrue("Unexpected result when Utilization>MinUtilization.", c.getCompactor().isCompactionRequired().join());
     }
 
+    /**
+     * Tests the {@link TableCompactor#getCompactionDebt} and {@link TableCompactor#getCompactionRounds} methods.
+     */
+    @Test
+    public void testCompactionDebt() {
+        final int compactionReadLength = 100;
+        @Cleanup
+        val c = createContext(compactionReadLength);
+        c.segmentMetadata.setLength(400);
+
+        // Fully utilized.
+        c.setSegmentState(0, 400, 100, 100, 50);
+        Assert.assertEquals("Unexpected debt when fully utilized.", 0L, (long) c.getCompactor().getCompactionDebt().join());
+
+        // 25% utilization: 75% of the uncompacted portion is expected to be obsolete.
+        c.setSegmentState(0, 400, 25, 100, 50);
+        Assert.assertEquals("Unexpected debt when partially utilized.", 300L, (long) c.getCompactor().getCompactionDebt().join());
+
+        // Only the portion beyond the Compaction Offset counts towards the debt.
+        c.setSegmentState(200, 400, 25, 100, 50);
+        Assert.assertEquals("Unexpected debt when partially compacted.", 150L, (long) c.getCompactor().getCompactionDebt().join());
+
+        // Nothing left to compact.
+        c.setSegmentState(400, 400, 25, 100, 50);
+        Assert.assertEquals("Unexpected debt when fully compacted.", 0L, (long) c.getCompactor().getCompactionDebt().join());
+
+        // The number of rounds is always at least 1 and at most the configured maximum (1 for the default config).
+        Assert.assertEquals(1, c.getCompactor().getCompactionRounds(0));
+        Assert.assertEquals(1, c.getCompactor().getCompactionRounds(10 * compactionReadLength));
+    }
+
     /**
      * Tests the {@link TableCompactor#calculateTruncationOffset} method.
      */
@@ -221,6 +221,11 @@ public class TableContext implements AutoCloseable {
             throw new UnsupportedOperationException("Not Expected");
         }
 
+        @Override
+        public CompletableFuture<List<Long>> appendAtomically(List<SegmentAppend> appends, Duration timeout) {
+            throw new UnsupportedOperationException("Not Expected");
+        }
+
         @Override
         public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
             throw new UnsupportedOperationException("Not Expected");
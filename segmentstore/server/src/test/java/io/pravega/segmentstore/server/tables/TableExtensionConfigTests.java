@@ -37,6 +37,8 @@ public class TableExtensionConfigTests {
         Assert.assertEquals(EntrySerializer.MAX_BATCH_SIZE * 8, defaultConfig.getSystemCriticalMaxUnindexedLength());
         Assert.assertEquals(EntrySerializer.MAX_SERIALIZATION_LENGTH * 4, defaultConfig.getMaxCompactionSize());
         Assert.assertEquals(Duration.ofSeconds(30), defaultConfig.getCompactionFrequency());
+        Assert.assertEquals(4, defaultConfig.getMaxCompactionRounds());
+        Assert.assertEquals(0L, defaultConfig.getCompactionRateLimit());
         Assert.assertEquals(75, defaultConfig.getDefaultMinUtilization());
         Assert.assertEquals(EntrySerializer.MAX_SERIALIZATION_LENGTH * 4 * 4, defaultConfig.getDefaultRolloverSize());
         Assert.assertEquals(EntrySerializer.MAX_BATCH_SIZE, defaultConfig.getMaxBatchSize());
@@ -58,6 +60,10 @@ public class TableExtensionConfigTests {
         b.with(TableExtensionConfig.DEFAULT_ROLLOVER_SIZE, 16L);
         b.with(TableExtensionConfig.MAX_BATCH_SIZE, 17);
         b.with(TableExtensionConfig.SYSTEM_CRITICAL_MAX_UNINDEXED_LENGTH, 18);
+        b.with(TableExtensionConfig.MAX_COMPACTION_ROUNDS, 19);
+        b.with(TableExtensionConfig.COMPACTION_RATE_LIMIT, -1L);
+        AssertExtensions.assertThrows(ConfigurationException.class, b::build); // Rate limit must be non-negative.
+        b.with(TableExtensionConfig.COMPACTION_RATE_LIMIT, 20L);
 
         val c = b.build();
         Assert.assertEquals(10, c.getDefaultMinUtilization());
@@ -70,5 +76,7 @@ public class TableExtensionConfigTests {
         Assert.assertEquals(16, c.getDefaultRolloverSize());
         Assert.assertEquals(17, c.getMaxBatchSize());
         Assert.assertEquals(18, c.getSystemCriticalMaxUnindexedLength());
+        Assert.assertEquals(19, c.getMaxCompactionRounds());
+        Assert.assertEquals(20L, c.getCompactionRateLimit());
     }
 }
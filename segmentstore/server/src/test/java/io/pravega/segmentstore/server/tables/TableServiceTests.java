@@ -15,12 +15,15 @@
  */
 package io.pravega.segmentstore.server.tables;
 
+import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.BufferViewComparator;
 import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.BadSegmentTypeException;
 import io.pravega.segmentstore.contracts.SegmentType;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
+import io.pravega.segmentstore.contracts.tables.BadKeyVersionException;
 import io.pravega.segmentstore.contracts.tables.IteratorArgs;
 import io.pravega.segmentstore.contracts.tables.IteratorItem;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
@@ -40,6 +43,7 @@ import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -265,6 +269,156 @@ public class TableServiceTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests {@link TableStore#put(Map, Duration)} against real Fixed-Key-Length Table Segments (which is what Key-Value
+     * Table partitions are made of), including recovery and the rejection of stale conditions.
+     */
+    @Test
+    public void testMultiSegmentPutFixedKeyLength() throws Exception {
+        val keyLength = 16;
+        val segmentType = SegmentType.builder().fixedKeyLengthTableSegment().build();
+        val config = TableSegmentConfig.builder().keyLength(keyLength).build();
+        val segment1 = TABLE_SEGMENT_FIXED_KEY_NAME_PREFIX + "multi1";
+        val segment2 = TABLE_SEGMENT_FIXED_KEY_NAME_PREFIX + "multi2";
+        val rnd = new Random(0);
+        val key1 = generateData(keyLength, keyLength, rnd);
+        val key2 = generateData(keyLength, keyLength, rnd);
+        val updates = new HashMap<String, List<TableEntry>>();
+        Map<String, List<Long>> versions;
+        try (val builder = createBuilder()) {
+            val tableStore = builder.createTableStoreService();
+            Futures.allOf(Arrays.asList(
+                    tableStore.createSegment(segment1, segmentType, config, TIMEOUT),
+                    tableStore.createSegment(segment2, segmentType, config, TIMEOUT))).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+            // Conditional insert (keys must not exist) across both segments.
+            val inserts = new HashMap<String, List<TableEntry>>();
+            inserts.put(segment1, Collections.singletonList(TableEntry.notExists(key1, generateValue(rnd))));
+            inserts.put(segment2, Collections.singletonList(TableEntry.notExists(key2, generateValue(rnd))));
+            versions = tableStore.put(inserts, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            checkMultiSegmentPut(inserts, versions, tableStore);
+
+            // Re-inserting the same keys must fail and not modify anything.
+            val reInserts = new HashMap<String, List<TableEntry>>();
+            reInserts.put(segment1, Collections.singletonList(TableEntry.notExists(key1, generateValue(rnd))));
+            reInserts.put(segment2, Collections.singletonList(TableEntry.notExists(key2, generateValue(rnd))));
+            AssertExtensions.assertSuppliedFutureThrows(
+                    "Multi-segment put accepted already existing keys.",
+                    () -> tableStore.put(reInserts, TIMEOUT),
+                    ex -> ex instanceof BadKeyVersionException);
+            checkMultiSegmentPut(inserts, versions, tableStore);
+
+            // Conditional update with correct versions.
+            updates.put(segment1, Collections.singletonList(TableEntry.versioned(key1, generateValue(rnd), versions.get(segment1).get(0))));
+            updates.put(segment2, Collections.singletonList(TableEntry.versioned(key2, generateValue(rnd), versions.get(segment2).get(0))));
+            val staleVersions = versions;
+            versions = tableStore.put(updates, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            checkMultiSegmentPut(updates, versions, tableStore);
+
+            // One good condition and one stale condition: nothing must be updated.
+            val mixedUpdates = new HashMap<String, List<TableEntry>>();
+            mixedUpdates.put(segment1, Collections.singletonList(TableEntry.versioned(key1, generateValue(rnd), versions.get(segment1).get(0))));
+            mixedUpdates.put(segment2, Collections.singletonList(TableEntry.versioned(key2, generateValue(rnd), staleVersions.get(segment2).get(0))));
+            AssertExtensions.assertSuppliedFutureThrows(
+                    "Multi-segment put accepted a stale condition.",
+                    () -> tableStore.put(mixedUpdates, TIMEOUT),
+                    ex -> ex instanceof BadKeyVersionException);
+            checkMultiSegmentPut(updates, versions, tableStore);
+
+            // Mixing Fixed-Key-Length Table Segments with Hash Table Segments is not allowed.
+            val hashSegment = TABLE_SEGMENT_NAME_PREFIX + "multi";
+            tableStore.createSegment(hashSegment, SegmentType.builder().tableSegment().build(), TableSegmentConfig.NO_CONFIG, TIMEOUT)
+                    .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            val mixedSegments = new HashMap<String, List<TableEntry>>();
+            mixedSegments.put(segment1, Collections.singletonList(TableEntry.unversioned(key1, generateValue(rnd))));
+            mixedSegments.put(hashSegment, Collections.singletonList(TableEntry.unversioned(key2, generateValue(rnd))));
+            AssertExtensions.assertSuppliedFutureThrows(
+                    "Multi-segment put accepted mixed Table Segment layouts.",
+                    () -> tableStore.put(mixedSegments, TIMEOUT),
+                    ex -> ex instanceof BadSegmentTypeException);
+            checkMultiSegmentPut(updates, versions, tableStore);
+        }
+
+        // Verify the updates survive recovery.
+        try (val builder = createBuilder()) {
+            val tableStore = builder.createTableStoreService();
+            checkMultiSegmentPut(updates, versions, tableStore);
+        }
+    }
+
+    /**
+     * Tests concurrent invocations of {@link TableStore#put(Map, Duration)} that are all conditioned on the same Key
+     * versions. Exactly one of them must succeed, and it must be fully applied to all the Table Segments (both for
+     * Fixed-Key-Length and for Hash Table Segments).
+     */
+    @Test
+    public void testMultiSegmentPutConcurrent() throws Exception {
+        val keyLength = 16;
+        val rnd = new Random(0);
+        try (val builder = createBuilder()) {
+            val tableStore = builder.createTableStoreService();
+            checkConcurrentMultiSegmentPut(tableStore, TABLE_SEGMENT_FIXED_KEY_NAME_PREFIX + "concurrent",
+                    SegmentType.builder().fixedKeyLengthTableSegment().build(), TableSegmentConfig.builder().keyLength(keyLength).build(),
+                    keyLength, rnd);
+            checkConcurrentMultiSegmentPut(tableStore, TABLE_SEGMENT_NAME_PREFIX + "concurrent",
+                    SegmentType.builder().tableSegment().build(), TableSegmentConfig.NO_CONFIG, keyLength, rnd);
+        }
+    }
+
+    private void checkConcurrentMultiSegmentPut(TableStore tableStore, String segmentNamePrefix, SegmentType segmentType,
+                                                TableSegmentConfig config, int keyLength, Random rnd) throws Exception {
+        val concurrentUpdates = 20;
+        val segmentNames = Arrays.asList(segmentNamePrefix + "1", segmentNamePrefix + "2", segmentNamePrefix + "3");
+        Futures.allOf(segmentNames.stream().map(s -> tableStore.createSegment(s, segmentType, config, TIMEOUT)).collect(Collectors.toList()))
+                .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        val keys = segmentNames.stream().collect(Collectors.toMap(s -> s, s -> generateData(keyLength, keyLength, rnd)));
+        val inserts = new HashMap<String, List<TableEntry>>();
+        keys.forEach((s, key) -> inserts.put(s, Collections.singletonList(TableEntry.notExists(key, generateValue(rnd)))));
+        val versions = tableStore.put(inserts, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        // Issue many updates at once, all conditioned on the versions we just got back.
+        val updates = new ArrayList<Map<String, List<TableEntry>>>();
+        val results = new ArrayList<CompletableFuture<Map<String, List<Long>>>>();
+        for (int i = 0; i < concurrentUpdates; i++) {
+            val update = new HashMap<String, List<TableEntry>>();
+            keys.forEach((s, key) -> update.put(s, Collections.singletonList(TableEntry.versioned(key, generateValue(rnd), versions.get(s).get(0)))));
+            updates.add(update);
+            results.add(tableStore.put(update, TIMEOUT));
+        }
+
+        int successIndex = -1;
+        for (int i = 0; i < concurrentUpdates; i++) {
+            try {
+                results.get(i).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                Assert.assertEquals("More than one conditional update succeeded.", -1, successIndex);
+                successIndex = i;
+            } catch (Exception ex) {
+                val cause = Exceptions.unwrap(ex);
+                Assert.assertTrue("Unexpected exception " + cause, cause instanceof BadKeyVersionException);
+            }
+        }
+
+        AssertExtensions.assertGreaterThanOrEqual("Expected one conditional update to succeed.", 0, successIndex);
+
+        // The successful update must have been applied to all the Table Segments; none of the others to any of them.
+        checkMultiSegmentPut(updates.get(successIndex), results.get(successIndex).join(), tableStore);
+    }
+
+    private void checkMultiSegmentPut(Map<String, List<TableEntry>> expectedEntries, Map<String, List<Long>> expectedVersions,
+                                      TableStore tableStore) throws Exception {
+        for (val e : expectedEntries.entrySet()) {
+            val keys = e.getValue().stream().map(entry -> entry.getKey().getKey()).collect(Collectors.toList());
+            val actualEntries = tableStore.get(e.getKey(), keys, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            for (int i = 0; i < keys.size(); i++) {
+                val actual = actualEntries.get(i);
+                Assert.assertNotNull("Missing key in " + e.getKey(), actual);
+                Assert.assertEquals("Unexpected value in " + e.getKey(), e.getValue().get(i).getValue(), actual.getValue());
+                Assert.assertEquals("Unexpected version in " + e.getKey(),
+                        (long) expectedVersions.get(e.getKey()).get(i), actual.getKey().getVersion());
+            }
+        }
+    }
+
     private void check(HashMap<BufferView, EntryData> keyInfo, TableStore tableStore) throws Exception {
         val bySegment = keyInfo.entrySet().stream()
                 .collect(Collectors.groupingBy(e -> e.getValue().segmentName));
@@ -33,10 +33,13 @@ import io.pravega.segmentstore.contracts.tables.TableSegmentConfig;
 import io.pravega.segmentstore.contracts.tables.TableSegmentInfo;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -107,6 +110,17 @@ public class InMemoryTableStore implements TableStore {
         return CompletableFuture.supplyAsync(() -> getTableData(segmentName).put(entries), this.executor);
     }
 
+    @Override
+    public CompletableFuture<Map<String, List<Long>>> put(Map<String, List<TableEntry>> entries, Duration timeout) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        return CompletableFuture.supplyAsync(() -> {
+            // Sort the tables by name so that concurrent multi-table updates always lock them in the same order.
+            val tables = new TreeMap<String, TableData>();
+            entries.keySet().forEach(segmentName -> tables.put(segmentName, getTableData(segmentName)));
+            return TableData.put(new ArrayList<>(tables.values()), 0, entries);
+        }, this.executor);
+    }
+
     @Override
     public CompletableFuture<Void> remove(String segmentName, Collection<TableKey> keys, Duration timeout) {
         Exceptions.checkNotClosed(this.closed.get(), this);
@@ -196,6 +210,23 @@ public class InMemoryTableStore implements TableStore {
                     .collect(Collectors.toList());
         }
 
+        /**
+         * Atomically updates multiple tables: all the tables are locked, then all the keys are validated before any of
+         * the tables is updated.
+         */
+        private static Map<String, List<Long>> put(List<TableData> tables, int lockIndex, Map<String, List<TableEntry>> entries) {
+            if (lockIndex < tables.size()) {
+                synchronized (tables.get(lockIndex)) {
+                    return put(tables, lockIndex + 1, entries);
+                }
+            }
+
+            tables.forEach(t -> t.validateKeys(entries.get(t.segmentName), TableEntry::getKey));
+            val result = new HashMap<String, List<Long>>();
+            tables.forEach(t -> result.put(t.segmentName, t.put(entries.get(t.segmentName))));
+            return result;
+        }
+
         synchronized void remove(Collection<TableKey> keys) {
             validateKeys(keys, k -> k);
             keys.forEach(k -> this.entries.remove(k.getKey()));
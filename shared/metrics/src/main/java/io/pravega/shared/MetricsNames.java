@@ -40,6 +40,7 @@ package io.pravega.shared;
  * - controller.retention: metrics related to data retention, per stream (e.g., frequency, size of truncated data)
  * - controller.hosts: metrics related to Pravega servers in the cluster (e.g., number of servers, failures)
  * - controller.container: metrics related to container lifecycle (e.g., failovers)
+ * - controller.metadata.cache: metrics related to the cache of stream metadata records (e.g., hits, misses)
  *
  * We have two types of metrics:
  * - Global metric: Values are directly associated to the metric name that appears in this file. They are convenient if
@@ -106,6 +107,10 @@ public final class MetricsNames {
     public static final String TABLE_SEGMENT_GET_INFO = PREFIX + "segmentstore.tablesegment.get_info";                     // Counter and Per-segment Counter
 
     public static final String TABLE_SEGMENT_USED_CREDITS = PREFIX + "segmentstore.tablesegment.used_credits";  // Gauge
+    public static final String TABLE_SEGMENT_COMPACTION_DEBT = PREFIX + "segmentstore.tablesegment.compaction_debt_bytes";  // Gauge
+    public static final String TABLE_SEGMENT_COMPACTION_BYTES = PREFIX + "segmentstore.tablesegment.compaction_bytes";      // Counter
+    public static final String TABLE_SEGMENT_COMPACTION_COUNT = PREFIX + "segmentstore.tablesegment.compaction_count";      // Counter
+    public static final String TABLE_SEGMENT_COMPACTION_THROTTLE_DELAY = PREFIX + "segmentstore.tablesegment.compaction_throttle_delay_ms"; // Histogram
 
     // Storage stats
     public static final String STORAGE_READ_LATENCY = PREFIX + "segmentstore.storage.read_latency_ms";     // Histogram
@@ -332,6 +337,11 @@ public final class MetricsNames {
     public static final String CONTROLLER_EVENT_PROCESSOR_DELETE_TABLE_LATENCY = PREFIX + "controller.eventProcessors.deleteTable.write_latency_ms";      // Histogram
     public static final String CONTROLLER_EVENT_PROCESSOR_COMMIT_TRANSACTION_LATENCY = PREFIX + "controller.eventProcessors.transactions.commit.write_latency_ms";      // Histogram
 
+    // Controller EventProcessor framework throughput and lag Metrics
+    public static final String CONTROLLER_EVENT_PROCESSOR_EVENTS_PROCESSED = PREFIX + "controller.eventProcessors.events_processed";    // Per-reader group Counter
+    public static final String CONTROLLER_EVENT_PROCESSOR_EVENTS_PER_SECOND = PREFIX + "controller.eventProcessors.events_per_second";  // Per-reader group Gauge
+    public static final String CONTROLLER_EVENT_PROCESSOR_BACKLOG_BYTES = PREFIX + "controller.eventProcessors.backlog_bytes";          // Per-reader group Gauge
+
     // Transaction request Operations
     public static final String CREATE_TRANSACTION = PREFIX + "controller.transactions.created";                                         // Counter and Per-stream Counter
     public static final String CREATE_TRANSACTION_LATENCY = PREFIX + "controller.transactions.created_latency_ms";                      // Histogram
@@ -342,6 +352,7 @@ public final class MetricsNames {
     public static final String COMMIT_TRANSACTION_LATENCY = PREFIX + "controller.transactions.committed_latency_ms";                    // Histogram
     public static final String COMMIT_TRANSACTION_SEGMENTS_LATENCY = PREFIX + "controller.transactions.committed_segments_latency_ms";  // Histogram
     public static final String COMMIT_TRANSACTION_FAILED = PREFIX + "controller.transactions.commit_failed";                            // Counter, Per-stream Counter, Per-transaction Counter
+    public static final String COMMIT_TRANSACTION_LAG = PREFIX + "controller.transactions.commit_lag_ms";                               // Per-stream Gauge
     public static final String ABORTING_TRANSACTION_LATENCY = PREFIX + "controller.transactions.aborting_latency_ms";                   // Histogram
     public static final String ABORT_TRANSACTION = PREFIX + "controller.transactions.aborted";                                          // Counter and Per-stream Counter
     public static final String ABORT_TRANSACTION_LATENCY = PREFIX + "controller.transactions.aborted_latency_ms";                       // Histogram
@@ -367,6 +378,14 @@ public final class MetricsNames {
     public static final String RETENTION_FREQUENCY = PREFIX + "controller.retention.frequency";   // Per-stream Counter
     public static final String TRUNCATED_SIZE = PREFIX + "controller.retention.truncated_size";   // Per-stream Gauge
 
+    // Background bucket service metrics
+    public static final String BUCKET_SERVICE_LAG = PREFIX + "controller.bucket.lag_ms";                  // Per-bucket Gauge
+    public static final String BUCKET_SERVICE_STREAM_COUNT = PREFIX + "controller.bucket.stream_count";   // Per-bucket Gauge
+
+    // Stream metadata cache metrics
+    public static final String METADATA_CACHE_HITS = PREFIX + "controller.metadata.cache.hits";        // Counter
+    public static final String METADATA_CACHE_MISSES = PREFIX + "controller.metadata.cache.misses";    // Counter
+
     // Zookeeper connectivity metrics
     public static final String CONTROLLER_ZK_SESSION_EXPIRATION = PREFIX + "controller.zookeeper.session_expiration";  // Counter
 
@@ -38,6 +38,8 @@ public final class MetricsTags {
     public static final String TAG_EXCEPTION = "exception";
     public static final String TAG_THROTTLER = "throttler";
     public static final String TAG_EVENT_PROCESSOR = "eventprocessor";
+    public static final String TAG_SERVICE = "service";
+    public static final String TAG_BUCKET = "bucket";
 
     private static final String TRANSACTION_DELIMITER = "#transaction.";
     private static final String EPOCH_DELIMITER = ".#epoch.";
@@ -113,6 +115,17 @@ public final class MetricsTags {
         return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_EVENT_PROCESSOR, eventProcessorName};
     }
 
+    /**
+     * Generate bucket tags (String array) given the background service type and bucket id.
+     *
+     * @param serviceType Name of the background service (i.e., retention or watermarking) that owns the bucket.
+     * @param bucketId    Bucket id.
+     * @return            String array with the bucket tags.
+     */
+    public static String[] bucketTags(String serviceType, int bucketId) {
+        return new String[] {TAG_SERVICE, serviceType, TAG_BUCKET, String.valueOf(bucketId)};
+    }
+
     /**
      * Generate segment tags (string array) on the input fully qualified segment name to be associated with a metric.
      * @param qualifiedSegmentName fully qualified segment name.
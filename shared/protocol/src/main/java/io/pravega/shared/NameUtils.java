@@ -131,6 +131,7 @@ public final class NameUtils {
     static final String TAG_EPOCH = "epoch";
     static final String TAG_DEFAULT = "default";
     static final String TAG_WRITER = "writer";
+    static final String TAG_KEY_VALUE_TABLE = "keyvaluetable";
 
     /**
      * This is appended to the end of the Segment/Transaction name to indicate it stores its extended attributes.
@@ -783,6 +784,16 @@ public final class NameUtils {
         return tags;
     }
 
+    /**
+     * Generate Key-Value Table tags (string array) on the input scope and Key-Value Table name to be associated with a metric.
+     * @param scope The scope of the Key-Value Table.
+     * @param kvtName The Key-Value Table name.
+     * @return String array as the Key-Value Table tag of metric.
+     */
+    public static String[] keyValueTableTags(String scope, String kvtName) {
+        return new String[] {TAG_SCOPE, scope, TAG_KEY_VALUE_TABLE, kvtName};
+    }
+
     private static String[] updateSegmentTags(String qualifiedSegmentName, String[] tags) {
         String segmentBaseName = getSegmentBaseName(qualifiedSegmentName);
         String[] tokens = segmentBaseName.split("/");
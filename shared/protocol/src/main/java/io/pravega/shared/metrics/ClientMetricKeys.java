@@ -36,7 +36,16 @@ public enum ClientMetricKeys {
     /**
      * Metric to track the number of appends which have not been acknowledged by the segment store.
      */
-    CLIENT_OUTSTANDING_APPEND_COUNT("client.segment.outstanding_append_count");
+    CLIENT_OUTSTANDING_APPEND_COUNT("client.segment.outstanding_append_count"),
+    /**
+     * Metric to track the smoothed round trip time in ms between sending an append and receiving its acknowledgement,
+     * as measured by latency-target append batching.
+     */
+    CLIENT_APPEND_ROUND_TRIP_TIME("client.segment.append_round_trip_time_ms"),
+    /**
+     * Metric to track the percentage of Key-Value Table reads served from the client-side read cache.
+     */
+    CLIENT_KVT_READ_CACHE_HIT_RATE("client.kvt.read_cache_hit_rate_percent");
 
     @VisibleForTesting
     @Getter
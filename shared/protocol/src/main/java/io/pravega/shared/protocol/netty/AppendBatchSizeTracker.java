@@ -27,6 +27,15 @@ public interface AppendBatchSizeTracker {
      */
     void recordAppend(long eventNumber, int size);
 
+    /**
+     * Records that all appends up to and including the given event have been written out to the connection. Appends
+     * may be held back in an append block for some time after {@link #recordAppend} is invoked for them.
+     *
+     * @param eventNumber the number of the last event written out
+     */
+    default void recordSent(long eventNumber) {
+    }
+
     /**
      * Records that one or more events have been acked.
      *
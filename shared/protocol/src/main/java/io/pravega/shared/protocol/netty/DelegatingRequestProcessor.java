@@ -126,6 +126,11 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().updateTableEntries(tableEntries);
     }
 
+    @Override
+    public void updateTableEntriesBatch(WireCommands.UpdateTableEntriesBatch tableEntries) {
+        getNextRequestProcessor().updateTableEntriesBatch(tableEntries);
+    }
+
     @Override
     public void removeTableKeys(WireCommands.RemoveTableKeys tableKeys) {
         getNextRequestProcessor().removeTableKeys(tableKeys);
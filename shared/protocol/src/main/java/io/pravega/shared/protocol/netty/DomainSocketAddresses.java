@@ -0,0 +1,41 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.shared.protocol.netty;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Naming convention for the Unix domain sockets a Segment Store listens on for clients running on the same host. Both
+ * sides derive the socket's location from a shared directory and the port the Segment Store publishes to clients, so
+ * a client only needs to know the directory to find the socket of any local Segment Store.
+ */
+@UtilityClass
+public final class DomainSocketAddresses {
+    private static final String FILE_NAME_FORMAT = "pravega-%d.sock";
+
+    /**
+     * Gets the path of the Unix domain socket for the Segment Store publishing the given port.
+     *
+     * @param directory The directory the Segment Store creates its socket in.
+     * @param port      The TCP port the Segment Store publishes to clients.
+     * @return The path of the socket file.
+     */
+    public static Path getSocketPath(String directory, int port) {
+        return Paths.get(directory, String.format(FILE_NAME_FORMAT, port));
+    }
+}
@@ -181,6 +181,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + tableEntriesUpdated);
     }
 
+    @Override
+    public void tableEntriesBatchUpdated(WireCommands.TableEntriesBatchUpdated tableEntriesUpdated) {
+        throw new IllegalStateException("Unexpected operation: " + tableEntriesUpdated);
+    }
+
     @Override
     public void tableKeysRemoved(WireCommands.TableKeysRemoved tableKeysRemoved) {
         throw new IllegalStateException("Unexpected operation: " + tableKeysRemoved);
@@ -100,6 +100,11 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void updateTableEntriesBatch(WireCommands.UpdateTableEntriesBatch tableEntries) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void removeTableKeys(WireCommands.RemoveTableKeys tableKeys) {
         throw new IllegalStateException("Unexpected operation");
@@ -88,6 +88,8 @@ public interface ReplyProcessor {
 
     void tableEntriesUpdated(WireCommands.TableEntriesUpdated tableEntriesUpdated);
 
+    void tableEntriesBatchUpdated(WireCommands.TableEntriesBatchUpdated tableEntriesUpdated);
+
     void tableKeysRemoved(WireCommands.TableKeysRemoved tableKeysRemoved);
 
     void tableRead(WireCommands.TableRead tableRead);
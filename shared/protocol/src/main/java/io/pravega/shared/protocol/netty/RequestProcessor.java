@@ -75,6 +75,8 @@ public interface RequestProcessor {
 
     void updateTableEntries(UpdateTableEntries tableEntries);
 
+    void updateTableEntriesBatch(WireCommands.UpdateTableEntriesBatch tableEntries);
+
     void removeTableKeys(RemoveTableKeys tableKeys);
 
     void readTable(WireCommands.ReadTable readTable);
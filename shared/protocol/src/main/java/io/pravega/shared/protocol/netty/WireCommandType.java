@@ -38,6 +38,8 @@ public enum WireCommandType {
     LIST_STORAGE_CHUNKS(-5, WireCommands.ListStorageChunks::readFrom),
     STORAGE_CHUNKS_LISTED(-6, WireCommands.StorageChunksListed::readFrom),
 
+    COMPRESSED_EVENT(-7, null), // Is read manually. Same framing as EVENT, but the payload is compressed.
+
     EVENT(0, null), // Is read manually.
 
     SETUP_APPEND(1, WireCommands.SetupAppend::readFrom),
@@ -123,6 +125,9 @@ public enum WireCommandType {
     MERGE_SEGMENTS_BATCH(90, WireCommands.MergeSegmentsBatch::readFrom),
     SEGMENTS_BATCH_MERGED(91, WireCommands.SegmentsBatchMerged::readFrom),
 
+    UPDATE_TABLE_ENTRIES_BATCH(92, WireCommands.UpdateTableEntriesBatch::readFrom),
+    TABLE_ENTRIES_BATCH_UPDATED(93, WireCommands.TableEntriesBatchUpdated::readFrom),
+
     KEEP_ALIVE(100, WireCommands.KeepAlive::readFrom);
 
     private final int code;
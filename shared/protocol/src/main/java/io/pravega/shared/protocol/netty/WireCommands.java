@@ -63,7 +63,7 @@ import static io.netty.buffer.Unpooled.wrappedBuffer;
  * Incompatible changes should instead create a new WireCommand object.
  */
 public final class WireCommands {
-    public static final int WIRE_VERSION = 16;
+    public static final int WIRE_VERSION = 17;
     public static final int OLDEST_COMPATIBLE_VERSION = 5;
     public static final int TYPE_SIZE = 4;
     public static final int TYPE_PLUS_LENGTH_SIZE = 8;
@@ -2107,6 +2107,92 @@ public final class WireCommands {
         }
     }
 
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static final class UpdateTableEntriesBatch extends ReleasableCommand implements Request, WireCommand {
+
+        final WireCommandType type = WireCommandType.UPDATE_TABLE_ENTRIES_BATCH;
+        final long requestId;
+        final List<String> segments;
+        @ToString.Exclude
+        final String delegationToken;
+        final List<TableEntries> tableEntries;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.updateTableEntriesBatch(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeInt(segments.size());
+            for (int i = 0; i < segments.size(); i++) {
+                out.writeUTF(segments.get(i));
+                tableEntries.get(i).writeFields(out);
+            }
+        }
+
+        public static WireCommand readFrom(EnhancedByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String delegationToken = in.readUTF();
+            int segmentCount = in.readInt();
+            List<String> segments = new ArrayList<>(segmentCount);
+            List<TableEntries> entries = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                segments.add(in.readUTF());
+                entries.add(TableEntries.readFrom(in, in.available()));
+            }
+
+            return new UpdateTableEntriesBatch(requestId, segments, delegationToken, entries).requireRelease();
+        }
+
+        @Override
+        void releaseInternal() {
+            this.tableEntries.forEach(TableEntries::release);
+        }
+    }
+
+    @Data
+    public static final class TableEntriesBatchUpdated implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.TABLE_ENTRIES_BATCH_UPDATED;
+        final long requestId;
+        final List<List<Long>> updatedVersions;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.tableEntriesBatchUpdated(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(updatedVersions.size());
+            for (List<Long> segmentVersions : updatedVersions) {
+                out.writeInt(segmentVersions.size());
+                for (long version : segmentVersions) {
+                    out.writeLong(version);
+                }
+            }
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int segmentCount = in.readInt();
+            List<List<Long>> updatedVersions = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                int numberOfEntries = in.readInt();
+                List<Long> segmentVersions = new ArrayList<>(numberOfEntries);
+                for (int j = 0; j < numberOfEntries; j++) {
+                    segmentVersions.add(in.readLong());
+                }
+                updatedVersions.add(segmentVersions);
+            }
+            return new TableEntriesBatchUpdated(requestId, updatedVersions);
+        }
+    }
+
     @Data
     @EqualsAndHashCode(callSuper = false)
     public static final class RemoveTableKeys extends ReleasableCommand implements Request, WireCommand {
@@ -837,6 +837,30 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.TableEntriesUpdated(l, Arrays.asList(1L, 2L, 3L)));
     }
 
+    @Test
+    public void testUpdateTableEntriesBatch() throws IOException {
+        List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> entries1 = Arrays.asList(
+                new SimpleImmutableEntry<>(new WireCommands.TableKey(buf, l), new WireCommands.TableValue(buf)),
+                new SimpleImmutableEntry<>(new WireCommands.TableKey(buf, l), WireCommands.TableValue.EMPTY));
+        List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> entries2 = Arrays.asList(
+                new SimpleImmutableEntry<>(new WireCommands.TableKey(buf, l), new WireCommands.TableValue(buf)));
+        testCommand(new WireCommands.UpdateTableEntriesBatch(l, Arrays.asList(testString1, testString2), "",
+                Arrays.asList(new WireCommands.TableEntries(entries1), new WireCommands.TableEntries(entries2))));
+
+        // Each non-empty Key and Value will retain the buffer once.
+        testReleasableCommand(
+                () -> new WireCommands.UpdateTableEntriesBatch(l, Arrays.asList(testString1, testString2), "",
+                        Arrays.asList(new WireCommands.TableEntries(entries1), new WireCommands.TableEntries(entries2))),
+                WireCommands.UpdateTableEntriesBatch::readFrom,
+                ce -> ce.getTableEntries().get(0).getEntries().get(0).getValue().getData().refCnt(),
+                5);
+    }
+
+    @Test
+    public void testTableEntriesBatchUpdated() throws IOException {
+        testCommand(new WireCommands.TableEntriesBatchUpdated(l, Arrays.asList(Arrays.asList(1L, 2L), Collections.emptyList(), Arrays.asList(3L))));
+    }
+
     @Test
     public void testRemoveTableKeys() throws IOException {
         testCommand(new WireCommands.RemoveTableKeys(l, testString1, "", Arrays.asList(new WireCommands.TableKey(buf, 1L),
@@ -233,6 +233,7 @@ public class SelfTestRunner {
                     new Shortcut("slts", TestConfig.CHUNKED_SEGMENT_STORAGE_ENABLED),
                     new Shortcut("tkl", TestConfig.TABLE_KEY_LENGTH),
                     new Shortcut("tt", TestConfig.TABLE_TYPE),
+                    new Shortcut("batching", TestConfig.CLIENT_BATCHING),
                     new Shortcut("pause", TestConfig.PAUSE_BEFORE_EXIT)));
 
             SHORTCUTS = Collections.unmodifiableMap(s);
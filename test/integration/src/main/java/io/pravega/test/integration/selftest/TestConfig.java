@@ -73,6 +73,7 @@ public class TestConfig {
     static final Property<String> BOOKIE_LEDGERS_DIR = Property.named("bkLedgersDir", "");
     static final Property<String> STORAGE_DIR = Property.named("storageDir", TMP_DIR + "/pravega/storage");
     static final Property<Boolean> CHUNKED_SEGMENT_STORAGE_ENABLED = Property.named("useChunkedSegmentStorage", true);
+    static final Property<String> CLIENT_BATCHING = Property.named("clientBatching", ClientBatching.Default.toString());
     private static final Property<Integer> ZK_PORT = Property.named("zkPort", 9000);
     private static final Property<Integer> BK_BASE_PORT = Property.named("bkBasePort", 9100);
     private static final Property<Integer> SEGMENT_STORE_BASE_PORT = Property.named("segmentStorePort", 9300);
@@ -158,6 +159,8 @@ public class TestConfig {
     private final String testId = Long.toHexString(System.currentTimeMillis());
     @Getter
     private final boolean chunkedSegmentStorageEnabled;
+    @Getter
+    private final ClientBatching clientBatching;
 
     //endregion
 
@@ -225,6 +228,7 @@ public class TestConfig {
         this.bookieLedgersDir = properties.get(BOOKIE_LEDGERS_DIR);
         this.storageDir = properties.get(STORAGE_DIR);
         this.chunkedSegmentStorageEnabled = properties.getBoolean(CHUNKED_SEGMENT_STORAGE_ENABLED);
+        this.clientBatching = ClientBatching.valueOf(properties.get(CLIENT_BATCHING));
         checkOverlappingPorts();
     }
 
@@ -387,4 +391,25 @@ public class TestConfig {
     public enum TableType {
         Hash,
     }
+
+    /**
+     * Append batching profiles for Client-based tests (see {@link io.pravega.client.ClientConfig#getAppendLatencyTargetMillis()}).
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public enum ClientBatching {
+        /**
+         * Default Client batching heuristics.
+         */
+        Default(0),
+        /**
+         * Small batches, targeting a low append latency.
+         */
+        LatencyOptimized(2),
+        /**
+         * Large batches, targeting a high append throughput.
+         */
+        ThroughputOptimized(50);
+        @Getter
+        private final long appendLatencyTargetMillis;
+    }
 }
@@ -83,6 +83,7 @@ class ExternalAdapter extends ClientAdapterBase {
                     .trustStore(String.format("../../config/%s", SecurityConfigDefaults.TLS_CA_CERT_FILE_NAME))
                     .credentials(new DefaultCredentials("1111_aaaa", "admin"))
                     .validateHostName(false)
+                    .appendLatencyTargetMillis(this.testConfig.getClientBatching().getAppendLatencyTargetMillis())
                     .controllerURI(controllerUri).build()));
 
             // Create, Seal and Delete a dummy segment - this verifies that the client is properly setup and that all the
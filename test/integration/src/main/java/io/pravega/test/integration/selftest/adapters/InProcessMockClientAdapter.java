@@ -404,29 +404,45 @@ class InProcessMockClientAdapter extends ClientAdapterBase {
                 throw new UnsupportedOperationException("updateTableSegment(with offset)");
             }
 
-            return CompletableFuture.supplyAsync(() -> {
-                Map<BufferView, BufferView> segmentData;
-                synchronized (this.segments) {
-                    segmentData = this.segments.getOrDefault(segmentName, null);
-                    if (segmentData == null) {
-                        throw new CompletionException(new StreamSegmentNotExistsException(segmentName));
-                    }
-                }
+            return CompletableFuture.supplyAsync(() -> put(getSegmentData(segmentName), entries), executor);
+        }
 
-                // Note: this doesn't do conditional checks. We don't need them here.
-                val result = new ArrayList<Long>(entries.size());
-                val copies = new ArrayList<Map.Entry<BufferView, BufferView>>(entries.size());
-                entries.forEach(e -> {
-                    copies.add(new AbstractMap.SimpleImmutableEntry<>(new ByteArraySegment(e.getKey().getKey().getCopy()), new ByteArraySegment(e.getValue().getCopy())));
-                    result.add(this.nextVersion.getAndIncrement());
-                });
-                synchronized (segmentData) {
-                    copies.forEach(e -> segmentData.put(e.getKey(), e.getValue()));
-                }
+        @Override
+        public CompletableFuture<Map<String, List<Long>>> put(Map<String, List<TableEntry>> entries, Duration timeout) {
+            return CompletableFuture.supplyAsync(() -> {
+                // Look up all the segments before updating any of them, so that we either update all of them or none.
+                val segmentData = new HashMap<String, Map<BufferView, BufferView>>();
+                entries.keySet().forEach(segmentName -> segmentData.put(segmentName, getSegmentData(segmentName)));
+                val result = new HashMap<String, List<Long>>();
+                entries.forEach((segmentName, segmentEntries) -> result.put(segmentName, put(segmentData.get(segmentName), segmentEntries)));
                 return result;
             }, executor);
         }
 
+        private Map<BufferView, BufferView> getSegmentData(String segmentName) {
+            synchronized (this.segments) {
+                val segmentData = this.segments.getOrDefault(segmentName, null);
+                if (segmentData == null) {
+                    throw new CompletionException(new StreamSegmentNotExistsException(segmentName));
+                }
+                return segmentData;
+            }
+        }
+
+        private List<Long> put(Map<BufferView, BufferView> segmentData, List<TableEntry> entries) {
+            // Note: this doesn't do conditional checks. We don't need them here.
+            val result = new ArrayList<Long>(entries.size());
+            val copies = new ArrayList<Map.Entry<BufferView, BufferView>>(entries.size());
+            entries.forEach(e -> {
+                copies.add(new AbstractMap.SimpleImmutableEntry<>(new ByteArraySegment(e.getKey().getKey().getCopy()), new ByteArraySegment(e.getValue().getCopy())));
+                result.add(this.nextVersion.getAndIncrement());
+            });
+            synchronized (segmentData) {
+                copies.forEach(e -> segmentData.put(e.getKey(), e.getValue()));
+            }
+            return result;
+        }
+
         @Override
         public CompletableFuture<Void> remove(String segmentName, Collection<TableKey> keys, Duration timeout) {
             return remove(segmentName, keys, WireCommands.NULL_TABLE_SEGMENT_OFFSET, timeout);
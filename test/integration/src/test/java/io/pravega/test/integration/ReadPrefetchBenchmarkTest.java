@@ -0,0 +1,134 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.test.integration;
+
+import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventStreamReader;
+import io.pravega.client.stream.EventStreamWriter;
+import io.pravega.client.stream.EventWriterConfig;
+import io.pravega.client.stream.ReaderConfig;
+import io.pravega.client.stream.ReaderGroupConfig;
+import io.pravega.client.stream.ScalingPolicy;
+import io.pravega.client.stream.Stream;
+import io.pravega.client.stream.StreamConfiguration;
+import io.pravega.client.stream.impl.ByteBufferSerializer;
+import io.pravega.client.stream.mock.MockClientFactory;
+import io.pravega.client.stream.mock.MockStreamManager;
+import io.pravega.common.Timer;
+import io.pravega.segmentstore.contracts.StreamSegmentStore;
+import io.pravega.segmentstore.contracts.tables.TableStore;
+import io.pravega.segmentstore.server.host.handler.PravegaConnectionListener;
+import io.pravega.segmentstore.server.store.ServiceBuilder;
+import io.pravega.segmentstore.server.store.ServiceBuilderConfig;
+import io.pravega.test.common.TestUtils;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.Cleanup;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Benchmark for draining a backlog spread across many segments with a single reader, with and without reading ahead
+ * from all the segments concurrently (see {@link ReaderConfig#getPrefetchQueueSize()}). The backlog is written to an
+ * in-process Segment Store before any reader is created, and each iteration uses a new Reader Group so that it reads
+ * the whole backlog from the beginning. When reading ahead, the reader uses the Client Factory's shared prefetch threads,
+ * whose count can be changed using the "pravega.client.internal.threadpool.size" system property.
+ *
+ * The number of iterations {@link #ITERATION_COUNT} should always be greater than 1 since the first iteration will incur
+ * the JIT warm-up costs.
+ *
+ * This is marked as @Ignore since these are not real unit tests (no correctness checking) and they take a long time to execute.
+ */
+@Ignore
+public class ReadPrefetchBenchmarkTest {
+    private static final int SEGMENT_COUNT = 20;
+    private static final int EVENT_COUNT = 200_000;
+    private static final int EVENT_SIZE = 1000;
+    private static final int[] PREFETCH_QUEUE_SIZES = new int[]{0, 1000};
+    private static final int ITERATION_COUNT = 3;
+    private static final String SCOPE = "Scope";
+    private static final String STREAM = "ReadPrefetchBenchmark";
+    private static final ServiceBuilder SERVICE_BUILDER = ServiceBuilder.newInMemoryBuilder(ServiceBuilderConfig.getDefaultConfig());
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        SERVICE_BUILDER.initialize();
+    }
+
+    @AfterClass
+    public static void teardown() {
+        SERVICE_BUILDER.close();
+    }
+
+    @Test(timeout = 600000)
+    public void testDrainBacklog() throws Exception {
+        int port = TestUtils.getAvailableListenPort();
+        StreamSegmentStore store = SERVICE_BUILDER.createStreamSegmentService();
+        TableStore tableStore = SERVICE_BUILDER.createTableStoreService();
+        @Cleanup
+        PravegaConnectionListener server = new PravegaConnectionListener(false, port, store, tableStore, SERVICE_BUILDER.getLowPriorityExecutor());
+        server.startListening();
+        @Cleanup
+        MockStreamManager streamManager = new MockStreamManager(SCOPE, "localhost", port);
+        @Cleanup
+        MockClientFactory clientFactory = streamManager.getClientFactory();
+        streamManager.createScope(SCOPE);
+        streamManager.createStream(SCOPE, STREAM, StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(SEGMENT_COUNT)).build());
+        writeBacklog(clientFactory);
+
+        int readerGroupId = 0;
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            for (int prefetchQueueSize : PREFETCH_QUEUE_SIZES) {
+                String readerGroup = "group" + readerGroupId++;
+                streamManager.createReaderGroup(readerGroup, ReaderGroupConfig.builder().stream(Stream.of(SCOPE, STREAM))
+                                                                             .disableAutomaticCheckpoints().build());
+                @Cleanup
+                EventStreamReader<ByteBuffer> reader = clientFactory.createReader("reader", readerGroup, new ByteBufferSerializer(),
+                        ReaderConfig.builder().prefetchQueueSize(prefetchQueueSize).build());
+                Timer timer = new Timer();
+                int read = 0;
+                while (read < EVENT_COUNT) {
+                    EventRead<ByteBuffer> event = reader.readNextEvent(1000);
+                    if (event.getEvent() != null) {
+                        read++;
+                    }
+                }
+                long elapsedMillis = Math.max(1, timer.getElapsedMillis());
+                System.out.println(String.format("%s: Iteration %s: PrefetchQueueSize = %s, Events = %s, Segments = %s, Elapsed = %sms, Events/s = %s",
+                        STREAM, i, prefetchQueueSize, read, SEGMENT_COUNT, elapsedMillis, read * 1000L / elapsedMillis));
+                assertEquals(EVENT_COUNT, read);
+            }
+        }
+    }
+
+    private void writeBacklog(MockClientFactory clientFactory) {
+        @Cleanup
+        EventStreamWriter<ByteBuffer> writer = clientFactory.createEventWriter(STREAM, new ByteBufferSerializer(), EventWriterConfig.builder().build());
+        byte[] payload = new byte[EVENT_SIZE];
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            acks.add(writer.writeEvent(Integer.toString(i), ByteBuffer.wrap(payload)));
+        }
+        writer.flush();
+        acks.forEach(CompletableFuture::join);
+    }
+}